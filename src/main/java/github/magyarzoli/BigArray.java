@@ -0,0 +1,206 @@
+package github.magyarzoli;
+
+import java.util.Arrays;
+
+/**
+ * The big array of {@link java.lang.Comparable Comparable} elements, a long-indexed array split into segments,
+ * so it can hold more than <i>2^31</i> elements, the limit of a Java array.
+ * <ul>
+ *     <li>Every segment is an ordinary array of <i>2^shift</i> elements, only the last segment can be shorter.</li>
+ *     <li>The element at the {@code long} index {@code i} is at the index {@code (i & mask)} of the segment
+ *     {@code (i >>> shift)}, an access is two array loads, a shift and a mask.</li>
+ *     <li>The segments are allocated separately, so a huge array does not need a single contiguous block of the
+ *     heap.</li>
+ * </ul>
+ * The big arrays are sorted by the kernels of {@link github.magyarzoli.sort.BigSorter BigSorter}.
+ * @param       <T> setting of a type based on which the elements can be sorted.
+ * @since       1.3
+ * @author      <a href=https://github.com/MagyarZoli>Magyar Zoltán</a>
+ */
+@SuppressWarnings("rawtypes")
+public final class BigArray<T extends Comparable> {
+
+    /**
+     * The default segment shift, segments of <i>2^27</i> elements.
+     */
+    public static final int DEFAULT_SHIFT = 27;
+
+    /**
+     * The segments of the array.
+     */
+    private final Comparable[][] segments;
+
+    /**
+     * The number of elements.
+     */
+    private final long length;
+
+    /**
+     * The base 2 logarithm of the segment length.
+     */
+    private final int shift;
+
+    /**
+     * The mask of the index within a segment, {@code ((1 << shift) - 1)}.
+     */
+    private final int mask;
+
+    /**
+     * <b>Big Array:</b><br>
+     * An array of {@code length} {@code null} elements, in segments of <i>2^27</i> elements.
+     * @param       length the number of elements.
+     * @throws      IllegalArgumentException if the {@code length} is negative.
+     */
+    public BigArray(long length) {
+        this(length, DEFAULT_SHIFT);
+    }
+
+    /**
+     * <b>Big Array:</b><br>
+     * An array of {@code length} {@code null} elements, in segments of <i>2^shift</i> elements.
+     * @param       length the number of elements.
+     * @param       shift the base 2 logarithm of the segment length, <i>1</i> to <i>30</i>.
+     * @throws      IllegalArgumentException if the {@code length} is negative, the {@code shift} is out of range,
+     *              or the array would have more than {@code Integer.MAX_VALUE} segments.
+     */
+    public BigArray(long length, int shift) {
+        if (length < 0) {
+            throw new IllegalArgumentException("length must not be negative: " + length);
+        }
+        if ((shift < 1) || (shift > 30)) {
+            throw new IllegalArgumentException("shift must be between 1 and 30: " + shift);
+        }
+        long count = ((length + ((1L << shift) - 1)) >>> shift);
+        if (count > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("too many segments: " + count);
+        }
+        this.length = length;
+        this.shift = shift;
+        mask = ((1 << shift) - 1);
+        segments = new Comparable[(int) count][];
+        for (int i = 0; i < count; i++) {
+            segments[i] = new Comparable[(int) Math.min((1L << shift), (length - ((long) i << shift)))];
+        }
+    }
+
+    /**
+     * {@code of} copies an array into a big array.
+     * @param       array the elements.
+     * @param       shift the base 2 logarithm of the segment length, <i>1</i> to <i>30</i>.
+     * @param       <T> setting of a type based on which the elements can be sorted.
+     * @return      a big array of the elements of the {@code array}.
+     */
+    public static <T extends Comparable> BigArray<T> of(T[] array, int shift) {
+        BigArray<T> bigArray = new BigArray<>(array.length, shift);
+        for (int i = 0; i < bigArray.segments.length; i++) {
+            System.arraycopy(array, (i << shift), bigArray.segments[i], 0, bigArray.segments[i].length);
+        }
+        return bigArray;
+    }
+
+    /**
+     * {@code length} returns the number of elements.
+     * @return      the number of elements.
+     */
+    public long length() {
+        return length;
+    }
+
+    /**
+     * {@code shift} returns the base 2 logarithm of the segment length.
+     * @return      the segment shift.
+     */
+    public int shift() {
+        return shift;
+    }
+
+    /**
+     * {@code get} returns the element at the {@code index}.
+     * @param       index the index of the element.
+     * @return      the element at the {@code index}.
+     * @throws      ArrayIndexOutOfBoundsException if the {@code index} is out of range.
+     */
+    @SuppressWarnings("unchecked")
+    public T get(long index) {
+        checkIndex(index);
+        return (T) segments[(int) (index >>> shift)][((int) index & mask)];
+    }
+
+    /**
+     * {@code set} replaces the element at the {@code index}.
+     * @param       index the index of the element.
+     * @param       element the new element.
+     * @throws      ArrayIndexOutOfBoundsException if the {@code index} is out of range.
+     */
+    public void set(long index, T element) {
+        checkIndex(index);
+        segments[(int) (index >>> shift)][((int) index & mask)] = element;
+    }
+
+    /**
+     * {@code swap} exchanges the elements at the indices {@code i} and {@code j}.
+     * @param       i the index of the first element.
+     * @param       j the index of the second element.
+     * @throws      ArrayIndexOutOfBoundsException if an index is out of range.
+     */
+    public void swap(long i, long j) {
+        T temp = get(i);
+        set(i, get(j));
+        set(j, temp);
+    }
+
+    /**
+     * {@code copy} copies {@code count} elements of this array from the index {@code from} into the {@code target}
+     * from the index {@code to}, one {@link java.lang.System#arraycopy(Object, int, Object, int, int) arraycopy}
+     * per segment boundary crossed.
+     * @param       from the first index in this array.
+     * @param       target the array copied into, it must not overlap this range if it is this array.
+     * @param       to the first index in the {@code target}.
+     * @param       count the number of elements.
+     * @throws      ArrayIndexOutOfBoundsException if a range is out of bounds.
+     */
+    public void copy(long from, BigArray<T> target, long to, long count) {
+        if ((count < 0) || (from < 0) || (to < 0) || ((from + count) > length) || ((to + count) > target.length)) {
+            throw new ArrayIndexOutOfBoundsException("copy of " + count + " from " + from + " to " + to);
+        }
+        while (count > 0) {
+            int fromOffset = ((int) from & mask);
+            int toOffset = ((int) to & target.mask);
+            int chunk = (int) Math.min(count,
+                    Math.min(((1L << shift) - fromOffset), ((1L << target.shift) - toOffset)));
+            System.arraycopy(segments[(int) (from >>> shift)], fromOffset,
+                    target.segments[(int) (to >>> target.shift)], toOffset, chunk);
+            from += chunk;
+            to += chunk;
+            count -= chunk;
+        }
+    }
+
+    /**
+     * {@code toArray} copies the elements into an ordinary array.
+     * @param       array an array of the element type, used only for its runtime type.
+     * @return      a new array of the elements.
+     * @throws      IllegalStateException if the array is too long for an ordinary array.
+     */
+    public T[] toArray(T[] array) {
+        if (length > (Integer.MAX_VALUE - 8)) {
+            throw new IllegalStateException("too long for an array: " + length);
+        }
+        T[] result = Arrays.copyOf(array, (int) length);
+        for (int i = 0; i < segments.length; i++) {
+            System.arraycopy(segments[i], 0, result, (i << shift), segments[i].length);
+        }
+        return result;
+    }
+
+    /**
+     * {@code checkIndex} checks that an index is in the array.
+     * @param       index the index.
+     * @throws      ArrayIndexOutOfBoundsException if the {@code index} is out of range.
+     */
+    private void checkIndex(long index) {
+        if ((index < 0) || (index >= length)) {
+            throw new ArrayIndexOutOfBoundsException("index " + index + " out of length " + length);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,149 @@
+package github.magyarzoli;
+
+/**
+ * The big array of {@code long} values, a long-indexed array split into segments of <i>2^shift</i> values,
+ * so it can hold more than <i>2^31</i> values, the limit of a Java array.
+ * It is laid out as the {@link BigArray}, and sorted by the radix sort of
+ * {@link github.magyarzoli.sort.BigSorter BigSorter}.
+ * @since       1.3
+ * @author      <a href=https://github.com/MagyarZoli>Magyar Zoltán</a>
+ */
+public final class BigLongArray {
+
+    /**
+     * The segments of the array.
+     */
+    private final long[][] segments;
+
+    /**
+     * The number of values.
+     */
+    private final long length;
+
+    /**
+     * The base 2 logarithm of the segment length.
+     */
+    private final int shift;
+
+    /**
+     * The mask of the index within a segment, {@code ((1 << shift) - 1)}.
+     */
+    private final int mask;
+
+    /**
+     * <b>Big Long Array:</b><br>
+     * An array of {@code length} zero values, in segments of <i>2^27</i> values.
+     * @param       length the number of values.
+     * @throws      IllegalArgumentException if the {@code length} is negative.
+     */
+    public BigLongArray(long length) {
+        this(length, BigArray.DEFAULT_SHIFT);
+    }
+
+    /**
+     * <b>Big Long Array:</b><br>
+     * An array of {@code length} zero values, in segments of <i>2^shift</i> values.
+     * @param       length the number of values.
+     * @param       shift the base 2 logarithm of the segment length, <i>1</i> to <i>30</i>.
+     * @throws      IllegalArgumentException if the {@code length} is negative, the {@code shift} is out of range,
+     *              or the array would have more than {@code Integer.MAX_VALUE} segments.
+     */
+    public BigLongArray(long length, int shift) {
+        if (length < 0) {
+            throw new IllegalArgumentException("length must not be negative: " + length);
+        }
+        if ((shift < 1) || (shift > 30)) {
+            throw new IllegalArgumentException("shift must be between 1 and 30: " + shift);
+        }
+        long count = ((length + ((1L << shift) - 1)) >>> shift);
+        if (count > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("too many segments: " + count);
+        }
+        this.length = length;
+        this.shift = shift;
+        mask = ((1 << shift) - 1);
+        segments = new long[(int) count][];
+        for (int i = 0; i < count; i++) {
+            segments[i] = new long[(int) Math.min((1L << shift), (length - ((long) i << shift)))];
+        }
+    }
+
+    /**
+     * {@code of} copies an array into a big array.
+     * @param       array the values.
+     * @param       shift the base 2 logarithm of the segment length, <i>1</i> to <i>30</i>.
+     * @return      a big array of the values of the {@code array}.
+     */
+    public static BigLongArray of(long[] array, int shift) {
+        BigLongArray bigArray = new BigLongArray(array.length, shift);
+        for (int i = 0; i < bigArray.segments.length; i++) {
+            System.arraycopy(array, (i << shift), bigArray.segments[i], 0, bigArray.segments[i].length);
+        }
+        return bigArray;
+    }
+
+    /**
+     * {@code length} returns the number of values.
+     * @return      the number of values.
+     */
+    public long length() {
+        return length;
+    }
+
+    /**
+     * {@code shift} returns the base 2 logarithm of the segment length.
+     * @return      the segment shift.
+     */
+    public int shift() {
+        return shift;
+    }
+
+    /**
+     * {@code get} returns the value at the {@code index}.
+     * @param       index the index of the value.
+     * @return      the value at the {@code index}.
+     * @throws      ArrayIndexOutOfBoundsException if the {@code index} is out of range.
+     */
+    public long get(long index) {
+        checkIndex(index);
+        return segments[(int) (index >>> shift)][((int) index & mask)];
+    }
+
+    /**
+     * {@code set} replaces the value at the {@code index}.
+     * @param       index the index of the value.
+     * @param       value the new value.
+     * @throws      ArrayIndexOutOfBoundsException if the {@code index} is out of range.
+     */
+    public void set(long index, long value) {
+        checkIndex(index);
+        segments[(int) (index >>> shift)][((int) index & mask)] = value;
+    }
+
+    /**
+     * {@code toArray} copies the values into an ordinary array.
+     * @return      a new array of the values.
+     * @throws      IllegalStateException if the array is too long for an ordinary array.
+     */
+    public long[] toArray() {
+        if (length > (Integer.MAX_VALUE - 8)) {
+            throw new IllegalStateException("too long for an array: " + length);
+        }
+        long[] result = new long[(int) length];
+        for (int i = 0; i < segments.length; i++) {
+            System.arraycopy(segments[i], 0, result, (i << shift), segments[i].length);
+        }
+        return result;
+    }
+
+    /**
+     * {@code checkIndex} checks that an index is in the array.
+     * @param       index the index.
+     * @throws      ArrayIndexOutOfBoundsException if the {@code index} is out of range.
+     */
+    private void checkIndex(long index) {
+        if ((index < 0) || (index >= length)) {
+            throw new ArrayIndexOutOfBoundsException("index " + index + " out of length " + length);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,482 @@
+package github.magyarzoli;
+
+/**
+ * BlockQuickInterface, containing the block partition of BlockQuicksort (Edelkamp and Weiß).
+ * The classic partition branches on every comparison, which on random keys is mispredicted about half of the time.
+ * The block partition splits the work into two phases:
+ * <ul>
+ *     <li>It compares a block of {@code BLOCK_SIZE} elements from each end of the range against the pivot,
+ *     and records the offsets of the misplaced elements into two small {@code int} buffers.
+ *     The comparison result is added to the buffer length instead of being branched on.</li>
+ *     <li>It swaps the recorded elements pairwise, the number of swaps is known in advance.</li>
+ * </ul>
+ * Implementing this interface replaces the array partition of {@link QuickInterface},
+ * so it can be mixed into Quick Sort and every member of the Intro family, the partitioning of lists is unchanged.
+ * The {@code int}, {@code long} and {@code double} kernels work on primitive arrays without boxing.
+ * @param       <T> setting of a type based on which the elements can be sorted.
+ * @since       1.3
+ * @author      <a href=https://github.com/MagyarZoli>Magyar Zoltán</a>
+ */
+@SuppressWarnings("rawtypes")
+public interface BlockQuickInterface<T extends Comparable>
+        extends QuickInterface<T> {
+
+    /**
+     * The number of elements compared in one block, the size of the offset buffers.
+     */
+    int BLOCK_SIZE = 64;
+
+    /**
+     * {@inheritDoc}
+     * The range is partitioned by {@code partitionBlockInc}.
+     * @param       array to be arranged.
+     * @param       left the value in the array must be smaller than a {@code right} parameter.
+     * @param       right the value in the array must be greater than a {@code left} parameter.
+     * @return      index of the pivot element.
+     * @see         BlockQuickInterface#partitionBlockInc(Comparable[], int, int)
+     */
+    @Override
+    default int partitionInc(T[] array, int left, int right) {
+        return partitionBlockInc(array, left, right);
+    }
+
+    /**
+     * {@inheritDoc}
+     * The range is partitioned by {@code partitionBlockDec}.
+     * @param       array to be arranged.
+     * @param       left the value in the array must be smaller than a {@code right} parameter.
+     * @param       right the value in the array must be greater than a {@code left} parameter.
+     * @return      index of the pivot element.
+     * @see         BlockQuickInterface#partitionBlockDec(Comparable[], int, int)
+     */
+    @Override
+    default int partitionDec(T[] array, int left, int right) {
+        return partitionBlockDec(array, left, right);
+    }
+
+    /**
+     * {@inheritDoc}
+     * The range is partitioned by {@code partitionBlock}.
+     * @param       array to be arranged.
+     * @param       left the value in the array must be smaller than a {@code right} parameter.
+     * @param       right the value in the array must be greater than a {@code left} parameter.
+     * @param       functional lambda expression for comparison.
+     * @return      index of the pivot element.
+     * @see         BlockQuickInterface#partitionBlock(Comparable[], int, int, SortFunctional)
+     */
+    @Override
+    default int partition(T[] array, int left, int right, SortFunctional<T> functional) {
+        return partitionBlock(array, left, right, functional);
+    }
+
+    /**
+     * {@code partitionBlockInc} partitions the array around the pivot {@code array[right]}, the same way as
+     * {@link QuickInterface#partitionInc(Comparable[], int, int)}: smaller elements to the left,
+     * the others to the right, the pivot between them.
+     * <ul>
+     *     <li>The pivot is selected by the {@code pivotStrategy} and moved to {@code right}.</li>
+     *     <li>The elements {@code l} to {@code r} are partitioned, the pivot stays at {@code right} until the end.</li>
+     *     <li>While more than two blocks are left, an empty left buffer is refilled with the offsets of the elements
+     *     of the next left block which are not smaller than the pivot,
+     *     an empty right buffer with the offsets of the elements of the next right block which are smaller.
+     *     The offset is always written, but the buffer length only grows by the result of the comparison.</li>
+     *     <li>The first {@code min(numLeft, numRight)} recorded pairs are swapped,
+     *     a block whose buffer became empty is done, and its end moves by {@code BLOCK_SIZE}.</li>
+     *     <li>The rest, at most two blocks, is partitioned by scanning from both ends.</li>
+     *     <li>Finally the pivot is swapped to the first element of the right side.</li>
+     * </ul>
+     * @param       array to be arranged.
+     * @param       left the value in the array must be smaller than a {@code right} parameter.
+     * @param       right the value in the array must be greater than a {@code left} parameter.
+     * @return      index of the pivot element.
+     * @see         SortSwap#swap(Comparable[], int, int)
+     */
+    @SuppressWarnings("unchecked")
+    default int partitionBlockInc(T[] array, int left, int right) {
+        pivotStrategy().select(array, left, right, (a, b) -> a.compareTo(b) > 0);
+        T pivot = array[right];
+        int l = left;
+        int r = (right - 1);
+        if (((r - l) + 1) > (2 * BLOCK_SIZE)) {
+            int[] offsetsLeft = new int[BLOCK_SIZE];
+            int[] offsetsRight = new int[BLOCK_SIZE];
+            int startLeft = 0, numLeft = 0, startRight = 0, numRight = 0;
+            while (((r - l) + 1) > (2 * BLOCK_SIZE)) {
+                if (numLeft == 0) {
+                    startLeft = 0;
+                    for (int i = 0; i < BLOCK_SIZE; i++) {
+                        offsetsLeft[numLeft] = i;
+                        numLeft += ((pivot.compareTo(array[(l + i)]) <= 0) ? 1 : 0);
+                    }
+                }
+                if (numRight == 0) {
+                    startRight = 0;
+                    for (int i = 0; i < BLOCK_SIZE; i++) {
+                        offsetsRight[numRight] = i;
+                        numRight += ((pivot.compareTo(array[(r - i)]) > 0) ? 1 : 0);
+                    }
+                }
+                int num = Math.min(numLeft, numRight);
+                for (int k = 0; k < num; k++) {
+                    swap(array, (l + offsetsLeft[(startLeft + k)]), (r - offsetsRight[(startRight + k)]));
+                }
+                numLeft -= num;
+                numRight -= num;
+                startLeft += num;
+                startRight += num;
+                if (numLeft == 0) {
+                    l += BLOCK_SIZE;
+                }
+                if (numRight == 0) {
+                    r -= BLOCK_SIZE;
+                }
+            }
+        }
+        while (true) {
+            while ((l <= r) && (pivot.compareTo(array[l]) > 0)) {
+                l++;
+            }
+            while ((l <= r) && (pivot.compareTo(array[r]) <= 0)) {
+                r--;
+            }
+            if (l >= r) {
+                break;
+            }
+            swap(array, l++, r--);
+        }
+        swap(array, l, right);
+        return l;
+    }
+
+    /**
+     * {@code partitionBlockDec} partitions the array around the pivot {@code array[right]}, the same way as
+     * {@link QuickInterface#partitionDec(Comparable[], int, int)}: greater elements to the left,
+     * the others to the right, the pivot between them.
+     * The steps are the same as the ones of {@code partitionBlockInc} with the comparisons reversed.
+     * @param       array to be arranged.
+     * @param       left the value in the array must be smaller than a {@code right} parameter.
+     * @param       right the value in the array must be greater than a {@code left} parameter.
+     * @return      index of the pivot element.
+     * @see         BlockQuickInterface#partitionBlockInc(Comparable[], int, int)
+     */
+    @SuppressWarnings("unchecked")
+    default int partitionBlockDec(T[] array, int left, int right) {
+        pivotStrategy().select(array, left, right, (a, b) -> a.compareTo(b) < 0);
+        T pivot = array[right];
+        int l = left;
+        int r = (right - 1);
+        if (((r - l) + 1) > (2 * BLOCK_SIZE)) {
+            int[] offsetsLeft = new int[BLOCK_SIZE];
+            int[] offsetsRight = new int[BLOCK_SIZE];
+            int startLeft = 0, numLeft = 0, startRight = 0, numRight = 0;
+            while (((r - l) + 1) > (2 * BLOCK_SIZE)) {
+                if (numLeft == 0) {
+                    startLeft = 0;
+                    for (int i = 0; i < BLOCK_SIZE; i++) {
+                        offsetsLeft[numLeft] = i;
+                        numLeft += ((pivot.compareTo(array[(l + i)]) >= 0) ? 1 : 0);
+                    }
+                }
+                if (numRight == 0) {
+                    startRight = 0;
+                    for (int i = 0; i < BLOCK_SIZE; i++) {
+                        offsetsRight[numRight] = i;
+                        numRight += ((pivot.compareTo(array[(r - i)]) < 0) ? 1 : 0);
+                    }
+                }
+                int num = Math.min(numLeft, numRight);
+                for (int k = 0; k < num; k++) {
+                    swap(array, (l + offsetsLeft[(startLeft + k)]), (r - offsetsRight[(startRight + k)]));
+                }
+                numLeft -= num;
+                numRight -= num;
+                startLeft += num;
+                startRight += num;
+                if (numLeft == 0) {
+                    l += BLOCK_SIZE;
+                }
+                if (numRight == 0) {
+                    r -= BLOCK_SIZE;
+                }
+            }
+        }
+        while (true) {
+            while ((l <= r) && (pivot.compareTo(array[l]) < 0)) {
+                l++;
+            }
+            while ((l <= r) && (pivot.compareTo(array[r]) >= 0)) {
+                r--;
+            }
+            if (l >= r) {
+                break;
+            }
+            swap(array, l++, r--);
+        }
+        swap(array, l, right);
+        return l;
+    }
+
+    /**
+     * {@code partitionBlock} partitions the array around the pivot {@code array[right]}, the same way as
+     * {@link QuickInterface#partition(Comparable[], int, int, SortFunctional)}: the elements for which the
+     * {@code functionalCompareTo(pivot, element)} is {@code true} to the left, the others to the right,
+     * the pivot between them.
+     * The steps are the same as the ones of {@code partitionBlockInc}.
+     * @param       array to be arranged.
+     * @param       left the value in the array must be smaller than a {@code right} parameter.
+     * @param       right the value in the array must be greater than a {@code left} parameter.
+     * @param       functional lambda expression for comparison.
+     * @return      index of the pivot element.
+     * @see         BlockQuickInterface#partitionBlockInc(Comparable[], int, int)
+     */
+    default int partitionBlock(T[] array, int left, int right, SortFunctional<T> functional) {
+        pivotStrategy().select(array, left, right, functional);
+        T pivot = array[right];
+        int l = left;
+        int r = (right - 1);
+        if (((r - l) + 1) > (2 * BLOCK_SIZE)) {
+            int[] offsetsLeft = new int[BLOCK_SIZE];
+            int[] offsetsRight = new int[BLOCK_SIZE];
+            int startLeft = 0, numLeft = 0, startRight = 0, numRight = 0;
+            while (((r - l) + 1) > (2 * BLOCK_SIZE)) {
+                if (numLeft == 0) {
+                    startLeft = 0;
+                    for (int i = 0; i < BLOCK_SIZE; i++) {
+                        offsetsLeft[numLeft] = i;
+                        numLeft += (functional.functionalCompareTo(pivot, array[(l + i)]) ? 0 : 1);
+                    }
+                }
+                if (numRight == 0) {
+                    startRight = 0;
+                    for (int i = 0; i < BLOCK_SIZE; i++) {
+                        offsetsRight[numRight] = i;
+                        numRight += (functional.functionalCompareTo(pivot, array[(r - i)]) ? 1 : 0);
+                    }
+                }
+                int num = Math.min(numLeft, numRight);
+                for (int k = 0; k < num; k++) {
+                    swap(array, (l + offsetsLeft[(startLeft + k)]), (r - offsetsRight[(startRight + k)]));
+                }
+                numLeft -= num;
+                numRight -= num;
+                startLeft += num;
+                startRight += num;
+                if (numLeft == 0) {
+                    l += BLOCK_SIZE;
+                }
+                if (numRight == 0) {
+                    r -= BLOCK_SIZE;
+                }
+            }
+        }
+        while (true) {
+            while ((l <= r) && functional.functionalCompareTo(pivot, array[l])) {
+                l++;
+            }
+            while ((l <= r) && !functional.functionalCompareTo(pivot, array[r])) {
+                r--;
+            }
+            if (l >= r) {
+                break;
+            }
+            swap(array, l++, r--);
+        }
+        swap(array, l, right);
+        return l;
+    }
+
+    /**
+     * {@code partitionBlockInc} is the block partition of an {@code int} array, in ascending order.
+     * The steps are the same as the ones of {@link BlockQuickInterface#partitionBlockInc(Comparable[], int, int)},
+     * the elements are compared as primitives, so the comparison results compile to conditional moves.
+     * @param       array to be arranged.
+     * @param       left the value in the array must be smaller than a {@code right} parameter.
+     * @param       right the value in the array must be greater than a {@code left} parameter.
+     * @return      index of the pivot element.
+     * @see         SortSwap#swap(int[], int, int)
+     */
+    default int partitionBlockInc(int[] array, int left, int right) {
+        int pivot = array[right];
+        int l = left;
+        int r = (right - 1);
+        if (((r - l) + 1) > (2 * BLOCK_SIZE)) {
+            int[] offsetsLeft = new int[BLOCK_SIZE];
+            int[] offsetsRight = new int[BLOCK_SIZE];
+            int startLeft = 0, numLeft = 0, startRight = 0, numRight = 0;
+            while (((r - l) + 1) > (2 * BLOCK_SIZE)) {
+                if (numLeft == 0) {
+                    startLeft = 0;
+                    for (int i = 0; i < BLOCK_SIZE; i++) {
+                        offsetsLeft[numLeft] = i;
+                        numLeft += ((array[(l + i)] >= pivot) ? 1 : 0);
+                    }
+                }
+                if (numRight == 0) {
+                    startRight = 0;
+                    for (int i = 0; i < BLOCK_SIZE; i++) {
+                        offsetsRight[numRight] = i;
+                        numRight += ((array[(r - i)] < pivot) ? 1 : 0);
+                    }
+                }
+                int num = Math.min(numLeft, numRight);
+                for (int k = 0; k < num; k++) {
+                    swap(array, (l + offsetsLeft[(startLeft + k)]), (r - offsetsRight[(startRight + k)]));
+                }
+                numLeft -= num;
+                numRight -= num;
+                startLeft += num;
+                startRight += num;
+                if (numLeft == 0) {
+                    l += BLOCK_SIZE;
+                }
+                if (numRight == 0) {
+                    r -= BLOCK_SIZE;
+                }
+            }
+        }
+        while (true) {
+            while ((l <= r) && (array[l] < pivot)) {
+                l++;
+            }
+            while ((l <= r) && (array[r] >= pivot)) {
+                r--;
+            }
+            if (l >= r) {
+                break;
+            }
+            swap(array, l++, r--);
+        }
+        swap(array, l, right);
+        return l;
+    }
+
+    /**
+     * {@code partitionBlockInc} is the block partition of a {@code long} array, in ascending order.
+     * The steps are the same as the ones of {@link BlockQuickInterface#partitionBlockInc(Comparable[], int, int)}.
+     * @param       array to be arranged.
+     * @param       left the value in the array must be smaller than a {@code right} parameter.
+     * @param       right the value in the array must be greater than a {@code left} parameter.
+     * @return      index of the pivot element.
+     * @see         SortSwap#swap(long[], int, int)
+     */
+    default int partitionBlockInc(long[] array, int left, int right) {
+        long pivot = array[right];
+        int l = left;
+        int r = (right - 1);
+        if (((r - l) + 1) > (2 * BLOCK_SIZE)) {
+            int[] offsetsLeft = new int[BLOCK_SIZE];
+            int[] offsetsRight = new int[BLOCK_SIZE];
+            int startLeft = 0, numLeft = 0, startRight = 0, numRight = 0;
+            while (((r - l) + 1) > (2 * BLOCK_SIZE)) {
+                if (numLeft == 0) {
+                    startLeft = 0;
+                    for (int i = 0; i < BLOCK_SIZE; i++) {
+                        offsetsLeft[numLeft] = i;
+                        numLeft += ((array[(l + i)] >= pivot) ? 1 : 0);
+                    }
+                }
+                if (numRight == 0) {
+                    startRight = 0;
+                    for (int i = 0; i < BLOCK_SIZE; i++) {
+                        offsetsRight[numRight] = i;
+                        numRight += ((array[(r - i)] < pivot) ? 1 : 0);
+                    }
+                }
+                int num = Math.min(numLeft, numRight);
+                for (int k = 0; k < num; k++) {
+                    swap(array, (l + offsetsLeft[(startLeft + k)]), (r - offsetsRight[(startRight + k)]));
+                }
+                numLeft -= num;
+                numRight -= num;
+                startLeft += num;
+                startRight += num;
+                if (numLeft == 0) {
+                    l += BLOCK_SIZE;
+                }
+                if (numRight == 0) {
+                    r -= BLOCK_SIZE;
+                }
+            }
+        }
+        while (true) {
+            while ((l <= r) && (array[l] < pivot)) {
+                l++;
+            }
+            while ((l <= r) && (array[r] >= pivot)) {
+                r--;
+            }
+            if (l >= r) {
+                break;
+            }
+            swap(array, l++, r--);
+        }
+        swap(array, l, right);
+        return l;
+    }
+
+    /**
+     * {@code partitionBlockInc} is the block partition of a {@code double} array, in ascending order.
+     * The steps are the same as the ones of {@link BlockQuickInterface#partitionBlockInc(Comparable[], int, int)},
+     * the elements are compared by {@link Double#compare(double, double)}, so <i>-0.0</i> and <i>NaN</i> are ordered
+     * the same way as by {@link java.util.Arrays#sort(double[])}.
+     * @param       array to be arranged.
+     * @param       left the value in the array must be smaller than a {@code right} parameter.
+     * @param       right the value in the array must be greater than a {@code left} parameter.
+     * @return      index of the pivot element.
+     * @see         SortSwap#swap(double[], int, int)
+     */
+    default int partitionBlockInc(double[] array, int left, int right) {
+        double pivot = array[right];
+        int l = left;
+        int r = (right - 1);
+        if (((r - l) + 1) > (2 * BLOCK_SIZE)) {
+            int[] offsetsLeft = new int[BLOCK_SIZE];
+            int[] offsetsRight = new int[BLOCK_SIZE];
+            int startLeft = 0, numLeft = 0, startRight = 0, numRight = 0;
+            while (((r - l) + 1) > (2 * BLOCK_SIZE)) {
+                if (numLeft == 0) {
+                    startLeft = 0;
+                    for (int i = 0; i < BLOCK_SIZE; i++) {
+                        offsetsLeft[numLeft] = i;
+                        numLeft += ((Double.compare(array[(l + i)], pivot) >= 0) ? 1 : 0);
+                    }
+                }
+                if (numRight == 0) {
+                    startRight = 0;
+                    for (int i = 0; i < BLOCK_SIZE; i++) {
+                        offsetsRight[numRight] = i;
+                        numRight += ((Double.compare(array[(r - i)], pivot) < 0) ? 1 : 0);
+                    }
+                }
+                int num = Math.min(numLeft, numRight);
+                for (int k = 0; k < num; k++) {
+                    swap(array, (l + offsetsLeft[(startLeft + k)]), (r - offsetsRight[(startRight + k)]));
+                }
+                numLeft -= num;
+                numRight -= num;
+                startLeft += num;
+                startRight += num;
+                if (numLeft == 0) {
+                    l += BLOCK_SIZE;
+                }
+                if (numRight == 0) {
+                    r -= BLOCK_SIZE;
+                }
+            }
+        }
+        while (true) {
+            while ((l <= r) && (Double.compare(array[l], pivot) < 0)) {
+                l++;
+            }
+            while ((l <= r) && (Double.compare(array[r], pivot) >= 0)) {
+                r--;
+            }
+            if (l >= r) {
+                break;
+            }
+            swap(array, l++, r--);
+        }
+        swap(array, l, right);
+        return l;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,137 @@
+package github.magyarzoli;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * {@link java.lang.FunctionalInterface @FunctionalInterface}: The gap sequence of the Shell Sort.
+ * The implementation receives the number of elements to be arranged and returns the gaps in the order they are used,
+ * from the largest one down to <i>1</i>. The last pass with the gap <i>1</i> is an ordinary Insertion Sort, so
+ * every sequence has to end with it.
+ * <ul>
+ *     <li><i>SHELL</i> - The original sequence {@code n / 2, n / 4, ..., 1}, worst case <em>O(n^2)</em>.</li>
+ *     <li><i>KNUTH</i> - {@code (3^k - 1) / 2}, worst case <em>O(n^(3/2))</em>.</li>
+ *     <li><i>SEDGEWICK</i> - {@code 4^k + 3 * 2^(k-1) + 1}, worst case <em>O(n^(4/3))</em>.</li>
+ *     <li><i>TOKUDA</i> - {@code ceil((9^k - 4^k) / (5 * 4^(k-1)))}.</li>
+ *     <li><i>PRATT</i> - every {@code 2^p * 3^q}, worst case <em>O(n log(n)^2)</em>, but many passes.</li>
+ *     <li><i>CIURA</i> - the empirically best known gaps {@code 1, 4, 10, 23, 57, 132, 301, 701, 1750},
+ *     extended with the ratio <i>2.25</i>.</li>
+ * </ul>
+ * @since       1.3
+ * @author      <a href=https://github.com/MagyarZoli>Magyar Zoltán</a>
+ */
+@FunctionalInterface
+public interface GapSequence {
+
+    /**
+     * The original sequence of Donald Shell, the gap is halved in each pass.
+     */
+    GapSequence SHELL = n -> {
+        List<Integer> gaps = new ArrayList<>();
+        for (int gap = (n / 2); gap > 1; gap /= 2) {
+            gaps.add(gap);
+        }
+        gaps.add(1);
+        return GapSequence.toArray(gaps);
+    };
+
+    /**
+     * The sequence of Donald Knuth, {@code (3^k - 1) / 2}.
+     */
+    GapSequence KNUTH = n -> {
+        List<Integer> gaps = new ArrayList<>();
+        gaps.add(1);
+        for (long gap = 4; gap < n; gap = ((3 * gap) + 1)) {
+            gaps.add((int) gap);
+        }
+        return GapSequence.descending(gaps);
+    };
+
+    /**
+     * The sequence of Robert Sedgewick from 1986, {@code 1, 8, 23, 77, 281, ...}.
+     */
+    GapSequence SEDGEWICK = n -> {
+        List<Integer> gaps = new ArrayList<>();
+        gaps.add(1);
+        for (long k = 1, gap = 8; gap < n; k++, gap = ((1L << (2 * k)) + (3L << (k - 1)) + 1)) {
+            gaps.add((int) gap);
+        }
+        return GapSequence.descending(gaps);
+    };
+
+    /**
+     * The sequence of Naoyuki Tokuda, {@code 1, 4, 9, 20, 46, 103, ...}.
+     */
+    GapSequence TOKUDA = n -> {
+        List<Integer> gaps = new ArrayList<>();
+        gaps.add(1);
+        double gap = 4;
+        for (int k = 2; gap < n; k++) {
+            gaps.add((int) gap);
+            gap = Math.ceil((Math.pow(9, (k + 1)) - Math.pow(4, (k + 1))) / (5 * Math.pow(4, k)));
+        }
+        return GapSequence.descending(gaps);
+    };
+
+    /**
+     * The sequence of Vaughan Pratt, every 3-smooth number {@code 2^p * 3^q} below the number of elements.
+     */
+    GapSequence PRATT = n -> {
+        List<Integer> gaps = new ArrayList<>();
+        for (long pow3 = 1; pow3 < Math.max(n, 2); pow3 *= 3) {
+            for (long gap = pow3; gap < Math.max(n, 2); gap *= 2) {
+                gaps.add((int) gap);
+            }
+        }
+        return GapSequence.descending(gaps);
+    };
+
+    /**
+     * The sequence of Marcin Ciura, found by experiments, extended with the ratio <i>2.25</i> above <i>1750</i>.
+     */
+    GapSequence CIURA = n -> {
+        int[] ciura = {1, 4, 10, 23, 57, 132, 301, 701, 1750};
+        List<Integer> gaps = new ArrayList<>();
+        for (int gap : ciura) {
+            if ((gap > 1) && (gap >= n)) {
+                return GapSequence.descending(gaps);
+            }
+            gaps.add(gap);
+        }
+        for (long gap = (long) (ciura[(ciura.length - 1)] * 2.25); gap < n; gap = (long) (gap * 2.25)) {
+            gaps.add((int) gap);
+        }
+        return GapSequence.descending(gaps);
+    };
+
+    /**
+     * Declares the abstract method {@code gaps} within the interface.
+     * @param       n the number of elements to be arranged.
+     * @return      the gaps in the order they are used, starting with the largest one and ending with <i>1</i>.
+     */
+    int[] gaps(int n);
+
+    /**
+     * {@code descending} sorts the collected gaps in decreasing order and returns them as an array.
+     * @param       gaps the collected gaps, in any order.
+     * @return      the gaps from the largest one to the smallest one.
+     */
+    static int[] descending(List<Integer> gaps) {
+        gaps.sort(Collections.reverseOrder());
+        return toArray(gaps);
+    }
+
+    /**
+     * {@code toArray} unboxes the collected gaps, keeping their order.
+     * @param       gaps the collected gaps.
+     * @return      the gaps as an array.
+     */
+    static int[] toArray(List<Integer> gaps) {
+        int[] array = new int[gaps.size()];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = gaps.get(i);
+        }
+        return array;
+    }
+}
\ No newline at end of file
@@ -584,6 +584,363 @@ public interface HeapInterface<T extends Comparable>
         return result;
     }
 
+    /**
+     * {@code heapBottomUpInc} sorts the whole array in ascending order with the bottom-up (Floyd, Wegener) variant
+     * of heap sort.
+     * <ul>
+     *     <li>The method delegates to the range version with the bounds <i>0</i> and {@code array.length}.</li>
+     * </ul>
+     * {@code heapBottomUpInc} places the same elements in the same order as {@code heapInc},
+     * but the extraction phase uses roughly half as many comparisons.
+     * @param       array to be arranged.
+     * @see         HeapInterface#heapBottomUpInc(Comparable[], int, int)
+     */
+    default void heapBottomUpInc(T[] array) {
+        heapBottomUpInc(array, 0, array.length);
+    }
+
+    /**
+     * {@code heapBottomUpDec} sorts the whole array in descending order with the bottom-up (Floyd, Wegener) variant
+     * of heap sort.
+     * <ul>
+     *     <li>The method delegates to the range version with the bounds <i>0</i> and {@code array.length}.</li>
+     * </ul>
+     * {@code heapBottomUpDec} places the same elements in the same order as {@code heapDec},
+     * but the extraction phase uses roughly half as many comparisons.
+     * @param       array to be arranged.
+     * @see         HeapInterface#heapBottomUpDec(Comparable[], int, int)
+     */
+    default void heapBottomUpDec(T[] array) {
+        heapBottomUpDec(array, 0, array.length);
+    }
+
+    /**
+     * {@code heapBottomUp} sorts the whole array with the bottom-up (Floyd, Wegener) variant of heap sort, in the
+     * order defined by the {@code functionalCompareTo} method of the {@code SortFunctional} interface.
+     * <ul>
+     *     <li>The method delegates to the range version with the bounds <i>0</i> and {@code array.length}.</li>
+     * </ul>
+     * @param       array to be arranged.
+     * @param       functional lambda expression for comparison.
+     * @see         HeapInterface#heapBottomUp(Comparable[], int, int, SortFunctional)
+     */
+    default void heapBottomUp(T[] array, SortFunctional<T> functional) {
+        heapBottomUp(array, 0, array.length, functional);
+    }
+
+    /**
+     * {@code heapBottomUpInc} sorts the range {@code from} (inclusive) to {@code to} (exclusive) in ascending order
+     * with the bottom-up variant of heap sort.
+     * <ul>
+     *     <li>The range is first turned into a max heap in linear time by {@code heapBuildInc}.
+     *     The heap is rooted at {@code from}, so the children of the relative index {@code i} are found at
+     *     {@code (from + 2 * i + 1)} and {@code (from + 2 * i + 2)}.</li>
+     *     <li>The loop then swaps the root with the last element of the shrinking heap,
+     *     and restores the heap with {@code heapifyBottomUpInc} on the reduced size {@code i}.</li>
+     * </ul>
+     * The classic {@code heapifyInc} spends two comparisons on each level on the way down.
+     * {@code heapifyBottomUpInc} spends one comparison per level to reach a leaf, then climbs back only as far as
+     * the sifted element needs, which is usually one or two levels because the swapped-in element is small.
+     * @param       array to be arranged.
+     * @param       from the index of the first element of the range (inclusive).
+     * @param       to the index after the last element of the range (exclusive).
+     * @see         HeapInterface#heapBuildInc(Comparable[], int, int)
+     * @see         HeapInterface#heapifyBottomUpInc(Comparable[], int, int, int)
+     * @see         SortSwap#swap(Comparable[], int, int)
+     */
+    default void heapBottomUpInc(T[] array, int from, int to) {
+        heapBuildInc(array, from, to);
+        for (int i = (to - from - 1); i > 0; i--) {
+            swap(array, from, (from + i));
+            heapifyBottomUpInc(array, from, i, 0);
+        }
+    }
+
+    /**
+     * {@code heapBottomUpDec} sorts the range {@code from} (inclusive) to {@code to} (exclusive) in descending order
+     * with the bottom-up variant of heap sort.
+     * <ul>
+     *     <li>The range is first turned into a min heap in linear time by {@code heapBuildDec}.</li>
+     *     <li>The loop then swaps the root with the last element of the shrinking heap,
+     *     and restores the heap with {@code heapifyBottomUpDec} on the reduced size {@code i}.</li>
+     * </ul>
+     * @param       array to be arranged.
+     * @param       from the index of the first element of the range (inclusive).
+     * @param       to the index after the last element of the range (exclusive).
+     * @see         HeapInterface#heapBuildDec(Comparable[], int, int)
+     * @see         HeapInterface#heapifyBottomUpDec(Comparable[], int, int, int)
+     * @see         SortSwap#swap(Comparable[], int, int)
+     */
+    default void heapBottomUpDec(T[] array, int from, int to) {
+        heapBuildDec(array, from, to);
+        for (int i = (to - from - 1); i > 0; i--) {
+            swap(array, from, (from + i));
+            heapifyBottomUpDec(array, from, i, 0);
+        }
+    }
+
+    /**
+     * {@code heapBottomUp} sorts the range {@code from} (inclusive) to {@code to} (exclusive) with the bottom-up
+     * variant of heap sort, in the order defined by the {@code functionalCompareTo} method of the
+     * {@code SortFunctional} interface.
+     * <ul>
+     *     <li>The range is first turned into a heap in linear time by {@code heapBuild}.</li>
+     *     <li>The loop then swaps the root with the last element of the shrinking heap,
+     *     and restores the heap with {@code heapifyBottomUp} on the reduced size {@code i}.</li>
+     * </ul>
+     * @param       array to be arranged.
+     * @param       from the index of the first element of the range (inclusive).
+     * @param       to the index after the last element of the range (exclusive).
+     * @param       functional lambda expression for comparison.
+     * @see         HeapInterface#heapBuild(Comparable[], int, int, SortFunctional)
+     * @see         HeapInterface#heapifyBottomUp(Comparable[], int, int, int, SortFunctional)
+     * @see         SortSwap#swap(Comparable[], int, int)
+     */
+    default void heapBottomUp(T[] array, int from, int to, SortFunctional<T> functional) {
+        heapBuild(array, from, to, functional);
+        for (int i = (to - from - 1); i > 0; i--) {
+            swap(array, from, (from + i));
+            heapifyBottomUp(array, from, i, 0, functional);
+        }
+    }
+
+    /**
+     * {@code heapBuildInc} is Floyd's linear time heap construction for the range {@code from} (inclusive) to
+     * {@code to} (exclusive).
+     * <ul>
+     *     <li>The loop visits every parent of the heap from the last one {@code ((n / 2) - 1)} up to the root
+     *     <i>0</i>, where {@code n} is the size of the range.</li>
+     *     <li>Each visited subtree is repaired with {@code heapifyBottomUpInc}, so by the time the loop reaches the
+     *     root, both subtrees of every node are already valid max heaps.</li>
+     * </ul>
+     * Most of the nodes sit near the leaves and sift down only a few levels,
+     * so the whole construction takes <em>O(n)</em> time.
+     * @param       array to be arranged.
+     * @param       from the index of the first element of the range (inclusive).
+     * @param       to the index after the last element of the range (exclusive).
+     * @see         HeapInterface#heapifyBottomUpInc(Comparable[], int, int, int)
+     */
+    default void heapBuildInc(T[] array, int from, int to) {
+        int n = (to - from);
+        for (int i = ((n / 2) - 1); i >= 0; i--) {
+            heapifyBottomUpInc(array, from, n, i);
+        }
+    }
+
+    /**
+     * {@code heapBuildDec} is Floyd's linear time heap construction for the range {@code from} (inclusive) to
+     * {@code to} (exclusive), building a min heap.
+     * <ul>
+     *     <li>The loop visits every parent of the heap from the last one {@code ((n / 2) - 1)} up to the root
+     *     <i>0</i>, and repairs its subtree with {@code heapifyBottomUpDec}.</li>
+     * </ul>
+     * @param       array to be arranged.
+     * @param       from the index of the first element of the range (inclusive).
+     * @param       to the index after the last element of the range (exclusive).
+     * @see         HeapInterface#heapifyBottomUpDec(Comparable[], int, int, int)
+     */
+    default void heapBuildDec(T[] array, int from, int to) {
+        int n = (to - from);
+        for (int i = ((n / 2) - 1); i >= 0; i--) {
+            heapifyBottomUpDec(array, from, n, i);
+        }
+    }
+
+    /**
+     * {@code heapBuild} is Floyd's linear time heap construction for the range {@code from} (inclusive) to
+     * {@code to} (exclusive), in the order defined by the {@code SortFunctional} interface.
+     * <ul>
+     *     <li>The loop visits every parent of the heap from the last one {@code ((n / 2) - 1)} up to the root
+     *     <i>0</i>, and repairs its subtree with {@code heapifyBottomUp}.</li>
+     * </ul>
+     * @param       array to be arranged.
+     * @param       from the index of the first element of the range (inclusive).
+     * @param       to the index after the last element of the range (exclusive).
+     * @param       functional lambda expression for comparison.
+     * @see         HeapInterface#heapifyBottomUp(Comparable[], int, int, int, SortFunctional)
+     */
+    default void heapBuild(T[] array, int from, int to, SortFunctional<T> functional) {
+        int n = (to - from);
+        for (int i = ((n / 2) - 1); i >= 0; i--) {
+            heapifyBottomUp(array, from, n, i, functional);
+        }
+    }
+
+    /**
+     * {@code heapifyBottomUpInc} restores the max heap property of the subtree rooted at the relative index
+     * {@code i}, in a heap of size {@code n} that starts at {@code from}.
+     * <ul>
+     *     <li>{@code heapLeafInc} walks down along the larger child from {@code i} to a leaf, spending a single
+     *     comparison per level.</li>
+     *     <li>From that leaf the method climbs back towards {@code i} while the element at {@code i}
+     *     is larger than the element on the path.</li>
+     *     <li>{@code heapPromote} then puts the element to the position found and moves every element of the path
+     *     above it one level up.</li>
+     * </ul>
+     * {@code heapifyBottomUpInc} is the bottom-up replacement of {@code heapifyInc}.
+     * It needs about <em>log(n)</em> comparisons instead of <em>2 log(n)</em>, and it has no recursion.
+     * @param       array to be arranged.
+     * @param       from the index where the root of the heap is stored.
+     * @param       n the size of the heap.
+     * @param       i the relative index of the subtree to repair.
+     * @see         HeapInterface#heapLeafInc(Comparable[], int, int, int)
+     * @see         HeapInterface#heapPromote(Comparable[], int, int, int)
+     */
+    @SuppressWarnings("unchecked")
+    default void heapifyBottomUpInc(T[] array, int from, int n, int i) {
+        T select = array[from + i];
+        int j = heapLeafInc(array, from, n, i);
+        while ((j > i) && (select.compareTo(array[from + j]) > 0)) {
+            j = ((j - 1) / 2);
+        }
+        heapPromote(array, from, i, j);
+    }
+
+    /**
+     * {@code heapifyBottomUpDec} restores the min heap property of the subtree rooted at the relative index
+     * {@code i}, in a heap of size {@code n} that starts at {@code from}.
+     * <ul>
+     *     <li>{@code heapLeafDec} walks down along the smaller child from {@code i} to a leaf.</li>
+     *     <li>From that leaf the method climbs back towards {@code i} while the element at {@code i}
+     *     is smaller than the element on the path.</li>
+     *     <li>{@code heapPromote} then puts the element to the position found.</li>
+     * </ul>
+     * @param       array to be arranged.
+     * @param       from the index where the root of the heap is stored.
+     * @param       n the size of the heap.
+     * @param       i the relative index of the subtree to repair.
+     * @see         HeapInterface#heapLeafDec(Comparable[], int, int, int)
+     * @see         HeapInterface#heapPromote(Comparable[], int, int, int)
+     */
+    @SuppressWarnings("unchecked")
+    default void heapifyBottomUpDec(T[] array, int from, int n, int i) {
+        T select = array[from + i];
+        int j = heapLeafDec(array, from, n, i);
+        while ((j > i) && (select.compareTo(array[from + j]) < 0)) {
+            j = ((j - 1) / 2);
+        }
+        heapPromote(array, from, i, j);
+    }
+
+    /**
+     * {@code heapifyBottomUp} restores the heap property of the subtree rooted at the relative index {@code i},
+     * in a heap of size {@code n} that starts at {@code from}, based on the {@code SortFunctional} interface.
+     * <ul>
+     *     <li>{@code heapLeaf} walks down along the child selected by {@code functionalCompareTo} to a leaf.</li>
+     *     <li>From that leaf the method climbs back towards {@code i} while {@code functionalCompareTo}
+     *     prefers the element at {@code i} to the element on the path.</li>
+     *     <li>{@code heapPromote} then puts the element to the position found.</li>
+     * </ul>
+     * @param       array to be arranged.
+     * @param       from the index where the root of the heap is stored.
+     * @param       n the size of the heap.
+     * @param       i the relative index of the subtree to repair.
+     * @param       functional lambda expression for comparison.
+     * @see         HeapInterface#heapLeaf(Comparable[], int, int, int, SortFunctional)
+     * @see         HeapInterface#heapPromote(Comparable[], int, int, int)
+     */
+    default void heapifyBottomUp(T[] array, int from, int n, int i, SortFunctional<T> functional) {
+        T select = array[from + i];
+        int j = heapLeaf(array, from, n, i, functional);
+        while ((j > i) && (functional.functionalCompareTo(select, array[from + j]))) {
+            j = ((j - 1) / 2);
+        }
+        heapPromote(array, from, i, j);
+    }
+
+    /**
+     * {@code heapLeafInc} follows the path of the larger children from the relative index {@code i} down to a
+     * leaf of the heap.
+     * <ul>
+     *     <li>While both children exist, one comparison decides which one to follow.</li>
+     *     <li>If the last node of the path has only a left child, that child is the leaf.</li>
+     * </ul>
+     * @param       array to be arranged.
+     * @param       from the index where the root of the heap is stored.
+     * @param       n the size of the heap.
+     * @param       i the relative index the path starts from.
+     * @return      the relative index of the leaf at the end of the path.
+     */
+    @SuppressWarnings("unchecked")
+    default int heapLeafInc(T[] array, int from, int n, int i) {
+        int right;
+        while ((right = ((2 * i) + 2)) < n) {
+            i = ((array[from + right].compareTo(array[from + right - 1]) > 0) ? right : (right - 1));
+        }
+        return (((right - 1) < n) ? (right - 1) : i);
+    }
+
+    /**
+     * {@code heapLeafDec} follows the path of the smaller children from the relative index {@code i} down to a
+     * leaf of the heap.
+     * <ul>
+     *     <li>While both children exist, one comparison decides which one to follow.</li>
+     *     <li>If the last node of the path has only a left child, that child is the leaf.</li>
+     * </ul>
+     * @param       array to be arranged.
+     * @param       from the index where the root of the heap is stored.
+     * @param       n the size of the heap.
+     * @param       i the relative index the path starts from.
+     * @return      the relative index of the leaf at the end of the path.
+     */
+    @SuppressWarnings("unchecked")
+    default int heapLeafDec(T[] array, int from, int n, int i) {
+        int right;
+        while ((right = ((2 * i) + 2)) < n) {
+            i = ((array[from + right].compareTo(array[from + right - 1]) < 0) ? right : (right - 1));
+        }
+        return (((right - 1) < n) ? (right - 1) : i);
+    }
+
+    /**
+     * {@code heapLeaf} follows the path of the children preferred by the {@code functionalCompareTo} method
+     * from the relative index {@code i} down to a leaf of the heap.
+     * <ul>
+     *     <li>While both children exist, one comparison decides which one to follow.</li>
+     *     <li>If the last node of the path has only a left child, that child is the leaf.</li>
+     * </ul>
+     * @param       array to be arranged.
+     * @param       from the index where the root of the heap is stored.
+     * @param       n the size of the heap.
+     * @param       i the relative index the path starts from.
+     * @param       functional lambda expression for comparison.
+     * @return      the relative index of the leaf at the end of the path.
+     */
+    default int heapLeaf(T[] array, int from, int n, int i, SortFunctional<T> functional) {
+        int right;
+        while ((right = ((2 * i) + 2)) < n) {
+            i = ((functional.functionalCompareTo(array[from + right], array[from + right - 1]))
+                    ? right : (right - 1));
+        }
+        return (((right - 1) < n) ? (right - 1) : i);
+    }
+
+    /**
+     * {@code heapPromote} moves the element at the relative index {@code i} down to its ancestor-descendant
+     * position {@code j}, and moves every element of the path between them one level up.
+     * <ul>
+     *     <li>The element at {@code j} is replaced by the element at {@code i}.</li>
+     *     <li>Walking from {@code j} towards {@code i} through the parents {@code ((j - 1) / 2)},
+     *     each displaced element is written into its parent.</li>
+     * </ul>
+     * {@code heapPromote} does not compare anything, it is shared by the increasing, decreasing and functional
+     * bottom-up variants.
+     * @param       array to be arranged.
+     * @param       from the index where the root of the heap is stored.
+     * @param       i the relative index of the element that moves down.
+     * @param       j the relative index of its final position, {@code i} or one of its descendants.
+     */
+    default void heapPromote(T[] array, int from, int i, int j) {
+        T select = array[from + i];
+        while (j > i) {
+            T temp = array[from + j];
+            array[from + j] = select;
+            select = temp;
+            j = ((j - 1) / 2);
+        }
+        array[from + i] = select;
+    }
+
     /**
      * {@code heapInc}. This method is likely a part of a heap-related algorithm or data structure implementation
      * and is used to sort a list in ascending order using a max heap.
@@ -1157,4 +1514,361 @@ public interface HeapInterface<T extends Comparable>
         return result;
     }
 
+
+    /**
+     * {@code heapBottomUpInc} sorts the whole list in ascending order with the bottom-up (Floyd, Wegener) variant
+     * of heap sort.
+     * <ul>
+     *     <li>The method delegates to the range version with the bounds <i>0</i> and {@code list.size()}.</li>
+     * </ul>
+     * {@code heapBottomUpInc} places the same elements in the same order as {@code heapInc},
+     * but the extraction phase uses roughly half as many comparisons.
+     * @param       list to be arranged.
+     * @see         HeapInterface#heapBottomUpInc(List, int, int)
+     */
+    default <L extends T> void heapBottomUpInc(List<L> list) {
+        heapBottomUpInc(list, 0, list.size());
+    }
+
+    /**
+     * {@code heapBottomUpDec} sorts the whole list in descending order with the bottom-up (Floyd, Wegener) variant
+     * of heap sort.
+     * <ul>
+     *     <li>The method delegates to the range version with the bounds <i>0</i> and {@code list.size()}.</li>
+     * </ul>
+     * {@code heapBottomUpDec} places the same elements in the same order as {@code heapDec},
+     * but the extraction phase uses roughly half as many comparisons.
+     * @param       list to be arranged.
+     * @see         HeapInterface#heapBottomUpDec(List, int, int)
+     */
+    default <L extends T> void heapBottomUpDec(List<L> list) {
+        heapBottomUpDec(list, 0, list.size());
+    }
+
+    /**
+     * {@code heapBottomUp} sorts the whole list with the bottom-up (Floyd, Wegener) variant of heap sort, in the
+     * order defined by the {@code functionalCompareTo} method of the {@code SortFunctional} interface.
+     * <ul>
+     *     <li>The method delegates to the range version with the bounds <i>0</i> and {@code list.size()}.</li>
+     * </ul>
+     * @param       list to be arranged.
+     * @param       functional lambda expression for comparison.
+     * @see         HeapInterface#heapBottomUp(List, int, int, SortFunctional)
+     */
+    default <L extends T> void heapBottomUp(List<L> list, SortFunctional<T> functional) {
+        heapBottomUp(list, 0, list.size(), functional);
+    }
+
+    /**
+     * {@code heapBottomUpInc} sorts the range {@code from} (inclusive) to {@code to} (exclusive) in ascending order
+     * with the bottom-up variant of heap sort.
+     * <ul>
+     *     <li>The range is first turned into a max heap in linear time by {@code heapBuildInc}.
+     *     The heap is rooted at {@code from}, so the children of the relative index {@code i} are found at
+     *     {@code (from + 2 * i + 1)} and {@code (from + 2 * i + 2)}.</li>
+     *     <li>The loop then swaps the root with the last element of the shrinking heap,
+     *     and restores the heap with {@code heapifyBottomUpInc} on the reduced size {@code i}.</li>
+     * </ul>
+     * The classic {@code heapifyInc} spends two comparisons on each level on the way down.
+     * {@code heapifyBottomUpInc} spends one comparison per level to reach a leaf, then climbs back only as far as
+     * the sifted element needs, which is usually one or two levels because the swapped-in element is small.
+     * @param       list to be arranged.
+     * @param       from the index of the first element of the range (inclusive).
+     * @param       to the index after the last element of the range (exclusive).
+     * @see         HeapInterface#heapBuildInc(List, int, int)
+     * @see         HeapInterface#heapifyBottomUpInc(List, int, int, int)
+     * @see         SortSwap#swap(List, int, int)
+     */
+    default <L extends T> void heapBottomUpInc(List<L> list, int from, int to) {
+        heapBuildInc(list, from, to);
+        for (int i = (to - from - 1); i > 0; i--) {
+            swap(list, from, (from + i));
+            heapifyBottomUpInc(list, from, i, 0);
+        }
+    }
+
+    /**
+     * {@code heapBottomUpDec} sorts the range {@code from} (inclusive) to {@code to} (exclusive) in descending order
+     * with the bottom-up variant of heap sort.
+     * <ul>
+     *     <li>The range is first turned into a min heap in linear time by {@code heapBuildDec}.</li>
+     *     <li>The loop then swaps the root with the last element of the shrinking heap,
+     *     and restores the heap with {@code heapifyBottomUpDec} on the reduced size {@code i}.</li>
+     * </ul>
+     * @param       list to be arranged.
+     * @param       from the index of the first element of the range (inclusive).
+     * @param       to the index after the last element of the range (exclusive).
+     * @see         HeapInterface#heapBuildDec(List, int, int)
+     * @see         HeapInterface#heapifyBottomUpDec(List, int, int, int)
+     * @see         SortSwap#swap(List, int, int)
+     */
+    default <L extends T> void heapBottomUpDec(List<L> list, int from, int to) {
+        heapBuildDec(list, from, to);
+        for (int i = (to - from - 1); i > 0; i--) {
+            swap(list, from, (from + i));
+            heapifyBottomUpDec(list, from, i, 0);
+        }
+    }
+
+    /**
+     * {@code heapBottomUp} sorts the range {@code from} (inclusive) to {@code to} (exclusive) with the bottom-up
+     * variant of heap sort, in the order defined by the {@code functionalCompareTo} method of the
+     * {@code SortFunctional} interface.
+     * <ul>
+     *     <li>The range is first turned into a heap in linear time by {@code heapBuild}.</li>
+     *     <li>The loop then swaps the root with the last element of the shrinking heap,
+     *     and restores the heap with {@code heapifyBottomUp} on the reduced size {@code i}.</li>
+     * </ul>
+     * @param       list to be arranged.
+     * @param       from the index of the first element of the range (inclusive).
+     * @param       to the index after the last element of the range (exclusive).
+     * @param       functional lambda expression for comparison.
+     * @see         HeapInterface#heapBuild(List, int, int, SortFunctional)
+     * @see         HeapInterface#heapifyBottomUp(List, int, int, int, SortFunctional)
+     * @see         SortSwap#swap(List, int, int)
+     */
+    default <L extends T> void heapBottomUp(List<L> list, int from, int to, SortFunctional<T> functional) {
+        heapBuild(list, from, to, functional);
+        for (int i = (to - from - 1); i > 0; i--) {
+            swap(list, from, (from + i));
+            heapifyBottomUp(list, from, i, 0, functional);
+        }
+    }
+
+    /**
+     * {@code heapBuildInc} is Floyd's linear time heap construction for the range {@code from} (inclusive) to
+     * {@code to} (exclusive).
+     * <ul>
+     *     <li>The loop visits every parent of the heap from the last one {@code ((n / 2) - 1)} up to the root
+     *     <i>0</i>, where {@code n} is the size of the range.</li>
+     *     <li>Each visited subtree is repaired with {@code heapifyBottomUpInc}, so by the time the loop reaches the
+     *     root, both subtrees of every node are already valid max heaps.</li>
+     * </ul>
+     * Most of the nodes sit near the leaves and sift down only a few levels,
+     * so the whole construction takes <em>O(n)</em> time.
+     * @param       list to be arranged.
+     * @param       from the index of the first element of the range (inclusive).
+     * @param       to the index after the last element of the range (exclusive).
+     * @see         HeapInterface#heapifyBottomUpInc(List, int, int, int)
+     */
+    default <L extends T> void heapBuildInc(List<L> list, int from, int to) {
+        int n = (to - from);
+        for (int i = ((n / 2) - 1); i >= 0; i--) {
+            heapifyBottomUpInc(list, from, n, i);
+        }
+    }
+
+    /**
+     * {@code heapBuildDec} is Floyd's linear time heap construction for the range {@code from} (inclusive) to
+     * {@code to} (exclusive), building a min heap.
+     * <ul>
+     *     <li>The loop visits every parent of the heap from the last one {@code ((n / 2) - 1)} up to the root
+     *     <i>0</i>, and repairs its subtree with {@code heapifyBottomUpDec}.</li>
+     * </ul>
+     * @param       list to be arranged.
+     * @param       from the index of the first element of the range (inclusive).
+     * @param       to the index after the last element of the range (exclusive).
+     * @see         HeapInterface#heapifyBottomUpDec(List, int, int, int)
+     */
+    default <L extends T> void heapBuildDec(List<L> list, int from, int to) {
+        int n = (to - from);
+        for (int i = ((n / 2) - 1); i >= 0; i--) {
+            heapifyBottomUpDec(list, from, n, i);
+        }
+    }
+
+    /**
+     * {@code heapBuild} is Floyd's linear time heap construction for the range {@code from} (inclusive) to
+     * {@code to} (exclusive), in the order defined by the {@code SortFunctional} interface.
+     * <ul>
+     *     <li>The loop visits every parent of the heap from the last one {@code ((n / 2) - 1)} up to the root
+     *     <i>0</i>, and repairs its subtree with {@code heapifyBottomUp}.</li>
+     * </ul>
+     * @param       list to be arranged.
+     * @param       from the index of the first element of the range (inclusive).
+     * @param       to the index after the last element of the range (exclusive).
+     * @param       functional lambda expression for comparison.
+     * @see         HeapInterface#heapifyBottomUp(List, int, int, int, SortFunctional)
+     */
+    default <L extends T> void heapBuild(List<L> list, int from, int to, SortFunctional<T> functional) {
+        int n = (to - from);
+        for (int i = ((n / 2) - 1); i >= 0; i--) {
+            heapifyBottomUp(list, from, n, i, functional);
+        }
+    }
+
+    /**
+     * {@code heapifyBottomUpInc} restores the max heap property of the subtree rooted at the relative index
+     * {@code i}, in a heap of size {@code n} that starts at {@code from}.
+     * <ul>
+     *     <li>{@code heapLeafInc} walks down along the larger child from {@code i} to a leaf, spending a single
+     *     comparison per level.</li>
+     *     <li>From that leaf the method climbs back towards {@code i} while the element at {@code i}
+     *     is larger than the element on the path.</li>
+     *     <li>{@code heapPromote} then puts the element to the position found and moves every element of the path
+     *     above it one level up.</li>
+     * </ul>
+     * {@code heapifyBottomUpInc} is the bottom-up replacement of {@code heapifyInc}.
+     * It needs about <em>log(n)</em> comparisons instead of <em>2 log(n)</em>, and it has no recursion.
+     * @param       list to be arranged.
+     * @param       from the index where the root of the heap is stored.
+     * @param       n the size of the heap.
+     * @param       i the relative index of the subtree to repair.
+     * @see         HeapInterface#heapLeafInc(List, int, int, int)
+     * @see         HeapInterface#heapPromote(List, int, int, int)
+     */
+    @SuppressWarnings("unchecked")
+    default <L extends T> void heapifyBottomUpInc(List<L> list, int from, int n, int i) {
+        L select = list.get(from + i);
+        int j = heapLeafInc(list, from, n, i);
+        while ((j > i) && (select.compareTo(list.get(from + j)) > 0)) {
+            j = ((j - 1) / 2);
+        }
+        heapPromote(list, from, i, j);
+    }
+
+    /**
+     * {@code heapifyBottomUpDec} restores the min heap property of the subtree rooted at the relative index
+     * {@code i}, in a heap of size {@code n} that starts at {@code from}.
+     * <ul>
+     *     <li>{@code heapLeafDec} walks down along the smaller child from {@code i} to a leaf.</li>
+     *     <li>From that leaf the method climbs back towards {@code i} while the element at {@code i}
+     *     is smaller than the element on the path.</li>
+     *     <li>{@code heapPromote} then puts the element to the position found.</li>
+     * </ul>
+     * @param       list to be arranged.
+     * @param       from the index where the root of the heap is stored.
+     * @param       n the size of the heap.
+     * @param       i the relative index of the subtree to repair.
+     * @see         HeapInterface#heapLeafDec(List, int, int, int)
+     * @see         HeapInterface#heapPromote(List, int, int, int)
+     */
+    @SuppressWarnings("unchecked")
+    default <L extends T> void heapifyBottomUpDec(List<L> list, int from, int n, int i) {
+        L select = list.get(from + i);
+        int j = heapLeafDec(list, from, n, i);
+        while ((j > i) && (select.compareTo(list.get(from + j)) < 0)) {
+            j = ((j - 1) / 2);
+        }
+        heapPromote(list, from, i, j);
+    }
+
+    /**
+     * {@code heapifyBottomUp} restores the heap property of the subtree rooted at the relative index {@code i},
+     * in a heap of size {@code n} that starts at {@code from}, based on the {@code SortFunctional} interface.
+     * <ul>
+     *     <li>{@code heapLeaf} walks down along the child selected by {@code functionalCompareTo} to a leaf.</li>
+     *     <li>From that leaf the method climbs back towards {@code i} while {@code functionalCompareTo}
+     *     prefers the element at {@code i} to the element on the path.</li>
+     *     <li>{@code heapPromote} then puts the element to the position found.</li>
+     * </ul>
+     * @param       list to be arranged.
+     * @param       from the index where the root of the heap is stored.
+     * @param       n the size of the heap.
+     * @param       i the relative index of the subtree to repair.
+     * @param       functional lambda expression for comparison.
+     * @see         HeapInterface#heapLeaf(List, int, int, int, SortFunctional)
+     * @see         HeapInterface#heapPromote(List, int, int, int)
+     */
+    default <L extends T> void heapifyBottomUp(List<L> list, int from, int n, int i, SortFunctional<T> functional) {
+        L select = list.get(from + i);
+        int j = heapLeaf(list, from, n, i, functional);
+        while ((j > i) && (functional.functionalCompareTo(select, list.get(from + j)))) {
+            j = ((j - 1) / 2);
+        }
+        heapPromote(list, from, i, j);
+    }
+
+    /**
+     * {@code heapLeafInc} follows the path of the larger children from the relative index {@code i} down to a
+     * leaf of the heap.
+     * <ul>
+     *     <li>While both children exist, one comparison decides which one to follow.</li>
+     *     <li>If the last node of the path has only a left child, that child is the leaf.</li>
+     * </ul>
+     * @param       list to be arranged.
+     * @param       from the index where the root of the heap is stored.
+     * @param       n the size of the heap.
+     * @param       i the relative index the path starts from.
+     * @return      the relative index of the leaf at the end of the path.
+     */
+    @SuppressWarnings("unchecked")
+    default <L extends T> int heapLeafInc(List<L> list, int from, int n, int i) {
+        int right;
+        while ((right = ((2 * i) + 2)) < n) {
+            i = ((list.get(from + right).compareTo(list.get(from + right - 1)) > 0) ? right : (right - 1));
+        }
+        return (((right - 1) < n) ? (right - 1) : i);
+    }
+
+    /**
+     * {@code heapLeafDec} follows the path of the smaller children from the relative index {@code i} down to a
+     * leaf of the heap.
+     * <ul>
+     *     <li>While both children exist, one comparison decides which one to follow.</li>
+     *     <li>If the last node of the path has only a left child, that child is the leaf.</li>
+     * </ul>
+     * @param       list to be arranged.
+     * @param       from the index where the root of the heap is stored.
+     * @param       n the size of the heap.
+     * @param       i the relative index the path starts from.
+     * @return      the relative index of the leaf at the end of the path.
+     */
+    @SuppressWarnings("unchecked")
+    default <L extends T> int heapLeafDec(List<L> list, int from, int n, int i) {
+        int right;
+        while ((right = ((2 * i) + 2)) < n) {
+            i = ((list.get(from + right).compareTo(list.get(from + right - 1)) < 0) ? right : (right - 1));
+        }
+        return (((right - 1) < n) ? (right - 1) : i);
+    }
+
+    /**
+     * {@code heapLeaf} follows the path of the children preferred by the {@code functionalCompareTo} method
+     * from the relative index {@code i} down to a leaf of the heap.
+     * <ul>
+     *     <li>While both children exist, one comparison decides which one to follow.</li>
+     *     <li>If the last node of the path has only a left child, that child is the leaf.</li>
+     * </ul>
+     * @param       list to be arranged.
+     * @param       from the index where the root of the heap is stored.
+     * @param       n the size of the heap.
+     * @param       i the relative index the path starts from.
+     * @param       functional lambda expression for comparison.
+     * @return      the relative index of the leaf at the end of the path.
+     */
+    default <L extends T> int heapLeaf(List<L> list, int from, int n, int i, SortFunctional<T> functional) {
+        int right;
+        while ((right = ((2 * i) + 2)) < n) {
+            i = ((functional.functionalCompareTo(list.get(from + right), list.get(from + right - 1)))
+                    ? right : (right - 1));
+        }
+        return (((right - 1) < n) ? (right - 1) : i);
+    }
+
+    /**
+     * {@code heapPromote} moves the element at the relative index {@code i} down to its ancestor-descendant
+     * position {@code j}, and moves every element of the path between them one level up.
+     * <ul>
+     *     <li>The element at {@code j} is replaced by the element at {@code i}.</li>
+     *     <li>Walking from {@code j} towards {@code i} through the parents {@code ((j - 1) / 2)},
+     *     each displaced element is written into its parent.</li>
+     * </ul>
+     * {@code heapPromote} does not compare anything, it is shared by the increasing, decreasing and functional
+     * bottom-up variants.
+     * @param       list to be arranged.
+     * @param       from the index where the root of the heap is stored.
+     * @param       i the relative index of the element that moves down.
+     * @param       j the relative index of its final position, {@code i} or one of its descendants.
+     */
+    default <L extends T> void heapPromote(List<L> list, int from, int i, int j) {
+        L select = list.get(from + i);
+        while (j > i) {
+            L temp = list.get(from + j);
+            list.set(from + j, select);
+            select = temp;
+            j = ((j - 1) / 2);
+        }
+        list.set(from + i, select);
+    }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package github.magyarzoli;
 
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -12,6 +13,24 @@ import java.util.List;
 public interface InsertionInterface<T extends Comparable>
         extends Sorter<T> {
 
+    /**
+     * {@code binaryInsertion} tells whether the Insertion Sorts of this interface find the place of the elements by
+     * binary search, and shift the others in bulk.
+     * <ul>
+     *     <li>The linear insertion compares the elements while it shifts them,
+     *     it is the faster one when the comparison is cheap, or the range is nearly sorted.</li>
+     *     <li>The binary insertion takes <em>O(log(k))</em> comparisons per element,
+     *     it is the faster one when the comparison is expensive.</li>
+     * </ul>
+     * The gapped insertion of Shell Sort is always linear.
+     * The default is {@code false}, the sorters choosing binary insertion override it.
+     * @return      {@code true} if the insertions are binary.
+     * @see         InsertionInterface#binaryInsertionInc(Comparable[], int, int)
+     */
+    default boolean binaryInsertion() {
+        return false;
+    }
+
     /**
      * {@code insertionInc} that performs the Insertion Sort algorithm on a portion of an array of Comparable objects.
      * The sorting is done in ascending order.
@@ -48,9 +67,14 @@ public interface InsertionInterface<T extends Comparable>
      * and places the selected element at its correct position within the portion of the array.
      * The sorting is done in ascending order.
      * @param       array to be arranged.
+     * @see         InsertionInterface#binaryInsertion()
      */
     @SuppressWarnings("unchecked")
     default void insertionInc(T[] array) {
+        if (binaryInsertion()) {
+            binaryInsertionInc(array, 0, (array.length - 1));
+            return;
+        }
         for (int i = 0; i < array.length; i++) {
             T select = array[i];
             int j = i;
@@ -98,9 +122,14 @@ public interface InsertionInterface<T extends Comparable>
      * and places the selected element at its correct position within the portion of the array.
      * The sorting is done in descending order.
      * @param       array to be arranged.
+     * @see         InsertionInterface#binaryInsertion()
      */
     @SuppressWarnings("unchecked")
     default void insertionDec(T[] array) {
+        if (binaryInsertion()) {
+            binaryInsertionDec(array, 0, (array.length - 1));
+            return;
+        }
         for (int i = 0; i < array.length; i++) {
             T select = array[i];
             int j = i;
@@ -136,8 +165,13 @@ public interface InsertionInterface<T extends Comparable>
      * @param       array to be arranged.
      * @param       functional lambda expression for comparison.
      * @see         SortFunctional#functionalCompareTo(Comparable, Comparable)
+     * @see         InsertionInterface#binaryInsertion()
      */
     default void insertion(T[] array, SortFunctional<T> functional) {
+        if (binaryInsertion()) {
+            binaryInsertion(array, 0, (array.length - 1), functional);
+            return;
+        }
         for (int i = 0; i < array.length; i++) {
             T select = array[i];
             int j = i;
@@ -187,9 +221,14 @@ public interface InsertionInterface<T extends Comparable>
      * @param       array to be arranged.
      * @param       from the element from which to start the analysis.
      * @param       to the element to be analyzed.
+     * @see         InsertionInterface#binaryInsertion()
      */
     @SuppressWarnings("unchecked")
     default void insertionInc(T[] array, int from, int to) {
+        if (binaryInsertion()) {
+            binaryInsertionInc(array, from, to);
+            return;
+        }
         for (int i = from; i <= to; i++) {
             T select = array[i];
             int j = i;
@@ -239,9 +278,14 @@ public interface InsertionInterface<T extends Comparable>
      * @param       array to be arranged.
      * @param       from the element from which to start the analysis.
      * @param       to the element to be analyzed.
+     * @see         InsertionInterface#binaryInsertion()
      */
     @SuppressWarnings("unchecked")
     default void insertionDec(T[] array, int from, int to) {
+        if (binaryInsertion()) {
+            binaryInsertionDec(array, from, to);
+            return;
+        }
         for (int i = from; i <= to; i++) {
             T select = array[i];
             int j = i;
@@ -281,8 +325,13 @@ public interface InsertionInterface<T extends Comparable>
      * @param       from the element from which to start the analysis.
      * @param       to the element to be analyzed.
      * @see         SortFunctional#functionalCompareTo(Comparable, Comparable)
+     * @see         InsertionInterface#binaryInsertion()
      */
     default void insertion(T[] array, int from, int to, SortFunctional<T> functional) {
+        if (binaryInsertion()) {
+            binaryInsertion(array, from, to, functional);
+            return;
+        }
         for (int i = from; i <= to; i++) {
             T select = array[i];
             int j = i;
@@ -295,6 +344,184 @@ public interface InsertionInterface<T extends Comparable>
         }
     }
 
+    /**
+     * {@code binaryInsertionInc} is the Binary Insertion Sort, it arranges the range {@code from} to {@code to}
+     * (inclusive) in ascending order.
+     * <ul>
+     *     <li>The elements before index {@code i} are already sorted, the element at {@code i} is selected.</li>
+     *     <li>The place of the {@code select} element is found by binary search, after the elements equal to it,
+     *     so the arrangement stays stable.</li>
+     *     <li>The elements from the place to {@code (i - 1)} are shifted right by one with a single
+     *     {@code System.arraycopy}, and the {@code select} element is put to its place.</li>
+     * </ul>
+     * Each insertion takes <em>O(log(k))</em> comparisons instead of <em>O(k)</em>, the moves are the same,
+     * but they are done in bulk.
+     * @param       array to be arranged.
+     * @param       from the element from which to start the analysis.
+     * @param       to the element to be analyzed.
+     * @see         InsertionInterface#binaryInsertion()
+     */
+    @SuppressWarnings("unchecked")
+    default void binaryInsertionInc(T[] array, int from, int to) {
+        for (int i = (from + 1); i <= to; i++) {
+            T select = array[i];
+            int low = from, high = i;
+            while (low < high) {
+                int middle = ((low + high) >>> 1);
+                if (array[middle].compareTo(select) > 0) {
+                    high = middle;
+                } else {
+                    low = (middle + 1);
+                }
+            }
+            System.arraycopy(array, low, array, (low + 1), (i - low));
+            array[low] = select;
+        }
+    }
+
+    /**
+     * {@code binaryInsertionDec} is the Binary Insertion Sort, it arranges the range {@code from} to {@code to}
+     * (inclusive) in descending order.
+     * The place of each element is found by binary search, and the elements after it are shifted with a single
+     * {@code System.arraycopy}.
+     * @param       array to be arranged.
+     * @param       from the element from which to start the analysis.
+     * @param       to the element to be analyzed.
+     * @see         InsertionInterface#binaryInsertionInc(Comparable[], int, int)
+     */
+    @SuppressWarnings("unchecked")
+    default void binaryInsertionDec(T[] array, int from, int to) {
+        for (int i = (from + 1); i <= to; i++) {
+            T select = array[i];
+            int low = from, high = i;
+            while (low < high) {
+                int middle = ((low + high) >>> 1);
+                if (array[middle].compareTo(select) < 0) {
+                    high = middle;
+                } else {
+                    low = (middle + 1);
+                }
+            }
+            System.arraycopy(array, low, array, (low + 1), (i - low));
+            array[low] = select;
+        }
+    }
+
+    /**
+     * {@code binaryInsertion} is the Binary Insertion Sort, it arranges the range {@code from} to {@code to}
+     * (inclusive) in the order of the {@code functional}.
+     * The place of each element is found by binary search, and the elements after it are shifted with a single
+     * {@code System.arraycopy}.
+     * @param       array to be arranged.
+     * @param       from the element from which to start the analysis.
+     * @param       to the element to be analyzed.
+     * @param       functional lambda expression for comparison.
+     * @see         InsertionInterface#binaryInsertionInc(Comparable[], int, int)
+     * @see         SortFunctional#functionalCompareTo(Comparable, Comparable)
+     */
+    default void binaryInsertion(T[] array, int from, int to, SortFunctional<T> functional) {
+        for (int i = (from + 1); i <= to; i++) {
+            T select = array[i];
+            int low = from, high = i;
+            while (low < high) {
+                int middle = ((low + high) >>> 1);
+                if (functional.functionalCompareTo(array[middle], select)) {
+                    high = middle;
+                } else {
+                    low = (middle + 1);
+                }
+            }
+            System.arraycopy(array, low, array, (low + 1), (i - low));
+            array[low] = select;
+        }
+    }
+
+    /**
+     * {@code insertionInc} is the gapped Insertion Sort used by the passes of Shell Sort.
+     * It sorts, in ascending order, every chain of elements in the range {@code from} to {@code to} (inclusive)
+     * whose indices are {@code gap} positions apart.
+     * <ul>
+     *     <li>The outer loop starts at {@code (from + gap)}, the first element that has a predecessor
+     *     in its chain.</li>
+     *     <li>The selected element is stored in {@code select}, and the larger elements of its chain are moved
+     *     {@code gap} positions to the right until the place of {@code select} is found.</li>
+     *     <li>With {@code gap} <i>1</i> this is the ordinary Insertion Sort of the range.</li>
+     * </ul>
+     * @param       array to be arranged.
+     * @param       from the element from which to start the analysis.
+     * @param       to the element to be analyzed (inclusive).
+     * @param       gap the distance of the elements compared with each other.
+     */
+    @SuppressWarnings("unchecked")
+    default void insertionInc(T[] array, int from, int to, int gap) {
+        for (int i = (from + gap); i <= to; i++) {
+            T select = array[i];
+            int j = i;
+            while ((j >= (from + gap)) && (array[(j - gap)].compareTo(select) > 0)) {
+                array[j] = array[(j - gap)];
+                j -= gap;
+            }
+            array[j] = select;
+        }
+    }
+
+    /**
+     * {@code insertionDec} is the gapped Insertion Sort used by the passes of Shell Sort.
+     * It sorts, in descending order, every chain of elements in the range {@code from} to {@code to} (inclusive)
+     * whose indices are {@code gap} positions apart.
+     * <ul>
+     *     <li>The outer loop starts at {@code (from + gap)}, the first element that has a predecessor
+     *     in its chain.</li>
+     *     <li>The selected element is stored in {@code select}, and the smaller elements of its chain are moved
+     *     {@code gap} positions to the right until the place of {@code select} is found.</li>
+     * </ul>
+     * @param       array to be arranged.
+     * @param       from the element from which to start the analysis.
+     * @param       to the element to be analyzed (inclusive).
+     * @param       gap the distance of the elements compared with each other.
+     */
+    @SuppressWarnings("unchecked")
+    default void insertionDec(T[] array, int from, int to, int gap) {
+        for (int i = (from + gap); i <= to; i++) {
+            T select = array[i];
+            int j = i;
+            while ((j >= (from + gap)) && (array[(j - gap)].compareTo(select) < 0)) {
+                array[j] = array[(j - gap)];
+                j -= gap;
+            }
+            array[j] = select;
+        }
+    }
+
+    /**
+     * {@code insertion} is the gapped Insertion Sort used by the passes of Shell Sort.
+     * It sorts every chain of elements in the range {@code from} to {@code to} (inclusive) whose indices are
+     * {@code gap} positions apart, based on the {@code functionalCompareTo} method of the {@code SortFunctional}
+     * interface.
+     * <ul>
+     *     <li>The outer loop starts at {@code (from + gap)}, the first element that has a predecessor
+     *     in its chain.</li>
+     *     <li>The elements of the chain for which {@code functionalCompareTo} holds against {@code select} are moved
+     *     {@code gap} positions to the right until the place of {@code select} is found.</li>
+     * </ul>
+     * @param       array to be arranged.
+     * @param       from the element from which to start the analysis.
+     * @param       to the element to be analyzed (inclusive).
+     * @param       gap the distance of the elements compared with each other.
+     * @param       functional lambda expression for comparison.
+     */
+    default void insertion(T[] array, int from, int to, int gap, SortFunctional<T> functional) {
+        for (int i = (from + gap); i <= to; i++) {
+            T select = array[i];
+            int j = i;
+            while ((j >= (from + gap)) && (functional.functionalCompareTo(array[(j - gap)], select))) {
+                array[j] = array[(j - gap)];
+                j -= gap;
+            }
+            array[j] = select;
+        }
+    }
+
     /**
      * {@code insertionInc} that performs the Insertion Sort algorithm on a portion of a list of
      * {@link java.lang.Comparable Comparable} objects.
@@ -332,9 +559,14 @@ public interface InsertionInterface<T extends Comparable>
      * and places the selected element at its correct position within the portion of the list.
      * The sorting is done in ascending order.
      * @param       list to be arranged.
+     * @see         InsertionInterface#binaryInsertion()
      */
     @SuppressWarnings("unchecked")
     default <L extends T> void insertionInc(List<L> list) {
+        if (binaryInsertion()) {
+            binaryInsertionInc(list, 0, (list.size() - 1));
+            return;
+        }
         for (int i = 0; i < list.size(); i++) {
             L select = list.get(i);
             int j = i;
@@ -383,9 +615,14 @@ public interface InsertionInterface<T extends Comparable>
      * and places the selected element at its correct position within the portion of the list.
      * The sorting is done in descending order.
      * @param       list to be arranged.
+     * @see         InsertionInterface#binaryInsertion()
      */
     @SuppressWarnings("unchecked")
     default <L extends T> void insertionDec(List<L> list) {
+        if (binaryInsertion()) {
+            binaryInsertionDec(list, 0, (list.size() - 1));
+            return;
+        }
         for (int i = 0; i < list.size(); i++) {
             L select = list.get(i);
             int j = i;
@@ -421,8 +658,13 @@ public interface InsertionInterface<T extends Comparable>
      * @param       list to be arranged.
      * @param       functional lambda expression for comparison.
      * @see         SortFunctional#functionalCompareTo(Comparable, Comparable)
+     * @see         InsertionInterface#binaryInsertion()
      */
     default <L extends T> void insertion(List<L> list, SortFunctional<T> functional) {
+        if (binaryInsertion()) {
+            binaryInsertion(list, 0, (list.size() - 1), functional);
+            return;
+        }
         for (int i = 0; i < list.size(); i++) {
             L select = list.get(i);
             int j = i;
@@ -473,9 +715,14 @@ public interface InsertionInterface<T extends Comparable>
      * @param       list to be arranged.
      * @param       from the element from which to start the analysis.
      * @param       to the element to be analyzed.
+     * @see         InsertionInterface#binaryInsertion()
      */
     @SuppressWarnings("unchecked")
     default <L extends T> void insertionInc(List<L> list, int from, int to) {
+        if (binaryInsertion()) {
+            binaryInsertionInc(list, from, to);
+            return;
+        }
         for (int i = from; i <= to; i++) {
             L select = list.get(i);
             int j = i;
@@ -526,9 +773,14 @@ public interface InsertionInterface<T extends Comparable>
      * @param       list to be arranged.
      * @param       from the element from which to start the analysis.
      * @param       to the element to be analyzed.
+     * @see         InsertionInterface#binaryInsertion()
      */
     @SuppressWarnings("unchecked")
     default <L extends T> void insertionDec(List<L> list, int from, int to) {
+        if (binaryInsertion()) {
+            binaryInsertionDec(list, from, to);
+            return;
+        }
         for (int i = from; i <= to; i++) {
             L select = list.get(i);
             int j = i;
@@ -568,8 +820,13 @@ public interface InsertionInterface<T extends Comparable>
      * @param       from the element from which to start the analysis.
      * @param       to the element to be analyzed.
      * @see         SortFunctional#functionalCompareTo(Comparable, Comparable)
+     * @see         InsertionInterface#binaryInsertion()
      */
     default <L extends T> void insertion(List<L> list, int from, int to, SortFunctional<T> functional) {
+        if (binaryInsertion()) {
+            binaryInsertion(list, from, to, functional);
+            return;
+        }
         for (int i = from; i <= to; i++) {
             L select = list.get(i);
             int j = i;
@@ -581,4 +838,183 @@ public interface InsertionInterface<T extends Comparable>
             list.set(j, select);
         }
     }
+
+    /**
+     * {@code binaryInsertionInc} is the Binary Insertion Sort, it arranges the range {@code from} to {@code to}
+     * (inclusive) of the list in ascending order.
+     * <ul>
+     *     <li>The place of the element at index {@code i} is found by binary search in the sorted elements before
+     *     it, after the elements equal to it, so the arrangement stays stable.</li>
+     *     <li>The sublist from the place to {@code i} is rotated by one, which moves the element to its place
+     *     and shifts the others right.</li>
+     * </ul>
+     * @param       list to be arranged.
+     * @param       from the element from which to start the analysis.
+     * @param       to the element to be analyzed.
+     * @param       <L> the type of elements in the list, which must extend the type {@code T}.
+     * @see         InsertionInterface#binaryInsertion()
+     */
+    @SuppressWarnings("unchecked")
+    default <L extends T> void binaryInsertionInc(List<L> list, int from, int to) {
+        for (int i = (from + 1); i <= to; i++) {
+            L select = list.get(i);
+            int low = from, high = i;
+            while (low < high) {
+                int middle = ((low + high) >>> 1);
+                if (list.get(middle).compareTo(select) > 0) {
+                    high = middle;
+                } else {
+                    low = (middle + 1);
+                }
+            }
+            if (low < i) {
+                Collections.rotate(list.subList(low, (i + 1)), 1);
+            }
+        }
+    }
+
+    /**
+     * {@code binaryInsertionDec} is the Binary Insertion Sort, it arranges the range {@code from} to {@code to}
+     * (inclusive) of the list in descending order.
+     * The place of each element is found by binary search, and the sublist up to it is rotated by one.
+     * @param       list to be arranged.
+     * @param       from the element from which to start the analysis.
+     * @param       to the element to be analyzed.
+     * @param       <L> the type of elements in the list, which must extend the type {@code T}.
+     * @see         InsertionInterface#binaryInsertionInc(List, int, int)
+     */
+    @SuppressWarnings("unchecked")
+    default <L extends T> void binaryInsertionDec(List<L> list, int from, int to) {
+        for (int i = (from + 1); i <= to; i++) {
+            L select = list.get(i);
+            int low = from, high = i;
+            while (low < high) {
+                int middle = ((low + high) >>> 1);
+                if (list.get(middle).compareTo(select) < 0) {
+                    high = middle;
+                } else {
+                    low = (middle + 1);
+                }
+            }
+            if (low < i) {
+                Collections.rotate(list.subList(low, (i + 1)), 1);
+            }
+        }
+    }
+
+    /**
+     * {@code binaryInsertion} is the Binary Insertion Sort, it arranges the range {@code from} to {@code to}
+     * (inclusive) of the list in the order of the {@code functional}.
+     * The place of each element is found by binary search, and the sublist up to it is rotated by one.
+     * @param       list to be arranged.
+     * @param       from the element from which to start the analysis.
+     * @param       to the element to be analyzed.
+     * @param       functional lambda expression for comparison.
+     * @param       <L> the type of elements in the list, which must extend the type {@code T}.
+     * @see         InsertionInterface#binaryInsertionInc(List, int, int)
+     * @see         SortFunctional#functionalCompareTo(Comparable, Comparable)
+     */
+    default <L extends T> void binaryInsertion(List<L> list, int from, int to, SortFunctional<T> functional) {
+        for (int i = (from + 1); i <= to; i++) {
+            L select = list.get(i);
+            int low = from, high = i;
+            while (low < high) {
+                int middle = ((low + high) >>> 1);
+                if (functional.functionalCompareTo(list.get(middle), select)) {
+                    high = middle;
+                } else {
+                    low = (middle + 1);
+                }
+            }
+            if (low < i) {
+                Collections.rotate(list.subList(low, (i + 1)), 1);
+            }
+        }
+    }
+
+    /**
+     * {@code insertionInc} is the gapped Insertion Sort used by the passes of Shell Sort.
+     * It sorts, in ascending order, every chain of elements in the range {@code from} to {@code to} (inclusive)
+     * whose indices are {@code gap} positions apart.
+     * <ul>
+     *     <li>The outer loop starts at {@code (from + gap)}, the first element that has a predecessor
+     *     in its chain.</li>
+     *     <li>The selected element is stored in {@code select}, and the larger elements of its chain are moved
+     *     {@code gap} positions to the right until the place of {@code select} is found.</li>
+     * </ul>
+     * @param       list to be arranged.
+     * @param       from the element from which to start the analysis.
+     * @param       to the element to be analyzed (inclusive).
+     * @param       gap the distance of the elements compared with each other.
+     */
+    @SuppressWarnings("unchecked")
+    default <L extends T> void insertionInc(List<L> list, int from, int to, int gap) {
+        for (int i = (from + gap); i <= to; i++) {
+            L select = list.get(i);
+            int j = i;
+            while ((j >= (from + gap)) && (list.get(j - gap).compareTo(select) > 0)) {
+                list.set(j, list.get(j - gap));
+                j -= gap;
+            }
+            list.set(j, select);
+        }
+    }
+
+    /**
+     * {@code insertionDec} is the gapped Insertion Sort used by the passes of Shell Sort.
+     * It sorts, in descending order, every chain of elements in the range {@code from} to {@code to} (inclusive)
+     * whose indices are {@code gap} positions apart.
+     * <ul>
+     *     <li>The outer loop starts at {@code (from + gap)}, the first element that has a predecessor
+     *     in its chain.</li>
+     *     <li>The selected element is stored in {@code select}, and the smaller elements of its chain are moved
+     *     {@code gap} positions to the right until the place of {@code select} is found.</li>
+     * </ul>
+     * @param       list to be arranged.
+     * @param       from the element from which to start the analysis.
+     * @param       to the element to be analyzed (inclusive).
+     * @param       gap the distance of the elements compared with each other.
+     */
+    @SuppressWarnings("unchecked")
+    default <L extends T> void insertionDec(List<L> list, int from, int to, int gap) {
+        for (int i = (from + gap); i <= to; i++) {
+            L select = list.get(i);
+            int j = i;
+            while ((j >= (from + gap)) && (list.get(j - gap).compareTo(select) < 0)) {
+                list.set(j, list.get(j - gap));
+                j -= gap;
+            }
+            list.set(j, select);
+        }
+    }
+
+    /**
+     * {@code insertion} is the gapped Insertion Sort used by the passes of Shell Sort.
+     * It sorts every chain of elements in the range {@code from} to {@code to} (inclusive) whose indices are
+     * {@code gap} positions apart, based on the {@code functionalCompareTo} method of the {@code SortFunctional}
+     * interface.
+     * <ul>
+     *     <li>The outer loop starts at {@code (from + gap)}, the first element that has a predecessor
+     *     in its chain.</li>
+     *     <li>The elements of the chain for which {@code functionalCompareTo} holds against {@code select} are moved
+     *     {@code gap} positions to the right until the place of {@code select} is found.</li>
+     * </ul>
+     * @param       list to be arranged.
+     * @param       from the element from which to start the analysis.
+     * @param       to the element to be analyzed (inclusive).
+     * @param       gap the distance of the elements compared with each other.
+     * @param       functional lambda expression for comparison.
+     */
+    default <L extends T> void insertion(
+            List<L> list, int from, int to, int gap, SortFunctional<T> functional) {
+        for (int i = (from + gap); i <= to; i++) {
+            L select = list.get(i);
+            int j = i;
+            while ((j >= (from + gap)) && (functional.functionalCompareTo(list.get(j - gap), select))) {
+                list.set(j, list.get(j - gap));
+                j -= gap;
+            }
+            list.set(j, select);
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,158 @@
+package github.magyarzoli;
+
+/**
+ * The loser tree of the k-way merge, a tournament tree whose inner nodes keep the losers of their matches.
+ * The runs to be merged are the players, the winner is the run with the first head element.
+ * After the winner's element is taken, only the matches on the path of that run are replayed,
+ * one comparison per level, <em>log(k)</em> comparisons per merged element.
+ * <ul>
+ *     <li>The tree has {@code k} leaves, the runs, at the nodes {@code k} to {@code (2k - 1)}.</li>
+ *     <li>The inner nodes <i>1</i> to {@code (k - 1)} keep the loser of the match played there,
+ *     the node <i>0</i> keeps the overall winner.</li>
+ *     <li>An exhausted run loses every match without comparison.</li>
+ *     <li>On equal elements the run with the lower index wins, so the merge is stable.</li>
+ * </ul>
+ * The tree allocates its arrays once, for the given number of runs, and can be reused by any number of merges,
+ * for example by every merge of every pass of a k-way merge sort.
+ * @param       <T> setting of a type based on which the elements can be sorted.
+ * @since       1.3
+ * @author      <a href=https://github.com/MagyarZoli>Magyar Zoltán</a>
+ */
+@SuppressWarnings("rawtypes")
+public final class LoserTree<T extends Comparable> {
+
+    /**
+     * The losers of the matches, the winner at index <i>0</i>.
+     */
+    private final int[] tree;
+
+    /**
+     * The index of the head element of each run.
+     */
+    private final int[] head;
+
+    /**
+     * The end (exclusive) of each run.
+     */
+    private final int[] end;
+
+    /**
+     * The number of runs of the current merge.
+     */
+    private int runs;
+
+    /**
+     * The array holding the runs of the current merge.
+     */
+    private T[] source;
+
+    /**
+     * The comparison of the current merge.
+     */
+    private SortFunctional<T> functional;
+
+    /**
+     * <b>Loser Tree:</b><br>
+     * For merges of at most {@code capacity} runs.
+     * @param       capacity the maximum number of runs merged at once.
+     * @throws      IllegalArgumentException if the {@code capacity} is not positive.
+     */
+    public LoserTree(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        tree = new int[capacity];
+        head = new int[capacity];
+        end = new int[capacity];
+    }
+
+    /**
+     * {@code capacity} returns the maximum number of runs merged at once.
+     * @return      the number of runs the tree was allocated for.
+     */
+    public int capacity() {
+        return tree.length;
+    }
+
+    /**
+     * {@code merge} merges the sorted runs of the {@code source} into the {@code target}.
+     * <ul>
+     *     <li>The run {@code i} is {@code source[bounds[i]]} to {@code source[(bounds[(i + 1)] - 1)]},
+     *     so the {@code bounds} holds {@code (runs + 1)} indices.</li>
+     *     <li>The tournament is played once on the heads of the runs, {@code (runs - 1)} comparisons.</li>
+     *     <li>The head of the winner run is written to the {@code target}, and the matches on the path of the
+     *     winner are replayed, until every run is exhausted.</li>
+     * </ul>
+     * @param       source the array holding the sorted runs.
+     * @param       bounds the first index of each run, followed by the end (exclusive) of the last run.
+     * @param       runs the number of runs, at most the {@code capacity}.
+     * @param       target the array receiving the merged elements, it must not be the {@code source}.
+     * @param       to the index of the {@code target} receiving the first element.
+     * @param       functional lambda expression for comparison.
+     * @throws      IllegalArgumentException if the number of runs is not between <i>1</i> and {@code capacity}.
+     */
+    public void merge(T[] source, int[] bounds, int runs, T[] target, int to, SortFunctional<T> functional) {
+        if ((runs < 1) || (runs > tree.length)) {
+            throw new IllegalArgumentException("runs must be between 1 and " + tree.length + ": " + runs);
+        }
+        this.runs = runs;
+        this.source = source;
+        this.functional = functional;
+        for (int i = 0; i < runs; i++) {
+            head[i] = bounds[i];
+            end[i] = bounds[(i + 1)];
+        }
+        tree[0] = play(1);
+        for (int i = to, last = (to + (bounds[runs] - bounds[0])); i < last; i++) {
+            int winner = tree[0];
+            target[i] = source[head[winner]++];
+            for (int node = ((winner + runs) >> 1); node >= 1; node >>= 1) {
+                if (beats(tree[node], winner)) {
+                    int loser = winner;
+                    winner = tree[node];
+                    tree[node] = loser;
+                }
+            }
+            tree[0] = winner;
+        }
+        this.source = null;
+        this.functional = null;
+    }
+
+    /**
+     * {@code play} plays the matches of the subtree of the {@code node}, and keeps the losers.
+     * @param       node the root of the subtree.
+     * @return      the winner run of the subtree.
+     */
+    private int play(int node) {
+        if (node >= runs) {
+            return (node - runs);
+        }
+        int first = play((2 * node)), second = play(((2 * node) + 1));
+        if (beats(first, second)) {
+            tree[node] = second;
+            return first;
+        }
+        tree[node] = first;
+        return second;
+    }
+
+    /**
+     * {@code beats} plays a match between two runs.
+     * An exhausted run loses without comparison, on equal heads the run with the lower index wins.
+     * @param       run the first run.
+     * @param       other the second run.
+     * @return      {@code true} if the {@code run} wins.
+     */
+    private boolean beats(int run, int other) {
+        if (head[run] >= end[run]) {
+            return false;
+        }
+        if (head[other] >= end[other]) {
+            return true;
+        }
+        return (run < other)
+                ? !functional.functionalCompareTo(source[head[run]], source[head[other]])
+                : functional.functionalCompareTo(source[head[other]], source[head[run]]);
+    }
+}
\ No newline at end of file
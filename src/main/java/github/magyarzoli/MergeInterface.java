@@ -1,8 +1,8 @@
 package github.magyarzoli;
 
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.ListIterator;
 
 /**
  * MergeInterface, containing the methods of Merge Sort to implement other classes.
@@ -17,105 +17,52 @@ public interface MergeInterface<T extends Comparable>
     /**
      * {@code mergeInc} that performs a Merge Sort on an array of {@link java.lang.Comparable Comparable} objects in
      * increasing order.
-     * The method recursively divides the array into smaller subarrays, sorts them individually,
-     * and then merges them together using the {@code mergingInc} method.
      * <ul>
-     *     <li>The method takes an array of {@code Comparable} objects, denoted by {@code array},
-     *     and the indices {@code left} is <i>0</i>, {@code mid} is {@code (array.length / 2)}, and {@code right}
-     *     is {@code (array.length - 1)} that define the portion of the array to be sorted.</li>
-     *     <li>The condition {@code if (left < right)} checks if the portion of the array has more than one element.
-     *     If so, it proceeds with the merge sort algorithm.</li>
-     *     <li>Inside the condition, the method recursively calls itself to sort the left and right halves of the
-     *     portion.</li>
-     *     <li>The first recursive call {@code mergeInc(array, left, ((left + mid) / 2), mid)} divides the left half of
-     *     the portion by updating the {@code mid} index to be the midpoint between {@code left} and {@code mid}.</li>
-     *     <li>The second recursive call {@code mergeInc(array, (mid + 1), (((mid + 1) + right) / 2), right)} divides
-     *     the right half of the portion by updating the {@code mid} index to be the midpoint between {@code (mid + 1)}
-     *     and {@code right}.</li>
-     *     <li>After the recursive calls, the {@code mergingInc} method is called to merge the two sorted halves
-     *     together.
-     *     The {@code mergingInc} method takes the {@code array}, {@code left}, {@code mid}, and {@code right} indices
-     *     as arguments.</li>
-     *     <li>The overall effect of the {@code mergeInc} method is to recursively divide the array into smaller
-     *     subarrays until they consist of individual elements.
-     *     Then, it merges and sorts these individual elements to gradually build the sorted array.</li>
+     *     <li>A single scratch array is borrowed from the arena of {@code scratch} for the whole sort.</li>
+     *     <li>The sort itself is done by {@code mergeSort}, the levels of the recursion merge alternately from the
+     *     scratch to the {@code array} and from the {@code array} to the scratch, so nothing is copied back.</li>
      * </ul>
-     * {@code mergeInc} this implementation follows the divide-and-conquer strategy of merge sort, where the array is
-     * recursively divided into smaller subarrays,
-     * sorted individually, and then merged back together.
+     * {@code mergeInc} borrows one array per sort, however deep the recursion is.
      * @param       array to be arranged.
-     * @see         MergeInterface#mergeInc(Comparable[], int, int, int)
+     * @see         MergeInterface#mergeSort(Comparable[], SortFunctional)
      */
+    @SuppressWarnings("unchecked")
     default void mergeInc(T[] array) {
-        mergeInc(array, 0, (array.length / 2), (array.length - 1));
+        mergeSort(array, (a, b) -> a.compareTo(b) > 0);
     }
 
     /**
      * {@code mergeDec} that performs a Merge Sort on an array of {@link java.lang.Comparable Comparable} objects in
      * decreasing order.
-     * The method recursively divides the array into smaller subarrays, sorts them individually,
-     * and then merges them together using the {@code mergingDec} method.
      * <ul>
-     *     <li>The method takes an array of {@code Comparable} objects, denoted by {@code array},
-     *     and the indices {@code left} is <i>0</i>, {@code mid} is {@code (array.length / 2)}, and {@code right}
-     *     is {@code (array.length - 1)} that define the portion of the array to be sorted.</li>
-     *     <li>The condition {@code if (left < right)} checks if the portion of the array has more than one element.
-     *     If so, it proceeds with the merge sort algorithm.</li>
-     *     <li>Inside the condition, the method recursively calls itself to sort the left and right halves of the
-     *     portion.</li>
-     *     <li>The first recursive call {@code mergeDec(array, left, ((left + mid) / 2), mid)} divides the left half of
-     *     the portion by updating the {@code mid} index to be the midpoint between {@code left} and {@code mid}.</li>
-     *     <li>The second recursive call {@code mergeDec(array, (mid + 1), (((mid + 1) + right) / 2), right)} divides
-     *     the right half of the portion by updating the {@code mid} index to be the midpoint between {@code (mid + 1)}
-     *     and {@code right}.</li>
-     *     <li>After the recursive calls, the {@code mergingDec} method is called to merge the two sorted halves
-     *     together.
-     *     The {@code mergingDec} method takes the {@code array}, {@code left}, {@code mid}, and {@code right} indices
-     *     as arguments.</li>
-     *     <li>The overall effect of the {@code mergeDec} method is to recursively divide the array into greater
-     *     subarrays until they consist of individual elements.
-     *     Then, it merges and sorts these individual elements to gradually build the sorted array.</li>
+     *     <li>A single scratch array is borrowed from the arena of {@code scratch} for the whole sort.</li>
+     *     <li>The sort itself is done by {@code mergeSort}, the levels of the recursion merge alternately from the
+     *     scratch to the {@code array} and from the {@code array} to the scratch, so nothing is copied back.</li>
      * </ul>
-     * {@code mergeDec} this implementation follows the divide-and-conquer strategy of merge sort, where the array is
-     * recursively divided into smaller subarrays,
-     * sorted individually, and then merged back together.
+     * {@code mergeDec} borrows one array per sort, however deep the recursion is.
      * @param       array to be arranged.
-     * @see         MergeInterface#mergeDec(Comparable[], int, int, int)
+     * @see         MergeInterface#mergeSort(Comparable[], SortFunctional)
      */
+    @SuppressWarnings("unchecked")
     default void mergeDec(T[] array) {
-        mergeDec(array, 0, (array.length / 2), (array.length - 1));
+        mergeSort(array, (a, b) -> a.compareTo(b) < 0);
     }
 
     /**
-     * {@code merge} method merge takes an array {@code array},
-     * as the {@code mz.SortFunctional} as parameters for custom sorting logic.
+     * {@code merge} that performs a Merge Sort on an array of {@link java.lang.Comparable Comparable} objects in
+     * the order of the {@code functional}.
      * <ul>
-     *     <li>The method begins with a base case check:
-     *     if <i>0</i> is less than {@code array.length}, the sorting operation continues.</li>
-     *     <li>Inside the base case, the {@code merge} method is recursively called three times:</li>
-     *     <li>The first recursive call is made with the indices <i>0</i>, {@code (array.length / 2)}
-     *     which splits the left half of the array recursively.</li>
-     *     <li>The second recursive call is made with the indices {@code ((array.length / 2) + 1)},
-     *     {@code ((((array.length / 2) + 1) + right) / 2)}, {@code array.length},
-     *     which splits the right half of the array recursively.</li>
-     *     <li>The third recursive call is made to the {@code merging} method with the original indices <i>0</i>,
-     *     {@code (array.length / 2)}, and {@code array.length}.
-     *     This is the merge step where two sorted subarrays (from <i>0</i> to {@code (array.length / 2)}
-     *     and from {@code ((array.length / 2) + 1)} to {@code array.length})
-     *     are merged into a single sorted array using the provided sorting logic.</li>
-     *     <li>The recursion continues until the base case is reached, where <i>0</i> is no longer less than
-     *     {@code array.length}.
-     *     At this point, the recursion unwinds,
-     *     and the merge operations are performed for each level of recursion until the original array is completely
-     *     sorted.</li>
+     *     <li>A single scratch array is borrowed from the arena of {@code scratch} for the whole sort.</li>
+     *     <li>The sort itself is done by {@code mergeSort}, the levels of the recursion merge alternately from the
+     *     scratch to the {@code array} and from the {@code array} to the scratch, so nothing is copied back.</li>
      * </ul>
-     * merge two sorted subarrays into a single sorted array according to the intended sorting logic.
+     * {@code merge} borrows one array per sort, however deep the recursion is.
      * @param       array to be arranged.
      * @param       functional lambda expression for comparison.
-     * @see         MergeInterface#merge(Comparable[], int, int, int, SortFunctional)
+     * @see         MergeInterface#mergeSort(Comparable[], SortFunctional)
      */
     default void merge(T[] array, SortFunctional<T> functional) {
-        merge(array, 0, (array.length / 2), (array.length - 1), functional);
+        mergeSort(array, functional);
     }
 
     /**
@@ -147,6 +94,7 @@ public interface MergeInterface<T extends Comparable>
      * {@code mergeInc} this implementation follows the divide-and-conquer strategy of merge sort, where the array is
      * recursively divided into smaller subarrays,
      * sorted individually, and then merged back together.
+     * The merges share a single scratch array, borrowed from the arena of {@code scratch} once per sort.
      * @param       array to be arranged.
      * @param       left from the array, index value, must be smaller than the {@code mid} and {@code right} value.
      * @param       mid from the array, index value, must be smaller than the {@code right} value, and must be greater
@@ -154,11 +102,31 @@ public interface MergeInterface<T extends Comparable>
      * @param       right from the array, index value, must be greater than the {@code left} and {@code mid} value.
      * @see         MergeInterface#mergingInc(Comparable[], int, int, int)
      */
+    @SuppressWarnings("unchecked")
     default void mergeInc(T[] array, int left, int mid, int right) {
         if (left < right) {
-            mergeInc(array, left, ((left + mid) / 2), mid);
-            mergeInc(array, (mid + 1), (((mid + 1) + right) / 2), right);
-            mergingInc(array, left, mid, right);
+            T[] buffer = (T[]) scratch().borrow((right + 1));
+            mergeInc(array, left, mid, right, buffer);
+            scratch().release(buffer, (right + 1));
+        }
+    }
+
+    /**
+     * {@code mergeInc} performs the Merge Sort of {@code mergeInc(array, left, mid, right)} in increasing order,
+     * every merge holds its left portion in the {@code buffer} at the same indices.
+     * @param       array to be arranged.
+     * @param       left from the array, index value, must be smaller than the {@code mid} and {@code right} value.
+     * @param       mid from the array, index value, must be smaller than the {@code right} value, and must be greater
+     *                 than the {@code left}.
+     * @param       right from the array, index value, must be greater than the {@code left} and {@code mid} value.
+     * @param       buffer an auxiliary array longer than {@code right}.
+     * @see         MergeInterface#mergingInc(Comparable[], int, int, int, Comparable[])
+     */
+    default void mergeInc(T[] array, int left, int mid, int right, T[] buffer) {
+        if (left < right) {
+            mergeInc(array, left, ((left + mid) / 2), mid, buffer);
+            mergeInc(array, (mid + 1), (((mid + 1) + right) / 2), right, buffer);
+            mergingInc(array, left, mid, right, buffer);
         }
     }
 
@@ -191,6 +159,7 @@ public interface MergeInterface<T extends Comparable>
      * {@code mergeDec} this implementation follows the divide-and-conquer strategy of merge sort, where the array is
      * recursively divided into smaller subarrays,
      * sorted individually, and then merged back together.
+     * The merges share a single scratch array, borrowed from the arena of {@code scratch} once per sort.
      * @param       array to be arranged.
      * @param       left from the array, index value, must be smaller than the {@code mid} and {@code right} value.
      * @param       mid from the array, index value, must be smaller than the {@code right} value, and must be greater
@@ -198,11 +167,31 @@ public interface MergeInterface<T extends Comparable>
      * @param       right from the array, index value, must be greater than the {@code left} and {@code mid} value.
      * @see         MergeInterface#mergingDec(Comparable[], int, int, int)
      */
+    @SuppressWarnings("unchecked")
     default void mergeDec(T[] array, int left, int mid, int right) {
         if (left < right) {
-            mergeDec(array, left, ((left + mid) / 2), mid);
-            mergeDec(array, (mid + 1), (((mid + 1) + right) / 2), right);
-            mergingDec(array, left, mid, right);
+            T[] buffer = (T[]) scratch().borrow((right + 1));
+            mergeDec(array, left, mid, right, buffer);
+            scratch().release(buffer, (right + 1));
+        }
+    }
+
+    /**
+     * {@code mergeDec} performs the Merge Sort of {@code mergeDec(array, left, mid, right)} in decreasing order,
+     * every merge holds its left portion in the {@code buffer} at the same indices.
+     * @param       array to be arranged.
+     * @param       left from the array, index value, must be smaller than the {@code mid} and {@code right} value.
+     * @param       mid from the array, index value, must be smaller than the {@code right} value, and must be greater
+     *                 than the {@code left}.
+     * @param       right from the array, index value, must be greater than the {@code left} and {@code mid} value.
+     * @param       buffer an auxiliary array longer than {@code right}.
+     * @see         MergeInterface#mergingDec(Comparable[], int, int, int, Comparable[])
+     */
+    default void mergeDec(T[] array, int left, int mid, int right, T[] buffer) {
+        if (left < right) {
+            mergeDec(array, left, ((left + mid) / 2), mid, buffer);
+            mergeDec(array, (mid + 1), (((mid + 1) + right) / 2), right, buffer);
+            mergingDec(array, left, mid, right, buffer);
         }
     }
 
@@ -231,6 +220,7 @@ public interface MergeInterface<T extends Comparable>
      *     sorted.</li>
      * </ul>
      * merge two sorted subarrays into a single sorted array according to the intended sorting logic.
+     * The merges share a single scratch array, borrowed from the arena of {@code scratch} once per sort.
      * @param       array to be arranged.
      * @param       left from the array, index value, must be smaller than the {@code mid} and {@code right} value.
      * @param       mid from the array, index value, must be smaller than the {@code right} value, and must be greater
@@ -239,11 +229,33 @@ public interface MergeInterface<T extends Comparable>
      * @param       functional lambda expression for comparison.
      * @see         MergeInterface#merging(Comparable[], int, int, int, SortFunctional)
      */
+    @SuppressWarnings("unchecked")
     default void merge(T[] array, int left, int mid, int right, SortFunctional<T> functional) {
         if (left < right) {
-            merge(array, left, ((left + mid) / 2), mid, functional);
-            merge(array, (mid + 1), (((mid + 1) + right) / 2), right, functional);
-            merging(array, left, mid, right, functional);
+            T[] buffer = (T[]) scratch().borrow((right + 1));
+            merge(array, left, mid, right, buffer, functional);
+            scratch().release(buffer, (right + 1));
+        }
+    }
+
+    /**
+     * {@code merge} performs the Merge Sort of {@code merge(array, left, mid, right, functional)}
+     * in the order of the {@code functional},
+     * every merge holds its left portion in the {@code buffer} at the same indices.
+     * @param       array to be arranged.
+     * @param       left from the array, index value, must be smaller than the {@code mid} and {@code right} value.
+     * @param       mid from the array, index value, must be smaller than the {@code right} value, and must be greater
+     *                 than the {@code left}.
+     * @param       right from the array, index value, must be greater than the {@code left} and {@code mid} value.
+     * @param       buffer an auxiliary array longer than {@code right}.
+     * @param       functional lambda expression for comparison.
+     * @see         MergeInterface#merging(Comparable[], int, int, int, Comparable[], SortFunctional)
+     */
+    default void merge(T[] array, int left, int mid, int right, T[] buffer, SortFunctional<T> functional) {
+        if (left < right) {
+            merge(array, left, ((left + mid) / 2), mid, buffer, functional);
+            merge(array, (mid + 1), (((mid + 1) + right) / 2), right, buffer, functional);
+            merging(array, left, mid, right, buffer, functional);
         }
     }
 
@@ -268,19 +280,17 @@ public interface MergeInterface<T extends Comparable>
      * {@code mergeInc} method performs an iterative bottom-up merge sort by repeatedly merging subarrays of
      * increasing sizes until the entire array is sorted.
      * It utilizes the {@code mergingInc} method to perform the merging operation.
+     * The merges share a single scratch array, borrowed from the arena of {@code scratch} once per sort.
      * @param       array The array to be sorted.
      * @param       left The starting index of the subarray to be sorted.
      * @param       right The ending index (exclusive) of the subarray to be sorted.
      * @see         MergeInterface#mergingInc(Comparable[], int, int, int)
      */
+    @SuppressWarnings("unchecked")
     default void mergeInc(T[] array, int left, int right) {
-        while (left < right) {
-            for (int i = 0; i < right; i += (left * 2)) {
-                int mid = (i + left - 1), end = Math.min((i + (left * 2) - 1), (right - 1));
-                mergingInc(array, i, mid, end);
-            }
-            left *= 2;
-        }
+        T[] buffer = (T[]) scratch().borrow(right);
+        mergeInc(array, left, right, buffer);
+        scratch().release(buffer, right);
     }
 
     /**
@@ -304,19 +314,17 @@ public interface MergeInterface<T extends Comparable>
      * {@code mergeDec} method performs an iterative bottom-up merge sort by repeatedly merging subarrays of
      * increasing sizes until the entire array is sorted.
      * It utilizes the {@code mergingDec} method to perform the merging operation.
+     * The merges share a single scratch array, borrowed from the arena of {@code scratch} once per sort.
      * @param       array The array to be sorted.
      * @param       left The starting index of the subarray to be sorted.
      * @param       right The ending index (exclusive) of the subarray to be sorted.
      * @see         MergeInterface#mergingDec(Comparable[], int, int, int)
      */
+    @SuppressWarnings("unchecked")
     default void mergeDec(T[] array, int left, int right) {
-        while (left < right) {
-            for (int i = 0; i < right; i += (left * 2)) {
-                int mid = (i + left - 1), end = Math.min((i + (left * 2) - 1), (right - 1));
-                mergingDec(array, i, mid, end);
-            }
-            left *= 2;
-        }
+        T[] buffer = (T[]) scratch().borrow(right);
+        mergeDec(array, left, right, buffer);
+        scratch().release(buffer, right);
     }
 
     /**
@@ -347,20 +355,18 @@ public interface MergeInterface<T extends Comparable>
      *     indicating that the entire array has been sorted.</li>
      * </ul>
      * For merging two sorted array segments according to the chosen sorting logic.
+     * The merges share a single scratch array, borrowed from the arena of {@code scratch} once per sort.
      * @param       array The array to be sorted.
      * @param       left The starting index of the subarray to be sorted.
      * @param       right The ending index (exclusive) of the subarray to be sorted.
      * @param       functional lambda expression for comparison.
      * @see         MergeInterface#merging(Comparable[], int, int, int, SortFunctional)
      */
+    @SuppressWarnings("unchecked")
     default void merge(T[] array, int left, int right, SortFunctional<T> functional) {
-        while (left < right) {
-            for (int i = 0; i < right; i += (left * 2)) {
-                int mid = (i + left - 1), end = Math.min((i + (left * 2) - 1), (right - 1));
-                merging(array, i, mid, end, functional);
-            }
-            left *= 2;
-        }
+        T[] buffer = (T[]) scratch().borrow(right);
+        merge(array, left, right, buffer, functional);
+        scratch().release(buffer, right);
     }
 
     /**
@@ -809,368 +815,490 @@ public interface MergeInterface<T extends Comparable>
     }
 
     /**
-     * {@code mergingInc} that performs a merging operation for the purpose of merging two sorted portions of an array
-     * into a single sorted portion.
-     * The method assumes that the left portion of the array, from index {@code left} to {@code mid}, and the
-     * {@code right} portion,
-     * from index {@code (mid + 1)} to {@code right}, are already sorted in increasing order.
+     * {@code mergingInc} merges two sorted portions of an array into a single sorted portion in increasing order,
+     * the left portion from index {@code left} to {@code mid}, and the right portion from index {@code (mid + 1)}
+     * to {@code right}.
      * <ul>
-     *     <li>The {@link java.lang.SuppressWarnings @SuppressWarnings}{@code ("unchecked")} annotation is used to
-     *     suppress compiler
-     *     warnings related to unchecked type casting when using the {@code compareTo} method.
-     *     This annotation is not directly related to the functionality of the method but rather a way to handle
-     *     warnings.</li>
-     *     <li>The method starts by checking if the indices {@code left}, {@code mid}, and {@code right} are within
-     *     valid bounds.
-     *     If the {@code condition left > mid || mid + 1 > right} is true, it means that either the left portion or
-     *     the right portion is empty or the indices are not properly specified.
-     *     In such cases, the method returns without performing any merging.</li>
-     *     <li>The variables {@code n1} and {@code n2} are assigned the sizes of the left and right portions,
-     *     respectively.</li>
-     *     <li>Two new arrays, {@code leftArray} and {@code rightArray}, are created using the
-     *     {@link java.util.Arrays#copyOfRange(Object[], int, int) Arrays.copyOfRange} method.
-     *     These arrays contain copies of the respective portions of the original {@code array}.</li>
-     *     <li>The variables {@code i} and {@code j} are used as indices to iterate over {@code leftArray} and
-     *     {@code rightArray}, respectively.</li>
-     *     <li>The variable {@code k} is used as an index to update the {@code array} with the merged elements.</li>
-     *     <li>The subsequent {@code while} loop continues as long as both {@code i} and {@code j} are within their
-     *     respective array sizes, {@code n1} and {@code n2}.
-     *     It compares the elements at indices {@code i} and {@code j} of {@code leftArray} and {@code rightArray},
-     *     respectively, and assigns the smaller element to {@code array[k]}.
-     *     The corresponding index ({@code i} or {@code j}) and {@code k} are incremented accordingly.</li>
-     *     <li>After the {@code while} loop, there might still be remaining elements in either {@code leftArray} or
-     *     {@code rightArray}.
-     *     The next two {@code while} loops handle the remaining elements by copying them into array starting from index
-     *     {@code k}.</li>
-     *     <li>Finally, the merging operation is complete, and the merged sorted portion is stored in the original
-     *     {@code array} from index {@code left} to {@code right}.</li>
+     *     <li>If either portion is empty, or the last element of the left portion does not go after the first element
+     *     of the right portion, the portions are already in order, and the method returns after one comparison.</li>
+     *     <li>If the first element of the left portion goes after the last element of the right portion,
+     *     the portions are in reversed order, and they are swapped by a rotation without further comparisons.</li>
+     *     <li>Otherwise the portions are merged by {@code gallopMerging}, that switches to exponential and binary
+     *     search when one side wins repeatedly.</li>
      * </ul>
-     * {@code mergingInc} method is commonly used as part of merge sort algorithms to merge two sorted portions of an
-     * array into a single sorted portion.
+     * {@code mergingInc} is stable, on equal elements the element of the left portion is placed first.
+     * The left portion is held in a scratch array borrowed from the arena of {@code scratch} for this merge,
+     * the sorts borrow one array per sort and pass it to the variant with a {@code buffer}.
      * @param       array to be arranged.
      * @param       left from the array, index value, must be smaller than the {@code mid} and {@code right} value.
      * @param       mid from the array, index value, must be smaller than the {@code right} value, and must be greater
      *                  than the {@code left}.
      * @param       right from the array, index value, must be greater than the {@code left} and {@code mid} value.
+     * @see         MergeInterface#gallopMerging(Comparable[], int, int, int, Comparable[], SortFunctional)
      */
     @SuppressWarnings("unchecked")
     default void mergingInc(T[] array, int left, int mid, int right) {
-        if ((left > mid) || ((mid + 1) > right)) {
-            return;
-        }
-        int n1 = (mid - left + 1), n2 = (right - mid), i = 0, j = 0, k = left;
-        T[] leftArray = Arrays.copyOfRange(array, left, (mid + 1));
-        T[] rightArray = Arrays.copyOfRange(array, (mid + 1), (right + 1));
-        while (i < n1 && j < n2) {
-            if (rightArray[j].compareTo(leftArray[i]) > 0) {
-                array[k] = leftArray[i++];
-            } else {
-                array[k] = rightArray[j++];
-            }
-            k++;
-        }
-        while (i < n1) {
-            array[k++] = leftArray[i++];
-        }
-        while (j < n2) {
-            array[k++] = rightArray[j++];
-        }
+        T[] buffer = (T[]) scratch().borrow((right + 1));
+        gallopMerging(array, left, mid, right, buffer, (a, b) -> a.compareTo(b) > 0);
+        scratch().release(buffer, (right + 1));
     }
 
     /**
-     * {@code mergingDec} that performs a merging operation for the purpose of merging two sorted portions of an array
-     * into a single sorted portion.
-     * The method assumes that the left portion of the array, from index {@code left} to {@code mid}, and the
-     * {@code right} portion,
-     * from index {@code (mid + 1)} to {@code right}, are already sorted in increasing order.
+     * {@code mergingDec} merges two sorted portions of an array into a single sorted portion in decreasing order,
+     * the left portion from index {@code left} to {@code mid}, and the right portion from index {@code (mid + 1)}
+     * to {@code right}.
      * <ul>
-     *     <li>The {@link java.lang.SuppressWarnings @SuppressWarnings}{@code ("unchecked")} annotation is used to
-     *     suppress compiler
-     *     warnings related to unchecked type casting when using the {@code compareTo} method.
-     *     This annotation is not directly related to the functionality of the method but rather a way to handle
-     *     warnings.</li>
-     *     <li>The method starts by checking if the indices {@code left}, {@code mid}, and {@code right} are within
-     *     valid bounds.
-     *     If the {@code condition left > mid || mid + 1 > right} is true, it means that either the left portion or
-     *     the right portion is empty or the indices are not properly specified.
-     *     In such cases, the method returns without performing any merging.</li>
-     *     <li>The variables {@code n1} and {@code n2} are assigned the sizes of the left and right portions,
-     *     respectively.</li>
-     *     <li>Two new arrays, {@code leftArray} and {@code rightArray}, are created using the
-     *     {@link java.util.Arrays#copyOfRange(Object[], int, int) Arrays.copyOfRange} method.
-     *     These arrays contain copies of the respective portions of the original {@code array}.</li>
-     *     <li>The variables {@code i} and {@code j} are used as indices to iterate over {@code leftArray} and
-     *     {@code rightArray}, respectively.</li>
-     *     <li>The variable {@code k} is used as an index to update the {@code array} with the merged elements.</li>
-     *     <li>The subsequent {@code while} loop continues as long as both {@code i} and {@code j} are within their
-     *     respective array sizes, {@code n1} and {@code n2}.
-     *     It compares the elements at indices {@code i} and {@code j} of {@code leftArray} and {@code rightArray},
-     *     respectively, and assigns the greater element to {@code array[k]}.
-     *     The corresponding index ({@code i} or {@code j}) and {@code k} are incremented accordingly.</li>
-     *     <li>After the {@code while} loop, there might still be remaining elements in either {@code leftArray} or
-     *     {@code rightArray}.
-     *     The next two {@code while} loops handle the remaining elements by copying them into array starting from
-     *     index {@code k}.</li>
-     *     <li>Finally, the merging operation is complete, and the merged sorted portion is stored in the original
-     *     {@code array} from index {@code left} to {@code right}.</li>
+     *     <li>If either portion is empty, or the last element of the left portion does not go after the first element
+     *     of the right portion, the portions are already in order, and the method returns after one comparison.</li>
+     *     <li>If the first element of the left portion goes after the last element of the right portion,
+     *     the portions are in reversed order, and they are swapped by a rotation without further comparisons.</li>
+     *     <li>Otherwise the portions are merged by {@code gallopMerging}, that switches to exponential and binary
+     *     search when one side wins repeatedly.</li>
      * </ul>
-     * {@code mergingDec} method is commonly used as part of merge sort algorithms to merge two sorted portions of an
-     * array into a single sorted portion.
+     * {@code mergingDec} is stable, on equal elements the element of the left portion is placed first.
+     * The left portion is held in a scratch array borrowed from the arena of {@code scratch} for this merge,
+     * the sorts borrow one array per sort and pass it to the variant with a {@code buffer}.
      * @param       array to be arranged.
      * @param       left from the array, index value, must be smaller than the {@code mid} and {@code right} value.
      * @param       mid from the array, index value, must be smaller than the {@code right} value, and must be greater
-     *                 than the {@code left}.
+     *                  than the {@code left}.
      * @param       right from the array, index value, must be greater than the {@code left} and {@code mid} value.
+     * @see         MergeInterface#gallopMerging(Comparable[], int, int, int, Comparable[], SortFunctional)
      */
     @SuppressWarnings("unchecked")
     default void mergingDec(T[] array, int left, int mid, int right) {
-        if ((left > mid) || ((mid + 1) > right)) {
-            return;
-        }
-        int n1 = (mid - left + 1), n2 = (right - mid), i = 0, j = 0, k = left;
-        T[] leftArray = Arrays.copyOfRange(array, left, (mid + 1));
-        T[] rightArray = Arrays.copyOfRange(array, (mid + 1), (right + 1));
-        while (i < n1 && j < n2) {
-            if (rightArray[j].compareTo(leftArray[i]) < 0) {
-                array[k] = leftArray[i++];
-            } else {
-                array[k] = rightArray[j++];
-            }
-            k++;
-        }
-        while (i < n1) {
-            array[k++] = leftArray[i++];
-        }
-        while (j < n2) {
-            array[k++] = rightArray[j++];
-        }
+        T[] buffer = (T[]) scratch().borrow((right + 1));
+        gallopMerging(array, left, mid, right, buffer, (a, b) -> a.compareTo(b) < 0);
+        scratch().release(buffer, (right + 1));
     }
 
     /**
-     * {@code merging} that performs a merging operation for the purpose of merging two sorted portions of an array into
-     * a single sorted portion.
-     * The method assumes that the left portion of the array, from index {@code left} to {@code mid}, and the
-     * {@code right} portion,
-     * from index {@code (mid + 1)} to {@code right},
-     * and an instance of {@code mz.SortFunctional<T>} as parameters,
-     * are already sorted in increasing order.
+     * {@code merging} merges two sorted portions of an array into a single sorted portion
+     * in the order of the {@code functional},
+     * the left portion from index {@code left} to {@code mid}, and the right portion from index {@code (mid + 1)}
+     * to {@code right}.
      * <ul>
-     *     <li>{@code merging} method now includes an additional check at the beginning.
-     *     If the condition {@code (left > mid) || ((mid + 1) > right)} is satisfied,
-     *     it means that either the left subarray is empty or the right subarray is empty,
-     *     indicating that there is no need to perform the merging. In such cases, the method simply returns.</li>
-     *     <li>It initializes variables {@code n1} and {@code n2} to store the sizes of the left and right subarrays,
-     *     respectively.
-     *     The values are calculated as {@code (mid - left + 1)} and {@code (right - mid)}.</li>
-     *     <li>It initializes counters {@code i}, {@code j}, and {@code k} to keep track of the current indices in the
-     *     left array, right array,
-     *     and the merged array ({@code array}), respectively.
-     *     The initial value of {@code k} is set to {@code left}.</li>
-     *     <li>It creates two new arrays, {@code leftArray} and {@code rightArray},
-     *     using {@link java.lang.System#arraycopy(Object, int, Object, int, int) System.arraycopy}.
-     *     These arrays store the respective subarrays extracted from {@code array}.</li>
-     *     <li>It enters a {@code while} loop that continues as long as both {@code i} and {@code j} are within their
-     *     respective
-     *     subarray bounds ({@code (i < n1 && j < n2)}).
-     *     Within the loop, it performs the comparison using
-     *     the {@code functional} instance and assigns the smaller element to {@code array[k]}.
-     *     After assigning the element, it increments the corresponding counters ({@code i}, {@code j}, and
-     *     {@code k}).</li>
-     *     <li>After exiting the {@code while} loop, it checks if there are any remaining elements in the left subarray
-     *     {@code (i < n1)}.
-     *     If so, it copies the remaining elements to {@code array[k]} and increments both {@code i} and {@code k}.</li>
-     *     <li>Similarly, it checks if there are any remaining elements in the right subarray {@code (j < n2)}.
-     *     If so, it copies the remaining elements to {@code array[k]} and increments both {@code j} and {@code k}.</li>
+     *     <li>If either portion is empty, or the last element of the left portion does not go after the first element
+     *     of the right portion, the portions are already in order, and the method returns after one comparison.</li>
+     *     <li>If the first element of the left portion goes after the last element of the right portion,
+     *     the portions are in reversed order, and they are swapped by a rotation without further comparisons.</li>
+     *     <li>Otherwise the portions are merged by {@code gallopMerging}, that switches to exponential and binary
+     *     search when one side wins repeatedly.</li>
      * </ul>
-     * {@code merging} method merges two sorted subarrays ({@code leftArray} and {@code rightArray}) into a single
-     * sorted array ({@code array}).
-     * It compares elements using the {@code functional} instance and assigns the smaller element to {@code array[k]} at
-     * each step.
-     * The method handles cases where one of the subarrays is empty or when there are remaining elements in either
-     * the left or right subarray after the initial merging.
+     * {@code merging} is stable, on equal elements the element of the left portion is placed first.
+     * The left portion is held in a scratch array borrowed from the arena of {@code scratch} for this merge,
+     * the sorts borrow one array per sort and pass it to the variant with a {@code buffer}.
      * @param       array to be arranged.
      * @param       left from the array, index value, must be smaller than the {@code mid} and {@code right} value.
      * @param       mid from the array, index value, must be smaller than the {@code right} value, and must be greater
      *                  than the {@code left}.
      * @param       right from the array, index value, must be greater than the {@code left} and {@code mid} value.
      * @param       functional lambda expression for comparison.
+     * @see         MergeInterface#gallopMerging(Comparable[], int, int, int, Comparable[], SortFunctional)
      * @see         SortFunctional#functionalCompareTo(Comparable, Comparable)
      */
+    @SuppressWarnings("unchecked")
     default void merging(T[] array, int left, int mid, int right, SortFunctional<T> functional) {
-        if ((left > mid) || ((mid + 1) > right)) {
+        T[] buffer = (T[]) scratch().borrow((right + 1));
+        gallopMerging(array, left, mid, right, buffer, functional);
+        scratch().release(buffer, (right + 1));
+    }
+
+    /**
+     * {@code mergingInc} merges two sorted portions of an array into a single sorted portion in increasing order,
+     * the left portion from index {@code left} to {@code mid}, and the right portion from index {@code (mid + 1)}
+     * to {@code right}.
+     * <ul>
+     *     <li>If either portion is empty, or the last element of the left portion does not go after the first element
+     *     of the right portion, the portions are already in order, and the method returns after one comparison.</li>
+     *     <li>If the first element of the left portion goes after the last element of the right portion,
+     *     the portions are in reversed order, and they are swapped by a rotation without further comparisons.</li>
+     *     <li>Otherwise the portions are merged by {@code gallopMerging}, that switches to exponential and binary
+     *     search when one side wins repeatedly.</li>
+     * </ul>
+     * {@code mergingInc} is stable, on equal elements the element of the left portion is placed first.
+     * @param       array to be arranged.
+     * @param       left from the array, index value, must be smaller than the {@code mid} and {@code right} value.
+     * @param       mid from the array, index value, must be smaller than the {@code right} value, and must be greater
+     *                  than the {@code left}.
+     * @param       right from the array, index value, must be greater than the {@code left} and {@code mid} value.
+     * @param       buffer an auxiliary array, holding the left portion while it is merged.
+     * @see         MergeInterface#gallopMerging(Comparable[], int, int, int, Comparable[], SortFunctional)
+     */
+    @SuppressWarnings("unchecked")
+    default void mergingInc(T[] array, int left, int mid, int right, T[] buffer) {
+        gallopMerging(array, left, mid, right, buffer, (a, b) -> a.compareTo(b) > 0);
+    }
+
+    /**
+     * {@code mergingDec} merges two sorted portions of an array into a single sorted portion in decreasing order,
+     * the left portion from index {@code left} to {@code mid}, and the right portion from index {@code (mid + 1)}
+     * to {@code right}.
+     * <ul>
+     *     <li>If either portion is empty, or the last element of the left portion does not go after the first element
+     *     of the right portion, the portions are already in order, and the method returns after one comparison.</li>
+     *     <li>If the first element of the left portion goes after the last element of the right portion,
+     *     the portions are in reversed order, and they are swapped by a rotation without further comparisons.</li>
+     *     <li>Otherwise the portions are merged by {@code gallopMerging}, that switches to exponential and binary
+     *     search when one side wins repeatedly.</li>
+     * </ul>
+     * {@code mergingDec} is stable, on equal elements the element of the left portion is placed first.
+     * @param       array to be arranged.
+     * @param       left from the array, index value, must be smaller than the {@code mid} and {@code right} value.
+     * @param       mid from the array, index value, must be smaller than the {@code right} value, and must be greater
+     *                  than the {@code left}.
+     * @param       right from the array, index value, must be greater than the {@code left} and {@code mid} value.
+     * @param       buffer an auxiliary array, holding the left portion while it is merged.
+     * @see         MergeInterface#gallopMerging(Comparable[], int, int, int, Comparable[], SortFunctional)
+     */
+    @SuppressWarnings("unchecked")
+    default void mergingDec(T[] array, int left, int mid, int right, T[] buffer) {
+        gallopMerging(array, left, mid, right, buffer, (a, b) -> a.compareTo(b) < 0);
+    }
+
+    /**
+     * {@code merging} merges two sorted portions of an array into a single sorted portion
+     * in the order of the {@code functional},
+     * the left portion from index {@code left} to {@code mid}, and the right portion from index {@code (mid + 1)}
+     * to {@code right}.
+     * <ul>
+     *     <li>If either portion is empty, or the last element of the left portion does not go after the first element
+     *     of the right portion, the portions are already in order, and the method returns after one comparison.</li>
+     *     <li>If the first element of the left portion goes after the last element of the right portion,
+     *     the portions are in reversed order, and they are swapped by a rotation without further comparisons.</li>
+     *     <li>Otherwise the portions are merged by {@code gallopMerging}, that switches to exponential and binary
+     *     search when one side wins repeatedly.</li>
+     * </ul>
+     * {@code merging} is stable, on equal elements the element of the left portion is placed first.
+     * @param       array to be arranged.
+     * @param       left from the array, index value, must be smaller than the {@code mid} and {@code right} value.
+     * @param       mid from the array, index value, must be smaller than the {@code right} value, and must be greater
+     *                  than the {@code left}.
+     * @param       right from the array, index value, must be greater than the {@code left} and {@code mid} value.
+     * @param       buffer an auxiliary array, holding the left portion while it is merged.
+     * @param       functional lambda expression for comparison.
+     * @see         MergeInterface#gallopMerging(Comparable[], int, int, int, Comparable[], SortFunctional)
+     */
+    default void merging(T[] array, int left, int mid, int right, T[] buffer, SortFunctional<T> functional) {
+        gallopMerging(array, left, mid, right, buffer, functional);
+    }
+
+    /**
+     * {@code gallopMerging} merges two sorted portions of an array into a single sorted portion,
+     * the left portion from index {@code left} to {@code mid}, and the right portion from index {@code (mid + 1)}
+     * to {@code right}, in the order of the {@code functional}.
+     * <ul>
+     *     <li>If the last element of the left portion does not go after the first element of the right portion,
+     *     the portions are already in order, nothing is moved.</li>
+     *     <li>If the first element of the left portion goes after the last element of the right portion,
+     *     the portions are swapped by {@code rotate}.</li>
+     *     <li>The elements of the left portion, that do not go after the first element of the right portion,
+     *     are already in place, they are cut off by {@code gallopAfter}.
+     *     The elements of the right portion, left after the last element of the left portion, are also in place,
+     *     they are never moved.</li>
+     *     <li>Only the rest of the left portion is copied, to the {@code buffer} at the same indices,
+     *     nothing is allocated by the merge.</li>
+     *     <li>The elements are merged one by one, while one side wins {@code minGallop} times in a row.
+     *     Then the merge gallops: the run of each side is found by exponential and binary search,
+     *     and moved by {@link java.lang.System#arraycopy(Object, int, Object, int, int) System.arraycopy},
+     *     until both runs are shorter than {@code minGallop}.</li>
+     * </ul>
+     * {@code gallopMerging} is stable, on equal elements the element of the left portion is placed first.
+     * On interleaved portions it makes about the same comparisons as the one by one merge,
+     * on portions merging in long blocks only <em>log</em> comparisons per block.
+     * @param       array to be arranged.
+     * @param       left from the array, index value, must be smaller than the {@code mid} and {@code right} value.
+     * @param       mid from the array, index value, must be smaller than the {@code right} value, and must be greater
+     *                  than the {@code left}.
+     * @param       right from the array, index value, must be greater than the {@code left} and {@code mid} value.
+     * @param       buffer an auxiliary array longer than {@code right}.
+     * @param       functional lambda expression for comparison.
+     * @see         MergeInterface#minGallop()
+     * @see         MergeInterface#gallopAfter(Comparable[], int, int, Comparable, SortFunctional)
+     * @see         MergeInterface#gallopBefore(Comparable[], int, int, Comparable, SortFunctional)
+     */
+    @SuppressWarnings("unchecked")
+    default void gallopMerging(T[] array, int left, int mid, int right, T[] buffer, SortFunctional<T> functional) {
+        if ((left > mid) || ((mid + 1) > right) || !functional.functionalCompareTo(array[mid], array[(mid + 1)])) {
             return;
         }
-        int n1 = (mid - left + 1), n2 = (right - mid), i = 0, j = 0, k = left;
-        T[] leftArray = Arrays.copyOfRange(array, left, (mid + 1));
-        T[] rightArray = Arrays.copyOfRange(array, (mid + 1), (right + 1));
-        while (i < n1 && j < n2) {
-            if (functional.functionalCompareTo(rightArray[j], leftArray[i])) {
-                array[k] = leftArray[i++];
+        if (((left == mid) && (right == (mid + 1))) || functional.functionalCompareTo(array[left], array[right])) {
+            rotate(array, left, mid, right);
+            return;
+        }
+        left = gallopAfter(array, left, mid, array[(mid + 1)], functional);
+        int n1 = (mid - left + 1), i, j = (mid + 1), k = left, minGallop = minGallop();
+        T[] leftArray = buffer;
+        System.arraycopy(array, left, leftArray, left, n1);
+        i = left;
+        int end = (i + n1);
+        while ((i < end) && (j <= right)) {
+            int leftWins = 0, rightWins = 0;
+            while ((i < end) && (j <= right) && (leftWins < minGallop) && (rightWins < minGallop)) {
+                if (functional.functionalCompareTo(leftArray[i], array[j])) {
+                    array[k++] = array[j++];
+                    rightWins++;
+                    leftWins = 0;
+                } else {
+                    array[k++] = leftArray[i++];
+                    leftWins++;
+                    rightWins = 0;
+                }
+            }
+            while ((i < end) && (j <= right) && ((leftWins >= minGallop) || (rightWins >= minGallop))) {
+                int last = gallopAfter(leftArray, i, end, array[j], functional);
+                leftWins = (last - i);
+                System.arraycopy(leftArray, i, array, k, leftWins);
+                k += leftWins;
+                i = last;
+                if (i < end) {
+                    last = gallopBefore(array, j, (right + 1), leftArray[i], functional);
+                    rightWins = (last - j);
+                    System.arraycopy(array, j, array, k, rightWins);
+                    k += rightWins;
+                    j = last;
+                }
+            }
+        }
+        System.arraycopy(leftArray, i, array, k, (end - i));
+    }
+
+    /**
+     * {@code minGallop} returns the number of wins in a row of one side, after which the {@code gallopMerging}
+     * switches from the one by one merge to galloping.
+     * @return      the number of wins in a row before galloping, <i>7</i> by default.
+     * @see         MergeInterface#gallopMerging(Comparable[], int, int, int, Comparable[], SortFunctional)
+     */
+    default int minGallop() {
+        return 7;
+    }
+
+    /**
+     * {@code gallopAfter} finds the first element of a sorted range, that goes after the {@code key}.
+     * The indices {@code from}, {@code (from + 1)}, {@code (from + 3)}, {@code (from + 7)}, ... are checked
+     * until one goes after the {@code key}, then the last gap is searched by binary search,
+     * so a run of {@code r} elements is found by about {@code 2 log(r)} comparisons.
+     * @param       array the sorted elements.
+     * @param       from the first index of the range.
+     * @param       to the end of the range (exclusive).
+     * @param       key the element searched.
+     * @param       functional lambda expression for comparison.
+     * @return      the index of the first element that goes after the {@code key}, or {@code to} if there is none.
+     */
+    default int gallopAfter(T[] array, int from, int to, T key, SortFunctional<T> functional) {
+        int low = from, high = from, offset = 0, length = (to - from);
+        while ((high < to) && !functional.functionalCompareTo(array[high], key)) {
+            low = (high + 1);
+            offset = (offset >= (length >> 1)) ? length : ((offset << 1) + 1);
+            high = (from + offset);
+        }
+        while (low < high) {
+            int middle = ((low + high) >>> 1);
+            if (functional.functionalCompareTo(array[middle], key)) {
+                high = middle;
             } else {
-                array[k] = rightArray[j++];
+                low = (middle + 1);
             }
-            k++;
         }
-        while (i < n1) {
-            array[k++] = leftArray[i++];
+        return low;
+    }
+
+    /**
+     * {@code gallopBefore} finds the first element of a sorted range, that does not go before the {@code key}.
+     * The indices {@code from}, {@code (from + 1)}, {@code (from + 3)}, {@code (from + 7)}, ... are checked
+     * until one does not go before the {@code key}, then the last gap is searched by binary search,
+     * so a run of {@code r} elements is found by about {@code 2 log(r)} comparisons.
+     * @param       array the sorted elements.
+     * @param       from the first index of the range.
+     * @param       to the end of the range (exclusive).
+     * @param       key the element searched.
+     * @param       functional lambda expression for comparison.
+     * @return      the index of the first element that does not go before the {@code key},
+     *              or {@code to} if there is none.
+     */
+    default int gallopBefore(T[] array, int from, int to, T key, SortFunctional<T> functional) {
+        int low = from, high = from, offset = 0, length = (to - from);
+        while ((high < to) && functional.functionalCompareTo(key, array[high])) {
+            low = (high + 1);
+            offset = (offset >= (length >> 1)) ? length : ((offset << 1) + 1);
+            high = (from + offset);
+        }
+        while (low < high) {
+            int middle = ((low + high) >>> 1);
+            if (functional.functionalCompareTo(key, array[middle])) {
+                low = (middle + 1);
+            } else {
+                high = middle;
+            }
         }
-        while (j < n2) {
-            array[k++] = rightArray[j++];
+        return low;
+    }
+
+    /**
+     * {@code rotate} moves the portion from index {@code (mid + 1)} to {@code right} before the portion from index
+     * {@code left} to {@code mid}, keeping the order within both portions, without comparisons.
+     * The two portions are reversed one by one, then the whole range is reversed,
+     * every element is moved twice, and nothing is allocated.
+     * @param       array to be arranged.
+     * @param       left the first index of the first portion.
+     * @param       mid the last index of the first portion.
+     * @param       right the last index of the second portion.
+     * @see         MergeInterface#reverse(Comparable[], int, int)
+     */
+    default void rotate(T[] array, int left, int mid, int right) {
+        reverse(array, left, mid);
+        reverse(array, (mid + 1), right);
+        reverse(array, left, right);
+    }
+
+    /**
+     * {@code reverse} reverses the order of the elements from index {@code left} to {@code right}.
+     * @param       array to be arranged.
+     * @param       left the first index of the range.
+     * @param       right the last index of the range.
+     */
+    default void reverse(T[] array, int left, int right) {
+        while (left < right) {
+            T temp = array[left];
+            array[left++] = array[right];
+            array[right--] = temp;
         }
     }
 
     /**
-     * {@code mergingInc} method for merging two sorted subarrays within an array using the merge sort algorithm.
+     * {@code mergeSort} arranges the array in the order of the {@code functional},
+     * with a scratch array borrowed from the arena of {@code scratch}.
      * <ul>
-     *     <li>{@link java.lang.SuppressWarnings @SuppressWarnings}{@code ("unchecked")}: This annotation suppresses
-     *     unchecked warnings that might occur when using generics,
-     *     indicating that the code will handle any necessary type checking appropriately.</li>
-     *     <li>Initializes two pointers {@code n1} and {@code n2} to keep track of
-     *     the current positions within the subarrays to be merged.
-     *     {@code n1} is initially set to the leftmost index, and {@code n2} is set to the index immediately after the
-     *     midpoint.</li>
-     *     <li>This loop iterates from the {@code left} index to the {@code right} index (inclusive) to merge the
-     *     subarrays.</li>
-     *     <li>This condition checks if the current element at position {@code n1} in the left subarray is less than or
-     *     equal to
-     *     the current element at position {@code n2} in the right subarray.
-     *     It also checks if the {@code n2} pointer has reached the end of the right subarray.
-     *     If either of these conditions is true, the element at {@code n1} is selected for merging.</li>
-     *     <li>If the condition in the previous step is true, the element at position {@code n1} in
-     *     the left subarray is copied to the {@code buffer} array at position {@code i}.
-     *     Then, the {@code n1} pointer is incremented.</li>
-     *     <li>If the condition in step 5 is false, the element at position {@code n2} in the right subarray is selected
-     *     for merging.</li>
-     *     <li>The element at position {@code n2} in the right subarray is copied to the {@code buffer} array at
-     *     position {@code i}.
-     *     Then, the {@code n2} pointer is incremented.</li>
-     *     <li> Once the merging is complete, the merged elements in the {@code buffer} array are copied back to
-     *     the original {@code array} starting from the {@code left} index.
-     *     The number of elements to copy is {@code (right - left + 1)}.</li>
+     *     <li>The scratch array is at least as long as the {@code array}, it is reused from the earlier sorts of the
+     *     arena, or allocated if there is none.</li>
+     *     <li>The sort is done by {@code mergeSort} with the scratch array.</li>
+     *     <li>The scratch array is released after the sort, its references are cleared by the arena.
+     *     If the comparison throws, the scratch array is not released, it is left to the garbage collector.</li>
      * </ul>
-     * {@code mergingInc} this method performs the merging step of the merge sort algorithm by comparing elements from
-     * two sorted subarrays
-     * and merging them into a temporary buffer array.
-     * After the merging is complete, the merged elements are copied back
-     * {@link java.lang.System#arraycopy(Object, int, Object, int, int) System.arraycopy} to the original array.
      * @param       array to be arranged.
-     * @param       left The index of the leftmost element of the subarray to be merged.
-     * @param       mid The index of the midpoint element in the subarray to be merged.
-     * @param       right The index of the rightmost element of the subarray to be merged.
-     * @param       buffer An auxiliary array used for storing the merged elements temporarily.
+     * @param       functional lambda expression for comparison.
+     * @see         MergeInterface#mergeSort(Comparable[], Comparable[], SortFunctional)
+     * @see         SortScratch#borrow(int)
      */
     @SuppressWarnings("unchecked")
-    default void mergingInc(T[] array, int left, int mid, int right, T[] buffer) {
-        int n1 = left, n2 = (mid + 1);
-        for (int i = left; i <= right; i++) {
-            if ((n1 <= mid) && ((n2 > right) || (array[n2].compareTo(array[n1]) >= 0))) {
-                buffer[i] = array[n1++];
-            } else {
-                buffer[i] = array[n2++];
-            }
-        }
-        System.arraycopy(buffer, left, array, left, (right - left + 1));
+    default void mergeSort(T[] array, SortFunctional<T> functional) {
+        T[] buffer = (T[]) scratch().borrow(array.length);
+        mergeSort(array, buffer, functional);
+        scratch().release(buffer, array.length);
     }
 
     /**
-     * {@code mergingDec} method for merging two sorted subarrays within an array using the merge sort algorithm.
+     * {@code mergeSort} arranges the array in the order of the {@code functional},
+     * using the {@code scratch} as the only auxiliary memory.
      * <ul>
-     *     <li>{@link java.lang.SuppressWarnings @SuppressWarnings}{@code ("unchecked")}: This annotation suppresses
-     *     unchecked warnings that might occur when using generics,
-     *     indicating that the code will handle any necessary type checking appropriately.</li>
-     *     <li>Initializes two pointers {@code n1} and {@code n2} to keep track of
-     *     the current positions within the subarrays to be merged.
-     *     {@code n1} is initially set to the leftmost index, and {@code n2} is set to the index immediately after the
-     *     midpoint.</li>
-     *     <li>This loop iterates from the {@code left} index to the {@code right} index (inclusive) to merge the
-     *     subarrays.</li>
-     *     <li>This condition checks if the current element at position {@code n1} in the left subarray is more than or
-     *     equal to
-     *     the current element at position {@code n2} in the right subarray.
-     *     It also checks if the {@code n2} pointer has reached the end of the right subarray.
-     *     If either of these conditions is true, the element at {@code n1} is selected for merging.</li>
-     *     <li>If the condition in the previous step is true, the element at position {@code n1} in
-     *     the left subarray is copied to the {@code buffer} array at position {@code i}.
-     *     Then, the {@code n1} pointer is incremented.</li>
-     *     <li>If the condition in step 5 is false, the element at position {@code n2} in the right subarray is selected
-     *     for merging.</li>
-     *     <li>The element at position {@code n2} in the right subarray is copied to the {@code buffer} array at
-     *     position {@code i}.
-     *     Then, the {@code n2} pointer is incremented.</li>
-     *     <li> Once the merging is complete, the merged elements in the {@code buffer} array are copied back to
-     *     the original {@code array} starting from the {@code left} index.
-     *     The number of elements to copy is {@code (right - left + 1)}.</li>
+     *     <li>The elements are copied to the {@code scratch} once.</li>
+     *     <li>{@code mergeInto} sorts the two halves of the {@code array} into the {@code scratch},
+     *     and merges them back into the {@code array}.</li>
+     *     <li>The roles of the two arrays are swapped on every level of the recursion,
+     *     so the merged elements are never copied back.</li>
      * </ul>
-     * {@code mergingDec} this method performs the merging step of the merge sort algorithm by comparing elements from
-     * two sorted subarrays
-     * and merging them into a temporary buffer array.
-     * After the merging is complete, the merged elements are copied back
-     * {@link java.lang.System#arraycopy(Object, int, Object, int, int) System.arraycopy} to the original array.
+     * {@code mergeSort} allocates nothing, the caller can reuse the same {@code scratch} for any number of sorts.
      * @param       array to be arranged.
-     * @param       left The index of the leftmost element of the subarray to be merged.
-     * @param       mid The index of the midpoint element in the subarray to be merged.
-     * @param       right The index of the rightmost element of the subarray to be merged.
-     * @param       buffer An auxiliary array used for storing the merged elements temporarily.
+     * @param       scratch an auxiliary array at least as long as the {@code array}, its content is overwritten.
+     * @param       functional lambda expression for comparison.
+     * @see         MergeInterface#mergeInto(Comparable[], Comparable[], int, int, SortFunctional)
      */
-    @SuppressWarnings("unchecked")
-    default void mergingDec(T[] array, int left, int mid, int right, T[] buffer) {
-        int n1 = left, n2 = (mid + 1);
-        for (int i = left; i <= right; i++) {
-            if ((n1 <= mid) && ((n2 > right) || (array[n2].compareTo(array[n1]) <= 0))) {
-                buffer[i] = array[n1++];
-            } else {
-                buffer[i] = array[n2++];
-            }
+    default void mergeSort(T[] array, T[] scratch, SortFunctional<T> functional) {
+        if (array.length < 2) {
+            return;
         }
-        System.arraycopy(buffer, left, array, left, (right - left + 1));
+        System.arraycopy(array, 0, scratch, 0, array.length);
+        mergeInto(scratch, array, 0, (array.length - 1), functional);
     }
 
     /**
-     * {@code merging} method now takes additional parameters compared to the previous version:
-     * {@code buffer}, an auxiliary array of type {@code T[]},
-     * and the indices {@code left}, {@code mid}, and {@code right} that define the range of elements to be merged.
+     * {@code mergeInto} sorts the elements of the {@code source} from index {@code left} to {@code right} into the
+     * same indices of the {@code target}.
+     * Both arrays must hold the same elements in this range, the {@code source} is used as scratch.
      * <ul>
-     *     <li>It initializes two variables: {@code n1} to track the index of the current element in the left subarray,
-     *     and {@code n2} to track the index of the current element in the right subarray.</li>
-     *     <li>It creates a {@code functionalAddEquals} instance using the {@code functionalComparableToAddEquals}
-     *     method, which is responsible for defining the comparison logic for determining element order.</li>
-     *     <li>It enters a {@code for} loop that iterates over the range from {@code left} to {@code right} (inclusive).
-     *     Within the loop, it checks two conditions:</li>
-     *     <li>If {@code n1} is within the range of the left subarray and either {@code n2} is out of the range of
-     *     the right subarray or the comparison between the elements at indices {@code n2} and {@code n1} indicates that
-     *     the element in the right subarray is greater or equal,
-     *     it assigns the element from the left subarray to {@code buffer[i]} and increments {@code n1}.</li>
-     *     <li>Otherwise, it assigns the element from the right subarray to {@code buffer[i]} and increments
-     *     {@code n2}.</li>
-     *     <li>After the loop, it uses {@link java.lang.System#arraycopy(Object, int, Object, int, int)
-     *     System.arraycopy} to copy the elements from {@code buffer} back to the original {@code array},
-     *     starting from the {@code left} index and copying {@code (right - left + 1)} elements.</li>
+     *     <li>The two halves are sorted from the {@code target} into the {@code source} recursively,
+     *     with the roles of the arrays swapped.</li>
+     *     <li>The sorted halves are merged from the {@code source} into the {@code target} by
+     *     {@code mergingInto}.</li>
      * </ul>
-     * {@code merging} method merges two sorted subarrays, specified by the indices {@code left}, {@code mid}, and
-     * {@code right}, into a single sorted array {@code array}.
-     * It utilizes an auxiliary {@code buffer} array to store the merged result temporarily.
-     * The comparison logic for element order is determined by the {@code functional} instance,
-     * specifically through the {@code functionalComparableToAddEquals} method.
-     * @param       array to be arranged.
-     * @param       left The index of the leftmost element of the subarray to be merged.
-     * @param       mid The index of the midpoint element in the subarray to be merged.
-     * @param       right The index of the rightmost element of the subarray to be merged.
-     * @param       buffer An auxiliary array used for storing the merged elements temporarily.
+     * @param       source the array holding the elements, used as scratch.
+     * @param       target the array receiving the sorted elements.
+     * @param       left the first index of the range.
+     * @param       right the last index of the range.
      * @param       functional lambda expression for comparison.
-     * @see         Sort#functionalComparableToAddEquals(SortFunctional)
-     *
+     * @see         MergeInterface#mergingInto(Comparable[], int, int, int, Comparable[], SortFunctional)
      */
-    default void merging(T[] array, int left, int mid, int right, T[] buffer, SortFunctional<T> functional) {
-        int n1 = left, n2 = (mid + 1);
-        SortFunctional<T> functionalAddEquals = functionalComparableToAddEquals(functional);
-        for (int i = left; i <= right; i++) {
-            if ((n1 <= mid) && ((n2 > right) || (functionalAddEquals.functionalCompareTo(array[n2], array[n1])))) {
-                buffer[i] = array[n1++];
-            } else {
-                buffer[i] = array[n2++];
+    default void mergeInto(T[] source, T[] target, int left, int right, SortFunctional<T> functional) {
+        if (left >= right) {
+            return;
+        }
+        int mid = ((left + right) >>> 1);
+        mergeInto(target, source, left, mid, functional);
+        mergeInto(target, source, (mid + 1), right, functional);
+        mergingInto(source, left, mid, right, target, functional);
+    }
+
+    /**
+     * {@code mergingInto} merges two sorted portions of the {@code source}, the left portion from index {@code left}
+     * to {@code mid}, and the right portion from index {@code (mid + 1)} to {@code right}, into the same indices of
+     * the {@code target}.
+     * <ul>
+     *     <li>If the portions are already in order, or in reversed order, they are copied as blocks by
+     *     {@link java.lang.System#arraycopy(Object, int, Object, int, int) System.arraycopy}.</li>
+     *     <li>Otherwise the elements are merged one by one, and the merge gallops by {@code gallopAfter} and
+     *     {@code gallopBefore}, once one side wins {@code minGallop} times in a row.</li>
+     * </ul>
+     * {@code mergingInto} is stable, on equal elements the element of the left portion is placed first.
+     * The {@code source} is not modified, so nothing has to be copied before the merge.
+     * @param       source the array holding the sorted portions.
+     * @param       left the first index of the left portion.
+     * @param       mid the last index of the left portion.
+     * @param       right the last index of the right portion.
+     * @param       target the array receiving the merged elements, it must not be the {@code source}.
+     * @param       functional lambda expression for comparison.
+     * @see         MergeInterface#gallopMerging(Comparable[], int, int, int, Comparable[], SortFunctional)
+     */
+    default void mergingInto(T[] source, int left, int mid, int right, T[] target, SortFunctional<T> functional) {
+        if (!functional.functionalCompareTo(source[mid], source[(mid + 1)])) {
+            System.arraycopy(source, left, target, left, (right - left + 1));
+            return;
+        }
+        if (((left == mid) && (right == (mid + 1))) || functional.functionalCompareTo(source[left], source[right])) {
+            System.arraycopy(source, (mid + 1), target, left, (right - mid));
+            System.arraycopy(source, left, target, (left + right - mid), (mid - left + 1));
+            return;
+        }
+        int i = left, j = (mid + 1), k = left, minGallop = minGallop();
+        while ((i <= mid) && (j <= right)) {
+            int leftWins = 0, rightWins = 0;
+            while ((i <= mid) && (j <= right) && (leftWins < minGallop) && (rightWins < minGallop)) {
+                if (functional.functionalCompareTo(source[i], source[j])) {
+                    target[k++] = source[j++];
+                    rightWins++;
+                    leftWins = 0;
+                } else {
+                    target[k++] = source[i++];
+                    leftWins++;
+                    rightWins = 0;
+                }
+            }
+            while ((i <= mid) && (j <= right) && ((leftWins >= minGallop) || (rightWins >= minGallop))) {
+                int last = gallopAfter(source, i, (mid + 1), source[j], functional);
+                leftWins = (last - i);
+                System.arraycopy(source, i, target, k, leftWins);
+                k += leftWins;
+                i = last;
+                if (i <= mid) {
+                    last = gallopBefore(source, j, (right + 1), source[i], functional);
+                    rightWins = (last - j);
+                    System.arraycopy(source, j, target, k, rightWins);
+                    k += rightWins;
+                    j = last;
+                }
             }
         }
-        System.arraycopy(buffer, left, array, left, (right - left + 1));
+        System.arraycopy(source, i, target, k, (mid + 1 - i));
+        System.arraycopy(source, j, target, (k + mid + 1 - i), (right + 1 - j));
     }
 
     /**
@@ -1479,6 +1607,7 @@ public interface MergeInterface<T extends Comparable>
      * {@code mergeInc} this implementation follows the divide-and-conquer strategy of merge sort, where the list is
      * recursively divided into smaller sublists,
      * sorted individually, and then merged back together.
+     * The merges share a single scratch array, borrowed from the arena of {@code scratch} once per sort.
      * @param       list to be arranged.
      * @param       left from the list, index value, must be smaller than the {@code mid} and {@code right} value.
      * @param       mid from the list, index value, must be smaller than the {@code right} value, and must be greater
@@ -1486,11 +1615,32 @@ public interface MergeInterface<T extends Comparable>
      * @param       right from the list, index value, must be greater than the {@code left} and {@code mid} value.
      * @see         MergeInterface#mergingInc(List, int, int, int)
      */
+    @SuppressWarnings("unchecked")
     default <L extends T> void mergeInc(List<L> list, int left, int mid, int right) {
         if (left < right) {
-            mergeInc(list, left, ((left + mid) / 2), mid);
-            mergeInc(list, (mid + 1), (((mid + 1) + right) / 2), right);
-            mergingInc(list, left, mid, right);
+            T[] buffer = (T[]) scratch().borrow((right - left + 1));
+            mergeInc(list, left, mid, right, buffer);
+            scratch().release(buffer, (right - left + 1));
+        }
+    }
+
+    /**
+     * {@code mergeInc} performs the Merge Sort of {@code mergeInc(list, left, mid, right)} in increasing order,
+     * every merge copies its range to the start of the {@code buffer}.
+     * @param       list to be arranged.
+     * @param       left from the list, index value, must be smaller than the {@code mid} and {@code right} value.
+     * @param       mid from the list, index value, must be smaller than the {@code right} value, and must be greater
+     *              than the {@code left}.
+     * @param       right from the list, index value, must be greater than the {@code left} and {@code mid} value.
+     * @param       buffer an auxiliary array at least {@code (right - left + 1)} long.
+     * @param       <L> the type of elements in the list.
+     * @see         MergeInterface#mergingInc(List, int, int, int, Comparable[])
+     */
+    default <L extends T> void mergeInc(List<L> list, int left, int mid, int right, T[] buffer) {
+        if (left < right) {
+            mergeInc(list, left, ((left + mid) / 2), mid, buffer);
+            mergeInc(list, (mid + 1), (((mid + 1) + right) / 2), right, buffer);
+            mergingInc(list, left, mid, right, buffer);
         }
     }
 
@@ -1523,6 +1673,7 @@ public interface MergeInterface<T extends Comparable>
      * {@code mergeDec} this implementation follows the divide-and-conquer strategy of merge sort, where the list is
      * recursively divided into smaller sublists,
      * sorted individually, and then merged back together.
+     * The merges share a single scratch array, borrowed from the arena of {@code scratch} once per sort.
      * @param       list to be arranged.
      * @param       left from the list, index value, must be smaller than the {@code mid} and {@code right} value.
      * @param       mid from the list, index value, must be smaller than the {@code right} value, and must be greater
@@ -1530,11 +1681,32 @@ public interface MergeInterface<T extends Comparable>
      * @param       right from the list, index value, must be greater than the {@code left} and {@code mid} value.
      * @see         MergeInterface#mergingDec(List, int, int, int)
      */
+    @SuppressWarnings("unchecked")
     default <L extends T> void mergeDec(List<L> list, int left, int mid, int right) {
         if (left < right) {
-            mergeDec(list, left, ((left + mid) / 2), mid);
-            mergeDec(list, (mid + 1), (((mid + 1) + right) / 2), right);
-            mergingDec(list, left, mid, right);
+            T[] buffer = (T[]) scratch().borrow((right - left + 1));
+            mergeDec(list, left, mid, right, buffer);
+            scratch().release(buffer, (right - left + 1));
+        }
+    }
+
+    /**
+     * {@code mergeDec} performs the Merge Sort of {@code mergeDec(list, left, mid, right)} in decreasing order,
+     * every merge copies its range to the start of the {@code buffer}.
+     * @param       list to be arranged.
+     * @param       left from the list, index value, must be smaller than the {@code mid} and {@code right} value.
+     * @param       mid from the list, index value, must be smaller than the {@code right} value, and must be greater
+     *              than the {@code left}.
+     * @param       right from the list, index value, must be greater than the {@code left} and {@code mid} value.
+     * @param       buffer an auxiliary array at least {@code (right - left + 1)} long.
+     * @param       <L> the type of elements in the list.
+     * @see         MergeInterface#mergingDec(List, int, int, int, Comparable[])
+     */
+    default <L extends T> void mergeDec(List<L> list, int left, int mid, int right, T[] buffer) {
+        if (left < right) {
+            mergeDec(list, left, ((left + mid) / 2), mid, buffer);
+            mergeDec(list, (mid + 1), (((mid + 1) + right) / 2), right, buffer);
+            mergingDec(list, left, mid, right, buffer);
         }
     }
 
@@ -1563,6 +1735,7 @@ public interface MergeInterface<T extends Comparable>
      *     sorted.</li>
      * </ul>
      * merge two sorted sublists into a single sorted list according to the intended sorting logic.
+     * The merges share a single scratch array, borrowed from the arena of {@code scratch} once per sort.
      * @param       list to be arranged.
      * @param       left from the list, index value, must be smaller than the {@code mid} and {@code right} value.
      * @param       mid from the list, index value, must be smaller than the {@code right} value, and must be greater
@@ -1571,11 +1744,35 @@ public interface MergeInterface<T extends Comparable>
      * @param       functional lambda expression for comparison.
      * @see         MergeInterface#merging(List, int, int, int, SortFunctional)
      */
+    @SuppressWarnings("unchecked")
     default <L extends T> void merge(List<L> list, int left, int mid, int right, SortFunctional<T> functional) {
         if (left < right) {
-            merge(list, left, ((left + mid) / 2), mid, functional);
-            merge(list, (mid + 1), (((mid + 1) + right) / 2), right, functional);
-            merging(list, left, mid, right, functional);
+            T[] buffer = (T[]) scratch().borrow((right - left + 1));
+            merge(list, left, mid, right, buffer, functional);
+            scratch().release(buffer, (right - left + 1));
+        }
+    }
+
+    /**
+     * {@code merge} performs the Merge Sort of {@code merge(list, left, mid, right, functional)}
+     * in the order of the {@code functional},
+     * every merge copies its range to the start of the {@code buffer}.
+     * @param       list to be arranged.
+     * @param       left from the list, index value, must be smaller than the {@code mid} and {@code right} value.
+     * @param       mid from the list, index value, must be smaller than the {@code right} value, and must be greater
+     *              than the {@code left}.
+     * @param       right from the list, index value, must be greater than the {@code left} and {@code mid} value.
+     * @param       buffer an auxiliary array at least {@code (right - left + 1)} long.
+     * @param       functional lambda expression for comparison.
+     * @param       <L> the type of elements in the list.
+     * @see         MergeInterface#merging(List, int, int, int, Comparable[], SortFunctional)
+     */
+    default <L extends T> void merge(
+            List<L> list, int left, int mid, int right, T[] buffer, SortFunctional<T> functional) {
+        if (left < right) {
+            merge(list, left, ((left + mid) / 2), mid, buffer, functional);
+            merge(list, (mid + 1), (((mid + 1) + right) / 2), right, buffer, functional);
+            merging(list, left, mid, right, buffer, functional);
         }
     }
 
@@ -1600,19 +1797,23 @@ public interface MergeInterface<T extends Comparable>
      * {@code mergeInc} method performs an iterative bottom-up merge sort by repeatedly merging sublists of
      * increasing sizes until the entire list is sorted.
      * It utilizes the {@code mergingInc} method to perform the merging operation.
+     * The merges share a single scratch array, borrowed from the arena of {@code scratch} once per sort.
      * @param       list The list to be sorted.
      * @param       left The starting index of the sublists to be sorted.
      * @param       right The ending index (exclusive) of the sublists to be sorted.
      * @see         MergeInterface#mergingInc(List, int, int, int)
      */
+    @SuppressWarnings("unchecked")
     default <L extends T> void mergeInc(List<L> list, int left, int right) {
+        T[] buffer = (T[]) scratch().borrow(right);
         while (left < right) {
             for (int i = 0; i < right; i += (left * 2)) {
                 int mid = (i + left - 1), end = Math.min((i + (left * 2) - 1), (right - 1));
-                mergingInc(list, i, mid, end);
+                mergingInc(list, i, mid, end, buffer);
             }
             left *= 2;
         }
+        scratch().release(buffer, right);
     }
 
     /**
@@ -1636,19 +1837,23 @@ public interface MergeInterface<T extends Comparable>
      * {@code mergeDec} method performs an iterative bottom-up merge sort by repeatedly merging sublists of
      * increasing sizes until the entire list is sorted.
      * It utilizes the {@code mergingDec} method to perform the merging operation.
+     * The merges share a single scratch array, borrowed from the arena of {@code scratch} once per sort.
      * @param       list The list to be sorted.
      * @param       left The starting index of the sublists to be sorted.
      * @param       right The ending index (exclusive) of the sublists to be sorted.
      * @see         MergeInterface#mergingDec(List, int, int, int)
      */
+    @SuppressWarnings("unchecked")
     default <L extends T> void mergeDec(List<L> list, int left, int right) {
+        T[] buffer = (T[]) scratch().borrow(right);
         while (left < right) {
             for (int i = 0; i < right; i += (left * 2)) {
                 int mid = (i + left - 1), end = Math.min((i + (left * 2) - 1), (right - 1));
-                mergingDec(list, i, mid, end);
+                mergingDec(list, i, mid, end, buffer);
             }
             left *= 2;
         }
+        scratch().release(buffer, right);
     }
 
     /**
@@ -1679,20 +1884,24 @@ public interface MergeInterface<T extends Comparable>
      *     indicating that the entire list has been sorted.</li>
      * </ul>
      * For merging two sorted list segments according to the chosen sorting logic.
+     * The merges share a single scratch array, borrowed from the arena of {@code scratch} once per sort.
      * @param       list The list to be sorted.
      * @param       left The starting index of the sublists to be sorted.
      * @param       right The ending index (exclusive) of the sublists to be sorted.
      * @param       functional lambda expression for comparison.
      * @see         MergeInterface#merging(List, int, int, int, SortFunctional)
      */
+    @SuppressWarnings("unchecked")
     default <L extends T> void merge(List<L> list, int left, int right, SortFunctional<T> functional) {
+        T[] buffer = (T[]) scratch().borrow(right);
         while (left < right) {
             for (int i = 0; i < right; i += (left * 2)) {
                 int mid = (i + left - 1), end = Math.min((i + (left * 2) - 1), (right - 1));
-                merging(list, i, mid, end, functional);
+                merging(list, i, mid, end, buffer, functional);
             }
             left *= 2;
         }
+        scratch().release(buffer, right);
     }
 
     /**
@@ -2136,212 +2345,238 @@ public interface MergeInterface<T extends Comparable>
     }
 
     /**
-     * {@code mergingInc} that performs a merging operation for the purpose of merging two sorted portions of a list
-     * into a single sorted portion.
-     * The method assumes that the left portion of the list, from index {@code left} to {@code mid}, and the
-     * {@code right} portion,
-     * from index {@code (mid + 1)} to {@code right}, are already sorted in increasing order.
+     * {@code mergingInc} merges two sorted portions of a list into a single sorted portion in increasing order,
+     * the left portion from index {@code left} to {@code mid}, and the right portion from index {@code (mid + 1)}
+     * to {@code right}.
      * <ul>
-     *     <li>The {@link java.lang.SuppressWarnings @SuppressWarnings}{@code ("unchecked")} annotation is used to
-     *     suppress compiler
-     *     warnings related to unchecked type casting when using the {@code compareTo} method.
-     *     This annotation is not directly related to the functionality of the method but rather a way to handle
-     *     warnings.</li>
-     *     <li>The method starts by checking if the indices {@code left}, {@code mid}, and {@code right} are within
-     *     valid bounds.
-     *     If the {@code condition left > mid || mid + 1 > right} is true, it means that either the left portion or
-     *     the right portion is empty or the indices are not properly specified.
-     *     In such cases, the method returns without performing any merging.</li>
-     *     <li>The variables {@code n1} and {@code n2} are assigned the sizes of the left and right portions,
-     *     respectively.</li>
-     *     <li>The left sublist is obtained using {@link java.util.List#subList(int, int) subList} from {@code  left} to
-     *     {@code (mid + 1)},
-     *     while the right sublist is obtained using {@code subList} from {@code (mid + 1)} to {@code (right + 1)}.</li>
-     *     <li>The variables {@code i} and {@code j} are used as indices to iterate over {@code leftArray} and
-     *     {@code rightArray}, respectively.</li>
-     *     <li>The variable {@code k} is used as an index to update the {@code list} with the merged elements.</li>
-     *     <li>The subsequent {@code while} loop continues as long as both {@code i} and {@code j} are within their
-     *     respective list sizes, {@code n1} and {@code n2}.
-     *     It compares the elements at indices {@code i} and {@code j} of {@code leftArray} and {@code rightArray},
-     *     respectively, and assigns the smaller element to {@code list.get(k)}.
-     *     The corresponding index ({@code i} or {@code j}) and {@code k} are incremented accordingly.</li>
-     *     <li>After the {@code while} loop, there might still be remaining elements in either {@code leftArray} or
-     *     {@code rightArray}.
-     *     The next two {@code while} loops handle the remaining elements by copying them into list starting from index
-     *     {@code k}.</li>
-     *     <li>Finally, the merging operation is complete, and the merged sorted portion is stored in the original
-     *     {@code list} from index {@code left} to {@code right}.</li>
+     *     <li>If either portion is empty, or the portions are already in order, the method returns after one
+     *     comparison.</li>
+     *     <li>If the portions are in reversed order, they are swapped by a rotation without further
+     *     comparisons.</li>
+     *     <li>Otherwise the portions are merged by {@code gallopMerging}, through a scratch array borrowed from the
+     *     arena of {@code scratch} for this merge.</li>
      * </ul>
-     * {@code mergingInc} method is commonly used as part of merge sort algorithms to merge two sorted portions of a
-     * list into a single sorted portion.
+     * {@code mergingInc} is stable, on equal elements the element of the left portion is placed first.
      * @param       list to be arranged.
      * @param       left from the list, index value, must be smaller than the {@code mid} and {@code right} value.
      * @param       mid from the list, index value, must be smaller than the {@code right} value, and must be greater
      *              than the {@code left}.
      * @param       right from the list, index value, must be greater than the {@code left} and {@code mid} value.
+     * @param       <L> the type of elements in the list.
+     * @see         MergeInterface#gallopMerging(List, int, int, int, Comparable[], SortFunctional)
      */
     @SuppressWarnings("unchecked")
     default <L extends T> void mergingInc(List<L> list, int left, int mid, int right) {
-        if ((left > mid) || ((mid + 1) > right)) {
-            return;
-        }
-        int n1 = (mid - left + 1), n2 = (right - mid), i = 0, j = 0, k = left;
-        List<L> leftList = list.subList(left, (mid + 1)), rightList = list.subList((mid + 1), (right + 1));
-        while (i < n1 && j < n2) {
-            if (rightList.get(j).compareTo(leftList.get(i)) > 0) {
-                list.set(k, leftList.get(i++));
-            } else {
-                list.set(k, rightList.get(j++));
-            }
-            k++;
-        }
-        while (i < n1) {
-            list.set(k++, leftList.get(i++));
-        }
-        while (j < n2) {
-            list.set(k++, rightList.get(j++));
-        }
+        T[] buffer = (T[]) scratch().borrow((right - left + 1));
+        gallopMerging(list, left, mid, right, buffer, (a, b) -> a.compareTo(b) > 0);
+        scratch().release(buffer, (right - left + 1));
+    }
+
+    /**
+     * {@code mergingInc} merges two sorted portions of a list into a single sorted portion in increasing order,
+     * like {@code mergingInc(list, left, mid, right)}, the range is copied to the start of the {@code buffer}.
+     * @param       list to be arranged.
+     * @param       left from the list, index value, must be smaller than the {@code mid} and {@code right} value.
+     * @param       mid from the list, index value, must be smaller than the {@code right} value, and must be greater
+     *              than the {@code left}.
+     * @param       right from the list, index value, must be greater than the {@code left} and {@code mid} value.
+     * @param       buffer an auxiliary array at least {@code (right - left + 1)} long.
+     * @param       <L> the type of elements in the list.
+     * @see         MergeInterface#gallopMerging(List, int, int, int, Comparable[], SortFunctional)
+     */
+    @SuppressWarnings("unchecked")
+    default <L extends T> void mergingInc(List<L> list, int left, int mid, int right, T[] buffer) {
+        gallopMerging(list, left, mid, right, buffer, (a, b) -> a.compareTo(b) > 0);
     }
 
     /**
-     * {@code mergingDec} that performs a merging operation for the purpose of merging two sorted portions of a list
-     * into a single sorted portion.
-     * The method assumes that the left portion of the list, from index {@code left} to {@code mid}, and the
-     * {@code right} portion,
-     * from index {@code (mid + 1)} to {@code right}, are already sorted in increasing order.
+     * {@code mergingDec} merges two sorted portions of a list into a single sorted portion in decreasing order,
+     * the left portion from index {@code left} to {@code mid}, and the right portion from index {@code (mid + 1)}
+     * to {@code right}.
      * <ul>
-     *     <li>The {@link java.lang.SuppressWarnings @SuppressWarnings}{@code ("unchecked")} annotation is used to
-     *     suppress compiler
-     *     warnings related to unchecked type casting when using the {@code compareTo} method.
-     *     This annotation is not directly related to the functionality of the method but rather a way to handle
-     *     warnings.</li>
-     *     <li>The method starts by checking if the indices {@code left}, {@code mid}, and {@code right} are within
-     *     valid bounds.
-     *     If the {@code condition left > mid || mid + 1 > right} is true, it means that either the left portion or
-     *     the right portion is empty or the indices are not properly specified.
-     *     In such cases, the method returns without performing any merging.</li>
-     *     <li>The variables {@code n1} and {@code n2} are assigned the sizes of the left and right portions,
-     *     respectively.</li>
-     *     <li>The left sublist is obtained using {@link java.util.List#subList(int, int) subList} from {@code  left} to
-     *     {@code (mid + 1)},
-     *     while the right sublist is obtained using {@code subList} from {@code (mid + 1)} to {@code (right + 1)}.</li>
-     *     <li>The variables {@code i} and {@code j} are used as indices to iterate over {@code leftArray} and
-     *     {@code rightArray}, respectively.</li>
-     *     <li>The variable {@code k} is used as an index to update the {@code list} with the merged elements.</li>
-     *     <li>The subsequent {@code while} loop continues as long as both {@code i} and {@code j} are within their
-     *     respective list sizes, {@code n1} and {@code n2}.
-     *     It compares the elements at indices {@code i} and {@code j} of {@code leftArray} and {@code rightArray},
-     *     respectively, and assigns the greater element to {@code list.get(k)}.
-     *     The corresponding index ({@code i} or {@code j}) and {@code k} are incremented accordingly.</li>
-     *     <li>After the {@code while} loop, there might still be remaining elements in either {@code leftArray} or
-     *     {@code rightArray}.
-     *     The next two {@code while} loops handle the remaining elements by copying them into list starting from index
-     *     {@code k}.</li>
-     *     <li>Finally, the merging operation is complete, and the merged sorted portion is stored in the original
-     *     {@code list} from index {@code left} to {@code right}.</li>
+     *     <li>If either portion is empty, or the portions are already in order, the method returns after one
+     *     comparison.</li>
+     *     <li>If the portions are in reversed order, they are swapped by a rotation without further
+     *     comparisons.</li>
+     *     <li>Otherwise the portions are merged by {@code gallopMerging}, through a scratch array borrowed from the
+     *     arena of {@code scratch} for this merge.</li>
      * </ul>
-     * {@code mergingDec} method is commonly used as part of merge sort algorithms to merge two sorted portions of a
-     * list into a single sorted portion.
+     * {@code mergingDec} is stable, on equal elements the element of the left portion is placed first.
      * @param       list to be arranged.
      * @param       left from the list, index value, must be smaller than the {@code mid} and {@code right} value.
      * @param       mid from the list, index value, must be smaller than the {@code right} value, and must be greater
      *              than the {@code left}.
      * @param       right from the list, index value, must be greater than the {@code left} and {@code mid} value.
+     * @param       <L> the type of elements in the list.
+     * @see         MergeInterface#gallopMerging(List, int, int, int, Comparable[], SortFunctional)
      */
     @SuppressWarnings("unchecked")
     default <L extends T> void mergingDec(List<L> list, int left, int mid, int right) {
-        if ((left > mid) || ((mid + 1) > right)) {
-            return;
-        }
-        int n1 = (mid - left + 1), n2 = (right - mid), i = 0, j = 0, k = left;
-        List<L> leftList = list.subList(left, (mid + 1)), rightList = list.subList((mid + 1), (right + 1));
-        while (i < n1 && j < n2) {
-            if (rightList.get(j).compareTo(leftList.get(i)) < 0) {
-                list.set(k, leftList.get(i++));
-            } else {
-                list.set(k, rightList.get(j++));
-            }
-            k++;
-        }
-        while (i < n1) {
-            list.set(k++, leftList.get(i++));
-        }
-        while (j < n2) {
-            list.set(k++, rightList.get(j++));
-        }
+        T[] buffer = (T[]) scratch().borrow((right - left + 1));
+        gallopMerging(list, left, mid, right, buffer, (a, b) -> a.compareTo(b) < 0);
+        scratch().release(buffer, (right - left + 1));
     }
 
     /**
-     * {@code merging} that performs a merging operation for the purpose of merging two sorted portions of a list into a
-     * single sorted portion.
-     * The method assumes that the left portion of the list, from index {@code left} to {@code mid}, and the
-     * {@code right} portion,
-     * from index {@code (mid + 1)} to {@code right},
-     * and an instance of {@code mz.SortFunctional<T>} as parameters,
-     * are already sorted in increasing order.
+     * {@code mergingDec} merges two sorted portions of a list into a single sorted portion in decreasing order,
+     * like {@code mergingDec(list, left, mid, right)}, the range is copied to the start of the {@code buffer}.
+     * @param       list to be arranged.
+     * @param       left from the list, index value, must be smaller than the {@code mid} and {@code right} value.
+     * @param       mid from the list, index value, must be smaller than the {@code right} value, and must be greater
+     *              than the {@code left}.
+     * @param       right from the list, index value, must be greater than the {@code left} and {@code mid} value.
+     * @param       buffer an auxiliary array at least {@code (right - left + 1)} long.
+     * @param       <L> the type of elements in the list.
+     * @see         MergeInterface#gallopMerging(List, int, int, int, Comparable[], SortFunctional)
+     */
+    @SuppressWarnings("unchecked")
+    default <L extends T> void mergingDec(List<L> list, int left, int mid, int right, T[] buffer) {
+        gallopMerging(list, left, mid, right, buffer, (a, b) -> a.compareTo(b) < 0);
+    }
+
+    /**
+     * {@code merging} merges two sorted portions of a list into a single sorted portion
+     * in the order of the {@code functional},
+     * the left portion from index {@code left} to {@code mid}, and the right portion from index {@code (mid + 1)}
+     * to {@code right}.
      * <ul>
-     *     <li>{@code merging} method now includes an additional check at the beginning.
-     *     If the condition {@code (left > mid) || ((mid + 1) > right)} is satisfied,
-     *     it means that either the left sublists is empty or the right sublists is empty,
-     *     indicating that there is no need to perform the merging. In such cases, the method simply returns.</li>
-     *     <li>It initializes variables {@code n1} and {@code n2} to store the sizes of the left and right sublists,
-     *     respectively.
-     *     The values are calculated as {@code (mid - left + 1)} and {@code (right - mid)}.</li>
-     *     <li>It initializes counters {@code i}, {@code j}, and {@code k} to keep track of the current indices in the
-     *     left list, right list,
-     *     and the merged list ({@code list}), respectively.
-     *     The initial value of {@code k} is set to {@code left}.</li>
-     *     <li>The left sublist is obtained using {@link java.util.List#subList(int, int) subList} from {@code  left} to
-     *     {@code (mid + 1)},
-     *     while the right sublist is obtained using {@code subList} from {@code (mid + 1)} to {@code (right + 1)}.</li>
-     *     <li>It enters a {@code while} loop that continues as long as both {@code i} and {@code j} are within their
-     *     respective
-     *     sublists bounds ({@code (i < n1 && j < n2)}).
-     *     Within the loop, it performs the comparison using
-     *     the {@code functional} instance and assigns the smaller element to {@code list.get(k)}.
-     *     After assigning the element, it increments the corresponding counters ({@code i}, {@code j}, and
-     *     {@code k}).</li>
-     *     <li>After exiting the {@code while} loop, it checks if there are any remaining elements in the left sublists
-     *     {@code (i < n1)}.
-     *     If so, it copies the remaining elements to {@code list.get(k)} and increments both {@code i} and
-     *     {@code k}.</li>
-     *     <li>Similarly, it checks if there are any remaining elements in the right sublists {@code (j < n2)}.
-     *     If so, it copies the remaining elements to {@code list.get(k)} and increments both {@code j} and
-     *     {@code k}.</li>
+     *     <li>If either portion is empty, or the portions are already in order, the method returns after one
+     *     comparison.</li>
+     *     <li>If the portions are in reversed order, they are swapped by a rotation without further
+     *     comparisons.</li>
+     *     <li>Otherwise the portions are merged by {@code gallopMerging}, through a scratch array borrowed from the
+     *     arena of {@code scratch} for this merge.</li>
      * </ul>
-     * {@code merging} method merges two sorted sublists ({@code leftArray} and {@code rightArray}) into a single sorted
-     * list ({@code list}).
-     * It compares elements using the {@code functional} instance and assigns the smaller element to {@code list.get(k)}
-     * at each step.
-     * The method handles cases where one of the sublists is empty or when there are remaining elements in either
-     * the left or right sublists after the initial merging.
+     * {@code merging} is stable, on equal elements the element of the left portion is placed first.
      * @param       list to be arranged.
      * @param       left from the list, index value, must be smaller than the {@code mid} and {@code right} value.
      * @param       mid from the list, index value, must be smaller than the {@code right} value, and must be greater
-     *                  than the {@code left}.
+     *              than the {@code left}.
      * @param       right from the list, index value, must be greater than the {@code left} and {@code mid} value.
      * @param       functional lambda expression for comparison.
+     * @param       <L> the type of elements in the list.
+     * @see         MergeInterface#gallopMerging(List, int, int, int, Comparable[], SortFunctional)
      * @see         SortFunctional#functionalCompareTo(Comparable, Comparable)
      */
+    @SuppressWarnings("unchecked")
     default <L extends T> void merging(List<L> list, int left, int mid, int right, SortFunctional<T> functional) {
+        T[] buffer = (T[]) scratch().borrow((right - left + 1));
+        gallopMerging(list, left, mid, right, buffer, functional);
+        scratch().release(buffer, (right - left + 1));
+    }
+
+    /**
+     * {@code merging} merges two sorted portions of a list into a single sorted portion
+     * in the order of the {@code functional},
+     * like {@code merging(list, left, mid, right, functional)}, the range is copied to the start of the {@code buffer}.
+     * @param       list to be arranged.
+     * @param       left from the list, index value, must be smaller than the {@code mid} and {@code right} value.
+     * @param       mid from the list, index value, must be smaller than the {@code right} value, and must be greater
+     *              than the {@code left}.
+     * @param       right from the list, index value, must be greater than the {@code left} and {@code mid} value.
+     * @param       buffer an auxiliary array at least {@code (right - left + 1)} long.
+     * @param       functional lambda expression for comparison.
+     * @param       <L> the type of elements in the list.
+     * @see         MergeInterface#gallopMerging(List, int, int, int, Comparable[], SortFunctional)
+     */
+    default <L extends T> void merging(
+            List<L> list, int left, int mid, int right, T[] buffer, SortFunctional<T> functional) {
+        gallopMerging(list, left, mid, right, buffer, functional);
+    }
+
+    /**
+     * {@code gallopMerging} merges two sorted portions of a list into a single sorted portion,
+     * the left portion from index {@code left} to {@code mid}, and the right portion from index {@code (mid + 1)}
+     * to {@code right}, in the order of the {@code functional}.
+     * <ul>
+     *     <li>The range is copied to the start of the {@code buffer} with a single pass of a {@code ListIterator},
+     *     the left portion from index <i>0</i>, the right portion after it.</li>
+     *     <li>If the last element of the left portion does not go after the first element of the right portion,
+     *     the portions are already in order, nothing is written.</li>
+     *     <li>If the first element of the left portion goes after the last element of the right portion,
+     *     the right portion is written before the left portion without further comparisons.</li>
+     *     <li>The elements of the left portion, that do not go after the first element of the right portion,
+     *     are already in place, they are cut off by {@code gallopAfter}.</li>
+     *     <li>The portions are merged from the {@code buffer} into the list by a second {@code ListIterator},
+     *     one by one, and by {@code gallopAfter} and {@code gallopBefore} once one side wins {@code minGallop} times
+     *     in a row.
+     *     The elements of the right portion, left after the last element of the left portion, are already in place,
+     *     they are never written.</li>
+     * </ul>
+     * {@code gallopMerging} is stable, on equal elements the element of the left portion is placed first,
+     * and it allocates nothing.
+     * @param       list to be arranged.
+     * @param       left from the list, index value, must be smaller than the {@code mid} and {@code right} value.
+     * @param       mid from the list, index value, must be smaller than the {@code right} value, and must be greater
+     *              than the {@code left}.
+     * @param       right from the list, index value, must be greater than the {@code left} and {@code mid} value.
+     * @param       buffer an auxiliary array at least {@code (right - left + 1)} long.
+     * @param       functional lambda expression for comparison.
+     * @param       <L> the type of elements in the list.
+     * @see         MergeInterface#gallopMerging(Comparable[], int, int, int, Comparable[], SortFunctional)
+     */
+    @SuppressWarnings("unchecked")
+    default <L extends T> void gallopMerging(
+            List<L> list, int left, int mid, int right, T[] buffer, SortFunctional<T> functional) {
         if ((left > mid) || ((mid + 1) > right)) {
             return;
         }
-        int n1 = (mid - left + 1), n2 = (right - mid), i = 0, j = 0, k = left;
-        List<L> leftList = list.subList(left, (mid + 1)), rightList = list.subList((mid + 1), (right + 1));
-        while (i < n1 && j < n2) {
-            if (functional.functionalCompareTo(rightList.get(j), leftList.get(i))) {
-                list.set(k, leftList.get(i++));
-            } else {
-                list.set(k, rightList.get(j++));
+        int n = (right - left + 1), n1 = (mid - left + 1);
+        ListIterator<L> iterator = list.listIterator(left);
+        for (int k = 0; k < n; k++) {
+            buffer[k] = iterator.next();
+        }
+        if (!functional.functionalCompareTo(buffer[(n1 - 1)], buffer[n1])) {
+            return;
+        }
+        if (functional.functionalCompareTo(buffer[0], buffer[(n - 1)])) {
+            iterator = list.listIterator(left);
+            for (int k = n1; k < n; k++) {
+                iterator.next();
+                iterator.set((L) buffer[k]);
+            }
+            for (int k = 0; k < n1; k++) {
+                iterator.next();
+                iterator.set((L) buffer[k]);
             }
-            k++;
+            return;
         }
-        while (i < n1) {
-            list.set(k++, leftList.get(i++));
+        int i = gallopAfter(buffer, 0, (n1 - 1), buffer[n1], functional), j = n1, minGallop = minGallop();
+        iterator = list.listIterator((left + i));
+        while ((i < n1) && (j < n)) {
+            int leftWins = 0, rightWins = 0;
+            while ((i < n1) && (j < n) && (leftWins < minGallop) && (rightWins < minGallop)) {
+                iterator.next();
+                if (functional.functionalCompareTo(buffer[i], buffer[j])) {
+                    iterator.set((L) buffer[j++]);
+                    rightWins++;
+                    leftWins = 0;
+                } else {
+                    iterator.set((L) buffer[i++]);
+                    leftWins++;
+                    rightWins = 0;
+                }
+            }
+            while ((i < n1) && (j < n) && ((leftWins >= minGallop) || (rightWins >= minGallop))) {
+                int last = gallopAfter(buffer, i, n1, buffer[j], functional);
+                leftWins = (last - i);
+                for (; i < last; i++) {
+                    iterator.next();
+                    iterator.set((L) buffer[i]);
+                }
+                if (i < n1) {
+                    last = gallopBefore(buffer, j, n, buffer[i], functional);
+                    rightWins = (last - j);
+                    for (; j < last; j++) {
+                        iterator.next();
+                        iterator.set((L) buffer[j]);
+                    }
+                }
+            }
         }
-        while (j < n2) {
-            list.set(k++, rightList.get(j++));
+        for (; i < n1; i++) {
+            iterator.next();
+            iterator.set((L) buffer[i]);
         }
     }
 
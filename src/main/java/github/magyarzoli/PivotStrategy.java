@@ -0,0 +1,494 @@
+package github.magyarzoli;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * The pivot selection of the partition methods of Quick Sort.
+ * The partitions of {@link QuickInterface} take the pivot from the last element of the range,
+ * the dual pivot partitions from the first and the last elements.
+ * A strategy moves the elements it selects to these places before the partition starts.
+ * <ul>
+ *     <li><i>LAST</i> - The last element, the classic choice, quadratic on sorted input.</li>
+ *     <li><i>MEDIAN_OF_3</i> - The median of the first, middle and last elements.</li>
+ *     <li><i>NINTHER</i> - Tukey's ninther, the median of the medians of three triplets spread over the range.</li>
+ *     <li><i>TERTILES</i> - The median of five samples spread over the range.</li>
+ *     <li><i>ADAPTIVE</i> - Chooses one of the above by the size of the range.</li>
+ *     <li>{@code random(seed)} - A random element of the range, from a seedable {@link SplittableRandom}.</li>
+ * </ul>
+ * For the dual pivot partitions every strategy except <i>LAST</i> and {@code random} uses the second and fourth of
+ * five sorted samples, the tertiles of the range.
+ * @since       1.3
+ * @author      <a href=https://github.com/MagyarZoli>Magyar Zoltán</a>
+ */
+@SuppressWarnings("rawtypes")
+public interface PivotStrategy {
+
+    /**
+     * Below this size the ranges of <i>ADAPTIVE</i> and the dual pivot selection keep the first and last elements.
+     */
+    int SMALL_THRESHOLD = 8;
+
+    /**
+     * Above this size <i>NINTHER</i> and <i>ADAPTIVE</i> take nine samples instead of three.
+     */
+    int NINTHER_THRESHOLD = 128;
+
+    /**
+     * The last element of the range, the pivot of the classic Lomuto partition.
+     */
+    PivotStrategy LAST = new PivotStrategy() {
+
+        @Override
+        public <T extends Comparable> int pivot(
+                T[] array, int left, int right, SortFunctional<T> functional) {
+            return right;
+        }
+
+        @Override
+        public <T extends Comparable, L extends T> int pivot(
+                List<L> list, int left, int right, SortFunctional<T> functional) {
+            return right;
+        }
+
+        @Override
+        public <T extends Comparable> void selectDual(
+                T[] array, int left, int right, SortFunctional<T> functional) {}
+
+        @Override
+        public <T extends Comparable, L extends T> void selectDual(
+                List<L> list, int left, int right, SortFunctional<T> functional) {}
+    };
+
+    /**
+     * The median of the first, middle and last elements of the range.
+     */
+    PivotStrategy MEDIAN_OF_3 = new PivotStrategy() {
+
+        @Override
+        public <T extends Comparable> int pivot(
+                T[] array, int left, int right, SortFunctional<T> functional) {
+            return median(array, left, ((left + right) >>> 1), right, functional);
+        }
+
+        @Override
+        public <T extends Comparable, L extends T> int pivot(
+                List<L> list, int left, int right, SortFunctional<T> functional) {
+            return median(list, left, ((left + right) >>> 1), right, functional);
+        }
+    };
+
+    /**
+     * Tukey's ninther above {@code NINTHER_THRESHOLD} elements, the median of three below.
+     */
+    PivotStrategy NINTHER = new PivotStrategy() {
+
+        @Override
+        public <T extends Comparable> int pivot(
+                T[] array, int left, int right, SortFunctional<T> functional) {
+            return ninther(array, left, right, functional);
+        }
+
+        @Override
+        public <T extends Comparable, L extends T> int pivot(
+                List<L> list, int left, int right, SortFunctional<T> functional) {
+            return ninther(list, left, right, functional);
+        }
+    };
+
+    /**
+     * The median of five samples, the middle one of the samples the dual pivot selection sorts.
+     */
+    PivotStrategy TERTILES = new PivotStrategy() {
+
+        @Override
+        public <T extends Comparable> int pivot(
+                T[] array, int left, int right, SortFunctional<T> functional) {
+            if (((right - left) + 1) < SMALL_THRESHOLD) {
+                return median(array, left, ((left + right) >>> 1), right, functional);
+            }
+            return samples(array, left, right, functional)[2];
+        }
+
+        @Override
+        public <T extends Comparable, L extends T> int pivot(
+                List<L> list, int left, int right, SortFunctional<T> functional) {
+            if (((right - left) + 1) < SMALL_THRESHOLD) {
+                return median(list, left, ((left + right) >>> 1), right, functional);
+            }
+            return samples(list, left, right, functional)[2];
+        }
+    };
+
+    /**
+     * Chooses by the size of the range: the last element below {@code SMALL_THRESHOLD} elements,
+     * the median of three up to {@code NINTHER_THRESHOLD} elements and Tukey's ninther above.
+     */
+    PivotStrategy ADAPTIVE = new PivotStrategy() {
+
+        @Override
+        public <T extends Comparable> int pivot(
+                T[] array, int left, int right, SortFunctional<T> functional) {
+            if (((right - left) + 1) < SMALL_THRESHOLD) {
+                return right;
+            }
+            return ninther(array, left, right, functional);
+        }
+
+        @Override
+        public <T extends Comparable, L extends T> int pivot(
+                List<L> list, int left, int right, SortFunctional<T> functional) {
+            if (((right - left) + 1) < SMALL_THRESHOLD) {
+                return right;
+            }
+            return ninther(list, left, right, functional);
+        }
+    };
+
+    /**
+     * {@code pivot} selects the pivot of the range.
+     * @param       array to be arranged.
+     * @param       left The starting index of the subarray.
+     * @param       right The ending index (inclusive) of the subarray.
+     * @param       functional lambda expression for comparison, the order the samples are compared in.
+     * @param       <T> setting of a type based on which the elements can be sorted.
+     * @return      the index of the pivot.
+     */
+    <T extends Comparable> int pivot(T[] array, int left, int right, SortFunctional<T> functional);
+
+    /**
+     * {@code pivot} selects the pivot of the range.
+     * @param       list to be arranged.
+     * @param       left The starting index of the sublist.
+     * @param       right The ending index (inclusive) of the sublist.
+     * @param       functional lambda expression for comparison, the order the samples are compared in.
+     * @param       <T> setting of a type based on which the elements can be sorted.
+     * @param       <L> the type of the elements of the list.
+     * @return      the index of the pivot.
+     */
+    <T extends Comparable, L extends T> int pivot(List<L> list, int left, int right, SortFunctional<T> functional);
+
+    /**
+     * {@code select} moves the pivot selected by {@code pivot} to {@code right}, where the partition expects it.
+     * @param       array to be arranged.
+     * @param       left The starting index of the subarray.
+     * @param       right The ending index (inclusive) of the subarray.
+     * @param       functional lambda expression for comparison.
+     * @param       <T> setting of a type based on which the elements can be sorted.
+     * @see         PivotStrategy#pivot(Comparable[], int, int, SortFunctional)
+     */
+    default <T extends Comparable> void select(T[] array, int left, int right, SortFunctional<T> functional) {
+        int pivot = pivot(array, left, right, functional);
+        if (pivot != right) {
+            T select = array[pivot];
+            array[pivot] = array[right];
+            array[right] = select;
+        }
+    }
+
+    /**
+     * {@code select} moves the pivot selected by {@code pivot} to {@code right}, where the partition expects it.
+     * @param       list to be arranged.
+     * @param       left The starting index of the sublist.
+     * @param       right The ending index (inclusive) of the sublist.
+     * @param       functional lambda expression for comparison.
+     * @param       <T> setting of a type based on which the elements can be sorted.
+     * @param       <L> the type of the elements of the list.
+     * @see         PivotStrategy#pivot(List, int, int, SortFunctional)
+     */
+    default <T extends Comparable, L extends T> void select(
+            List<L> list, int left, int right, SortFunctional<T> functional) {
+        int pivot = pivot(list, left, right, functional);
+        if (pivot != right) {
+            Collections.swap(list, pivot, right);
+        }
+    }
+
+    /**
+     * {@code selectDual} moves the two pivots of the dual pivot partition to {@code left} and {@code right}.
+     * Five samples spread over the range are sorted in place, the second one is moved to {@code left},
+     * the fourth one to {@code right}, so the range is split into thirds on average.
+     * Ranges below {@code SMALL_THRESHOLD} elements are left as they are.
+     * @param       array to be arranged.
+     * @param       left The starting index of the subarray.
+     * @param       right The ending index (inclusive) of the subarray.
+     * @param       functional lambda expression for comparison.
+     * @param       <T> setting of a type based on which the elements can be sorted.
+     * @see         PivotStrategy#samples(Comparable[], int, int, SortFunctional)
+     */
+    default <T extends Comparable> void selectDual(T[] array, int left, int right, SortFunctional<T> functional) {
+        if (((right - left) + 1) < SMALL_THRESHOLD) {
+            return;
+        }
+        int[] samples = samples(array, left, right, functional);
+        T select = array[samples[1]];
+        array[samples[1]] = array[left];
+        array[left] = select;
+        select = array[samples[3]];
+        array[samples[3]] = array[right];
+        array[right] = select;
+    }
+
+    /**
+     * {@code selectDual} moves the two pivots of the dual pivot partition to {@code left} and {@code right}.
+     * @param       list to be arranged.
+     * @param       left The starting index of the sublist.
+     * @param       right The ending index (inclusive) of the sublist.
+     * @param       functional lambda expression for comparison.
+     * @param       <T> setting of a type based on which the elements can be sorted.
+     * @param       <L> the type of the elements of the list.
+     * @see         PivotStrategy#selectDual(Comparable[], int, int, SortFunctional)
+     */
+    default <T extends Comparable, L extends T> void selectDual(
+            List<L> list, int left, int right, SortFunctional<T> functional) {
+        if (((right - left) + 1) < SMALL_THRESHOLD) {
+            return;
+        }
+        int[] samples = samples(list, left, right, functional);
+        Collections.swap(list, samples[1], left);
+        Collections.swap(list, samples[3], right);
+    }
+
+    /**
+     * {@code random} selects a random element of the range as pivot, and two random elements for the dual pivot
+     * partition. The same seed gives the same sequence of pivots on a thread, which makes a run reproducible.
+     * {@link SplittableRandom} is not thread-safe, so every thread draws from its own generator, split from the
+     * seeded one at its first pivot, and the strategy can be shared by the workers of a parallel sort.
+     * @param       seed the seed of the {@link SplittableRandom}.
+     * @return      the random pivot strategy.
+     */
+    static PivotStrategy random(long seed) {
+        SplittableRandom root = new SplittableRandom(seed);
+        ThreadLocal<SplittableRandom> local = ThreadLocal.withInitial(() -> {
+            synchronized (root) {
+                return root.split();
+            }
+        });
+        return new PivotStrategy() {
+
+            @Override
+            public <T extends Comparable> int pivot(
+                    T[] array, int left, int right, SortFunctional<T> functional) {
+                return (left + local.get().nextInt((right - left) + 1));
+            }
+
+            @Override
+            public <T extends Comparable, L extends T> int pivot(
+                    List<L> list, int left, int right, SortFunctional<T> functional) {
+                return (left + local.get().nextInt((right - left) + 1));
+            }
+
+            @Override
+            public <T extends Comparable> void selectDual(
+                    T[] array, int left, int right, SortFunctional<T> functional) {
+                if (((right - left) + 1) < SMALL_THRESHOLD) {
+                    return;
+                }
+                SplittableRandom random = local.get();
+                int first = (left + random.nextInt((right - left) + 1));
+                T select = array[first];
+                array[first] = array[left];
+                array[left] = select;
+                int second = ((left + 1) + random.nextInt(right - left));
+                select = array[second];
+                array[second] = array[right];
+                array[right] = select;
+            }
+
+            @Override
+            public <T extends Comparable, L extends T> void selectDual(
+                    List<L> list, int left, int right, SortFunctional<T> functional) {
+                if (((right - left) + 1) < SMALL_THRESHOLD) {
+                    return;
+                }
+                SplittableRandom random = local.get();
+                Collections.swap(list, (left + random.nextInt((right - left) + 1)), left);
+                Collections.swap(list, ((left + 1) + random.nextInt(right - left)), right);
+            }
+        };
+    }
+
+    /**
+     * {@code random} selects a random element of the range as pivot, from a randomly seeded generator.
+     * The seed is drawn from the {@link ThreadLocalRandom} of the calling thread, no generator is shared.
+     * @return      the random pivot strategy.
+     * @see         PivotStrategy#random(long)
+     */
+    static PivotStrategy random() {
+        return random(ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * {@code bySize} is the preset for sorting {@code length} elements:
+     * <i>LAST</i> below {@code SMALL_THRESHOLD}, <i>MEDIAN_OF_3</i> up to {@code NINTHER_THRESHOLD}
+     * and <i>NINTHER</i> above it.
+     * @param       length the number of elements to be arranged.
+     * @return      the pivot strategy preset.
+     */
+    static PivotStrategy bySize(int length) {
+        if (length < SMALL_THRESHOLD) {
+            return LAST;
+        } else if (length <= NINTHER_THRESHOLD) {
+            return MEDIAN_OF_3;
+        }
+        return NINTHER;
+    }
+
+    /**
+     * {@code median} returns the index of the median of the elements at {@code a}, {@code b} and {@code c},
+     * with two or three comparisons and without moving any element.
+     * @param       array of the elements.
+     * @param       a index of the first element.
+     * @param       b index of the second element.
+     * @param       c index of the third element.
+     * @param       functional lambda expression for comparison.
+     * @param       <T> setting of a type based on which the elements can be sorted.
+     * @return      the index of the median.
+     */
+    static <T extends Comparable> int median(T[] array, int a, int b, int c, SortFunctional<T> functional) {
+        if (functional.functionalCompareTo(array[a], array[b])) {
+            if (functional.functionalCompareTo(array[b], array[c])) {
+                return b;
+            }
+            return (functional.functionalCompareTo(array[a], array[c]) ? c : a);
+        }
+        if (!functional.functionalCompareTo(array[b], array[c])) {
+            return b;
+        }
+        return (functional.functionalCompareTo(array[a], array[c]) ? a : c);
+    }
+
+    /**
+     * {@code median} returns the index of the median of the elements at {@code a}, {@code b} and {@code c}.
+     * @param       list of the elements.
+     * @param       a index of the first element.
+     * @param       b index of the second element.
+     * @param       c index of the third element.
+     * @param       functional lambda expression for comparison.
+     * @param       <T> setting of a type based on which the elements can be sorted.
+     * @param       <L> the type of the elements of the list.
+     * @return      the index of the median.
+     * @see         PivotStrategy#median(Comparable[], int, int, int, SortFunctional)
+     */
+    static <T extends Comparable, L extends T> int median(
+            List<L> list, int a, int b, int c, SortFunctional<T> functional) {
+        if (functional.functionalCompareTo(list.get(a), list.get(b))) {
+            if (functional.functionalCompareTo(list.get(b), list.get(c))) {
+                return b;
+            }
+            return (functional.functionalCompareTo(list.get(a), list.get(c)) ? c : a);
+        }
+        if (!functional.functionalCompareTo(list.get(b), list.get(c))) {
+            return b;
+        }
+        return (functional.functionalCompareTo(list.get(a), list.get(c)) ? a : c);
+    }
+
+    /**
+     * {@code ninther} returns the index of Tukey's ninther above {@code NINTHER_THRESHOLD} elements:
+     * the median of the medians of the triplets around the first, middle and last elements.
+     * Smaller ranges use the median of three.
+     * @param       array of the elements.
+     * @param       left The starting index of the subarray.
+     * @param       right The ending index (inclusive) of the subarray.
+     * @param       functional lambda expression for comparison.
+     * @param       <T> setting of a type based on which the elements can be sorted.
+     * @return      the index of the ninther.
+     */
+    static <T extends Comparable> int ninther(T[] array, int left, int right, SortFunctional<T> functional) {
+        int mid = ((left + right) >>> 1);
+        if (((right - left) + 1) <= NINTHER_THRESHOLD) {
+            return median(array, left, mid, right, functional);
+        }
+        int eighth = (((right - left) + 1) / 8);
+        return median(array,
+                median(array, left, (left + eighth), (left + (2 * eighth)), functional),
+                median(array, (mid - eighth), mid, (mid + eighth), functional),
+                median(array, (right - (2 * eighth)), (right - eighth), right, functional),
+                functional);
+    }
+
+    /**
+     * {@code ninther} returns the index of Tukey's ninther of the range.
+     * @param       list of the elements.
+     * @param       left The starting index of the sublist.
+     * @param       right The ending index (inclusive) of the sublist.
+     * @param       functional lambda expression for comparison.
+     * @param       <T> setting of a type based on which the elements can be sorted.
+     * @param       <L> the type of the elements of the list.
+     * @return      the index of the ninther.
+     * @see         PivotStrategy#ninther(Comparable[], int, int, SortFunctional)
+     */
+    static <T extends Comparable, L extends T> int ninther(
+            List<L> list, int left, int right, SortFunctional<T> functional) {
+        int mid = ((left + right) >>> 1);
+        if (((right - left) + 1) <= NINTHER_THRESHOLD) {
+            return median(list, left, mid, right, functional);
+        }
+        int eighth = (((right - left) + 1) / 8);
+        return median(list,
+                median(list, left, (left + eighth), (left + (2 * eighth)), functional),
+                median(list, (mid - eighth), mid, (mid + eighth), functional),
+                median(list, (right - (2 * eighth)), (right - eighth), right, functional),
+                functional);
+    }
+
+    /**
+     * {@code samples} sorts five elements spread over the range in place by Insertion Sort,
+     * and returns their indices. The samples are one seventh of the range apart around the middle,
+     * so they never touch the first and the last elements.
+     * The range has to have at least {@code SMALL_THRESHOLD} elements.
+     * @param       array of the elements.
+     * @param       left The starting index of the subarray.
+     * @param       right The ending index (inclusive) of the subarray.
+     * @param       functional lambda expression for comparison.
+     * @param       <T> setting of a type based on which the elements can be sorted.
+     * @return      the indices of the five sorted samples.
+     */
+    static <T extends Comparable> int[] samples(T[] array, int left, int right, SortFunctional<T> functional) {
+        int seventh = (((right - left) + 1) / 7);
+        int mid = ((left + right) >>> 1);
+        int[] samples = {(mid - (2 * seventh)), (mid - seventh), mid, (mid + seventh), (mid + (2 * seventh))};
+        for (int i = 1; i < samples.length; i++) {
+            T select = array[samples[i]];
+            int j = i;
+            while ((j > 0) && functional.functionalCompareTo(array[samples[(j - 1)]], select)) {
+                array[samples[j]] = array[samples[(j - 1)]];
+                j--;
+            }
+            array[samples[j]] = select;
+        }
+        return samples;
+    }
+
+    /**
+     * {@code samples} sorts five elements spread over the range in place by Insertion Sort,
+     * and returns their indices.
+     * @param       list of the elements.
+     * @param       left The starting index of the sublist.
+     * @param       right The ending index (inclusive) of the sublist.
+     * @param       functional lambda expression for comparison.
+     * @param       <T> setting of a type based on which the elements can be sorted.
+     * @param       <L> the type of the elements of the list.
+     * @return      the indices of the five sorted samples.
+     * @see         PivotStrategy#samples(Comparable[], int, int, SortFunctional)
+     */
+    static <T extends Comparable, L extends T> int[] samples(
+            List<L> list, int left, int right, SortFunctional<T> functional) {
+        int seventh = (((right - left) + 1) / 7);
+        int mid = ((left + right) >>> 1);
+        int[] samples = {(mid - (2 * seventh)), (mid - seventh), mid, (mid + seventh), (mid + (2 * seventh))};
+        for (int i = 1; i < samples.length; i++) {
+            L select = list.get(samples[i]);
+            int j = i;
+            while ((j > 0) && functional.functionalCompareTo(list.get(samples[(j - 1)]), select)) {
+                list.set(samples[j], list.get(samples[(j - 1)]));
+                j--;
+            }
+            list.set(samples[j], select);
+        }
+        return samples;
+    }
+}
\ No newline at end of file
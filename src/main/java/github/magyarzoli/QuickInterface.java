@@ -1,6 +1,7 @@
 package github.magyarzoli;
 
 import java.util.List;
+import java.util.function.IntBinaryOperator;
 
 /**
  * QuickInterface, containing the methods of Quick Sort to implement other classes.
@@ -12,6 +13,17 @@ import java.util.List;
 public interface QuickInterface<T extends Comparable>
         extends Sorter<T>, SortSwap<T> {
 
+    /**
+     * {@code pivotStrategy} returns the strategy that selects the pivots of the partition methods.
+     * The default is {@link PivotStrategy#ADAPTIVE}, which keeps sorted and reverse sorted inputs at
+     * <em>O(n log(n))</em>. Override it, or use the constructor of a sorter taking a strategy, to change it.
+     * @return      the pivot strategy of the partitions.
+     * @see         PivotStrategy
+     */
+    default PivotStrategy pivotStrategy() {
+        return PivotStrategy.ADAPTIVE;
+    }
+
     /**
      * Implementation of a quick sort algorithm for sorting the array of {@link java.lang.Comparable Comparable}
      * objects in ascending order.
@@ -81,24 +93,19 @@ public interface QuickInterface<T extends Comparable>
      *     <li>Inside the condition, the {@code quickInc} method is called to partition the array and obtain the
      *     {@code partitionIndex},
      *     which represents the correct position of the pivot element after the partitioning.</li>
-     *     <li>The {@code quickInc} method is recursively called twice:</li>
-     *     <li>The first recursive call sorts the left partition of the array by calling {@code quickInc}
-     *     with left as the start index and {@code (partitionIndex - 1)} as the end index.</li>
-     *     <li>The second recursive call sorts the right partition of the array by calling {@code quickInc} with
-     *     {@code (partitionIndex + 1)} as the start index and {@code right} as the end index.</li>
+     *     <li>The two partitions, from {@code left} to {@code (partitionIndex - 1)} and from
+     *     {@code (partitionIndex + 1)} to {@code right}, are sorted by {@code quickRanges} without recursion,
+     *     the smaller one first, while the larger one waits on its stack of ranges.</li>
      *     <li>This process is repeated until the entire array is sorted.</li>
      * </ul>
      * @param       array to be arranged.
      * @param       left the value in the array must be smaller than a {@code right} parameter.
      * @param       right the value in the array must be greater than a {@code left} parameter.
      * @see         QuickInterface#partitionInc(Comparable[], int, int)
+     * @see         QuickInterface#quickRanges(int, int, IntBinaryOperator)
      */
     default void quickInc(T[] array, int left, int right) {
-        if (left < right) {
-            int partitionIndex = partitionInc(array, left, right);
-            quickInc(array, left, (partitionIndex - 1));
-            quickInc(array, (partitionIndex +1), right);
-        }
+        quickRanges(left, right, (from, to) -> partitionInc(array, from, to));
     }
 
     /**
@@ -117,11 +124,9 @@ public interface QuickInterface<T extends Comparable>
      *     <li>Inside the condition, the {@code quickDec} method is called to partition the array and obtain the
      *     {@code partitionIndex},
      *     which represents the correct position of the pivot element after the partitioning.</li>
-     *     <li>The {@code quickDec} method is recursively called twice:</li>
-     *     <li>The first recursive call sorts the left partition of the array by calling {@code quickDec}
-     *     with left as the start index and {@code (partitionIndex - 1)} as the end index.</li>
-     *     <li>The second recursive call sorts the right partition of the array by calling {@code quickDec} with
-     *     {@code (partitionIndex + 1)} as the start index and {@code right} as the end index.</li>
+     *     <li>The two partitions, from {@code left} to {@code (partitionIndex - 1)} and from
+     *     {@code (partitionIndex + 1)} to {@code right}, are sorted by {@code quickRanges} without recursion,
+     *     the smaller one first, while the larger one waits on its stack of ranges.</li>
      *     <li>This process is repeated until the entire array is sorted.</li>
      * </ul>
      * @param       array to be arranged.
@@ -130,11 +135,7 @@ public interface QuickInterface<T extends Comparable>
      * @see         QuickInterface#partitionDec(Comparable[], int, int)
      */
     default void quickDec(T[] array, int left, int right) {
-        if (left < right) {
-            int partitionIndex = partitionDec(array, left, right);
-            quickDec(array, left, (partitionIndex - 1));
-            quickDec(array, (partitionIndex +1), right);
-        }
+        quickRanges(left, right, (from, to) -> partitionDec(array, from, to));
     }
 
     /**
@@ -149,13 +150,11 @@ public interface QuickInterface<T extends Comparable>
      *     it proceeds to call the {@code partition} method to partition the array within
      *     the specified range using the {@code functional} instance as the comparison logic.
      *     The result of the partitioning step is stored in the {@code partitionIndex} variable.</li>
-     *     <li>After the partitioning step, it recursively calls the {@code quick} method to sort the left subarray,
-     *     from {@code left} to {@code (partitionIndex - 1)}, using the same {@code functional} instance.</li>
-     *     <li>It also recursively calls the {@code quick} method to sort the right subarray,
-     *     from {@code (partitionIndex + 1)} to {@code right}, using the same {@code functional} instance.</li>
-     *     <li>The recursive calls continue until the base case is reached,
-     *     where {@code left} becomes greater than or equal to {@code right}.
-     *     At that point, the method returns without performing any further sorting.</li>
+     *     <li>After the partitioning step, the left subarray, from {@code left} to {@code (partitionIndex - 1)},
+     *     and the right subarray, from {@code (partitionIndex + 1)} to {@code right}, are sorted by
+     *     {@code quickRanges} with the same {@code functional} instance, the smaller one first.</li>
+     *     <li>The ranges continue to be partitioned until {@code left} becomes greater than or equal to
+     *     {@code right}.</li>
      * </ul>
      * {@code quick} method implements the Quicksort algorithm using the partitioning logic defined
      * by the {@code partition} method and the comparison logic defined by the {@code mz.SortFunctional} instance.
@@ -168,10 +167,49 @@ public interface QuickInterface<T extends Comparable>
      * @see         QuickInterface#partition(Comparable[], int, int, SortFunctional)
      */
     default void quick(T[] array, int left, int right, SortFunctional<T> functional) {
-        if (left < right) {
-            int partitionIndex = partition(array, left, right, functional);
-            quick(array, left, (partitionIndex - 1), functional);
-            quick(array, (partitionIndex +1), right, functional);
+        quickRanges(left, right, (from, to) -> partition(array, from, to, functional));
+    }
+
+    /**
+     * {@code quickRanges} sorts the range from {@code left} to {@code right} by repeated partitioning, on an explicit
+     * stack of ranges instead of recursion.
+     * <ul>
+     *     <li>The current range is split by {@code partition}, which returns the final index of its pivot.</li>
+     *     <li>The larger side is pushed onto the stack, and the loop continues on the smaller side.</li>
+     *     <li>When the current range has less than two elements, the last pushed range is popped,
+     *     until the stack is empty.</li>
+     * </ul>
+     * The current range is at most half of every range waiting on the stack, so the stack never holds more than
+     * <i>log2(n)</i> ranges, <i>32</i> pairs of indices are enough for any array.
+     * The sort needs only a few frames of the call stack however the pivots fall, so even the sorted input of the
+     * last element pivot, which partitions into an empty and an {@code (n - 1)} long side, sorts on the small stacks
+     * of the worker or the virtual threads.
+     * @param       left the first index of the range.
+     * @param       right the last index of the range.
+     * @param       partition partitions the range from its first to its last argument, and returns the index of the
+     *              pivot.
+     */
+    default void quickRanges(int left, int right, IntBinaryOperator partition) {
+        int[] stack = new int[64];
+        int top = 0;
+        while (true) {
+            while (left < right) {
+                int partitionIndex = partition.applyAsInt(left, right);
+                if ((partitionIndex - left) < (right - partitionIndex)) {
+                    stack[top++] = (partitionIndex + 1);
+                    stack[top++] = right;
+                    right = (partitionIndex - 1);
+                } else {
+                    stack[top++] = left;
+                    stack[top++] = (partitionIndex - 1);
+                    left = (partitionIndex + 1);
+                }
+            }
+            if (top == 0) {
+                return;
+            }
+            right = stack[--top];
+            left = stack[--top];
         }
     }
 
@@ -190,7 +228,8 @@ public interface QuickInterface<T extends Comparable>
      *     along with the indices left and right
      *     that define the range of the subarray being partitioned.
      *     It returns the index of the pivot element after the partitioning is done.</li>
-     *     <li>The pivot element is chosen as {@code array[right]}, which is the last element of the subarray.</li>
+     *     <li>The pivot element is selected by the {@code pivotStrategy} and moved to {@code array[right]},
+     *     which is the last element of the subarray.</li>
      *     <li>The variable i is initialized to {@code (left - 1)}. It will keep track of the boundary between the
      *     elements smaller
      *     than the pivot and those greater than or equal to the pivot.</li>
@@ -213,6 +252,7 @@ public interface QuickInterface<T extends Comparable>
      */
     @SuppressWarnings("unchecked")
     default int partitionInc(T[] array, int left, int right) {
+        pivotStrategy().select(array, left, right, (a, b) -> a.compareTo(b) > 0);
         T pivot = array[right];
         int i = (left - 1);
         for (int j = left; j <= (right -1); j++) {
@@ -239,7 +279,8 @@ public interface QuickInterface<T extends Comparable>
      *     along with the indices left and right
      *     that define the range of the subarray being partitioned.
      *     It returns the index of the pivot element after the partitioning is done.</li>
-     *     <li>The pivot element is chosen as {@code array[right]}, which is the last element of the subarray.</li>
+     *     <li>The pivot element is selected by the {@code pivotStrategy} and moved to {@code array[right]},
+     *     which is the last element of the subarray.</li>
      *     <li>The variable i is initialized to {@code (left - 1)}. It will keep track of the boundary between the
      *     elements smaller
      *     than the pivot and those greater than or equal to the pivot.</li>
@@ -263,6 +304,7 @@ public interface QuickInterface<T extends Comparable>
      */
     @SuppressWarnings("unchecked")
     default int partitionDec(T[] array, int left, int right) {
+        pivotStrategy().select(array, left, right, (a, b) -> a.compareTo(b) < 0);
         T pivot = array[right];
         int i = (left - 1);
         for (int j = left; j <= (right - 1); j++) {
@@ -279,7 +321,8 @@ public interface QuickInterface<T extends Comparable>
      * and {@code right},
      * and an instance of {@code SortFunctional<T>} as parameters.
      * <ul>
-     *     <li>It starts by assigning the element at index {@code right} to the variable {@code pivot}.
+     *     <li>It starts by moving the pivot selected by the {@code pivotStrategy} to the index {@code right},
+     *     and assigning the element at index {@code right} to the variable {@code pivot}.
      *     This element will serve as the pivot for partitioning.</li>
      *     <li>It initializes the variable {@code i} to {@code (left - 1)}.
      *     This variable will keep track of the boundary between elements less than
@@ -309,6 +352,7 @@ public interface QuickInterface<T extends Comparable>
      * @return      the index of the pivot element.
      */
     default int partition(T[] array, int left, int right, SortFunctional<T> functional) {
+        pivotStrategy().select(array, left, right, functional);
         T pivot = array[right];
         int i = (left - 1);
         for (int j = left; j <= (right - 1); j++) {
@@ -369,6 +413,7 @@ public interface QuickInterface<T extends Comparable>
      */
     @SuppressWarnings("unchecked")
     default int[] partitionDualInc(T[] array, int left, int right) {
+        pivotStrategy().selectDual(array, left, right, (a, b) -> a.compareTo(b) > 0);
         if (array[left].compareTo(array[right]) > 0) {
             swap(array, left, right);
         }
@@ -442,6 +487,7 @@ public interface QuickInterface<T extends Comparable>
      */
     @SuppressWarnings("unchecked")
     default int[] partitionDualDec(T[] array, int left, int right) {
+        pivotStrategy().selectDual(array, left, right, (a, b) -> a.compareTo(b) < 0);
         if (array[left].compareTo(array[right]) < 0) {
             swap(array, left, right);
         }
@@ -532,6 +578,7 @@ public interface QuickInterface<T extends Comparable>
      * @see         SortSwap#swap(Comparable[], int, int)
      */
     default int[] partitionDual(T[] array, int left, int right, SortFunctional<T> functional) {
+        pivotStrategy().selectDual(array, left, right, functional);
         if (functional.functionalCompareTo(array[left], array[right])) {
             swap(array, left, right);
         }
@@ -557,6 +604,160 @@ public interface QuickInterface<T extends Comparable>
         return new int[] {newLeft, newRight};
     }
 
+    /**
+     * {@code partitionFatInc} is the Bentley–McIlroy three-way partition, it arranges the range in ascending order
+     * around the pivot, and collects the elements equal to the pivot in the middle.
+     * <ul>
+     *     <li>The pivot is selected by the {@code pivotStrategy} and moved to {@code array[right]},
+     *     it stops the scan from the left as a sentinel.</li>
+     *     <li>Index {@code i} scans from the left while the elements are smaller than the pivot,
+     *     index {@code j} scans from the right while the elements are greater than the pivot.</li>
+     *     <li>When both scans stopped and they did not cross, the two elements are swapped.
+     *     The results of the comparisons are kept, the swapped elements are not compared again.</li>
+     *     <li>An element equal to the pivot is swapped to the left end ({@code p}) or to the right end ({@code q})
+     *     of the range, so the equal keys are collected during the same single pass.</li>
+     *     <li>After the scans crossed, the pivot is put to its place,
+     *     and the equal keys of the two ends are swapped to the middle next to it.</li>
+     * </ul>
+     * Each element is compared once to the pivot, and only the equal keys are swapped twice.
+     * The equal keys never take part in the later partitions, so an input of <em>k</em> distinct keys is arranged in
+     * <em>O(n log(k))</em>.
+     * @param       array to be arranged.
+     * @param       left the value in the array must be smaller than a {@code right} parameter.
+     * @param       right the value in the array must be greater than a {@code left} parameter.
+     * @return      the first and the last index of the elements equal to the pivot.
+     * @see         SortSwap#swap(Comparable[], int, int)
+     */
+    @SuppressWarnings("unchecked")
+    default int[] partitionFatInc(T[] array, int left, int right) {
+        pivotStrategy().select(array, left, right, (a, b) -> a.compareTo(b) > 0);
+        T pivot = array[right];
+        int i = (left - 1), j = right, p = (left - 1), q = right, compareI, compareJ;
+        while (true) {
+            while ((compareI = array[++i].compareTo(pivot)) < 0);
+            while (((compareJ = pivot.compareTo(array[--j])) < 0) && (j > left));
+            if (i >= j) {
+                break;
+            }
+            swap(array, i, j);
+            if (compareJ == 0) {
+                swap(array, ++p, i);
+            }
+            if (compareI == 0) {
+                swap(array, j, --q);
+            }
+        }
+        return partitionFatMiddle(array, left, right, i, p, q);
+    }
+
+    /**
+     * {@code partitionFatDec} is the Bentley–McIlroy three-way partition, it arranges the range in descending order
+     * around the pivot, and collects the elements equal to the pivot in the middle.
+     * <ul>
+     *     <li>The pivot is selected by the {@code pivotStrategy} and moved to {@code array[right]},
+     *     it stops the scan from the left as a sentinel.</li>
+     *     <li>Index {@code i} scans from the left while the elements are greater than the pivot,
+     *     index {@code j} scans from the right while the elements are smaller than the pivot.</li>
+     *     <li>When both scans stopped and they did not cross, the two elements are swapped,
+     *     and the elements equal to the pivot are swapped to the ends of the range.</li>
+     *     <li>After the scans crossed, the pivot and the equal keys of the two ends are swapped to the middle.</li>
+     * </ul>
+     * @param       array to be arranged.
+     * @param       left the value in the array must be smaller than a {@code right} parameter.
+     * @param       right the value in the array must be greater than a {@code left} parameter.
+     * @return      the first and the last index of the elements equal to the pivot.
+     * @see         QuickInterface#partitionFatInc(Comparable[], int, int)
+     */
+    @SuppressWarnings("unchecked")
+    default int[] partitionFatDec(T[] array, int left, int right) {
+        pivotStrategy().select(array, left, right, (a, b) -> a.compareTo(b) < 0);
+        T pivot = array[right];
+        int i = (left - 1), j = right, p = (left - 1), q = right, compareI, compareJ;
+        while (true) {
+            while ((compareI = pivot.compareTo(array[++i])) < 0);
+            while (((compareJ = array[--j].compareTo(pivot)) < 0) && (j > left));
+            if (i >= j) {
+                break;
+            }
+            swap(array, i, j);
+            if (compareJ == 0) {
+                swap(array, ++p, i);
+            }
+            if (compareI == 0) {
+                swap(array, j, --q);
+            }
+        }
+        return partitionFatMiddle(array, left, right, i, p, q);
+    }
+
+    /**
+     * {@code partitionFat} is the Bentley–McIlroy three-way partition, it arranges the range in the order of the
+     * {@code functional} around the pivot, and collects the elements equal to the pivot in the middle.
+     * The {@code functional} only tells whether an element goes after the other,
+     * so an element stopping a scan is compared the other way too, to know if it is equal to the pivot.
+     * @param       array to be arranged.
+     * @param       left the value in the array must be smaller than a {@code right} parameter.
+     * @param       right the value in the array must be greater than a {@code left} parameter.
+     * @param       functional lambda expression for comparison.
+     * @return      the first and the last index of the elements equal to the pivot.
+     * @see         QuickInterface#partitionFatInc(Comparable[], int, int)
+     * @see         SortFunctional#functionalCompareTo(Comparable, Comparable)
+     */
+    default int[] partitionFat(T[] array, int left, int right, SortFunctional<T> functional) {
+        pivotStrategy().select(array, left, right, functional);
+        T pivot = array[right];
+        int i = (left - 1), j = right, p = (left - 1), q = right;
+        boolean equalI, equalJ;
+        while (true) {
+            while (functional.functionalCompareTo(pivot, array[++i]));
+            equalI = !functional.functionalCompareTo(array[i], pivot);
+            while (functional.functionalCompareTo(array[--j], pivot) && (j > left));
+            equalJ = (j > i) && !functional.functionalCompareTo(pivot, array[j]);
+            if (i >= j) {
+                break;
+            }
+            swap(array, i, j);
+            if (equalJ) {
+                swap(array, ++p, i);
+            }
+            if (equalI) {
+                swap(array, j, --q);
+            }
+        }
+        return partitionFatMiddle(array, left, right, i, p, q);
+    }
+
+    /**
+     * {@code partitionFatMiddle} finishes the Bentley–McIlroy three-way partition.
+     * <ul>
+     *     <li>The pivot at {@code right} is swapped to index {@code i}, where the scans crossed.</li>
+     *     <li>The equal keys collected at the left end, from {@code left} to {@code p},
+     *     are swapped to the left of the pivot.</li>
+     *     <li>The equal keys collected at the right end, from {@code q} to {@code (right - 1)},
+     *     are swapped to the right of the pivot.</li>
+     * </ul>
+     * @param       array to be arranged.
+     * @param       left the first index of the range.
+     * @param       right the last index of the range.
+     * @param       i where the scans crossed.
+     * @param       p the last index of the equal keys at the left end.
+     * @param       q the first index of the equal keys at the right end.
+     * @return      the first and the last index of the elements equal to the pivot.
+     * @see         QuickInterface#partitionFatInc(Comparable[], int, int)
+     */
+    default int[] partitionFatMiddle(T[] array, int left, int right, int i, int p, int q) {
+        swap(array, i, right);
+        int j = (i - 1);
+        i++;
+        for (int k = left; k <= p; k++) {
+            swap(array, k, j--);
+        }
+        for (int k = (right - 1); k >= q; k--) {
+            swap(array, k, i++);
+        }
+        return new int[] {(j + 1), (i - 1)};
+    }
+
     /**
      * Implementation of a quick sort algorithm for sorting the list of {@link java.lang.Comparable Comparable} objects
      * in ascending order.
@@ -625,11 +826,9 @@ public interface QuickInterface<T extends Comparable>
      *     <li>Inside the condition, the {@code quickInc} method is called to partition the list and obtain the
      *     {@code partitionIndex},
      *     which represents the correct position of the pivot element after the partitioning.</li>
-     *     <li>The {@code quickInc} method is recursively called twice:</li>
-     *     <li>The first recursive call sorts the left partition of the list by calling {@code quickInc}
-     *     with left as the start index and {@code (partitionIndex - 1)} as the end index.</li>
-     *     <li>The second recursive call sorts the right partition of the list by calling {@code quickInc} with
-     *     {@code (partitionIndex + 1)} as the start index and {@code right} as the end index.</li>
+     *     <li>The two partitions, from {@code left} to {@code (partitionIndex - 1)} and from
+     *     {@code (partitionIndex + 1)} to {@code right}, are sorted by {@code quickRanges} without recursion,
+     *     the smaller one first, while the larger one waits on its stack of ranges.</li>
      *     <li>This process is repeated until the entire list is sorted.</li>
      * </ul>
      * @param       list to be arranged.
@@ -638,11 +837,7 @@ public interface QuickInterface<T extends Comparable>
      * @see         QuickInterface#partitionInc(List, int, int)
      */
     default <L extends T> void quickInc(List<L> list, int left, int right) {
-        if (left < right) {
-            int partitionIndex = partitionInc(list, left, right);
-            quickInc(list, left, (partitionIndex - 1));
-            quickInc(list, (partitionIndex +1), right);
-        }
+        quickRanges(left, right, (from, to) -> partitionInc(list, from, to));
     }
 
     /**
@@ -660,11 +855,9 @@ public interface QuickInterface<T extends Comparable>
      *     <li>Inside the condition, the {@code quickDec} method is called to partition the list and obtain the
      *     {@code partitionIndex},
      *     which represents the correct position of the pivot element after the partitioning.</li>
-     *     <li>The {@code quickDec} method is recursively called twice:</li>
-     *     <li>The first recursive call sorts the left partition of the list by calling {@code quickDec}
-     *     with left as the start index and {@code (partitionIndex - 1)} as the end index.</li>
-     *     <li>The second recursive call sorts the right partition of the list by calling {@code quickDec} with
-     *     {@code (partitionIndex + 1)} as the start index and {@code right} as the end index.</li>
+     *     <li>The two partitions, from {@code left} to {@code (partitionIndex - 1)} and from
+     *     {@code (partitionIndex + 1)} to {@code right}, are sorted by {@code quickRanges} without recursion,
+     *     the smaller one first, while the larger one waits on its stack of ranges.</li>
      *     <li>This process is repeated until the entire list is sorted.</li>
      * </ul>
      * @param       list to be arranged.
@@ -673,11 +866,7 @@ public interface QuickInterface<T extends Comparable>
      * @see         QuickInterface#partitionDec(List, int, int)
      */
     default <L extends T> void quickDec(List<L> list, int left, int right) {
-        if (left < right) {
-            int partitionIndex = partitionDec(list, left, right);
-            quickDec(list, left, (partitionIndex - 1));
-            quickDec(list, (partitionIndex +1), right);
-        }
+        quickRanges(left, right, (from, to) -> partitionDec(list, from, to));
     }
 
     /**
@@ -691,13 +880,11 @@ public interface QuickInterface<T extends Comparable>
      *     it proceeds to call the {@code partition} method to partition the list within
      *     the specified range using the {@code functional} instance as the comparison logic.
      *     The result of the partitioning step is stored in the {@code partitionIndex} variable.</li>
-     *     <li>After the partitioning step, it recursively calls the {@code quick} method to sort the left sublist,
-     *     from {@code left} to {@code (partitionIndex - 1)}, using the same {@code functional} instance.</li>
-     *     <li>It also recursively calls the {@code quick} method to sort the right sublist,
-     *     from {@code (partitionIndex + 1)} to {@code right}, using the same {@code functional} instance.</li>
-     *     <li>The recursive calls continue until the base case is reached,
-     *     where {@code left} becomes greater than or equal to {@code right}.
-     *     At that point, the method returns without performing any further sorting.</li>
+     *     <li>After the partitioning step, the left sublist, from {@code left} to {@code (partitionIndex - 1)},
+     *     and the right sublist, from {@code (partitionIndex + 1)} to {@code right}, are sorted by
+     *     {@code quickRanges} with the same {@code functional} instance, the smaller one first.</li>
+     *     <li>The ranges continue to be partitioned until {@code left} becomes greater than or equal to
+     *     {@code right}.</li>
      * </ul>
      * {@code quick} method implements the Quicksort algorithm using the partitioning logic defined
      * by the {@code partition} method and the comparison logic defined by the {@code mz.SortFunctional} instance.
@@ -710,11 +897,7 @@ public interface QuickInterface<T extends Comparable>
      * @see         QuickInterface#partition(List, int, int, SortFunctional)
      */
     default <L extends T> void quick(List<L> list, int left, int right, SortFunctional<T> functional) {
-        if (left < right) {
-            int partitionIndex = partition(list, left, right, functional);
-            quick(list, left, (partitionIndex - 1), functional);
-            quick(list, (partitionIndex +1), right, functional);
-        }
+        quickRanges(left, right, (from, to) -> partition(list, from, to, functional));
     }
 
     /**
@@ -732,7 +915,8 @@ public interface QuickInterface<T extends Comparable>
      *     along with the indices left and right
      *     that define the range of the sublist being partitioned.
      *     It returns the index of the pivot element after the partitioning is done.</li>
-     *     <li>The pivot element is chosen as {@code list.get(right)}, which is the last element of the sublist.</li>
+     *     <li>The pivot element is selected by the {@code pivotStrategy} and moved to {@code list.get(right)},
+     *     which is the last element of the sublist.</li>
      *     <li>The variable i is initialized to {@code (left - 1)}. It will keep track of the boundary between the
      *     elements smaller
      *     than the pivot and those greater than or equal to the pivot.</li>
@@ -756,6 +940,7 @@ public interface QuickInterface<T extends Comparable>
      */
     @SuppressWarnings("unchecked")
     default <L extends T> int partitionInc(List<L> list, int left, int right) {
+        pivotStrategy().select(list, left, right, (a, b) -> a.compareTo(b) > 0);
         L pivot = list.get(right);
         int i = (left - 1);
         for (int j = left; j <= (right -1); j++) {
@@ -782,7 +967,8 @@ public interface QuickInterface<T extends Comparable>
      *     along with the indices left and right
      *     that define the range of the sublist being partitioned.
      *     It returns the index of the pivot element after the partitioning is done.</li>
-     *     <li>The pivot element is chosen as {@code list.get(right)}, which is the last element of the sublist.</li>
+     *     <li>The pivot element is selected by the {@code pivotStrategy} and moved to {@code list.get(right)},
+     *     which is the last element of the sublist.</li>
      *     <li>The variable i is initialized to {@code (left - 1)}. It will keep track of the boundary between the
      *     elements smaller
      *     than the pivot and those greater than or equal to the pivot.</li>
@@ -806,6 +992,7 @@ public interface QuickInterface<T extends Comparable>
      */
     @SuppressWarnings("unchecked")
     default <L extends T> int partitionDec(List<L> list, int left, int right) {
+        pivotStrategy().select(list, left, right, (a, b) -> a.compareTo(b) < 0);
         L pivot = list.get(right);
         int i = (left - 1);
         for (int j = left; j <= (right - 1); j++) {
@@ -822,7 +1009,8 @@ public interface QuickInterface<T extends Comparable>
      * {@code right},
      * and an instance of {@code SortFunctional<T>} as parameters.
      * <ul>
-     *     <li>It starts by assigning the element at index {@code right} to the variable {@code pivot}.
+     *     <li>It starts by moving the pivot selected by the {@code pivotStrategy} to the index {@code right},
+     *     and assigning the element at index {@code right} to the variable {@code pivot}.
      *     This element will serve as the pivot for partitioning.</li>
      *     <li>It initializes the variable {@code i} to {@code (left - 1)}.
      *     This variable will keep track of the boundary between elements less than
@@ -854,6 +1042,7 @@ public interface QuickInterface<T extends Comparable>
      * @see         SortSwap#swap(List, int, int)
      */
     default <L extends T> int partition(List<L> list, int left, int right, SortFunctional<T> functional) {
+        pivotStrategy().select(list, left, right, functional);
         L pivot = list.get(right);
         int i = (left - 1);
         for (int j = left; j <= (right - 1); j++) {
@@ -914,6 +1103,7 @@ public interface QuickInterface<T extends Comparable>
      */
     @SuppressWarnings("unchecked")
     default <L extends T> int[] partitionDualInc(List<L> list, int left, int right) {
+        pivotStrategy().selectDual(list, left, right, (a, b) -> a.compareTo(b) > 0);
         if (list.get(left).compareTo(list.get(right)) > 0) {
             swap(list, left, right);
         }
@@ -987,6 +1177,7 @@ public interface QuickInterface<T extends Comparable>
      */
     @SuppressWarnings("unchecked")
     default <L extends T> int[] partitionDualDec(List<L> list, int left, int right) {
+        pivotStrategy().selectDual(list, left, right, (a, b) -> a.compareTo(b) < 0);
         if (list.get(left).compareTo(list.get(right)) < 0) {
             swap(list, left, right);
         }
@@ -1077,6 +1268,7 @@ public interface QuickInterface<T extends Comparable>
      * @see         SortSwap#swap(List, int, int)
      */
     default <L extends T> int[] partitionDual(List<L> list, int left, int right, SortFunctional<T> functional) {
+        pivotStrategy().selectDual(list, left, right, functional);
         if (functional.functionalCompareTo(list.get(left), list.get(right))) {
             swap(list, left, right);
         }
@@ -1101,4 +1293,158 @@ public interface QuickInterface<T extends Comparable>
         swap(list, right, ++newRight);
         return new int[] {newLeft, newRight};
     }
+
+    /**
+     * {@code partitionFatInc} is the Bentley–McIlroy three-way partition, it arranges the range in ascending order
+     * around the pivot, and collects the elements equal to the pivot in the middle.
+     * <ul>
+     *     <li>The pivot is selected by the {@code pivotStrategy} and moved to {@code list.get(right)},
+     *     it stops the scan from the left as a sentinel.</li>
+     *     <li>Index {@code i} scans from the left while the elements are smaller than the pivot,
+     *     index {@code j} scans from the right while the elements are greater than the pivot.</li>
+     *     <li>When both scans stopped and they did not cross, the two elements are swapped.
+     *     The results of the comparisons are kept, the swapped elements are not compared again.</li>
+     *     <li>An element equal to the pivot is swapped to the left end ({@code p}) or to the right end ({@code q})
+     *     of the range, so the equal keys are collected during the same single pass.</li>
+     *     <li>After the scans crossed, the pivot is put to its place,
+     *     and the equal keys of the two ends are swapped to the middle next to it.</li>
+     * </ul>
+     * Each element is compared once to the pivot, and only the equal keys are swapped twice.
+     * The equal keys never take part in the later partitions, so an input of <em>k</em> distinct keys is arranged in
+     * <em>O(n log(k))</em>.
+     * @param       list to be arranged.
+     * @param       left the value in the list must be smaller than a {@code right} parameter.
+     * @param       right the value in the list must be greater than a {@code left} parameter.
+     * @return      the first and the last index of the elements equal to the pivot.
+     * @see         SortSwap#swap(List, int, int)
+     */
+    @SuppressWarnings("unchecked")
+    default <L extends T> int[] partitionFatInc(List<L> list, int left, int right) {
+        pivotStrategy().select(list, left, right, (a, b) -> a.compareTo(b) > 0);
+        L pivot = list.get(right);
+        int i = (left - 1), j = right, p = (left - 1), q = right, compareI, compareJ;
+        while (true) {
+            while ((compareI = list.get(++i).compareTo(pivot)) < 0);
+            while (((compareJ = pivot.compareTo(list.get(--j))) < 0) && (j > left));
+            if (i >= j) {
+                break;
+            }
+            swap(list, i, j);
+            if (compareJ == 0) {
+                swap(list, ++p, i);
+            }
+            if (compareI == 0) {
+                swap(list, j, --q);
+            }
+        }
+        return partitionFatMiddle(list, left, right, i, p, q);
+    }
+
+    /**
+     * {@code partitionFatDec} is the Bentley–McIlroy three-way partition, it arranges the range in descending order
+     * around the pivot, and collects the elements equal to the pivot in the middle.
+     * <ul>
+     *     <li>The pivot is selected by the {@code pivotStrategy} and moved to {@code list.get(right)},
+     *     it stops the scan from the left as a sentinel.</li>
+     *     <li>Index {@code i} scans from the left while the elements are greater than the pivot,
+     *     index {@code j} scans from the right while the elements are smaller than the pivot.</li>
+     *     <li>When both scans stopped and they did not cross, the two elements are swapped,
+     *     and the elements equal to the pivot are swapped to the ends of the range.</li>
+     *     <li>After the scans crossed, the pivot and the equal keys of the two ends are swapped to the middle.</li>
+     * </ul>
+     * @param       list to be arranged.
+     * @param       left the value in the list must be smaller than a {@code right} parameter.
+     * @param       right the value in the list must be greater than a {@code left} parameter.
+     * @return      the first and the last index of the elements equal to the pivot.
+     * @see         QuickInterface#partitionFatInc(List, int, int)
+     */
+    @SuppressWarnings("unchecked")
+    default <L extends T> int[] partitionFatDec(List<L> list, int left, int right) {
+        pivotStrategy().select(list, left, right, (a, b) -> a.compareTo(b) < 0);
+        L pivot = list.get(right);
+        int i = (left - 1), j = right, p = (left - 1), q = right, compareI, compareJ;
+        while (true) {
+            while ((compareI = pivot.compareTo(list.get(++i))) < 0);
+            while (((compareJ = list.get(--j).compareTo(pivot)) < 0) && (j > left));
+            if (i >= j) {
+                break;
+            }
+            swap(list, i, j);
+            if (compareJ == 0) {
+                swap(list, ++p, i);
+            }
+            if (compareI == 0) {
+                swap(list, j, --q);
+            }
+        }
+        return partitionFatMiddle(list, left, right, i, p, q);
+    }
+
+    /**
+     * {@code partitionFat} is the Bentley–McIlroy three-way partition, it arranges the range in the order of the
+     * {@code functional} around the pivot, and collects the elements equal to the pivot in the middle.
+     * The {@code functional} only tells whether an element goes after the other,
+     * so an element stopping a scan is compared the other way too, to know if it is equal to the pivot.
+     * @param       list to be arranged.
+     * @param       left the value in the list must be smaller than a {@code right} parameter.
+     * @param       right the value in the list must be greater than a {@code left} parameter.
+     * @param       functional lambda expression for comparison.
+     * @return      the first and the last index of the elements equal to the pivot.
+     * @see         QuickInterface#partitionFatInc(List, int, int)
+     * @see         SortFunctional#functionalCompareTo(Comparable, Comparable)
+     */
+    default <L extends T> int[] partitionFat(List<L> list, int left, int right, SortFunctional<T> functional) {
+        pivotStrategy().select(list, left, right, functional);
+        L pivot = list.get(right);
+        int i = (left - 1), j = right, p = (left - 1), q = right;
+        boolean equalI, equalJ;
+        while (true) {
+            while (functional.functionalCompareTo(pivot, list.get(++i)));
+            equalI = !functional.functionalCompareTo(list.get(i), pivot);
+            while (functional.functionalCompareTo(list.get(--j), pivot) && (j > left));
+            equalJ = (j > i) && !functional.functionalCompareTo(pivot, list.get(j));
+            if (i >= j) {
+                break;
+            }
+            swap(list, i, j);
+            if (equalJ) {
+                swap(list, ++p, i);
+            }
+            if (equalI) {
+                swap(list, j, --q);
+            }
+        }
+        return partitionFatMiddle(list, left, right, i, p, q);
+    }
+
+    /**
+     * {@code partitionFatMiddle} finishes the Bentley–McIlroy three-way partition.
+     * <ul>
+     *     <li>The pivot at {@code right} is swapped to index {@code i}, where the scans crossed.</li>
+     *     <li>The equal keys collected at the left end, from {@code left} to {@code p},
+     *     are swapped to the left of the pivot.</li>
+     *     <li>The equal keys collected at the right end, from {@code q} to {@code (right - 1)},
+     *     are swapped to the right of the pivot.</li>
+     * </ul>
+     * @param       list to be arranged.
+     * @param       left the first index of the range.
+     * @param       right the last index of the range.
+     * @param       i where the scans crossed.
+     * @param       p the last index of the equal keys at the left end.
+     * @param       q the first index of the equal keys at the right end.
+     * @return      the first and the last index of the elements equal to the pivot.
+     * @see         QuickInterface#partitionFatInc(List, int, int)
+     */
+    default <L extends T> int[] partitionFatMiddle(List<L> list, int left, int right, int i, int p, int q) {
+        swap(list, i, right);
+        int j = (i - 1);
+        i++;
+        for (int k = left; k <= p; k++) {
+            swap(list, k, j--);
+        }
+        for (int k = (right - 1); k >= q; k--) {
+            swap(list, k, i++);
+        }
+        return new int[] {(j + 1), (i - 1)};
+    }
 }
\ No newline at end of file
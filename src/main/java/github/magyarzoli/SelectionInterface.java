@@ -1,6 +1,7 @@
 package github.magyarzoli;
 
 import java.util.List;
+import java.util.ListIterator;
 
 /**
  * SelectionInterface, containing the methods of Selection Sort to implement other classes.
@@ -12,6 +13,18 @@ import java.util.List;
 public interface SelectionInterface<T extends Comparable>
         extends Sorter<T>, SortSwap<T>, SortFind<T> {
 
+    /**
+     * {@code tournament} tells whether the Selection Sorts of this interface are played as a tournament.
+     * The Tournament Sort builds a winner tree once, and after each extracted element replays only the matches on
+     * its path, <em>O(n log(n))</em> instead of rescanning the unsorted part for every position.
+     * The default is {@code false}, the sorters choosing the tournament override it.
+     * @return      {@code true} if the selections are played as a tournament.
+     * @see         SelectionInterface#tournament(Comparable[], SortFunctional)
+     */
+    default boolean tournament() {
+        return false;
+    }
+
     /**
      * {@code selectionInc} that performs the Selection Sort algorithm on an array of {@link java.lang.Comparable
      * Comparable} objects.
@@ -43,8 +56,13 @@ public interface SelectionInterface<T extends Comparable>
      * @param       array to be arranged.
      * @see         SortFind#findMinimumIndex(Comparable[], int, int)
      * @see         SortSwap#swap(Comparable[], int, int)
+     * @see         SelectionInterface#tournament()
      */
     default void selectionInc(T[] array) {
+        if (tournament()) {
+            tournamentInc(array);
+            return;
+        }
         int n = array.length;
         for (int i = 0; i < (n - 1); i++) {
             int index = i;
@@ -86,8 +104,13 @@ public interface SelectionInterface<T extends Comparable>
      * @param       array to be arranged.
      * @see         SortFind#findMaximumIndex(Comparable[], int, int)
      * @see         SortSwap#swap(Comparable[], int, int)
+     * @see         SelectionInterface#tournament()
      */
     default void selectionDec(T[] array) {
+        if (tournament()) {
+            tournamentDec(array);
+            return;
+        }
         int n = array.length;
         for (int i = 0; i < (n - 1); i++) {
             int index = i;
@@ -130,8 +153,13 @@ public interface SelectionInterface<T extends Comparable>
      * @param       functional lambda expression for comparison.
      * @see         SortFind#findValueIndex(Comparable[], int, int, SortFunctional)
      * @see         SortSwap#swap(Comparable[], int, int)
+     * @see         SelectionInterface#tournament()
      */
     default void selection(T[] array, SortFunctional<T> functional) {
+        if (tournament()) {
+            tournament(array, functional);
+            return;
+        }
         int n = array.length;
         for (int i = 0; i < (n - 1); i++) {
             int index = i;
@@ -310,8 +338,13 @@ public interface SelectionInterface<T extends Comparable>
      * @param       list to be arranged.
      * @see         SortFind#findMinimumIndex(List, int, int)
      * @see         SortSwap#swap(List, int, int)
+     * @see         SelectionInterface#tournament()
      */
     default <L extends T> void selectionInc(List<L> list) {
+        if (tournament()) {
+            tournamentInc(list);
+            return;
+        }
         int n = list.size();
         for (int i = 0; i < (n - 1); i++) {
             int index = i;
@@ -353,8 +386,13 @@ public interface SelectionInterface<T extends Comparable>
      * @param       list to be arranged.
      * @see         SortFind#findMaximumIndex(List, int, int)
      * @see         SortSwap#swap(List, int, int)
+     * @see         SelectionInterface#tournament()
      */
     default <L extends T> void selectionDec(List<L> list) {
+        if (tournament()) {
+            tournamentDec(list);
+            return;
+        }
         int n = list.size();
         for (int i = 0; i < (n - 1); i++) {
             int index = i;
@@ -397,8 +435,13 @@ public interface SelectionInterface<T extends Comparable>
      * @param       functional lambda expression for comparison.
      * @see         SortFind#findValueIndex(List, int, int, SortFunctional)
      * @see         SortSwap#swap(List, int, int)
+     * @see         SelectionInterface#tournament()
      */
     default <L extends T> void selection(List<L> list, SortFunctional<T> functional) {
+        if (tournament()) {
+            tournament(list, functional);
+            return;
+        }
         int n = list.size();
         for (int i = 0; i < (n - 1); i++) {
             int index = i;
@@ -544,4 +587,160 @@ public interface SelectionInterface<T extends Comparable>
             swap(list, index, i);
         }
     }
+
+    /**
+     * {@code tournamentInc} is the Tournament Sort, the tree selection variant of Selection Sort,
+     * it arranges the array in ascending order.
+     * @param       array to be arranged.
+     * @see         SelectionInterface#tournament(Comparable[], SortFunctional)
+     */
+    @SuppressWarnings("unchecked")
+    default void tournamentInc(T[] array) {
+        tournament(array, (a, b) -> a.compareTo(b) > 0);
+    }
+
+    /**
+     * {@code tournamentDec} is the Tournament Sort, the tree selection variant of Selection Sort,
+     * it arranges the array in descending order.
+     * @param       array to be arranged.
+     * @see         SelectionInterface#tournament(Comparable[], SortFunctional)
+     */
+    @SuppressWarnings("unchecked")
+    default void tournamentDec(T[] array) {
+        tournament(array, (a, b) -> a.compareTo(b) < 0);
+    }
+
+    /**
+     * {@code tournament} is the Tournament Sort, the tree selection variant of Selection Sort,
+     * it arranges the array in the order of the {@code functional}.
+     * <ul>
+     *     <li>The elements are copied to a {@code source} array, the tournament is played on their indices.</li>
+     *     <li>The winner tree is built once by {@code tournamentTree}, the root holds the first element.</li>
+     *     <li>For each position of the array, the winner is written to it, and {@code tournamentNext} replays only
+     *     the matches on the path of the extracted element.</li>
+     * </ul>
+     * The tree is built with <em>(n - 1)</em> comparisons, and every replay takes at most <em>log(n)</em>,
+     * so the sort takes about <em>n log(n)</em> comparisons instead of the <em>n^2 / 2</em> of Selection Sort.
+     * As Selection Sort, it writes every position of the array exactly once, <em>n</em> writes in total,
+     * which matters when the writes are expensive. On equal elements the one in front wins, so it is stable.
+     * @param       array to be arranged.
+     * @param       functional lambda expression for comparison.
+     * @see         SelectionInterface#tournamentTree(Comparable[], SortFunctional)
+     * @see         SelectionInterface#tournamentNext(Comparable[], int[], SortFunctional)
+     */
+    default void tournament(T[] array, SortFunctional<T> functional) {
+        T[] source = array.clone();
+        int[] tree = tournamentTree(source, functional);
+        for (int i = 0; i < source.length; i++) {
+            array[i] = source[tournamentNext(source, tree, functional)];
+        }
+    }
+
+    /**
+     * {@code tournamentTree} builds the winner tree of the Tournament Sort.
+     * <ul>
+     *     <li>The number of leaves is the smallest power of two not less than the number of elements.</li>
+     *     <li>The node {@code k} has the children {@code 2k} and {@code (2k + 1)}, the root is the node <i>1</i>,
+     *     and the leaves hold the indices of the elements, <i>-1</i> for the empty leaves.</li>
+     *     <li>Every inner node, from the last one to the root, holds the winner of its two children.</li>
+     * </ul>
+     * @param       source the elements of the tournament.
+     * @param       functional lambda expression for comparison.
+     * @return      the winner tree.
+     * @see         SelectionInterface#tournamentWinner(Comparable[], int, int, SortFunctional)
+     */
+    default int[] tournamentTree(T[] source, SortFunctional<T> functional) {
+        int leaves = 1;
+        while (leaves < source.length) {
+            leaves <<= 1;
+        }
+        int[] tree = new int[(2 * leaves)];
+        for (int i = 0; i < leaves; i++) {
+            tree[(leaves + i)] = (i < source.length) ? i : -1;
+        }
+        for (int node = (leaves - 1); node >= 1; node--) {
+            tree[node] = tournamentWinner(source, tree[(2 * node)], tree[((2 * node) + 1)], functional);
+        }
+        return tree;
+    }
+
+    /**
+     * {@code tournamentNext} extracts the winner of the tournament.
+     * The leaf of the winner is emptied, and the matches on its path are replayed up to the root,
+     * the other matches of the tree are not affected.
+     * @param       source the elements of the tournament.
+     * @param       tree the winner tree.
+     * @param       functional lambda expression for comparison.
+     * @return      the index of the winner in {@code source}.
+     * @see         SelectionInterface#tournamentTree(Comparable[], SortFunctional)
+     */
+    default int tournamentNext(T[] source, int[] tree, SortFunctional<T> functional) {
+        int winner = tree[1], node = ((tree.length / 2) + winner);
+        tree[node] = -1;
+        for (node >>= 1; node >= 1; node >>= 1) {
+            tree[node] = tournamentWinner(source, tree[(2 * node)], tree[((2 * node) + 1)], functional);
+        }
+        return winner;
+    }
+
+    /**
+     * {@code tournamentWinner} plays a match of the Tournament Sort.
+     * An empty player (<i>-1</i>) loses without comparison, on equal elements the first player wins.
+     * @param       source the elements of the tournament.
+     * @param       first the index of the first player, from the left child.
+     * @param       second the index of the second player, from the right child.
+     * @param       functional lambda expression for comparison.
+     * @return      the index of the winner, <i>-1</i> if both players are empty.
+     */
+    default int tournamentWinner(T[] source, int first, int second, SortFunctional<T> functional) {
+        if (first < 0) {
+            return second;
+        }
+        if (second < 0) {
+            return first;
+        }
+        return functional.functionalCompareTo(source[first], source[second]) ? second : first;
+    }
+
+    /**
+     * {@code tournamentInc} is the Tournament Sort, it arranges the list in ascending order.
+     * @param       list to be arranged.
+     * @param       <L> the type of elements in the list, which must extend the type {@code T}.
+     * @see         SelectionInterface#tournament(List, SortFunctional)
+     */
+    @SuppressWarnings("unchecked")
+    default <L extends T> void tournamentInc(List<L> list) {
+        tournament(list, (a, b) -> a.compareTo(b) > 0);
+    }
+
+    /**
+     * {@code tournamentDec} is the Tournament Sort, it arranges the list in descending order.
+     * @param       list to be arranged.
+     * @param       <L> the type of elements in the list, which must extend the type {@code T}.
+     * @see         SelectionInterface#tournament(List, SortFunctional)
+     */
+    @SuppressWarnings("unchecked")
+    default <L extends T> void tournamentDec(List<L> list) {
+        tournament(list, (a, b) -> a.compareTo(b) < 0);
+    }
+
+    /**
+     * {@code tournament} is the Tournament Sort, it arranges the list in the order of the {@code functional}.
+     * The elements are copied to an array, the tournament is played on it, and the winners are written to the list
+     * by a {@code ListIterator}, every position exactly once.
+     * @param       list to be arranged.
+     * @param       functional lambda expression for comparison.
+     * @param       <L> the type of elements in the list, which must extend the type {@code T}.
+     * @see         SelectionInterface#tournament(Comparable[], SortFunctional)
+     */
+    @SuppressWarnings("unchecked")
+    default <L extends T> void tournament(List<L> list, SortFunctional<T> functional) {
+        T[] source = (T[]) list.toArray(new Comparable[0]);
+        int[] tree = tournamentTree(source, functional);
+        ListIterator<L> iterator = list.listIterator();
+        while (iterator.hasNext()) {
+            iterator.next();
+            iterator.set((L) source[tournamentNext(source, tree, functional)]);
+        }
+    }
 }
\ No newline at end of file
@@ -36,137 +36,78 @@ public interface Sort<T extends Comparable> {
     /**
      * {@code functionalComparableToAddEquals} to the {@code SortFunctional} interface.
      * <ul>
-     *     <li>The {@link java.lang.SuppressWarnings @SuppressWarnings}{@code ("unchecked")} annotation
-     *     is used to suppress compiler warnings related to unchecked type casting in this method.</li>
      *     <li>The {@code functionalComparableToAddEquals} method takes
      *     an instance of {@code SortFunctional} as a parameter.</li>
-     *     <li>It declares a new {@code SortFunctional} variable called {@code newFunctional}
-     *     and initializes it with a value of {@code null}.</li>
-     *     <li>The method then uses a {@code switch} statement to determine
-     *     the value returned by the {@code scanFunctionalComparableTo} method</li>
-     *     <li>Depending on the return value of {@code scanFunctionalComparableTo},
-     *     different cases are evaluated.</li>
-     *     <li>Finally, the method returns the {@code newFunctional} variable.</li>
+     *     <li>If the {@code functional} is a {@link SortComparator}, the new comparison is
+     *     {@code (compare(a, b) >= 0)}, one call of the comparator.</li>
+     *     <li>Otherwise the new comparison is {@code (f(a, b) || !f(b, a))}, it holds for the equal elements
+     *     whether or not the {@code functional} itself holds for them, and it calls the {@code functional} a second
+     *     time only when the first call is {@code false}.</li>
      * </ul>
      * {@code functionalComparableToAddEquals} this method to be to create a new {@code SortFunctional}
-     * instance that modifies the behavior of the original {@code functionalCompareTo} method based on
-     * the result of the {@code scanFunctionalComparableTo} method.
+     * instance that extends the original {@code functionalCompareTo} method with the equal elements, derived from
+     * the {@code functional} itself, so it keeps the custom keys of the comparison.
      * @param       functional lambda expression for comparison.
      * @return      creates a new lambda expression for the comparison that contains the equality.
      * @see         SortFunctional
-     * @see         Sort#scanFunctionalComparableTo(SortFunctional)
+     * @see         SortComparator
      */
     default SortFunctional<T> functionalComparableToAddEquals (SortFunctional<T> functional) {
-        SortFunctional<T> newFunctional = null;
-        switch (scanFunctionalComparableTo(functional)) {
-            case 0:
-                newFunctional = (a, b) -> a.compareTo(b) >= 0;
-                break;
-            case 2:
-                newFunctional = (a, b) -> a.compareTo(b) <= 0;
-                break;
-            case 4:
-                newFunctional = (a, b) -> a.compareTo(b) == 0;
-                break;
-            case 1:
-            case 3:
-            case 5:
-                newFunctional = functional;
-                break;
+        if (functional instanceof SortComparator) {
+            SortComparator<T> comparator = (SortComparator<T>) functional;
+            return (a, b) -> (comparator.compare(a, b) >= 0);
         }
-        return newFunctional;
+        return (a, b) -> (functional.functionalCompareTo(a, b) || !functional.functionalCompareTo(b, a));
     }
 
     /**
      * {@code functionalComparableToRemoveEquals} to the {@code SortFunctional} interface.
      * <ul>
-     *     <li>The {@link java.lang.SuppressWarnings @SuppressWarnings}{@code ("unchecked")} annotation
-     *     is used to suppress compiler warnings related to unchecked type casting in this method.</li>
      *     <li>The {@code functionalComparableToRemoveEquals} method takes
      *     an instance of {@code SortFunctional} as a parameter.</li>
-     *     <li>It declares a new {@code SortFunctional} variable called {@code newFunctional}
-     *     and initializes it with a value of {@code null}.</li>
-     *     <li>The method then uses a {@code switch} statement to determine
-     *     the value returned by the {@code scanFunctionalComparableTo} method</li>
-     *     <li>Depending on the return value of {@code scanFunctionalComparableTo},
-     *     different cases are evaluated.</li>
-     *     <li>Finally, the method returns the {@code newFunctional} variable.</li>
+     *     <li>If the {@code functional} is a {@link SortComparator}, the new comparison is
+     *     {@code (compare(a, b) > 0)}, one call of the comparator.</li>
+     *     <li>Otherwise the new comparison is {@code (f(a, b) && !f(b, a))}, it does not hold for the equal elements
+     *     whether or not the {@code functional} itself holds for them, and it calls the {@code functional} a second
+     *     time only when the first call is {@code true}.</li>
      * </ul>
      * {@code functionalComparableToRemoveEquals} this method to be to create a new {@code SortFunctional}
      * instance that modifies the behavior of the original {@code functionalCompareTo} method by removing
-     * the equality checks based on the result of the {@code scanFunctionalComparableTo} method.
+     * the equal elements, derived from the {@code functional} itself, so it keeps the custom keys of the comparison.
      * @param       functional lambda expression for comparison.
      * @return      creates a new lambda expression for comparison that does not include equality.
      * @see         SortFunctional
-     * @see         Sort#scanFunctionalComparableTo(SortFunctional)
+     * @see         SortComparator
      */
     default SortFunctional<T> functionalComparableToRemoveEquals(SortFunctional<T> functional) {
-        SortFunctional<T> newFunctional = null;
-        switch (scanFunctionalComparableTo(functional)) {
-            case 1:
-                newFunctional = (a, b) -> a.compareTo(b) > 0;
-                break;
-            case 3:
-                newFunctional = (a, b) -> a.compareTo(b) < 0;
-                break;
-            case 5:
-                newFunctional = (a, b) -> a.compareTo(b) != 0;
-                break;
-            case 0:
-            case 2:
-            case 4:
-                newFunctional = functional;
+        if (functional instanceof SortComparator) {
+            return functional;
         }
-        return newFunctional;
+        return (a, b) -> (functional.functionalCompareTo(a, b) && !functional.functionalCompareTo(b, a));
     }
 
     /**
      * {@code functionalComparableToReverse} to the {@code SortFunctional} interface.
      * <ul>
-     *     <li>The {@link java.lang.SuppressWarnings @SuppressWarnings}{@code ("unchecked")} annotation
-     *     is used to suppress compiler warnings related to unchecked type casting in this method.</li>
      *     <li>The {@code functionalComparableToReverse} method takes
      *     an instance of {@code SortFunctional} as a parameter.</li>
-     *     <li>It declares a new {@code SortFunctional} variable called {@code newFunctional}
-     *     and initializes it with a value of {@code null}.</li>
-     *     <li>The method then uses a {@code switch} statement to determine
-     *     the value returned by the {@code scanFunctionalComparableTo} method</li>
-     *     <li>Depending on the return value of {@code scanFunctionalComparableTo},
-     *     different cases are evaluated.</li>
-     *     <li>Finally, the method returns the {@code newFunctional} variable.</li>
+     *     <li>If the {@code functional} is a {@link SortComparator}, the new comparison is its
+     *     {@link SortComparator#reversed() reversed} order.</li>
+     *     <li>Otherwise the new comparison is {@code f(b, a)}, the {@code functional} with the elements swapped.</li>
      * </ul>
      * {@code functionalComparableToReverse} this method to be to create a new {@code SortFunctional}
-     * instance that reverses the behavior of the original {@code functionalCompareTo} method based on
-     * the result of the {@code scanFunctionalComparableTo} method.
-     * Each comparison case is reversed to its opposite result.
+     * instance that reverses the behavior of the original {@code functionalCompareTo} method,
+     * with one call of the {@code functional} per comparison.
      * @param       functional lambda expression for comparison.
      * @return      creates a new lambda expression for comparison, the opposite of the preceding defined function.
      * @see         SortFunctional
-     * @see         Sort#scanFunctionalComparableTo(SortFunctional)
+     * @see         SortComparator
      */
     default SortFunctional<T> functionalComparableToReverse(SortFunctional<T> functional) {
-        SortFunctional<T> newFunctional = null;
-        switch (scanFunctionalComparableTo(functional)) {
-            case 0:
-                newFunctional = (a, b) -> a.compareTo(b) < 0;
-                break;
-            case 1:
-                newFunctional = (a, b) -> a.compareTo(b) <= 0;
-                break;
-            case 2:
-                newFunctional = (a, b) -> a.compareTo(b) > 0;
-                break;
-            case 3:
-                newFunctional = (a, b) -> a.compareTo(b) >= 0;
-                break;
-            case 4:
-                newFunctional = (a, b) -> a.compareTo(b) == 0;
-                break;
-            case 5:
-                newFunctional = (a, b) -> a.compareTo(b) != 0;
-                break;
+        if (functional instanceof SortComparator) {
+            return ((SortComparator<T>) functional).reversed();
         }
-        return newFunctional;
+        return (a, b) -> functional.functionalCompareTo(b, a);
     }
 
     /**
@@ -189,7 +130,11 @@ public interface Sort<T extends Comparable> {
      * @param       functional lambda expression for comparison.
      * @return      the result of what type of setting lambda is defined.
      * @see         SortFunctional#functionalCompareTo(Comparable, Comparable)
+     * @deprecated  the probe casts {@code Integer} values to {@code T}, so it throws
+     *              {@link java.lang.ClassCastException ClassCastException} for the lambda expressions of other types,
+     *              the derived comparisons of the interface no longer use it, use {@link SortComparator#of}.
      */
+    @Deprecated
     default int scanFunctionalComparableTo(SortFunctional<T> functional) {
         Integer a = 1, b = 2;
         boolean f = functional.functionalCompareTo((T) a, (T) a),
@@ -3,6 +3,7 @@ package github.magyarzoli;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 
 /**
@@ -179,6 +180,34 @@ public interface SortArray<T extends Comparable>
         threadArray(array, functional, thread);
     }
 
+    /**
+     * Every class inherited by polymorphism will contain the callable method. default pre-created method calls
+     * additional methods.
+     * The {@code sortArrayComparator} method takes the {@code array} and a three-way {@code comparator} as
+     * parameters, it sorts with the {@link SortComparator} of the {@code comparator},
+     * one call of the {@code comparator} per comparison.
+     * @param       array to be arranged.
+     * @param       comparator the three-way comparison of the elements.
+     * @see         SortComparator#comparing(Comparator)
+     */
+    default void sortArrayComparator(T[] array, Comparator<? super T> comparator) {
+        sortArray(array, SortComparator.comparing(comparator));
+    }
+
+    /**
+     * Every class inherited by polymorphism will contain the callable method. default pre-created method calls
+     * additional methods.
+     * The {@code sortArrayComparator} method takes the {@code array} and a three-way {@code comparator} as
+     * parameters, it sorts with the {@link SortComparator} of the {@code comparator} on {@code thread} threads.
+     * @param       array to be arranged.
+     * @param       comparator the three-way comparison of the elements.
+     * @param       thread on how many threads to run the queue arrangement.
+     * @see         SortComparator#comparing(Comparator)
+     */
+    default void sortArrayComparator(T[] array, Comparator<? super T> comparator, int thread) {
+        sortArray(array, SortComparator.comparing(comparator), thread);
+    }
+
     /**
      * {@code threadArray} that performs parallel sorting of an array using multiple threads.
      * <ul>
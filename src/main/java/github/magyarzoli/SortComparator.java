@@ -0,0 +1,159 @@
+package github.magyarzoli;
+
+import java.util.Comparator;
+
+/**
+ * The three-way comparison of the sorters, a {@link java.util.Comparator Comparator} that is also a
+ * {@link SortFunctional}, so it can be passed to every method that takes a lambda expression for comparison.
+ * <ul>
+ *     <li>{@code functionalCompareTo(a, b)} is {@code (compare(a, b) > 0)}, one call of the comparator.</li>
+ *     <li>The derived comparisons of {@link Sort}, with or without the equality and reversed, are also one call of
+ *     the comparator, where a boolean lambda expression needs two calls to tell the equal elements apart.</li>
+ *     <li>The ascending and the descending order are the {@link #natural()} and the {@link #reverse()}
+ *     specializations, they call {@link java.lang.Comparable#compareTo(Object) compareTo} directly.</li>
+ * </ul>
+ * @param       <T> setting of a type based on which the elements can be sorted.
+ * @see         SortFunctional
+ * @since       1.3
+ * @author      <a href=https://github.com/MagyarZoli>Magyar Zoltán</a>
+ */
+@SuppressWarnings("rawtypes")
+public final class SortComparator<T extends Comparable> implements SortFunctional<T>, Comparator<T> {
+
+    /**
+     * The ascending order of the elements.
+     */
+    @SuppressWarnings("unchecked")
+    private static final SortComparator NATURAL = new SortComparator<>((a, b) -> a.compareTo(b));
+
+    /**
+     * The descending order of the elements.
+     */
+    @SuppressWarnings("unchecked")
+    private static final SortComparator REVERSE = new SortComparator<>((a, b) -> b.compareTo(a));
+
+    /**
+     * The three-way comparison.
+     */
+    private final Comparator<? super T> comparator;
+
+    /**
+     * <b>Sort Comparator:</b><br>
+     * The comparison of the {@code comparator}.
+     * @param       comparator the three-way comparison, negative, zero or positive as the first element goes
+     *              before, with or after the second.
+     */
+    private SortComparator(Comparator<? super T> comparator) {
+        this.comparator = comparator;
+    }
+
+    /**
+     * {@code comparing} returns the comparison of a {@code Comparator}.
+     * @param       comparator the three-way comparison.
+     * @param       <T> setting of a type based on which the elements can be sorted.
+     * @return      the {@code comparator} itself if it is a {@code SortComparator}, otherwise a new one.
+     * @throws      NullPointerException if the {@code comparator} is {@code null}.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends Comparable> SortComparator<T> comparing(Comparator<? super T> comparator) {
+        if (comparator == null) {
+            throw new NullPointerException("comparator");
+        }
+        if (comparator instanceof SortComparator) {
+            return (SortComparator<T>) comparator;
+        }
+        return new SortComparator<>(comparator);
+    }
+
+    /**
+     * {@code of} returns the three-way comparison of a lambda expression for comparison.
+     * A {@code SortComparator} is returned itself, otherwise the comparison calls the lambda expression with the
+     * elements in both orders, so it tells the equal elements apart whether or not the lambda expression holds for
+     * them.
+     * @param       functional lambda expression for comparison.
+     * @param       <T> setting of a type based on which the elements can be sorted.
+     * @return      the three-way comparison of the {@code functional}.
+     * @throws      NullPointerException if the {@code functional} is {@code null}.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends Comparable> SortComparator<T> of(SortFunctional<T> functional) {
+        if (functional instanceof SortComparator) {
+            return (SortComparator<T>) functional;
+        }
+        if (functional == null) {
+            throw new NullPointerException("functional");
+        }
+        return new SortComparator<>((a, b) -> {
+            boolean after = functional.functionalCompareTo(a, b);
+            if (after != functional.functionalCompareTo(b, a)) {
+                return (after ? 1 : -1);
+            }
+            return 0;
+        });
+    }
+
+    /**
+     * {@code natural} returns the ascending order, the specialization of the {@link Sort#INC} sorting.
+     * @param       <T> setting of a type based on which the elements can be sorted.
+     * @return      the ascending order.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends Comparable> SortComparator<T> natural() {
+        return NATURAL;
+    }
+
+    /**
+     * {@code reverse} returns the descending order, the specialization of the {@link Sort#DEC} sorting.
+     * @param       <T> setting of a type based on which the elements can be sorted.
+     * @return      the descending order.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends Comparable> SortComparator<T> reverse() {
+        return REVERSE;
+    }
+
+    /**
+     * {@code comparator} returns the wrapped three-way comparison.
+     * @return      the three-way comparison.
+     */
+    public Comparator<? super T> comparator() {
+        return comparator;
+    }
+
+    /**
+     * {@code compare} compares two elements with one call of the comparator.
+     * @param       a first element to be examined.
+     * @param       b second element to be examined.
+     * @return      negative, zero or positive as the element {@code a} goes before, with or after the {@code b}.
+     */
+    @Override
+    public int compare(T a, T b) {
+        return comparator.compare(a, b);
+    }
+
+    /**
+     * {@code functionalCompareTo} tells whether the element {@code a} goes after the {@code b}, with one call of the
+     * comparator.
+     * @param       a first element to be examined.
+     * @param       b second element to be examined.
+     * @return      {@code true} if the element {@code a} goes after the {@code b}.
+     */
+    @Override
+    public boolean functionalCompareTo(T a, T b) {
+        return (comparator.compare(a, b) > 0);
+    }
+
+    /**
+     * {@code reversed} returns the opposite order, the comparison with the elements swapped.
+     * @return      the opposite order.
+     */
+    @Override
+    public SortComparator<T> reversed() {
+        if (this == NATURAL) {
+            return reverse();
+        } else if (this == REVERSE) {
+            return natural();
+        }
+        return new SortComparator<>((a, b) -> comparator.compare(b, a));
+    }
+}
\ No newline at end of file
@@ -1,9 +1,14 @@
 package github.magyarzoli;
 
 import java.util.ArrayList;
-import java.util.Collection;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.ListIterator;
+import java.util.function.Consumer;
 
 /**
  * The part of the hierarchy that refers to List, through which all other interfaces, abstracts, supers, subclasses are
@@ -178,227 +183,336 @@ public interface SortList<T extends Comparable>
         threadList(list, functional, thread);
     }
 
+    /**
+     * Every class inherited by polymorphism will contain the callable method. default pre-created method calls
+     * additional methods.
+     * The {@code sortListComparator} method takes the {@code list} and a three-way {@code comparator} as
+     * parameters, it sorts with the {@link SortComparator} of the {@code comparator},
+     * one call of the {@code comparator} per comparison.
+     * @param       list to be arranged.
+     * @param       comparator the three-way comparison of the elements.
+     * @see         SortComparator#comparing(Comparator)
+     */
+    default void sortListComparator(List<? extends T> list, Comparator<? super T> comparator) {
+        sortList(list, SortComparator.comparing(comparator));
+    }
+
+    /**
+     * Every class inherited by polymorphism will contain the callable method. default pre-created method calls
+     * additional methods.
+     * The {@code sortListComparator} method takes the {@code list} and a three-way {@code comparator} as
+     * parameters, it sorts with the {@link SortComparator} of the {@code comparator} on {@code thread} threads.
+     * @param       list to be arranged.
+     * @param       comparator the three-way comparison of the elements.
+     * @param       thread on how many threads to run the queue arrangement.
+     * @see         SortComparator#comparing(Comparator)
+     */
+    default void sortListComparator(List<? extends T> list, Comparator<? super T> comparator, int thread) {
+        sortList(list, SortComparator.comparing(comparator), thread);
+    }
+
     /**
      * {@code threadList} that performs parallel sorting of a list using multiple threads.
-     * <ul>
-     *     <li>The method begins by calculating the values of {@code length} and {@code correction}.
-     *     {@code length} represents the length of each portion of the list that will be processed by each thread,
-     *     while {@code correction} represents the remaining length that is not evenly divisible among the threads.</li>
-     *     <li>The {@code listList} and {@code threads} lists are created as {@link java.util.ArrayList ArrayList}
-     *     objects.</li>
-     *     <li>Inside the loop, the {@code subArray} is declared without setting it to {@code null} initially.
-     *     The declaration and assignment are combined into one line.</li>
-     *     <li>The {@code if} statement now checks if {@code i} is equal to {@code (thread - 1)}
-     *     to handle the last portion of the list correctly.</li>
-     *     <li>The {@link java.lang.Runnable Runnable} interface is not implemented explicitly.
-     *     Instead, an anonymous inner class extending {@link java.lang.Thread Thread} is used to override the run
-     *     method. This allows the sorting operation to be performed within each thread.</li>
-     *     <li>The {@code threadsStart} method is called to start the execution of the sorting threads.</li>
-     *     <li>The sorted sublists are added to {@code listList} using
-     *     {@code listList.}{@link java.util.List#add(Object) add}{@code (finalSubList)}.</li>
-     *     <li>After the threads have finished executing, the sorted sublists are merged back into the original
-     *     {@code list}
-     *     using {@code list.}{@link java.util.List#addAll(Collection) addAll}{@code (finalSubList)} in a loop.</li>
-     *     <li>The {@code sortList} method is called to perform a final sorting operation on the entire list.</li>
-     * </ul>
-     * {@code threadList} divides the list {@code list} in a specified way and based on the number of threads,
-     * then starting the threads at the same time, sorting the sub-lists.
-     * at the end, the sub-lists are added together and rearranged, creating the ordered list.
+     * The increasing or decreasing order of the {@code type} is sorted by {@code threadListMerge}.
      * @param       list The list to be sorted.
      * @param       type An integer representing the type of sorting to be performed.
      * @param       thread on how many threads to run the queue arrangement.
-     * @see         Sort#threadsStart(List)
+     * @see         SortList#threadListMerge(List, SortFunctional, RangeKernel, int)
      * @see         SortList#sortList(List, int)
      */
+    @SuppressWarnings("unchecked")
     default <L extends T> void threadList(List<L> list, int type, int thread) {
-        int n = list.size();
-        int length = (n / thread);
-        int correction = (n % thread);
-        List<List<L>> listList = new ArrayList<>();
-        List<Thread> threads = new ArrayList<>();
-        List<L> mergedList = new ArrayList<>();
-        for (int i = 0; i < thread; i++) {
-            int startIndex = length * i;
-            int endIndex = startIndex + length + (i == thread - 1 ? correction : 0);
-            List<L> subList = list.subList(startIndex, endIndex);
-            listList.add(subList);
-            threads.add(new Thread(() -> sortList(subList, type)));
-        }
-        threadsStart(threads);
-        for (List<L> subList : listList) {
-            mergedList.addAll(subList);
+        SortFunctional<T> order = ((type == DEC) ? (a, b) -> a.compareTo(b) < 0 : (a, b) -> a.compareTo(b) > 0);
+        RangeKernel<T> kernel;
+        if ((this instanceof Sorter) && (type == INC)) {
+            kernel = (array, from, to) -> ((Sorter<T>) this).sortRangeInc(array, from, (to - 1));
+        } else if ((this instanceof Sorter) && (type == DEC)) {
+            kernel = (array, from, to) -> ((Sorter<T>) this).sortRangeDec(array, from, (to - 1));
+        } else {
+            kernel = listKernel(chunk -> sortList(chunk, type));
         }
-        list.clear();
-        list.addAll(mergedList);
-        sortList(list, type);
+        threadListMerge(list, order, kernel, thread);
     }
 
     /**
      * {@code threadList} that performs parallel sorting of a list using multiple threads.
-     * <ul>
-     *     <li>The method begins by calculating the values of {@code length} and {@code correction}.
-     *     {@code length} represents the length of each portion of the list that will be processed by each thread,
-     *     while {@code correction} represents the remaining length that is not evenly divisible among the threads.</li>
-     *     <li>The {@code listList} and {@code threads} lists are created as {@link java.util.ArrayList ArrayList}
-     *     objects.</li>
-     *     <li>Inside the loop, the {@code subArray} is declared without setting it to {@code null} initially.
-     *     The declaration and assignment are combined into one line.</li>
-     *     <li>The {@code if} statement now checks if {@code i} is equal to {@code (thread - 1)}
-     *     to handle the last portion of the list correctly.</li>
-     *     <li>The {@link java.lang.Runnable Runnable} interface is not implemented explicitly.
-     *     Instead, an anonymous inner class extending {@link java.lang.Thread Thread} is used to override the run
-     *     method. This allows the sorting operation to be performed within each thread.</li>
-     *     <li>The {@code threadsStart} method is called to start the execution of the sorting threads.</li>
-     *     <li>The sorted sublists are added to {@code listList} using
-     *     {@code listList.}{@link java.util.List#add(Object) add}{@code (finalSubList)}.</li>
-     *     <li>After the threads have finished executing, the sorted sublists are merged back into the original
-     *     {@code list} using {@code list.}{@link java.util.List#addAll(Collection) addAll}{@code (finalSubList)} in a
-     *     loop.</li>
-     *     <li>The {@code sortList} method is called to perform a final sorting operation on the entire list.</li>
-     * </ul>
-     * {@code threadList} divides the list {@code list} in a specified way and based on the number of threads,
-     * then starting the threads at the same time, sorting the sub-lists.
-     * at the end, the sub-lists are added together and rearranged, creating the ordered list.
+     * The increasing or decreasing order of the {@code sequence} is sorted by {@code threadListMerge}.
      * @param       list The list to be sorted.
      * @param       sequence {@code SortType} you can choose from 4 selectable queue layout types.
      *              Order can be specified here, which row arrangement you want to use.
      * @param       thread on how many threads to run the queue arrangement.
-     * @see         Sort#threadsStart(List)
+     * @see         SortList#threadListMerge(List, SortFunctional, RangeKernel, int)
      * @see         SortList#sortList(List, SortType)
      */
+    @SuppressWarnings("unchecked")
     default <L extends T> void threadList(List<L> list, SortType sequence, int thread) {
-        int n = list.size();
-        int length = (n / thread);
-        int correction = (n % thread);
-        List<List<L>> listList = new ArrayList<>();
-        List<Thread> threads = new ArrayList<>();
-        List<L> mergedList = new ArrayList<>();
-        for (int i = 0; i < thread; i++) {
-            int startIndex = length * i;
-            int endIndex = startIndex + length + (i == thread - 1 ? correction : 0);
-            List<L> subList = list.subList(startIndex, endIndex);
-            listList.add(subList);
-            threads.add(new Thread(() -> sortList(subList, sequence)));
-        }
-        threadsStart(threads);
-        for (List<L> subList : listList) {
-            mergedList.addAll(subList);
+        SortFunctional<T> order = ((sequence == SortType.DECREASING)
+                ? (a, b) -> a.compareTo(b) < 0 : (a, b) -> a.compareTo(b) > 0);
+        RangeKernel<T> kernel;
+        if ((this instanceof Sorter) && (sequence == SortType.INCREASING)) {
+            kernel = (array, from, to) -> ((Sorter<T>) this).sortRangeInc(array, from, (to - 1));
+        } else if ((this instanceof Sorter) && (sequence == SortType.DECREASING)) {
+            kernel = (array, from, to) -> ((Sorter<T>) this).sortRangeDec(array, from, (to - 1));
+        } else {
+            kernel = listKernel(chunk -> sortList(chunk, sequence));
         }
-        list.clear();
-        list.addAll(mergedList);
-        sortList(list, sequence);
+        threadListMerge(list, order, kernel, thread);
     }
 
     /**
      * {@code threadList} that performs parallel sorting of a list using multiple threads.
-     * <ul>
-     *     <li>The method begins by calculating the values of {@code length} and {@code correction}.
-     *     {@code length} represents the length of each portion of the list that will be processed by each thread,
-     *     while {@code correction} represents the remaining length that is not evenly divisible among the threads.</li>
-     *     <li>The {@code listList} and {@code threads} lists are created as {@link java.util.ArrayList ArrayList}
-     *     objects.</li>
-     *     <li>Inside the loop, the {@code subArray} is declared without setting it to {@code null} initially.
-     *     The declaration and assignment are combined into one line.</li>
-     *     <li>The {@code if} statement now checks if {@code i} is equal to {@code (thread - 1)}
-     *     to handle the last portion of the list correctly.</li>
-     *     <li>The {@link java.lang.Runnable Runnable} interface is not implemented explicitly.
-     *     Instead, an anonymous inner class extending {@link java.lang.Thread Thread} is used to override the run
-     *     method. This allows the sorting operation to be performed within each thread.</li>
-     *     <li>The {@code threadsStart} method is called to start the execution of the sorting threads.</li>
-     *     <li>The sorted sublists are added to {@code listList} using
-     *     {@code listList.}{@link java.util.List#add(Object) add}{@code (finalSubList)}.</li>
-     *     <li>After the threads have finished executing, the sorted sublists are merged back into the original
-     *     {@code list} using {@code list.}{@link java.util.List#addAll(Collection) addAll}{@code (finalSubList)} in a
-     *     loop.</li>
-     *     <li>The {@code sortList} method is called to perform a final sorting operation on the entire list.</li>
-     * </ul>
-     * {@code threadList} divides the list {@code list} in a specified way and based on the number of threads,
-     * then starting the threads at the same time, sorting the sub-lists.
-     * at the end, the sub-lists are added together and rearranged, creating the ordered list.
+     * The order of the {@code functional} is sorted by {@code threadListMerge}.
      * @param       list The list to be sorted.
      * @param       functional lambda expression for comparison.
      * @param       thread on how many threads to run the queue arrangement.
-     * @see         Sort#threadsStart(List)
+     * @see         SortList#threadListMerge(List, SortFunctional, RangeKernel, int)
      * @see         SortList#sortList(List, SortFunctional)
      */
+    @SuppressWarnings("unchecked")
     default <L extends T> void threadList(List<L> list, SortFunctional<T> functional, int thread) {
-        int n = list.size();
-        int length = (n / thread);
-        int correction = (n % thread);
-        List<List<L>> listList = new ArrayList<>();
+        RangeKernel<T> kernel = ((this instanceof Sorter)
+                ? (array, from, to) -> ((Sorter<T>) this).sortRangeFun(array, from, (to - 1), functional)
+                : listKernel(chunk -> sortList(chunk, functional)));
+        threadListMerge(list, functional, kernel, thread);
+    }
+
+    /**
+     * The sort of the range {@code from} (inclusive) to {@code to} (exclusive) of an array, the sort of one chunk of
+     * {@code threadListMerge}.
+     * @param       <T> setting of a type based on which the elements can be sorted.
+     * @see         SortList#threadListMerge(List, SortFunctional, RangeKernel, int)
+     */
+    @FunctionalInterface
+    interface RangeKernel<T extends Comparable> {
+
+        /**
+         * {@code sort} arranges the range of the {@code array}, without touching the elements outside it.
+         * @param       array the snapshot of the list.
+         * @param       from the index of the first element of the range.
+         * @param       to the index after the last element of the range.
+         */
+        void sort(T[] array, int from, int to);
+    }
+
+    /**
+     * {@code listKernel} turns the sort of a list into the sort of a range, for the sorters without a range kernel.
+     * The range is copied into an {@link java.util.ArrayList ArrayList}, sorted by the {@code kernel}, and copied
+     * back into the array.
+     * @param       kernel the sort of a list.
+     * @return      the sort of a range.
+     */
+    default RangeKernel<T> listKernel(Consumer<List<T>> kernel) {
+        return (array, from, to) -> {
+            List<T> chunk = new ArrayList<>(Arrays.asList(array).subList(from, to));
+            kernel.accept(chunk);
+            System.arraycopy(chunk.toArray(), 0, array, from, (to - from));
+        };
+    }
+
+    /**
+     * {@code threadListMerge} sorts a list on parallel threads, the {@code list} itself is only read once and written
+     * once, so it is safe for any {@link java.util.List List} implementation, even for a synchronized list or a list
+     * sharing its modification count with views.
+     * <ul>
+     *     <li>The elements are copied into an array with a single {@link java.util.List#toArray(Object[]) toArray}
+     *     call, this snapshot is the only reading of the {@code list}.</li>
+     *     <li>The snapshot is divided into {@code thread} chunks of nearly equal length, each chunk is sorted in the
+     *     snapshot by the {@code kernel} on its own thread, the {@code threadList} methods of a {@link Sorter} pass
+     *     its range kernels, {@code sortRangeInc}, {@code sortRangeDec} and {@code sortRangeFun}.
+     *     The threads never touch the {@code list}, nor each other's elements.</li>
+     *     <li>After the {@code threadsStart} method joined the threads, the sorted chunks are merged pairwise,
+     *     bottom-up, between the snapshot and one buffer, a stable merge with the {@code order}, instead of sorting
+     *     the whole list again.</li>
+     *     <li>The merged elements are written back by a single {@link java.util.ListIterator ListIterator} pass.</li>
+     * </ul>
+     * The chunks are sorted concurrently by this same sorter, so its kernels must keep the state of a sort, the
+     * partition bounds, the heaps and the buffers, in locals and parameters, never in the fields of the instance.
+     * @param       list The list to be sorted.
+     * @param       order the order of the merge, it must agree with the {@code kernel}.
+     * @param       kernel the sort of one chunk, the range of the snapshot from its first index to the index after
+     *              its last.
+     * @param       thread on how many threads to run the queue arrangement.
+     * @param       <L> the type of the elements of the {@code list}.
+     * @see         Sort#threadsStart(List)
+     */
+    @SuppressWarnings("unchecked")
+    default <L extends T> void threadListMerge(List<L> list, SortFunctional<T> order, RangeKernel<T> kernel,
+                                               int thread) {
+        T[] array = (T[]) list.toArray(new Comparable[0]);
+        int n = array.length;
+        int chunks = Math.max(1, Math.min(thread, n));
+        int[] bounds = new int[(chunks + 1)];
         List<Thread> threads = new ArrayList<>();
-        List<L> mergedList = new ArrayList<>();
-        for (int i = 0; i < thread; i++) {
-            int startIndex = length * i;
-            int endIndex = startIndex + length + (i == thread - 1 ? correction : 0);
-            List<L> subList = list.subList(startIndex, endIndex);
-            listList.add(subList);
-            threads.add(new Thread(() -> sortList(subList, functional)));
+        for (int i = 0; i < chunks; i++) {
+            int from = (int) (((long) n * i) / chunks);
+            int to = (int) (((long) n * (i + 1)) / chunks);
+            bounds[(i + 1)] = to;
+            threads.add(new Thread(() -> {
+                if ((to - from) > 1) {
+                    kernel.sort(array, from, to);
+                }
+            }));
         }
         threadsStart(threads);
-        for (List<L> subList : listList) {
-            mergedList.addAll(subList);
+        T[] source = array;
+        T[] target = (T[]) new Comparable[n];
+        for (int width = 1; width < chunks; width *= 2) {
+            for (int i = 0; i < chunks; i += (2 * width)) {
+                int left = bounds[i];
+                int mid = bounds[Math.min((i + width), chunks)];
+                int right = bounds[Math.min((i + (2 * width)), chunks)];
+                int l = left, r = mid, k = left;
+                while ((l < mid) && (r < right)) {
+                    target[k++] = (order.functionalCompareTo(source[l], source[r]) ? source[r++] : source[l++]);
+                }
+                System.arraycopy(source, l, target, k, (mid - l));
+                System.arraycopy(source, r, target, (k + (mid - l)), (right - r));
+            }
+            T[] swap = source;
+            source = target;
+            target = swap;
+        }
+        ListIterator<L> iterator = list.listIterator();
+        for (T element : source) {
+            iterator.next();
+            iterator.set((L) element);
         }
-        list.clear();
-        list.addAll(mergedList);
-        sortList(list, functional);
     }
 
     /**
-     * {@code threadListRev} that performs parallel list reversal using multiple threads.
+     * {@code threadListRev} reverses a list, the {@code list} is only read once and written once, so it is safe for
+     * any {@link java.util.List List} implementation.
      * <ul>
-     *     <li>The method begins by calculating the values of {@code length} and {@code correction}.
-     *     {@code length} represents the length of each portion of the list that will be processed by each thread,
-     *     while {@code correction} represents the remaining length that is not evenly divisible among the threads.</li>
-     *     <li>A {@link java.util.List List} called {@code listList} is created to store
-     *     the portions of the list that will be processed by each thread,
-     *     and a {@code List} called {@code threads} is created to store the {@code SortThread} objects.</li>
-     *     <li>A loop is then executed where each iteration creates a {@code subArray} using
-     *     {@link java.util.Arrays#copyOfRange(Object[], int, int) Arrays.copyOfRange}
-     *     to extract the appropriate portion of the original {@code list} based on the {@code length},
-     *     {@code correction}, and the current {@code i} value.
-     *     The {@code subArray} is added to the {@code listList},
-     *     and a new {@code Thread} object is created with
-     *     the {@code subArray} as a parameter and added to the {@code threads} list.</li>
-     *     <li>The {@link java.lang.Runnable Runnable} interface is not implemented explicitly.
-     *     Instead, an anonymous inner class extending {@link java.lang.Thread Thread} is used to override the
-     *     run method. This allows the sorting operation to be performed within each thread.</li>
-     *     <li>After the loop, the {@code threadsStart} method is called to start
-     *     the execution of the threads in the {@code threads} list.</li>
-     *     <li>The sorted sublists are added to {@code listList} using
-     *     {@code listList.}{@link java.util.List#add(Object) add}{@code (finalSubList)}.</li>
-     *     <li>After the threads have finished executing, the sorted sublists are merged back into the original
-     *     {@code list} using {@code list.}{@link java.util.List#addAll(Collection) addAll}{@code (finalSubList)} in a
-     *     loop.</li>
+     *     <li>The elements are copied into an array with a single {@link java.util.List#toArray(Object[]) toArray}
+     *     call.</li>
+     *     <li>The array is written back from its end by a single {@link java.util.ListIterator ListIterator} pass.</li>
      * </ul>
-     * {@code threadListRev} divides the list {@code list} in a specified way and based on the number of threads,
-     * then starting the threads simultaneously, the sub-lists are arranged in reverse order
-     * at the end, the subarrays are added, creating the ordered list.
+     * A reversal is a single pass of memory traffic, so it is not divided between threads, the {@code thread}
+     * parameter is kept for the symmetry of the {@code sortList} methods.
      * @param       list The list to be reversed.
      * @param       thread on how many threads to run the queue arrangement.
-     * @see         Sort#threadsStart(List)
      * @see         SortList#sortListRev(List)
      */
+    @SuppressWarnings("unchecked")
     default <L extends T> void threadListRev(List<L> list, int thread) {
-        int n = list.size();
-        int length = (n / thread);
-        int correction = (n % thread);
-        List<List<L>> listList = new ArrayList<>();
-        List<Thread> threads = new ArrayList<>();
-        List<L> mergedList = new ArrayList<>();
-        for (int i = 0; i < thread; i++) {
-            int startIndex = length * i;
-            int endIndex = startIndex + length + (i == thread - 1 ? correction : 0);
-            List<L> subList = list.subList(startIndex, endIndex);
-            listList.add(subList);
-            threads.add(new Thread(() -> sortListRev(subList)));
+        Object[] array = list.toArray();
+        ListIterator<L> iterator = list.listIterator();
+        for (int i = (array.length - 1); i >= 0; i--) {
+            iterator.next();
+            iterator.set((L) array[i]);
         }
-        threadsStart(threads);
-        for (List<L> subList : listList) {
-            mergedList.addAll(subList);
+    }
+
+    /**
+     * {@code sortListLean} is the memory-lean mode of {@code sortList}.
+     * A {@link java.util.Deque Deque}, for example a {@link java.util.LinkedList LinkedList}, is sorted in increasing
+     * or decreasing order by {@code linkedMerge}, without the array copy of the list, every other list is sorted by
+     * {@code sortList}.
+     * @param       list to be arranged.
+     * @param       type sorting is done according to 4 different integer type settings.
+     * @see         SortList#linkedMerge(Deque, SortFunctional)
+     * @see         SortList#sortList(List, int)
+     */
+    @SuppressWarnings("unchecked")
+    default void sortListLean(List<? extends T> list, int type) {
+        if (((type == INC) || (type == DEC)) && (list instanceof Deque)) {
+            linkedMerge((Deque<? extends T>) list,
+                    ((type == DEC) ? (a, b) -> a.compareTo(b) < 0 : (a, b) -> a.compareTo(b) > 0));
+        } else {
+            sortList(list, type);
+        }
+    }
+
+    /**
+     * {@code sortListLean} is the memory-lean mode of {@code sortList}.
+     * A {@link java.util.Deque Deque}, for example a {@link java.util.LinkedList LinkedList}, is sorted in increasing
+     * or decreasing order by {@code linkedMerge}, without the array copy of the list, every other list is sorted by
+     * {@code sortList}.
+     * @param       list to be arranged.
+     * @param       sequence {@code SortType} you can choose from 4 selectable queue layout types.
+     *              Order can be specified here, which row arrangement you want to use.
+     * @see         SortList#linkedMerge(Deque, SortFunctional)
+     * @see         SortList#sortList(List, SortType)
+     */
+    @SuppressWarnings("unchecked")
+    default void sortListLean(List<? extends T> list, SortType sequence) {
+        if (((sequence == SortType.INCREASING) || (sequence == SortType.DECREASING)) && (list instanceof Deque)) {
+            linkedMerge((Deque<? extends T>) list, ((sequence == SortType.DECREASING)
+                    ? (a, b) -> a.compareTo(b) < 0 : (a, b) -> a.compareTo(b) > 0));
+        } else {
+            sortList(list, sequence);
+        }
+    }
+
+    /**
+     * {@code sortListLean} is the memory-lean mode of {@code sortList}.
+     * A {@link java.util.Deque Deque}, for example a {@link java.util.LinkedList LinkedList}, is sorted by
+     * {@code linkedMerge}, without the array copy of the list, every other list is sorted by {@code sortList}.
+     * @param       list to be arranged.
+     * @param       functional lambda expression for comparison.
+     * @see         SortList#linkedMerge(Deque, SortFunctional)
+     * @see         SortList#sortList(List, SortFunctional)
+     */
+    default void sortListLean(List<? extends T> list, SortFunctional<T> functional) {
+        if (list instanceof Deque) {
+            linkedMerge((Deque<? extends T>) list, functional);
+        } else {
+            sortList(list, functional);
+        }
+    }
+
+    /**
+     * {@code linkedMerge} is a stable, bottom-up merge sort of a {@link java.util.Deque Deque}, it only moves the
+     * elements between the ends of deques, so it never copies the elements into an array, and it is not recursive.
+     * <ul>
+     *     <li>Every pass doubles the {@code width} of the sorted runs, starting from runs of one element,
+     *     so there are <i>⌈log2 n⌉</i> passes.</li>
+     *     <li>The runs are taken from the head of the {@code deque} and distributed alternately to the tail of the
+     *     {@code first} and the {@code second} deque.</li>
+     *     <li>The run pairs are merged from the heads of the {@code first} and the {@code second} deque back to the
+     *     tail of the {@code deque}, on equal elements the element of the {@code first} deque goes first,
+     *     so the merge is stable.</li>
+     * </ul>
+     * A {@link java.util.LinkedList LinkedList} unlinks a node from one end and links a node at the other end in
+     * constant time, so a pass is linear, and the three deques hold the <i>n</i> elements together, the extra memory
+     * is constant beyond the two empty deques.
+     * @param       deque to be arranged.
+     * @param       functional lambda expression for comparison.
+     * @param       <L> the type of the elements of the {@code deque}.
+     */
+    default <L extends T> void linkedMerge(Deque<L> deque, SortFunctional<T> functional) {
+        int n = deque.size();
+        Deque<L> first = new LinkedList<>();
+        Deque<L> second = new LinkedList<>();
+        for (int width = 1; width < n; width *= 2) {
+            while (!deque.isEmpty()) {
+                for (int k = 0; (k < width) && !deque.isEmpty(); k++) {
+                    first.addLast(deque.pollFirst());
+                }
+                for (int k = 0; (k < width) && !deque.isEmpty(); k++) {
+                    second.addLast(deque.pollFirst());
+                }
+            }
+            while (!first.isEmpty()) {
+                int a = Math.min(width, first.size());
+                int b = Math.min(width, second.size());
+                while ((a > 0) && (b > 0)) {
+                    if (functional.functionalCompareTo(first.peekFirst(), second.peekFirst())) {
+                        deque.addLast(second.pollFirst());
+                        b--;
+                    } else {
+                        deque.addLast(first.pollFirst());
+                        a--;
+                    }
+                }
+                for (; a > 0; a--) {
+                    deque.addLast(first.pollFirst());
+                }
+                for (; b > 0; b--) {
+                    deque.addLast(second.pollFirst());
+                }
+            }
         }
-        list.clear();
-        list.addAll(mergedList);
     }
 
     /**
@@ -0,0 +1,121 @@
+package github.magyarzoli;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * The parallelism of the sorters, the number of worker threads of a parallel sort and the pool running its tasks.
+ * <ul>
+ *     <li>By default the tasks run on a pool of {@code parallelism} worker threads, created at the first use and
+ *     shared by every sorter of the same {@code parallelism}, so creating a parallel sorter starts no pool of its
+ *     own, and no pool is left to be shut down. The workers are daemon threads, and they end when the pool is
+ *     idle.</li>
+ *     <li>A caller can pass its own pool, the sorter never shuts it down, its lifetime stays with the caller,
+ *     and the number of its threads is set by the caller.</li>
+ *     <li>A {@code parallelism} of <i>1</i> sorts on the calling thread, the pool is never used.</li>
+ * </ul>
+ * The result of a sort does not depend on the pool, a pool with fewer threads runs the same tasks.
+ * @since       1.3
+ * @author      <a href=https://github.com/MagyarZoli>Magyar Zoltán</a>
+ */
+public final class SortParallel {
+
+    /**
+     * The parallelism of the sorts on the calling thread.
+     */
+    private static final SortParallel SEQUENTIAL = new SortParallel(1, ForkJoinPool.commonPool());
+
+    /**
+     * The shared pools of the sorters, the pool of {@code parallelism} worker threads at the key {@code parallelism}.
+     */
+    private static final ConcurrentMap<Integer, ForkJoinPool> POOLS = new ConcurrentHashMap<>();
+
+    /**
+     * The number of worker threads of a parallel sort, <i>1</i> sorts on the calling thread.
+     */
+    private final int parallelism;
+
+    /**
+     * The pool running the tasks.
+     */
+    private final ForkJoinPool pool;
+
+    /**
+     * <b>Sort Parallel:</b><br>
+     * Runs {@code parallelism} tasks on the {@code pool}.
+     * @param       parallelism the number of worker threads of a parallel sort.
+     * @param       pool the pool running the tasks.
+     */
+    private SortParallel(int parallelism, ForkJoinPool pool) {
+        this.parallelism = parallelism;
+        this.pool = pool;
+    }
+
+    /**
+     * {@code of} returns the parallelism running the tasks on the shared pool of {@code parallelism} worker threads.
+     * @param       parallelism the number of worker threads of a parallel sort, <i>1</i> sorts on the calling thread.
+     * @return      the parallelism of the sorts.
+     * @throws      IllegalArgumentException if the {@code parallelism} is not positive.
+     */
+    public static SortParallel of(int parallelism) {
+        return of(parallelism, null);
+    }
+
+    /**
+     * {@code of} returns the parallelism running the tasks on the {@code pool} of the caller.
+     * @param       parallelism the number of tasks of a parallel sort, <i>1</i> sorts on the calling thread.
+     * @param       pool the pool running the tasks, {@code null} for the shared pool of {@code parallelism} worker
+     *              threads.
+     * @return      the parallelism of the sorts.
+     * @throws      IllegalArgumentException if the {@code parallelism} is not positive.
+     */
+    public static SortParallel of(int parallelism, ForkJoinPool pool) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be positive: " + parallelism);
+        }
+        if ((parallelism == 1) && (pool == null)) {
+            return SEQUENTIAL;
+        }
+        if (pool == null) {
+            pool = POOLS.computeIfAbsent(parallelism, ForkJoinPool::new);
+        }
+        return new SortParallel(parallelism, pool);
+    }
+
+    /**
+     * {@code parallelism} returns the number of worker threads of a parallel sort.
+     * @return      the number of worker threads, <i>1</i> if the sorts run on the calling thread.
+     */
+    public int parallelism() {
+        return parallelism;
+    }
+
+    /**
+     * {@code pool} returns the pool running the tasks.
+     * @return      the shared pool of {@code parallelism} worker threads, or the pool of the caller.
+     */
+    public ForkJoinPool pool() {
+        return pool;
+    }
+
+    /**
+     * {@code parallel} tells whether the sorts are split into tasks.
+     * @return      {@code true} if the {@code parallelism} is greater than <i>1</i>.
+     */
+    public boolean parallel() {
+        return (parallelism > 1);
+    }
+
+    /**
+     * {@code invoke} runs the {@code task} on the pool, and waits for its result.
+     * @param       task the root task of the sort.
+     * @param       <T> the type of the result of the {@code task}.
+     * @return      the result of the {@code task}.
+     * @see         java.util.concurrent.ForkJoinPool#invoke(ForkJoinTask)
+     */
+    public <T> T invoke(ForkJoinTask<T> task) {
+        return pool.invoke(task);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,219 @@
+package github.magyarzoli;
+
+import java.util.Arrays;
+
+/**
+ * The scratch arena of the sorters, the auxiliary arrays are borrowed from it and released back after the sort,
+ * so the repeated sorts of a thread allocate their buffers only once.
+ * <ul>
+ *     <li>The arrays are cached in size classes, the powers of two, a borrowed array is at least as long as
+ *     requested, and one array is kept per size class.</li>
+ *     <li>Arrays longer than the {@code limit} are allocated with the exact length, and never kept,
+ *     so a single huge sort does not pin its buffer for the lifetime of the thread.</li>
+ *     <li>The references of a released {@link java.lang.Comparable Comparable} array are cleared before it is kept,
+ *     the arena never holds the sorted elements alive.</li>
+ * </ul>
+ * Every thread has its own arena, returned by {@link SortScratch#local()}, it is the default of every sorter.
+ * A caller passing its own arena to a sorter can make the repeated sorts allocation-free.
+ * The methods of an arena are synchronized, so an arena can be shared by the threads of a parallel sort,
+ * but the thread-local arenas are never contended.
+ * @since       1.3
+ * @author      <a href=https://github.com/MagyarZoli>Magyar Zoltán</a>
+ */
+@SuppressWarnings("rawtypes")
+public final class SortScratch {
+
+    /**
+     * The length of the longest array kept by default, <i>2^20</i> elements.
+     */
+    public static final int DEFAULT_LIMIT = (1 << 20);
+
+    /**
+     * The arena of each thread.
+     */
+    private static final ThreadLocal<SortScratch> LOCAL = ThreadLocal.withInitial(SortScratch::new);
+
+    /**
+     * The length of the longest array kept.
+     */
+    private final int limit;
+
+    /**
+     * The kept {@link java.lang.Comparable Comparable} arrays, the array of length <i>2^i</i> at index {@code i}.
+     */
+    private final Comparable[][] comparables = new Comparable[32][];
+
+    /**
+     * The kept {@code int} arrays, the array of length <i>2^i</i> at index {@code i}.
+     */
+    private final int[][] ints = new int[32][];
+
+    /**
+     * <b>Sort Scratch:</b><br>
+     * Keeps the arrays up to {@link SortScratch#DEFAULT_LIMIT} elements.
+     * @see         SortScratch#local()
+     */
+    public SortScratch() {
+        this(DEFAULT_LIMIT);
+    }
+
+    /**
+     * <b>Sort Scratch:</b><br>
+     * Keeps the arrays up to {@code limit} elements, <i>0</i> keeps nothing.
+     * @param       limit the length of the longest array kept.
+     * @throws      IllegalArgumentException if the {@code limit} is negative.
+     * @see         SortScratch#SortScratch() SortScratch
+     */
+    public SortScratch(int limit) {
+        if (limit < 0) {
+            throw new IllegalArgumentException("limit must not be negative: " + limit);
+        }
+        this.limit = limit;
+    }
+
+    /**
+     * {@code local} returns the arena of the current thread, it is created by the first call on each thread.
+     * @return      the arena of the current thread.
+     */
+    public static SortScratch local() {
+        return LOCAL.get();
+    }
+
+    /**
+     * {@code limit} returns the length of the longest array kept.
+     * @return      the length of the longest array kept.
+     */
+    public int limit() {
+        return limit;
+    }
+
+    /**
+     * {@code borrow} lends a {@link java.lang.Comparable Comparable} array at least {@code length} long.
+     * The kept array of the size class is lent, if there is one, else a new array is allocated.
+     * The array must be released by {@code release} when it is no longer used.
+     * @param       length the minimum length of the array.
+     * @return      an array at least {@code length} long, its elements are {@code null}.
+     * @see         SortScratch#release(Comparable[], int)
+     */
+    public synchronized Comparable[] borrow(int length) {
+        int index = sizeClass(length);
+        if (index < 0) {
+            return new Comparable[length];
+        }
+        Comparable[] buffer = comparables[index];
+        if (buffer == null) {
+            return new Comparable[(1 << index)];
+        }
+        comparables[index] = null;
+        return buffer;
+    }
+
+    /**
+     * {@code release} gives back a borrowed {@link java.lang.Comparable Comparable} array, every element of it is
+     * cleared.
+     * @param       buffer the borrowed array.
+     * @see         SortScratch#release(Comparable[], int)
+     */
+    public void release(Comparable[] buffer) {
+        release(buffer, buffer.length);
+    }
+
+    /**
+     * {@code release} gives back a borrowed {@link java.lang.Comparable Comparable} array.
+     * <ul>
+     *     <li>The array is kept only if its length is a size class not longer than the {@code limit},
+     *     and the size class is empty, else it is left to the garbage collector.</li>
+     *     <li>Before it is kept, the elements from index <i>0</i> to {@code used} (exclusive) are cleared,
+     *     the sorted elements are not held alive by the arena.</li>
+     * </ul>
+     * @param       buffer the borrowed array.
+     * @param       used the number of elements written into the {@code buffer} from index <i>0</i>.
+     */
+    public synchronized void release(Comparable[] buffer, int used) {
+        int index = keptClass(buffer.length);
+        if ((index >= 0) && (comparables[index] == null)) {
+            Arrays.fill(buffer, 0, Math.min(used, buffer.length), null);
+            comparables[index] = buffer;
+        }
+    }
+
+    /**
+     * {@code borrowInts} lends an {@code int} array at least {@code length} long.
+     * The array must be released by {@code releaseInts} when it is no longer used.
+     * @param       length the minimum length of the array.
+     * @return      an array at least {@code length} long, its content is undefined.
+     * @see         SortScratch#releaseInts(int[])
+     */
+    public synchronized int[] borrowInts(int length) {
+        int index = sizeClass(length);
+        if (index < 0) {
+            return new int[length];
+        }
+        int[] buffer = ints[index];
+        if (buffer == null) {
+            return new int[(1 << index)];
+        }
+        ints[index] = null;
+        return buffer;
+    }
+
+    /**
+     * {@code releaseInts} gives back a borrowed {@code int} array.
+     * It is kept only if its length is a size class not longer than the {@code limit}, and the size class is empty.
+     * @param       buffer the borrowed array.
+     */
+    public synchronized void releaseInts(int[] buffer) {
+        int index = keptClass(buffer.length);
+        if ((index >= 0) && (ints[index] == null)) {
+            ints[index] = buffer;
+        }
+    }
+
+    /**
+     * {@code retained} returns the total length of the kept arrays.
+     * @return      the number of elements kept, of all the kept arrays.
+     */
+    public synchronized long retained() {
+        long length = 0;
+        for (int i = 0; i < comparables.length; i++) {
+            length += (((comparables[i] != null) ? comparables[i].length : 0)
+                    + ((ints[i] != null) ? ints[i].length : 0));
+        }
+        return length;
+    }
+
+    /**
+     * {@code clear} drops every kept array, the next borrows allocate again.
+     */
+    public synchronized void clear() {
+        Arrays.fill(comparables, null);
+        Arrays.fill(ints, null);
+    }
+
+    /**
+     * {@code sizeClass} returns the size class of the requested length.
+     * @param       length the minimum length of the array.
+     * @return      the exponent of the smallest power of two not less than {@code length},
+     *              or <i>-1</i> if that is longer than the {@code limit}.
+     * @throws      NegativeArraySizeException if the {@code length} is negative.
+     */
+    private int sizeClass(int length) {
+        if (length < 0) {
+            throw new NegativeArraySizeException(String.valueOf(length));
+        }
+        int index = ((length <= 1) ? 0 : (32 - Integer.numberOfLeadingZeros((length - 1))));
+        return (((1L << index) <= limit) ? index : -1);
+    }
+
+    /**
+     * {@code keptClass} returns the size class of a released array.
+     * @param       length the length of the released array.
+     * @return      the exponent of the {@code length}, or <i>-1</i> if the array is not kept.
+     */
+    private int keptClass(int length) {
+        if ((length > limit) || (Integer.bitCount(length) != 1)) {
+            return -1;
+        }
+        return Integer.numberOfTrailingZeros(length);
+    }
+}
\ No newline at end of file
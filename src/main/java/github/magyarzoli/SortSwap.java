@@ -32,6 +32,42 @@ public interface SortSwap<T extends Comparable>
         array[b] = select;
     }
 
+    /**
+     * Swaps two elements in the {@code int} array.
+     * @param       array in which the two selected elements are swapped.
+     * @param       a element whose value will be changed to the value of element b.
+     * @param       b element whose value will be changed to the value of element a.
+     */
+    default void swap(int[] array, int a, int b) {
+        int select = array[a];
+        array[a] = array[b];
+        array[b] = select;
+    }
+
+    /**
+     * Swaps two elements in the {@code long} array.
+     * @param       array in which the two selected elements are swapped.
+     * @param       a element whose value will be changed to the value of element b.
+     * @param       b element whose value will be changed to the value of element a.
+     */
+    default void swap(long[] array, int a, int b) {
+        long select = array[a];
+        array[a] = array[b];
+        array[b] = select;
+    }
+
+    /**
+     * Swaps two elements in the {@code double} array.
+     * @param       array in which the two selected elements are swapped.
+     * @param       a element whose value will be changed to the value of element b.
+     * @param       b element whose value will be changed to the value of element a.
+     */
+    default void swap(double[] array, int a, int b) {
+        double select = array[a];
+        array[a] = array[b];
+        array[b] = select;
+    }
+
     /**
      * {@code isSwapInc} that checks if a swap operation is necessary between two elements in an array
      * of {@link java.lang.Comparable Comparable} objects in order to maintain the increasing order.
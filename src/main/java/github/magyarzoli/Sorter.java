@@ -1,5 +1,11 @@
 package github.magyarzoli;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.RandomAccess;
+import java.util.function.Consumer;
+
 /**
  * The Sorter interface combines the implementations of the SortArray and SortList interfaces.
  * @param       <T> setting of a type based on which the elements can be sorted.
@@ -9,4 +15,153 @@ package github.magyarzoli;
  */
 @SuppressWarnings("rawtypes")
 public interface Sorter<T extends Comparable>
-        extends SortArray<T>, SortList<T> {}
\ No newline at end of file
+        extends SortArray<T>, SortList<T> {
+
+    /**
+     * {@code scratch} returns the arena the auxiliary arrays of the sort are borrowed from.
+     * The default is the arena of the current thread, the sorters accepting an arena of the caller override it.
+     * @return      the arena of the auxiliary arrays.
+     * @see         SortScratch#local()
+     */
+    default SortScratch scratch() {
+        return SortScratch.local();
+    }
+
+    /**
+     * {@inheritDoc}
+     * The increasing and decreasing orders of a list chosen by {@code sortsListAsArray} are sorted by the array
+     * kernel of the sorter.
+     * @param       list to be arranged.
+     * @param       type sorting is done according to 4 different integer type settings.
+     * @see         Sorter#sortListAsArray(List, Consumer)
+     */
+    @Override
+    default void sortList(List<? extends T> list, int type) {
+        if (((type == INC) || (type == DEC)) && sortsListAsArray(list)) {
+            sortListAsArray(list, array -> sortArray(array, type));
+        } else {
+            SortList.super.sortList(list, type);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * The increasing and decreasing orders of a list chosen by {@code sortsListAsArray} are sorted by the array
+     * kernel of the sorter.
+     * @param       list to be arranged.
+     * @param       sequence {@code SortType} you can choose from 4 selectable queue layout types.
+     *              Order can be specified here, which row arrangement you want to use.
+     * @see         Sorter#sortListAsArray(List, Consumer)
+     */
+    @Override
+    default void sortList(List<? extends T> list, SortType sequence) {
+        if (((sequence == SortType.INCREASING) || (sequence == SortType.DECREASING)) && sortsListAsArray(list)) {
+            sortListAsArray(list, array -> sortArray(array, sequence));
+        } else {
+            SortList.super.sortList(list, sequence);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * A list chosen by {@code sortsListAsArray} is sorted by the array kernel of the sorter.
+     * @param       list to be arranged.
+     * @param       functional lambda expression for comparison.
+     * @see         Sorter#sortListAsArray(List, Consumer)
+     */
+    @Override
+    default void sortList(List<? extends T> list, SortFunctional<T> functional) {
+        if (sortsListAsArray(list)) {
+            sortListAsArray(list, array -> sortArray(array, functional));
+        } else {
+            SortList.super.sortList(list, functional);
+        }
+    }
+
+    /**
+     * {@code sortRangeInc} sorts the range of the array from {@code left} to {@code right} (inclusive) in ascending
+     * order, without touching the elements outside the range.
+     * The default sorts a copy of the range with {@code sortArrayInc} and copies it back, the sorters with a range
+     * kernel override it to sort the range in place, without the copy.
+     * @param       array to be arranged.
+     * @param       left the index of the first element of the range.
+     * @param       right the index of the last element of the range (inclusive).
+     * @see         SortArray#sortArrayInc(Comparable[])
+     */
+    default void sortRangeInc(T[] array, int left, int right) {
+        T[] range = Arrays.copyOfRange(array, left, (right + 1));
+        sortArrayInc(range);
+        System.arraycopy(range, 0, array, left, range.length);
+    }
+
+    /**
+     * {@code sortRangeDec} sorts the range of the array from {@code left} to {@code right} (inclusive) in descending
+     * order, without touching the elements outside the range.
+     * The default sorts a copy of the range with {@code sortArrayDec} and copies it back, the sorters with a range
+     * kernel override it to sort the range in place, without the copy.
+     * @param       array to be arranged.
+     * @param       left the index of the first element of the range.
+     * @param       right the index of the last element of the range (inclusive).
+     * @see         SortArray#sortArrayDec(Comparable[])
+     */
+    default void sortRangeDec(T[] array, int left, int right) {
+        T[] range = Arrays.copyOfRange(array, left, (right + 1));
+        sortArrayDec(range);
+        System.arraycopy(range, 0, array, left, range.length);
+    }
+
+    /**
+     * {@code sortRangeFun} sorts the range of the array from {@code left} to {@code right} (inclusive) in the order
+     * defined by the {@code SortFunctional} interface, without touching the elements outside the range.
+     * The default sorts a copy of the range with {@code sortArrayFun} and copies it back, the sorters with a range
+     * kernel override it to sort the range in place, without the copy.
+     * @param       array to be arranged.
+     * @param       left the index of the first element of the range.
+     * @param       right the index of the last element of the range (inclusive).
+     * @param       functional lambda expression for comparison.
+     * @see         SortArray#sortArrayFun(Comparable[], SortFunctional)
+     */
+    default void sortRangeFun(T[] array, int left, int right, SortFunctional<T> functional) {
+        T[] range = Arrays.copyOfRange(array, left, (right + 1));
+        sortArrayFun(range, functional);
+        System.arraycopy(range, 0, array, left, range.length);
+    }
+
+    /**
+     * {@code sortsListAsArray} decides whether a list is sorted on an array copy instead of in place.
+     * The list kernels index the list with {@link java.util.List#get(int) get} and
+     * {@link java.util.List#set(int, Object) set} in their inner loops, on a list without
+     * {@link java.util.RandomAccess RandomAccess}, for example a {@link java.util.LinkedList LinkedList},
+     * every access walks the nodes, and even a quicksort becomes cubic.
+     * The default chooses every list without {@code RandomAccess}, a sorter can override it to return {@code true}
+     * for every list, so the {@link java.util.ArrayList ArrayList} callers are sorted on an array too.
+     * @param       list to be arranged.
+     * @return      {@code true} if the {@code list} is sorted on an array copy.
+     */
+    default boolean sortsListAsArray(List<?> list) {
+        return !(list instanceof RandomAccess);
+    }
+
+    /**
+     * {@code sortListAsArray} sorts a list on an array copy.
+     * <ul>
+     *     <li>The elements are copied into an array once, with {@link java.util.List#toArray(Object[]) toArray}.</li>
+     *     <li>The {@code kernel} sorts the array, without the bounds checks and interface calls of the list.</li>
+     *     <li>The sorted elements are written back by a single {@link java.util.ListIterator ListIterator} pass,
+     *     so a linked list is written back in linear time.</li>
+     * </ul>
+     * @param       list to be arranged.
+     * @param       kernel the array sort, for example {@code array -> sortArray(array, INC)}.
+     * @param       <L> the type of the elements of the {@code list}.
+     */
+    @SuppressWarnings("unchecked")
+    default <L extends T> void sortListAsArray(List<L> list, Consumer<T[]> kernel) {
+        T[] array = (T[]) list.toArray(new Comparable[0]);
+        kernel.accept(array);
+        ListIterator<L> iterator = list.listIterator();
+        for (T element : array) {
+            iterator.next();
+            iterator.set((L) element);
+        }
+    }
+}
\ No newline at end of file
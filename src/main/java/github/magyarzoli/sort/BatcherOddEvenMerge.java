@@ -214,16 +214,13 @@ public class BatcherOddEvenMerge
      *     <li>It calculates the size {@code n} of the subarray.</li>
      *     <li>If the size {@code n} is less than or equal to <i>1</i>, it means the subarray is already sorted or
      *     empty, so it returns and the method execution terminates.</li>
-     *     <li>It calculates the {@code mid} index by adding {@code left} and half of the size {@code n}.</li>
-     *     <li>It recursively calls {@code batcherOddEvenMergeInc} twice, dividing the subarray into two halves:
-     *     from {@code left} to {@code mid}, and from {@code mid} to {@code right}.
-     *     This step recursively sorts each half of the subarray.</li>
-     *     <li>Finally, it calls the {@code batcherMergingInc} method to merge the two sorted halves together to obtain
-     *     the final sorted subarray.</li>
+     *     <li>The subarray is sorted bottom-up, without recursion: runs of {@code width} elements, starting from
+     *     <i>1</i>, are merged in pairs by {@code batcherMergingInc}, and the {@code width} is doubled after every
+     *     pass, until a single run covers the subarray.</li>
      * </ul>
      * The {@code batcherOddEvenMergeInc} method essentially follows a divide-and-conquer approach.
-     * It divides the subarray into smaller subarrays, recursively sorts them using the same method,
-     * and then merges them together using the {@code batcherMergingInc} method.
+     * It merges ever longer runs of the subarray with the {@code batcherMergingInc} method, bottom-up, so the call
+     * stack does not grow with the size of the subarray.
      * @param       array to be arranged.
      * @param       left specific range of the array.
      * @param       right specific range of the array.
@@ -231,13 +228,11 @@ public class BatcherOddEvenMerge
      */
     protected void batcherOddEvenMergeInc(Comparable[] array, int left, int right) {
         int n = (right - left);
-        if (n <= 1) {
-            return;
+        for (int width = 1; width < n; width *= 2) {
+            for (int start = left; (start + width) < right; start += (2 * width)) {
+                batcherMergingInc(array, start, (start + width), Math.min((start + (2 * width)), right));
+            }
         }
-        int mid = (left + (n / 2));
-        batcherOddEvenMergeInc(array, left, mid);
-        batcherOddEvenMergeInc(array, mid, right);
-        batcherMergingInc(array, left, mid, right);
     }
 
     /**
@@ -249,16 +244,13 @@ public class BatcherOddEvenMerge
      *     <li>It calculates the size {@code n} of the subarray.</li>
      *     <li>If the size {@code n} is more than or equal to <i>1</i>, it means the subarray is already sorted or
      *     empty, so it returns and the method execution terminates.</li>
-     *     <li>It calculates the {@code mid} index by adding {@code left} and half of the size {@code n}.</li>
-     *     <li>It recursively calls {@code batcherOddEvenMergeDec} twice, dividing the subarray into two halves:
-     *     from {@code left} to {@code mid}, and from {@code mid} to {@code right}.
-     *     This step recursively sorts each half of the subarray.</li>
-     *     <li>Finally, it calls the {@code batcherMergingDec} method to merge the two sorted halves together to obtain
-     *     the final sorted subarray.</li>
+     *     <li>The subarray is sorted bottom-up, without recursion: runs of {@code width} elements, starting from
+     *     <i>1</i>, are merged in pairs by {@code batcherMergingDec}, and the {@code width} is doubled after every
+     *     pass, until a single run covers the subarray.</li>
      * </ul>
      * The {@code batcherOddEvenMergeDec} method essentially follows a divide-and-conquer approach.
-     * It divides the subarray into smaller subarrays, recursively sorts them using the same method,
-     * and then merges them together using the {@code batcherMergingDec} method.
+     * It merges ever longer runs of the subarray with the {@code batcherMergingDec} method, bottom-up, so the call
+     * stack does not grow with the size of the subarray.
      * @param       array to be arranged.
      * @param       left specific range of the array.
      * @param       right specific range of the array.
@@ -266,13 +258,11 @@ public class BatcherOddEvenMerge
      */
     protected void batcherOddEvenMergeDec(Comparable[] array, int left, int right) {
         int n = (right - left);
-        if (n <= 1) {
-            return;
+        for (int width = 1; width < n; width *= 2) {
+            for (int start = left; (start + width) < right; start += (2 * width)) {
+                batcherMergingDec(array, start, (start + width), Math.min((start + (2 * width)), right));
+            }
         }
-        int mid = (left + (n / 2));
-        batcherOddEvenMergeDec(array, left, mid);
-        batcherOddEvenMergeDec(array, mid, right);
-        batcherMergingDec(array, left, mid, right);
     }
 
     /**
@@ -289,18 +279,13 @@ public class BatcherOddEvenMerge
      *     the method returns without performing any further operations.</li>
      *     <li>If the size of the range is greater than <i>1</i>, the method proceeds with the odd-even merge
      *     operation.</li>
-     *     <li>It calculates the middle index of the range by adding
-     *     the {@code left} index to half of the size {@code mid = (left + (n / 2))}.</li>
-     *     <li>The method recursively calls itself to perform the odd-even merge operation on the left sub-range,
-     *     from {@code left} to {@code mid}.</li>
-     *     <li>The method recursively calls itself to perform the odd-even merge operation on the right sub-range,
-     *     from {@code mid} to {@code right}.</li>
-     *     <li>Finally, the method calls the {@code batcherMerging} method to merge the two sub-ranges together in an
-     *     odd-even manner.</li>
+     *     <li>The range is sorted bottom-up, without recursion: runs of {@code width} elements, starting from
+     *     <i>1</i>, are merged in pairs by {@code batcherMerging} in an odd-even manner, and the {@code width} is
+     *     doubled after every pass, until a single run covers the range.</li>
      * </ul>
      * The {@code batcherOddEvenMerge} method essentially follows a divide-and-conquer approach.
-     * It divides the subarray into smaller subarrays, recursively sorts them using the same method,
-     * and then merges them together using the {@code batcherMerging} method.
+     * It merges ever longer runs of the subarray with the {@code batcherMerging} method, bottom-up, so the call
+     * stack does not grow with the size of the subarray.
      * @param       array to be arranged.
      * @param       left specific range of the array.
      * @param       right specific range of the array.
@@ -309,13 +294,11 @@ public class BatcherOddEvenMerge
      */
     protected void batcherOddEvenMerge(Comparable[] array, int left, int right, SortFunctional<Comparable> functional) {
         int n = (right - left);
-        if (n <= 1) {
-            return;
+        for (int width = 1; width < n; width *= 2) {
+            for (int start = left; (start + width) < right; start += (2 * width)) {
+                batcherMerging(array, start, (start + width), Math.min((start + (2 * width)), right), functional);
+            }
         }
-        int mid = (left + (n / 2));
-        batcherOddEvenMerge(array, left, mid, functional);
-        batcherOddEvenMerge(array, mid, right, functional);
-        batcherMerging(array, left, mid, right, functional);
     }
 
     /**
@@ -635,16 +618,13 @@ public class BatcherOddEvenMerge
      *     <li>If the size {@code n} is less than or equal to <i>1</i>, it means the sublist is already sorted
      *     or empty,
      *     so it returns and the method execution terminates.</li>
-     *     <li>It calculates the {@code mid} index by adding {@code left} and half of the size {@code n}.</li>
-     *     <li>It recursively calls {@code batcherOddEvenMergeInc} twice, dividing the sublist into two halves:
-     *     from {@code left} to {@code mid}, and from {@code mid} to {@code right}.
-     *     This step recursively sorts each half of the subarray.</li>
-     *     <li>Finally, it calls the {@code batcherMergingInc} method to merge the two sorted halves together to obtain
-     *     the final sorted sublist.</li>
+     *     <li>The sublist is sorted bottom-up, without recursion: runs of {@code width} elements, starting from
+     *     <i>1</i>, are merged in pairs by {@code batcherMergingInc}, and the {@code width} is doubled after every
+     *     pass, until a single run covers the sublist.</li>
      * </ul>
      * The {@code batcherOddEvenMergeInc} method essentially follows a divide-and-conquer approach.
-     * It divides the sublist into smaller sublists, recursively sorts them using the same method,
-     * and then merges them together using the {@code batcherMergingInc} method.
+     * It merges ever longer runs of the sublist with the {@code batcherMergingInc} method, bottom-up, so the call
+     * stack does not grow with the size of the sublist.
      * @param       list to be arranged.
      * @param       left specific range of the list.
      * @param       right specific range of the list.
@@ -652,13 +632,11 @@ public class BatcherOddEvenMerge
      */
     protected <L extends Comparable> void batcherOddEvenMergeInc(List<L> list, int left, int right) {
         int n = (right - left);
-        if (n <= 1) {
-            return;
+        for (int width = 1; width < n; width *= 2) {
+            for (int start = left; (start + width) < right; start += (2 * width)) {
+                batcherMergingInc(list, start, (start + width), Math.min((start + (2 * width)), right));
+            }
         }
-        int mid = (left + (n / 2));
-        batcherOddEvenMergeInc(list, left, mid);
-        batcherOddEvenMergeInc(list, mid, right);
-        batcherMergingInc(list, left, mid, right);
     }
 
     /**
@@ -670,16 +648,13 @@ public class BatcherOddEvenMerge
      *     <li>It calculates the size {@code n} of the sublist.</li>
      *     <li>If the size {@code n} is more than or equal to <i>1</i>, it means the sublist is already sorted or empty,
      *     so it returns and the method execution terminates.</li>
-     *     <li>It calculates the {@code mid} index by adding {@code left} and half of the size {@code n}.</li>
-     *     <li>It recursively calls {@code batcherOddEvenMergeDec} twice, dividing the sublist into two halves:
-     *     from {@code left} to {@code mid}, and from {@code mid} to {@code right}.
-     *     This step recursively sorts each half of the subarray.</li>
-     *     <li>Finally, it calls the {@code batcherMergingDec} method to merge the two sorted halves together to obtain
-     *     the final sorted sublist.</li>
+     *     <li>The sublist is sorted bottom-up, without recursion: runs of {@code width} elements, starting from
+     *     <i>1</i>, are merged in pairs by {@code batcherMergingDec}, and the {@code width} is doubled after every
+     *     pass, until a single run covers the sublist.</li>
      * </ul>
      * The {@code batcherOddEvenMergeDec} method essentially follows a divide-and-conquer approach.
-     * It divides the sublist into smaller sublist, recursively sorts them using the same method,
-     * and then merges them together using the {@code batcherMergingDec} method.
+     * It merges ever longer runs of the sublist with the {@code batcherMergingDec} method, bottom-up, so the call
+     * stack does not grow with the size of the sublist.
      * @param       list to be arranged.
      * @param       left specific range of the list.
      * @param       right specific range of the list.
@@ -687,13 +662,11 @@ public class BatcherOddEvenMerge
      */
     protected <L extends Comparable> void batcherOddEvenMergeDec(List<L> list, int left, int right) {
         int n = (right - left);
-        if (n <= 1) {
-            return;
+        for (int width = 1; width < n; width *= 2) {
+            for (int start = left; (start + width) < right; start += (2 * width)) {
+                batcherMergingDec(list, start, (start + width), Math.min((start + (2 * width)), right));
+            }
         }
-        int mid = (left + (n / 2));
-        batcherOddEvenMergeDec(list, left, mid);
-        batcherOddEvenMergeDec(list, mid, right);
-        batcherMergingDec(list, left, mid, right);
     }
 
     /**
@@ -710,18 +683,13 @@ public class BatcherOddEvenMerge
      *     the method returns without performing any further operations.</li>
      *     <li>If the size of the range is greater than <i>1</i>, the method proceeds with the odd-even merge
      *     operation.</li>
-     *     <li>It calculates the middle index of the range by adding
-     *     the {@code left} index to half of the size {@code mid = (left + (n / 2))}.</li>
-     *     <li>The method recursively calls itself to perform the odd-even merge operation on the left sub-range,
-     *     from {@code left} to {@code mid}.</li>
-     *     <li>The method recursively calls itself to perform the odd-even merge operation on the right sub-range,
-     *     from {@code mid} to {@code right}.</li>
-     *     <li>Finally, the method calls the {@code batcherMerging} method to merge the two sub-ranges together in an
-     *     odd-even manner.</li>
+     *     <li>The range is sorted bottom-up, without recursion: runs of {@code width} elements, starting from
+     *     <i>1</i>, are merged in pairs by {@code batcherMerging} in an odd-even manner, and the {@code width} is
+     *     doubled after every pass, until a single run covers the range.</li>
      * </ul>
      * The {@code batcherOddEvenMerge} method essentially follows a divide-and-conquer approach.
-     * It divides the sublist into smaller sublists, recursively sorts them using the same method,
-     * and then merges them together using the {@code batcherMerging} method.
+     * It merges ever longer runs of the sublist with the {@code batcherMerging} method, bottom-up, so the call
+     * stack does not grow with the size of the sublist.
      * @param       list to be arranged.
      * @param       left specific range of the list.
      * @param       right specific range of the list.
@@ -731,13 +699,11 @@ public class BatcherOddEvenMerge
     protected <L extends Comparable> void batcherOddEvenMerge(
             List<L> list, int left, int right, SortFunctional<Comparable> functional) {
         int n = (right - left);
-        if (n <= 1) {
-            return;
+        for (int width = 1; width < n; width *= 2) {
+            for (int start = left; (start + width) < right; start += (2 * width)) {
+                batcherMerging(list, start, (start + width), Math.min((start + (2 * width)), right), functional);
+            }
         }
-        int mid = (left + (n / 2));
-        batcherOddEvenMerge(list, left, mid, functional);
-        batcherOddEvenMerge(list, mid, right, functional);
-        batcherMerging(list, left, mid, right, functional);
     }
 
     /**
@@ -0,0 +1,603 @@
+package github.magyarzoli.sort;
+
+import github.magyarzoli.BigArray;
+import github.magyarzoli.BigLongArray;
+import github.magyarzoli.Sort;
+import github.magyarzoli.SortFunctional;
+import github.magyarzoli.SortParallel;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+
+/**
+ * The sort kernels of the big arrays, the long-indexed, segmented arrays holding more than <i>2^31</i> elements.
+ * Every index of the kernels is a {@code long}, and every access goes through the segments, so a range can cross any
+ * number of segment boundaries.
+ * <ul>
+ *     <li>{@code mergeSort} - A stable, bottom-up merge sort with one buffer of the length of the array.
+ *     On worker threads the halves are sorted as fork/join tasks, and the large merges are split in two
+ *     by a binary search, so the last merges are parallel too.</li>
+ *     <li>{@code introSort} - An in-place quicksort with median-of-three Hoare partitions and an explicit stack
+ *     of <i>log2 n</i> entries, the ranges deeper than <i>2 log2 n</i> partitions are heap sorted,
+ *     the small ranges insertion sorted.</li>
+ *     <li>{@code radixSort} - A least significant digit radix sort of {@code long} values, eight passes of
+ *     eight bits, the passes where every value has the same digit are skipped.
+ *     On worker threads the histograms and the scatter of each pass are split into blocks.</li>
+ * </ul>
+ * @since       1.3
+ * @author      <a href=https://github.com/MagyarZoli>Magyar Zoltán</a>
+ */
+@SuppressWarnings("rawtypes")
+public class BigSorter {
+
+    /**
+     * Ranges up to this length are insertion sorted, by the quicksort and as the first runs of the merge sort.
+     */
+    protected final int INSERTION_THRESHOLD = 16;
+
+    /**
+     * Ranges longer than this are sorted and merged as separate fork/join tasks.
+     */
+    protected final long PARALLEL_THRESHOLD = (1L << 13);
+
+    /**
+     * The number of tasks of a parallel sort and the pool running them.
+     */
+    protected final SortParallel parallel;
+
+    /**
+     * <b>Big Sorter:</b><br>
+     * Sorts the big arrays on the calling thread.<br><br>
+     * <b>Property:</b><br>
+     * Worst Case Complexity:   <em>O(n log(n))</em><br>
+     * Best Case Complexity:    <em>O(n log(n))</em><br>
+     * Average Case Complexity: <em>O(n log(n))</em><br>
+     * Auxiliary Space:         <em>O(n)</em> merge and radix sort, <em>O(log(n))</em> intro sort<br>
+     * Stability:               <b>Yes</b> merge and radix sort, <b>No</b> intro sort
+     */
+    public BigSorter() {
+        this(1);
+    }
+
+    /**
+     * <b>Big Sorter:</b><br>
+     * Sorts the big arrays longer than {@code PARALLEL_THRESHOLD} on {@code parallelism} worker threads,
+     * the merge sort and the radix sort are parallel, the intro sort runs on the calling thread.
+     * @param       parallelism the number of worker threads, <i>1</i> sorts on the calling thread.
+     * @throws      IllegalArgumentException if the {@code parallelism} is not positive.
+     * @see         BigSorter#BigSorter() BigSorter
+     */
+    public BigSorter(int parallelism) {
+        this(SortParallel.of(parallelism));
+    }
+
+    /**
+     * <b>Big Sorter:</b><br>
+     * Sorts with the tasks of the {@code parallel} given, on its pool, a pool of the caller is never shut down.
+     * @param       parallel the number of worker threads of a parallel sort and the pool running its tasks.
+     * @see         BigSorter#BigSorter(int) BigSorter
+     * @see         SortParallel#of(int, java.util.concurrent.ForkJoinPool)
+     */
+    public BigSorter(SortParallel parallel) {
+        this.parallel = parallel;
+    }
+
+    /**
+     * {@code parallelism} returns the number of worker threads of a parallel sort.
+     * @return      the number of worker threads, <i>1</i> if the sorter runs on the calling thread.
+     */
+    public int parallelism() {
+        return parallel.parallelism();
+    }
+
+    /**
+     * {@code sort} arranges a big array by the {@code type}, the increasing and decreasing orders are sorted by
+     * the stable {@code mergeSort}.
+     * @param       array to be arranged.
+     * @param       type sorting is done according to 4 different integer type settings.
+     * @param       <T> setting of a type based on which the elements can be sorted.
+     * @see         BigSorter#mergeSort(BigArray, SortFunctional)
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends Comparable> void sort(BigArray<T> array, int type) {
+        switch (type) {
+            case Sort.INC:
+                mergeSort(array, (a, b) -> a.compareTo(b) > 0);
+                break;
+            case Sort.DEC:
+                mergeSort(array, (a, b) -> a.compareTo(b) < 0);
+                break;
+            case Sort.REV:
+                for (long i = 0, j = (array.length() - 1); i < j; i++, j--) {
+                    array.swap(i, j);
+                }
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * {@code mergeSort} is a stable merge sort of a big array.
+     * <ul>
+     *     <li>A buffer of the length of the {@code array} is allocated, in segments of the same length.</li>
+     *     <li>On the calling thread, the runs of {@code INSERTION_THRESHOLD} elements are insertion sorted,
+     *     then merged bottom-up, the width of the runs doubles in every pass, and the {@code array} and the
+     *     buffer swap roles after every pass.</li>
+     *     <li>On worker threads, the halves of the ranges longer than {@code PARALLEL_THRESHOLD} are sorted as
+     *     separate tasks into the other array, and merged back, so every level of the recursion moves the
+     *     elements once.</li>
+     * </ul>
+     * @param       array to be arranged.
+     * @param       functional lambda expression for comparison.
+     * @param       <T> setting of a type based on which the elements can be sorted.
+     */
+    public <T extends Comparable> void mergeSort(BigArray<T> array, SortFunctional<T> functional) {
+        long n = array.length();
+        if (n < 2) {
+            return;
+        }
+        BigArray<T> buffer = new BigArray<>(n, array.shift());
+        if (parallel.parallel() && (n > PARALLEL_THRESHOLD)) {
+            parallel.invoke(new SortTask<>(array, buffer, 0, n, false, functional));
+        } else {
+            mergeSort(array, buffer, 0, n, functional);
+        }
+    }
+
+    /**
+     * {@code mergeSort} is the bottom-up merge sort of a range on the calling thread.
+     * @param       array to be arranged, the sorted range is left in it.
+     * @param       buffer the auxiliary array, at least as long as the {@code array}.
+     * @param       from the first index of the range.
+     * @param       to the end (exclusive) of the range.
+     * @param       functional lambda expression for comparison.
+     * @param       <T> setting of a type based on which the elements can be sorted.
+     */
+    protected <T extends Comparable> void mergeSort(
+            BigArray<T> array, BigArray<T> buffer, long from, long to, SortFunctional<T> functional) {
+        for (long left = from; left < to; left += INSERTION_THRESHOLD) {
+            insertionSort(array, left, (Math.min((left + INSERTION_THRESHOLD), to) - 1), functional);
+        }
+        BigArray<T> source = array;
+        BigArray<T> target = buffer;
+        for (long width = INSERTION_THRESHOLD; width < (to - from); width *= 2) {
+            for (long left = from; left < to; left += (2 * width)) {
+                long mid = Math.min((left + width), to);
+                long right = Math.min((left + (2 * width)), to);
+                merge(source, target, left, mid, mid, right, left, functional);
+            }
+            BigArray<T> swap = source;
+            source = target;
+            target = swap;
+        }
+        if (source != array) {
+            source.copy(from, array, from, (to - from));
+        }
+    }
+
+    /**
+     * {@code merge} merges two sorted runs of the {@code source} into the {@code target}, on equal elements the
+     * element of the first run goes first, so the merge is stable.
+     * @param       source the array of the runs.
+     * @param       target the array merged into.
+     * @param       left1 the first index of the first run.
+     * @param       right1 the end (exclusive) of the first run.
+     * @param       left2 the first index of the second run.
+     * @param       right2 the end (exclusive) of the second run.
+     * @param       index the first index of the merged run in the {@code target}.
+     * @param       functional lambda expression for comparison.
+     * @param       <T> setting of a type based on which the elements can be sorted.
+     */
+    protected <T extends Comparable> void merge(BigArray<T> source, BigArray<T> target, long left1, long right1,
+                                                long left2, long right2, long index, SortFunctional<T> functional) {
+        while ((left1 < right1) && (left2 < right2)) {
+            if (functional.functionalCompareTo(source.get(left1), source.get(left2))) {
+                target.set(index++, source.get(left2++));
+            } else {
+                target.set(index++, source.get(left1++));
+            }
+        }
+        source.copy(left1, target, index, (right1 - left1));
+        source.copy(left2, target, (index + (right1 - left1)), (right2 - left2));
+    }
+
+    /**
+     * {@code introSort} is an in-place, not stable quicksort of a big array.
+     * <ul>
+     *     <li>The pivot is the median of the first, the middle and the last element, and the range is divided by a
+     *     Hoare partition, the elements equal to the pivot are spread to both sides.</li>
+     *     <li>The larger side is pushed to an explicit stack, the smaller side is partitioned next, so the stack
+     *     never holds more than <i>log2 n</i> ranges.</li>
+     *     <li>A range partitioned <i>2 log2 n</i> times is heap sorted, so the worst case is <i>O(n log(n))</i>.</li>
+     *     <li>The ranges up to {@code INSERTION_THRESHOLD} elements are insertion sorted.</li>
+     * </ul>
+     * @param       array to be arranged.
+     * @param       functional lambda expression for comparison.
+     * @param       <T> setting of a type based on which the elements can be sorted.
+     */
+    public <T extends Comparable> void introSort(BigArray<T> array, SortFunctional<T> functional) {
+        long n = array.length();
+        if (n < 2) {
+            return;
+        }
+        long[] stack = new long[(3 * 64)];
+        int top = 0;
+        long left = 0;
+        long right = (n - 1);
+        long depth = (2L * (64 - Long.numberOfLeadingZeros(n)));
+        while (true) {
+            while (((right - left) >= INSERTION_THRESHOLD) && (depth > 0)) {
+                depth--;
+                long[] bounds = partition(array, left, right, functional);
+                if ((bounds[0] - left) < (right - bounds[1])) {
+                    stack[top++] = bounds[1];
+                    stack[top++] = right;
+                    stack[top++] = depth;
+                    right = bounds[0];
+                } else {
+                    stack[top++] = left;
+                    stack[top++] = bounds[0];
+                    stack[top++] = depth;
+                    left = bounds[1];
+                }
+            }
+            if ((right - left) >= INSERTION_THRESHOLD) {
+                heapSort(array, left, right, functional);
+            } else {
+                insertionSort(array, left, right, functional);
+            }
+            if (top == 0) {
+                return;
+            }
+            depth = stack[--top];
+            right = stack[--top];
+            left = stack[--top];
+        }
+    }
+
+    /**
+     * {@code partition} is the median-of-three Hoare partition of a range.
+     * @param       array to be arranged.
+     * @param       left the first index of the range.
+     * @param       right the last index of the range.
+     * @param       functional lambda expression for comparison.
+     * @param       <T> setting of a type based on which the elements can be sorted.
+     * @return      the last index of the left side and the first index of the right side.
+     */
+    protected <T extends Comparable> long[] partition(
+            BigArray<T> array, long left, long right, SortFunctional<T> functional) {
+        long mid = (left + ((right - left) >>> 1));
+        if (functional.functionalCompareTo(array.get(left), array.get(mid))) {
+            array.swap(left, mid);
+        }
+        if (functional.functionalCompareTo(array.get(mid), array.get(right))) {
+            array.swap(mid, right);
+        }
+        if (functional.functionalCompareTo(array.get(left), array.get(mid))) {
+            array.swap(left, mid);
+        }
+        T pivot = array.get(mid);
+        long i = left;
+        long j = right;
+        while (i <= j) {
+            while (functional.functionalCompareTo(pivot, array.get(i))) {
+                i++;
+            }
+            while (functional.functionalCompareTo(array.get(j), pivot)) {
+                j--;
+            }
+            if (i <= j) {
+                array.swap(i++, j--);
+            }
+        }
+        return new long[] {j, i};
+    }
+
+    /**
+     * {@code insertionSort} is the stable insertion sort of a small range.
+     * @param       array to be arranged.
+     * @param       left the first index of the range.
+     * @param       right the last index of the range.
+     * @param       functional lambda expression for comparison.
+     * @param       <T> setting of a type based on which the elements can be sorted.
+     */
+    protected <T extends Comparable> void insertionSort(
+            BigArray<T> array, long left, long right, SortFunctional<T> functional) {
+        for (long i = (left + 1); i <= right; i++) {
+            T key = array.get(i);
+            long j = (i - 1);
+            while ((j >= left) && functional.functionalCompareTo(array.get(j), key)) {
+                array.set((j + 1), array.get(j));
+                j--;
+            }
+            array.set((j + 1), key);
+        }
+    }
+
+    /**
+     * {@code heapSort} is the heap sort of a range, the fallback of the {@code introSort}.
+     * @param       array to be arranged.
+     * @param       left the first index of the range.
+     * @param       right the last index of the range.
+     * @param       functional lambda expression for comparison.
+     * @param       <T> setting of a type based on which the elements can be sorted.
+     */
+    protected <T extends Comparable> void heapSort(
+            BigArray<T> array, long left, long right, SortFunctional<T> functional) {
+        long n = ((right - left) + 1);
+        for (long i = ((n >>> 1) - 1); i >= 0; i--) {
+            siftDown(array, left, i, n, functional);
+        }
+        for (long end = (n - 1); end > 0; end--) {
+            array.swap(left, (left + end));
+            siftDown(array, left, 0, end, functional);
+        }
+    }
+
+    /**
+     * {@code siftDown} moves an element of the heap down, until it is not before any of its children.
+     * @param       array the array of the heap.
+     * @param       base the index of the root of the heap.
+     * @param       i the index of the element, relative to the {@code base}.
+     * @param       n the number of elements of the heap.
+     * @param       functional lambda expression for comparison.
+     * @param       <T> setting of a type based on which the elements can be sorted.
+     */
+    protected <T extends Comparable> void siftDown(
+            BigArray<T> array, long base, long i, long n, SortFunctional<T> functional) {
+        T key = array.get((base + i));
+        while (true) {
+            long child = ((2 * i) + 1);
+            if (child >= n) {
+                break;
+            }
+            if (((child + 1) < n)
+                    && functional.functionalCompareTo(array.get((base + child + 1)), array.get((base + child)))) {
+                child++;
+            }
+            if (!functional.functionalCompareTo(array.get((base + child)), key)) {
+                break;
+            }
+            array.set((base + i), array.get((base + child)));
+            i = child;
+        }
+        array.set((base + i), key);
+    }
+
+    /**
+     * {@code radixSort} is a stable least significant digit radix sort of a big array of {@code long} values,
+     * in increasing order.
+     * <ul>
+     *     <li>Every pass sorts by one byte of the values, from the lowest, the sign bit is flipped, so the negative
+     *     values go first.</li>
+     *     <li>The histogram of the digits is counted, a pass where every value has the same digit is skipped.</li>
+     *     <li>The values are scattered into a buffer by the prefix sums of the histogram, the {@code array} and the
+     *     buffer swap roles after every pass.</li>
+     *     <li>On worker threads, the array is split into {@code parallelism} blocks, each block counts its own
+     *     histogram, and scatters into its own positions, the positions of the blocks follow each other within
+     *     every digit, so the sort stays stable.</li>
+     * </ul>
+     * @param       array to be arranged.
+     */
+    public void radixSort(BigLongArray array) {
+        long n = array.length();
+        if (n < 2) {
+            return;
+        }
+        int blocks = ((parallel.parallel() && (n > PARALLEL_THRESHOLD)) ? parallel.parallelism() : 1);
+        long[] bounds = new long[(blocks + 1)];
+        for (int b = 0; b <= blocks; b++) {
+            bounds[b] = ((n / blocks) * b) + Math.min(b, (n % blocks));
+        }
+        long[][] counts = new long[blocks][256];
+        BigLongArray source = array;
+        BigLongArray target = new BigLongArray(n, array.shift());
+        for (int shift = 0; shift < 64; shift += 8) {
+            BigLongArray from = source;
+            BigLongArray to = target;
+            int digitShift = shift;
+            forEachBlock(blocks, b -> {
+                long[] count = counts[b];
+                Arrays.fill(count, 0);
+                for (long i = bounds[b]; i < bounds[(b + 1)]; i++) {
+                    count[digit(from.get(i), digitShift)]++;
+                }
+            });
+            long first = 0;
+            for (int b = 0; b < blocks; b++) {
+                first += counts[b][digit(from.get(0), digitShift)];
+            }
+            if (first == n) {
+                continue;
+            }
+            long sum = 0;
+            for (int d = 0; d < 256; d++) {
+                for (int b = 0; b < blocks; b++) {
+                    long count = counts[b][d];
+                    counts[b][d] = sum;
+                    sum += count;
+                }
+            }
+            forEachBlock(blocks, b -> {
+                long[] position = counts[b];
+                for (long i = bounds[b]; i < bounds[(b + 1)]; i++) {
+                    long value = from.get(i);
+                    to.set(position[digit(value, digitShift)]++, value);
+                }
+            });
+            source = to;
+            target = from;
+        }
+        if (source != array) {
+            for (long i = 0; i < n; i++) {
+                array.set(i, source.get(i));
+            }
+        }
+    }
+
+    /**
+     * {@code digit} returns a byte of a value, with the sign bit flipped.
+     * @param       value the value.
+     * @param       shift the position of the lowest bit of the byte.
+     * @return      the digit, <i>0</i> to <i>255</i>.
+     */
+    protected int digit(long value, int shift) {
+        return (int) (((value ^ Long.MIN_VALUE) >>> shift) & 0xFF);
+    }
+
+    /**
+     * {@code forEachBlock} runs the {@code action} for every block, on the worker threads if there are more blocks.
+     * @param       blocks the number of blocks.
+     * @param       action the work of one block.
+     */
+    protected void forEachBlock(int blocks, IntConsumer action) {
+        if (blocks == 1) {
+            action.accept(0);
+            return;
+        }
+        List<ForkJoinTask<?>> tasks = new ArrayList<>(blocks);
+        for (int b = 0; b < blocks; b++) {
+            int block = b;
+            tasks.add(ForkJoinTask.adapt(() -> action.accept(block)));
+        }
+        parallel.invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(tasks)));
+    }
+
+    /**
+     * The fork/join task sorting a range of a big array, the result is left in the {@code array}, or in the
+     * {@code buffer} if {@code into} is set.
+     * @param       <T> setting of a type based on which the elements can be sorted.
+     */
+    private final class SortTask<T extends Comparable>
+            extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final BigArray<T> array;
+
+        private final BigArray<T> buffer;
+
+        private final long from;
+
+        private final long to;
+
+        private final boolean into;
+
+        private final SortFunctional<T> functional;
+
+        private SortTask(BigArray<T> array, BigArray<T> buffer, long from, long to, boolean into,
+                         SortFunctional<T> functional) {
+            this.array = array;
+            this.buffer = buffer;
+            this.from = from;
+            this.to = to;
+            this.into = into;
+            this.functional = functional;
+        }
+
+        @Override
+        protected void compute() {
+            if ((to - from) <= PARALLEL_THRESHOLD) {
+                mergeSort(array, buffer, from, to, functional);
+                if (into) {
+                    array.copy(from, buffer, from, (to - from));
+                }
+                return;
+            }
+            long mid = (from + ((to - from) >>> 1));
+            invokeAll(new SortTask<>(array, buffer, from, mid, !into, functional),
+                    new SortTask<>(array, buffer, mid, to, !into, functional));
+            BigArray<T> source = (into ? array : buffer);
+            BigArray<T> target = (into ? buffer : array);
+            new MergeTask<>(source, target, from, mid, mid, to, from, functional).invoke();
+        }
+    }
+
+    /**
+     * The fork/join task merging two sorted runs, a large merge is split in two independent merges by a binary
+     * search of the middle element of the longer run in the shorter run.
+     * @param       <T> setting of a type based on which the elements can be sorted.
+     */
+    private final class MergeTask<T extends Comparable>
+            extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final BigArray<T> source;
+
+        private final BigArray<T> target;
+
+        private final long left1;
+
+        private final long right1;
+
+        private final long left2;
+
+        private final long right2;
+
+        private final long index;
+
+        private final SortFunctional<T> functional;
+
+        private MergeTask(BigArray<T> source, BigArray<T> target, long left1, long right1, long left2, long right2,
+                          long index, SortFunctional<T> functional) {
+            this.source = source;
+            this.target = target;
+            this.left1 = left1;
+            this.right1 = right1;
+            this.left2 = left2;
+            this.right2 = right2;
+            this.index = index;
+            this.functional = functional;
+        }
+
+        @Override
+        protected void compute() {
+            long length1 = (right1 - left1);
+            long length2 = (right2 - left2);
+            if ((length1 + length2) <= PARALLEL_THRESHOLD) {
+                merge(source, target, left1, right1, left2, right2, index, functional);
+                return;
+            }
+            long mid1;
+            long mid2;
+            if (length1 >= length2) {
+                mid1 = (left1 + (length1 >>> 1));
+                T pivot = source.get(mid1);
+                long low = left2;
+                long high = right2;
+                while (low < high) {
+                    long mid = ((low + high) >>> 1);
+                    if (functional.functionalCompareTo(pivot, source.get(mid))) {
+                        low = (mid + 1);
+                    } else {
+                        high = mid;
+                    }
+                }
+                mid2 = low;
+            } else {
+                mid2 = (left2 + (length2 >>> 1));
+                T pivot = source.get(mid2);
+                long low = left1;
+                long high = right1;
+                while (low < high) {
+                    long mid = ((low + high) >>> 1);
+                    if (functional.functionalCompareTo(source.get(mid), pivot)) {
+                        high = mid;
+                    } else {
+                        low = (mid + 1);
+                    }
+                }
+                mid1 = low;
+            }
+            invokeAll(new MergeTask<>(source, target, left1, mid1, left2, mid2, index, functional),
+                    new MergeTask<>(source, target, mid1, right1, mid2, right2,
+                            (index + (mid1 - left1) + (mid2 - left2)), functional));
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,274 @@
+package github.magyarzoli.sort;
+
+import github.magyarzoli.PivotStrategy;
+import github.magyarzoli.BlockQuickInterface;
+import github.magyarzoli.sort.intro.IntroBlockQuick;
+
+/**
+ * Block Quick Sort is Quick Sort with the block partition of BlockQuicksort (Edelkamp and Weiß).
+ * The elements are compared against the pivot a block at a time, the offsets of the misplaced elements are
+ * collected without branching, and then swapped in bulk, which avoids most of the branch mispredictions of
+ * the classic partition on random keys.
+ * @since       1.3
+ * @author      <a href=https://github.com/MagyarZoli>Magyar Zoltán</a>
+ */
+@SuppressWarnings("rawtypes")
+public class BlockQuick
+        extends Quick
+        implements BlockQuickInterface<Comparable> {
+
+    /**
+     * Below this size the primitive kernels finish the range with Insertion Sort.
+     */
+    protected final int INSERTION_THRESHOLD = 16;
+
+    /**
+     * <b>Block Quick Sort:</b><br>
+     * Is Quick Sort, whose partitioning step works on blocks of {@code BLOCK_SIZE} elements.<br><br>
+     * <b>Example:</b>
+     * <ol>
+     *     <li>The pivot is the last element of the subarray, the same as in Quick Sort.</li>
+     *     <li>A block is taken from both ends of the subarray,
+     *     the offsets of the elements on the wrong side are written into two small buffers,
+     *     the result of each comparison only decides whether the buffer length grows.</li>
+     *     <li>The recorded elements are swapped pairwise, a block is finished when its buffer is empty.</li>
+     *     <li>The last two blocks are partitioned by scanning from both ends, and the pivot is put between the
+     *     sides.</li>
+     *     <li>The two sides are sorted recursively.</li>
+     * </ol>
+     * <b>Note:</b><br>
+     * The number of comparisons is the same as the one of Quick Sort,
+     * the gain comes from the predictable control flow.
+     * The {@code int}, {@code long} and {@code double} entry points use the median of three as pivot,
+     * recurse into the smaller side and finish small ranges with Insertion Sort.<br><br>
+     * <b>Property:</b><br>
+     * Worst Case Complexity:   <em>O(n^2)</em><br>
+     * Best Case Complexity:    <em>O(n log(n))</em><br>
+     * Average Case Complexity: <em>O(n log(n))</em><br>
+     * Auxiliary Space:         <em>O(log(n))</em><br>
+     * Stability:               <b>No</b>
+     * @see         IntroBlockQuick#IntroBlockQuick() IntroBlockQuick
+     */
+    public BlockQuick() {}
+
+    /**
+     * <b>Block Quick Sort:</b><br>
+     * With the pivot selection of the partitions given.
+     * @param       pivotStrategy the pivot selection of the partitions.
+     * @see         BlockQuick#BlockQuick() BlockQuick
+     * @see         PivotStrategy
+     */
+    public BlockQuick(PivotStrategy pivotStrategy) {
+        super(pivotStrategy);
+    }
+
+    /**
+     * Arranges the elements of the {@code int} array in ascending order, without boxing the elements.
+     * @param       array to be arranged.
+     * @see         BlockQuick#quickBlockInc(int[], int, int)
+     */
+    public void sortArrayInc(int[] array) {
+        quickBlockInc(array, 0, (array.length - 1));
+    }
+
+    /**
+     * Arranges the elements of the {@code int} array in descending order, without boxing the elements.
+     * The array is sorted in ascending order, then reversed.
+     * @param       array to be arranged.
+     * @see         BlockQuick#quickBlockInc(int[], int, int)
+     */
+    public void sortArrayDec(int[] array) {
+        quickBlockInc(array, 0, (array.length - 1));
+        for (int i = 0, j = (array.length - 1); i < j; i++, j--) {
+            swap(array, i, j);
+        }
+    }
+
+    /**
+     * Arranges the elements of the {@code long} array in ascending order, without boxing the elements.
+     * @param       array to be arranged.
+     * @see         BlockQuick#quickBlockInc(long[], int, int)
+     */
+    public void sortArrayInc(long[] array) {
+        quickBlockInc(array, 0, (array.length - 1));
+    }
+
+    /**
+     * Arranges the elements of the {@code long} array in descending order, without boxing the elements.
+     * The array is sorted in ascending order, then reversed.
+     * @param       array to be arranged.
+     * @see         BlockQuick#quickBlockInc(long[], int, int)
+     */
+    public void sortArrayDec(long[] array) {
+        quickBlockInc(array, 0, (array.length - 1));
+        for (int i = 0, j = (array.length - 1); i < j; i++, j--) {
+            swap(array, i, j);
+        }
+    }
+
+    /**
+     * Arranges the elements of the {@code double} array in ascending order, without boxing the elements.
+     * @param       array to be arranged.
+     * @see         BlockQuick#quickBlockInc(double[], int, int)
+     */
+    public void sortArrayInc(double[] array) {
+        quickBlockInc(array, 0, (array.length - 1));
+    }
+
+    /**
+     * Arranges the elements of the {@code double} array in descending order, without boxing the elements.
+     * The array is sorted in ascending order, then reversed.
+     * @param       array to be arranged.
+     * @see         BlockQuick#quickBlockInc(double[], int, int)
+     */
+    public void sortArrayDec(double[] array) {
+        quickBlockInc(array, 0, (array.length - 1));
+        for (int i = 0, j = (array.length - 1); i < j; i++, j--) {
+            swap(array, i, j);
+        }
+    }
+
+    /**
+     * {@code quickBlockInc} sorts the range {@code left} to {@code right} (inclusive) of an {@code int} array in
+     * ascending order.
+     * <ul>
+     *     <li>Ranges of at most {@code INSERTION_THRESHOLD} elements are sorted by Insertion Sort.</li>
+     *     <li>The median of the first, middle and last elements is moved to {@code right} as pivot.</li>
+     *     <li>The range is split by {@code partitionBlockInc}.</li>
+     *     <li>The smaller side is sorted recursively, the loop continues with the larger one,
+     *     so the depth of the recursion is at most <i>log(n)</i>.</li>
+     * </ul>
+     * @param       array to be arranged.
+     * @param       left The starting index of the subarray to be sorted.
+     * @param       right The ending index (inclusive) of the subarray to be sorted.
+     * @see         BlockQuickInterface#partitionBlockInc(int[], int, int)
+     */
+    protected void quickBlockInc(int[] array, int left, int right) {
+        while ((right - left) > INSERTION_THRESHOLD) {
+            int mid = ((left + right) >>> 1);
+            if ((array[mid] < array[left])) {
+                swap(array, left, mid);
+            }
+            if ((array[right] < array[left])) {
+                swap(array, left, right);
+            }
+            if ((array[right] < array[mid])) {
+                swap(array, mid, right);
+            }
+            swap(array, mid, right);
+            int pivot = partitionBlockInc(array, left, right);
+            if ((pivot - left) < (right - pivot)) {
+                quickBlockInc(array, left, (pivot - 1));
+                left = (pivot + 1);
+            } else {
+                quickBlockInc(array, (pivot + 1), right);
+                right = (pivot - 1);
+            }
+        }
+        for (int i = (left + 1); i <= right; i++) {
+            int select = array[i];
+            int j = i;
+            while ((j > left) && (select < array[(j - 1)])) {
+                array[j] = array[(j - 1)];
+                j--;
+            }
+            array[j] = select;
+        }
+    }
+
+    /**
+     * {@code quickBlockInc} sorts the range {@code left} to {@code right} (inclusive) of a {@code long} array in
+     * ascending order.
+     * <ul>
+     *     <li>Ranges of at most {@code INSERTION_THRESHOLD} elements are sorted by Insertion Sort.</li>
+     *     <li>The median of the first, middle and last elements is moved to {@code right} as pivot.</li>
+     *     <li>The range is split by {@code partitionBlockInc}.</li>
+     *     <li>The smaller side is sorted recursively, the loop continues with the larger one,
+     *     so the depth of the recursion is at most <i>log(n)</i>.</li>
+     * </ul>
+     * @param       array to be arranged.
+     * @param       left The starting index of the subarray to be sorted.
+     * @param       right The ending index (inclusive) of the subarray to be sorted.
+     * @see         BlockQuickInterface#partitionBlockInc(long[], int, int)
+     */
+    protected void quickBlockInc(long[] array, int left, int right) {
+        while ((right - left) > INSERTION_THRESHOLD) {
+            int mid = ((left + right) >>> 1);
+            if ((array[mid] < array[left])) {
+                swap(array, left, mid);
+            }
+            if ((array[right] < array[left])) {
+                swap(array, left, right);
+            }
+            if ((array[right] < array[mid])) {
+                swap(array, mid, right);
+            }
+            swap(array, mid, right);
+            int pivot = partitionBlockInc(array, left, right);
+            if ((pivot - left) < (right - pivot)) {
+                quickBlockInc(array, left, (pivot - 1));
+                left = (pivot + 1);
+            } else {
+                quickBlockInc(array, (pivot + 1), right);
+                right = (pivot - 1);
+            }
+        }
+        for (int i = (left + 1); i <= right; i++) {
+            long select = array[i];
+            int j = i;
+            while ((j > left) && (select < array[(j - 1)])) {
+                array[j] = array[(j - 1)];
+                j--;
+            }
+            array[j] = select;
+        }
+    }
+
+    /**
+     * {@code quickBlockInc} sorts the range {@code left} to {@code right} (inclusive) of a {@code double} array in
+     * ascending order.
+     * <ul>
+     *     <li>Ranges of at most {@code INSERTION_THRESHOLD} elements are sorted by Insertion Sort.</li>
+     *     <li>The median of the first, middle and last elements is moved to {@code right} as pivot.</li>
+     *     <li>The range is split by {@code partitionBlockInc}.</li>
+     *     <li>The smaller side is sorted recursively, the loop continues with the larger one,
+     *     so the depth of the recursion is at most <i>log(n)</i>.</li>
+     * </ul>
+     * @param       array to be arranged.
+     * @param       left The starting index of the subarray to be sorted.
+     * @param       right The ending index (inclusive) of the subarray to be sorted.
+     * @see         BlockQuickInterface#partitionBlockInc(double[], int, int)
+     */
+    protected void quickBlockInc(double[] array, int left, int right) {
+        while ((right - left) > INSERTION_THRESHOLD) {
+            int mid = ((left + right) >>> 1);
+            if ((Double.compare(array[mid], array[left]) < 0)) {
+                swap(array, left, mid);
+            }
+            if ((Double.compare(array[right], array[left]) < 0)) {
+                swap(array, left, right);
+            }
+            if ((Double.compare(array[right], array[mid]) < 0)) {
+                swap(array, mid, right);
+            }
+            swap(array, mid, right);
+            int pivot = partitionBlockInc(array, left, right);
+            if ((pivot - left) < (right - pivot)) {
+                quickBlockInc(array, left, (pivot - 1));
+                left = (pivot + 1);
+            } else {
+                quickBlockInc(array, (pivot + 1), right);
+                right = (pivot - 1);
+            }
+        }
+        for (int i = (left + 1); i <= right; i++) {
+            double select = array[i];
+            int j = i;
+            while ((j > left) && (Double.compare(select, array[(j - 1)]) < 0)) {
+                array[j] = array[(j - 1)];
+                j--;
+            }
+            array[j] = select;
+        }
+    }
+}
\ No newline at end of file
@@ -1,9 +1,17 @@
 package github.magyarzoli.sort;
 
 import github.magyarzoli.SortFunctional;
+import github.magyarzoli.SortParallel;
 import github.magyarzoli.SortSwap;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.ListIterator;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Bogo sort is a highly inefficient and random sorting algorithm.
@@ -16,6 +24,16 @@ import java.util.List;
 public class Bogo
         extends Bubble {
 
+    /**
+     * The source of the random streams, every sort splits its own streams from it.
+     */
+    protected final SplittableRandom random;
+
+    /**
+     * The number of independent random streams and the pool running them.
+     */
+    protected final SortParallel parallel;
+
     /**
      * <b>Bogo Sort:</b><br>
      * Is a highly inefficient and random sorting algorithm.
@@ -57,7 +75,65 @@ public class Bogo
      * Auxiliary Space:         <em>O(1)</em><br>
      * Stability:               <b>No</b>
      */
-    public Bogo() {}
+    public Bogo() {
+        this(new SplittableRandom(), 1);
+    }
+
+    /**
+     * <b>Bogo Sort:</b><br>
+     * Runs {@code parallelism} independent random streams on worker threads, each on its own copy of the array,
+     * the first stream sorting its copy wins, and the others are cancelled.
+     * @param       parallelism the number of random streams, <i>1</i> sorts on the calling thread.
+     * @throws      IllegalArgumentException if the {@code parallelism} is not positive.
+     * @see         Bogo#Bogo() Bogo
+     */
+    public Bogo(int parallelism) {
+        this(new SplittableRandom(), parallelism);
+    }
+
+    /**
+     * <b>Bogo Sort:</b><br>
+     * Draws the random streams from the {@code random} given, a seeded source repeats the same shuffles on every run.
+     * @param       random the source of the random streams.
+     * @see         Bogo#Bogo() Bogo
+     */
+    public Bogo(SplittableRandom random) {
+        this(random, 1);
+    }
+
+    /**
+     * <b>Bogo Sort:</b><br>
+     * Runs {@code parallelism} independent random streams, drawn from the {@code random} given.
+     * @param       random the source of the random streams.
+     * @param       parallelism the number of random streams, <i>1</i> sorts on the calling thread.
+     * @throws      IllegalArgumentException if the {@code parallelism} is not positive.
+     * @see         Bogo#Bogo(int) Bogo
+     * @see         Bogo#Bogo(SplittableRandom) Bogo
+     */
+    public Bogo(SplittableRandom random, int parallelism) {
+        this(random, SortParallel.of(parallelism));
+    }
+
+    /**
+     * <b>Bogo Sort:</b><br>
+     * Runs the random streams of the {@code parallel} given, on its pool, a pool of the caller is never shut down.
+     * @param       random the source of the random streams.
+     * @param       parallel the number of random streams and the pool running them.
+     * @see         Bogo#Bogo(SplittableRandom, int) Bogo
+     * @see         SortParallel#of(int, java.util.concurrent.ForkJoinPool)
+     */
+    public Bogo(SplittableRandom random, SortParallel parallel) {
+        this.random = random;
+        this.parallel = parallel;
+    }
+
+    /**
+     * {@code parallelism} returns the number of random streams.
+     * @return      the number of random streams, <i>1</i> if the sorts run on the calling thread.
+     */
+    public int parallelism() {
+        return parallel.parallelism();
+    }
 
     /**
      * {@inheritDoc}
@@ -133,10 +209,9 @@ public class Bogo
      * @see         Bogo#isSortedInc(Comparable[], int, int)
      * @see         Bogo#shuffle(Comparable[], int, int)
      */
+    @SuppressWarnings("unchecked")
     protected void bogoInc(Comparable[] array) {
-        while (!isSortedInc(array)) {
-            shuffle(array);
-        }
+        bogo(array, 0, array.length, (a, b) -> a.compareTo(b) > 0, Long.MAX_VALUE, Long.MAX_VALUE);
     }
 
     /**
@@ -157,10 +232,9 @@ public class Bogo
      * @see         Bogo#isSortedDec(Comparable[], int, int)
      * @see         Bogo#shuffle(Comparable[], int, int)
      */
+    @SuppressWarnings("unchecked")
     protected void bogoDec(Comparable[] array) {
-        while (!isSortedDec(array)) {
-            shuffle(array);
-        }
+        bogo(array, 0, array.length, (a, b) -> a.compareTo(b) < 0, Long.MAX_VALUE, Long.MAX_VALUE);
     }
 
     /**
@@ -182,9 +256,7 @@ public class Bogo
      * @see         Bogo#shuffle(Comparable[], int, int)
      */
     protected void bogo(Comparable[] array, SortFunctional<Comparable> functional) {
-        while (!isSorted(array, functional)) {
-            shuffle(array);
-        }
+        bogo(array, 0, array.length, functional, Long.MAX_VALUE, Long.MAX_VALUE);
     }
 
     /**
@@ -208,10 +280,9 @@ public class Bogo
      * @see         Bogo#isSortedInc(Comparable[], int, int)
      * @see         Bogo#shuffle(Comparable[], int, int)
      */
+    @SuppressWarnings("unchecked")
     protected void bogoInc(Comparable[] array, int left, int right) {
-        while (!isSortedInc(array, left, right)) {
-            shuffle(array, left, right);
-        }
+        bogo(array, left, right, (a, b) -> a.compareTo(b) > 0, Long.MAX_VALUE, Long.MAX_VALUE);
     }
 
     /**
@@ -235,10 +306,9 @@ public class Bogo
      * @see         Bogo#isSortedDec(Comparable[], int, int)
      * @see         Bogo#shuffle(Comparable[], int, int)
      */
+    @SuppressWarnings("unchecked")
     protected void bogoDec(Comparable[] array, int left, int right) {
-        while (!isSortedDec(array, left, right)) {
-            shuffle(array, left, right);
-        }
+        bogo(array, left, right, (a, b) -> a.compareTo(b) < 0, Long.MAX_VALUE, Long.MAX_VALUE);
     }
 
     /**
@@ -263,9 +333,7 @@ public class Bogo
      * @see         Bogo#shuffle(Comparable[], int, int)
      */
     protected void bogo(Comparable[] array, int left, int right, SortFunctional<Comparable> functional) {
-        while (!isSorted(array, left, right, functional)) {
-            shuffle(array, left, right);
-        }
+        bogo(array, left, right, functional, Long.MAX_VALUE, Long.MAX_VALUE);
     }
 
     /**
@@ -465,22 +533,17 @@ public class Bogo
      * Within each iteration, it calls the {@code swap} method to exchange the current element with a
      * randomly chosen element from the range {@code (1, array.length)}.
      * <ul>
-     *     <li>{@code for (int i = 1; i < array.length; i++)}
-     *     in the for loop, the {@code swap} method is called,
-     *     which swaps the {@code i} index of the array array and the ({@link java.lang.Math#random() Math.random()}
-     *     {@code * i}) index.</li>
+     *     <li>The random indices are drawn from a new stream split from the {@code random} of the sorter.</li>
      * </ul>
      * {@code shuffle} method shuffles the elements in a random order by repeatedly selecting a random index within
-     * the range (<i>1</i>, {@code i}) and swapping it with the element at index {@code i}.
+     * the range (<i>0</i>, {@code i}) and swapping it with the element at index {@code i}.
      * This algorithm ensures that each element in the range has an equal probability of ending up at any position
      * within the range.
      * @param       array The array to be sorted.
      * @see         SortSwap#swap(Comparable[], int, int)
      */
     protected void shuffle(Comparable[] array) {
-        for (int i = 1; i < array.length; i++) {
-            swap(array, i, ((int) (Math.random() * i)));
-        }
+        shuffle(array, 0, array.length, split());
     }
 
     /**
@@ -489,10 +552,7 @@ public class Bogo
      * Within each iteration, it calls the {@code swap} method to exchange the current element with a
      * randomly chosen element from the range {@code (left, i)}.
      * <ul>
-     *     <li>{@code for (int i = (left + 1); i < right; i++)}
-     *     in the for loop, the {@code swap} method is called,
-     *     which swaps the {@code i} index of the array array and the ({@link java.lang.Math#random() Math.random()}
-     *     {@code * i}) index.</li>
+     *     <li>The random indices are drawn from a new stream split from the {@code random} of the sorter.</li>
      * </ul>
      * {@code shuffle} method shuffles the elements in a random order by repeatedly selecting a random index within
      * the range ({@code left}, {@code i}) and swapping it with the element at index {@code i}.
@@ -500,13 +560,133 @@ public class Bogo
      * within the range.
      * @param       array The array to be sorted.
      * @param       left The starting index of the subarray to be sorted.
-     * @param       right The ending index (inclusive) of the subarray to be sorted.
-     * @see         SortSwap#swap(Comparable[], int, int)
+     * @param       right The ending index (exclusive) of the subarray to be sorted.
+     * @see         Bogo#shuffle(Comparable[], int, int, SplittableRandom)
      */
     protected void shuffle(Comparable[] array, int left, int right) {
+        shuffle(array, left, right, split());
+    }
+
+    /**
+     * {@code shuffle} arranges the elements of the array from index {@code left} to {@code right} (exclusive) in a
+     * uniformly random order, with the Fisher-Yates shuffle.
+     * <ul>
+     *     <li>{@code for (int i = (left + 1); i < right; i++)} the element {@code i} is swapped with a random element
+     *     from index {@code left} to {@code i} (inclusive), drawn from the {@code random} stream.</li>
+     * </ul>
+     * Every permutation of the range is equally likely, and the same stream always gives the same shuffle.
+     * @param       array The array to be sorted.
+     * @param       left The starting index of the subarray to be sorted.
+     * @param       right The ending index (exclusive) of the subarray to be sorted.
+     * @param       random the stream of the random indices.
+     * @see         SortSwap#swap(Comparable[], int, int)
+     */
+    protected void shuffle(Comparable[] array, int left, int right, SplittableRandom random) {
         for (int i = (left + 1); i < right; i++) {
-            swap(array, i, ((int) (Math.random() * i)));
+            swap(array, i, (left + random.nextInt((i - left + 1))));
+        }
+    }
+
+    /**
+     * {@code randomize} is one random step of the sort, it is called until the range is sorted.
+     * The Bogo Sort shuffles the whole range.
+     * @param       array The array to be sorted.
+     * @param       left The starting index of the subarray to be sorted.
+     * @param       right The ending index (exclusive) of the subarray to be sorted.
+     * @param       random the stream of the random indices.
+     * @see         Bogo#shuffle(Comparable[], int, int, SplittableRandom)
+     */
+    protected void randomize(Comparable[] array, int left, int right, SplittableRandom random) {
+        shuffle(array, left, right, random);
+    }
+
+    /**
+     * {@code split} returns a new random stream for a sort, split from the {@code random} of the sorter.
+     * The streams of a seeded sorter follow each other in the same order on every run.
+     * @return      a new random stream, owned by the caller.
+     */
+    protected SplittableRandom split() {
+        synchronized (random) {
+            return random.split();
+        }
+    }
+
+    /**
+     * {@code bogo} sorts the array from index {@code left} to {@code right} (exclusive) by random steps, until it is
+     * sorted or the budget runs out.
+     * <ul>
+     *     <li>On the calling thread, a single {@code BogoStream} checks the range and calls {@code randomize} on it
+     *     with its own random stream, until the range is sorted.</li>
+     *     <li>If there are worker threads and the range has at least two elements, {@code parallelism} streams
+     *     search in parallel, each on its own copy of the range with its own random stream, and the budget of the
+     *     attempts is divided among them.</li>
+     *     <li>The first stream sorting its copy sets the shared flag and copies its copy back to the range, the other
+     *     streams stop at their next attempt.</li>
+     *     <li>Every stream also stops when its attempts run out or the {@code nanos} have passed since the start.</li>
+     * </ul>
+     * If the budget runs out, the range is left in the order of the calling thread, or unchanged if the streams ran
+     * on the worker threads.
+     * @param       array The array to be sorted.
+     * @param       left The starting index of the subarray to be sorted.
+     * @param       right The ending index (exclusive) of the subarray to be sorted.
+     * @param       functional lambda expression for comparison.
+     * @param       attempts the maximum number of random steps, {@code Long.MAX_VALUE} for no limit.
+     * @param       nanos the maximum running time in nanoseconds, {@code Long.MAX_VALUE} for no limit.
+     * @return      whether the range was sorted, the number of random steps and the running time.
+     * @see         Bogo#randomize(Comparable[], int, int, SplittableRandom)
+     */
+    protected Result bogo(
+            Comparable[] array, int left, int right, SortFunctional<Comparable> functional, long attempts, long nanos) {
+        long start = System.nanoTime();
+        if (!parallel.parallel() || ((right - left) < 2)) {
+            BogoStream stream = new BogoStream(array, left, right, functional, split(), attempts, start, nanos, null);
+            stream.compute();
+            return new Result(stream.sorted, stream.made, (System.nanoTime() - start));
+        }
+        AtomicBoolean found = new AtomicBoolean(false);
+        int parallelism = parallel.parallelism();
+        List<BogoStream> streams = new ArrayList<>(parallelism);
+        for (int i = 0; i < parallelism; i++) {
+            Comparable[] copy = new Comparable[(right - left)];
+            System.arraycopy(array, left, copy, 0, copy.length);
+            long share = ((attempts == Long.MAX_VALUE)
+                    ? Long.MAX_VALUE
+                    : ((attempts / parallelism) + ((i < (attempts % parallelism)) ? 1 : 0)));
+            streams.add(new BogoStream(copy, 0, copy.length, functional, split(), share, start, nanos, found));
+        }
+        parallel.invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(streams)));
+        long made = 0;
+        boolean sorted = false;
+        for (BogoStream stream : streams) {
+            made += stream.made;
+            if (stream.sorted && !sorted) {
+                System.arraycopy(stream.array, 0, array, left, stream.array.length);
+                sorted = true;
+            }
+        }
+        return new Result(sorted, made, (System.nanoTime() - start));
+    }
+
+    /**
+     * {@code sortArrayBudget} sorts the array like {@code sortArrayFun}, but gives up when the budget runs out, and
+     * reports how far it got instead of looping on.
+     * The budget is spent by the budgeted {@code bogo} of the sorter, {@link Permutation} counts its permutations.
+     * @param       array to be arranged.
+     * @param       functional lambda expression for comparison.
+     * @param       attempts the maximum number of random steps, {@code Long.MAX_VALUE} for no limit.
+     * @param       timeout the maximum running time, {@code Long.MAX_VALUE} for no limit.
+     * @param       unit the unit of the {@code timeout}.
+     * @return      whether the array was sorted, the number of random steps and the running time.
+     * @throws      IllegalArgumentException if the {@code attempts} or the {@code timeout} is negative.
+     * @see         Bogo#bogo(Comparable[], int, int, SortFunctional, long, long)
+     */
+    public Result sortArrayBudget(
+            Comparable[] array, SortFunctional<Comparable> functional, long attempts, long timeout, TimeUnit unit) {
+        if ((attempts < 0) || (timeout < 0)) {
+            throw new IllegalArgumentException("budget must not be negative: " + attempts + ", " + timeout);
         }
+        long nanos = ((timeout == Long.MAX_VALUE) ? Long.MAX_VALUE : unit.toNanos(timeout));
+        return bogo(array, 0, array.length, functional, attempts, nanos);
     }
 
     /**
@@ -527,10 +707,9 @@ public class Bogo
      * @see         Bogo#isSortedInc(List, int, int)
      * @see         Bogo#shuffle(List, int, int)
      */
+    @SuppressWarnings("unchecked")
     protected <L extends Comparable> void bogoInc(List<L> list) {
-        while (!isSortedInc(list)) {
-            shuffle(list);
-        }
+        bogo(list, 0, list.size(), (a, b) -> a.compareTo(b) > 0);
     }
 
     /**
@@ -551,10 +730,9 @@ public class Bogo
      * @see         Bogo#isSortedDec(List, int, int)
      * @see         Bogo#shuffle(List, int, int)
      */
+    @SuppressWarnings("unchecked")
     protected <L extends Comparable> void bogoDec(List<L> list) {
-        while (!isSortedDec(list)) {
-            shuffle(list);
-        }
+        bogo(list, 0, list.size(), (a, b) -> a.compareTo(b) < 0);
     }
 
     /**
@@ -576,9 +754,7 @@ public class Bogo
      * @see         Bogo#shuffle(List, int, int)
      */
     protected <L extends Comparable> void bogo(List<L> list, SortFunctional<Comparable> functional) {
-        while (!isSorted(list, functional)) {
-            shuffle(list);
-        }
+        bogo(list, 0, list.size(), functional);
     }
 
     /**
@@ -602,10 +778,9 @@ public class Bogo
      * @see         Bogo#isSortedInc(List, int, int)
      * @see         Bogo#shuffle(List, int, int)
      */
+    @SuppressWarnings("unchecked")
     protected <L extends Comparable> void bogoInc(List<L> list, int left, int right) {
-        while (!isSortedInc(list, left, right)) {
-            shuffle(list, left, right);
-        }
+        bogo(list, left, right, (a, b) -> a.compareTo(b) > 0);
     }
 
     /**
@@ -629,10 +804,9 @@ public class Bogo
      * @see         Bogo#isSortedDec(List, int, int)
      * @see         Bogo#shuffle(List, int, int)
      */
+    @SuppressWarnings("unchecked")
     protected <L extends Comparable> void bogoDec(List<L> list, int left, int right) {
-        while (!isSortedDec(list, left, right)) {
-            shuffle(list, left, right);
-        }
+        bogo(list, left, right, (a, b) -> a.compareTo(b) < 0);
     }
 
     /**
@@ -656,10 +830,19 @@ public class Bogo
      * @see         Bogo#isSorted(List, int, int, SortFunctional)
      * @see         Bogo#shuffle(List, int, int)
      */
+    @SuppressWarnings("unchecked")
     protected <L extends Comparable> void bogo(
             List<L> list, int left, int right, SortFunctional<Comparable> functional) {
-        while (!isSorted(list, left, right, functional)) {
-            shuffle(list, left, right);
+        if ((right - left) < 2) {
+            return;
+        }
+        List<L> subList = list.subList(left, right);
+        Comparable[] array = subList.toArray(new Comparable[0]);
+        bogo(array, 0, array.length, functional, Long.MAX_VALUE, Long.MAX_VALUE);
+        ListIterator<L> iterator = subList.listIterator();
+        for (Comparable element : array) {
+            iterator.next();
+            iterator.set((L) element);
         }
     }
 
@@ -862,22 +1045,17 @@ public class Bogo
      * Within each iteration, it calls the {@code swap} method to exchange the current element with a
      * randomly chosen element from the range {@code (1, list.length)}.
      * <ul>
-     *     <li>{@code for (int i = 1; i < list.length; i++)}
-     *     in the for loop, the {@code swap} method is called,
-     *     which swaps the {@code i} index of the list list and the ({@link java.lang.Math#random() Math.random()}
-     *     {@code * i}) index.</li>
+     *     <li>The random indices are drawn from a new stream split from the {@code random} of the sorter.</li>
      * </ul>
      * {@code shuffle} method shuffles the elements in a random order by repeatedly selecting a random index within
-     * the range (<i>1</i>, {@code i}) and swapping it with the element at index {@code i}.
+     * the range (<i>0</i>, {@code i}) and swapping it with the element at index {@code i}.
      * This algorithm ensures that each element in the range has an equal probability of ending up at any position
      * within the range.
      * @param       list The list to be sorted.
      * @see         SortSwap#swap(List, int, int)
      */
     protected <L extends Comparable> void shuffle(List<L> list) {
-        for (int i = 1; i < list.size(); i++) {
-            swap(list, i, ((int) (Math.random() * i)));
-        }
+        shuffle(list, 0, list.size());
     }
 
     /**
@@ -886,10 +1064,9 @@ public class Bogo
      * Within each iteration, it calls the {@code swap} method to exchange the current element with a
      * randomly chosen element from the range {@code (left, i)}.
      * <ul>
-     *     <li>{@code for (int i = (left + 1); i < right; i++)}
-     *     in the for loop, the {@code swap} method is called,
-     *     which swaps the {@code i} index of the list list and the ({@link java.lang.Math#random() Math.random()}
-     *     {@code * i}) index.</li>
+     *     <li>{@code for (int i = (left + 1); i < right; i++)} the element {@code i} is swapped with a random element
+     *     from index {@code left} to {@code i} (inclusive), drawn from a new stream split from the {@code random} of
+     *     the sorter.</li>
      * </ul>
      * {@code shuffle} method shuffles the elements in a random order by repeatedly selecting a random index within
      * the range ({@code left}, {@code i}) and swapping it with the element at index {@code i}.
@@ -901,8 +1078,119 @@ public class Bogo
      * @see         SortSwap#swap(List, int, int)
      */
     protected <L extends Comparable> void shuffle(List<L> list, int left, int right) {
+        SplittableRandom random = split();
         for (int i = (left + 1); i < right; i++) {
-            swap(list, i, ((int) (Math.random() * i)));
+            swap(list, i, (left + random.nextInt((i - left + 1))));
+        }
+    }
+
+    /**
+     * {@code BogoStream} is one independent search of the sort, it checks its range and calls {@code randomize} on
+     * it with its own random stream, until the range is sorted, its budget runs out, or another stream sets the
+     * shared flag. The number of random steps and the outcome are read after the stream has completed.
+     */
+    private final class BogoStream
+            extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Comparable[] array;
+
+        private final int left;
+
+        private final int right;
+
+        private final SortFunctional<Comparable> functional;
+
+        private final SplittableRandom random;
+
+        private final long attempts;
+
+        private final long start;
+
+        private final long nanos;
+
+        private final AtomicBoolean found;
+
+        private long made;
+
+        private boolean sorted;
+
+        private BogoStream(
+                Comparable[] array, int left, int right, SortFunctional<Comparable> functional,
+                SplittableRandom random, long attempts, long start, long nanos, AtomicBoolean found) {
+            this.array = array;
+            this.left = left;
+            this.right = right;
+            this.functional = functional;
+            this.random = random;
+            this.attempts = attempts;
+            this.start = start;
+            this.nanos = nanos;
+            this.found = found;
+        }
+
+        @Override
+        protected void compute() {
+            while (!isSorted(array, left, right, functional)) {
+                if ((made >= attempts)
+                        || ((found != null) && found.get())
+                        || ((nanos != Long.MAX_VALUE) && ((System.nanoTime() - start) >= nanos))) {
+                    return;
+                }
+                randomize(array, left, right, random);
+                made++;
+            }
+            sorted = ((found == null) || found.compareAndSet(false, true));
+        }
+    }
+
+    /**
+     * {@code Result} is the outcome of a sort with a budget: whether the range was sorted, the number of random
+     * steps taken by all the streams, and the running time.
+     */
+    public static final class Result {
+
+        private final boolean sorted;
+
+        private final long attempts;
+
+        private final long nanos;
+
+        Result(boolean sorted, long attempts, long nanos) {
+            this.sorted = sorted;
+            this.attempts = attempts;
+            this.nanos = nanos;
+        }
+
+        /**
+         * {@code sorted} tells whether the range was sorted before the budget ran out.
+         * @return      {@code true} if the range is sorted.
+         */
+        public boolean sorted() {
+            return sorted;
+        }
+
+        /**
+         * {@code attempts} returns the number of random steps taken, summed over the streams, or the number of
+         * permutations generated by {@link Permutation}.
+         * @return      the number of random steps.
+         */
+        public long attempts() {
+            return attempts;
+        }
+
+        /**
+         * {@code nanos} returns the running time of the sort.
+         * @return      the running time in nanoseconds.
+         */
+        public long nanos() {
+            return nanos;
+        }
+
+        @Override
+        public String toString() {
+            return "Result{sorted=" + sorted + ", attempts=" + attempts + ", nanos=" + nanos + "}";
         }
     }
 }
\ No newline at end of file
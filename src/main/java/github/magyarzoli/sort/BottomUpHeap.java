@@ -0,0 +1,152 @@
+package github.magyarzoli.sort;
+
+import github.magyarzoli.HeapInterface;
+import github.magyarzoli.SortFunctional;
+import github.magyarzoli.sort.intro.IntroBottomUpHeap;
+
+import java.util.List;
+
+/**
+ * Bottom-Up Heap Sort is a variant of Heap Sort that reduces the number of comparisons needed by
+ * a significant factor. The heap is built with Floyd's linear time construction, and every sift walks down
+ * along the larger children to a leaf with one comparison per level, then climbs back to the place of
+ * the sifted element.
+ * @since       1.3
+ * @author      <a href=https://github.com/MagyarZoli>Magyar Zoltán</a>
+ */
+@SuppressWarnings("rawtypes")
+public class BottomUpHeap
+        extends Heap {
+
+    /**
+     * <b>Bottom-Up Heap Sort:</b><br>
+     * Is a variant of Heap Sort that reduces the number of comparisons needed by a significant factor.
+     * The ordinary sift-down compares the two children with each other and the larger child with the sifted
+     * element on every level, but the element swapped to the root during the extraction is almost always
+     * a small one that ends up near the leaves again.<br><br>
+     * <b>Example:</b>
+     * <ol>
+     *     <li>Build a binary heap from the input array with Floyd's method, visiting every parent from the last one
+     *     up to the root. This takes linear time.</li>
+     *     <li>Swap the root element with the last element of the heap, and reduce the size of the heap by one.</li>
+     *     <li>Walk down from the root along the larger child of each node until a leaf is reached.
+     *     Only one comparison is needed per level.</li>
+     *     <li>Climb back from the leaf while the new root element is larger than the element on the path.</li>
+     *     <li>Put the new root element to that position, and move every element of the path above it one level
+     *     up.</li>
+     *     <li>Repeat step 2 until all elements have been extracted from the heap.</li>
+     * </ol>
+     * <b>Note:</b><br>
+     * Bottom-Up Heap Sort needs about <em>n log(n)</em> comparisons instead of the <em>2 n log(n)</em>
+     * of the classic variant, which makes it the better choice when the comparison is expensive.
+     * The number of moves is the same, the elements are still arranged in place.<br><br>
+     * <b>Property:</b><br>
+     * Worst Case Complexity:   <em>O(n log(n))</em><br>
+     * Best Case Complexity:    <em>O(n log(n))</em><br>
+     * Average Case Complexity: <em>O(n log(n))</em><br>
+     * Auxiliary Space:         <em>O(1)</em><br>
+     * Stability:               <b>No</b>
+     * @see         Heap#Heap() Heap
+     * @see         IntroBottomUpHeap#IntroBottomUpHeap() IntroBottomUpHeap
+     */
+    public BottomUpHeap() {}
+
+    /**
+     * {@inheritDoc}
+     * @param       array to be arranged.
+     * @see         HeapInterface#heapBottomUpInc(Comparable[])
+     */
+    @Override
+    public void sortArrayInc(Comparable[] array) {
+        heapBottomUpInc(array);
+    }
+
+    /**
+     * {@inheritDoc}
+     * @param       array to be arranged.
+     * @see         HeapInterface#heapBottomUpDec(Comparable[])
+     */
+    @Override
+    public void sortArrayDec(Comparable[] array) {
+        heapBottomUpDec(array);
+    }
+
+    /**
+     * {@inheritDoc}
+     * @param       array to be arranged.
+     * @param       functional lambda expression for comparison.
+     * @see         HeapInterface#heapBottomUp(Comparable[], SortFunctional)
+     */
+    @Override
+    public void sortArrayFun(Comparable[] array, SortFunctional<Comparable> functional) {
+        heapBottomUp(array, functional);
+    }
+
+    /**
+     * {@inheritDoc}
+     * The range is sorted in place.
+     * @param       array to be arranged.
+     * @param       left the index of the first element of the range.
+     * @param       right the index of the last element of the range (inclusive).
+     */
+    @Override
+    public void sortRangeInc(Comparable[] array, int left, int right) {
+        heapBottomUpInc(array, left, (right + 1));
+    }
+
+    /**
+     * {@inheritDoc}
+     * The range is sorted in place.
+     * @param       array to be arranged.
+     * @param       left the index of the first element of the range.
+     * @param       right the index of the last element of the range (inclusive).
+     */
+    @Override
+    public void sortRangeDec(Comparable[] array, int left, int right) {
+        heapBottomUpDec(array, left, (right + 1));
+    }
+
+    /**
+     * {@inheritDoc}
+     * The range is sorted in place.
+     * @param       array to be arranged.
+     * @param       left the index of the first element of the range.
+     * @param       right the index of the last element of the range (inclusive).
+     * @param       functional lambda expression for comparison.
+     */
+    @Override
+    public void sortRangeFun(Comparable[] array, int left, int right, SortFunctional<Comparable> functional) {
+        heapBottomUp(array, left, (right + 1), functional);
+    }
+
+    /**
+     * {@inheritDoc}
+     * @param       list to be arranged.
+     * @see         HeapInterface#heapBottomUpInc(List)
+     */
+    @Override
+    public void sortListInc(List<? extends Comparable> list) {
+        heapBottomUpInc(list);
+    }
+
+    /**
+     * {@inheritDoc}
+     * @param       list to be arranged.
+     * @see         HeapInterface#heapBottomUpDec(List)
+     */
+    @Override
+    public void sortListDec(List<? extends Comparable> list) {
+        heapBottomUpDec(list);
+    }
+
+    /**
+     * {@inheritDoc}
+     * @param       list to be arranged.
+     * @param       functional lambda expression for comparison.
+     * @see         HeapInterface#heapBottomUp(List, SortFunctional)
+     */
+    @Override
+    public void sortListFun(List<? extends Comparable> list, SortFunctional<Comparable> functional) {
+        heapBottomUp(list, functional);
+    }
+}
\ No newline at end of file
@@ -1,11 +1,10 @@
 package github.magyarzoli.sort;
 
-import github.magyarzoli.SortFunctional;
 import github.magyarzoli.SortSwap;
 import github.magyarzoli.sort.intro.IntroBozo;
 
 import java.util.List;
-import java.util.Random;
+import java.util.SplittableRandom;
 
 /**
  * Bozo sort is a highly inefficient and random sorting algorithm.
@@ -60,333 +59,65 @@ public class Bozo
      * Stability:               <b>No</b>
      * @see         IntroBozo#IntroBozo() IntroBozo
      */
-    public Bozo() {}
-
-    /**
-     * The {@code bogoInc} method takes an array of {@link java.lang.Comparable Comparable} objects.
-     * <ul>
-     *     <li>The {@code bogoInc} method uses a while loop that continues until the portion of
-     *     the array specified by <i>1</i> and {@code array.length} is sorted in non-decreasing order. In each iteration
-     *     of the loop,
-     *     it calls the {@code isSortedInc} method to check if the array is sorted</li>
-     *     <li> If it's not sorted, it calls the {@code shuffleIndex} method to randomize the elements within the
-     *     specified range.</li>
-     * </ul>
-     * The {@code bogoInc} algorithm is not an efficient sorting algorithm and has a high time complexity.
-     * It repeatedly shuffles the elements randomly and checks if they are sorted until they eventually end up in the
-     * correct order.<br>
-     * <b>It is not recommended for practical use, as it has a very high average and worst-case time complexity.</b>
-     * @param       array The array to be sorted.
-     * @see         Bogo#isSortedInc(Comparable[], int, int)
-     * @see         Bozo#shuffleIndex(Comparable[])
-     */
-    @Override
-    protected void bogoInc(Comparable[] array) {
-        while (!isSortedInc(array)) {
-            shuffleIndex(array);
-        }
+    public Bozo() {
+        this(new SplittableRandom(), 1);
     }
 
     /**
-     * The {@code bogoDec} method takes an array of {@link java.lang.Comparable Comparable} objects.
-     * <ul>
-     *     <li>The {@code bogoDec} method uses a while loop that continues until the portion of
-     *     the array specified by <i>1</i> and {@code array.length} is sorted in non-decreasing order. In each iteration
-     *     of the loop,
-     *     it calls the {@code isSortedInc} method to check if the array is sorted</li>
-     *     <li> If it's not sorted, it calls the {@code shuffleIndex} method to randomize the elements within the
-     *     specified range.</li>
-     * </ul>
-     * The {@code bogoInc} algorithm is not an efficient sorting algorithm and has a high time complexity.
-     * It repeatedly shuffles the elements randomly and checks if they are sorted until they eventually end up in the
-     * correct order.<br>
-     * <b>It is not recommended for practical use, as it has a very high average and worst-case time complexity.</b>
-     * @param       array The array to be sorted.
-     * @see         Bogo#isSortedDec(Comparable[], int, int)
-     * @see         Bozo#shuffleIndex(Comparable[])
-     */
-    @Override
-    protected void bogoDec(Comparable[] array) {
-        while (!isSortedDec(array)) {
-            shuffleIndex(array);
-        }
-    }
-
-    /**
-     * The {@code bogo} method takes an array of {@link java.lang.Comparable Comparable} objects,
-     * It also takes a {@code SortFunctional<Comparable>} object representing the custom comparison logic to be used for
-     * sorting.
-     * <ul>
-     *     <li>The method enters a while loop that continues until the {@code isSorted} method returns {@code true},
-     *     indicating that the array is sorted.</li>
-     *     <li>Inside the loop, the {@code shuffleIndex} method is called to randomly shuffle
-     *     the elements of the array within the specified range.</li>
-     * </ul>
-     * The {@code bogo} algorithm is not an efficient sorting algorithm and has a high time complexity.
-     * It repeatedly shuffles the elements randomly and checks if they are sorted until they eventually end up in the
-     * correct order.<br>
-     * @param       array The array to be sorted.
-     * @param       functional lambda expression for comparison.
-     * @see         Bogo#isSorted(Comparable[], SortFunctional)
-     * @see         Bozo#shuffleIndex(Comparable[])
+     * <b>Bozo Sort:</b><br>
+     * Runs {@code parallelism} independent random streams on worker threads, each on its own copy of the array,
+     * the first stream sorting its copy wins, and the others are cancelled.
+     * @param       parallelism the number of random streams, <i>1</i> sorts on the calling thread.
+     * @throws      IllegalArgumentException if the {@code parallelism} is not positive.
+     * @see         Bozo#Bozo() Bozo
      */
-    @Override
-    protected void bogo(Comparable[] array, SortFunctional<Comparable> functional) {
-        while (!isSorted(array, functional)) {
-            shuffleIndex(array);
-        }
+    public Bozo(int parallelism) {
+        this(new SplittableRandom(), parallelism);
     }
 
     /**
-     * The {@code bogoInc} method takes an array of {@link java.lang.Comparable Comparable} objects,
-     * as well as the indices {@code left} and {@code right} that specify the range to sort.
-     * <ul>
-     *     <li>The {@code bogoInc} method uses a while loop that continues until the portion of
-     *     the array specified by {@code left} and {@code right} is sorted in non-decreasing order. In each iteration
-     *     of the loop,
-     *     it calls the {@code isSortedInc} method to check if the array is sorted</li>
-     *     <li> If it's not sorted, it calls the {@code shuffleIndex} method to randomize the elements within the
-     *     specified range.</li>
-     * </ul>
-     * The {@code bogoInc} algorithm is not an efficient sorting algorithm and has a high time complexity.
-     * It repeatedly shuffles the elements randomly and checks if they are sorted until they eventually end up in the
-     * correct order.<br>
-     * <b>It is not recommended for practical use, as it has a very high average and worst-case time complexity.</b>
-     * @param       array The array to be sorted.
-     * @param       left The starting index of the subarray to be sorted.
-     * @param       right The ending index (inclusive) of the subarray to be sorted.
-     * @see         Bogo#isSortedInc(Comparable[], int, int)
-     * @see         Bozo#shuffleIndex(Comparable[], int, int)
+     * <b>Bozo Sort:</b><br>
+     * Draws the random streams from the {@code random} given, a seeded source repeats the same swaps on every run.
+     * @param       random the source of the random streams.
+     * @see         Bozo#Bozo() Bozo
      */
-    @Override
-    protected void bogoInc(Comparable[] array, int left, int right) {
-        while (!isSortedInc(array, left, right)) {
-            shuffleIndex(array, left, right);
-        }
+    public Bozo(SplittableRandom random) {
+        this(random, 1);
     }
 
     /**
-     * The {@code bogoDec} method takes an array of {@link java.lang.Comparable Comparable} objects,
-     * as well as the indices {@code left} and {@code right} that specify the range to sort.
-     * <ul>
-     *     <li>The {@code bogoDec} method uses a while loop that continues until the portion of
-     *     the array specified by {@code left} and {@code right} is sorted in non-decreasing order. In each iteration o
-     *     f the loop,
-     *     it calls the {@code isSortedInc} method to check if the array is sorted</li>
-     *     <li> If it's not sorted, it calls the {@code shuffleIndex} method to randomize the elements within the
-     *     specified range.</li>
-     * </ul>
-     * The {@code bogoInc} algorithm is not an efficient sorting algorithm and has a high time complexity.
-     * It repeatedly shuffles the elements randomly and checks if they are sorted until they eventually end up in the
-     * correct order.<br>
-     * <b>It is not recommended for practical use, as it has a very high average and worst-case time complexity.</b>
-     * @param       array The array to be sorted.
-     * @param       left The starting index of the subarray to be sorted.
-     * @param       right The ending index (inclusive) of the subarray to be sorted.
-     * @see         Bogo#isSortedDec(Comparable[], int, int)
-     * @see         Bozo#shuffleIndex(Comparable[], int, int)
+     * <b>Bozo Sort:</b><br>
+     * Runs {@code parallelism} independent random streams, drawn from the {@code random} given.
+     * @param       random the source of the random streams.
+     * @param       parallelism the number of random streams, <i>1</i> sorts on the calling thread.
+     * @throws      IllegalArgumentException if the {@code parallelism} is not positive.
+     * @see         Bozo#Bozo(int) Bozo
+     * @see         Bozo#Bozo(SplittableRandom) Bozo
      */
-    @Override
-    protected void bogoDec(Comparable[] array, int left, int right) {
-        while (!isSortedDec(array, left, right)) {
-            shuffleIndex(array, left, right);
-        }
+    public Bozo(SplittableRandom random, int parallelism) {
+        super(random, parallelism);
     }
 
     /**
-     * The {@code bogo} method takes an array of {@link java.lang.Comparable Comparable} objects,
-     * along with the {@code left} and {@code right} indices specifying the range of elements to be sorted.
-     * It also takes a {@code SortFunctional<Comparable>} object representing the custom comparison logic to be used
-     * for sorting.
-     * <ul>
-     *     <li>The method enters a while loop that continues until the {@code isSorted} method returns {@code true},
-     *     indicating that the array is sorted.</li>
-     *     <li>Inside the loop, the {@code shuffleIndex} method is called to randomly shuffle
-     *     the elements of the array within the specified range.</li>
-     * </ul>
-     * The {@code bogo} algorithm is not an efficient sorting algorithm and has a high time complexity.
-     * It repeatedly shuffles the elements randomly and checks if they are sorted until they eventually end up in the
-     * correct order.<br>
+     * {@inheritDoc}
+     * The Bozo Sort swaps two random elements of the range.
      * @param       array The array to be sorted.
      * @param       left The starting index of the subarray to be sorted.
-     * @param       right The ending index (inclusive) of the subarray to be sorted.
-     * @param       functional lambda expression for comparison.
-     * @see         Bogo#isSorted(Comparable[], int, int, SortFunctional)
-     * @see         Bozo#shuffleIndex(Comparable[], int, int)
-     */
-    @Override
-    protected void bogo(Comparable[] array, int left, int right, SortFunctional<Comparable> functional) {
-        while (!isSorted(array, left, right, functional)) {
-            shuffleIndex(array, left, right);
-        }
-    }
-
-    /**
-     * The {@code bogoInc} method takes a list of {@link java.lang.Comparable Comparable} objects.
-     * <ul>
-     *     <li>The {@code bogoInc} method uses a while loop that continues until the portion of
-     *     the list specified by <i>1</i> and {@code list.size()} is sorted in non-decreasing order. In each iteration
-     *     of the loop,
-     *     it calls the {@code isSortedInc} method to check if the list is sorted</li>
-     *     <li> If it's not sorted, it calls the {@code shuffleIndex} method to randomize the elements within the
-     *     specified range.</li>
-     * </ul>
-     * The {@code bogoInc} algorithm is not an efficient sorting algorithm and has a high time complexity.
-     * It repeatedly shuffles the elements randomly and checks if they are sorted until they eventually end up in the
-     * correct order.<br>
-     * <b>It is not recommended for practical use, as it has a very high average and worst-case time complexity.</b>
-     * @param       list The list to be sorted.
-     * @see         Bogo#isSortedInc(List, int, int)
-     * @see         Bozo#shuffleIndex(List)
-     */
-    @Override
-    protected <L extends Comparable> void bogoInc(List<L> list) {
-        while (!isSortedInc(list)) {
-            shuffleIndex(list);
-        }
-    }
-
-    /**
-     * The {@code bogoDec} method takes a list of {@link java.lang.Comparable Comparable} objects.
-     * <ul>
-     *     <li>The {@code bogoDec} method uses a while loop that continues until the portion of
-     *     the list specified by <i>1</i> and {@code list.size()} is sorted in non-decreasing order. In each iteration
-     *     of the loop,
-     *     it calls the {@code isSortedInc} method to check if the list is sorted</li>
-     *     <li> If it's not sorted, it calls the {@code shuffleIndex} method to randomize the elements within the
-     *     specified range.</li>
-     * </ul>
-     * The {@code bogoInc} algorithm is not an efficient sorting algorithm and has a high time complexity.
-     * It repeatedly shuffles the elements randomly and checks if they are sorted until they eventually end up in the
-     * correct order.<br>
-     * <b>It is not recommended for practical use, as it has a very high average and worst-case time complexity.</b>
-     * @param       list The list to be sorted.
-     * @see         Bogo#isSortedDec(List, int, int)
-     * @see         Bozo#shuffleIndex(List)
+     * @param       right The ending index (exclusive) of the subarray to be sorted.
+     * @param       random the stream of the random indices.
+     * @see         Bozo#shuffleIndex(Comparable[], int, int, SplittableRandom)
      */
     @Override
-    protected <L extends Comparable> void bogoDec(List<L> list) {
-        while (!isSortedDec(list)) {
-            shuffleIndex(list);
-        }
-    }
-
-    /**
-     * The {@code bogo} method takes a list of {@link java.lang.Comparable Comparable} objects,
-     * It also takes a {@code SortFunctional<Comparable>} object representing the custom comparison logic to be used
-     * for sorting.
-     * <ul>
-     *     <li>The method enters a while loop that continues until the {@code isSorted} method returns {@code true},
-     *     indicating that the list is sorted.</li>
-     *     <li>Inside the loop, the {@code shuffleIndex} method is called to randomly shuffle
-     *     the elements of the list within the specified range.</li>
-     * </ul>
-     * The {@code bogo} algorithm is not an efficient sorting algorithm and has a high time complexity.
-     * It repeatedly shuffles the elements randomly and checks if they are sorted until they eventually end up in the
-     * correct order.<br>
-     * @param       list The list to be sorted.
-     * @param       functional lambda expression for comparison.
-     * @see         Bogo#isSorted(List, SortFunctional)
-     * @see         Bozo#shuffleIndex(List)
-     */
-    @Override
-    protected <L extends Comparable> void bogo(List<L> list, SortFunctional<Comparable> functional) {
-        while (!isSorted(list, functional)) {
-            shuffleIndex(list);
-        }
-    }
-
-    /**
-     * The {@code bogoInc} method takes a list of {@link java.lang.Comparable Comparable} objects,
-     * as well as the indices {@code left} and {@code right} that specify the range to sort.
-     * <ul>
-     *     <li>The {@code bogoInc} method uses a while loop that continues until the portion of
-     *     the list specified by {@code left} and {@code right} is sorted in non-decreasing order. In each iteration of
-     *     the loop,
-     *     it calls the {@code isSortedInc} method to check if the list is sorted</li>
-     *     <li> If it's not sorted, it calls the {@code shuffleIndex} method to randomize the elements within the
-     *     specified range.</li>
-     * </ul>
-     * The {@code bogoInc} algorithm is not an efficient sorting algorithm and has a high time complexity.
-     * It repeatedly shuffles the elements randomly and checks if they are sorted until they eventually end up in the
-     * correct order.<br>
-     * <b>It is not recommended for practical use, as it has a very high average and worst-case time complexity.</b>
-     * @param       list The list to be sorted.
-     * @param       left The starting index of the sublist to be sorted.
-     * @param       right The ending index (inclusive) of the sublist to be sorted.
-     * @see         Bogo#isSortedInc(List, int, int)
-     * @see         Bozo#shuffleIndex(List, int, int)
-     */
-    @Override
-    protected <L extends Comparable> void bogoInc(List<L> list, int left, int right) {
-        while (!isSortedInc(list, left, right)) {
-            shuffleIndex(list, left, right);
-        }
-    }
-
-    /**
-     * The {@code bogoDec} method takes a list of {@link java.lang.Comparable Comparable} objects,
-     * as well as the indices {@code left} and {@code right} that specify the range to sort.
-     * <ul>
-     *     <li>The {@code bogoDec} method uses a while loop that continues until the portion of
-     *     the list specified by {@code left} and {@code right} is sorted in non-decreasing order. In each iteration of
-     *     the loop,
-     *     it calls the {@code isSortedInc} method to check if the list is sorted</li>
-     *     <li> If it's not sorted, it calls the {@code shuffleIndex} method to randomize the elements within the
-     *     specified range.</li>
-     * </ul>
-     * The {@code bogoInc} algorithm is not an efficient sorting algorithm and has a high time complexity.
-     * It repeatedly shuffles the elements randomly and checks if they are sorted until they eventually end up in the
-     * correct order.<br>
-     * <b>It is not recommended for practical use, as it has a very high average and worst-case time complexity.</b>
-     * @param       list The list to be sorted.
-     * @param       left The starting index of the sublist to be sorted.
-     * @param       right The ending index (inclusive) of the sublist to be sorted.
-     * @see         Bogo#isSortedDec(List, int, int)
-     * @see         Bozo#shuffleIndex(List, int, int)
-     */
-    @Override
-    protected <L extends Comparable> void bogoDec(List<L> list, int left, int right) {
-        while (!isSortedDec(list, left, right)) {
-            shuffleIndex(list, left, right);
-        }
-    }
-
-    /**
-     * The {@code bogo} method takes a list of {@link java.lang.Comparable Comparable} objects,
-     * along with the {@code left} and {@code right} indices specifying the range of elements to be sorted.
-     * It also takes a {@code SortFunctional<Comparable>} object representing the custom comparison logic to be used for
-     * sorting.
-     * <ul>
-     *     <li>The method enters a while loop that continues until the {@code isSorted} method returns {@code true},
-     *     indicating that the list is sorted.</li>
-     *     <li>Inside the loop, the {@code shuffleIndex} method is called to randomly shuffle
-     *     the elements of the list within the specified range.</li>
-     * </ul>
-     * The {@code bogo} algorithm is not an efficient sorting algorithm and has a high time complexity.
-     * It repeatedly shuffles the elements randomly and checks if they are sorted until they eventually end up in the
-     * correct order.<br>
-     * @param       list The list to be sorted.
-     * @param       left The starting index of the sublist to be sorted.
-     * @param       right The ending index (inclusive) of the sublist to be sorted.
-     * @param       functional lambda expression for comparison.
-     * @see         Bogo#isSorted(List, int, int, SortFunctional)
-     * @see         Bozo#shuffleIndex(List, int, int)
-     */
-    @Override
-    protected <L extends Comparable> void bogo(
-            List<L> list, int left, int right, SortFunctional<Comparable> functional) {
-        while (!isSorted(list, left, right, functional)) {
-            shuffleIndex(list, left, right);
-        }
+    protected void randomize(Comparable[] array, int left, int right, SplittableRandom random) {
+        shuffleIndex(array, left, right, random);
     }
 
     /**
      * {@code shuffleIndex} method you provided shuffles.
      * <ul>
-     *     <li>Create a new {@link java.util.Random Random} object to generate random numbers</li>
+     *     <li>Split a new random stream from the {@code random} of the sorter</li>
      *     <li>Generate two random indices within the value {@code array.length}:</li>
-     *     <li>The {@link java.util.Random#nextInt(int) nextInt(int bound)} method of Random generates
+     *     <li>The {@link java.util.SplittableRandom#nextInt(int) nextInt(int bound)} method of the stream generates
      *     a random integer between <i>0</i> (inclusive) and bound (exclusive).
      *     In this case,
      *     so the generated indices will be within the range (<i>0</i>, {@code array.length}).
@@ -401,19 +132,16 @@ public class Bozo
      * @see         SortSwap#swap(Comparable[], int, int)
      */
     protected void shuffleIndex(Comparable[] array) {
-        Random random = new Random();
-        int index1 = random.nextInt(array.length),
-                index2 = random.nextInt(array.length);
-        swap(array, index1, index2);
+        shuffleIndex(array, 0, array.length, split());
     }
 
     /**
      * {@code shuffleIndex} method you provided shuffles
      * the elements of a given array between the indices {@code left} and {@code right}.
      * <ul>
-     *     <li>Create a new {@link java.util.Random Random} object to generate random numbers</li>
+     *     <li>Split a new random stream from the {@code random} of the sorter</li>
      *     <li>Generate two random indices within the range ({@code left}, {@code right}):</li>
-     *     <li>The {@link java.util.Random#nextInt(int) nextInt(int bound)} method of Random generates
+     *     <li>The {@link java.util.SplittableRandom#nextInt(int) nextInt(int bound)} method of the stream generates
      *     a random integer between <i>0</i> (inclusive) and bound (exclusive).
      *     In this case, bound is {@code (right - left)},
      *     so the generated indices will be within the range (<i>0</i>, {@code (right - left)}).
@@ -430,7 +158,25 @@ public class Bozo
      * @see         SortSwap#swap(Comparable[], int, int)
      */
     protected void shuffleIndex(Comparable[] array, int left, int right) {
-        Random random = new Random();
+        shuffleIndex(array, left, right, split());
+    }
+
+    /**
+     * {@code shuffleIndex} swaps two random elements of the array between the indices {@code left} and
+     * {@code right} (exclusive).
+     * <ul>
+     *     <li>Two random indices are drawn from the {@code random} stream, in the range ({@code left},
+     *     {@code right}).</li>
+     *     <li>Swap the elements at {@code index1} and {@code index2} in the {@code array}.</li>
+     * </ul>
+     * The stream is owned by the caller, so no random generator is created per swap.
+     * @param       array The array to be sorted.
+     * @param       left The starting index of the subarray to be sorted.
+     * @param       right The ending index (exclusive) of the subarray to be sorted.
+     * @param       random the stream of the random indices.
+     * @see         SortSwap#swap(Comparable[], int, int)
+     */
+    protected void shuffleIndex(Comparable[] array, int left, int right, SplittableRandom random) {
         int index1 = (random.nextInt((right - left)) + left),
                 index2 = (random.nextInt((right - left)) + left);
         swap(array, index1, index2);
@@ -439,9 +185,9 @@ public class Bozo
     /**
      * {@code shuffleIndex} method you provided shuffles.
      * <ul>
-     *     <li>Create a new {@link java.util.Random Random} object to generate random numbers</li>
+     *     <li>Split a new random stream from the {@code random} of the sorter</li>
      *     <li>Generate two random indices within the value {@code list.size()}:</li>
-     *     <li>The {@link java.util.Random#nextInt(int) nextInt(int bound)} method of Random generates
+     *     <li>The {@link java.util.SplittableRandom#nextInt(int) nextInt(int bound)} method of the stream generates
      *     a random integer between <i>0</i> (inclusive) and bound (exclusive).
      *     In this case,
      *     so the generated indices will be within the range (<i>0</i>, {@code list.size()}).
@@ -456,19 +202,16 @@ public class Bozo
      * @see         SortSwap#swap(List, int, int)
      */
     protected <L extends Comparable> void shuffleIndex(List<L> list) {
-        Random random = new Random();
-        int index1 = random.nextInt(list.size()),
-                index2 = random.nextInt(list.size());
-        swap(list, index1, index2);
+        shuffleIndex(list, 0, list.size());
     }
 
     /**
      * {@code shuffleIndex} method you provided shuffles
      * the elements of a given list between the indices {@code left} and {@code right}.
      * <ul>
-     *     <li>Create a new {@link java.util.Random Random} object to generate random numbers</li>
+     *     <li>Split a new random stream from the {@code random} of the sorter</li>
      *     <li>Generate two random indices within the range ({@code left}, {@code right}):</li>
-     *     <li>The {@link java.util.Random#nextInt(int) nextInt(int bound)} method of Random generates
+     *     <li>The {@link java.util.SplittableRandom#nextInt(int) nextInt(int bound)} method of the stream generates
      *     a random integer between <i>0</i> (inclusive) and bound (exclusive).
      *     In this case, bound is {@code (right - left)},
      *     so the generated indices will be within the range (<i>0</i>, {@code (right - left)}).
@@ -485,7 +228,7 @@ public class Bozo
      * @see         SortSwap#swap(List, int, int)
      */
     protected <L extends Comparable> void shuffleIndex(List<L> list, int left, int right) {
-        Random random = new Random();
+        SplittableRandom random = split();
         int index1 = (random.nextInt((right - left)) + left),
                 index2 = (random.nextInt((right - left)) + left);
         swap(list, index1, index2);
@@ -58,6 +58,19 @@ public class DoubleSelection
      */
     public DoubleSelection() {}
 
+    /**
+     * <b>Double Selection Sort:</b><br>
+     * As Tournament Sort, if {@code tournament} is {@code true}.
+     * The winner tree replaces both scans of the unsorted part, about <em>n log(n)</em> comparisons
+     * with the <em>n</em> writes of the selection.
+     * @param       tournament the selections are played as a tournament.
+     * @see         DoubleSelection#DoubleSelection() DoubleSelection
+     * @see         Selection#Selection(boolean) Selection
+     */
+    public DoubleSelection(boolean tournament) {
+        super(tournament);
+    }
+
     /**
      * {@inheritDoc}
      * @param       array to be arranged.
@@ -134,8 +147,13 @@ public class DoubleSelection
      * @see         SortFind#findMinimumIndex(Comparable[], int, int)
      * @see         SortFind#findMaximumIndex(Comparable[], int, int)
      * @see         SortSwap#swap(Comparable[], int, int)
+     * @see         Selection#tournament()
      */
     protected void doubleSelectionInc(Comparable[] array) {
+        if (tournament) {
+            tournamentInc(array);
+            return;
+        }
         int n = array.length, left = 0, right = (n - 1);
         while (left < right) {
             int minIndex = left, maxIndex = right;
@@ -172,8 +190,13 @@ public class DoubleSelection
      * @see         SortFind#findMinimumIndex(Comparable[], int, int)
      * @see         SortFind#findMaximumIndex(Comparable[], int, int)
      * @see         SortSwap#swap(Comparable[], int, int)
+     * @see         Selection#tournament()
      */
     protected void doubleSelectionDec(Comparable[] array) {
+        if (tournament) {
+            tournamentDec(array);
+            return;
+        }
         int n = array.length, left = 0, right = (n - 1);
         while (left < right) {
             int minIndex = left, maxIndex = right;
@@ -232,15 +255,20 @@ public class DoubleSelection
      * @see         Sort#functionalComparableToReverse(SortFunctional)
      * @see         SortFind#findValueIndex(Comparable[], int, int, SortFunctional)
      * @see         SortSwap#swap(Comparable[], int, int)
+     * @see         Selection#tournament()
      */
     protected void doubleSelection(Comparable[] array, SortFunctional<Comparable> functional) {
+        if (tournament) {
+            tournament(array, functional);
+            return;
+        }
         int n = array.length, left = 0, right = (n - 1);
         SortFunctional<Comparable> functionalReverse = functionalComparableToReverse(functional);
         while (left < right) {
             int valueIndex = left, valueReverseIndex = right;
             for (int j = left; j <= right; j++) {
-                valueIndex = findValueIndex(array, j, valueIndex, functional);
-                valueReverseIndex = findValueIndex(array, j, valueReverseIndex, functionalReverse);
+                valueIndex = findValueIndex(array, j, valueIndex, functionalReverse);
+                valueReverseIndex = findValueIndex(array, j, valueReverseIndex, functional);
             }
             swap(array, valueReverseIndex, left);
             if (valueIndex == left) {
@@ -381,8 +409,8 @@ public class DoubleSelection
             int valueIndex = left, valueReverseIndex = right;
             SortFunctional<Comparable> functionalReverse = functionalComparableToReverse(functional);
             for (int j = left; j <= right; j++) {
-                valueIndex = findValueIndex(array, j, valueIndex, functional);
-                valueReverseIndex = findValueIndex(array, j, valueReverseIndex, functionalReverse);
+                valueIndex = findValueIndex(array, j, valueIndex, functionalReverse);
+                valueReverseIndex = findValueIndex(array, j, valueReverseIndex, functional);
             }
             swap(array, valueReverseIndex, left);
             if (valueIndex == left) {
@@ -412,8 +440,13 @@ public class DoubleSelection
      * @see         SortFind#findMinimumIndex(List, int, int)
      * @see         SortFind#findMaximumIndex(List, int, int)
      * @see         SortSwap#swap(List, int, int)
+     * @see         Selection#tournament()
      */
     protected <L extends Comparable> void doubleSelectionInc(List<L> list) {
+        if (tournament) {
+            tournamentInc(list);
+            return;
+        }
         int n = list.size(), left = 0, right = (n - 1);
         while (left < right) {
             int minIndex = left, maxIndex = right;
@@ -449,8 +482,13 @@ public class DoubleSelection
      * @see         SortFind#findMinimumIndex(List, int, int)
      * @see         SortFind#findMaximumIndex(List, int, int)
      * @see         SortSwap#swap(List, int, int)
+     * @see         Selection#tournament()
      */
     protected <L extends Comparable> void doubleSelectionDec(List<L> list) {
+        if (tournament) {
+            tournamentDec(list);
+            return;
+        }
         int n = list.size(), left = 0, right = (n - 1);
         while (left < right) {
             int minIndex = left, maxIndex = right;
@@ -508,15 +546,20 @@ public class DoubleSelection
      * @see         Sort#functionalComparableToReverse(SortFunctional)
      * @see         SortFind#findValueIndex(List, int, int, SortFunctional)
      * @see         SortSwap#swap(List, int, int)
+     * @see         Selection#tournament()
      */
     protected <L extends Comparable> void doubleSelection(List<L> list, SortFunctional<Comparable> functional) {
+        if (tournament) {
+            tournament(list, functional);
+            return;
+        }
         int n = list.size(), left = 0, right = (n - 1);
         SortFunctional<Comparable> functionalReverse = functionalComparableToReverse(functional);
         while (left < right) {
             int valueIndex = left, valueReverseIndex = right;
             for (int j = left; j <= right; j++) {
-                valueIndex = findValueIndex(list, j, valueIndex, functional);
-                valueReverseIndex = findValueIndex(list, j, valueReverseIndex, functionalReverse);
+                valueIndex = findValueIndex(list, j, valueIndex, functionalReverse);
+                valueReverseIndex = findValueIndex(list, j, valueReverseIndex, functional);
             }
             swap(list, valueReverseIndex, left);
             if (valueIndex == left) {
@@ -657,8 +700,8 @@ public class DoubleSelection
             int valueIndex = left, valueReverseIndex = right;
             SortFunctional<Comparable> functionalReverse = functionalComparableToReverse(functional);
             for (int j = left; j <= right; j++) {
-                valueIndex = findValueIndex(list, j, valueIndex, functional);
-                valueReverseIndex = findValueIndex(list, j, valueReverseIndex, functionalReverse);
+                valueIndex = findValueIndex(list, j, valueIndex, functionalReverse);
+                valueReverseIndex = findValueIndex(list, j, valueReverseIndex, functional);
             }
             swap(list, valueReverseIndex, left);
             if (valueIndex == left) {
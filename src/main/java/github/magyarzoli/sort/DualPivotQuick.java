@@ -1,5 +1,6 @@
 package github.magyarzoli.sort;
 
+import github.magyarzoli.PivotStrategy;
 import github.magyarzoli.QuickInterface;
 import github.magyarzoli.SortFunctional;
 import github.magyarzoli.sort.intro.IntroDualPivotQuick;
@@ -61,6 +62,17 @@ public class DualPivotQuick
      */
     public DualPivotQuick() {}
 
+    /**
+     * <b>Dual Pivot Quick Sort:</b><br>
+     * With the pivot selection of the partitions given.
+     * @param       pivotStrategy the pivot selection of the partitions.
+     * @see         DualPivotQuick#DualPivotQuick() DualPivotQuick
+     * @see         PivotStrategy
+     */
+    public DualPivotQuick(PivotStrategy pivotStrategy) {
+        super(pivotStrategy);
+    }
+
     /**
      * {@inheritDoc}
      * @param       array to be arranged.
@@ -0,0 +1,295 @@
+package github.magyarzoli.sort;
+
+import github.magyarzoli.SortComparable;
+import github.magyarzoli.SortFunctional;
+
+import java.util.List;
+import java.util.ListIterator;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Ford–Johnson Sort, the merge insertion algorithm of Lester Ford and Selmer Johnson, arranges the elements with the
+ * minimum known number of comparisons in the worst case for small and medium inputs.
+ * It is the choice when a comparison costs much more than anything else, for example when the comparison looks up
+ * a cache or parses strings. The algorithm works on an array of indices,
+ * the elements themselves are moved only once, to their final places.
+ * The number of comparisons made is counted, and can be read by {@link FordJohnson#comparisons()}.
+ * @since       1.3
+ * @author      <a href=https://github.com/MagyarZoli>Magyar Zoltán</a>
+ */
+@SuppressWarnings("rawtypes")
+public class FordJohnson
+        extends SortComparable {
+
+    /**
+     * The number of comparisons made since the creation, or the last {@code resetComparisons}.
+     */
+    protected final AtomicLong comparisons = new AtomicLong();
+
+    /**
+     * <b>Ford–Johnson Sort:</b><br>
+     * Is the merge insertion algorithm, it arranges the elements with the minimum known number of comparisons in the
+     * worst case for small and medium inputs.<br><br>
+     * <b>Example:</b>
+     * <ol>
+     *     <li>Group the elements to {@code (n / 2)} pairs, leaving one element unpaired if {@code n} is odd.</li>
+     *     <li>Compare the two elements of each pair, one comparison per pair.</li>
+     *     <li>Recursively sort the larger elements of the pairs, they form the main chain.</li>
+     *     <li>The smaller element of the first pair is smaller than every element of the main chain,
+     *     it is inserted to the front without comparison.</li>
+     *     <li>The other smaller elements, and the unpaired element, are inserted by binary search in the groups
+     *     bounded by the Jacobsthal numbers <i>3, 5, 11, 21, 43, ...</i>, from the last element of the group
+     *     backwards. An element is searched only in the part of the main chain before its larger pair.</li>
+     *     <li>The sorted order of the indices is applied to the elements, each element is moved once.</li>
+     * </ol>
+     * <b>Note:</b><br>
+     * The Jacobsthal order keeps the searched part of the main chain one less than a power of two,
+     * so every outcome of a binary search takes the same number of comparisons, none of them are wasted.
+     * The worst case number of comparisons is {@link FordJohnson#worstCaseComparisons(int)},
+     * the sum of {@code ceil(log2(3k / 4))} for {@code k} from <i>1</i> to {@code n}.
+     * The insertions shift the indices of the main chain, so the algorithm is meant for small and medium inputs,
+     * where the comparisons cost more than the moves of the indices.<br><br>
+     * <b>Property:</b><br>
+     * Worst Case Complexity:   <em>O(n^2)</em> moves, <em>O(n log(n))</em> comparisons<br>
+     * Best Case Complexity:    <em>O(n log(n))</em><br>
+     * Average Case Complexity: <em>O(n^2)</em> moves, <em>O(n log(n))</em> comparisons<br>
+     * Auxiliary Space:         <em>O(n)</em><br>
+     * Stability:               <b>No</b>
+     * @see         MergeInsertion#MergeInsertion() MergeInsertion
+     */
+    public FordJohnson() {}
+
+    /**
+     * {@code comparisons} returns the number of comparisons made by this sorter.
+     * @return      the number of comparisons since the creation, or the last {@code resetComparisons}.
+     * @see         FordJohnson#resetComparisons()
+     */
+    public long comparisons() {
+        return comparisons.get();
+    }
+
+    /**
+     * {@code resetComparisons} sets the number of comparisons to <i>0</i>.
+     * @see         FordJohnson#comparisons()
+     */
+    public void resetComparisons() {
+        comparisons.set(0);
+    }
+
+    /**
+     * {@code worstCaseComparisons} returns the number of comparisons the Ford–Johnson algorithm makes in the
+     * worst case, the sum of {@code ceil(log2(3k / 4))} for {@code k} from <i>1</i> to {@code n}.
+     * @param       n the number of elements.
+     * @return      the number of comparisons in the worst case.
+     */
+    public static long worstCaseComparisons(int n) {
+        long sum = 0;
+        for (int k = 1; k <= n; k++) {
+            int ceil = 0;
+            while ((4L << ceil) < (3L * k)) {
+                ceil++;
+            }
+            sum += ceil;
+        }
+        return sum;
+    }
+
+    /**
+     * {@inheritDoc}
+     * @param       array to be arranged.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void sortArrayInc(Comparable[] array) {
+        fordJohnson(array, (a, b) -> a.compareTo(b) > 0);
+    }
+
+    /**
+     * {@inheritDoc}
+     * @param       array to be arranged.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void sortArrayDec(Comparable[] array) {
+        fordJohnson(array, (a, b) -> a.compareTo(b) < 0);
+    }
+
+    /**
+     * {@inheritDoc}
+     * @param       array to be arranged.
+     * @param       functional lambda expression for comparison.
+     */
+    @Override
+    public void sortArrayFun(Comparable[] array, SortFunctional<Comparable> functional) {
+        fordJohnson(array, functional);
+    }
+
+    /**
+     * {@inheritDoc}
+     * @param       list to be arranged.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void sortListInc(List<? extends Comparable> list) {
+        fordJohnson(list, (a, b) -> a.compareTo(b) > 0);
+    }
+
+    /**
+     * {@inheritDoc}
+     * @param       list to be arranged.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void sortListDec(List<? extends Comparable> list) {
+        fordJohnson(list, (a, b) -> a.compareTo(b) < 0);
+    }
+
+    /**
+     * {@inheritDoc}
+     * @param       list to be arranged.
+     * @param       functional lambda expression for comparison.
+     */
+    @Override
+    public void sortListFun(List<? extends Comparable> list, SortFunctional<Comparable> functional) {
+        fordJohnson(list, functional);
+    }
+
+    /**
+     * {@code fordJohnson} arranges the array in the order of the {@code functional}.
+     * <ul>
+     *     <li>Every comparison of the {@code functional} is counted in {@code comparisons}.</li>
+     *     <li>The indices of the elements are sorted by {@code fordJohnsonOrder}.</li>
+     *     <li>The elements are copied, and put to their final places from the copy.</li>
+     * </ul>
+     * @param       array to be arranged.
+     * @param       functional lambda expression for comparison.
+     * @see         FordJohnson#fordJohnsonOrder(Comparable[], int[], SortFunctional)
+     */
+    protected void fordJohnson(Comparable[] array, SortFunctional<Comparable> functional) {
+        int[] items = new int[array.length];
+        for (int i = 0; i < items.length; i++) {
+            items[i] = i;
+        }
+        int[] order = fordJohnsonOrder(array, items, (a, b) -> {
+            comparisons.incrementAndGet();
+            return functional.functionalCompareTo(a, b);
+        });
+        Comparable[] copy = array.clone();
+        for (int i = 0; i < order.length; i++) {
+            array[i] = copy[order[i]];
+        }
+    }
+
+    /**
+     * {@code fordJohnson} arranges the list in the order of the {@code functional}.
+     * The elements are copied to an array, arranged, and written back with a single pass of a {@code ListIterator}.
+     * @param       list to be arranged.
+     * @param       functional lambda expression for comparison.
+     * @param       <L> the type of elements in the list.
+     * @see         FordJohnson#fordJohnson(Comparable[], SortFunctional)
+     */
+    @SuppressWarnings("unchecked")
+    protected <L extends Comparable> void fordJohnson(List<L> list, SortFunctional<Comparable> functional) {
+        Comparable[] array = list.toArray(new Comparable[0]);
+        fordJohnson(array, functional);
+        ListIterator<L> iterator = list.listIterator();
+        for (Comparable element : array) {
+            iterator.next();
+            iterator.set((L) element);
+        }
+    }
+
+    /**
+     * {@code fordJohnsonOrder} sorts the {@code items}, indices of the {@code array}, by the merge insertion
+     * algorithm.
+     * <ul>
+     *     <li>The items are paired, and the larger and the smaller item of each pair are recorded by their positions
+     *     in {@code items}.</li>
+     *     <li>The larger items are sorted recursively, the result gives the order of the pairs.</li>
+     *     <li>The main chain starts with the smaller item of the first pair, followed by the larger items in
+     *     order.</li>
+     *     <li>The remaining smaller items, and the unpaired last item, are inserted in the Jacobsthal groups,
+     *     by {@code fordJohnsonSearch} in the part of the main chain before their larger pair.</li>
+     * </ul>
+     * @param       array the elements compared.
+     * @param       items the indices of the elements to be sorted.
+     * @param       functional lambda expression for comparison.
+     * @return      the positions of {@code items} in sorted order.
+     * @see         FordJohnson#fordJohnsonSearch(Comparable[], int[], int[], int, int, SortFunctional)
+     */
+    protected int[] fordJohnsonOrder(Comparable[] array, int[] items, SortFunctional<Comparable> functional) {
+        int n = items.length, pairs = (n / 2);
+        if (n < 2) {
+            return new int[n];
+        }
+        int[] larger = new int[pairs], smaller = new int[pairs], largerItems = new int[pairs];
+        for (int p = 0; p < pairs; p++) {
+            int first = (2 * p), second = (first + 1);
+            if (functional.functionalCompareTo(array[items[first]], array[items[second]])) {
+                larger[p] = first;
+                smaller[p] = second;
+            } else {
+                larger[p] = second;
+                smaller[p] = first;
+            }
+            largerItems[p] = items[larger[p]];
+        }
+        int[] pairOrder = fordJohnsonOrder(array, largerItems, functional);
+        int[] chain = new int[n];
+        chain[0] = smaller[pairOrder[0]];
+        for (int i = 0; i < pairs; i++) {
+            chain[(i + 1)] = larger[pairOrder[i]];
+        }
+        int length = (pairs + 1), pending = (pairs + (n % 2)), done = 1;
+        for (int previous = 1, jacobsthal = 3; done < pending; ) {
+            int last = Math.min(jacobsthal, pending);
+            for (int b = last; b > done; b--) {
+                int item, high;
+                if (b <= pairs) {
+                    item = smaller[pairOrder[(b - 1)]];
+                    high = b;
+                    while (chain[high] != larger[pairOrder[(b - 1)]]) {
+                        high++;
+                    }
+                } else {
+                    item = (n - 1);
+                    high = length;
+                }
+                int position = fordJohnsonSearch(array, items, chain, high, item, functional);
+                System.arraycopy(chain, position, chain, (position + 1), (length - position));
+                chain[position] = item;
+                length++;
+            }
+            done = last;
+            int next = (jacobsthal + (2 * previous));
+            previous = jacobsthal;
+            jacobsthal = next;
+        }
+        return chain;
+    }
+
+    /**
+     * {@code fordJohnsonSearch} finds the place of the {@code item} in the main chain by binary search.
+     * A search in <i>2^k - 1</i> elements takes exactly <i>k</i> comparisons.
+     * @param       array the elements compared.
+     * @param       items the indices of the elements to be sorted.
+     * @param       chain the main chain, positions of {@code items} in sorted order.
+     * @param       high the end of the searched part of the main chain (exclusive).
+     * @param       item the position in {@code items} to be inserted.
+     * @param       functional lambda expression for comparison.
+     * @return      the index of the main chain, where the {@code item} is inserted.
+     */
+    protected int fordJohnsonSearch(
+            Comparable[] array, int[] items, int[] chain, int high, int item, SortFunctional<Comparable> functional) {
+        int low = 0;
+        while (low < high) {
+            int middle = ((low + high) >>> 1);
+            if (functional.functionalCompareTo(array[items[item]], array[items[chain[middle]]])) {
+                low = (middle + 1);
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+}
\ No newline at end of file
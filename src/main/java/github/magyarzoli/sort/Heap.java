@@ -58,6 +58,7 @@ public class Heap
      * Average Case Complexity: <em>O(n log(n))</em><br>
      * Auxiliary Space:         <em>O(n)</em><br>
      * Stability:               <b>No</b>
+     * @see         BottomUpHeap#BottomUpHeap() BottomUpHeap
      * @see         IntroHeap#IntroHeap() IntroHeap
      * @see         SmoothHeap#SmoothHeap() SmoothHeap
      * @see         TernaryHeap#TernaryHeap() TernaryHeap
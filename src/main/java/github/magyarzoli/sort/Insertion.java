@@ -19,6 +19,11 @@ public class Insertion
         extends SortComparable
         implements InsertionInterface<Comparable> {
 
+    /**
+     * The insertions find the place of the elements by binary search.
+     */
+    protected final boolean binaryInsertion;
+
     /**
      * <b>Insertion Sort:</b><br>
      * Is a simple sorting algorithm that builds the final sorted array one element at a time.
@@ -49,7 +54,31 @@ public class Insertion
      * @see         IntroInsertion#IntroInsertion() IntroInsertion
      * @see         Shell#Shell() Shell
      */
-    public Insertion() {}
+    public Insertion() {
+        this(false);
+    }
+
+    /**
+     * <b>Insertion Sort:</b><br>
+     * With binary insertion of the elements, if {@code binaryInsertion} is {@code true}.
+     * The place of each element is found by <em>O(log(k))</em> comparisons, and the others are shifted in bulk,
+     * the better choice when the comparison is expensive.
+     * @param       binaryInsertion the insertions are binary.
+     * @see         Insertion#Insertion() Insertion
+     * @see         InsertionInterface#binaryInsertion()
+     */
+    public Insertion(boolean binaryInsertion) {
+        this.binaryInsertion = binaryInsertion;
+    }
+
+    /**
+     * {@inheritDoc}
+     * @return      {@code true} if the insertions are binary.
+     */
+    @Override
+    public boolean binaryInsertion() {
+        return binaryInsertion;
+    }
 
     /**
      * {@inheritDoc}
@@ -79,6 +108,43 @@ public class Insertion
         insertion(array, functional);
     }
 
+    /**
+     * {@inheritDoc}
+     * The range is sorted in place.
+     * @param       array to be arranged.
+     * @param       left the index of the first element of the range.
+     * @param       right the index of the last element of the range (inclusive).
+     */
+    @Override
+    public void sortRangeInc(Comparable[] array, int left, int right) {
+        insertionInc(array, left, right);
+    }
+
+    /**
+     * {@inheritDoc}
+     * The range is sorted in place.
+     * @param       array to be arranged.
+     * @param       left the index of the first element of the range.
+     * @param       right the index of the last element of the range (inclusive).
+     */
+    @Override
+    public void sortRangeDec(Comparable[] array, int left, int right) {
+        insertionDec(array, left, right);
+    }
+
+    /**
+     * {@inheritDoc}
+     * The range is sorted in place.
+     * @param       array to be arranged.
+     * @param       left the index of the first element of the range.
+     * @param       right the index of the last element of the range (inclusive).
+     * @param       functional lambda expression for comparison.
+     */
+    @Override
+    public void sortRangeFun(Comparable[] array, int left, int right, SortFunctional<Comparable> functional) {
+        insertion(array, left, right, functional);
+    }
+
     /**
      * {@inheritDoc}
      * @param       list to be arranged.
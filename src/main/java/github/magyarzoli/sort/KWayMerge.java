@@ -0,0 +1,334 @@
+package github.magyarzoli.sort;
+
+import github.magyarzoli.InsertionInterface;
+import github.magyarzoli.LoserTree;
+import github.magyarzoli.SortFunctional;
+import github.magyarzoli.SortScratch;
+
+import java.util.List;
+import java.util.ListIterator;
+
+/**
+ * K-way Merge Sort generalizes the Merge and Merge3 sorts, it merges {@code k} sorted runs at once with a loser tree.
+ * Every pass over the memory multiplies the length of the runs by {@code k}, instead of by two,
+ * so an array much larger than the cache is read and written {@code log(k)} times fewer than by the two-way merge,
+ * while the number of comparisons stays <em>log(k)</em> per merged element.
+ * @since       1.3
+ * @author      <a href=https://github.com/MagyarZoli>Magyar Zoltán</a>
+ */
+@SuppressWarnings("rawtypes")
+public class KWayMerge
+        extends Merge
+        implements InsertionInterface<Comparable> {
+
+    /**
+     * The size of the first level data cache assumed by default, in bytes.
+     */
+    public static final int DEFAULT_CACHE_BUDGET = 32 * 1024;
+
+    /**
+     * The size of a cache line, in bytes.
+     */
+    protected static final int CACHE_LINE = 64;
+
+    /**
+     * The bytes of the cache taken by one run of a merge.
+     * The line of the head reference of the run, the line of the element it refers to,
+     * and the three {@code int} entries of the run in the loser tree.
+     */
+    protected static final int BYTES_PER_WAY = ((2 * CACHE_LINE) + (3 * Integer.BYTES));
+
+    /**
+     * The length of the runs sorted by insertion before the first merge pass.
+     */
+    protected final int RUN_LENGTH = 32;
+
+    /**
+     * The number of runs merged at once, <i>0</i> if it is derived from the {@code cacheBudget} and the length.
+     */
+    protected final int ways;
+
+    /**
+     * The bytes of the cache the heads of the merged runs and the loser tree may take.
+     */
+    protected final int cacheBudget;
+
+    /**
+     * <b>K-way Merge Sort:</b><br>
+     * Derives the number of runs merged at once from the {@link KWayMerge#DEFAULT_CACHE_BUDGET} and the length.
+     * <br><br>
+     * <b>Example:</b>
+     * <ol>
+     *     <li>Sort the runs of {@code RUN_LENGTH} elements by binary insertion.</li>
+     *     <li>Merge every {@code k} neighbouring runs with a loser tree from the array to a buffer,
+     *     the length of the runs is multiplied by {@code k}.</li>
+     *     <li>The next pass merges back from the buffer to the array, the two are swapped after every pass,
+     *     until a single run remains.</li>
+     *     <li>If the last pass wrote the buffer, it is copied back to the array.</li>
+     * </ol>
+     * <b>Note:</b><br>
+     * A single loser tree is allocated and a single buffer is borrowed per sort, and reused by every merge.
+     * A larger {@code k} means fewer passes over the memory, but a deeper loser tree,
+     * the number of comparisons is about {@code n log(n)} for any {@code k}.
+     * The {@code k} is the smallest number of ways that still merges the runs in the fewest passes,
+     * while the heads of the {@code k} runs and the loser tree fit the cache budget,
+     * see {@link KWayMerge#ways(int)}.<br><br>
+     * <b>Property:</b><br>
+     * Worst Case Complexity:   <em>O(n log(n))</em><br>
+     * Best Case Complexity:    <em>O(n log(n))</em><br>
+     * Average Case Complexity: <em>O(n log(n))</em><br>
+     * Auxiliary Space:         <em>O(n)</em><br>
+     * Stability:               <b>Yes</b>
+     * @see         LoserTree#LoserTree(int) LoserTree
+     * @see         Merge3#Merge3() Merge3
+     */
+    public KWayMerge() {
+        this(0, DEFAULT_CACHE_BUDGET, null);
+    }
+
+    /**
+     * <b>K-way Merge Sort:</b><br>
+     * Merges {@code ways} runs at once, whatever the length.
+     * @param       ways the number of runs merged at once, at least <i>2</i>.
+     * @throws      IllegalArgumentException if the {@code ways} is less than <i>2</i>.
+     * @see         KWayMerge#KWayMerge() KWayMerge
+     */
+    public KWayMerge(int ways) {
+        this(ways, null);
+    }
+
+    /**
+     * <b>K-way Merge Sort:</b><br>
+     * Merges {@code ways} runs at once, borrows the buffer from the {@code scratch} arena of the caller.
+     * @param       ways the number of runs merged at once, at least <i>2</i>.
+     * @param       scratch the arena of the auxiliary arrays, {@code null} for the arena of the current thread.
+     * @throws      IllegalArgumentException if the {@code ways} is less than <i>2</i>.
+     * @see         KWayMerge#KWayMerge(int) KWayMerge
+     * @see         Merge#Merge(SortScratch) Merge
+     */
+    public KWayMerge(int ways, SortScratch scratch) {
+        this(ways, DEFAULT_CACHE_BUDGET, scratch);
+        if (ways < 2) {
+            throw new IllegalArgumentException("ways must be at least 2: " + ways);
+        }
+    }
+
+    /**
+     * <b>K-way Merge Sort:</b><br>
+     * Merges {@code ways} runs at once, or derives them from the {@code cacheBudget} if the {@code ways} is <i>0</i>.
+     * @param       ways the number of runs merged at once, <i>0</i> to derive it from the {@code cacheBudget}.
+     * @param       cacheBudget the bytes of the cache the heads of the merged runs and the loser tree may take.
+     * @param       scratch the arena of the auxiliary arrays, {@code null} for the arena of the current thread.
+     */
+    private KWayMerge(int ways, int cacheBudget, SortScratch scratch) {
+        super(scratch);
+        this.ways = ways;
+        this.cacheBudget = cacheBudget;
+    }
+
+    /**
+     * {@code ofCacheBudget} returns a sorter deriving the number of runs merged at once from the {@code cacheBudget}
+     * and the length, for example the size of the first level data cache of the machine.
+     * @param       cacheBudget the bytes of the cache the heads of the merged runs and the loser tree may take.
+     * @return      the sorter of the {@code cacheBudget}.
+     * @throws      IllegalArgumentException if the {@code cacheBudget} is not positive.
+     * @see         KWayMerge#ways(int)
+     */
+    public static KWayMerge ofCacheBudget(int cacheBudget) {
+        return ofCacheBudget(cacheBudget, null);
+    }
+
+    /**
+     * {@code ofCacheBudget} returns a sorter deriving the number of runs merged at once from the {@code cacheBudget}
+     * and the length, borrows the buffer from the {@code scratch} arena of the caller.
+     * @param       cacheBudget the bytes of the cache the heads of the merged runs and the loser tree may take.
+     * @param       scratch the arena of the auxiliary arrays, {@code null} for the arena of the current thread.
+     * @return      the sorter of the {@code cacheBudget}.
+     * @throws      IllegalArgumentException if the {@code cacheBudget} is not positive.
+     * @see         KWayMerge#ofCacheBudget(int)
+     */
+    public static KWayMerge ofCacheBudget(int cacheBudget, SortScratch scratch) {
+        if (cacheBudget < 1) {
+            throw new IllegalArgumentException("cacheBudget must be positive: " + cacheBudget);
+        }
+        return new KWayMerge(0, cacheBudget, scratch);
+    }
+
+    /**
+     * {@code ways} returns the number of runs merged at once.
+     * @return      the number of runs merged at once, <i>0</i> if it is derived from the cache budget and the length.
+     * @see         KWayMerge#ways(int)
+     */
+    public int ways() {
+        return ways;
+    }
+
+    /**
+     * {@code cacheBudget} returns the bytes of the cache the heads of the merged runs and the loser tree may take.
+     * @return      the cache budget, in bytes.
+     */
+    public int cacheBudget() {
+        return cacheBudget;
+    }
+
+    /**
+     * {@code ways} returns the number of runs merged at once for an array of {@code length} elements.
+     * <ul>
+     *     <li>If the number of runs was given, it is returned.</li>
+     *     <li>The cache budget admits at most {@code (cacheBudget / BYTES_PER_WAY)} runs, but at least <i>2</i>,
+     *     more runs would evict each other's heads between two reads.</li>
+     *     <li>The fewest passes merging the {@code (length / RUN_LENGTH)} runs by that limit are counted,
+     *     and the smallest {@code k} merging them in as many passes is returned,
+     *     so the loser tree is not deeper than the passes require.</li>
+     * </ul>
+     * @param       length the number of elements to be arranged.
+     * @return      the number of runs merged at once, at least <i>2</i>.
+     */
+    public int ways(int length) {
+        if (ways != 0) {
+            return ways;
+        }
+        int runs = Math.max(2, (int) ((length + (RUN_LENGTH - 1L)) / RUN_LENGTH));
+        int limit = Math.max(2, (cacheBudget / BYTES_PER_WAY));
+        if (runs <= limit) {
+            return runs;
+        }
+        int passes = 1;
+        for (long merged = limit; merged < runs; merged *= limit) {
+            passes++;
+        }
+        int k = (int) Math.ceil(Math.pow(runs, (1.0 / passes)));
+        while ((k < limit) && (Math.pow(k, passes) < runs)) {
+            k++;
+        }
+        return Math.max(2, Math.min(k, limit));
+    }
+
+    /**
+     * {@inheritDoc}
+     * @param       array to be arranged.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void sortArrayInc(Comparable[] array) {
+        kWayMerge(array, (a, b) -> a.compareTo(b) > 0);
+    }
+
+    /**
+     * {@inheritDoc}
+     * @param       array to be arranged.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void sortArrayDec(Comparable[] array) {
+        kWayMerge(array, (a, b) -> a.compareTo(b) < 0);
+    }
+
+    /**
+     * {@inheritDoc}
+     * @param       array to be arranged.
+     * @param       functional lambda expression for comparison.
+     */
+    @Override
+    public void sortArrayFun(Comparable[] array, SortFunctional<Comparable> functional) {
+        kWayMerge(array, functional);
+    }
+
+    /**
+     * {@inheritDoc}
+     * @param       list to be arranged.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void sortListInc(List<? extends Comparable> list) {
+        kWayMerge(list, (a, b) -> a.compareTo(b) > 0);
+    }
+
+    /**
+     * {@inheritDoc}
+     * @param       list to be arranged.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void sortListDec(List<? extends Comparable> list) {
+        kWayMerge(list, (a, b) -> a.compareTo(b) < 0);
+    }
+
+    /**
+     * {@inheritDoc}
+     * @param       list to be arranged.
+     * @param       functional lambda expression for comparison.
+     */
+    @Override
+    public void sortListFun(List<? extends Comparable> list, SortFunctional<Comparable> functional) {
+        kWayMerge(list, functional);
+    }
+
+    /**
+     * {@code kWayMerge} arranges the array in the order of the {@code functional}.
+     * <ul>
+     *     <li>The runs of {@code RUN_LENGTH} elements are sorted by {@code binaryInsertion}, it is stable and
+     *     makes <em>log(RUN_LENGTH)</em> comparisons per element.</li>
+     *     <li>The number of runs merged at once, {@code k}, is chosen once per sort by {@code ways(n)}.</li>
+     *     <li>Every pass merges the groups of {@code k} neighbouring runs by the same {@code LoserTree},
+     *     from the {@code source} to the {@code target}, then the two arrays are swapped.</li>
+     *     <li>The last group of a pass may hold fewer runs, and its last run may be shorter.</li>
+     *     <li>If the sorted elements are in the buffer after the last pass, they are copied back to the array.</li>
+     * </ul>
+     * @param       array to be arranged.
+     * @param       functional lambda expression for comparison.
+     * @see         LoserTree#merge(Comparable[], int[], int, Comparable[], int, SortFunctional)
+     * @see         KWayMerge#ways(int)
+     */
+    protected void kWayMerge(Comparable[] array, SortFunctional<Comparable> functional) {
+        int n = array.length;
+        for (int i = 0; i < n; i += RUN_LENGTH) {
+            binaryInsertion(array, i, (Math.min((i + RUN_LENGTH), n) - 1), functional);
+        }
+        if (n <= RUN_LENGTH) {
+            return;
+        }
+        int k = ways(n);
+        Comparable[] buffer = scratch().borrow(n), source = array, target = buffer;
+        LoserTree<Comparable> tree = new LoserTree<>(k);
+        int[] bounds = scratch().borrowInts((k + 1));
+        for (long width = RUN_LENGTH; width < n; width *= k) {
+            long span = (width * k);
+            for (long start = 0; start < n; start += span) {
+                int runs = 0;
+                for (long bound = start; (runs < k) && (bound < n); bound += width) {
+                    bounds[runs++] = (int) bound;
+                }
+                bounds[runs] = (int) Math.min((start + span), n);
+                tree.merge(source, bounds, runs, target, (int) start, functional);
+            }
+            Comparable[] swap = source;
+            source = target;
+            target = swap;
+        }
+        if (source != array) {
+            System.arraycopy(source, 0, array, 0, n);
+        }
+        scratch().release(buffer, n);
+        scratch().releaseInts(bounds);
+    }
+
+    /**
+     * {@code kWayMerge} arranges the list in the order of the {@code functional}.
+     * The elements are copied to an array, arranged, and written back with a single pass of a {@code ListIterator}.
+     * @param       list to be arranged.
+     * @param       functional lambda expression for comparison.
+     * @param       <L> the type of elements in the list.
+     * @see         KWayMerge#kWayMerge(Comparable[], SortFunctional)
+     */
+    @SuppressWarnings("unchecked")
+    protected <L extends Comparable> void kWayMerge(List<L> list, SortFunctional<Comparable> functional) {
+        Comparable[] array = list.toArray(new Comparable[0]);
+        kWayMerge(array, functional);
+        ListIterator<L> iterator = list.listIterator();
+        for (Comparable element : array) {
+            iterator.next();
+            iterator.set((L) element);
+        }
+    }
+}
\ No newline at end of file
@@ -17,6 +17,11 @@ public class Merge
         extends SortComparable
         implements MergeInterface<Comparable> {
 
+    /**
+     * The arena of the auxiliary arrays given by the caller, {@code null} for the arena of the current thread.
+     */
+    protected final SortScratch scratch;
+
     /**
      * <b>Merge Sort:</b><br>
      * Is a comparison-based sorting algorithm that follows the divide-and-conquer approach.
@@ -64,7 +69,30 @@ public class Merge
      * @see         WeaveMerge#WeaveMerge() WeaveMerge
      * @see         Wiki#Wiki() Wiki
      */
-    public Merge() {}
+    public Merge() {
+        this(null);
+    }
+
+    /**
+     * <b>Merge Sort:</b><br>
+     * Borrows the auxiliary arrays from the {@code scratch} arena of the caller.
+     * The repeated sorts with the same arena allocate no buffer after the first one.
+     * @param       scratch the arena of the auxiliary arrays, {@code null} for the arena of the current thread.
+     * @see         Merge#Merge() Merge
+     * @see         SortScratch#SortScratch() SortScratch
+     */
+    public Merge(SortScratch scratch) {
+        this.scratch = scratch;
+    }
+
+    /**
+     * {@inheritDoc}
+     * @return      the arena of the caller, or the arena of the current thread.
+     */
+    @Override
+    public SortScratch scratch() {
+        return ((scratch != null) ? scratch : SortScratch.local());
+    }
 
     /**
      * {@inheritDoc}
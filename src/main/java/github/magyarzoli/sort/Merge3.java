@@ -1,11 +1,11 @@
 package github.magyarzoli.sort;
 
+import github.magyarzoli.LoserTree;
 import github.magyarzoli.MergeInterface;
 import github.magyarzoli.SortFunctional;
+import github.magyarzoli.SortScratch;
 import github.magyarzoli.sort.intro.IntroMerge3;
 
-import java.util.ArrayList;
-import java.util.Collection;
 import java.util.List;
 
 /**
@@ -38,7 +38,9 @@ public class Merge3
      *     Finally, the sorted elements are copied back from the buffer array to the original array.</li>
      * </ol>
      * <b>Note:</b><br>
-     * Merge3 Sort customized or adapted version of merge sort with sorting and merging steps.<br><br>
+     * Merge3 Sort customized or adapted version of merge sort with sorting and merging steps.
+     * The three sorted parts are merged by the {@code LoserTree} of the {@code KWayMerge} sort, with three runs,
+     * one tree is allocated per sort and reused by every merge. A list is sorted on an array copy.<br><br>
      * <b>Property:</b><br>
      * Worst Case Complexity:   <em>O(n^2)</em><br>
      * Best Case Complexity:    <em>O(n log(n))</em><br>
@@ -46,9 +48,21 @@ public class Merge3
      * Auxiliary Space:         <em>O(n)</em><br>
      * Stability:               <b>Yes</b>
      * @see         IntroMerge3#IntroMerge3() IntroMerge3
+     * @see         KWayMerge#KWayMerge() KWayMerge
      */
     public Merge3() {}
 
+    /**
+     * <b>Merge3 Sort:</b><br>
+     * Borrows the auxiliary arrays from the {@code scratch} arena of the caller.
+     * @param       scratch the arena of the auxiliary arrays, {@code null} for the arena of the current thread.
+     * @see         Merge3#Merge3() Merge3
+     * @see         Merge#Merge(SortScratch) Merge
+     */
+    public Merge3(SortScratch scratch) {
+        super(scratch);
+    }
+
     /**
      * {@inheritDoc}
      * @param       array to be arranged.
@@ -118,9 +132,8 @@ public class Merge3
      *     These midpoints divide the current range into three roughly equal parts.</li>
      *     <li>It recursively sorts the {@code left / mid / right} part of the range from
      *     {@code left to mid1 /mid1 to mid2 / mid2 to right} using the buffer array as the temporary storage.</li>
-     *     <li>Call method {@code mergeInc}. mergeInc method for merging three sorted subarrays into a single array.
-     *     It takes the indices of the subarray boundaries and uses four pointers left, mid1, mid2, right,
-     *     to iterate through the subarrays and merge them into a buffer array.</li>
+     *     <li>The three sorted parts are merged into the array by a {@code LoserTree} of three runs,
+     *     allocated once per sort, see {@code merge3}.</li>
      * </ul>
      * {@code mergeInc} The recursive calls ensure that the algorithm recursively divides the input array into smaller
      * parts until each part has less than two elements,
@@ -129,18 +142,12 @@ public class Merge3
      * @param       left The starting index of the subarray to be sorted.
      * @param       right The ending index (exclusive) of the subarray to be sorted.
      * @param       buffer An auxiliary array used for merging.
-     * @see         MergeInterface#mergeInc(Comparable[], int, int, int, int, Comparable[])
+     * @see         Merge3#merge3(Comparable[], int, int, Comparable[], LoserTree, int[], SortFunctional)
      */
     @Override
+    @SuppressWarnings("unchecked")
     public void mergeInc(Comparable[] array, int left, int right, Comparable[] buffer) {
-        if ((right - left) < 2) {
-            return;
-        }
-        int mid1 = (left + ((right - left) / 3)), mid2 = (left + (2 * ((right - left) / 3)) + 1);
-        mergeInc(buffer, left, mid1, array);
-        mergeInc(buffer, mid1, mid2, array);
-        mergeInc(buffer, mid2, right, array);
-        mergeInc(buffer, left, mid1, mid2, right, array);
+        merge(array, left, right, buffer, (a, b) -> a.compareTo(b) > 0);
     }
 
     /**
@@ -156,9 +163,8 @@ public class Merge3
      *     These midpoints divide the current range into three roughly equal parts.</li>
      *     <li>It recursively sorts the {@code left / mid / right} part of the range from
      *     {@code left to mid1 /mid1 to mid2 / mid2 to right} using the buffer array as the temporary storage.</li>
-     *     <li>Call method {@code mergeInc}. mergeInc method for merging three sorted subarrays into a single array.
-     *     It takes the indices of the subarray boundaries and uses four pointers left, mid1, mid2, right,
-     *     to iterate through the subarrays and merge them into a buffer array.</li>
+     *     <li>The three sorted parts are merged into the array by a {@code LoserTree} of three runs,
+     *     allocated once per sort, see {@code merge3}.</li>
      * </ul>
      * {@code mergeDec} The recursive calls ensure that the algorithm recursively divides the input array into smaller
      * parts until each part has less than two elements,
@@ -167,18 +173,12 @@ public class Merge3
      * @param       left The starting index of the subarray to be sorted.
      * @param       right The ending index (exclusive) of the subarray to be sorted.
      * @param       buffer An auxiliary array used for merging.
-     * @see         MergeInterface#mergeDec(Comparable[], int, int, int, int, Comparable[])
+     * @see         Merge3#merge3(Comparable[], int, int, Comparable[], LoserTree, int[], SortFunctional)
      */
     @Override
+    @SuppressWarnings("unchecked")
     public void mergeDec(Comparable[] array, int left, int right, Comparable[] buffer) {
-        if ((right - left) < 2) {
-            return;
-        }
-        int mid1 = (left + ((right - left) / 3)), mid2 = (left + (2 * ((right - left) / 3)) + 1);
-        mergeDec(buffer, left, mid1, array);
-        mergeDec(buffer, mid1, mid2, array);
-        mergeDec(buffer, mid2, right, array);
-        mergeDec(buffer, left, mid1, mid2, right, array);
+        merge(array, left, right, buffer, (a, b) -> a.compareTo(b) < 0);
     }
 
     /**
@@ -196,20 +196,16 @@ public class Merge3
      *     sorted subarrays.
      *     The {@code mid1} is calculated as {@code (left + ((right - left) / 3))},
      *     and {@code mid2} is calculated as {@code (left + (2 * ((right - left) / 3)) + 1)}.</li>
-     *     <li>The {@code merge} method is then recursively called four times:</li>
+     *     <li>The {@code merge3} method is then called with a {@code LoserTree} of three runs and its bounds,
+     *     both allocated once per sort and reused by every merge of the recursion:</li>
      *     <li>First recursively merges the left portion of
      *     the range from {@code left} to {@code mid1} into the {@code buffer} array.</li>
      *     <li>Second recursively merges the middle portion of
      *     the range from {@code mid1} to {@code mid2} into the {@code buffer} array.</li>
      *     <li>Third recursively merges the right portion of
      *     the range from {@code mid2} to {@code right} into the {@code buffer} array.</li>
-     *     <li>Fourth performs the final merge operation
-     *     by merging the three sorted subarrays in the {@code buffer} array back into the original {@code array},
-     *     resulting in a sorted range from {@code left} to {@code right}.</li>
-     *     <li>The last recursive call to {@code merge} with five parameters indicates that this method performs the
-     *     actual merging of the subarrays.
-     *     The sorted subarrays from the {@code buffer} array are merged back into
-     *     the original {@code array} using the specified range and comparison logic.</li>
+     *     <li>Finally the loser tree merges the three sorted subarrays in the {@code buffer} array back into
+     *     the original {@code array}, resulting in a sorted range from {@code left} to {@code right}.</li>
      * </ul>
      * {@code merge} The recursive calls ensure that the algorithm recursively divides
      * the input array into smaller parts until each part has less than two elements,
@@ -219,7 +215,7 @@ public class Merge3
      * @param       right The ending index (exclusive) of the subarray to be sorted.
      * @param       buffer An auxiliary array used for merging.
      * @param       functional lambda expression for comparison.
-     * @see         MergeInterface#merge(Comparable[], int, int, int, int, Comparable[], SortFunctional)
+     * @see         Merge3#merge3(Comparable[], int, int, Comparable[], LoserTree, int[], SortFunctional)
      */
     @Override
     public void merge(
@@ -227,11 +223,46 @@ public class Merge3
         if ((right - left) < 2) {
             return;
         }
+        int[] bounds = scratch().borrowInts(4);
+        merge3(array, left, right, buffer, new LoserTree<>(3), bounds, functional);
+        scratch().releaseInts(bounds);
+    }
+
+    /**
+     * {@code merge3} sorts the range of the {@code array} from {@code left} to {@code right} (exclusive),
+     * the {@code buffer} holds the same elements as the {@code array} in the range.
+     * <ul>
+     *     <li>The three parts are sorted into the {@code buffer}, with the roles of the two arrays swapped,
+     *     so every level of the recursion merges into the other array and nothing is copied back.</li>
+     *     <li>The three sorted parts of the {@code buffer} are merged into the {@code array} by the {@code tree},
+     *     after the first tournament only the matches on the path of the part the last element was taken from
+     *     are replayed, at most <i>2</i> comparisons per element, and on equal elements the earlier part wins.</li>
+     * </ul>
+     * The {@code tree} and the {@code bounds} are allocated once per sort, and reused by every merge of the recursion.
+     * @param       array The array to be sorted.
+     * @param       left The starting index of the subarray to be sorted.
+     * @param       right The ending index (exclusive) of the subarray to be sorted.
+     * @param       buffer An auxiliary array used for merging.
+     * @param       tree the loser tree of the three-way merges, of capacity at least <i>3</i>.
+     * @param       bounds the bounds of the three parts, at least <i>4</i> entries.
+     * @param       functional lambda expression for comparison.
+     * @see         LoserTree#merge(Comparable[], int[], int, Comparable[], int, SortFunctional)
+     */
+    protected void merge3(
+            Comparable[] array, int left, int right, Comparable[] buffer, LoserTree<Comparable> tree, int[] bounds,
+            SortFunctional<Comparable> functional) {
+        if ((right - left) < 2) {
+            return;
+        }
         int mid1 = (left + ((right - left) / 3)), mid2 = (left + (2 * ((right - left) / 3)) + 1);
-        merge(buffer, left, mid1, array, functional);
-        merge(buffer, mid1, mid2, array, functional);
-        merge(buffer, mid2, right, array, functional);
-        merge(buffer, left, mid1, mid2, right, array, functional);
+        merge3(buffer, left, mid1, array, tree, bounds, functional);
+        merge3(buffer, mid1, mid2, array, tree, bounds, functional);
+        merge3(buffer, mid2, right, array, tree, bounds, functional);
+        bounds[0] = left;
+        bounds[1] = mid1;
+        bounds[2] = mid2;
+        bounds[3] = right;
+        tree.merge(buffer, bounds, 3, array, left, functional);
     }
 
     /**
@@ -362,17 +393,17 @@ public class Merge3
     }
 
     /**
-     * {@code merge3Inc} the method, a new temporary array called {@code buffer} is created with the same length as
-     * the input array.
+     * {@code merge3Inc} the method, a temporary array called {@code buffer}, at least as long as
+     * the input array, is borrowed from the arena of {@code scratch}.
      * The {@link java.lang.System#arraycopy(Object, int, Object, int, int) System.arraycopy}
      * method is used to copy the elements from the input array into the buffer array.
      * <ul>
      *     <li>Is called with the {@code buffer} array as the temporary storage.
      *     This method will recursively sort the specified range (<i>0</i> to {@code array.length}) using the
      *     {@code buffer} array.</li>
-     *     <li>After the {@code mergeInc} method completes, the sorted elements are stored in the buffer array.
-     *     Finally, the sorted elements are copied back from the buffer array to the original array using another
-     *     {@code System.arraycopy} call.</li>
+     *     <li>After the {@code mergeInc} method completes, the sorted elements are stored in the original array,
+     *     because the levels of the recursion merge alternately into the two arrays.
+     *     Nothing is copied back, the {@code buffer} is released to the arena after the sort.</li>
      * </ul>
      * {@code merge3Inc} method serves as a wrapper for the {@code mergeInc} method,
      * providing the necessary setup and cleanup steps for the incremental merge sort algorithm.
@@ -380,24 +411,24 @@ public class Merge3
      * @see         Merge3#mergeInc(Comparable[], int, int, Comparable[])
      */
     protected void merge3Inc(Comparable[] array) {
-        Comparable[] buffer = new Comparable[array.length];
-        System.arraycopy(array, 0, buffer, 0, buffer.length);
-        mergeInc(buffer, 0, array.length, array);
-        System.arraycopy(buffer, 0, array, 0, buffer.length);
+        Comparable[] buffer = scratch().borrow(array.length);
+        System.arraycopy(array, 0, buffer, 0, array.length);
+        mergeInc(array, 0, array.length, buffer);
+        scratch().release(buffer, array.length);
     }
 
     /**
-     * {@code merge3Dec} the method, a new temporary array called {@code buffer} is created with the same length as
-     * the input array.
+     * {@code merge3Dec} the method, a temporary array called {@code buffer}, at least as long as
+     * the input array, is borrowed from the arena of {@code scratch}.
      * The {@link java.lang.System#arraycopy(Object, int, Object, int, int) System.arraycopy}
      * method is used to copy the elements from the input array into the buffer array.
      * <ul>
      *     <li>Is called with the {@code buffer} array as the temporary storage.
      *     This method will recursively sort the specified range (<i>0</i> to {@code array.length}) using the
      *     {@code buffer} array.</li>
-     *     <li>After the {@code mergeDec} method completes, the sorted elements are stored in the buffer array.
-     *     Finally, the sorted elements are copied back from the buffer array to the original array using another
-     *     {@code System.arraycopy} call.</li>
+     *     <li>After the {@code mergeDec} method completes, the sorted elements are stored in the original array,
+     *     because the levels of the recursion merge alternately into the two arrays.
+     *     Nothing is copied back, the {@code buffer} is released to the arena after the sort.</li>
      * </ul>
      * {@code merge3Dec} method serves as a wrapper for the {@code mergeDec} method,
      * providing the necessary setup and cleanup steps for the decremental merge sort algorithm.
@@ -405,10 +436,10 @@ public class Merge3
      * @see         Merge3#mergeDec(Comparable[], int, int, Comparable[])
      */
     protected void merge3Dec(Comparable[] array) {
-        Comparable[] buffer = new Comparable[array.length];
-        System.arraycopy(array, 0, buffer, 0, buffer.length);
-        mergeDec(buffer, 0, array.length, array);
-        System.arraycopy(buffer, 0, array, 0, buffer.length);
+        Comparable[] buffer = scratch().borrow(array.length);
+        System.arraycopy(array, 0, buffer, 0, array.length);
+        mergeDec(array, 0, array.length, buffer);
+        scratch().release(buffer, array.length);
     }
 
     /**
@@ -416,46 +447,44 @@ public class Merge3
      * the entire {@code array} using a temporary {@code buffer} array.
      * This method utilizes the {@code merge} method to merge the sorted sublist.
      * <ul>
-     *     <li>It creates a new {@code buffer} array of the same length as
-     *     the original {@code array} using new {@code Comparable[array.length]}.</li>
+     *     <li>It borrows a {@code buffer} array at least as long as
+     *     the original {@code array} from the arena of {@code scratch}.</li>
      *     <li>It uses {@link java.lang.System#arraycopy(Object, int, Object, int, int) System.arraycopy}
      *     to copy the elements from the original {@code array} to the {@code buffer} array.
      *     This step creates a temporary copy of the array for merging.</li>
-     *     <li>It calls the {@code merge} method, passing the {@code buffer} array as the first parameter,
+     *     <li>It calls the {@code merge} method, passing the original {@code array} as the first parameter,
      *     the range specified by <i>0</i> and {@code array.length},
-     *     the original {@code array}, and the mz.SortFunctional<Comparable> object.
-     *     This performs the merge operation on the temporary {@code buffer} array.</li>
-     *     <li>After the merge operation is completed,
-     *     it uses {@code System.arraycopy()} to copy the merged elements from
-     *     the {@code buffer} array back to the original {@code array}.
-     *     This step updates the original array with the merged sorted sublists.</li>
+     *     the {@code buffer}, and the mz.SortFunctional<Comparable> object.
+     *     This performs the merge operation between the two arrays.</li>
+     *     <li>The levels of the recursion merge alternately into the two arrays,
+     *     so the merged elements end up in the original {@code array}, nothing is copied back.</li>
      * </ul>
      * {@code merge3} method essentially creates a temporary copy of the original array,
-     * performs the merge operation on the copy, and then copies the merged elements back to the original array.
+     * and performs the merge operation between the copy and the original array.
      * This allows the original array to be sorted using the merge operation.
      * @param       array The array to be sorted.
      * @param       functional lambda expression for comparison.
      * @see         Merge3#merge(Comparable[], int, int, Comparable[], SortFunctional)
      */
     protected void merge3(Comparable[] array, SortFunctional<Comparable> functional) {
-        Comparable[] buffer = new Comparable[array.length];
-        System.arraycopy(array, 0, buffer, 0, buffer.length);
-        merge(buffer, 0, array.length, array, functional);
-        System.arraycopy(buffer, 0, array, 0, buffer.length);
+        Comparable[] buffer = scratch().borrow(array.length);
+        System.arraycopy(array, 0, buffer, 0, array.length);
+        merge(array, 0, array.length, buffer, functional);
+        scratch().release(buffer, array.length);
     }
 
     /**
-     * {@code merge3Inc} the method, a new temporary array called {@code buffer} is created with the same length as
-     * the input array.
+     * {@code merge3Inc} the method, a temporary array called {@code buffer}, at least as long as
+     * the input array, is borrowed from the arena of {@code scratch}.
      * The {@link java.lang.System#arraycopy(Object, int, Object, int, int) System.arraycopy}
      * method is used to copy the elements from the input array into the buffer array.
      * <ul>
      *     <li>Is called with the {@code buffer} array as the temporary storage.
      *     This method will recursively sort the specified range ({@code left} to {@code right}) using the
      *     {@code buffer} array.</li>
-     *     <li>After the {@code mergeInc} method completes, the sorted elements are stored in the buffer array.
-     *     Finally, the sorted elements are copied back from the buffer array to the original array using another
-     *     {@code System.arraycopy} call.</li>
+     *     <li>After the {@code mergeInc} method completes, the sorted elements are stored in the original array,
+     *     because the levels of the recursion merge alternately into the two arrays.
+     *     Nothing is copied back, the {@code buffer} is released to the arena after the sort.</li>
      * </ul>
      * {@code merge3Inc} method serves as a wrapper for the {@code mergeInc} method,
      * providing the necessary setup and cleanup steps for the incremental merge sort algorithm.
@@ -465,24 +494,24 @@ public class Merge3
      * @see         Merge3#mergeInc(Comparable[], int, int, Comparable[])
      */
     protected void merge3Inc(Comparable[] array, int left, int right) {
-        Comparable[] buffer = new Comparable[array.length];
-        System.arraycopy(array, 0, buffer, 0, buffer.length);
-        mergeInc(buffer, left, right, array);
-        System.arraycopy(buffer, 0, array, 0, buffer.length);
+        Comparable[] buffer = scratch().borrow(array.length);
+        System.arraycopy(array, 0, buffer, 0, array.length);
+        mergeInc(array, left, right, buffer);
+        scratch().release(buffer, array.length);
     }
 
     /**
-     * {@code merge3Dec} the method, a new temporary array called {@code buffer} is created with the same length as
-     * the input array.
+     * {@code merge3Dec} the method, a temporary array called {@code buffer}, at least as long as
+     * the input array, is borrowed from the arena of {@code scratch}.
      * The {@link java.lang.System#arraycopy(Object, int, Object, int, int) System.arraycopy}
      * method is used to copy the elements from the input array into the buffer array.
      * <ul>
      *     <li>Is called with the {@code buffer} array as the temporary storage.
      *     This method will recursively sort the specified range ({@code left} to {@code right}) using the
      *     {@code buffer} array.</li>
-     *     <li>After the {@code mergeDec} method completes, the sorted elements are stored in the buffer array.
-     *     Finally, the sorted elements are copied back from the buffer array to the original array using another
-     *     {@code System.arraycopy} call.</li>
+     *     <li>After the {@code mergeDec} method completes, the sorted elements are stored in the original array,
+     *     because the levels of the recursion merge alternately into the two arrays.
+     *     Nothing is copied back, the {@code buffer} is released to the arena after the sort.</li>
      * </ul>
      * {@code merge3Dec} method serves as a wrapper for the {@code mergeDec} method,
      * providing the necessary setup and cleanup steps for the decremental merge sort algorithm.
@@ -492,10 +521,10 @@ public class Merge3
      * @see         Merge3#mergeDec(Comparable[], int, int, Comparable[])
      */
     protected void merge3Dec(Comparable[] array, int left, int right) {
-        Comparable[] buffer = new Comparable[array.length];
-        System.arraycopy(array, 0, buffer, 0, buffer.length);
-        mergeDec(buffer, left, right, array);
-        System.arraycopy(buffer, 0, array, 0, buffer.length);
+        Comparable[] buffer = scratch().borrow(array.length);
+        System.arraycopy(array, 0, buffer, 0, array.length);
+        mergeDec(array, left, right, buffer);
+        scratch().release(buffer, array.length);
     }
 
     /**
@@ -503,22 +532,20 @@ public class Merge3
      * the entire {@code array} using a temporary {@code buffer} array.
      * This method utilizes the {@code merge} method to merge the sorted sublists.
      * <ul>
-     *     <li>It creates a new {@code buffer} array of the same length as
-     *     the original {@code array} using new {@code Comparable[array.length]}.</li>
+     *     <li>It borrows a {@code buffer} array at least as long as
+     *     the original {@code array} from the arena of {@code scratch}.</li>
      *     <li>It uses {@link java.lang.System#arraycopy(Object, int, Object, int, int) System.arraycopy}
      *     to copy the elements from the original {@code array} to the {@code buffer} array.
      *     This step creates a temporary copy of the array for merging.</li>
-     *     <li>It calls the {@code merge} method, passing the {@code buffer} array as the first parameter,
+     *     <li>It calls the {@code merge} method, passing the original {@code array} as the first parameter,
      *     the range specified by {@code left} and {@code right},
-     *     the original {@code array}, and the mz.SortFunctional<Comparable> object.
-     *     This performs the merge operation on the temporary {@code buffer} array.</li>
-     *     <li>After the merge operation is completed,
-     *     it uses {@code System.arraycopy()} to copy the merged elements from
-     *     the {@code buffer} array back to the original {@code array}.
-     *     This step updates the original array with the merged sorted sublists.</li>
+     *     the {@code buffer}, and the mz.SortFunctional<Comparable> object.
+     *     This performs the merge operation between the two arrays.</li>
+     *     <li>The levels of the recursion merge alternately into the two arrays,
+     *     so the merged elements end up in the original {@code array}, nothing is copied back.</li>
      * </ul>
      * {@code merge3} method essentially creates a temporary copy of the original array,
-     * performs the merge operation on the copy, and then copies the merged elements back to the original array.
+     * and performs the merge operation between the copy and the original array.
      * This allows the original array to be sorted using the merge operation.
      * @param       array The array to be sorted.
      * @param       left indices representing the range of elements to be sorted.
@@ -527,96 +554,66 @@ public class Merge3
      * @see         Merge3#merge(Comparable[], int, int, Comparable[], SortFunctional)
      */
     protected void merge3(Comparable[] array, int left, int right, SortFunctional<Comparable> functional) {
-        Comparable[] buffer = new Comparable[array.length];
-        System.arraycopy(array, 0, buffer, 0, buffer.length);
-        merge(buffer, left, right, array, functional);
-        System.arraycopy(buffer, 0, array, 0, buffer.length);
+        Comparable[] buffer = scratch().borrow(array.length);
+        System.arraycopy(array, 0, buffer, 0, array.length);
+        merge(array, left, right, buffer, functional);
+        scratch().release(buffer, array.length);
     }
 
     /**
      * {@code merge3Inc} that takes a {@code List<Comparable>} called {@code list}.
-     * This method performs an incremental merge sort operation on a sublist of the {@code list} between
-     * the indices <i>0</i> and {@code list.size()}.
+     * This method performs an incremental merge sort operation on the whole {@code list}.
      * <ul>
-     *     <li>It creates a new {@link java.util.ArrayList ArrayList} called buffer and initializes it with
-     *     the contents of the original {@code list} by passing it as an argument to the {@code ArrayList}
-     *     constructor.</li>
-     *     <li>It calls another method named {@code mergeInc} with the {@code buffer}, <i>0</i>, {@code list.size()},
-     *     and the original {@code list} as arguments.
-     *     This method performs the incremental merge sort operation on the {@code buffer} list, updating it
-     *     in place.</li>
-     *     <li>It clears the original list using the {@link java.util.List#clear() clear()} method.</li>
-     *     <li>It adds all the elements from the {@code buffer} list back to the original {@code list} using
-     *     the {@link java.util.List#addAll(Collection) addAll()} method.</li>
+     *     <li>The elements are copied to an array once, with {@link java.util.List#toArray(Object[]) toArray}.</li>
+     *     <li>The array is sorted by {@code merge3Inc}, so every three-way merge is played by the same
+     *     {@code LoserTree} on the array, without the bounds checks and interface calls of the list.</li>
+     *     <li>The sorted elements are written back by a single {@link java.util.ListIterator ListIterator} pass.</li>
      * </ul>
      * {@code merge3Inc} method serves as a wrapper for the {@code mergeInc} method,
      * providing the necessary setup and cleanup steps for the incremental merge sort algorithm.
      * @param       list The list to be sorted.
-     * @see         Merge3#mergeInc(List, int, int, List)
+     * @see         Merge3#merge3Inc(Comparable[])
+     * @see         github.magyarzoli.Sorter#sortListAsArray(List, java.util.function.Consumer)
      */
     protected <L extends Comparable> void merge3Inc(List<L> list) {
-        List<L> buffer = new ArrayList<>(list);
-        mergeInc(buffer, 0, list.size(), list);
-        list.clear();
-        list.addAll(buffer);
+        sortListAsArray(list, array -> merge3Inc(array));
     }
 
     /**
      * {@code merge3Dec} that takes a {@code List<Comparable>} called {@code list}.
-     * This method performs a decremental merge sort operation on a sublist of the {@code list} between
-     * the indices <i>0</i> and {@code list.size()}.
+     * This method performs a decremental merge sort operation on the whole {@code list}.
      * <ul>
-     *     <li>It creates a new {@link java.util.ArrayList ArrayList} called buffer and initializes it with
-     *     the contents of the original {@code list} by passing it as an argument to the {@code ArrayList}
-     *     constructor.</li>
-     *     <li>It calls another method named {@code mergeInc} with the {@code buffer}, <i>0</i>, {@code list.size()},
-     *     and the original {@code list} as arguments.
-     *     This method performs the decremental merge sort operation on the {@code buffer} list, updating it in
-     *     place.</li>
-     *     <li>It clears the original list using the {@link java.util.List#clear() clear()} method.</li>
-     *     <li>It adds all the elements from the {@code buffer} list back to the original {@code list} using
-     *     the {@link java.util.List#addAll(Collection) addAll()} method.</li>
+     *     <li>The elements are copied to an array once, with {@link java.util.List#toArray(Object[]) toArray}.</li>
+     *     <li>The array is sorted by {@code merge3Dec}, so every three-way merge is played by the same
+     *     {@code LoserTree} on the array, without the bounds checks and interface calls of the list.</li>
+     *     <li>The sorted elements are written back by a single {@link java.util.ListIterator ListIterator} pass.</li>
      * </ul>
      * {@code merge3Dec} method serves as a wrapper for the {@code mergeDec} method,
      * providing the necessary setup and cleanup steps for the decremental merge sort algorithm.
      * @param       list The list to be sorted.
-     * @see         Merge3#mergeDec(List, int, int, List)
+     * @see         Merge3#merge3Dec(Comparable[])
+     * @see         github.magyarzoli.Sorter#sortListAsArray(List, java.util.function.Consumer)
      */
     protected <L extends Comparable> void merge3Dec(List<L> list) {
-        List<L> buffer = new ArrayList<>(list);
-        mergeDec(buffer, 0, list.size(), list);
-        list.clear();
-        list.addAll(buffer);
+        sortListAsArray(list, array -> merge3Dec(array));
     }
 
     /**
-     * {@code merge3} method, which is responsible for performing a merge operation on
-     * the entire {@code list} using a temporary {@code buffer} list.
-     * This method utilizes the {@code merge} method to merge the sorted sublists.
+     * {@code merge3} method, which is responsible for performing a merge operation on the entire {@code list}.
      * <ul>
-     *     <li>It creates a new {@link java.util.ArrayList ArrayList} called buffer and initializes it with
-     *     the contents of the original {@code list} by passing it as an argument to the {@code ArrayList}
-     *     constructor.</li>
-     *     <li>It calls another method named {@code mergeInc} with
-     *     the {@code buffer}, <i>0</i>, {@code list.size()}, and the original {@code list} as arguments.
-     *     This method performs a merge sort operation on the wash specified by
-     *     the {@code function} on the {@code buffer} list, updating it in place.</li>
-     *     <li>It clears the original list using the {@link java.util.List#clear() clear()} method.</li>
-     *     <li>It adds all the elements from the {@code buffer} list back to the original {@code list} using
-     *     the {@link java.util.List#addAll(Collection) addAll()} method.</li>
+     *     <li>The elements are copied to an array once, with {@link java.util.List#toArray(Object[]) toArray}.</li>
+     *     <li>The array is sorted by {@code merge3} in the order specified by the {@code functional},
+     *     so every three-way merge is played by the same {@code LoserTree} on the array.</li>
+     *     <li>The sorted elements are written back by a single {@link java.util.ListIterator ListIterator} pass.</li>
      * </ul>
-     * {@code merge3} method essentially creates a temporary copy of the original list,
-     * performs the merge operation on the copy, and then copies the merged elements back to the original list.
      * This allows the original list to be sorted using the merge operation.
      * @param       list The list to be sorted.
      * @param       functional lambda expression for comparison.
-     * @see         Merge3#merge(List, int, int, List, SortFunctional)
+     * @see         Merge3#merge3(Comparable[], SortFunctional)
+     * @see         github.magyarzoli.Sorter#sortListAsArray(List, java.util.function.Consumer)
      */
     protected <L extends Comparable> void merge3(List<L> list, SortFunctional<Comparable> functional) {
-        List<L> buffer = new ArrayList<>(list);
-        merge(buffer, 0, list.size(), list, functional);
-        list.clear();
-        list.addAll(buffer);
+        sortListAsArray(list, array -> merge3(array, functional));
     }
 
     /**
@@ -625,29 +622,21 @@ public class Merge3
      * This method performs an incremental merge sort operation on a sublist of the {@code list} between the indices
      * {@code left} and {@code right}.
      * <ul>
-     *     <li>It creates a new {@link java.util.ArrayList ArrayList} called buffer and initializes it with
-     *     the contents of the original {@code list} by passing it as an argument to the {@code ArrayList}
-     *     constructor.</li>
-     *     <li>It calls another method named {@code mergeInc} with the {@code buffer}, {@code left}, {@code right},
-     *     and the original {@code list} as arguments.
-     *     This method performs the incremental merge sort operation on the {@code buffer} list, updating it
-     *     in place.</li>
-     *     <li>It clears the original list using the {@link java.util.List#clear() clear()} method.</li>
-     *     <li>It adds all the elements from the {@code buffer} list back to the original {@code list} using
-     *     the {@link java.util.List#addAll(Collection) addAll()} method.</li>
+     *     <li>The elements of the {@link java.util.List#subList(int, int) subList} are copied to an array once.</li>
+     *     <li>The array is sorted by {@code merge3Inc}, every three-way merge is played by the same
+     *     {@code LoserTree}.</li>
+     *     <li>The sorted elements are written back by a single {@link java.util.ListIterator ListIterator} pass,
+     *     the elements outside the range are not touched.</li>
      * </ul>
      * {@code merge3Inc} method serves as a wrapper for the {@code mergeInc} method,
      * providing the necessary setup and cleanup steps for the incremental merge sort algorithm.
      * @param       list The list to be sorted.
      * @param       left indices representing the range of elements to be sorted.
      * @param       right indices representing the range of elements to be sorted.
-     * @see         Merge3#mergeInc(List, int, int, List)
+     * @see         Merge3#merge3Inc(List)
      */
     protected <L extends Comparable> void merge3Inc(List<L> list, int left, int right) {
-        List<L> buffer = new ArrayList<>(list);
-        mergeInc(buffer, left, right, list);
-        list.clear();
-        list.addAll(buffer);
+        merge3Inc(list.subList(left, right));
     }
 
     /**
@@ -656,61 +645,42 @@ public class Merge3
      * This method performs a decremental merge sort operation on a sublist of the {@code list} between the indices
      * {@code left} and {@code right}.
      * <ul>
-     *     <li>It creates a new {@link java.util.ArrayList ArrayList} called buffer and initializes it with
-     *     the contents of the original {@code list} by passing it as an argument to the {@code ArrayList}
-     *     constructor.</li>
-     *     <li>It calls another method named {@code mergeInc} with the {@code buffer}, {@code left}, {@code right},
-     *     and the original {@code list} as arguments.
-     *     This method performs the decremental merge sort operation on the {@code buffer} list, updating it
-     *     in place.</li>
-     *     <li>It clears the original list using the {@link java.util.List#clear() clear()} method.</li>
-     *     <li>It adds all the elements from the {@code buffer} list back to the original {@code list} using
-     *     the {@link java.util.List#addAll(Collection) addAll()} method.</li>
+     *     <li>The elements of the {@link java.util.List#subList(int, int) subList} are copied to an array once.</li>
+     *     <li>The array is sorted by {@code merge3Dec}, every three-way merge is played by the same
+     *     {@code LoserTree}.</li>
+     *     <li>The sorted elements are written back by a single {@link java.util.ListIterator ListIterator} pass,
+     *     the elements outside the range are not touched.</li>
      * </ul>
-     * {@code merge3Dec} method serves as a wrapper for the {@code mergeInc} method,
-     * providing the necessary setup and cleanup steps for the incremental merge sort algorithm.
+     * {@code merge3Dec} method serves as a wrapper for the {@code mergeDec} method,
+     * providing the necessary setup and cleanup steps for the decremental merge sort algorithm.
      * @param       list The list to be sorted.
      * @param       left indices representing the range of elements to be sorted.
      * @param       right indices representing the range of elements to be sorted.
-     * @see         Merge3#mergeDec(List, int, int, List)
+     * @see         Merge3#merge3Dec(List)
      */
     protected <L extends Comparable> void merge3Dec(List<L> list, int left, int right) {
-        List<L> buffer = new ArrayList<>(list);
-        mergeDec(buffer, left, right, list);
-        list.clear();
-        list.addAll(buffer);
+        merge3Dec(list.subList(left, right));
     }
 
     /**
      * {@code merge3} method, which is responsible for performing a merge operation on
-     * the entire {@code list} using a temporary {@code buffer} list.
-     * This method utilizes the {@code merge} method to merge the sorted subarrays.
+     * the sublist of the {@code list} between the indices {@code left} and {@code right}.
      * <ul>
-     *     <li>It creates a new {@link java.util.ArrayList ArrayList} called buffer and initializes it with
-     *     the contents of the original {@code list} by passing it as an argument to the {@code ArrayList}
-     *     constructor.</li>
-     *     <li>It calls another method named {@code mergeInc} with
-     *     the {@code buffer}, {@code left}, {@code right}, and the original {@code list} as arguments.
-     *     This method performs a merge sort operation on the wash specified by
-     *     the {@code function} on the {@code buffer} list, updating it in place.</li>
-     *     <li>It clears the original list using the {@link java.util.List#clear() clear()} method.</li>
-     *     <li>It adds all the elements from the {@code buffer} list back to the original {@code list} using
-     *     the {@link java.util.List#addAll(Collection) addAll()} method.</li>
+     *     <li>The elements of the {@link java.util.List#subList(int, int) subList} are copied to an array once.</li>
+     *     <li>The array is sorted by {@code merge3} in the order specified by the {@code functional},
+     *     every three-way merge is played by the same {@code LoserTree}.</li>
+     *     <li>The sorted elements are written back by a single {@link java.util.ListIterator ListIterator} pass,
+     *     the elements outside the range are not touched.</li>
      * </ul>
-     * {@code merge3} method essentially creates a temporary copy of the original list,
-     * performs the merge operation on the copy, and then copies the merged elements back to the original list.
      * This allows the original list to be sorted using the merge operation.
      * @param       list The list to be sorted.
      * @param       left indices representing the range of elements to be sorted.
      * @param       right indices representing the range of elements to be sorted.
      * @param       functional lambda expression for comparison.
-     * @see         Merge3#merge(List, int, int, List, SortFunctional)
+     * @see         Merge3#merge3(List, SortFunctional)
      */
     protected <L extends Comparable> void merge3(
             List<L> list, int left, int right, SortFunctional<Comparable> functional) {
-        List<L> buffer = new ArrayList<>(list);
-        merge(buffer, left, right, list, functional);
-        list.clear();
-        list.addAll(buffer);
+        merge3(list.subList(left, right), functional);
     }
 }
\ No newline at end of file
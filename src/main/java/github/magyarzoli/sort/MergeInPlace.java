@@ -534,4 +534,107 @@ public class MergeInPlace
             }
         }
     }
+
+    /**
+     * {@inheritDoc}
+     * The portions are merged in place, the {@code buffer} is not used.
+     * @param       array to be arranged.
+     * @param       left from the array, index value, must be smaller than the {@code mid} and {@code right} value.
+     * @param       mid from the array, index value, must be smaller than the {@code right} value, and must be greater
+     *                  than the {@code left}.
+     * @param       right from the array, index value, must be greater than the {@code left} and {@code mid} value.
+     * @param       buffer not used.
+     * @see         MergeInPlace#mergingInc(Comparable[], int, int, int)
+     */
+    @Override
+    public void mergingInc(Comparable[] array, int left, int mid, int right, Comparable[] buffer) {
+        mergingInc(array, left, mid, right);
+    }
+
+    /**
+     * {@inheritDoc}
+     * The portions are merged in place, the {@code buffer} is not used.
+     * @param       array to be arranged.
+     * @param       left from the array, index value, must be smaller than the {@code mid} and {@code right} value.
+     * @param       mid from the array, index value, must be smaller than the {@code right} value, and must be greater
+     *                  than the {@code left}.
+     * @param       right from the array, index value, must be greater than the {@code left} and {@code mid} value.
+     * @param       buffer not used.
+     * @see         MergeInPlace#mergingDec(Comparable[], int, int, int)
+     */
+    @Override
+    public void mergingDec(Comparable[] array, int left, int mid, int right, Comparable[] buffer) {
+        mergingDec(array, left, mid, right);
+    }
+
+    /**
+     * {@inheritDoc}
+     * The portions are merged in place, the {@code buffer} is not used.
+     * @param       array to be arranged.
+     * @param       left from the array, index value, must be smaller than the {@code mid} and {@code right} value.
+     * @param       mid from the array, index value, must be smaller than the {@code right} value, and must be greater
+     *                  than the {@code left}.
+     * @param       right from the array, index value, must be greater than the {@code left} and {@code mid} value.
+     * @param       buffer not used.
+     * @param       functional lambda expression for comparison.
+     * @see         MergeInPlace#merging(Comparable[], int, int, int, SortFunctional)
+     */
+    @Override
+    public void merging(Comparable[] array, int left, int mid, int right, Comparable[] buffer,
+                        SortFunctional<Comparable> functional) {
+        merging(array, left, mid, right, functional);
+    }
+
+    /**
+     * {@inheritDoc}
+     * The portions are merged in place, the {@code buffer} is not used.
+     * @param       list to be arranged.
+     * @param       left from the list, index value, must be smaller than the {@code mid} and {@code right} value.
+     * @param       mid from the list, index value, must be smaller than the {@code right} value, and must be greater
+     *              than the {@code left}.
+     * @param       right from the list, index value, must be greater than the {@code left} and {@code mid} value.
+     * @param       buffer not used.
+     * @param       <L> the type of elements in the list.
+     * @see         MergeInPlace#mergingInc(List, int, int, int)
+     */
+    @Override
+    public <L extends Comparable> void mergingInc(List<L> list, int left, int mid, int right, Comparable[] buffer) {
+        mergingInc(list, left, mid, right);
+    }
+
+    /**
+     * {@inheritDoc}
+     * The portions are merged in place, the {@code buffer} is not used.
+     * @param       list to be arranged.
+     * @param       left from the list, index value, must be smaller than the {@code mid} and {@code right} value.
+     * @param       mid from the list, index value, must be smaller than the {@code right} value, and must be greater
+     *              than the {@code left}.
+     * @param       right from the list, index value, must be greater than the {@code left} and {@code mid} value.
+     * @param       buffer not used.
+     * @param       <L> the type of elements in the list.
+     * @see         MergeInPlace#mergingDec(List, int, int, int)
+     */
+    @Override
+    public <L extends Comparable> void mergingDec(List<L> list, int left, int mid, int right, Comparable[] buffer) {
+        mergingDec(list, left, mid, right);
+    }
+
+    /**
+     * {@inheritDoc}
+     * The portions are merged in place, the {@code buffer} is not used.
+     * @param       list to be arranged.
+     * @param       left from the list, index value, must be smaller than the {@code mid} and {@code right} value.
+     * @param       mid from the list, index value, must be smaller than the {@code right} value, and must be greater
+     *              than the {@code left}.
+     * @param       right from the list, index value, must be greater than the {@code left} and {@code mid} value.
+     * @param       buffer not used.
+     * @param       functional lambda expression for comparison.
+     * @param       <L> the type of elements in the list.
+     * @see         MergeInPlace#merging(List, int, int, int, SortFunctional)
+     */
+    @Override
+    public <L extends Comparable> void merging(
+            List<L> list, int left, int mid, int right, Comparable[] buffer, SortFunctional<Comparable> functional) {
+        merging(list, left, mid, right, functional);
+    }
 }
\ No newline at end of file
@@ -2,6 +2,7 @@ package github.magyarzoli.sort;
 
 import github.magyarzoli.InsertionInterface;
 import github.magyarzoli.SortFunctional;
+import github.magyarzoli.SortScratch;
 import github.magyarzoli.sort.intro.IntroMergeInsertion;
 
 import java.util.List;
@@ -25,6 +26,11 @@ public class MergeInsertion
      */
     protected int MERGE_THRESHOLD = 10;
 
+    /**
+     * The insertions find the place of the elements by binary search.
+     */
+    protected final boolean binaryInsertion;
+
     /**
      * <b>Merge Insertion Sort:</b><br>
      * Merge Insertion Sort or the Ford–Johnson algorithm is a comparison sorting algorithm.
@@ -59,9 +65,48 @@ public class MergeInsertion
      * Average Case Complexity: <em>O(n log(n))</em><br>
      * Auxiliary Space:         <em>O(n)</em><br>
      * Stability:               <b>Yes</b>
+     * @see         FordJohnson#FordJohnson() FordJohnson
      * @see         IntroMergeInsertion#IntroMergeInsertion() IntroMergeInsertion
      */
-    public MergeInsertion() {}
+    public MergeInsertion() {
+        this(false);
+    }
+
+    /**
+     * <b>Merge Insertion Sort:</b><br>
+     * With binary insertion of the short ranges, if {@code binaryInsertion} is {@code true}.
+     * The place of each element is found by <em>O(log(k))</em> comparisons, and the others are shifted in bulk,
+     * the better choice when the comparison is expensive.
+     * @param       binaryInsertion the insertions are binary.
+     * @see         MergeInsertion#MergeInsertion() MergeInsertion
+     * @see         InsertionInterface#binaryInsertion()
+     */
+    public MergeInsertion(boolean binaryInsertion) {
+        this(binaryInsertion, null);
+    }
+
+    /**
+     * <b>Merge Insertion Sort:</b><br>
+     * With binary insertion if {@code binaryInsertion} is {@code true},
+     * borrows the auxiliary arrays from the {@code scratch} arena of the caller.
+     * @param       binaryInsertion the insertions are binary.
+     * @param       scratch the arena of the auxiliary arrays, {@code null} for the arena of the current thread.
+     * @see         MergeInsertion#MergeInsertion(boolean) MergeInsertion
+     * @see         Merge#Merge(SortScratch) Merge
+     */
+    public MergeInsertion(boolean binaryInsertion, SortScratch scratch) {
+        super(scratch);
+        this.binaryInsertion = binaryInsertion;
+    }
+
+    /**
+     * {@inheritDoc}
+     * @return      {@code true} if the insertions are binary.
+     */
+    @Override
+    public boolean binaryInsertion() {
+        return binaryInsertion;
+    }
 
     /**
      * {@inheritDoc}
@@ -225,6 +270,7 @@ public class MergeInsertion
      *     on the left and right halves of the subarray.</li>
      *     <li>Finally, it calls the {@code mergingInc} method to merge the two sorted halves of the subarray.</li>
      * </ul>
+     * A single buffer, at least {@code (right + 1)} long, is borrowed for the range, and reused by every merge.
      * By using the insertion sort optimization for small subarrays, the algorithm aims to improve
      * the performance of merge sort when dealing with smaller chunks of data.
      * Insertion sort is generally more efficient than merge sort for small arrays,
@@ -233,17 +279,34 @@ public class MergeInsertion
      * @param       left The starting index of the subarray to be sorted.
      * @param       right The ending index (exclusive) of the subarray to be sorted.
      * @see         InsertionInterface#insertionInc(Comparable[], int, int)
-     * @see         Merge#mergingInc(Comparable[], int, int, int)
+     * @see         MergeInsertion#mergeInsertionInc(Comparable[], int, int, Comparable[])
      */
     protected void mergeInsertionInc(Comparable[] array, int left, int right) {
+        Comparable[] buffer = scratch().borrow((right + 1));
+        mergeInsertionInc(array, left, right, buffer);
+        scratch().release(buffer, (right + 1));
+    }
+
+    /**
+     * {@code mergeInsertionInc} sorts the range from {@code left} to {@code right} by merge sort,
+     * and by insertion sort below the {@code MERGE_THRESHOLD}, using the {@code buffer} for every merge,
+     * so nothing is allocated.
+     * @param       array to be arranged.
+     * @param       left The starting index of the subarray to be sorted.
+     * @param       right The ending index of the subarray to be sorted.
+     * @param       buffer an auxiliary array, at least as long as {@code (right + 1)}.
+     * @see         InsertionInterface#insertionInc(Comparable[], int, int)
+     * @see         MergeInterface#mergingInc(Comparable[], int, int, int, Comparable[])
+     */
+    protected void mergeInsertionInc(Comparable[] array, int left, int right, Comparable[] buffer) {
         if (left < right) {
             if ((right - left) <= MERGE_THRESHOLD) {
                 insertionInc(array, left, right);
             } else {
                 int mid = (left + ((right - left) / 2));
-                mergeInsertionInc(array, left, mid);
-                mergeInsertionInc(array, (mid + 1), right);
-                mergingInc(array, left, mid, right);
+                mergeInsertionInc(array, left, mid, buffer);
+                mergeInsertionInc(array, (mid + 1), right, buffer);
+                mergingInc(array, left, mid, right, buffer);
             }
         }
     }
@@ -268,6 +331,7 @@ public class MergeInsertion
      *     on the left and right halves of the subarray.</li>
      *     <li>Finally, it calls the {@code mergingDec} method to merge the two sorted halves of the subarray.</li>
      * </ul>
+     * A single buffer, at least {@code (right + 1)} long, is borrowed for the range, and reused by every merge.
      * By using the insertion sort optimization for small subarrays, the algorithm aims to improve
      * the performance of merge sort when dealing with smaller chunks of data.
      * Insertion sort is generally more efficient than merge sort for small arrays,
@@ -275,18 +339,35 @@ public class MergeInsertion
      * @param       array to be arranged.
      * @param       left The starting index of the subarray to be sorted.
      * @param       right The ending index (exclusive) of the subarray to be sorted.
-     * @see         InsertionInterface#insertionInc(Comparable[], int, int)
-     * @see         Merge#mergingInc(Comparable[], int, int, int)
+     * @see         InsertionInterface#insertionDec(Comparable[], int, int)
+     * @see         MergeInsertion#mergeInsertionDec(Comparable[], int, int, Comparable[])
      */
     protected void mergeInsertionDec(Comparable[] array, int left, int right) {
+        Comparable[] buffer = scratch().borrow((right + 1));
+        mergeInsertionDec(array, left, right, buffer);
+        scratch().release(buffer, (right + 1));
+    }
+
+    /**
+     * {@code mergeInsertionDec} sorts the range from {@code left} to {@code right} by merge sort,
+     * and by insertion sort below the {@code MERGE_THRESHOLD}, using the {@code buffer} for every merge,
+     * so nothing is allocated.
+     * @param       array to be arranged.
+     * @param       left The starting index of the subarray to be sorted.
+     * @param       right The ending index of the subarray to be sorted.
+     * @param       buffer an auxiliary array, at least as long as {@code (right + 1)}.
+     * @see         InsertionInterface#insertionDec(Comparable[], int, int)
+     * @see         MergeInterface#mergingDec(Comparable[], int, int, int, Comparable[])
+     */
+    protected void mergeInsertionDec(Comparable[] array, int left, int right, Comparable[] buffer) {
         if (left < right) {
             if ((right - left) <= MERGE_THRESHOLD) {
                 insertionDec(array, left, right);
             } else {
                 int mid = (left + ((right - left) / 2));
-                mergeInsertionDec(array, left, mid);
-                mergeInsertionDec(array, (mid + 1), right);
-                mergingDec(array, left, mid, right);
+                mergeInsertionDec(array, left, mid, buffer);
+                mergeInsertionDec(array, (mid + 1), right, buffer);
+                mergingDec(array, left, mid, right, buffer);
             }
         }
     }
@@ -315,6 +396,7 @@ public class MergeInsertion
      *     the range ({@code left} to {@code mid} and {@code (mid + 1)} to {@code right}) into a single sorted
      *     range.</li>
      * </ul>
+     * A single buffer, at least {@code (right + 1)} long, is borrowed for the range, and reused by every merge.
      * By using the insertion sort optimization for small subarrays, the algorithm aims to improve
      * the performance of merge sort when dealing with smaller chunks of data.
      * Insertion sort is generally more efficient than merge sort for small arrays,
@@ -324,17 +406,36 @@ public class MergeInsertion
      * @param       right The ending index (exclusive) of the subarray to be sorted.
      * @param       functional lambda expression for comparison.
      * @see         InsertionInterface#insertion(Comparable[], int, int, SortFunctional)
-     * @see         Merge#merging(Comparable[], int, int, int, SortFunctional)
+     * @see         MergeInsertion#mergeInsertion(Comparable[], int, int, Comparable[], SortFunctional)
      */
     protected void mergeInsertion(Comparable[] array, int left, int right, SortFunctional<Comparable> functional) {
+        Comparable[] buffer = scratch().borrow((right + 1));
+        mergeInsertion(array, left, right, buffer, functional);
+        scratch().release(buffer, (right + 1));
+    }
+
+    /**
+     * {@code mergeInsertion} sorts the range from {@code left} to {@code right} by merge sort,
+     * and by insertion sort below the {@code MERGE_THRESHOLD}, using the {@code buffer} for every merge,
+     * so nothing is allocated.
+     * @param       array to be arranged.
+     * @param       left The starting index of the subarray to be sorted.
+     * @param       right The ending index of the subarray to be sorted.
+     * @param       buffer an auxiliary array, at least as long as {@code (right + 1)}.
+     * @param       functional lambda expression for comparison.
+     * @see         InsertionInterface#insertion(Comparable[], int, int, SortFunctional)
+     * @see         MergeInterface#merging(Comparable[], int, int, int, Comparable[], SortFunctional)
+     */
+    protected void mergeInsertion(
+            Comparable[] array, int left, int right, Comparable[] buffer, SortFunctional<Comparable> functional) {
         if (left < right) {
             if ((right - left) <= MERGE_THRESHOLD) {
                 insertion(array, left, right, functional);
             } else {
                 int mid = (left + ((right - left) / 2));
-                mergeInsertion(array, left, mid, functional);
-                mergeInsertion(array, (mid + 1), right, functional);
-                merging(array, left, mid, right, functional);
+                mergeInsertion(array, left, mid, buffer, functional);
+                mergeInsertion(array, (mid + 1), right, buffer, functional);
+                merging(array, left, mid, right, buffer, functional);
             }
         }
     }
@@ -445,6 +546,7 @@ public class MergeInsertion
      *     on the left and right halves of the sublist.</li>
      *     <li>Finally, it calls the {@code mergingInc} method to merge the two sorted halves of the sublist.</li>
      * </ul>
+     * A single buffer, at least {@code (right - left + 1)} long, is borrowed for the range, and reused by every merge.
      * By using the insertion sort optimization for small sublist, the algorithm aims to improve
      * the performance of merge sort when dealing with smaller chunks of data.
      * Insertion sort is generally more efficient than merge sort for small arrays,
@@ -453,17 +555,35 @@ public class MergeInsertion
      * @param       left The starting index of the sublist to be sorted.
      * @param       right The ending index (exclusive) of the sublist to be sorted.
      * @see         InsertionInterface#insertionInc(Comparable[], int, int)
-     * @see         Merge#mergingInc(Comparable[], int, int, int)
+     * @see         MergeInsertion#mergeInsertionInc(List, int, int, Comparable[])
      */
     protected <L extends Comparable> void mergeInsertionInc(List<L> list, int left, int right) {
+        Comparable[] buffer = scratch().borrow((right - left + 1));
+        mergeInsertionInc(list, left, right, buffer);
+        scratch().release(buffer, (right - left + 1));
+    }
+
+    /**
+     * {@code mergeInsertionInc} sorts the range from {@code left} to {@code right} by merge sort,
+     * and by insertion sort below the {@code MERGE_THRESHOLD}, using the {@code buffer} for every merge,
+     * so nothing is allocated.
+     * @param       list to be arranged.
+     * @param       left The starting index of the sublist to be sorted.
+     * @param       right The ending index of the sublist to be sorted.
+     * @param       buffer an auxiliary array, at least as long as {@code (right - left + 1)}.
+     * @param       <L> the type of elements in the list.
+     * @see         InsertionInterface#insertionInc(List, int, int)
+     * @see         MergeInterface#mergingInc(List, int, int, int, Comparable[])
+     */
+    protected <L extends Comparable> void mergeInsertionInc(List<L> list, int left, int right, Comparable[] buffer) {
         if (left < right) {
             if ((right - left) <= MERGE_THRESHOLD) {
                 insertionInc(list, left, right);
             } else {
                 int mid = (left + ((right - left) / 2));
-                mergeInsertionInc(list, left, mid);
-                mergeInsertionInc(list, (mid + 1), right);
-                mergingInc(list, left, mid, right);
+                mergeInsertionInc(list, left, mid, buffer);
+                mergeInsertionInc(list, (mid + 1), right, buffer);
+                mergingInc(list, left, mid, right, buffer);
             }
         }
     }
@@ -488,6 +608,7 @@ public class MergeInsertion
      *     on the left and right halves of the sublist.</li>
      *     <li>Finally, it calls the {@code mergingDec} method to merge the two sorted halves of the sublist.</li>
      * </ul>
+     * A single buffer, at least {@code (right - left + 1)} long, is borrowed for the range, and reused by every merge.
      * By using the insertion sort optimization for small sublists, the algorithm aims to improve
      * the performance of merge sort when dealing with smaller chunks of data.
      * Insertion sort is generally more efficient than merge sort for small arrays,
@@ -496,17 +617,35 @@ public class MergeInsertion
      * @param       left The starting index of the sublist to be sorted.
      * @param       right The ending index (exclusive) of the sublist to be sorted.
      * @see         InsertionInterface#insertionInc(Comparable[], int, int)
-     * @see         Merge#mergingInc(Comparable[], int, int, int)
+     * @see         MergeInsertion#mergeInsertionDec(List, int, int, Comparable[])
      */
     protected <L extends Comparable> void mergeInsertionDec(List<L> list, int left, int right) {
+        Comparable[] buffer = scratch().borrow((right - left + 1));
+        mergeInsertionDec(list, left, right, buffer);
+        scratch().release(buffer, (right - left + 1));
+    }
+
+    /**
+     * {@code mergeInsertionDec} sorts the range from {@code left} to {@code right} by merge sort,
+     * and by insertion sort below the {@code MERGE_THRESHOLD}, using the {@code buffer} for every merge,
+     * so nothing is allocated.
+     * @param       list to be arranged.
+     * @param       left The starting index of the sublist to be sorted.
+     * @param       right The ending index of the sublist to be sorted.
+     * @param       buffer an auxiliary array, at least as long as {@code (right - left + 1)}.
+     * @param       <L> the type of elements in the list.
+     * @see         InsertionInterface#insertionDec(List, int, int)
+     * @see         MergeInterface#mergingDec(List, int, int, int, Comparable[])
+     */
+    protected <L extends Comparable> void mergeInsertionDec(List<L> list, int left, int right, Comparable[] buffer) {
         if (left < right) {
             if ((right - left) <= MERGE_THRESHOLD) {
                 insertionDec(list, left, right);
             } else {
                 int mid = (left + ((right - left) / 2));
-                mergeInsertionDec(list, left, mid);
-                mergeInsertionDec(list, (mid + 1), right);
-                mergingDec(list, left, mid, right);
+                mergeInsertionDec(list, left, mid, buffer);
+                mergeInsertionDec(list, (mid + 1), right, buffer);
+                mergingDec(list, left, mid, right, buffer);
             }
         }
     }
@@ -535,6 +674,7 @@ public class MergeInsertion
      *     the range ({@code left} to {@code mid} and {@code (mid + 1)} to {@code right}) into a single sorted
      *     range.</li>
      * </ul>
+     * A single buffer, at least {@code (right - left + 1)} long, is borrowed for the range, and reused by every merge.
      * By using the insertion sort optimization for small sublists, the algorithm aims to improve
      * the performance of merge sort when dealing with smaller chunks of data.
      * Insertion sort is generally more efficient than merge sort for small arrays,
@@ -544,18 +684,38 @@ public class MergeInsertion
      * @param       right The ending index (exclusive) of the sublist to be sorted.
      * @param       functional lambda expression for comparison.
      * @see         InsertionInterface#insertion(Comparable[], int, int, SortFunctional)
-     * @see         Merge#merging(Comparable[], int, int, int, SortFunctional)
+     * @see         MergeInsertion#mergeInsertion(List, int, int, Comparable[], SortFunctional)
      */
     protected <L extends Comparable> void mergeInsertion(
             List<L> list, int left, int right, SortFunctional<Comparable> functional) {
+        Comparable[] buffer = scratch().borrow((right - left + 1));
+        mergeInsertion(list, left, right, buffer, functional);
+        scratch().release(buffer, (right - left + 1));
+    }
+
+    /**
+     * {@code mergeInsertion} sorts the range from {@code left} to {@code right} by merge sort,
+     * and by insertion sort below the {@code MERGE_THRESHOLD}, using the {@code buffer} for every merge,
+     * so nothing is allocated.
+     * @param       list to be arranged.
+     * @param       left The starting index of the sublist to be sorted.
+     * @param       right The ending index of the sublist to be sorted.
+     * @param       buffer an auxiliary array, at least as long as {@code (right - left + 1)}.
+     * @param       functional lambda expression for comparison.
+     * @param       <L> the type of elements in the list.
+     * @see         InsertionInterface#insertion(List, int, int, SortFunctional)
+     * @see         MergeInterface#merging(List, int, int, int, Comparable[], SortFunctional)
+     */
+    protected <L extends Comparable> void mergeInsertion(
+            List<L> list, int left, int right, Comparable[] buffer, SortFunctional<Comparable> functional) {
         if (left < right) {
             if ((right - left) <= MERGE_THRESHOLD) {
                 insertion(list, left, right, functional);
             } else {
                 int mid = (left + ((right - left) / 2));
-                mergeInsertion(list, left, mid, functional);
-                mergeInsertion(list, (mid + 1), right, functional);
-                merging(list, left, mid, right, functional);
+                mergeInsertion(list, left, mid, buffer, functional);
+                mergeInsertion(list, (mid + 1), right, buffer, functional);
+                merging(list, left, mid, right, buffer, functional);
             }
         }
     }
@@ -2,11 +2,8 @@ package github.magyarzoli.sort;
 
 import github.magyarzoli.MergeInterface;
 import github.magyarzoli.SortFunctional;
-import github.magyarzoli.SortList;
-import github.magyarzoli.SortSwap;
 import github.magyarzoli.sort.intro.IntroOddEvenMerge;
 
-import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -46,18 +43,16 @@ public class OddEvenMerge
      * where pairs of adjacent elements can be compared and swapped simultaneously.
      * By sorting and merging the odd and even elements separately,
      * the algorithm exploits this parallelism and improves the sorting performance.<br><br>
-     * It's important to note that the odd-even merge sort algorithm has a complexity of <em>O(n^2)</em> in the worst
-     * case,
-     * where n is the number of elements in the array.
-     * However, it can achieve better performance on parallel architectures due to its parallel nature.<br><br>
      * Stability: Odd-even merge sort is a stable sorting algorithm.
      * This means that the relative order of elements with equal values is preserved after sorting.
      * If two elements have the same value, the algorithm ensures that their original order is maintained in the
      * sorted array.<br><br>
+     * The sorted halves are merged by the galloping merges of {@link MergeInterface}, so halves already in order
+     * are merged after a single comparison, and reversed halves are swapped without further comparisons.<br><br>
      * <b>Property:</b><br>
-     * Worst Case Complexity:   <em>O(n^2)</em><br>
-     * Best Case Complexity:    <em>O(n^2)</em><br>
-     * Average Case Complexity: <em>O(n^2)</em><br>
+     * Worst Case Complexity:   <em>O(n log(n))</em><br>
+     * Best Case Complexity:    <em>O(n log(n))</em><br>
+     * Average Case Complexity: <em>O(n log(n))</em><br>
      * Auxiliary Space:         <em>O(n)</em><br>
      * Stability:               <b>Yes</b>
      * @see         IntroOddEvenMerge#IntroOddEvenMerge() IntroOddEvenMerge
@@ -122,663 +117,216 @@ public class OddEvenMerge
     }
 
     /**
-     * {@code oddEvenMergeInc} takes an array of {@link java.lang.Comparable Comparable} objects,
-     * along with the indices <i>0</i> and {@code array.length} indicating the range of elements to be sorted.
-     * The Odd-even Merge Sort algorithm.
-     * This algorithm is a parallel sorting algorithm that works by dividing the array into two halves, sorting them
-     * recursively,
-     * and then merging them back together.
-     * <ul>
-     *     <li>The {@link java.lang.SuppressWarnings @SuppressWarnings}{@code ("unchecked")} annotation is used to s
-     *     uppress compiler
-     *     warnings related to unchecked type casting when using the {@link java.lang.Comparable#compareTo(Object)
-     *     compareTo} method.
-     *     This annotation is not directly related to the functionality of the method but rather a way to handle
-     *     warnings.</li>
-     *     <li>The variable {@code n} is initialized with the value of {@code array.length},
-     *     representing the number of elements to be sorted in the current recursion.
-     *     If {@code n} is less than or equal to <i>1</i>,
-     *     the method returns, as there is no need to sort an array with <i>0</i> or <i>1</i> element.</li>
-     *     <li>The variable {@code mid} is set to {@code (n / 2)}, representing the midpoint of the current range.</li>
-     *     <li>Two new arrays, {@code oddHalf} and {@code evenHalf}, are created using
-     *     {@link java.util.Arrays#copyOfRange(Object[], int, int) Arrays.copyOfRange}.
-     *     {@code oddHalf} contains the elements from index <i>0</i> to {@code (mid - 1)} of the original array,
-     *     and {@code evenHalf} contains the elements from index {@code mid} to {@code (n - 1)}.</li>
-     *     <li>The {@code oddEvenMergeInc} method is recursively called on both {@code oddHalf} and {@code evenHalf} to
-     *     sort them.</li>
-     *     <li>A loop iterates from <i>0</i> to {@code (mid - 1)}.
-     *     For iteration, it compares the element at index {@code i} with the element at index {@code (i + mid)} in the
-     *     original array.
-     *     If the element at index {@code i} is greater than the element at index {@code (i + mid)},
-     *     a {@code swap} method is called to swap the two elements.</li>
-     * </ul>
-     * Finally, the {@code mergingInc} method is called with the original array, {@code oddHalf},
-     * and {@code evenHalf} as arguments to merge the two sorted halves back into the original array.
+     * {@code oddEvenMergeInc} arranges the whole array in increasing order.
      * @param       array to be arranged.
-     * @see         SortSwap#swap(Comparable[], int, int)
-     * @see         MergeInterface#mergingInc(Comparable[], Comparable[], Comparable[])
+     * @see         OddEvenMerge#oddEvenMergeInc(Comparable[], int, int)
      */
-    @SuppressWarnings("unchecked")
     protected void oddEvenMergeInc(Comparable[] array) {
-        int n = array.length;
-        if (n <= 1) {
-            return;
-        }
-        int mid = (n / 2);
-        Comparable[] oddHalf = Arrays.copyOfRange(array, 0, mid);
-        Comparable[] evenHalf = Arrays.copyOfRange(array, mid, n);
-        oddEvenMergeInc(oddHalf);
-        oddEvenMergeInc(evenHalf);
-        for (int i = 0; i < mid; i++) {
-            if (array[i].compareTo(array[(i + mid)]) > 0) {
-                swap(array, i, mid);
-            }
-        }
-        mergingInc(array, oddHalf, evenHalf);
+        oddEvenMergeInc(array, 0, array.length);
     }
 
     /**
-     * {@code oddEvenMergeDec} takes an array of {@link java.lang.Comparable Comparable} objects,
-     * along with the indices <i>0</i> and {@code array.length} indicating the range of elements to be sorted.
-     * The Odd-even Merge Sort algorithm.
-     * This algorithm is a parallel sorting algorithm that works by dividing the array into two halves, sorting them
-     * recursively,
-     * and then merging them back together.
-     * <ul>
-     *     <li>The {@link java.lang.SuppressWarnings @SuppressWarnings}{@code ("unchecked")} annotation is used to
-     *     suppress compiler
-     *     warnings related to unchecked type casting when using the {@link java.lang.Comparable#compareTo(Object)
-     *     compareTo} method.
-     *     This annotation is not directly related to the functionality of the method but rather a way to handle
-     *     warnings.</li>
-     *     <li>The variable {@code n} is initialized with the value of {@code array.length},
-     *     representing the number of elements to be sorted in the current recursion.
-     *     If {@code n} is less than or equal to <i>1</i>,
-     *     the method returns, as there is no need to sort an array with <i>0</i> or <i>1</i> element.</li>
-     *     <li>The variable {@code mid} is set to {@code (n / 2)}, representing the midpoint of the current range.</li>
-     *     <li>Two new arrays, {@code oddHalf} and {@code evenHalf}, are created using
-     *     {@link java.util.Arrays#copyOfRange(Object[], int, int) Arrays.copyOfRange}.
-     *     {@code oddHalf} contains the elements from index <i>0</i> to {@code (mid - 1)} of the original array,
-     *     and {@code evenHalf} contains the elements from index {@code mid} to {@code (n - 1)}.</li>
-     *     <li>The {@code oddEvenMergeDec} method is recursively called on both {@code oddHalf} and {@code evenHalf} to
-     *     sort them.</li>
-     *     <li>A loop iterates from <i>0</i> to {@code (mid - 1)}.
-     *     For iteration, it compares the element at index {@code i} with the element at index {@code (i + mid)} in
-     *     the original array.
-     *     If the element at index {@code i} is smaller than the element at index {@code (i + mid)},
-     *     a {@code swap} method is called to swap the two elements.</li>
-     * </ul>
-     * Finally, the {@code mergingDec} method is called with the original array, {@code oddHalf},
-     * and {@code evenHalf} as arguments to merge the two sorted halves back into the original array.
+     * {@code oddEvenMergeDec} arranges the whole array in decreasing order.
      * @param       array to be arranged.
-     * @see         SortSwap#swap(Comparable[], int, int)
-     * @see         MergeInterface#mergingDec(Comparable[], Comparable[], Comparable[])
+     * @see         OddEvenMerge#oddEvenMergeDec(Comparable[], int, int)
      */
-    @SuppressWarnings("unchecked")
     protected void oddEvenMergeDec(Comparable[] array) {
-        int n = array.length;
-        if (n <= 1) {
-            return;
-        }
-        int mid = (n / 2);
-        Comparable[] oddHalf = Arrays.copyOfRange(array, 0, mid);
-        Comparable[] evenHalf = Arrays.copyOfRange(array, mid, n);
-        oddEvenMergeDec(oddHalf);
-        oddEvenMergeDec(evenHalf);
-        for (int i = 0; i < mid; i++) {
-            if (array[i].compareTo(array[(i + mid)]) < 0) {
-                swap(array, i, mid);
-            }
-        }
-        mergingDec(array, oddHalf, evenHalf);
+        oddEvenMergeDec(array, 0, array.length);
     }
 
     /**
-     * {@code oddEvenMerge} method takes an array of {@link java.lang.Comparable Comparable} objects.
-     * It also takes a {@code SortFunctional<Comparable>} object representing the custom comparison logic to be used
-     * for sorting.
-     * <ul>
-     *     <li>The method starts with a base case check: if the {@code n} index is less than or equal to <i>1</i>,
-     *     indicating that there are <i>0</i> or <i>1</i> elements in the range,
-     *     the method simply returns, as there is nothing to sort.</li>
-     *     <li>Next, the method calculates the {@code mid} index, which represents the midpoint of the range.
-     *     The array is then divided into two halves: {@code oddHalf} and {@code evenHalf}.
-     *     The {@link java.util.Arrays#copyOfRange(Object[], int, int) Arrays.copyOfRange} method
-     *     is used to create new arrays containing the elements from {@code array} within the specified ranges.</li>
-     *     <li>The {@code oddEvenMerge} method is then recursively called on {@code oddHalf} and {@code evenHalf},
-     *     applying the same sorting algorithm to each half.</li>
-     *     <li>After the recursive calls, a loop iterates from <i>0</i> to {@code mid},
-     *     comparing each element with its corresponding element in the second half {@code (i + mid)}.
-     *     If the comparison using the {@code functionalCompareTo} method indicates that
-     *     the current element is greater than its corresponding element,
-     *     the {@code swap} method is called to swap the elements.</li>
-     *     <li>Finally, the {@code merging} method is called to merge
-     *     the sorted {@code oddHalf} and {@code evenHalf} arrays back into the original {@code array}.</li>
-     * </ul>
-     * {@code oddEvenMerge} method combines the divide-and-conquer approach with the odd-even merge step to sort
-     * the elements in the specified range using the provided comparison logic.
+     * {@code oddEvenMerge} arranges the whole array in the order of the {@code functional}.
      * @param       array to be arranged.
      * @param       functional lambda expression for comparison.
-     * @see         SortFunctional#functionalCompareTo(Comparable, Comparable)
-     * @see         SortSwap#swap(Comparable[], int, int)
-     * @see         MergeInterface#merging(Comparable[], Comparable[], Comparable[], SortFunctional)
+     * @see         OddEvenMerge#oddEvenMerge(Comparable[], int, int, SortFunctional)
      */
     protected void oddEvenMerge(Comparable[] array, SortFunctional<Comparable> functional) {
-        int n = array.length;
-        if (n <= 1) {
-            return;
-        }
-        int mid = (n / 2);
-        Comparable[] oddHalf = Arrays.copyOfRange(array, 0, mid);
-        Comparable[] evenHalf = Arrays.copyOfRange(array, mid, n);
-        oddEvenMerge(oddHalf, functional);
-        oddEvenMerge(evenHalf, functional);
-        for (int i = 0; i < mid; i++) {
-            if (functional.functionalCompareTo(array[i], array[(i + mid)])) {
-                swap(array, i, mid);
-            }
-        }
-        merging(array, oddHalf, evenHalf, functional);
+        oddEvenMerge(array, 0, array.length, functional);
     }
 
     /**
-     * {@code oddEvenMergeInc} takes an array of {@link java.lang.Comparable Comparable} objects,
-     * along with the indices {@code left} and {@code right} indicating the range of elements to be sorted.
-     * The Odd-even Merge Sort algorithm.
-     * This algorithm is a parallel sorting algorithm that works by dividing the array into two halves, sorting them
-     * recursively,
-     * and then merging them back together.
+     * {@code oddEvenMergeInc} arranges the range of the array from {@code left} to {@code right} (exclusive)
+     * in increasing order.
      * <ul>
-     *     <li>The {@link java.lang.SuppressWarnings @SuppressWarnings}{@code ("unchecked")} annotation is used to
-     *     suppress compiler
-     *     warnings related to unchecked type casting when using the {@link java.lang.Comparable#compareTo(Object)
-     *     compareTo} method.
-     *     This annotation is not directly related to the functionality of the method but rather a way to handle
-     *     warnings.</li>
-     *     <li>The variable {@code n} is initialized with the value of {@code right},
-     *     representing the number of elements to be sorted in the current recursion.
-     *     If {@code n} is less than or equal to <i>1</i>,
-     *     the method returns, as there is no need to sort an array with <i>0</i> or <i>1</i> element.</li>
-     *     <li>The variable {@code mid} is set to {@code (n / 2)}, representing the midpoint of the current range.</li>
-     *     <li>Two new arrays, {@code oddHalf} and {@code evenHalf}, are created using
-     *     {@link java.util.Arrays#copyOfRange(Object[], int, int) Arrays.copyOfRange}.
-     *     {@code oddHalf} contains the elements from index <i>0</i> to {@code (mid - 1)} of the original array,
-     *     and {@code evenHalf} contains the elements from index {@code mid} to {@code (n - 1)}.</li>
-     *     <li>The {@code oddEvenMergeInc} method is recursively called on both {@code oddHalf} and {@code evenHalf} to
-     *     sort them.</li>
-     *     <li>A loop iterates from {@code left} to {@code (mid - 1)}.
-     *     For iteration, it compares the element at index {@code i} with the element at index {@code (i + mid)} in the
-     *     original array.
-     *     If the element at index {@code i} is greater than the element at index {@code (i + mid)},
-     *     a {@code swap} method is called to swap the two elements.</li>
+     *     <li>A single scratch array is borrowed from the arena of {@code scratch} for the whole sort,
+     *     and the range is copied to it once.</li>
+     *     <li>The halves are sorted recursively, the levels of the recursion merge alternately from the scratch to
+     *     the {@code array} and from the {@code array} to the scratch, so no half is copied to an array of its
+     *     own, and nothing is copied back.</li>
+     *     <li>The sorted halves are merged by {@code mergingInto}, the galloping merge from one array to the
+     *     other.</li>
      * </ul>
-     * Finally, the {@code mergingInc} method is called with the original array, {@code oddHalf},
-     * and {@code evenHalf} as arguments to merge the two sorted halves back into the original array.
+     * {@code oddEvenMergeInc} borrows one array per sort, however deep the recursion is, and it is stable.
      * @param       array to be arranged.
-     * @param       left specific range of the array.
-     * @param       right specific range of the array.
-     * @see         OddEvenMerge#oddEvenMergeInc(Comparable[])
-     * @see         SortSwap#swap(Comparable[], int, int)
-     * @see         MergeInterface#mergingInc(Comparable[], Comparable[], Comparable[])
+     * @param       left the first index of the range.
+     * @param       right the end of the range (exclusive).
+     * @see         MergeInterface#mergeInto(Comparable[], Comparable[], int, int, SortFunctional)
      */
     @SuppressWarnings("unchecked")
     protected void oddEvenMergeInc(Comparable[] array, int left, int right) {
-        if (right <= 1) {
+        if ((right - left) <= 1) {
             return;
         }
-        int mid = (right / 2);
-        Comparable[] oddHalf = Arrays.copyOfRange(array, 0, mid);
-        Comparable[] evenHalf = Arrays.copyOfRange(array, mid, right);
-        oddEvenMergeInc(oddHalf);
-        oddEvenMergeInc(evenHalf);
-        for (int i = left; i < mid; i++) {
-            if (array[i].compareTo(array[(i + mid)]) > 0) {
-                swap(array, i, mid);
-            }
-        }
-        mergingInc(array, oddHalf, evenHalf);
+        Comparable[] buffer = scratch().borrow(right);
+        System.arraycopy(array, left, buffer, left, (right - left));
+        mergeInto(buffer, array, left, (right - 1), (a, b) -> a.compareTo(b) > 0);
+        scratch().release(buffer, right);
     }
 
     /**
-     * {@code oddEvenMergeDec} takes an array of {@link java.lang.Comparable Comparable} objects,
-     * along with the indices {@code left} and {@code right} indicating the range of elements to be sorted.
-     * The Odd-even Merge Sort algorithm.
-     * This algorithm is a parallel sorting algorithm that works by dividing the array into two halves, sorting them
-     * recursively,
-     * and then merging them back together.
+     * {@code oddEvenMergeDec} arranges the range of the array from {@code left} to {@code right} (exclusive)
+     * in decreasing order.
      * <ul>
-     *     <li>The {@link java.lang.SuppressWarnings @SuppressWarnings}{@code ("unchecked")} annotation is used to
-     *     suppress compiler
-     *     warnings related to unchecked type casting when using the {@link java.lang.Comparable#compareTo(Object)
-     *     compareTo} method.
-     *     This annotation is not directly related to the functionality of the method but rather a way to handle
-     *     warnings.</li>
-     *     <li>The variable {@code n} is initialized with the value of {@code right},
-     *     representing the number of elements to be sorted in the current recursion.
-     *     If {@code n} is less than or equal to <i>1</i>,
-     *     the method returns, as there is no need to sort an array with <i>0</i> or <i>1</i> element.</li>
-     *     <li>The variable {@code mid} is set to {@code (n / 2)}, representing the midpoint of the current range.</li>
-     *     <li>Two new arrays, {@code oddHalf} and {@code evenHalf}, are created using
-     *     {@link java.util.Arrays#copyOfRange(Object[], int, int) Arrays.copyOfRange}.
-     *     {@code oddHalf} contains the elements from index <i>0</i> to {@code (mid - 1)} of the original array,
-     *     and {@code evenHalf} contains the elements from index {@code mid} to {@code (n - 1)}.</li>
-     *     <li>The {@code oddEvenMergeDec} method is recursively called on both {@code oddHalf} and {@code evenHalf} to
-     *     sort them.</li>
-     *     <li>A loop iterates from {@code left} to {@code (mid - 1)}.
-     *     For iteration, it compares the element at index {@code i} with the element at index {@code (i + mid)} in the
-     *     original array.
-     *     If the element at index {@code i} is smaller than the element at index {@code (i + mid)},
-     *     a {@code swap} method is called to swap the two elements.</li>
+     *     <li>A single scratch array is borrowed from the arena of {@code scratch} for the whole sort,
+     *     and the range is copied to it once.</li>
+     *     <li>The halves are sorted recursively, the levels of the recursion merge alternately from the scratch to
+     *     the {@code array} and from the {@code array} to the scratch, so no half is copied to an array of its
+     *     own, and nothing is copied back.</li>
+     *     <li>The sorted halves are merged by {@code mergingInto}, the galloping merge from one array to the
+     *     other.</li>
      * </ul>
-     * Finally, the {@code mergingDec} method is called with the original array, {@code oddHalf},
-     * and {@code evenHalf} as arguments to merge the two sorted halves back into the original array.
+     * {@code oddEvenMergeDec} borrows one array per sort, however deep the recursion is, and it is stable.
      * @param       array to be arranged.
-     * @param       left specific range of the array.
-     * @param       right specific range of the array.
-     * @see         OddEvenMerge#oddEvenMergeDec(Comparable[])
-     * @see         SortSwap#swap(Comparable[], int, int)
-     * @see         MergeInterface#mergingDec(Comparable[], Comparable[], Comparable[])
+     * @param       left the first index of the range.
+     * @param       right the end of the range (exclusive).
+     * @see         MergeInterface#mergeInto(Comparable[], Comparable[], int, int, SortFunctional)
      */
     @SuppressWarnings("unchecked")
     protected void oddEvenMergeDec(Comparable[] array, int left, int right) {
-        if (right <= 1) {
+        if ((right - left) <= 1) {
             return;
         }
-        int mid = (right / 2);
-        Comparable[] oddHalf = Arrays.copyOfRange(array, 0, mid);
-        Comparable[] evenHalf = Arrays.copyOfRange(array, mid, right);
-        oddEvenMergeDec(oddHalf);
-        oddEvenMergeDec(evenHalf);
-        for (int i = left; i < mid; i++) {
-            if (array[i].compareTo(array[(i + mid)]) < 0) {
-                swap(array, i, mid);
-            }
-        }
-        mergingDec(array, oddHalf, evenHalf);
+        Comparable[] buffer = scratch().borrow(right);
+        System.arraycopy(array, left, buffer, left, (right - left));
+        mergeInto(buffer, array, left, (right - 1), (a, b) -> a.compareTo(b) < 0);
+        scratch().release(buffer, right);
     }
 
     /**
-     * {@code oddEvenMerge} method takes an array of {@link java.lang.Comparable Comparable} objects,
-     * along with the {@code left} and {@code right} indices specifying the range of elements to be sorted.
-     * It also takes a {@code SortFunctional<Comparable>} object representing the custom comparison logic to be used
-     * for sorting.
+     * {@code oddEvenMerge} arranges the range of the array from {@code left} to {@code right} (exclusive)
+     * in the order of the {@code functional}.
      * <ul>
-     *     <li>The method starts with a base case check: if the {@code right} index is less than or equal to <i>1</i>,
-     *     indicating that there are <i>0</i> or <i>1</i> elements in the range,
-     *     the method simply returns, as there is nothing to sort.</li>
-     *     <li>Next, the method calculates the {@code mid} index, which represents the midpoint of the range.
-     *     The array is then divided into two halves: {@code oddHalf} and {@code evenHalf}.
-     *     The {@link java.util.Arrays#copyOfRange(Object[], int, int) Arrays.copyOfRange} method
-     *     is used to create new arrays containing the elements from {@code array} within the specified ranges.</li>
-     *     <li>The {@code oddEvenMerge} method is then recursively called on {@code oddHalf} and {@code evenHalf},
-     *     applying the same sorting algorithm to each half.</li>
-     *     <li>After the recursive calls, a loop iterates from {@code left} to {@code mid},
-     *     comparing each element with its corresponding element in the second half {@code (i + mid)}.
-     *     If the comparison using the {@code functionalCompareTo} method indicates that
-     *     the current element is greater than its corresponding element,
-     *     the {@code swap} method is called to swap the elements.</li>
-     *     <li>Finally, the {@code merging} method is called to merge
-     *     the sorted {@code oddHalf} and {@code evenHalf} arrays back into the original {@code array}.</li>
+     *     <li>A single scratch array is borrowed from the arena of {@code scratch} for the whole sort,
+     *     and the range is copied to it once.</li>
+     *     <li>The halves are sorted recursively, the levels of the recursion merge alternately from the scratch to
+     *     the {@code array} and from the {@code array} to the scratch, so no half is copied to an array of its
+     *     own, and nothing is copied back.</li>
+     *     <li>The sorted halves are merged by {@code mergingInto}, the galloping merge from one array to the
+     *     other.</li>
      * </ul>
-     * {@code oddEvenMerge} method combines the divide-and-conquer approach with the odd-even merge step to sort
-     * the elements in the specified range using the provided comparison logic.
+     * {@code oddEvenMerge} borrows one array per sort, however deep the recursion is, and it is stable.
      * @param       array to be arranged.
-     * @param       left specific range of the array.
-     * @param       right specific range of the array.
+     * @param       left the first index of the range.
+     * @param       right the end of the range (exclusive).
      * @param       functional lambda expression for comparison.
-     * @see         OddEvenMerge#oddEvenMerge(Comparable[], SortFunctional)
-     * @see         SortFunctional#functionalCompareTo(Comparable, Comparable)
-     * @see         SortSwap#swap(Comparable[], int, int)
-     * @see         MergeInterface#merging(Comparable[], Comparable[], Comparable[], SortFunctional)
+     * @see         MergeInterface#mergeInto(Comparable[], Comparable[], int, int, SortFunctional)
      */
     protected void oddEvenMerge(Comparable[] array, int left, int right, SortFunctional<Comparable> functional) {
-        if (right <= 1) {
+        if ((right - left) <= 1) {
             return;
         }
-        int mid = (right / 2);
-        Comparable[] oddHalf = Arrays.copyOfRange(array, 0, mid);
-        Comparable[] evenHalf = Arrays.copyOfRange(array, mid, right);
-        oddEvenMerge(oddHalf, functional);
-        oddEvenMerge(evenHalf, functional);
-        for (int i = left; i < mid; i++) {
-            if (functional.functionalCompareTo(array[i], array[(i + mid)])) {
-                swap(array, i, mid);
-            }
-        }
-        merging(array, oddHalf, evenHalf, functional);
+        Comparable[] buffer = scratch().borrow(right);
+        System.arraycopy(array, left, buffer, left, (right - left));
+        mergeInto(buffer, array, left, (right - 1), functional);
+        scratch().release(buffer, right);
     }
 
     /**
-     * {@code oddEvenMergeInc} takes a list of {@link java.lang.Comparable Comparable} objects,
-     * along with the indices <i>0</i> and {@code list.size()} indicating the range of elements to be sorted.
-     * The Odd-even Merge Sort algorithm.
-     * This algorithm is a parallel sorting algorithm that works by dividing the list into two halves, sorting them
-     * recursively,
-     * and then merging them back together.
-     * <ul>
-     *     <li>The {@link java.lang.SuppressWarnings @SuppressWarnings}{@code ("unchecked")} annotation is used to
-     *     suppress compiler
-     *     warnings related to unchecked type casting when using the {@link java.lang.Comparable#compareTo(Object)
-     *     compareTo} method.
-     *     This annotation is not directly related to the functionality of the method but rather a way to handle
-     *     warnings.</li>
-     *     <li>The variable {@code n} is initialized with the value of {@code list.length},
-     *     representing the number of elements to be sorted in the current recursion.
-     *     If {@code n} is less than or equal to <i>1</i>,
-     *     the method returns, as there is no need to sort an list with <i>0</i> or <i>1</i> element.</li>
-     *     <li>The variable {@code mid} is set to {@code (n / 2)}, representing the midpoint of the current range.</li>
-     *     <li>It creates two new sublists, {@code oddHalf} and {@code evenHalf}, by calling the {@code addBetween}
-     *     method with different ranges.
-     *     {@code oddHalf} contains the elements from index <i>0</i> to {@code mid}, and
-     *     {@code evenHalf} contains the elements from {@code mid} to {@code right}.</li>
-     *     <li>The {@code oddEvenMergeInc} method is recursively called on both {@code oddHalf} and {@code evenHalf}
-     *     to sort them.</li>
-     *     <li>A loop iterates from <i>0</i> to {@code (mid - 1)}.
-     *     For iteration, it compares the element at index {@code i} with the element at index {@code (i + mid)} in
-     *     the original list.
-     *     If the element at index {@code i} is greater than the element at index {@code (i + mid)},
-     *     a {@code swap} method is called to swap the two elements.</li>
-     * </ul>
-     * Finally, the {@code mergingInc} method is called with the original list, {@code oddHalf},
-     * and {@code evenHalf} as arguments to merge the two sorted halves back into the original list.
+     * {@code oddEvenMergeInc} arranges the whole list in increasing order.
      * @param       list to be arranged.
-     * @see         SortList#addBetween(List, int, int)
-     * @see         SortSwap#swap(List, int, int)
-     * @see         MergeInterface#mergingInc(List, List, List)
+     * @param       <L> the type of elements in the list.
+     * @see         OddEvenMerge#oddEvenMergeInc(List, int, int)
      */
-    @SuppressWarnings("unchecked")
     protected <L extends Comparable> void oddEvenMergeInc(List<L> list) {
-        int n = list.size();
-        if (n <= 1) {
-            return;
-        }
-        int mid = (n / 2);
-        List<L> oddHalf = addBetween(list, 0, mid);
-        List<L> evenHalf = addBetween(list, mid, n);
-        oddEvenMergeInc(oddHalf);
-        oddEvenMergeInc(evenHalf);
-        for (int i = 0; i < mid; i++) {
-            if (list.get(i).compareTo(list.get(i + mid)) > 0) {
-                swap(list, i, mid);
-            }
-        }
-        mergingInc(list, oddHalf, evenHalf);
+        oddEvenMergeInc(list, 0, list.size());
     }
 
     /**
-     * {@code oddEvenMergeDec} takes a list of {@link java.lang.Comparable Comparable} objects,
-     * along with the indices <i>0</i> and {@code list.size()} indicating the range of elements to be sorted.
-     * The Odd-even Merge Sort algorithm.
-     * This algorithm is a parallel sorting algorithm that works by dividing the list into two halves, sorting them
-     * recursively,
-     * and then merging them back together.
-     * <ul>
-     *     <li>The {@link java.lang.SuppressWarnings @SuppressWarnings}{@code ("unchecked")} annotation is used to
-     *     suppress compiler
-     *     warnings related to unchecked type casting when using the {@link java.lang.Comparable#compareTo(Object)
-     *     compareTo} method.
-     *     This annotation is not directly related to the functionality of the method but rather a way to handle
-     *     warnings.</li>
-     *     <li>The variable {@code n} is initialized with the value of {@code list.length},
-     *     representing the number of elements to be sorted in the current recursion.
-     *     If {@code n} is less than or equal to <i>1</i>,
-     *     the method returns, as there is no need to sort an list with <i>0</i> or <i>1</i> element.</li>
-     *     <li>The variable {@code mid} is set to {@code (n / 2)}, representing the midpoint of the current range.</li>
-     *     <li>It creates two new sublists, {@code oddHalf} and {@code evenHalf}, by calling the {@code addBetween}
-     *     method with different ranges.
-     *     {@code oddHalf} contains the elements from index <i>0</i> to {@code mid}, and
-     *     {@code evenHalf} contains the elements from {@code mid} to {@code right}.</li>
-     *     <li>The {@code oddEvenMergeDec} method is recursively called on both {@code oddHalf} and {@code evenHalf}
-     *     to sort them.</li>
-     *     <li>A loop iterates from <i>0</i> to {@code (mid - 1)}.
-     *     For iteration, it compares the element at index {@code i} with the element at index {@code (i + mid)} in
-     *     the original list.
-     *     If the element at index {@code i} is smaller than the element at index {@code (i + mid)},
-     *     a {@code swap} method is called to swap the two elements.</li>
-     * </ul>
-     * Finally, the {@code mergingDec} method is called with the original list, {@code oddHalf},
-     * and {@code evenHalf} as arguments to merge the two sorted halves back into the original list.
+     * {@code oddEvenMergeDec} arranges the whole list in decreasing order.
      * @param       list to be arranged.
-     * @see         SortList#addBetween(List, int, int)
-     * @see         SortSwap#swap(List, int, int)
-     * @see         MergeInterface#mergingDec(List, List, List)
+     * @param       <L> the type of elements in the list.
+     * @see         OddEvenMerge#oddEvenMergeDec(List, int, int)
      */
-    @SuppressWarnings("unchecked")
     protected <L extends Comparable> void oddEvenMergeDec(List<L> list) {
-        int n = list.size();
-        if (n <= 1) {
-            return;
-        }
-        int mid = (n / 2);
-        List<L> oddHalf = addBetween(list, 0, mid);
-        List<L> evenHalf = addBetween(list, mid, n);
-        oddEvenMergeDec(oddHalf);
-        oddEvenMergeDec(evenHalf);
-        for (int i = 0; i < mid; i++) {
-            if (list.get(i).compareTo(list.get(i + mid)) < 0) {
-                swap(list, i, mid);
-            }
-        }
-        mergingDec(list, oddHalf, evenHalf);
+        oddEvenMergeDec(list, 0, list.size());
     }
 
     /**
-     * {@code oddEvenMerge} method takes a list of {@link java.lang.Comparable Comparable} objects.
-     * It also takes a {@code SortFunctional<Comparable>} object representing the custom comparison logic to be used
-     * for sorting.
-     * <ul>
-     *     <li>The method starts with a base case check: if the {@code n} index is less than or equal to <i>1</i>,
-     *     indicating that there are <i>0</i> or <i>1</i> elements in the range,
-     *     the method simply returns, as there is nothing to sort.</li>
-     *     <li>It creates two new sublists, {@code oddHalf} and {@code evenHalf}, by calling the {@code addBetween}
-     *     method with different ranges.
-     *     {@code oddHalf} contains the elements from index <i>0</i> to {@code mid}, and
-     *     {@code evenHalf} contains the elements from {@code mid} to {@code right}.</li>
-     *     <li>The {@code oddEvenMerge} method is then recursively called on {@code oddHalf} and {@code evenHalf},
-     *     applying the same sorting algorithm to each half.</li>
-     *     <li>After the recursive calls, a loop iterates from <i>0</i> to {@code mid},
-     *     comparing each element with its corresponding element in the second half {@code (i + mid)}.
-     *     If the comparison using the {@code functionalCompareTo} method indicates that
-     *     the current element is greater than its corresponding element,
-     *     the {@code swap} method is called to swap the elements.</li>
-     *     <li>Finally, the {@code merging} method is called to merge
-     *     the sorted {@code oddHalf} and {@code evenHalf} arrays back into the original {@code list}.</li>
-     * </ul>
-     * {@code oddEvenMerge} method combines the divide-and-conquer approach with the odd-even merge step to sort
-     * the elements in the specified range using the provided comparison logic.
+     * {@code oddEvenMerge} arranges the whole list in the order of the {@code functional}.
      * @param       list to be arranged.
      * @param       functional lambda expression for comparison.
-     * @see         SortList#addBetween(List, int, int)
-     * @see         SortFunctional#functionalCompareTo(Comparable, Comparable)
-     * @see         SortSwap#swap(List, int, int)
-     * @see         MergeInterface#merging(List, List, List, SortFunctional)
+     * @param       <L> the type of elements in the list.
+     * @see         OddEvenMerge#oddEvenMerge(List, int, int, SortFunctional)
      */
     protected <L extends Comparable> void oddEvenMerge(List<L> list, SortFunctional<Comparable> functional) {
-        int n = list.size();
-        if (n <= 1) {
-            return;
-        }
-        int mid = (n / 2);
-        List<L> oddHalf = addBetween(list, 0, mid);
-        List<L> evenHalf = addBetween(list, mid, n);
-        oddEvenMerge(oddHalf, functional);
-        oddEvenMerge(evenHalf, functional);
-        for (int i = 0; i < mid; i++) {
-            if (functional.functionalCompareTo(list.get(i), list.get(i + mid))) {
-                swap(list, i, mid);
-            }
-        }
-        merging(list, oddHalf, evenHalf, functional);
+        oddEvenMerge(list, 0, list.size(), functional);
     }
 
     /**
-     * {@code oddEvenMergeInc} takes an list of {@link java.lang.Comparable Comparable} objects,
-     * along with the indices {@code left} and {@code right} indicating the range of elements to be sorted.
-     * The Odd-even Merge Sort algorithm.
-     * This algorithm is a parallel sorting algorithm that works by dividing the list into two halves, sorting them
-     * recursively,
-     * and then merging them back together.
+     * {@code oddEvenMergeInc} arranges the range of the list from {@code left} to {@code right} (exclusive)
+     * in increasing order.
      * <ul>
-     *     <li>The {@link java.lang.SuppressWarnings @SuppressWarnings}{@code ("unchecked")} annotation is used to
-     *     suppress compiler
-     *     warnings related to unchecked type casting when using the {@link java.lang.Comparable#compareTo(Object)
-     *     compareTo} method.
-     *     This annotation is not directly related to the functionality of the method but rather a way to handle
-     *     warnings.</li>
-     *     <li>The variable {@code n} is initialized with the value of {@code right},
-     *     representing the number of elements to be sorted in the current recursion.
-     *     If {@code n} is less than or equal to <i>1</i>,
-     *     the method returns, as there is no need to sort an list with <i>0</i> or <i>1</i> element.</li>
-     *     <li>The variable {@code mid} is set to {@code (n / 2)}, representing the midpoint of the current range.</li>
-     *     <li>It creates two new sublists, {@code oddHalf} and {@code evenHalf}, by calling the {@code addBetween}
-     *     method with different ranges.
-     *     {@code oddHalf} contains the elements from index <i>0</i> to {@code mid}, and
-     *     {@code evenHalf} contains the elements from {@code mid} to {@code right}.</li>
-     *     <li>The {@code oddEvenMergeInc} method is recursively called on both {@code oddHalf} and {@code evenHalf}
-     *     to sort them.</li>
-     *     <li>A loop iterates from {@code left} to {@code (mid - 1)}.
-     *     For iteration, it compares the element at index {@code i} with the element at index {@code (i + mid)} in
-     *     the original list.
-     *     If the element at index {@code i} is greater than the element at index {@code (i + mid)},
-     *     a {@code swap} method is called to swap the two elements.</li>
+     *     <li>The halves are sorted recursively in the list, no half is copied to a list of its own.</li>
+     *     <li>The sorted halves are merged by {@code gallopMerging}, through a single scratch array borrowed from
+     *     the arena of {@code scratch} for the whole sort.</li>
      * </ul>
-     * Finally, the {@code mergingInc} method is called with the original list, {@code oddHalf},
-     * and {@code evenHalf} as arguments to merge the two sorted halves back into the original list.
+     * {@code oddEvenMergeInc} is stable.
      * @param       list to be arranged.
-     * @param       left specific range of the list.
-     * @param       right specific range of the list.
-     * @see         SortList#addBetween(List, int, int)
-     * @see         OddEvenMerge#oddEvenMergeInc(List)
-     * @see         SortSwap#swap(List, int, int)
-     * @see         MergeInterface#mergingInc(List, List, List)
+     * @param       left the first index of the range.
+     * @param       right the end of the range (exclusive).
+     * @param       <L> the type of elements in the list.
+     * @see         MergeInterface#mergeInc(List, int, int, int)
      */
-    @SuppressWarnings("unchecked")
     protected <L extends Comparable> void oddEvenMergeInc(List<L> list, int left, int right) {
-        if (right <= 1) {
+        if ((right - left) <= 1) {
             return;
         }
-        int mid = (right / 2);
-        List<L> oddHalf = addBetween(list, 0, mid);
-        List<L> evenHalf = addBetween(list, mid, right);
-        oddEvenMergeInc(oddHalf);
-        oddEvenMergeInc(evenHalf);
-        for (int i = left; i < mid; i++) {
-            if (list.get(i).compareTo(list.get(i + mid)) > 0) {
-                swap(list, i, mid);
-            }
-        }
-        mergingInc(list, oddHalf, evenHalf);
+        mergeInc(list, left, ((left + right - 1) / 2), (right - 1));
     }
 
     /**
-     * {@code oddEvenMergeDec} takes a list of {@link java.lang.Comparable Comparable} objects,
-     * along with the indices {@code left} and {@code right} indicating the range of elements to be sorted.
-     * The Odd-even Merge Sort algorithm.
-     * This algorithm is a parallel sorting algorithm that works by dividing the list into two halves, sorting them
-     * recursively,
-     * and then merging them back together.
+     * {@code oddEvenMergeDec} arranges the range of the list from {@code left} to {@code right} (exclusive)
+     * in decreasing order.
      * <ul>
-     *     <li>The {@link java.lang.SuppressWarnings @SuppressWarnings}{@code ("unchecked")} annotation is used to
-     *     suppress compiler
-     *     warnings related to unchecked type casting when using the {@link java.lang.Comparable#compareTo(Object)
-     *     compareTo} method.
-     *     This annotation is not directly related to the functionality of the method but rather a way to handle
-     *     warnings.</li>
-     *     <li>The variable {@code n} is initialized with the value of {@code right},
-     *     representing the number of elements to be sorted in the current recursion.
-     *     If {@code n} is less than or equal to <i>1</i>,
-     *     the method returns, as there is no need to sort an list with <i>0</i> or <i>1</i> element.</li>
-     *     <li>The variable {@code mid} is set to {@code (n / 2)}, representing the midpoint of the current range.</li>
-     *      <li>It creates two new sublists, {@code oddHalf} and {@code evenHalf}, by calling the {@code addBetween}
-     *      method with different ranges.
-     *     {@code oddHalf} contains the elements from index <i>0</i> to {@code mid}, and
-     *     {@code evenHalf} contains the elements from {@code mid} to {@code right}.</li>
-     *     <li>The {@code oddEvenMergeDec} method is recursively called on both {@code oddHalf} and {@code evenHalf}
-     *     to sort them.</li>
-     *     <li>A loop iterates from {@code left} to {@code (mid - 1)}.
-     *     For iteration, it compares the element at index {@code i} with the element at index {@code (i + mid)} in
-     *     the original list.
-     *     If the element at index {@code i} is smaller than the element at index {@code (i + mid)},
-     *     a {@code swap} method is called to swap the two elements.</li>
+     *     <li>The halves are sorted recursively in the list, no half is copied to a list of its own.</li>
+     *     <li>The sorted halves are merged by {@code gallopMerging}, through a single scratch array borrowed from
+     *     the arena of {@code scratch} for the whole sort.</li>
      * </ul>
-     * Finally, the {@code mergingDec} method is called with the original list, {@code oddHalf},
-     * and {@code evenHalf} as arguments to merge the two sorted halves back into the original list.
+     * {@code oddEvenMergeDec} is stable.
      * @param       list to be arranged.
-     * @param       left specific range of the list.
-     * @param       right specific range of the list.
-     * @see         SortList#addBetween(List, int, int)
-     * @see         OddEvenMerge#oddEvenMergeDec(List)
-     * @see         SortSwap#swap(List, int, int)
-     * @see         MergeInterface#mergingDec(List, List, List)
+     * @param       left the first index of the range.
+     * @param       right the end of the range (exclusive).
+     * @param       <L> the type of elements in the list.
+     * @see         MergeInterface#mergeDec(List, int, int, int)
      */
-    @SuppressWarnings("unchecked")
     protected <L extends Comparable> void oddEvenMergeDec(List<L> list, int left, int right) {
-        if (right <= 1) {
+        if ((right - left) <= 1) {
             return;
         }
-        int mid = (right / 2);
-        List<L> oddHalf = addBetween(list, 0, mid);
-        List<L> evenHalf = addBetween(list, mid, right);
-        oddEvenMergeDec(oddHalf);
-        oddEvenMergeDec(evenHalf);
-        for (int i = left; i < mid; i++) {
-            if (list.get(i).compareTo(list.get(i + mid)) < 0) {
-                swap(list, i, mid);
-            }
-        }
-        mergingDec(list, oddHalf, evenHalf);
+        mergeDec(list, left, ((left + right - 1) / 2), (right - 1));
     }
 
     /**
-     * {@code oddEvenMerge} method takes an list of {@link java.lang.Comparable Comparable} objects,
-     * along with the {@code left} and {@code right} indices specifying the range of elements to be sorted.
-     * It also takes a {@code SortFunctional<Comparable>} object representing the custom comparison logic to be used
-     * for sorting.
+     * {@code oddEvenMerge} arranges the range of the list from {@code left} to {@code right} (exclusive)
+     * in the order of the {@code functional}.
      * <ul>
-     *     <li>The method starts with a base case check: if the {@code right} index is less than or equal to <i>1</i>,
-     *     indicating that there are <i>0</i> or <i>1</i> elements in the range,
-     *     the method simply returns, as there is nothing to sort.</li>
-     *     <li>It creates two new sublists, {@code oddHalf} and {@code evenHalf}, by calling the {@code addBetween}
-     *     method with different ranges.
-     *     {@code oddHalf} contains the elements from index <i>0</i> to {@code mid}, and
-     *     {@code evenHalf} contains the elements from {@code mid} to {@code right}.</li>
-     *     <li>The {@code oddEvenMerge} method is then recursively called on {@code oddHalf} and {@code evenHalf},
-     *     applying the same sorting algorithm to each half.</li>
-     *     <li>After the recursive calls, a loop iterates from {@code left} to {@code mid},
-     *     comparing each element with its corresponding element in the second half {@code (i + mid)}.
-     *     If the comparison using the {@code functionalCompareTo} method indicates that
-     *     the current element is greater than its corresponding element,
-     *     the {@code swap} method is called to swap the elements.</li>
-     *     <li>Finally, the {@code merging} method is called to merge
-     *     the sorted {@code oddHalf} and {@code evenHalf} arrays back into the original {@code list}.</li>
+     *     <li>The halves are sorted recursively in the list, no half is copied to a list of its own.</li>
+     *     <li>The sorted halves are merged by {@code gallopMerging}, through a single scratch array borrowed from
+     *     the arena of {@code scratch} for the whole sort.</li>
      * </ul>
-     * {@code oddEvenMerge} method combines the divide-and-conquer approach with the odd-even merge step to sort
-     * the elements in the specified range using the provided comparison logic.
+     * {@code oddEvenMerge} is stable.
      * @param       list to be arranged.
-     * @param       left specific range of the list.
-     * @param       right specific range of the list.
+     * @param       left the first index of the range.
+     * @param       right the end of the range (exclusive).
      * @param       functional lambda expression for comparison.
-     * @see         SortList#addBetween(List, int, int)
-     * @see         OddEvenMerge#oddEvenMerge(List, SortFunctional)
-     * @see         SortFunctional#functionalCompareTo(Comparable, Comparable)
-     * @see         SortSwap#swap(List, int, int)
-     * @see         MergeInterface#merging(List, List, List, SortFunctional)
+     * @param       <L> the type of elements in the list.
+     * @see         MergeInterface#merge(List, int, int, int, SortFunctional)
      */
     protected <L extends Comparable> void oddEvenMerge(
             List<L> list, int left, int right, SortFunctional<Comparable> functional) {
-        if (right <= 1) {
+        if ((right - left) <= 1) {
             return;
         }
-        int mid = (right / 2);
-        List<L> oddHalf = addBetween(list, 0, mid);
-        List<L> evenHalf = addBetween(list, mid, right);
-        oddEvenMerge(oddHalf, functional);
-        oddEvenMerge(evenHalf, functional);
-        for (int i = left; i < mid; i++) {
-            if (functional.functionalCompareTo(list.get(i), list.get(i + mid))) {
-                swap(list, i, mid);
-            }
-        }
-        merging(list, oddHalf, evenHalf, functional);
+        merge(list, left, ((left + right - 1) / 2), (right - 1), functional);
     }
 }
\ No newline at end of file
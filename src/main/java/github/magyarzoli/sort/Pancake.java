@@ -223,7 +223,7 @@ public class Pancake
     protected void pancake(Comparable[] array, SortFunctional<Comparable> functional) {
         int n = array.length;
         for (int i = n; i > 1; i--) {
-            int value = findIndex(array, i, functional);
+            int value = findIndex(array, i, functionalComparableToReverse(functional));
             if (value != (i - 1)) {
                 flip(array, value);
                 flip(array, (i - 1));
@@ -350,7 +350,7 @@ public class Pancake
      */
     protected void pancake(Comparable[] array, int left, int right, SortFunctional<Comparable> functional) {
         for (int i = right; i > (left + 1); i--) {
-            int value = findIndex(array, left, i, functional);
+            int value = findIndex(array, left, i, functionalComparableToReverse(functional));
             if (value != (i - 1)) {
                 flip(array, left, value);
                 flip(array, left, (i - 1));
@@ -461,7 +461,7 @@ public class Pancake
     protected <L extends Comparable> void pancake(List<L> list, SortFunctional<Comparable> functional) {
         int n = list.size();
         for (int i = n; i > 1; i--) {
-            int value = findIndex(list, i, functional);
+            int value = findIndex(list, i, functionalComparableToReverse(functional));
             if (value != (i - 1)) {
                 flip(list, value);
                 flip(list, (i - 1));
@@ -588,7 +588,7 @@ public class Pancake
     protected <L extends Comparable> void pancake(
             List<L> list, int left, int right, SortFunctional<Comparable> functional) {
         for (int i = right; i > (left + 1); i--) {
-            int value = findIndex(list, left, i, functional);
+            int value = findIndex(list, left, i, functionalComparableToReverse(functional));
             if (value != (i - 1)) {
                 flip(list, left, value);
                 flip(list, left, (i - 1));
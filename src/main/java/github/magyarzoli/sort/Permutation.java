@@ -4,8 +4,11 @@ import github.magyarzoli.SortFunctional;
 import github.magyarzoli.SortSwap;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
+import java.util.ListIterator;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Permutation Sort is a simple but inefficient sorting algorithm that works by generating all possible permutations
@@ -18,6 +21,12 @@ import java.util.List;
 public class Permutation
         extends Bogo {
 
+    /**
+     * Ranges longer than this are searched by the worker threads, <i>8!</i> permutations are searched on the calling
+     * thread faster than the tasks are started.
+     */
+    protected final int PARALLEL_THRESHOLD = 8;
+
     /**
      * <b>Permutation Sort:</b><br>
      * Is a simple but inefficient sorting algorithm that works by generating all possible permutations
@@ -26,15 +35,13 @@ public class Permutation
      * to a high time complexity and is not practical for sorting large arrays.<br><br>
      * <b>Example:</b>
      * <ol>
-     *     <li>Generate Permutations for an array of {@code n} elements, Permutation Sort generates all {@code n!}
-     *     permutations of the array. It does this by swapping elements in different positions recursively until all
-     *     possible arrangements are generated.</li>
+     *     <li>Generate Permutations for an array of {@code n} elements, Permutation Sort enumerates the {@code n!}
+     *     permutations of the array one by one with Heap's algorithm, in place, every permutation differs from the
+     *     previous one by a single swap, so no permutation is ever stored.</li>
      *     <li>Check for Sorted Permutation for each generated permutation, the algorithm checks whether the current
      *     permutation is sorted in ascending order.</li>
-     *     <li>Select Sorted Permutation when a sorted permutation is found, the algorithm stops and considers that
-     *     permutation as the sorted arrangement of the array.</li>
-     *     <li>Replace Original Array the sorted permutation is then copied back to the original array, replacing the
-     *     original unsorted array.</li>
+     *     <li>Select Sorted Permutation when a sorted permutation is found, the algorithm stops, the array is left in
+     *     that permutation, and the remaining permutations are never generated.</li>
      * </ol>
      * <b>Note:</b><br>
      * The main problem with Permutation Sort is its extremely high time complexity. The algorithm generates <em>n!</em>
@@ -45,17 +52,31 @@ public class Permutation
      * While the idea of Permutation Sort might be intuitive, its inefficiency makes it unsuitable for practical
      * sorting tasks. It serves more as a theoretical example to demonstrate the importance of optimizing sorting
      * algorithms for real-world scenarios.<br><br>
-     * Permutation Sort is inherently stable because it only swaps elements within the array and doesn't involve any
-     * comparison between elements. If two elements are equal, they will remain in the same relative order after the
-     * permutation operations.<br><br>
+     * The first sorted permutation found is not always the one keeping the order of the equal elements, so
+     * Permutation Sort is not stable.<br><br>
      * <b>Property:</b><br>
      * Worst Case Complexity:   <em> O(n! * n)</em><br>
-     * Best Case Complexity:    <em> O(n! * n)</em><br>
+     * Best Case Complexity:    <em> O(n)</em><br>
      * Average Case Complexity: <em> O(n! * n)</em><br>
      * Auxiliary Space:         <em>O(n)</em><br>
-     * Stability:               <b>Yes</b>
+     * Stability:               <b>No</b>
+     */
+    public Permutation() {
+        this(1);
+    }
+
+    /**
+     * <b>Permutation Sort:</b><br>
+     * Searches the permutations of the arrays longer than {@code PARALLEL_THRESHOLD} on {@code parallelism} worker
+     * threads. The permutations are split by their last element, every worker searches the permutations of its own
+     * copy of the range, and all of them stop as soon as one finds the sorted permutation.
+     * @param       parallelism the number of worker threads, <i>1</i> searches on the calling thread.
+     * @throws      IllegalArgumentException if the {@code parallelism} is not positive.
+     * @see         Permutation#Permutation() Permutation
      */
-    public Permutation() {}
+    public Permutation(int parallelism) {
+        super(parallelism);
+    }
 
     /**
      * {@inheritDoc}
@@ -91,7 +112,7 @@ public class Permutation
      */
     @Override
     public void sortListInc(List<? extends Comparable> array) {
-        super.sortListInc(array);
+        permutationInc(array);
     }
 
     /**
@@ -100,7 +121,7 @@ public class Permutation
      */
     @Override
     public void sortListDec(List<? extends Comparable> array) {
-        super.sortListDec(array);
+        permutationDec(array);
     }
 
     /**
@@ -110,924 +131,291 @@ public class Permutation
      */
     @Override
     public void sortListFun(List<? extends Comparable> array, SortFunctional<Comparable> functional) {
-        super.sortListFun(array, functional);
+        permutation(array, functional);
     }
 
     /**
-     * {@code permutationInc} that generates a permutation of an entire array of {@link java.lang.Comparable Comparable}
-     * elements in ascending order and copies the result back to the original array.
-     * <ul>
-     *     <li>Inside the method, the {@code permuteComparableInc} method is called with the entire {@code array}.
-     *     This method generates a permutation of the entire array in ascending order.</li>
-     *     <li>The resulting sorted permutation is then copied back to the original array using
-     *     {@link java.lang.System System}.{@link java.lang.System#arraycopy(Object, int, Object, int, int) arraycopy}.
-     *     The entire {@code array} is updated with the sorted permutation, replacing the original array contents.</li>
-     * </ul>
-     * {@code permutationInc} this method generates a sorted permutation of the entire array and replaces the original
-     * array with the sorted permutation.
+     * {@code permutationInc} arranges an entire array of {@link java.lang.Comparable Comparable} elements in
+     * ascending order, by searching its permutations.
      * @param       array to be arranged.
-     * @see         Permutation#permuteComparableInc(Comparable[])
+     * @see         Permutation#permutation(Comparable[], int, int, SortFunctional)
      */
+    @SuppressWarnings("unchecked")
     protected void permutationInc(Comparable[] array) {
-        System.arraycopy(permuteComparableInc(array), 0, array, 0, array.length);
+        permutation(array, 0, array.length, (a, b) -> a.compareTo(b) > 0);
     }
 
     /**
-     * {@code permutationDec} that generates a permutation of an entire array of {@link java.lang.Comparable Comparable}
-     * elements in descending order and copies the result back to the original array.
-     * <ul>
-     *     <li>Inside the method, the {@code permuteComparableDec} method is called with the entire {@code array}.
-     *     This method generates a permutation of the entire array in descending order.</li>
-     *     <li>The resulting sorted permutation is then copied back to the original array using
-     *     {@link java.lang.System System}.{@link java.lang.System#arraycopy(Object, int, Object, int, int) arraycopy}.
-     *     The entire {@code array} is updated with the sorted permutation, replacing the original array contents.</li>
-     * </ul>
-     * {@code permutationDec} this method generates a sorted permutation of the entire array and replaces the original
-     * array with the sorted permutation.
+     * {@code permutationDec} arranges an entire array of {@link java.lang.Comparable Comparable} elements in
+     * descending order, by searching its permutations.
      * @param       array to be arranged.
-     * @see         Permutation#permuteComparableDec(Comparable[])
+     * @see         Permutation#permutation(Comparable[], int, int, SortFunctional)
      */
+    @SuppressWarnings("unchecked")
     protected void permutationDec(Comparable[] array) {
-        System.arraycopy(permuteComparableDec(array), 0, array, 0, array.length);
+        permutation(array, 0, array.length, (a, b) -> a.compareTo(b) < 0);
     }
 
     /**
-     * {@code permutation} that generates a permutation of an entire array of {@link java.lang.Comparable Comparable}
-     * elements based on a specific sorting condition defined by a {@code SortFunctional} object.
-     * <ul>
-     *     <li>Inside the method, the {@code permuteComparable} method is called with the entire {@code array} and the
-     *     {@code functional} parameter. This method generates a permutation of the entire array based on the sorting
-     *     condition defined by the {@code SortFunctional} object.</li>
-     *     <li>The resulting permutation that satisfies the sorting condition is then copied back to the original array
-     *     using {@link java.lang.System System}.
-     *     {@link java.lang.System#arraycopy(Object, int, Object, int, int) arraycopy}. The entire {@code array} is
-     *     updated with the sorted permutation, replacing the original array contents.</li>
-     * </ul>
-     * {@code permutation} this method provides a way to generate a permutation of the entire original array based on
-     * a given sorting condition, and it replaces the original array with the sorted permutation that adheres to the
-     * sorting condition.
+     * {@code permutation} arranges an entire array of {@link java.lang.Comparable Comparable} elements based on a
+     * specific sorting condition defined by a {@code SortFunctional} object, by searching its permutations.
      * @param       array to be arranged.
      * @param       functional lambda expression for comparison.
-     * @see         Permutation#permuteComparable(Comparable[], SortFunctional)
+     * @see         Permutation#permutation(Comparable[], int, int, SortFunctional)
      */
     protected void permutation(Comparable[] array, SortFunctional<Comparable> functional) {
-        System.arraycopy(permuteComparable(array, functional), 0, array, 0, array.length);
+        permutation(array, 0, array.length, functional);
     }
 
     /**
-     * {@code permutationInc} that seems to aim at generating a permutation of a subarray of {@code Comparable}
-     * elements in ascending order and copying the result back to the original array.
-     * <ul>
-     *     <li>Inside the method, the {@code permuteComparableInc} method is called with the subarray defined by the
-     *     {@code left} and {@code right} indices. This method generates a permutation of the subarray in ascending
-     *     order.</li>
-     *     <li>The resulting sorted permutation is then copied back to the original array using
-     *     {@link java.lang.System System}.{@link java.lang.System#arraycopy(Object, int, Object, int, int) arraycopy}.
-     *     The {@code array} is updated with the sorted permutation, replacing the original subarray defined by the
-     *     {@code left} and {@code right} indices.</li>
-     * </ul>
-     * {@code permutationInc} this method is a convenient way to generate a sorted permutation of a specific subarray
-     * within the original array and replace the original subarray with the sorted permutation. It takes advantage of
-     * the {@code permuteComparableInc} method to generate the sorted permutation.
+     * {@code permutationInc} arranges a subarray of {@link java.lang.Comparable Comparable} elements in ascending
+     * order, by searching its permutations.
      * @param       array to be arranged.
      * @param       left the starting index of the subarray.
-     * @param       right the ending index of the subarray.
-     * @see         Permutation#permuteComparableInc(Comparable[], int, int)
+     * @param       right the ending index (exclusive) of the subarray.
+     * @see         Permutation#permutation(Comparable[], int, int, SortFunctional)
      */
+    @SuppressWarnings("unchecked")
     protected void permutationInc(Comparable[] array, int left, int right) {
-        System.arraycopy(permuteComparableInc(array, left, right), left, array, left, right);
+        permutation(array, left, right, (a, b) -> a.compareTo(b) > 0);
     }
 
     /**
-     * {@code permutationDec} that seems to aim at generating a permutation of a subarray of {@code Comparable}
-     * elements in descending order and copying the result back to the original array.
-     * <ul>
-     *     <li>Inside the method, the {@code permuteComparableDec} method is called with the subarray defined by the
-     *     {@code left} and {@code right} indices. This method generates a permutation of the subarray in descending
-     *     order.</li>
-     *     <li>The resulting sorted permutation is then copied back to the original array using
-     *     {@link java.lang.System System}.{@link java.lang.System#arraycopy(Object, int, Object, int, int) arraycopy}.
-     *     The {@code array} is updated with the sorted permutation, replacing the original subarray defined by the
-     *     {@code left} and {@code right} indices.</li>
-     * </ul>
-     * {@code permutationDec} this method is a convenient way to generate a sorted permutation of a specific subarray
-     * within the original array and replace the original subarray with the sorted permutation. It takes advantage of
-     * the {@code permuteComparableDec} method to generate the sorted permutation.
+     * {@code permutationDec} arranges a subarray of {@link java.lang.Comparable Comparable} elements in descending
+     * order, by searching its permutations.
      * @param       array to be arranged.
      * @param       left the starting index of the subarray.
-     * @param       right the ending index of the subarray.
-     * @see         Permutation#permuteComparableDec(Comparable[], int, int)
+     * @param       right the ending index (exclusive) of the subarray.
+     * @see         Permutation#permutation(Comparable[], int, int, SortFunctional)
      */
+    @SuppressWarnings("unchecked")
     protected void permutationDec(Comparable[] array, int left, int right) {
-        System.arraycopy(permuteComparableDec(array, left, right), left, array, left, right);
+        permutation(array, left, right, (a, b) -> a.compareTo(b) < 0);
     }
 
     /**
-     * {@code permutation} that seems to generate a permutation of a subarray of {@link java.lang.Comparable Comparable}
-     * elements based on a specific sorting condition defined by a {@code SortFunctional} object.
-     * <ul>
-     *     <li>Inside the method, the {@code permuteComparable} method is called with the subarray defined by the
-     *     {@code left} and {@code right} indices and the {@code functional} parameter. This method generates a
-     *     permutation of the subarray based on the sorting condition defined by the {@code SortFunctional} object.</li>
-     *     <li>The resulting permutation that satisfies the sorting condition is then copied back to the original
-     *     array using {@link java.lang.System System}.
-     *     {@link java.lang.System#arraycopy(Object, int, Object, int, int) arraycopy}. The {@code array} is updated
-     *     with the sorted permutation, replacing the original subarray defined by the {@code left} and
-     *     {@code right} indices.</li>
-     * </ul>
-     * {@code permutation} this method provides a way to generate a permutation of a specific subarray within the
-     * original array based on a given sorting condition, and it replaces the original subarray with the sorted
-     * permutation that adheres to the sorting condition.
+     * {@code permutation} arranges a subarray of {@link java.lang.Comparable Comparable} elements based on a specific
+     * sorting condition defined by a {@code SortFunctional} object, by searching its permutations, without a budget.
      * @param       array to be arranged.
      * @param       left the starting index of the subarray.
-     * @param       right the ending index of the subarray.
+     * @param       right the ending index (exclusive) of the subarray.
      * @param       functional lambda expression for comparison.
-     * @see         Permutation#permuteComparable(Comparable[], int, int, SortFunctional)
+     * @see         Permutation#bogo(Comparable[], int, int, SortFunctional, long, long)
      */
     protected void permutation(Comparable[] array, int left, int right, SortFunctional<Comparable> functional) {
-        System.arraycopy(permuteComparable(array, left, right, functional), left, array, left, right);
-    }
-
-    /**
-     * {@code permuteComparableInc} that generates permutations of an entire array of
-     * {@link java.lang.Comparable Comparable} elements and returns the first permutation that is in ascending order.
-     * <ul>
-     *     <li>Inside the method, a new {@link java.util.ArrayList ArrayList} named {@code permutations} is created.
-     *     This list will store the generated permutations of the input array.</li>
-     *     <li>The {@code permute} method is called with the entire {@code array} and its length, along with the
-     *     {@code permutations} list. This generates all possible permutations of the input array and adds them to
-     *     the {@code permutations} list.</li>
-     *     <li>After generating the permutations and storing them in the permutations list, a loop iterates over each
-     *     {@code permutation} stored in the list.</li>
-     *     <li>For each permutation, the method {@code isSortedInc} is called to check if the permutation is in
-     *     ascending order.</li>
-     *     <li>If a permutation is found to be in ascending order, that permutation is returned from the
-     *     {@code permuteComparableInc} method.</li>
-     *     <li>If no permutation in ascending order is found, the method returns the original
-     *     {@code array} unchanged.</li>
-     * </ul>
-     * {@code permuteComparableInc} generates all permutations of the input array and then checks each permutation for
-     * ascending order. Once a sorted permutation is found, it's immediately returned. This approach could be
-     * inefficient for larger arrays due to the generation of all permutations and the subsequent sorting checks.
-     * @param       array to be arranged.
-     * @return      The original array ascending order.
-     * @see         Permutation#permute(Comparable[], int, List)
-     * @see         Bogo#isSortedInc(Comparable[])
-     */
-    protected Comparable[] permuteComparableInc(Comparable[] array) {
-        List<Comparable[]> permutations = new ArrayList<>();
-        permute(array, array.length, permutations);
-        for (Comparable[] comparable : permutations) {
-            if (isSortedInc(comparable)) {
-                return comparable;
-            }
-        }
-        return array;
-    }
-
-    /**
-     * {@code permuteComparableDec} that generates permutations of an entire array of
-     * {@link java.lang.Comparable Comparable} elements and returns the first permutation that is in descending order.
-     * <ul>
-     *     <li>Inside the method, a new {@link java.util.ArrayList ArrayList} named {@code permutations} is created.
-     *     This list will store the generated permutations of the input array.</li>
-     *     <li>The {@code permute} method is called with the entire {@code array} and its length, along with the
-     *     {@code permutations} list. This generates all possible permutations of the input array and adds them to
-     *     the {@code permutations} list.</li>
-     *     <li>After generating the permutations and storing them in the permutations list, a loop iterates over each
-     *     {@code permutation} stored in the list.</li>
-     *     <li>For each permutation, the method {@code isSortedDec} is called to check if the permutation is in
-     *     descending order.</li>
-     *     <li>If a permutation is found to be in descending order, that permutation is returned from the
-     *     {@code permuteComparableDec} method.</li>
-     *     <li>If no permutation in descending order is found, the method returns the original
-     *     {@code array} unchanged.</li>
-     * </ul>
-     * {@code permuteComparableDec} generates all permutations of the input array and then checks each permutation for
-     * descending order. Once a sorted permutation is found, it's immediately returned. This approach could be
-     * inefficient for larger arrays due to the generation of all permutations and the subsequent sorting checks.
-     * @param       array to be arranged.
-     * @return      The original array descending order.
-     * @see         Permutation#permute(Comparable[], int, List)
-     * @see         Bogo#isSortedDec(Comparable[])
-     */
-    protected Comparable[] permuteComparableDec(Comparable[] array) {
-        List<Comparable[]> permutations = new ArrayList<>();
-        permute(array, array.length, permutations);
-        for (Comparable[] comparable : permutations) {
-            if (isSortedDec(comparable)) {
-                return comparable;
-            }
-        }
-        return array;
+        bogo(array, left, right, functional, Long.MAX_VALUE, Long.MAX_VALUE);
     }
 
     /**
-     * {@code permuteComparable} that generates permutations of an entire array of {@code Comparable} elements and
-     * returns the first permutation that satisfies a specific sorting condition defined by a
-     * {@code SortFunctional} object.
+     * {@code bogo} sorts the subarray by searching its permutations, until it is sorted or the budget runs out, so
+     * the budget of {@link Bogo#sortArrayBudget(Comparable[], SortFunctional, long, long, TimeUnit) sortArrayBudget}
+     * counts the permutations instead of the random steps.
      * <ul>
-     *     <li>Inside the method, a new {@link java.util.ArrayList ArrayList} named {@code permutations} is created.
-     *     This list will store the generated permutations of the input array.</li>
-     *     <li>The {@code permute} method is called with the entire {@code array} and its length, along with the
-     *     {@code permutations} list. This generates all possible permutations of the input array and adds them to
-     *     the {@code permutations} list.</li>
-     *     <li>After generating the permutations and storing them in the permutations list, a loop iterates over
-     *     each {@code permutation} stored in the list.</li>
-     *     <li>For each permutation, the method {@code isSorted} is called with the {@code functional} parameter to
-     *     check if the permutation satisfies the sorting condition defined by the {@code SortFunctional} object.</li>
-     *     <li>If a permutation is found to satisfy the sorting condition, that permutation is returned from the
-     *     {@code permuteComparable} method.</li>
-     *     <li>If no permutation satisfying the sorting condition is found, the method returns the original
-     *     {@code array} unchanged.</li>
+     *     <li>On the calling thread, the permutations of the subarray are generated in place by {@code permute},
+     *     which stops at the first sorted one, so the subarray is left sorted.</li>
+     *     <li>If there are worker threads and the subarray is longer than the {@code PARALLEL_THRESHOLD}, the
+     *     permutations are split by their last element: the task of index {@code i} swaps the element {@code i} of
+     *     its own copy of the subarray to the end, and searches the permutations of the elements before it, with its
+     *     share of the {@code attempts}.</li>
+     *     <li>The tasks share a flag, the first task finding the sorted permutation sets it and copies its copy back
+     *     to the subarray, the other tasks stop at the next permutation.</li>
      * </ul>
-     * {@code permuteComparable} that generate all permutations of the input array and then searches for the first
-     * permutation that meets the specified sorting condition. The success of this method heavily depends on the
-     * correctness of the {@code SortFunctional} interface or class and the {@code isSorted} method.
+     * Nothing but the subarray, the counters of {@code permute} and the copies of the tasks is held in memory,
+     * and the search ends as soon as the sorted permutation is generated.
+     * If the budget runs out, the subarray is left in the last permutation of the calling thread, or unchanged if
+     * the tasks ran on the worker threads.
      * @param       array to be arranged.
+     * @param       left the starting index of the subarray.
+     * @param       right the ending index (exclusive) of the subarray.
      * @param       functional lambda expression for comparison.
-     * @return      The order of the original array defined by functions.
-     * @see         Permutation#permute(Comparable[], int, List)
-     * @see         Bogo#isSorted(Comparable[], SortFunctional)
+     * @param       attempts the maximum number of permutations, {@code Long.MAX_VALUE} for no limit.
+     * @param       nanos the maximum running time in nanoseconds, {@code Long.MAX_VALUE} for no limit.
+     * @return      whether the subarray was sorted, the number of permutations and the running time.
+     * @see         Permutation#permute(Comparable[], int, int, int, AtomicBoolean, SortFunctional, long, long, long)
      */
-    protected Comparable[] permuteComparable(Comparable[] array, SortFunctional<Comparable> functional) {
-        List<Comparable[]> permutations = new ArrayList<>();
-        permute(array, array.length, permutations);
-        for (Comparable[] comparable : permutations) {
-            if (isSorted(comparable, functional)) {
-                return comparable;
-            }
+    @Override
+    protected Result bogo(
+            Comparable[] array, int left, int right, SortFunctional<Comparable> functional, long attempts, long nanos) {
+        long start = System.nanoTime();
+        int n = (right - left);
+        if (!parallel.parallel() || (n <= PARALLEL_THRESHOLD)) {
+            return permute(array, left, right, n, null, functional, attempts, start, nanos);
         }
-        return array;
-    }
-
-    /**
-     * {@code permuteComparableInc} that aims to generate permutations of a subarray of
-     * {@link java.lang.Comparable Comparable} elements and return the first permutation that is in ascending order.
-     * <ul>
-     *     <li>Inside the method, a new {@link java.util.ArrayList ArrayList} named {@code permutations} is created.
-     *     This list will be used to store the generated permutations of the subarray.</li>
-     *     <li>The method then calls the {@code permute} method to generate permutations of the given subarray.
-     *     The generated permutations are added to the {@code permutations}.</li>
-     *     <li>After generating the permutations and storing them in the {@code permutations}, a loop iterates over
-     *     each permutation stored in the {@code permutations}.</li>
-     *     <li>For each permutation, the method {@code isSortedInc} is called to check if the permutation is in
-     *     ascending order.</li>
-     *     <li>If a permutation is found to be in ascending order, that permutation is returned from the
-     *     {@code permuteComparableInc} method.</li>
-     *     <li>If no permutation in ascending order is found, the method returns the original {@code array}
-     *     unchanged.</li>
-     * </ul>
-     * {@code permuteComparableInc} method to generate permutations of a subarray and return the first permutation that
-     * is sorted in ascending order. It utilizes the {@code isSortedInc} method to check the sorting order of a
-     * permutation.
-     * @param       array to be arranged.
-     * @param       left the starting index of the subarray.
-     * @param       right the ending index of the subarray.
-     * @return      The original array ascending order.
-     * @see         Permutation#permute(Comparable[], int, int, List)
-     * @see         Bogo#isSortedInc(Comparable[])
-     */
-    protected Comparable[] permuteComparableInc(Comparable[] array, int left, int right) {
-        List<Comparable[]> permutations = new ArrayList<>();
-        permute(array, left, right, permutations);
-        for (Comparable[] comparable : permutations) {
-            if (isSortedInc(comparable)) {
-                return comparable;
-            }
+        AtomicBoolean found = new AtomicBoolean(false);
+        Result[] results = new Result[n];
+        List<ForkJoinTask<?>> tasks = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            int last = i;
+            long share = ((attempts == Long.MAX_VALUE)
+                    ? Long.MAX_VALUE
+                    : ((attempts / n) + ((i < (attempts % n)) ? 1 : 0)));
+            tasks.add(ForkJoinTask.adapt(() -> {
+                Comparable[] copy = new Comparable[n];
+                System.arraycopy(array, left, copy, 0, n);
+                swap(copy, last, (n - 1));
+                results[last] = permute(copy, 0, n, (n - 1), found, functional, share, start, nanos);
+                if (results[last].sorted() && found.compareAndSet(false, true)) {
+                    System.arraycopy(copy, 0, array, left, n);
+                }
+            }));
         }
-        return array;
-    }
-
-    /**
-     * {@code permuteComparableDec} that aims to generate permutations of a subarray of
-     * {@link java.lang.Comparable Comparable} elements and return the first permutation that is in descending order.
-     * <ul>
-     *     <li>Inside the method, a new {@link java.util.ArrayList ArrayList} named {@code permutations} is created.
-     *     This list will be used to store the generated permutations of the subarray.</li>
-     *     <li>The method then calls the {@code permute} method to generate permutations of the given subarray.
-     *     The generated permutations are added to the {@code permutations}.</li>
-     *     <li>After generating the permutations and storing them in the {@code permutations}, a loop iterates over
-     *     each permutation stored in the {@code permutations}.</li>
-     *     <li>For each permutation, the method {@code isSortedDec} is called to check if the permutation is in
-     *     descending order.</li>
-     *     <li>If a permutation is found to be in descending order, that permutation is returned from the
-     *     {@code permuteComparableDec} method.</li>
-     *     <li>If no permutation in descending order is found, the method returns the original {@code array}
-     *     unchanged.</li>
-     * </ul>
-     * {@code permuteComparableDec} method to generate permutations of a subarray and return the first permutation that
-     * is sorted in descending order. It utilizes the {@code isSortedDec} method to check the sorting order of a
-     * permutation.
-     * @param       array to be arranged.
-     * @param       left the starting index of the subarray.
-     * @param       right the ending index of the subarray.
-     * @return      The original array descending order.
-     * @see         Permutation#permute(Comparable[], int, int, List)
-     * @see         Bogo#isSortedDec(Comparable[])
-     */
-    protected Comparable[] permuteComparableDec(Comparable[] array, int left, int right) {
-        List<Comparable[]> permutations = new ArrayList<>();
-        permute(array, left, right, permutations);
-        for (Comparable[] comparable : permutations) {
-            if (isSortedDec(comparable)) {
-                return comparable;
-            }
+        parallel.invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(tasks)));
+        long made = 0;
+        for (Result result : results) {
+            made += result.attempts();
         }
-        return array;
+        return new Result(found.get(), made, (System.nanoTime() - start));
     }
 
     /**
-     * {@code permuteComparable} that generates permutations of a subarray of {@link java.lang.Comparable Comparable}
-     * elements and returns the first permutation that satisfies a specific sorting condition defined by a
-     * {@code SortFunctional} object.
+     * {@code permute} generates the permutations of the first {@code length} elements of a subarray in place, with
+     * the iterative form of Heap's algorithm, until the subarray is sorted or the budget runs out.
      * <ul>
-     *     <li>Inside the method, a new {@link java.util.ArrayList ArrayList} named {@code permutations} is created.
-     *     This list will be used to store the generated permutations of the subarray.</li>
-     *     <li>The method calls the {@code permute} method to generate permutations of the given subarray. The
-     *     generated permutations are added to the {@code permutations} list.</li>
-     *     <li>After generating the permutations and storing them in the {@code permutations} list, a loop iterates
-     *     over each permutation stored in the list.</li>
-     *     <li>For each permutation, the method {@code isSorted} is called with the {@code functional} parameter to
-     *     check if the permutation satisfies the sorting condition specified by the {@code SortFunctional} object.</li>
-     *     <li>If a permutation is found to satisfy the sorting condition, that permutation is returned from the
-     *     {@code permuteComparable} method.</li>
-     *     <li>If no permutation satisfying the sorting condition is found, the method returns the original
-     *     {@code array} unchanged.</li>
+     *     <li>If the subarray is already sorted, nothing is permuted.</li>
+     *     <li>The {@code counters} stand for the loop indices of the recursive form, while the counter of {@code i} is
+     *     less than {@code i}, the element {@code i} is swapped with the first element if {@code i} is even, or with
+     *     the element of its counter if {@code i} is odd, which is the next permutation.</li>
+     *     <li>Every permutation is checked by {@code isSorted} right after its swap, the search stops at the first
+     *     sorted one.</li>
+     *     <li>The search also stops before a permutation beyond the {@code attempts}, after the {@code nanos} have
+     *     passed since the {@code start}, or, if a {@code found} flag is given, as soon as another search sets it.</li>
      * </ul>
-     * {@code permuteComparable} that functional class named {@code SortFunctional} that defines a sorting condition or
-     * rule. The {@code isSorted}
-     * method a part of this functional interface or class, and it's used to determine if a permutation meets the
-     * sorting condition defined by the {@code functional} object.
+     * Every permutation is visited at most once, and only the {@code counters} are allocated, so the memory stays
+     * <em>O(n)</em> however many permutations there are.
      * @param       array to be arranged.
      * @param       left the starting index of the subarray.
-     * @param       right the ending index of the subarray.
+     * @param       right the ending index (exclusive) of the subarray, the range checked by {@code isSorted}.
+     * @param       length the number of elements permuted from index {@code left}.
+     * @param       found the flag of a parallel search, {@code null} on a single thread.
      * @param       functional lambda expression for comparison.
-     * @return      The order of the original array defined by functions.
-     * @see         Permutation#permute(Comparable[], int, int, List)
-     * @see         Bogo#isSorted(Comparable[], SortFunctional)
-     */
-    protected Comparable[] permuteComparable(
-            Comparable[] array, int left, int right, SortFunctional<Comparable> functional) {
-        List<Comparable[]> permutations = new ArrayList<>();
-        permute(array, left, right, permutations);
-        for (Comparable[] comparable : permutations) {
-            if (isSorted(comparable, functional)) {
-                return comparable;
-            }
-        }
-        return array;
-    }
-
-    /**
-     * {@code permute} method called permute which takes three arguments the array to be permuted {@code array},
-     * the number of elements to consider for permutation {@code n}, and a {@code List<Comparable[]>} called
-     * {@code permutations} that will store the generated permutations.
-     * <ul>
-     *     <li>The base case is when {@code n} reaches <i>1</i>. In this case, a copy of the current array is created
-     *     using {@link java.lang.System System}.
-     *     {@link java.lang.System#arraycopy(Object, int, Object, int, int) arraycopy}, and this copy is added to the
-     *     {@code permutations} of permutations. This is done to avoid adding a reference to the same array multiple
-     *     times in the permutations.</li>
-     *     <li>If {@code n} is greater than <i>1</i>, the code enters a loop that iterates over each element of the
-     *     array, up to the index {@code (n - 1)}.</li>
-     *     <li>Inside the loop, the {@code swap} method is used to swap the element at index {@code i} with the
-     *     element at index {@code (n - 1)}. This effectively fixes one element and recursively generates permutations
-     *     for the remaining elements (those before the fixed element).</li>
-     *     <li>The {@code permute} method is called recursively with {@code n} decremented by <i>1</i>. This ensures
-     *     that the algorithm generates permutations for a smaller portion of the array in the next recursive call.</li>
-     *     <li>After the recursive call, another swap is performed to revert the array back to its original state.
-     *     This is necessary to backtrack and generate permutations correctly for other elements.</li>
-     * </ul>
-     * {@code permute} generates all possible permutations of the given array by recursively fixing each element at
-     * the last position and generating permutations for the remaining elements. The swaps ensure that each element
-     * gets a chance to be in the last position during the recursive process.
-     * @param       array to be arranged.
-     * @param       n the number of elements to consider for permutation
-     * @param       permutations that will store the generated permutations.
-     * @see         SortSwap#swap(Comparable[], int, int)
-     */
-    protected void permute(Comparable[] array, int n, List<Comparable[]> permutations) {
-        if (n == 1) {
-            Comparable[] array2 = new Comparable[array.length];
-            System.arraycopy(array, 0, array2, 0, array.length);
-            permutations.add(array2);
-            return;
-        }
-        for (int i = 0; i < n; i++) {
-            swap(array, i, (n - 1));
-            permute(array, (n - 1), permutations);
-            swap(array, i, (n - 1));
-        }
-    }
-
-    /**
-     * {@code permute} to generate permutations of a given subarray of {@link java.lang.Comparable Comparable} elements.
-     * The key difference here is that instead of considering the whole array and reducing the n parameter to determine
-     * the number of elements to permute, this version uses a range defined by {@code left} and {@code right}.
-     * <ul>
-     *     <li>The method signature now includes two additional parameters: {@code left} and {@code right}. These
-     *     parameters define the range of the subarray to be permuted, specifically from index {@code left} to index
-     *     {@code (right - 1)}.</li>
-     *     <li>The base case remains the same, where {@code right} is checked against <i>1</i>. If {@code right} equals
-     *     <i>1</i>, a subarray of length <i>1</i> is considered for permutation. The subarray's contents are copied to
-     *     {@code array2} using {@link java.lang.System System}.
-     *     {@link java.lang.System#arraycopy(Object, int, Object, int, int) arraycopy}, and then {@code array2} is
-     *     added to the list of permutations.</li>
-     *     <li>he loop now iterates over the elements within the range {@code left}, {@code (right - 1)}. This means
-     *     that it considers a subarray defined by the {@code left} and {@code right} indices. The swapping and
-     *     recursive calls are still performed to generate permutations within this subarray.</li>
-     *     <li>The {@code swap} method is used to swap elements in the array. The recursive calls to {@code permute}
-     *     generate permutations within the subarray by fixing one element at a time.</li>
-     *     <li>After the recursive call, another swap is performed to backtrack and restore the subarray to its
-     *     original state before moving to the next iteration of the loop.</li>
-     * </ul>
-     * {@code permute} the algorithm generates permutations for a specific subarray of the given array. It's useful
-     * when you want to generate permutations for a smaller portion of the array or when you want to handle different
-     * subarrays separately.
-     * @param       array to be arranged.
-     * @param       left first range defined.
-     * @param       right last range defined.
-     * @param       permutations that will store the generated permutations.
+     * @param       attempts the maximum number of permutations, {@code Long.MAX_VALUE} for no limit.
+     * @param       start the {@link java.lang.System#nanoTime() nanoTime} of the start of the sort.
+     * @param       nanos the maximum running time in nanoseconds, {@code Long.MAX_VALUE} for no limit.
+     * @return      whether the subarray is left sorted, the number of permutations generated and the running time
+     *              since the {@code start}.
+     * @see         Bogo#isSorted(Comparable[], int, int, SortFunctional)
      * @see         SortSwap#swap(Comparable[], int, int)
      */
-    protected void permute(Comparable[] array, int left, int right, List<Comparable[]> permutations) {
-        if (right == 1) {
-            Comparable[] array2 = new Comparable[array.length];
-            System.arraycopy(array, left, array2, left, right);
-            permutations.add(array2);
-            return;
+    protected Result permute(
+            Comparable[] array, int left, int right, int length, AtomicBoolean found,
+            SortFunctional<Comparable> functional, long attempts, long start, long nanos) {
+        if (isSorted(array, left, right, functional)) {
+            return new Result(true, 0, (System.nanoTime() - start));
         }
-        for (int i = left; i < right; i++) {
-            swap(array, i, (right - 1));
-            permute(array, left, (right - 1), permutations);
-            swap(array, i, (right - 1));
+        int[] counters = new int[Math.max(1, length)];
+        long made = 0;
+        int i = 1;
+        while (i < length) {
+            if ((made >= attempts)
+                    || ((found != null) && found.get())
+                    || ((nanos != Long.MAX_VALUE) && ((System.nanoTime() - start) >= nanos))) {
+                return new Result(false, made, (System.nanoTime() - start));
+            }
+            if (counters[i] < i) {
+                swap(array, (left + (((i % 2) == 0) ? 0 : counters[i])), (left + i));
+                made++;
+                if (isSorted(array, left, right, functional)) {
+                    return new Result(true, made, (System.nanoTime() - start));
+                }
+                counters[i]++;
+                i = 1;
+            } else {
+                counters[i] = 0;
+                i++;
+            }
         }
+        return new Result(false, made, (System.nanoTime() - start));
     }
 
     /**
-     * {@code permutationInc} method generate a permutation of a sublist of a {@link java.util.List List} of
-     * {@link java.lang.Comparable Comparable} elements in ascending order. The method utilizes a sorted permutation
-     * generated by the {@code permuteComparableInc} method and then copies the elements back to the original list.
-     * <ul>
-     *     <li>Creates a sublist containing all elements from the original list. However, since subLists are backed
-     *     by the original list, creating a new {@link java.util.ArrayList ArrayList} with the sublist elements ensures
-     *     that any modifications won't affect the original list.</li>
-     *     <li>Generates a sorted permutation of the sublist while leaving the original list unchanged.</li>
-     *     <li>Copies the elements from the sorted permutation back into the original list.</li>
-     * </ul>
-     * {@code permutationInc} method it involves generating a sorted permutation by generating all permutations, which
-     * can be quite inefficient for larger lists.
+     * {@code permutationInc} arranges an entire {@link java.util.List List} of {@link java.lang.Comparable Comparable}
+     * elements in ascending order, by searching its permutations.
      * @param       list to be arranged.
-     * @see         Permutation#permuteComparableInc(List)
+     * @see         Permutation#permutation(List, int, int, SortFunctional)
      */
+    @SuppressWarnings("unchecked")
     protected <L extends Comparable> void permutationInc(List<L> list) {
-        List<L> sortedPermutation = permuteComparableInc(list.subList(0, list.size()));
-        Collections.copy(list, sortedPermutation);
+        permutation(list, 0, list.size(), (a, b) -> a.compareTo(b) > 0);
     }
 
     /**
-     * {@code permutationDec} method generate a permutation of a sublist of a {@link java.util.List List} of
-     * {@link java.lang.Comparable Comparable} elements in descending order. The method utilizes a sorted permutation
-     * generated by the {@code permuteComparableDec} method and then copies the elements back to the original list.
-     * <ul>
-     *     <li>Creates a sublist containing all elements from the original list. However, since subLists are backed
-     *     by the original list, creating a new {@link java.util.ArrayList ArrayList} with the sublist elements ensures
-     *     that any modifications won't affect the original list.</li>
-     *     <li>Generates a sorted permutation of the sublist while leaving the original list unchanged.</li>
-     *     <li>Copies the elements from the sorted permutation back into the original list.</li>
-     * </ul>
-     * {@code permutationDec} method it involves generating a sorted permutation by generating all permutations, which
-     * can be quite inefficient for larger lists.
+     * {@code permutationDec} arranges an entire {@link java.util.List List} of {@link java.lang.Comparable Comparable}
+     * elements in descending order, by searching its permutations.
      * @param       list to be arranged.
-     * @see         Permutation#permuteComparableDec(List)
+     * @see         Permutation#permutation(List, int, int, SortFunctional)
      */
+    @SuppressWarnings("unchecked")
     protected <L extends Comparable> void permutationDec(List<L> list) {
-        List<L> sortedPermutation = permuteComparableDec(list.subList(0, list.size()));
-        Collections.copy(list, sortedPermutation);
+        permutation(list, 0, list.size(), (a, b) -> a.compareTo(b) < 0);
     }
 
     /**
-     * {@code permutation} method generate a permutation of a sublist of a {@link java.util.List List} of
-     * {@link java.lang.Comparable Comparable} elements based on a specific sorting condition defined by a
-     * {@code SortFunctional} object. The method then utilizes the sorted permutation generated by the
-     * {@code permuteComparable} method and copies the elements back to the original list.
-     * <ul>
-     *     <li>Creates a sublist containing all elements from the original list. To ensure that any modifications won't
-     *     affect the original list, you create a new {@link java.util.ArrayList ArrayList} with the sublist
-     *     elements.</li>
-     *     <li>Generates a sorted permutation of the sublist based on the sorting condition defined by the
-     *     {@code SortFunctional} object. This leaves the original list unaffected.</li>
-     *     <li>Copies the elements from the sorted permutation back into the original list.</li>
-     * </ul>
-     * {@code permutation} this method provides a way to generate a permutation of the entire original list based on
-     * a given sorting condition, and it replaces the original list with the sorted permutation that adheres to the
-     * sorting condition.
+     * {@code permutation} arranges an entire {@link java.util.List List} of {@link java.lang.Comparable Comparable}
+     * elements based on a specific sorting condition defined by a {@code SortFunctional} object, by searching its
+     * permutations.
      * @param       list to be arranged.
      * @param       functional lambda expression for comparison.
-     * @see         Permutation#permuteComparable(List, SortFunctional)
+     * @see         Permutation#permutation(List, int, int, SortFunctional)
      */
     protected <L extends Comparable> void permutation(List<L> list, SortFunctional<Comparable> functional) {
-        List<L> sortedPermutation = permuteComparable(list.subList(0, list.size()), functional);
-        Collections.copy(list, sortedPermutation);
+        permutation(list, 0, list.size(), functional);
     }
 
     /**
-     * {@code permutationInc} method generate a sorted permutation of a sublist within a
-     * {@link java.util.List List} of {@link java.lang.Comparable Comparable} elements in ascending order. The sorted
-     * permutation is then inserted back into the original list.
-     * <ul>
-     *     <li>Creates a sublist containing the elements from the {@code left} index to the {@code right} index
-     *     (inclusive). To ensure that any modifications won't affect the original list, you create a new
-     *     {@link java.util.ArrayList ArrayList} with the sublist elements.</li>
-     *     <li>Generates a sorted permutation of the sublist.</li>
-     *     <li>The for loop iterates over the indices from {@code left} to {@code right} (inclusive). The
-     *     {@code list.set(i, subList.get(i - left))} line replaces the elements in the original list with the
-     *     corresponding elements from the sorted sublist.</li>
-     * </ul>
-     * {@code permutationInc} this method is a convenient way to generate a sorted permutation of a specific subList
-     * within the original list and replace the original subList with the sorted permutation. It takes advantage of
-     * the {@code permuteComparableInc} method to generate the sorted permutation.
+     * {@code permutationInc} arranges a sublist of a {@link java.util.List List} of
+     * {@link java.lang.Comparable Comparable} elements in ascending order, by searching its permutations.
      * @param       list to be arranged.
      * @param       left the starting index of the subList.
-     * @param       right the ending index of the subList.
-     * @see         Permutation#permuteComparableInc(List, int, int)
+     * @param       right the ending index (exclusive) of the subList.
+     * @see         Permutation#permutation(List, int, int, SortFunctional)
      */
+    @SuppressWarnings("unchecked")
     protected <L extends Comparable> void permutationInc(List<L> list, int left, int right) {
-        List<L> subList = permuteComparableInc(list.subList(left, (right + 1)));
-        for (int i = left; i <= right; i++) {
-            list.set(i, subList.get(i - left));
-        }
+        permutation(list, left, right, (a, b) -> a.compareTo(b) > 0);
     }
 
     /**
-     /**
-     * {@code permutationDec} method generate a sorted permutation of a sublist within a
-     * {@link java.util.List List} of {@link java.lang.Comparable Comparable} elements in descending order. The sorted
-     * permutation is then inserted back into the original list.
-     * <ul>
-     *     <li>Creates a sublist containing the elements from the {@code left} index to the {@code right} index
-     *     (inclusive). To ensure that any modifications won't affect the original list, you create a new
-     *     {@link java.util.ArrayList ArrayList} with the sublist elements.</li>
-     *     <li>Generates a sorted permutation of the sublist.</li>
-     *     <li>The for loop iterates over the indices from {@code left} to {@code right} (inclusive). The
-     *     {@code list.set(i, subList.get(i - left))} line replaces the elements in the original list with the
-     *     corresponding elements from the sorted sublist.</li>
-     * </ul>
-     * {@code permutationDec} this method is a convenient way to generate a sorted permutation of a specific subList
-     * within the original list and replace the original subList with the sorted permutation. It takes advantage of
-     * the {@code permuteComparableDec} method to generate the sorted permutation.
+     * {@code permutationDec} arranges a sublist of a {@link java.util.List List} of
+     * {@link java.lang.Comparable Comparable} elements in descending order, by searching its permutations.
      * @param       list to be arranged.
      * @param       left the starting index of the subList.
-     * @param       right the ending index of the subList.
-     * @see         Permutation#permuteComparableDec(List, int, int)
+     * @param       right the ending index (exclusive) of the subList.
+     * @see         Permutation#permutation(List, int, int, SortFunctional)
      */
+    @SuppressWarnings("unchecked")
     protected <L extends Comparable> void permutationDec(List<L> list, int left, int right) {
-        List<L> subList = permuteComparableDec(list.subList(left, (right + 1)));
-        for (int i = left; i <= right; i++) {
-            list.set(i, subList.get(i - left));
-        }
+        permutation(list, left, right, (a, b) -> a.compareTo(b) < 0);
     }
 
     /**
-     * {@code permutation} method generate a sorted permutation of a sublist within a {@link java.util.List List} of
+     * {@code permutation} arranges a sublist of a {@link java.util.List List} of
      * {@link java.lang.Comparable Comparable} elements based on a specific sorting condition defined by a
-     * {@code SortFunctional} object. The sorted permutation is then inserted back into the original list.
+     * {@code SortFunctional} object, by searching its permutations.
      * <ul>
-     *     <li>Creates a sublist containing the elements from the {@code left} index to the {@code right} index
-     *     (inclusive). To ensure that any modifications won't affect the original list, you create a new
-     *     {@link java.util.ArrayList ArrayList} with the sublist elements.</li>
-     *     <li>Generates a sorted permutation of the sublist based on the sorting condition defined by the
-     *     {@code SortFunctional} object.</li>
-     *     <li>The for loop iterates over the indices from {@code left} to {@code right} (inclusive). The
-     *     {@code list.set(i, subList.get(i - left))} line replaces the elements in the original list with the
-     *     corresponding elements from the sorted sublist.</li>
+     *     <li>The elements of the sublist are copied to an array, its permutations are searched by the array
+     *     {@code permutation}, on the worker threads if there are any.</li>
+     *     <li>The sorted array is written back through the {@link java.util.ListIterator ListIterator} of the sublist,
+     *     once per element.</li>
      * </ul>
-     * {@code permutation} this method provides a way to generate a permutation of a specific subList within the
-     * original array based on a given sorting condition, and it replaces the original subList with the sorted
-     * permutation that adheres to the sorting condition.
      * @param       list to be arranged.
      * @param       left the starting index of the subList.
-     * @param       right the ending index of the subList.
+     * @param       right the ending index (exclusive) of the subList.
      * @param       functional lambda expression for comparison.
-     * @see         Permutation#permuteComparable(List, int, int, SortFunctional)
+     * @see         Permutation#permutation(Comparable[], int, int, SortFunctional)
      */
+    @SuppressWarnings("unchecked")
     protected <L extends Comparable> void permutation(
             List<L> list, int left, int right, SortFunctional<Comparable> functional) {
-        List<L> subList = permuteComparable(list.subList(left, (right + 1)), functional);
-        for (int i = left; i <= right; i++) {
-            list.set(i, subList.get(i - left));
-        }
-    }
-
-    /**
-     * {@code permuteComparableInc} that generates permutations of an entire list of
-     * {@link java.lang.Comparable Comparable} elements and returns the first permutation that is in ascending order.
-     * <ul>
-     *     <li>Inside the method, a new {@link java.util.ArrayList ArrayList} named {@code permutations} is created.
-     *     This list will store the generated permutations of the input list.</li>
-     *     <li>The {@code permute} method is called with the entire {@code list} and its length, along with the
-     *     {@code permutations} list. This generates all possible permutations of the input list and adds them to
-     *     the {@code permutations} list.</li>
-     *     <li>After generating the permutations and storing them in the permutations list, a loop iterates over each
-     *     {@code permutation} stored in the list.</li>
-     *     <li>For each permutation, the method {@code isSortedInc} is called to check if the permutation is in
-     *     ascending order.</li>
-     *     <li>If a permutation is found to be in ascending order, that permutation is returned from the
-     *     {@code permuteComparableInc} method.</li>
-     *     <li>If no permutation in ascending order is found, the method returns the original
-     *     {@code list} unchanged.</li>
-     * </ul>
-     * {@code permuteComparableInc} generates all permutations of the input list and then checks each permutation for
-     * ascending order. Once a sorted permutation is found, it's immediately returned. This approach could be
-     * inefficient for larger arrays due to the generation of all permutations and the subsequent sorting checks.
-     * @param       list to be arranged.
-     * @return      The original list ascending order.
-     * @see         Permutation#permute(List, int, List)
-     * @see         Bogo#isSortedInc(List)
-     */
-    protected <L extends Comparable> List<L> permuteComparableInc(List<L> list) {
-        List<List<L>> permutations = new ArrayList<>();
-        permute(list, list.size(), permutations);
-        for (List<L> comparable : permutations) {
-            if (isSortedInc(comparable)) {
-                return comparable;
-            }
-        }
-        return list;
-    }
-
-    /**
-     * {@code permuteComparableDec} that generates permutations of an entire list of
-     * {@link java.lang.Comparable Comparable} elements and returns the first permutation that is in descending order.
-     * <ul>
-     *     <li>Inside the method, a new {@link java.util.ArrayList ArrayList} named {@code permutations} is created.
-     *     This list will store the generated permutations of the input list.</li>
-     *     <li>The {@code permute} method is called with the entire {@code list} and its length, along with the
-     *     {@code permutations} list. This generates all possible permutations of the input list and adds them to
-     *     the {@code permutations} list.</li>
-     *     <li>After generating the permutations and storing them in the permutations list, a loop iterates over each
-     *     {@code permutation} stored in the list.</li>
-     *     <li>For each permutation, the method {@code isSortedDec} is called to check if the permutation is in
-     *     descending order.</li>
-     *     <li>If a permutation is found to be in descending order, that permutation is returned from the
-     *     {@code permuteComparableDec} method.</li>
-     *     <li>If no permutation in descending order is found, the method returns the original
-     *     {@code list} unchanged.</li>
-     * </ul>
-     * {@code permuteComparableDec} generates all permutations of the input list and then checks each permutation for
-     * descending order. Once a sorted permutation is found, it's immediately returned. This approach could be
-     * inefficient for larger arrays due to the generation of all permutations and the subsequent sorting checks.
-     * @param       list to be arranged.
-     * @return      The original list descending order.
-     * @see         Permutation#permute(List, int, List)
-     * @see         Bogo#isSortedDec(List)
-     */
-    protected <L extends Comparable> List<L> permuteComparableDec(List<L> list) {
-        List<List<L>> permutations = new ArrayList<>();
-        permute(list, list.size(), permutations);
-        for (List<L> comparable : permutations) {
-            if (isSortedDec(comparable)) {
-                return comparable;
-            }
-        }
-        return list;
-    }
-
-    /**
-     * {@code permuteComparable} that generates permutations of an entire list of {@code Comparable} elements and
-     * returns the first permutation that satisfies a specific sorting condition defined by a
-     * {@code SortFunctional} object.
-     * <ul>
-     *     <li>Inside the method, a new {@link java.util.ArrayList ArrayList} named {@code permutations} is created.
-     *     This list will store the generated permutations of the input list.</li>
-     *     <li>The {@code permute} method is called with the entire {@code list} and its length, along with the
-     *     {@code permutations} list. This generates all possible permutations of the input list and adds them to
-     *     the {@code permutations} list.</li>
-     *     <li>After generating the permutations and storing them in the permutations list, a loop iterates over
-     *     each {@code permutation} stored in the list.</li>
-     *     <li>For each permutation, the method {@code isSorted} is called with the {@code functional} parameter to
-     *     check if the permutation satisfies the sorting condition defined by the {@code SortFunctional} object.</li>
-     *     <li>If a permutation is found to satisfy the sorting condition, that permutation is returned from the
-     *     {@code permuteComparable} method.</li>
-     *     <li>If no permutation satisfying the sorting condition is found, the method returns the original
-     *     {@code list} unchanged.</li>
-     * </ul>
-     * {@code permuteComparable} that generate all permutations of the input list and then searches for the first
-     * permutation that meets the specified sorting condition. The success of this method heavily depends on the
-     * correctness of the {@code SortFunctional} interface or class and the {@code isSorted} method.
-     * @param       list to be arranged.
-     * @param       functional lambda expression for comparison.
-     * @return      The order of the original list defined by functions.
-     * @see         Permutation#permute(List, int, List)
-     * @see         Bogo#isSorted(List, SortFunctional)
-     */
-    protected <L extends Comparable> List<L> permuteComparable(List<L> list, SortFunctional<Comparable> functional) {
-        List<List<L>> permutations = new ArrayList<>();
-        permute(list, list.size(), permutations);
-        for (List<L> comparable : permutations) {
-            if (isSorted(comparable, functional)) {
-                return comparable;
-            }
-        }
-        return list;
-    }
-
-    /**
-     * {@code permuteComparableInc} that aims to generate permutations of a sublist of
-     * {@link java.lang.Comparable Comparable} elements and return the first permutation that is in ascending order.
-     * <ul>
-     *     <li>Inside the method, a new {@link java.util.ArrayList ArrayList} named {@code permutations} is created.
-     *     This list will be used to store the generated permutations of the sublist.</li>
-     *     <li>The method then calls the {@code permute} method to generate permutations of the given sublist.
-     *     The generated permutations are added to the {@code permutations}.</li>
-     *     <li>After generating the permutations and storing them in the {@code permutations}, a loop iterates over
-     *     each permutation stored in the {@code permutations}.</li>
-     *     <li>For each permutation, the method {@code isSortedInc} is called to check if the permutation is in
-     *     ascending order.</li>
-     *     <li>If a permutation is found to be in ascending order, that permutation is returned from the
-     *     {@code permuteComparableInc} method.</li>
-     *     <li>If no permutation in ascending order is found, the method returns the original {@code list}
-     *     unchanged.</li>
-     * </ul>
-     * {@code permuteComparableInc} method to generate permutations of a sublist and return the first permutation that
-     * is sorted in ascending order. It utilizes the {@code isSortedInc} method to check the sorting order of a
-     * permutation.
-     * @param       list to be arranged.
-     * @param       left the starting index of the sublist.
-     * @param       right the ending index of the sublist.
-     * @return      The original list ascending order.
-     * @see         Permutation#permute(List, int, int, List)
-     * @see         Bogo#isSortedInc(List)
-     */
-    protected <L extends Comparable> List<L> permuteComparableInc(List<L> list, int left, int right) {
-        List<List<L>> permutations = new ArrayList<>();
-        permute(list, left, right, permutations);
-        for (List<L> comparable : permutations) {
-            if (isSortedInc(comparable)) {
-                return comparable;
-            }
-        }
-        return list;
-    }
-
-    /**
-     * {@code permuteComparableDec} that aims to generate permutations of a sublist of
-     * {@link java.lang.Comparable Comparable} elements and return the first permutation that is in descending order.
-     * <ul>
-     *     <li>Inside the method, a new {@link java.util.ArrayList ArrayList} named {@code permutations} is created.
-     *     This list will be used to store the generated permutations of the sublist.</li>
-     *     <li>The method then calls the {@code permute} method to generate permutations of the given sublist.
-     *     The generated permutations are added to the {@code permutations}.</li>
-     *     <li>After generating the permutations and storing them in the {@code permutations}, a loop iterates over
-     *     each permutation stored in the {@code permutations}.</li>
-     *     <li>For each permutation, the method {@code isSortedDec} is called to check if the permutation is in
-     *     descending order.</li>
-     *     <li>If a permutation is found to be in descending order, that permutation is returned from the
-     *     {@code permuteComparableDec} method.</li>
-     *     <li>If no permutation in descending order is found, the method returns the original {@code list}
-     *     unchanged.</li>
-     * </ul>
-     * {@code permuteComparableDec} method to generate permutations of a sublist and return the first permutation that
-     * is sorted in descending order. It utilizes the {@code isSortedDec} method to check the sorting order of a
-     * permutation.
-     * @param       list to be arranged.
-     * @param       left the starting index of the sublist.
-     * @param       right the ending index of the sublist.
-     * @return      The original list descending order.
-     * @see         Permutation#permute(List, int, List)
-     * @see         Bogo#isSortedDec(List)
-     */
-    protected <L extends Comparable> List<L> permuteComparableDec(List<L> list, int left, int right) {
-        List<List<L>> permutations = new ArrayList<>();
-        permute(list, left, right, permutations);
-        for (List<L> comparable : permutations) {
-            if (isSortedDec(comparable)) {
-                return comparable;
-            }
-        }
-        return list;
-    }
-
-    /**
-     * {@code permuteComparable} that generates permutations of a sublist of {@link java.lang.Comparable Comparable}
-     * elements and returns the first permutation that satisfies a specific sorting condition defined by a
-     * {@code SortFunctional} object.
-     * <ul>
-     *     <li>Inside the method, a new {@link java.util.ArrayList ArrayList} named {@code permutations} is created.
-     *     This list will be used to store the generated permutations of the sublist.</li>
-     *     <li>The method calls the {@code permute} method to generate permutations of the given sublist. The
-     *     generated permutations are added to the {@code permutations} list.</li>
-     *     <li>After generating the permutations and storing them in the {@code permutations} list, a loop iterates
-     *     over each permutation stored in the list.</li>
-     *     <li>For each permutation, the method {@code isSorted} is called with the {@code functional} parameter to
-     *     check if the permutation satisfies the sorting condition specified by the {@code SortFunctional} object.</li>
-     *     <li>If a permutation is found to satisfy the sorting condition, that permutation is returned from the
-     *     {@code permuteComparable} method.</li>
-     *     <li>If no permutation satisfying the sorting condition is found, the method returns the original
-     *     {@code list} unchanged.</li>
-     * </ul>
-     * {@code permuteComparable} that functional class named {@code SortFunctional} that defines a sorting condition or
-     * rule. The {@code isSorted}
-     * method a part of this functional interface or class, and it's used to determine if a permutation meets the
-     * sorting condition defined by the {@code functional} object.
-     * @param       list to be arranged.
-     * @param       left the starting index of the sublist.
-     * @param       right the ending index of the sublist.
-     * @param       functional lambda expression for comparison.
-     * @return      The order of the original list defined by functions.
-     * @see         Permutation#permute(List, int, int, List)
-     * @see         Bogo#isSorted(List, SortFunctional)
-     */
-    protected <L extends Comparable> List<L> permuteComparable(
-            List<L> list, int left, int right, SortFunctional<Comparable> functional) {
-        List<List<L>> permutations = new ArrayList<>();
-        permute(list, left, right, permutations);
-        for (List<L> comparable : permutations) {
-            if (isSorted(comparable, functional)) {
-                return comparable;
-            }
-        }
-        return list;
-    }
-
-    /**
-     * {@code permute} to generate permutations of a given {@link java.util.List List} of {@link java.lang.Comparable
-     * Comparable} elements. three arguments the list to be permuted {@code list}, the number of elements to consider
-     * for permutation {@code n}, and a {@code List<List<L>>} called {@code permutations} that will store the generated
-     * permutations.
-     * <ul>
-     *     <li>The method signature is parameterized with the type {@code L} which extends {@code Comparable}. This
-     *     allows you to work with any type that implements the {@code Comparable} interface.</li>
-     *     <li>creates a new {@link java.util.ArrayList ArrayList} named {@code list2} and initializes it with the
-     *     elements from the original list. This ensures that changes to {@code list2} do not affect the original
-     *     {@code list} and vice versa.</li>
-     *     <li>A for loop iterates over each element in the list, up to the index {@code (n - 1)}.</li>
-     *     <li>Inside the loop, the {@code swap} method is used to swap the element at index {@code i} with the
-     *     element at index {@code (n - 1)}. This effectively fixes one element and recursively generates permutations
-     *     for the remaining elements (those before the fixed element).</li>
-     *     <li>The {@code permute} method is called recursively with {@code n} decremented by <i>1</i>. This ensures
-     *     that the algorithm generates permutations for a smaller portion of the list in the next recursive call.</li>
-     *     <li>After the recursive call, another swap is performed to revert the list back to its original state.</li>
-     * </ul>
-     * {@code permute} generates all possible permutations of the given list by recursively fixing each element at the
-     * last position and generating permutations for the remaining elements.
-     * @param       list to be arranged.
-     * @param       n the number of elements to consider for permutation
-     * @param       permutations that will store the generated permutations.
-     * @see         SortSwap#swap(List, int, int)
-     */
-    protected <L extends Comparable> void permute(List<L> list, int n, List<List<L>> permutations) {
-        if (n == 1) {
-            List<L> list2 = new ArrayList<>(list);
-            permutations.add(list2);
-            return;
-        }
-        for (int i = 0; i < n; i++) {
-            swap(list, i, (n - 1));
-            permute(list, (n - 1), permutations);
-            swap(list, i, (n - 1));
-        }
-    }
-
-    /**
-     * {@code permute} to generate permutations of a given {@link java.util.List List} of {@link java.lang.Comparable
-     * Comparable} elements. four arguments the list to be permuted {@code list}, the number of elements to consider
-     * for permutation {@code left}, {@code right}, and a {@code List<List<L>>} called {@code permutations} that will
-     * store the generated permutations.
-     * <ul>
-     *     <li>The base case of the recursion: when right reaches <i>1</i>, a new sublist is created using
-     *     {@code list}.{@link java.util.List#subList(int, int) subList}{@code (left, (left + right))} and then added
-     *     to the {@code permutations} list.</li>
-     *     <li>The for loop iterates over each element within the range {@code left, (right - 1)}. This ensures that
-     *     the algorithm generates permutations for the subList defined by the {@code left} and {@code right}
-     *     indices.</li>
-     *     <li>Inside the loop, the {@code swap} method is used to swap the element at index {@code i} with the element
-     *     at index {@code (right - 1)}. This is to fix one element and generate permutations for the remaining
-     *     elements.</li>
-     *     <li>The {@code permute} method is called recursively with {@code right} decremented by <i>1</i>. This
-     *     generates permutations for a smaller portion of the subList in the next recursive call.</li>
-     *     <li>After the recursive call, another swap is performed to revert the sublist back to its original state
-     *     before moving to the next iteration of the loop.</li>
-     * </ul>
-     * {@code permute} generates all possible permutations of the given list by recursively fixing each element at the
-     * last position and generating permutations for the remaining elements.
-     * @param       list to be arranged.
-     * @param       left first range defined.
-     * @param       right last range defined.
-     * @param       permutations that will store the generated permutations.
-     * @see         SortSwap#swap(List, int, int)
-     */
-    protected <L extends Comparable> void permute(List<L> list, int left, int right, List<List<L>> permutations) {
-        if (right == 1) {
-            List<L> list2 = new ArrayList<>(list.subList(left, (left + right)));
-            permutations.add(list2);
+        if ((right - left) < 2) {
             return;
         }
-        for (int i = left; i < right; i++) {
-            swap(list, i, (right - 1));
-            permute(list, left, (right - 1), permutations);
-            swap(list, i, (right - 1));
+        List<L> subList = list.subList(left, right);
+        Comparable[] array = subList.toArray(new Comparable[0]);
+        permutation(array, 0, array.length, functional);
+        ListIterator<L> iterator = subList.listIterator();
+        for (Comparable element : array) {
+            iterator.next();
+            iterator.set((L) element);
         }
     }
 }
\ No newline at end of file
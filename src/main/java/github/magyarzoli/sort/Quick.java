@@ -18,6 +18,12 @@ public class Quick
         extends SortComparable
         implements QuickInterface<Comparable>, SortFind<Comparable> {
 
+    /**
+     * The pivot selection of the partitions.
+     * The default is {@link PivotStrategy#ADAPTIVE}, which chooses by the size of the range.
+     */
+    protected final PivotStrategy pivotStrategy;
+
     /**
      * <b>Quick Sort:</b><br>
      * Quick Sort is a widely used comparison-based sorting algorithm that follows a divide-and-conquer approach.
@@ -55,12 +61,37 @@ public class Quick
      * Auxiliary Space:         <em>O(log(n))</em><br>
      * Stability:               <b>No</b>
      * @see         IntroQuick#IntroQuick() IntroQuick
+     * @see         BlockQuick#BlockQuick() BlockQuick
      * @see         DualPivotQuick#DualPivotQuick() DualPivotQuick
      * @see         Quick3#Quick3() Quick3
      * @see         StableQuick#StableQuick() StableQuick
      * @see         Slow#Slow() Slow
      */
-    public Quick() {}
+    public Quick() {
+        this(PivotStrategy.ADAPTIVE);
+    }
+
+    /**
+     * <b>Quick Sort:</b><br>
+     * With the pivot selection given.
+     * The partitions of the arrangement take their pivots from {@code pivotStrategy}.
+     * @param       pivotStrategy the pivot selection of the partitions, for example {@link PivotStrategy#LAST},
+     *              {@link PivotStrategy#MEDIAN_OF_3}, {@link PivotStrategy#NINTHER} or
+     *              {@link PivotStrategy#random(long)}.
+     * @see         Quick#Quick() Quick
+     */
+    public Quick(PivotStrategy pivotStrategy) {
+        this.pivotStrategy = pivotStrategy;
+    }
+
+    /**
+     * {@inheritDoc}
+     * @return      the pivot strategy given to the constructor.
+     */
+    @Override
+    public PivotStrategy pivotStrategy() {
+        return pivotStrategy;
+    }
 
     /**
      * {@inheritDoc}
@@ -1,6 +1,9 @@
 package github.magyarzoli.sort;
 
+import github.magyarzoli.PivotStrategy;
+import github.magyarzoli.QuickInterface;
 import github.magyarzoli.Sort;
+import github.magyarzoli.SortComparator;
 import github.magyarzoli.SortFunctional;
 import github.magyarzoli.SortSwap;
 import github.magyarzoli.sort.intro.IntroQuick3;
@@ -20,9 +23,9 @@ public class Quick3
         extends Quick {
 
     /**
-     * Storing {@code i} and {@code j} in the variable field.
+     * The Bentley–McIlroy partition is used instead of the Dutch National Flag partition.
      */
-    protected int i, j;
+    protected final boolean bentleyMcIlroy;
 
     /**
      * <b>Quick Sort 3-Way:</b><br>
@@ -55,7 +58,49 @@ public class Quick3
      * Stability:               <b>No</b>
      * @see         IntroQuick3#IntroQuick3() IntroQuick3
      */
-    public Quick3() {}
+    public Quick3() {
+        this(false);
+    }
+
+    /**
+     * <b>Quick Sort 3-Way:</b><br>
+     * With the pivot selection of the partitions given.
+     * @param       pivotStrategy the pivot selection of the partitions.
+     * @see         Quick3#Quick3() Quick3
+     * @see         PivotStrategy
+     */
+    public Quick3(PivotStrategy pivotStrategy) {
+        this(pivotStrategy, false);
+    }
+
+    /**
+     * <b>Quick Sort 3-Way:</b><br>
+     * With the Bentley–McIlroy fat partition, if {@code bentleyMcIlroy} is {@code true}.
+     * The keys equal to the pivot are swapped to the two ends of the range during the scan,
+     * and after it to the middle, so the range is partitioned in a single pass with few swaps.
+     * Each element is compared to the pivot once, and the equal keys are not partitioned again,
+     * an input of <em>k</em> distinct keys is arranged in <em>O(n log(k))</em>.
+     * @param       bentleyMcIlroy the fat partition is used.
+     * @see         Quick3#Quick3() Quick3
+     * @see         QuickInterface#partitionFatInc(Comparable[], int, int)
+     */
+    public Quick3(boolean bentleyMcIlroy) {
+        this.bentleyMcIlroy = bentleyMcIlroy;
+    }
+
+    /**
+     * <b>Quick Sort 3-Way:</b><br>
+     * With the pivot selection of the partitions given, and the Bentley–McIlroy fat partition,
+     * if {@code bentleyMcIlroy} is {@code true}.
+     * @param       pivotStrategy the pivot selection of the partitions.
+     * @param       bentleyMcIlroy the fat partition is used.
+     * @see         Quick3#Quick3(boolean) Quick3
+     * @see         PivotStrategy
+     */
+    public Quick3(PivotStrategy pivotStrategy, boolean bentleyMcIlroy) {
+        super(pivotStrategy);
+        this.bentleyMcIlroy = bentleyMcIlroy;
+    }
 
     /**
      * {@inheritDoc}
@@ -85,6 +130,43 @@ public class Quick3
         quick3(array, functional);
     }
 
+    /**
+     * {@inheritDoc}
+     * The range is sorted in place.
+     * @param       array to be arranged.
+     * @param       left the index of the first element of the range.
+     * @param       right the index of the last element of the range (inclusive).
+     */
+    @Override
+    public void sortRangeInc(Comparable[] array, int left, int right) {
+        quick3Inc(array, left, right);
+    }
+
+    /**
+     * {@inheritDoc}
+     * The range is sorted in place.
+     * @param       array to be arranged.
+     * @param       left the index of the first element of the range.
+     * @param       right the index of the last element of the range (inclusive).
+     */
+    @Override
+    public void sortRangeDec(Comparable[] array, int left, int right) {
+        quick3Dec(array, left, right);
+    }
+
+    /**
+     * {@inheritDoc}
+     * The range is sorted in place.
+     * @param       array to be arranged.
+     * @param       left the index of the first element of the range.
+     * @param       right the index of the last element of the range (inclusive).
+     * @param       functional lambda expression for comparison.
+     */
+    @Override
+    public void sortRangeFun(Comparable[] array, int left, int right, SortFunctional<Comparable> functional) {
+        quick3(array, left, right, functional);
+    }
+
     /**
      * {@inheritDoc}
      * @param       list to be arranged.
@@ -254,11 +336,15 @@ public class Quick3
         if (left >= right) {
             return;
         }
-        i = left;
-        j = right;
-        partition3Inc(array, left, right);
-        quick3Inc(array, left, i);
-        quick3Inc(array, j, right);
+        if (bentleyMcIlroy) {
+            int[] equals = partitionFatInc(array, left, right);
+            quick3Inc(array, left, (equals[0] - 1));
+            quick3Inc(array, (equals[1] + 1), right);
+            return;
+        }
+        int[] bounds = partition3Inc(array, left, right);
+        quick3Inc(array, left, bounds[0]);
+        quick3Inc(array, bounds[1], right);
     }
 
     /**
@@ -297,11 +383,15 @@ public class Quick3
         if (left >= right) {
             return;
         }
-        i = left;
-        j = right;
-        partition3Dec(array, left, right);
-        quick3Dec(array, left, i);
-        quick3Dec(array, j, right);
+        if (bentleyMcIlroy) {
+            int[] equals = partitionFatDec(array, left, right);
+            quick3Dec(array, left, (equals[0] - 1));
+            quick3Dec(array, (equals[1] + 1), right);
+            return;
+        }
+        int[] bounds = partition3Dec(array, left, right);
+        quick3Dec(array, left, bounds[0]);
+        quick3Dec(array, bounds[1], right);
     }
 
     /**
@@ -342,11 +432,15 @@ public class Quick3
         if (left >= right) {
             return;
         }
-        i = left;
-        j = right;
-        partition3(array, left, right, functional);
-        quick3(array, left, i, functional);
-        quick3(array, j, right, functional);
+        if (bentleyMcIlroy) {
+            int[] equals = partitionFat(array, left, right, functional);
+            quick3(array, left, (equals[0] - 1), functional);
+            quick3(array, (equals[1] + 1), right, functional);
+            return;
+        }
+        int[] bounds = partition3(array, left, right, functional);
+        quick3(array, left, bounds[0], functional);
+        quick3(array, bounds[1], right, functional);
     }
 
     /**
@@ -390,24 +484,26 @@ public class Quick3
      * {@code partition3Inc} method partitions the given {@code array} of
      * {@link java.lang.Comparable Comparable} objects into three parts:
      * elements less than the pivot, elements equal to the pivot, and elements greater than the pivot.
-     * It uses the last element as the pivot and performs swaps to achieve the partitioning.
-     * The indices {@code i} and {@code j} are updated to represent the boundaries of the partitions.
+     * The pivot is selected by the {@code pivotStrategy} and moved to the last element,
+     * then swaps are performed to achieve the partitioning.
+     * The indices {@code i} and {@code j} of the boundaries of the partitions are returned, not stored in a field,
+     * so the threads sorting with the same instance do not overwrite each other's boundaries.
      * @param       array to be arranged.
      * @param       left the value in the array must be smaller than a {@code right} parameter.
      * @param       right the value in the array must be greater than a {@code left} parameter.
+     * @return      the indices {@code i} and {@code j}, the end of the left and the start of the right partition.
      * @see         SortSwap#swap(Comparable[], int, int)
      */
     @SuppressWarnings("unchecked")
-    protected void partition3Inc(Comparable[] array, int left, int right) {
+    protected int[] partition3Inc(Comparable[] array, int left, int right) {
         if (((right + 1) - left) <= 1) {
             if (array[right].compareTo(array[left]) < 0) {
                 swap(array, right, left);
             }
-            i = left;
-            j = right;
-            return;
+            return new int[] {left, right};
         }
         int mid = left;
+        pivotStrategy().select(array, left, right, (a, b) -> a.compareTo(b) > 0);
         Comparable pivot = array[right];
         while (mid <= right) {
             if (pivot.compareTo(array[mid]) > 0) {
@@ -418,8 +514,7 @@ public class Quick3
                 swap(array, mid, right--);
             }
         }
-        i = (left - 1);
-        j = mid;
+        return new int[] {(left - 1), mid};
     }
 
     /**
@@ -462,24 +557,26 @@ public class Quick3
      * </ul>
      * {@code partition3Dec} method partitions the given {@code array} of Comparable objects into three parts:
      * elements less than the pivot, elements equal to the pivot, and elements smaller than the pivot.
-     * It uses the last element as the pivot and performs swaps to achieve the partitioning.
-     * The indices {@code i} and {@code j} are updated to represent the boundaries of the partitions.
+     * The pivot is selected by the {@code pivotStrategy} and moved to the last element,
+     * then swaps are performed to achieve the partitioning.
+     * The indices {@code i} and {@code j} of the boundaries of the partitions are returned, not stored in a field,
+     * so the threads sorting with the same instance do not overwrite each other's boundaries.
      * @param       array to be arranged.
      * @param       left the value in the array must be smaller than a {@code right} parameter.
      * @param       right the value in the array must be greater than a {@code left} parameter.
+     * @return      the indices {@code i} and {@code j}, the end of the left and the start of the right partition.
      * @see         SortSwap#swap(Comparable[], int, int)
      */
     @SuppressWarnings("unchecked")
-    protected void partition3Dec(Comparable[] array, int left, int right) {
+    protected int[] partition3Dec(Comparable[] array, int left, int right) {
         if (((right + 1) - left) <= 1) {
             if (array[right].compareTo(array[left]) < 0) {
                 swap(array, right, left);
             }
-            i = left;
-            j = right;
-            return;
+            return new int[] {left, right};
         }
         int mid = left;
+        pivotStrategy().select(array, left, right, (a, b) -> a.compareTo(b) < 0);
         Comparable pivot = array[right];
         while (mid <= right) {
             if (pivot.compareTo(array[mid]) < 0) {
@@ -490,8 +587,7 @@ public class Quick3
                 swap(array, mid, right--);
             }
         }
-        i = (left - 1);
-        j = mid;
+        return new int[] {(left - 1), mid};
     }
 
     /**
@@ -512,13 +608,12 @@ public class Quick3
      *     compareTo} method.</li>
      *     <li>If the partition has more than one element,
      *     the code initializes {@code mid} to {@code left} and selects the pivot element as {@code array[right]}.</li>
-     *     <li>It defines a new {@code SortFunctional<Comparable>} called {@code functionalReverse}
-     *     by passing {@code functional} to a method {@code functionalComparableToReverse}.
-     *     This method returns a {@code SortFunctional} object that performs the reverse of
-     *     the comparison operation defined in the original {@code functional} object.</li>
+     *     <li>It defines a {@code SortComparator<Comparable>} called {@code comparator}
+     *     by passing {@code functional} to the method {@link SortComparator#of(SortFunctional)}.
+     *     A {@code SortComparator} is used itself, so the comparison is one call of its comparator.</li>
      *     <li>The code enters a loop that iterates while {@code mid} is less than or equal to {@code right}.
      *     Inside the loop, it compares the element at {@code array[mid]} to
-     *     the pivot using the {@code functional.functionalCompareTo} method.</li>
+     *     the pivot once, with the {@code comparator.compare} method.</li>
      *     <li>If the result of the comparison is {@code true} (i.e., the element at {@code array[mid]} is
      *     less than the pivot),
      *     it swaps the elements at {@code left} and {@code mid},
@@ -526,7 +621,7 @@ public class Quick3
      *     <li>If the element at {@code array[mid]} is equal to the pivot,
      *     it simply increments {@code mid} by <i>1</i> and continues to the next iteration.</li>
      *     <li>If the element at {@code array[mid]} is greater than the pivot
-     *     (according to the reverse comparison defined by {@code functionalReverse}),
+     *     (according to the comparison defined by {@code functional}),
      *     it swaps the elements at {@code mid} and {@code right}, decrements {@code right} by <i>1</i>,
      *     and continues to the next iteration.</li>
      *     <li>After the loop finishes, the variables {@code i} and {@code j} are set.
@@ -535,40 +630,42 @@ public class Quick3
      * </ul>
      * {@code partition3} method partitions the given {@code array} of Comparable objects into three parts:
      * elements less than the pivot, elements equal to the pivot, and elements smaller than the pivot.
-     * It uses the last element as the pivot and performs swaps to achieve the partitioning.
-     * The indices {@code i} and {@code j} are updated to represent the boundaries of the partitions.
+     * The pivot is selected by the {@code pivotStrategy} and moved to the last element,
+     * then swaps are performed to achieve the partitioning.
+     * The indices {@code i} and {@code j} of the boundaries of the partitions are returned, not stored in a field,
+     * so the threads sorting with the same instance do not overwrite each other's boundaries.
      * @param       array to be arranged.
      * @param       left the value in the array must be smaller than a {@code right} parameter.
      * @param       right the value in the array must be greater than a {@code left} parameter.
      * @param       functional lambda expression for comparison.
+     * @return      the indices {@code i} and {@code j}, the end of the left and the start of the right partition.
      * @see         SortSwap#swap(Comparable[], int, int)
-     * @see         Sort#functionalComparableToReverse(SortFunctional)
+     * @see         SortComparator#of(SortFunctional)
      * @see         SortFunctional#functionalCompareTo(Comparable, Comparable)
      */
     @SuppressWarnings("unchecked")
-    protected void partition3(Comparable[] array, int left, int right, SortFunctional<Comparable> functional) {
+    protected int[] partition3(Comparable[] array, int left, int right, SortFunctional<Comparable> functional) {
+        SortComparator<Comparable> comparator = SortComparator.of(functional);
         if (((right + 1) - left) <= 1) {
-            if (array[right].compareTo(array[left]) < 0) {
+            if (comparator.compare(array[right], array[left]) < 0) {
                 swap(array, right, left);
             }
-            i = left;
-            j = right;
-            return;
+            return new int[] {left, right};
         }
         int mid = left;
+        pivotStrategy().select(array, left, right, functional);
         Comparable pivot = array[right];
-        SortFunctional<Comparable> functionalReverse = functionalComparableToReverse(functional);
         while (mid <= right) {
-            if (functional.functionalCompareTo(array[mid], pivot)) {
+            int compare = comparator.compare(array[mid], pivot);
+            if (compare < 0) {
                 swap(array, left++, mid++);
-            } else if (array[mid].compareTo(pivot) == 0) {
+            } else if (compare == 0) {
                 mid++;
-            } else if (functionalReverse.functionalCompareTo(array[mid], pivot)) {
+            } else {
                 swap(array, mid, right--);
             }
         }
-        i = (left - 1);
-        j = mid;
+        return new int[] {(left - 1), mid};
     }
 
     /**
@@ -712,11 +809,15 @@ public class Quick3
         if (left >= right) {
             return;
         }
-        i = left;
-        j = right;
-        partition3Inc(list, left, right);
-        quick3Inc(list, left, i);
-        quick3Inc(list, j, right);
+        if (bentleyMcIlroy) {
+            int[] equals = partitionFatInc(list, left, right);
+            quick3Inc(list, left, (equals[0] - 1));
+            quick3Inc(list, (equals[1] + 1), right);
+            return;
+        }
+        int[] bounds = partition3Inc(list, left, right);
+        quick3Inc(list, left, bounds[0]);
+        quick3Inc(list, bounds[1], right);
     }
 
     /**
@@ -755,11 +856,15 @@ public class Quick3
         if (left >= right) {
             return;
         }
-        i = left;
-        j = right;
-        partition3Dec(list, left, right);
-        quick3Dec(list, left, i);
-        quick3Dec(list, j, right);
+        if (bentleyMcIlroy) {
+            int[] equals = partitionFatDec(list, left, right);
+            quick3Dec(list, left, (equals[0] - 1));
+            quick3Dec(list, (equals[1] + 1), right);
+            return;
+        }
+        int[] bounds = partition3Dec(list, left, right);
+        quick3Dec(list, left, bounds[0]);
+        quick3Dec(list, bounds[1], right);
     }
 
     /**
@@ -801,11 +906,15 @@ public class Quick3
         if (left >= right) {
             return;
         }
-        i = left;
-        j = right;
-        partition3(list, left, right, functional);
-        quick3(list, left, i, functional);
-        quick3(list, j, right, functional);
+        if (bentleyMcIlroy) {
+            int[] equals = partitionFat(list, left, right, functional);
+            quick3(list, left, (equals[0] - 1), functional);
+            quick3(list, (equals[1] + 1), right, functional);
+            return;
+        }
+        int[] bounds = partition3(list, left, right, functional);
+        quick3(list, left, bounds[0], functional);
+        quick3(list, bounds[1], right, functional);
     }
 
     /**
@@ -849,24 +958,26 @@ public class Quick3
      * {@code partition3Inc} method partitions the given {@code list} of
      * {@link java.lang.Comparable Comparable} objects into three parts:
      * elements less than the pivot, elements equal to the pivot, and elements greater than the pivot.
-     * It uses the last element as the pivot and performs swaps to achieve the partitioning.
-     * The indices {@code i} and {@code j} are updated to represent the boundaries of the partitions.
+     * The pivot is selected by the {@code pivotStrategy} and moved to the last element,
+     * then swaps are performed to achieve the partitioning.
+     * The indices {@code i} and {@code j} of the boundaries of the partitions are returned, not stored in a field,
+     * so the threads sorting with the same instance do not overwrite each other's boundaries.
      * @param       list to be arranged.
      * @param       left the value in the list must be smaller than a {@code right} parameter.
      * @param       right the value in the list must be greater than a {@code left} parameter.
+     * @return      the indices {@code i} and {@code j}, the end of the left and the start of the right partition.
      * @see         SortSwap#swap(List, int, int)
      */
     @SuppressWarnings("unchecked")
-    protected <L extends Comparable> void partition3Inc(List<L> list, int left, int right) {
+    protected <L extends Comparable> int[] partition3Inc(List<L> list, int left, int right) {
         if (((right + 1) - left) <= 1) {
             if (list.get(right).compareTo(list.get(left)) < 0) {
                 swap(list, right, left);
             }
-            i = left;
-            j = right;
-            return;
+            return new int[] {left, right};
         }
         int mid = left;
+        pivotStrategy().select(list, left, right, (a, b) -> a.compareTo(b) > 0);
         L pivot = list.get(right);
         while (mid <= right) {
             if (pivot.compareTo(list.get(mid)) > 0) {
@@ -877,8 +988,7 @@ public class Quick3
                 swap(list, mid, right--);
             }
         }
-        i = (left - 1);
-        j = mid;
+        return new int[] {(left - 1), mid};
     }
 
     /**
@@ -921,24 +1031,26 @@ public class Quick3
      * </ul>
      * {@code partition3Dec} method partitions the given {@code list} of Comparable objects into three parts:
      * elements less than the pivot, elements equal to the pivot, and elements smaller than the pivot.
-     * It uses the last element as the pivot and performs swaps to achieve the partitioning.
-     * The indices {@code i} and {@code j} are updated to represent the boundaries of the partitions.
+     * The pivot is selected by the {@code pivotStrategy} and moved to the last element,
+     * then swaps are performed to achieve the partitioning.
+     * The indices {@code i} and {@code j} of the boundaries of the partitions are returned, not stored in a field,
+     * so the threads sorting with the same instance do not overwrite each other's boundaries.
      * @param       list to be arranged.
      * @param       left the value in the list must be smaller than a {@code right} parameter.
      * @param       right the value in the list must be greater than a {@code left} parameter.
+     * @return      the indices {@code i} and {@code j}, the end of the left and the start of the right partition.
      * @see         SortSwap#swap(List, int, int)
      */
     @SuppressWarnings("unchecked")
-    protected <L extends Comparable> void partition3Dec(List<L> list, int left, int right) {
+    protected <L extends Comparable> int[] partition3Dec(List<L> list, int left, int right) {
         if (((right + 1) - left) <= 1) {
             if (list.get(right).compareTo(list.get(left)) < 0) {
                 swap(list, right, left);
             }
-            i = left;
-            j = right;
-            return;
+            return new int[] {left, right};
         }
         int mid = left;
+        pivotStrategy().select(list, left, right, (a, b) -> a.compareTo(b) < 0);
         L pivot = list.get(right);
         while (mid <= right) {
             if (pivot.compareTo(list.get(mid)) < 0) {
@@ -949,8 +1061,7 @@ public class Quick3
                 swap(list, mid, right--);
             }
         }
-        i = (left - 1);
-        j = mid;
+        return new int[] {(left - 1), mid};
     }
 
     /**
@@ -972,13 +1083,12 @@ public class Quick3
      *     <li>If the partition has more than one element,
      *     the code initializes {@code mid} to {@code left} and selects the pivot element as
      *     {@code list.get(right)}.</li>
-     *     <li>It defines a new {@code SortFunctional<Comparable>} called {@code functionalReverse}
-     *     by passing {@code functional} to a method {@code functionalComparableToReverse}.
-     *     This method returns a {@code mz.SortFunctional} object that performs the reverse of
-     *     the comparison operation defined in the original {@code functional} object.</li>
+     *     <li>It defines a {@code SortComparator<Comparable>} called {@code comparator}
+     *     by passing {@code functional} to the method {@link SortComparator#of(SortFunctional)}.
+     *     A {@code SortComparator} is used itself, so the comparison is one call of its comparator.</li>
      *     <li>The code enters a loop that iterates while {@code mid} is less than or equal to {@code right}.
      *     Inside the loop, it compares the element at {@code list.get(mid)} to
-     *     the pivot using the {@code functional.functionalCompareTo} method.</li>
+     *     the pivot once, with the {@code comparator.compare} method.</li>
      *     <li>If the result of the comparison is {@code true} (i.e., the element at {@code list.get(mid)}
      *     is less than the pivot),
      *     it swaps the elements at {@code left} and {@code mid},
@@ -986,7 +1096,7 @@ public class Quick3
      *     <li>If the element at {@code list.get(mid)} is equal to the pivot,
      *     it simply increments {@code mid} by <i>1</i> and continues to the next iteration.</li>
      *     <li>If the element at {@code list.get(mid)} is greater than the pivot
-     *     (according to the reverse comparison defined by {@code functionalReverse}),
+     *     (according to the comparison defined by {@code functional}),
      *     it swaps the elements at {@code mid} and {@code right}, decrements {@code right} by <i>1</i>,
      *     and continues to the next iteration.</li>
      *     <li>After the loop finishes, the variables {@code i} and {@code j} are set.
@@ -995,40 +1105,42 @@ public class Quick3
      * </ul>
      * {@code partition3} method partitions the given {@code list} of Comparable objects into three parts:
      * elements less than the pivot, elements equal to the pivot, and elements smaller than the pivot.
-     * It uses the last element as the pivot and performs swaps to achieve the partitioning.
-     * The indices {@code i} and {@code j} are updated to represent the boundaries of the partitions.
+     * The pivot is selected by the {@code pivotStrategy} and moved to the last element,
+     * then swaps are performed to achieve the partitioning.
+     * The indices {@code i} and {@code j} of the boundaries of the partitions are returned, not stored in a field,
+     * so the threads sorting with the same instance do not overwrite each other's boundaries.
      * @param       list to be arranged.
      * @param       left the value in the list must be smaller than a {@code right} parameter.
      * @param       right the value in the list must be greater than a {@code left} parameter.
      * @param       functional lambda expression for comparison.
+     * @return      the indices {@code i} and {@code j}, the end of the left and the start of the right partition.
      * @see         SortSwap#swap(List, int, int)
-     * @see         Sort#functionalComparableToReverse(SortFunctional)
+     * @see         SortComparator#of(SortFunctional)
      * @see         SortFunctional#functionalCompareTo(Comparable, Comparable)
      */
     @SuppressWarnings("unchecked")
-    protected <L extends Comparable> void partition3(
+    protected <L extends Comparable> int[] partition3(
             List<L> list, int left, int right, SortFunctional<Comparable> functional) {
+        SortComparator<Comparable> comparator = SortComparator.of(functional);
         if (((right + 1) - left) <= 1) {
-            if (list.get(right).compareTo(list.get(left)) < 0) {
+            if (comparator.compare(list.get(right), list.get(left)) < 0) {
                 swap(list, right, left);
             }
-            i = left;
-            j = right;
-            return;
+            return new int[] {left, right};
         }
         int mid = left;
+        pivotStrategy().select(list, left, right, functional);
         L pivot = list.get(right);
-        SortFunctional<Comparable> functionalReverse = functionalComparableToReverse(functional);
         while (mid <= right) {
-            if (functional.functionalCompareTo(list.get(mid), pivot)) {
+            int compare = comparator.compare(list.get(mid), pivot);
+            if (compare < 0) {
                 swap(list, left++, mid++);
-            } else if (list.get(mid).compareTo(pivot) == 0) {
+            } else if (compare == 0) {
                 mid++;
-            } else if (functionalReverse.functionalCompareTo(list.get(mid), pivot)) {
+            } else {
                 swap(list, mid, right--);
             }
         }
-        i = (left - 1);
-        j = mid;
+        return new int[] {(left - 1), mid};
     }
 }
\ No newline at end of file
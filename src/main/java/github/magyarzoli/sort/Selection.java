@@ -20,6 +20,11 @@ public class Selection
         extends SortComparable
         implements SelectionInterface<Comparable> {
 
+    /**
+     * The selections are played as a tournament.
+     */
+    protected final boolean tournament;
+
     /**
      * <b>Selection Sort:</b><br>
      * Selection Sort is a simple sorting algorithm that works by dividing an array into two parts:
@@ -51,7 +56,37 @@ public class Selection
      * @see         DoubleSelection#DoubleSelection() DoubleSelection
      * @see         Pancake#Pancake() Pancake
      */
-    public Selection() {}
+    public Selection() {
+        this(false);
+    }
+
+    /**
+     * <b>Selection Sort:</b><br>
+     * As Tournament Sort, if {@code tournament} is {@code true}.
+     * The Tournament Sort builds a winner tree once, and replays only the path of the extracted element,
+     * about <em>n log(n)</em> comparisons, while it keeps the <em>n</em> writes of Selection Sort.<br><br>
+     * <b>Property:</b><br>
+     * Worst Case Complexity:   <em>O(n log(n))</em><br>
+     * Best Case Complexity:    <em>O(n log(n))</em><br>
+     * Average Case Complexity: <em>O(n log(n))</em><br>
+     * Auxiliary Space:         <em>O(n)</em><br>
+     * Stability:               <b>Yes</b>
+     * @param       tournament the selections are played as a tournament.
+     * @see         Selection#Selection() Selection
+     * @see         SelectionInterface#tournament(Comparable[], SortFunctional)
+     */
+    public Selection(boolean tournament) {
+        this.tournament = tournament;
+    }
+
+    /**
+     * {@inheritDoc}
+     * @return      {@code true} if the selections are played as a tournament.
+     */
+    @Override
+    public boolean tournament() {
+        return tournament;
+    }
 
     /**
      * {@inheritDoc}
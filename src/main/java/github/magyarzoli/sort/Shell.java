@@ -1,8 +1,8 @@
 package github.magyarzoli.sort;
 
+import github.magyarzoli.GapSequence;
 import github.magyarzoli.InsertionInterface;
 import github.magyarzoli.SortFunctional;
-import github.magyarzoli.sort.Insertion;
 import github.magyarzoli.sort.intro.IntroShell;
 
 import java.util.List;
@@ -18,6 +18,13 @@ import java.util.List;
 public class Shell
         extends Insertion {
 
+    /**
+     * The gap sequence of the passes, the last gap is always <i>1</i>.
+     * The default is the empirically best known sequence of Marcin Ciura.
+     * @see         GapSequence#CIURA
+     */
+    protected final GapSequence gapSequence;
+
     /**
      * <b>Shell Sort:</b><br>
      * Is an efficient sorting algorithm that is an extension of Insertion Sort.
@@ -56,8 +63,23 @@ public class Shell
      * Auxiliary Space:         <em>O(1)</em><br>
      * Stability:               <b>No</b>
      * @see         IntroShell#IntroShell() IntroShell
+     * @see         GapSequence
      */
-    public Shell() {}
+    public Shell() {
+        this(GapSequence.CIURA);
+    }
+
+    /**
+     * <b>Shell Sort:</b><br>
+     * With the gap sequence given.
+     * The passes of the arrangement use the gaps returned by {@code gapSequence} for the number of elements.
+     * @param       gapSequence the gap sequence of the passes, for example {@link GapSequence#CIURA},
+     *              {@link GapSequence#TOKUDA}, {@link GapSequence#SEDGEWICK} or {@link GapSequence#PRATT}.
+     * @see         Shell#Shell() Shell
+     */
+    public Shell(GapSequence gapSequence) {
+        this.gapSequence = gapSequence;
+    }
 
     /**
      * {@inheritDoc}
@@ -87,6 +109,43 @@ public class Shell
         shell(array, functional);
     }
 
+    /**
+     * {@inheritDoc}
+     * The range is sorted in place.
+     * @param       array to be arranged.
+     * @param       left the index of the first element of the range.
+     * @param       right the index of the last element of the range (inclusive).
+     */
+    @Override
+    public void sortRangeInc(Comparable[] array, int left, int right) {
+        shellInc(array, left, right);
+    }
+
+    /**
+     * {@inheritDoc}
+     * The range is sorted in place.
+     * @param       array to be arranged.
+     * @param       left the index of the first element of the range.
+     * @param       right the index of the last element of the range (inclusive).
+     */
+    @Override
+    public void sortRangeDec(Comparable[] array, int left, int right) {
+        shellDec(array, left, right);
+    }
+
+    /**
+     * {@inheritDoc}
+     * The range is sorted in place.
+     * @param       array to be arranged.
+     * @param       left the index of the first element of the range.
+     * @param       right the index of the last element of the range (inclusive).
+     * @param       functional lambda expression for comparison.
+     */
+    @Override
+    public void sortRangeFun(Comparable[] array, int left, int right, SortFunctional<Comparable> functional) {
+        shell(array, left, right, functional);
+    }
+
     /**
      * {@inheritDoc}
      * @param       list to be arranged.
@@ -115,426 +174,399 @@ public class Shell
         shell(list, functional);
     }
 
+    /**
+     * Arranges the elements of the {@code int} array in ascending order, without boxing the elements.
+     * @param       array to be arranged.
+     * @see         Shell#shellInc(int[], int, int)
+     */
+    public void sortArrayInc(int[] array) {
+        shellInc(array, 0, (array.length - 1));
+    }
+
+    /**
+     * Arranges the elements of the {@code int} array in descending order, without boxing the elements.
+     * @param       array to be arranged.
+     * @see         Shell#shellDec(int[], int, int)
+     */
+    public void sortArrayDec(int[] array) {
+        shellDec(array, 0, (array.length - 1));
+    }
+
+    /**
+     * Arranges the elements of the {@code long} array in ascending order, without boxing the elements.
+     * @param       array to be arranged.
+     * @see         Shell#shellInc(long[], int, int)
+     */
+    public void sortArrayInc(long[] array) {
+        shellInc(array, 0, (array.length - 1));
+    }
+
+    /**
+     * Arranges the elements of the {@code long} array in descending order, without boxing the elements.
+     * @param       array to be arranged.
+     * @see         Shell#shellDec(long[], int, int)
+     */
+    public void sortArrayDec(long[] array) {
+        shellDec(array, 0, (array.length - 1));
+    }
+
+    /**
+     * Arranges the elements of the {@code double} array in ascending order, without boxing the elements.
+     * The order is the one of {@link java.lang.Double#compare(double, double) Double.compare}.
+     * @param       array to be arranged.
+     * @see         Shell#shellInc(double[], int, int)
+     */
+    public void sortArrayInc(double[] array) {
+        shellInc(array, 0, (array.length - 1));
+    }
+
+    /**
+     * Arranges the elements of the {@code double} array in descending order, without boxing the elements.
+     * The order is the one of {@link java.lang.Double#compare(double, double) Double.compare}.
+     * @param       array to be arranged.
+     * @see         Shell#shellDec(double[], int, int)
+     */
+    public void sortArrayDec(double[] array) {
+        shellDec(array, 0, (array.length - 1));
+    }
+
     /**
      * {@code shellInc} that performs the Shell Sort algorithm on an array of {@link java.lang.Comparable
      * Comparable} objects.
      * The sorting is done in ascending order.
-     * <ul>
-     *     <li>The method takes in an array of Comparable objects, {@code array}, and performs the Shell
-     *     Sort algorithm on it.</li>
-     *     <li>The method uses a {@code for} loop to iterate over a series of decreasing values of {@code i},
-     *     which represents the gap between elements to be compared and swapped.</li>
-     *     <li>The initial value of {@code i} is set to half the length of the {@code array}:
-     *     {@code (array.length / 2)}.</li>
-     *     <li>In each iteration of the loop, the value of {@code i} is divided by 2: {@code i /= 2}.</li>
-     *     <li>The loop continues as long as {@code i} is greater than 0.</li>
-     *     <li>Inside the loop, the {@code insertionInc} method is called with the current value
-     *     of {@code i} to perform an insertion sort on the array.</li>
-     *     <li>The {@code insertionInc} method sorts a portion of the array using the Insertion Sort
-     *     algorithm with the specified {@code i} value.</li>
-     *     <li>The insertion sort is performed on elements that are {@code i} positions apart.</li>
-     *     <li>The process continues with decreasing values of {@code i} until {@code i} becomes 0, at
-     *     which point the array is sorted.</li>
-     * </ul>
-     * {@code shellInc} method implements the Shell Sort algorithm to sort the given array of Comparable
-     * objects in ascending order.
-     * It performs insertion sort on different portions of the array with decreasing gaps {@code i} until
-     * the entire array is sorted.
      * @param       array to be arranged.
-     * @see         InsertionInterface#insertionInc(Comparable[], int, int)
+     * @see         Shell#shellInc(Comparable[], int, int)
      */
     protected void shellInc(Comparable[] array) {
-        for (int i = (array.length / 2) ; i > 0; i /= 2) {
-            insertionInc(array, (i - 1), (array.length - 1));
-        }
+        shellInc(array, 0, (array.length - 1));
     }
 
     /**
      * {@code shellDec} that performs the Shell Sort algorithm on an array of {@link java.lang.Comparable
      * Comparable} objects.
      * The sorting is done in descending order.
-     * <ul>
-     *     <li>The method takes in an array of Comparable objects, {@code array}, and performs the Shell
-     *     Sort algorithm on it.</li>
-     *     <li>The method uses a {@code for} loop to iterate over a series of decreasing values of {@code i},
-     *     which represents the gap between elements to be compared and swapped.</li>
-     *     <li>The initial value of {@code i} is set to half the length of the {@code array}:
-     *     {@code (array.length / 2)}.</li>
-     *     <li>In each iteration of the loop, the value of {@code i} is divided by 2: {@code i /= 2}.</li>
-     *     <li>The loop continues as long as {@code i} is greater than 0.</li>
-     *     <li>Inside the loop, the {@code insertionDec} method is called with the current value
-     *     of {@code i} to perform an insertion sort on the array.</li>
-     *     <li>The {@code insertionDec} method sorts a portion of the array using the Insertion Sort algorithm
-     *     with the specified {@code i} value.</li>
-     *     <li>The insertion sort is performed on elements that are {@code i} positions apart.</li>
-     *     <li>The process continues with decreasing values of {@code i} until {@code i} becomes 0, at
-     *     which point the array is sorted.</li>
-     * </ul>
-     * {@code shellDec} method implements the Shell Sort algorithm to sort the given array of Comparable
-     * objects in ascending order.
-     * It performs insertion sort on different portions of the array with decreasing gaps {@code i} until
-     * the entire array is sorted.
      * @param       array to be arranged.
-     * @see         InsertionInterface#insertionDec(Comparable[], int, int)
+     * @see         Shell#shellDec(Comparable[], int, int)
      */
     protected void shellDec(Comparable[] array) {
-        for (int i = (array.length / 2); i > 0; i /= 2) {
-            insertionDec(array, (i - 1), (array.length - 1));
-        }
+        shellDec(array, 0, (array.length - 1));
     }
 
     /**
-     * {@code shell} method takes an array of {@link java.lang.Comparable Comparable} objects,
-     * along with the left and right indices specifying the range of elements to be sorted.
-     * It also takes a {@code mz.SortFunctional<Comparable>} object representing
-     * the custom comparison logic to be used for sorting.
-     * <ul>
-     *     <li>The method starts with a for loop that initializes {@code i} to {@code (array.length / 2)}
-     *     and iterates
-     *     as long as {@code i} is greater than <i>0</i>. The {@code i} value is then divided by <i>2</i>
-     *     in each iteration,
-     *     effectively reducing the interval between elements to be compared and sorted.</li>
-     *     <li>Inside the loop, the {@code insertion} method is called, which likely implements
-     *     the insertion sort algorithm to sort the elements within the specified range, using the provided
-     *     comparison logic.
-     *     The {@code insertion} method would perform the sorting operation on the subarray.</li>
-     *     <li>By calling the {@code insertion} method with the interval of {@code i} and the range from
-     *     {@code i} to {@code array.length },
-     *     the algorithm performs an insertion sort on the elements at intervals of {@code i}.
-     *     As the loop iterates, the interval is gradually reduced until it reaches <i>0</i>,
-     *     resulting in a final insertion sort on the entire range of elements.</li>
-     * </ul>
-     * {@code shell} method implements the Shell Sort algorithm to sort the given array of Comparable
-     * objects in ascending order.
-     * It performs insertion sort on different portions of the array with decreasing gaps {@code i} until
-     * the entire array is sorted.
+     * {@code shell} that performs the Shell Sort algorithm on an array of {@link java.lang.Comparable
+     * Comparable} objects, based on the {@code functionalCompareTo} method of the {@code SortFunctional}
+     * interface.
      * @param       array to be arranged.
      * @param       functional lambda expression for comparison.
-     * @see         InsertionInterface#insertion(Comparable[], int, int, SortFunctional)
+     * @see         Shell#shell(Comparable[], int, int, SortFunctional)
      */
     protected void shell(Comparable[] array, SortFunctional<Comparable> functional) {
-        for (int i = (array.length / 2); i > 0; i /= 2) {
-            insertion(array, (i - 1), (array.length - 1), functional);
-        }
+        shell(array, 0, (array.length - 1), functional);
     }
 
     /**
-     * {@code shellInc} that performs the Shell Sort algorithm on an array of {@link java.lang.Comparable
-     * Comparable} objects.
+     * {@code shellInc} that performs the Shell Sort algorithm on the range {@code left} to {@code right}
+     * (inclusive) of an array of {@link java.lang.Comparable Comparable} objects.
      * The sorting is done in ascending order.
      * <ul>
-     *     <li>The method takes in an array of Comparable objects, {@code array}, and performs the Shell Sort
-     *     algorithm on it.</li>
-     *     <li>The method uses a {@code for} loop to iterate over a series of decreasing values of {@code i},
-     *     which represents the gap between elements to be compared and swapped.</li>
-     *     <li>The initial value of {@code i} is set to half the length of the {@code array}:
-     *     {@code (array.length / 2)}.</li>
-     *     <li>In each iteration of the loop, the value of {@code i} is divided by 2: {@code i /= 2}.</li>
-     *     <li>The loop continues as long as {@code i} is greater than 0.</li>
-     *     <li>Inside the loop, the {@code insertionInc} method is called with the current value
-     *     of {@code i} to perform an insertion sort on the array.</li>
-     *     <li>The {@code insertionInc} method sorts a portion of the array using the Insertion Sort algorithm
-     *     with the specified {@code i} value.</li>
-     *     <li>The insertion sort is performed on elements that are {@code i} positions apart.</li>
-     *     <li>The process continues with decreasing values of {@code i} until {@code i} becomes 0, at which
-     *     point the array is sorted.</li>
+     *     <li>The gaps are requested from {@code gapSequence} for the size of the range,
+     *     from the largest one down to <i>1</i>.</li>
+     *     <li>For every gap, the {@code insertionInc} method sorts the chains of elements that are {@code gap}
+     *     positions apart.
+     *     Large gaps move the elements far in few steps, so the later passes find an almost sorted range.</li>
+     *     <li>The last pass with the gap <i>1</i> is an ordinary Insertion Sort,
+     *     which finishes the arrangement.</li>
      * </ul>
-     * {@code shellInc} method implements the Shell Sort algorithm to sort the given array of Comparable
-     * objects in ascending order.
-     * It performs insertion sort on different portions of the array with decreasing gaps {@code i} until the
-     * entire array is sorted.
      * @param       array to be arranged.
      * @param       left The starting index of the subarray to be sorted.
-     * @param       right The ending index (exclusive) of the subarray to be sorted.
-     * @see         InsertionInterface#insertionInc(Comparable[], int, int)
+     * @param       right The ending index (inclusive) of the subarray to be sorted.
+     * @see         GapSequence#gaps(int)
+     * @see         InsertionInterface#insertionInc(Comparable[], int, int, int)
      */
     protected void shellInc(Comparable[] array, int left, int right) {
-        for (int i = (right / 2); i > left; i /= 2) {
-            insertionInc(array, left, right);
+        for (int gap : gapSequence.gaps((right - left) + 1)) {
+            insertionInc(array, left, right, gap);
         }
     }
 
     /**
-     * {@code shellDec} that performs the Shell Sort algorithm on an array of {@link java.lang.Comparable
-     * Comparable} objects.
+     * {@code shellDec} that performs the Shell Sort algorithm on the range {@code left} to {@code right}
+     * (inclusive) of an array of {@link java.lang.Comparable Comparable} objects.
      * The sorting is done in descending order.
      * <ul>
-     *     <li>The method takes in an array of Comparable objects, {@code array}, and performs the Shell Sor
-     *     algorithm on it.</li>
-     *     <li>The method uses a {@code for} loop to iterate over a series of decreasing values of {@code i},
-     *     which represents the gap between elements to be compared and swapped.</li>
-     *     <li>The initial value of {@code i} is set to half the length of the {@code array}:
-     *     {@code (array.length / 2)}.</li>
-     *     <li>In each iteration of the loop, the value of {@code i} is divided by 2: {@code i /= 2}.</li>
-     *     <li>The loop continues as long as {@code i} is greater than 0.</li>
-     *     <li>Inside the loop, the {@code insertionDec} method is called with the current value
-     *     of {@code i} to perform an insertion sort on the array.</li>
-     *     <li>The {@code insertionDec} method sorts a portion of the array using the Insertion Sort algorithm
-     *     with the specified {@code i} value.</li>
-     *     <li>The insertion sort is performed on elements that are {@code i} positions apart.</li>
-     *     <li>The process continues with decreasing values of {@code i} until {@code i} becomes 0, at
-     *     which point the array is sorted.</li>
+     *     <li>The gaps are requested from {@code gapSequence} for the size of the range,
+     *     from the largest one down to <i>1</i>.</li>
+     *     <li>For every gap, the {@code insertionDec} method sorts the chains of elements that are {@code gap}
+     *     positions apart.</li>
      * </ul>
-     * {@code shellDec} method implements the Shell Sort algorithm to sort the given array of Comparable
-     * objects in ascending order.
-     * It performs insertion sort on different portions of the array with decreasing gaps {@code i} until
-     * the entire array is sorted.
      * @param       array to be arranged.
      * @param       left The starting index of the subarray to be sorted.
-     * @param       right The ending index (exclusive) of the subarray to be sorted.
-     * @see         InsertionInterface#insertionDec(Comparable[], int, int)
+     * @param       right The ending index (inclusive) of the subarray to be sorted.
+     * @see         GapSequence#gaps(int)
+     * @see         InsertionInterface#insertionDec(Comparable[], int, int, int)
      */
     protected void shellDec(Comparable[] array, int left, int right) {
-        for (int i = (right / 2); i > left; i /= 2) {
-            insertionDec(array, i, right);
+        for (int gap : gapSequence.gaps((right - left) + 1)) {
+            insertionDec(array, left, right, gap);
         }
     }
 
     /**
-     * {@code shell} method takes an array of {@link java.lang.Comparable Comparable} objects,
-     * along with the left and right indices specifying the range of elements to be sorted.
-     * It also takes a {@code mz.SortFunctional<Comparable>} object representing
-     * the custom comparison logic to be used for sorting.
+     * {@code shell} that performs the Shell Sort algorithm on the range {@code left} to {@code right}
+     * (inclusive) of an array of {@link java.lang.Comparable Comparable} objects,
+     * based on the {@code functionalCompareTo} method of the {@code SortFunctional} interface.
      * <ul>
-     *     <li>The method starts with a for loop that initializes {@code i} to {@code (right / 2)} and iterates
-     *     as long as {@code i} is greater than {@code left}. The {@code i} value is then divided by <i>2</i>
-     *     in each iteration,
-     *     effectively reducing the interval between elements to be compared and sorted.</li>
-     *     <li>Inside the loop, the {@code insertion} method is called, which likely implements
-     *     the insertion sort algorithm to sort the elements within the specified range, using the provided
-     *     comparison logic.
-     *     The {@code insertion} method would perform the sorting operation on the subarray.</li>
-     *     <li>By calling the {@code insertion} method with the interval of {@code i} and the range from
-     *     {@code i} to {@code right},
-     *     the algorithm performs an insertion sort on the elements at intervals of {@code i}.
-     *     As the loop iterates, the interval is gradually reduced until it reaches {@code left},
-     *     resulting in a final insertion sort on the entire range of elements.</li>
+     *     <li>The gaps are requested from {@code gapSequence} for the size of the range,
+     *     from the largest one down to <i>1</i>.</li>
+     *     <li>For every gap, the {@code insertion} method sorts the chains of elements that are {@code gap}
+     *     positions apart.</li>
      * </ul>
-     * {@code shell} method implements the Shell Sort algorithm to sort the given array of Comparable objects
-     * in ascending order.
-     * It performs insertion sort on different portions of the array with decreasing gaps {@code i} until the
-     * entire array is sorted.
      * @param       array to be arranged.
      * @param       left The starting index of the subarray to be sorted.
-     * @param       right The ending index (exclusive) of the subarray to be sorted.
+     * @param       right The ending index (inclusive) of the subarray to be sorted.
      * @param       functional lambda expression for comparison.
-     * @see         InsertionInterface#insertion(Comparable[], int, int, SortFunctional)
+     * @see         GapSequence#gaps(int)
+     * @see         InsertionInterface#insertion(Comparable[], int, int, int, SortFunctional)
      */
     protected void shell(Comparable[] array, int left, int right, SortFunctional<Comparable> functional) {
-        for (int i = (right / 2); i > left; i /= 2) {
-            insertion(array, i, right, functional);
+        for (int gap : gapSequence.gaps((right - left) + 1)) {
+            insertion(array, left, right, gap, functional);
         }
     }
 
     /**
-     * {@code shellInc} that performs the Shell Sort algorithm on a list of {@link java.lang.Comparable
-     * Comparable} objects.
+     * {@code shellInc} that performs the Shell Sort algorithm on the range {@code left} to {@code right}
+     * (inclusive) of an {@code int} array, in ascending order.
+     * The passes are the same as the ones of {@link Shell#shellInc(Comparable[], int, int)},
+     * but the elements are compared as primitives, without boxing and without virtual calls.
+     * @param       array to be arranged.
+     * @param       left The starting index of the subarray to be sorted.
+     * @param       right The ending index (inclusive) of the subarray to be sorted.
+     * @see         GapSequence#gaps(int)
+     */
+    protected void shellInc(int[] array, int left, int right) {
+        for (int gap : gapSequence.gaps((right - left) + 1)) {
+            for (int i = (left + gap); i <= right; i++) {
+                int select = array[i];
+                int j = i;
+                while ((j >= (left + gap)) && (array[(j - gap)] > select)) {
+                    array[j] = array[(j - gap)];
+                    j -= gap;
+                }
+                array[j] = select;
+            }
+        }
+    }
+
+    /**
+     * {@code shellDec} that performs the Shell Sort algorithm on the range {@code left} to {@code right}
+     * (inclusive) of an {@code int} array, in descending order.
+     * @param       array to be arranged.
+     * @param       left The starting index of the subarray to be sorted.
+     * @param       right The ending index (inclusive) of the subarray to be sorted.
+     * @see         GapSequence#gaps(int)
+     */
+    protected void shellDec(int[] array, int left, int right) {
+        for (int gap : gapSequence.gaps((right - left) + 1)) {
+            for (int i = (left + gap); i <= right; i++) {
+                int select = array[i];
+                int j = i;
+                while ((j >= (left + gap)) && (array[(j - gap)] < select)) {
+                    array[j] = array[(j - gap)];
+                    j -= gap;
+                }
+                array[j] = select;
+            }
+        }
+    }
+
+    /**
+     * {@code shellInc} that performs the Shell Sort algorithm on the range {@code left} to {@code right}
+     * (inclusive) of a {@code long} array, in ascending order.
+     * @param       array to be arranged.
+     * @param       left The starting index of the subarray to be sorted.
+     * @param       right The ending index (inclusive) of the subarray to be sorted.
+     * @see         GapSequence#gaps(int)
+     */
+    protected void shellInc(long[] array, int left, int right) {
+        for (int gap : gapSequence.gaps((right - left) + 1)) {
+            for (int i = (left + gap); i <= right; i++) {
+                long select = array[i];
+                int j = i;
+                while ((j >= (left + gap)) && (array[(j - gap)] > select)) {
+                    array[j] = array[(j - gap)];
+                    j -= gap;
+                }
+                array[j] = select;
+            }
+        }
+    }
+
+    /**
+     * {@code shellDec} that performs the Shell Sort algorithm on the range {@code left} to {@code right}
+     * (inclusive) of a {@code long} array, in descending order.
+     * @param       array to be arranged.
+     * @param       left The starting index of the subarray to be sorted.
+     * @param       right The ending index (inclusive) of the subarray to be sorted.
+     * @see         GapSequence#gaps(int)
+     */
+    protected void shellDec(long[] array, int left, int right) {
+        for (int gap : gapSequence.gaps((right - left) + 1)) {
+            for (int i = (left + gap); i <= right; i++) {
+                long select = array[i];
+                int j = i;
+                while ((j >= (left + gap)) && (array[(j - gap)] < select)) {
+                    array[j] = array[(j - gap)];
+                    j -= gap;
+                }
+                array[j] = select;
+            }
+        }
+    }
+
+    /**
+     * {@code shellInc} that performs the Shell Sort algorithm on the range {@code left} to {@code right}
+     * (inclusive) of a {@code double} array, in ascending order.
+     * @param       array to be arranged.
+     * @param       left The starting index of the subarray to be sorted.
+     * @param       right The ending index (inclusive) of the subarray to be sorted.
+     * @see         GapSequence#gaps(int)
+     */
+    protected void shellInc(double[] array, int left, int right) {
+        for (int gap : gapSequence.gaps((right - left) + 1)) {
+            for (int i = (left + gap); i <= right; i++) {
+                double select = array[i];
+                int j = i;
+                while ((j >= (left + gap)) && (Double.compare(array[(j - gap)], select) > 0)) {
+                    array[j] = array[(j - gap)];
+                    j -= gap;
+                }
+                array[j] = select;
+            }
+        }
+    }
+
+    /**
+     * {@code shellDec} that performs the Shell Sort algorithm on the range {@code left} to {@code right}
+     * (inclusive) of a {@code double} array, in descending order.
+     * @param       array to be arranged.
+     * @param       left The starting index of the subarray to be sorted.
+     * @param       right The ending index (inclusive) of the subarray to be sorted.
+     * @see         GapSequence#gaps(int)
+     */
+    protected void shellDec(double[] array, int left, int right) {
+        for (int gap : gapSequence.gaps((right - left) + 1)) {
+            for (int i = (left + gap); i <= right; i++) {
+                double select = array[i];
+                int j = i;
+                while ((j >= (left + gap)) && (Double.compare(array[(j - gap)], select) < 0)) {
+                    array[j] = array[(j - gap)];
+                    j -= gap;
+                }
+                array[j] = select;
+            }
+        }
+    }
+
+    /**
+     * {@code shellInc} that performs the Shell Sort algorithm on a {@link java.util.List List} of
+     * {@link java.lang.Comparable Comparable} objects.
      * The sorting is done in ascending order.
-     * <ul>
-     *     <li>The method takes in an list of Comparable objects, {@code list}, and performs the Shell Sort
-     *     algorithm on it.</li>
-     *     <li>The method uses a {@code for} loop to iterate over a series of decreasing values of {@code i},
-     *     which represents the gap between elements to be compared and swapped.</li>
-     *     <li>The initial value of {@code i} is set to half the length of the {@code list}:
-     *     {@code (list.size() / 2)}.</li>
-     *     <li>In each iteration of the loop, the value of {@code i} is divided by 2: {@code i /= 2}.</li>
-     *     <li>The loop continues as long as {@code i} is greater than 0.</li>
-     *     <li>Inside the loop, the {@code insertionInc} method is called with the current value
-     *     of {@code i} to perform an insertion sort on the list.</li>
-     *     <li>The {@code insertionInc} method sorts a portion of the list using the Insertion Sort algorithm
-     *     with the specified {@code i} value.</li>
-     *     <li>The insertion sort is performed on elements that are {@code i} positions apart.</li>
-     *     <li>The process continues with decreasing values of {@code i} until {@code i} becomes 0, at which
-     *     point the list is sorted.</li>
-     * </ul>
-     * {@code shellInc} method implements the Shell Sort algorithm to sort the given list of Comparable
-     * objects in ascending order.
-     * It performs insertion sort on different portions of the list with decreasing gaps {@code i} until
-     * the entire list is sorted.
      * @param       list to be arranged.
-     * @see         InsertionInterface#insertionInc(List, int, int)
+     * @see         Shell#shellInc(List, int, int)
      */
     protected <L extends Comparable> void shellInc(List<L> list) {
-        for (int i = (list.size() / 2) ; i > 0; i /= 2) {
-            insertionInc(list, (i - 1), (list.size() - 1));
-        }
+        shellInc(list, 0, (list.size() - 1));
     }
 
     /**
-     * {@code shellDec} that performs the Shell Sort algorithm on a list of {@link java.lang.Comparable
-     * Comparable} objects.
+     * {@code shellDec} that performs the Shell Sort algorithm on a {@link java.util.List List} of
+     * {@link java.lang.Comparable Comparable} objects.
      * The sorting is done in descending order.
-     * <ul>
-     *     <li>The method takes in an list of Comparable objects, {@code list}, and performs the Shell Sort
-     *     algorithm on it.</li>
-     *     <li>The method uses a {@code for} loop to iterate over a series of decreasing values of {@code i},
-     *     which represents the gap between elements to be compared and swapped.</li>
-     *     <li>The initial value of {@code i} is set to half the length of the {@code list}:
-     *     {@code (list.size() / 2)}.</li>
-     *     <li>In each iteration of the loop, the value of {@code i} is divided by 2: {@code i /= 2}.</li>
-     *     <li>The loop continues as long as {@code i} is greater than 0.</li>
-     *     <li>Inside the loop, the {@code insertionDec} method is called with the current value
-     *     of {@code i} to perform an insertion sort on the list.</li>
-     *     <li>The {@code insertionDec} method sorts a portion of the list using the Insertion Sort algorithm
-     *     with the specified {@code i} value.</li>
-     *     <li>The insertion sort is performed on elements that are {@code i} positions apart.</li>
-     *     <li>The process continues with decreasing values of {@code i} until {@code i} becomes 0, at which
-     *     point the list is sorted.</li>
-     * </ul>
-     * {@code shellDec} method implements the Shell Sort algorithm to sort the given list of Comparable objects
-     * in ascending order.
-     * It performs insertion sort on different portions of the list with decreasing gaps {@code i} until the
-     * entire list is sorted.
      * @param       list to be arranged.
-     * @see         InsertionInterface#insertionDec(List, int, int)
+     * @see         Shell#shellDec(List, int, int)
      */
     protected <L extends Comparable> void shellDec(List<L> list) {
-        for (int i = (list.size() / 2); i > 0; i /= 2) {
-            insertionDec(list, (i - 1), (list.size() - 1));
-        }
+        shellDec(list, 0, (list.size() - 1));
     }
 
     /**
-     * {@code shell} method takes a list of {@link java.lang.Comparable Comparable} objects,
-     * along with the left and right indices specifying the range of elements to be sorted.
-     * It also takes a {@code mz.SortFunctional<Comparable>} object representing
-     * the custom comparison logic to be used for sorting.
-     * <ul>
-     *     <li>The method starts with a for loop that initializes {@code i} to {@code (list.size() / 2)}
-     *     and iterates
-     *     as long as {@code i} is greater than <i>0</i>. The {@code i} value is then divided by <i>2</i>
-     *     in each iteration,
-     *     effectively reducing the interval between elements to be compared and sorted.</li>
-     *     <li>Inside the loop, the {@code insertion} method is called, which likely implements
-     *     the insertion sort algorithm to sort the elements within the specified range, using the provided
-     *     comparison logic.
-     *     The {@code insertion} method would perform the sorting operation on the sublist.</li>
-     *     <li>By calling the {@code insertion} method with the interval of {@code i} and the range from
-     *     {@code i} to {@code list.size()},
-     *     the algorithm performs an insertion sort on the elements at intervals of {@code i}.
-     *     As the loop iterates, the interval is gradually reduced until it reaches <i>0</i>,
-     *     resulting in a final insertion sort on the entire range of elements.</li>
-     * </ul>
-     * {@code shell} method implements the Shell Sort algorithm to sort the given list of Comparable objects
-     * in ascending order.
-     * It performs insertion sort on different portions of the list with decreasing gaps {@code i} until the
-     * entire list is sorted.
+     * {@code shell} that performs the Shell Sort algorithm on a {@link java.util.List List} of
+     * {@link java.lang.Comparable Comparable} objects, based on the {@code functionalCompareTo} method of the
+     * {@code SortFunctional} interface.
      * @param       list to be arranged.
      * @param       functional lambda expression for comparison.
-     * @see         InsertionInterface#insertion(List, int, int, SortFunctional)
+     * @see         Shell#shell(List, int, int, SortFunctional)
      */
     protected <L extends Comparable> void shell(List<L> list, SortFunctional<Comparable> functional) {
-        for (int i = (list.size() / 2); i > 0; i /= 2) {
-            insertion(list, (i - 1), (list.size() - 1), functional);
-        }
+        shell(list, 0, (list.size() - 1), functional);
     }
 
     /**
-     * {@code shellInc} that performs the Shell Sort algorithm on an list of {@link java.lang.Comparable
-     * Comparable} objects.
+     * {@code shellInc} that performs the Shell Sort algorithm on the range {@code left} to {@code right}
+     * (inclusive) of a {@link java.util.List List} of {@link java.lang.Comparable Comparable} objects.
      * The sorting is done in ascending order.
      * <ul>
-     *     <li>The method takes in an list of Comparable objects, {@code list}, and performs the Shell Sort
-     *     algorithm on it.</li>
-     *     <li>The method uses a {@code for} loop to iterate over a series of decreasing values of {@code i},
-     *     which represents the gap between elements to be compared and swapped.</li>
-     *     <li>The initial value of {@code i} is set to half the length of the {@code list}:
-     *     {@code (list.length / 2)}.</li>
-     *     <li>In each iteration of the loop, the value of {@code i} is divided by 2: {@code i /= 2}.</li>
-     *     <li>The loop continues as long as {@code i} is greater than 0.</li>
-     *     <li>Inside the loop, the {@code insertionInc} method is called with the current value
-     *     of {@code i} to perform an insertion sort on the list.</li>
-     *     <li>The {@code insertionInc} method sorts a portion of the list using the Insertion Sort algorithm
-     *     with the specified {@code i} value.</li>
-     *     <li>The insertion sort is performed on elements that are {@code i} positions apart.</li>
-     *     <li>The process continues with decreasing values of {@code i} until {@code i} becomes 0, at which
-     *     point the list is sorted.</li>
+     *     <li>The gaps are requested from {@code gapSequence} for the size of the range,
+     *     from the largest one down to <i>1</i>.</li>
+     *     <li>For every gap, the {@code insertionInc} method sorts the chains of elements that are {@code gap}
+     *     positions apart.</li>
      * </ul>
-     * {@code shellInc} method implements the Shell Sort algorithm to sort the given list of Comparable
-     * objects in ascending order.
-     * It performs insertion sort on different portions of the list with decreasing gaps {@code i} until
-     * the entire list is sorted.
      * @param       list to be arranged.
      * @param       left The starting index of the sublist to be sorted.
-     * @param       right The ending index (exclusive) of the sublist to be sorted.
-     * @see         InsertionInterface#insertionInc(List, int, int)
+     * @param       right The ending index (inclusive) of the sublist to be sorted.
+     * @see         GapSequence#gaps(int)
+     * @see         InsertionInterface#insertionInc(List, int, int, int)
      */
     protected <L extends Comparable> void shellInc(List<L> list, int left, int right) {
-        for (int i = (right / 2); i > left; i /= 2) {
-            insertionInc(list, left, right);
+        for (int gap : gapSequence.gaps((right - left) + 1)) {
+            insertionInc(list, left, right, gap);
         }
     }
 
     /**
-     * {@code shellDec} that performs the Shell Sort algorithm on a list of {@link java.lang.Comparable
-     * Comparable} objects.
+     * {@code shellDec} that performs the Shell Sort algorithm on the range {@code left} to {@code right}
+     * (inclusive) of a {@link java.util.List List} of {@link java.lang.Comparable Comparable} objects.
      * The sorting is done in descending order.
      * <ul>
-     *     <li>The method takes in an list of Comparable objects, {@code list}, and performs the Shell Sort
-     *     algorithm on it.</li>
-     *     <li>The method uses a {@code for} loop to iterate over a series of decreasing values of {@code i},
-     *     which represents the gap between elements to be compared and swapped.</li>
-     *     <li>The initial value of {@code i} is set to half the length of the {@code list}:
-     *     {@code (list.length / 2)}.</li>
-     *     <li>In each iteration of the loop, the value of {@code i} is divided by 2: {@code i /= 2}.</li>
-     *     <li>The loop continues as long as {@code i} is greater than 0.</li>
-     *     <li>Inside the loop, the {@code insertionDec} method is called with the current value
-     *     of {@code i} to perform an insertion sort on the list.</li>
-     *     <li>The {@code insertionDec} method sorts a portion of the list using the Insertion Sort algorithm
-     *     with the specified {@code i} value.</li>
-     *     <li>The insertion sort is performed on elements that are {@code i} positions apart.</li>
-     *     <li>The process continues with decreasing values of {@code i} until {@code i} becomes 0, at which
-     *     point the list is sorted.</li>
+     *     <li>The gaps are requested from {@code gapSequence} for the size of the range,
+     *     from the largest one down to <i>1</i>.</li>
+     *     <li>For every gap, the {@code insertionDec} method sorts the chains of elements that are {@code gap}
+     *     positions apart.</li>
      * </ul>
-     * {@code shellDec} method implements the Shell Sort algorithm to sort the given list of Comparable
-     * objects in ascending order.
-     * It performs insertion sort on different portions of the list with decreasing gaps {@code i} until
-     * the entire list is sorted.
      * @param       list to be arranged.
      * @param       left The starting index of the sublist to be sorted.
-     * @param       right The ending index (exclusive) of the sublist to be sorted.
-     * @see         InsertionInterface#insertionDec(List, int, int)
+     * @param       right The ending index (inclusive) of the sublist to be sorted.
+     * @see         GapSequence#gaps(int)
+     * @see         InsertionInterface#insertionDec(List, int, int, int)
      */
     protected <L extends Comparable> void shellDec(List<L> list, int left, int right) {
-        for (int i = (right / 2); i > left; i /= 2) {
-            insertionDec(list, i, right);
+        for (int gap : gapSequence.gaps((right - left) + 1)) {
+            insertionDec(list, left, right, gap);
         }
     }
 
     /**
-     * {@code shell} method takes a list of {@link java.lang.Comparable Comparable} objects,
-     * along with the left and right indices specifying the range of elements to be sorted.
-     * It also takes a {@code SortFunctional<Comparable>} object representing
-     * the custom comparison logic to be used for sorting.
+     * {@code shell} that performs the Shell Sort algorithm on the range {@code left} to {@code right}
+     * (inclusive) of a {@link java.util.List List} of {@link java.lang.Comparable Comparable} objects,
+     * based on the {@code functionalCompareTo} method of the {@code SortFunctional} interface.
      * <ul>
-     *     <li>The method starts with a for loop that initializes {@code i} to {@code (right / 2)} and iterates
-     *     as long as {@code i} is greater than {@code left}. The {@code i} value is then divided by <i>2</i>
-     *     in each iteration,
-     *     effectively reducing the interval between elements to be compared and sorted.</li>
-     *     <li>Inside the loop, the {@code insertion} method is called, which likely implements
-     *     the insertion sort algorithm to sort the elements within the specified range, using the provided
-     *     comparison logic.
-     *     The {@code insertion} method would perform the sorting operation on the sublist.</li>
-     *     <li>By calling the {@code insertion} method with the interval of {@code i} and the range from
-     *     {@code i} to {@code right},
-     *     the algorithm performs an insertion sort on the elements at intervals of {@code i}.
-     *     As the loop iterates, the interval is gradually reduced until it reaches {@code left},
-     *     resulting in a final insertion sort on the entire range of elements.</li>
+     *     <li>The gaps are requested from {@code gapSequence} for the size of the range,
+     *     from the largest one down to <i>1</i>.</li>
+     *     <li>For every gap, the {@code insertion} method sorts the chains of elements that are {@code gap}
+     *     positions apart.</li>
      * </ul>
-     * {@code shell} method implements the Shell Sort algorithm to sort the given list of Comparable
-     * objects in ascending order.
-     * It performs insertion sort on different portions of the list with decreasing gaps {@code i}
-     * until the entire list is sorted.
      * @param       list to be arranged.
      * @param       left The starting index of the sublist to be sorted.
-     * @param       right The ending index (exclusive) of the sublist to be sorted.
+     * @param       right The ending index (inclusive) of the sublist to be sorted.
      * @param       functional lambda expression for comparison.
-     * @see         InsertionInterface#insertion(List, int, int, SortFunctional)
+     * @see         GapSequence#gaps(int)
+     * @see         InsertionInterface#insertion(List, int, int, int, SortFunctional)
      */
     protected <L extends Comparable> void shell(
             List<L> list, int left, int right, SortFunctional<Comparable> functional) {
-        for (int i = (right / 2); i > left; i /= 2) {
-            insertion(list, i, right, functional);
+        for (int gap : gapSequence.gaps((right - left) + 1)) {
+            insertion(list, left, right, gap, functional);
         }
     }
 }
\ No newline at end of file
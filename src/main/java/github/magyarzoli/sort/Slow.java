@@ -1,5 +1,6 @@
 package github.magyarzoli.sort;
 
+import github.magyarzoli.PivotStrategy;
 import github.magyarzoli.SortFunctional;
 import github.magyarzoli.SortSwap;
 import github.magyarzoli.sort.intro.IntroSlow;
@@ -44,6 +45,19 @@ public class Slow
      */
     public Slow() {}
 
+    /**
+     * <b>Slow Sort:</b><br>
+     * With the pivot selection of the partitions given.
+     * Slow Sort itself does not partition, the strategy is used by the partitions inherited from Quick Sort,
+     * for example by the Intro Sort of {@link IntroSlow}.
+     * @param       pivotStrategy the pivot selection of the partitions.
+     * @see         Slow#Slow() Slow
+     * @see         PivotStrategy
+     */
+    public Slow(PivotStrategy pivotStrategy) {
+        super(pivotStrategy);
+    }
+
     /**
      * {@inheritDoc}
      * @param       array to be arranged.
@@ -183,7 +197,7 @@ public class Slow
      *     greater than the element at the {@code right} index. If so, it means the right half contains a smaller value
      *     than the left half's maximum value. In order to ensure the elements are in ascending order, it swaps the
      *     elements at the {@code mid} and {@code right} indices.</li>
-     *     <li>Finally, it makes a recursive call to sort the right half again, excluding the last element
+     *     <li>Finally, instead of a recursive call, the loop sorts the range again, excluding the last element
      *     {@code (right - 1)}. This is done to ensure the rightmost element (the one previously at the
      *     {@code mid} index)
      *     is in its correct position.</li>
@@ -198,16 +212,15 @@ public class Slow
      */
     @SuppressWarnings("unchecked")
     protected void slowInc(Comparable[] array, int left, int right) {
-        if (left >= right) {
-            return;
-        }
-        int mid = ((left + right) / 2);
-        slowInc(array, left, mid);
-        slowInc(array, (mid + 1), right);
-        if (array[mid].compareTo(array[right]) > 0) {
-            swap(array, mid, right);
+        while (left < right) {
+            int mid = ((left + right) / 2);
+            slowInc(array, left, mid);
+            slowInc(array, (mid + 1), right);
+            if (array[mid].compareTo(array[right]) > 0) {
+                swap(array, mid, right);
+            }
+            right--;
         }
-        slowInc(array, left, (right - 1));
     }
 
     /**
@@ -231,7 +244,7 @@ public class Slow
      *     greater than the element at the {@code right} index. If so, it means the right half contains a greater value
      *     than the left half's maximum value. In order to ensure the elements are in descending order, it swaps the
      *     elements at the {@code mid} and {@code right} indices.</li>
-     *     <li>Finally, it makes a recursive call to sort the right half again, excluding the last element
+     *     <li>Finally, instead of a recursive call, the loop sorts the range again, excluding the last element
      *     {@code (right - 1)}. This is done to ensure the rightmost element (the one previously at the
      *     {@code mid} index)
      *     is in its correct position.</li>
@@ -246,16 +259,15 @@ public class Slow
      */
     @SuppressWarnings("unchecked")
     protected void slowDec(Comparable[] array, int left, int right) {
-        if (left >= right) {
-            return;
+        while (left < right) {
+            int mid = ((left + right) / 2);
+            slowDec(array, left, mid);
+            slowDec(array, (mid + 1), right);
+            if (array[mid].compareTo(array[right]) < 0) {
+                swap(array, mid, right);
+            }
+            right--;
         }
-        int mid = ((left + right) / 2);
-        slowDec(array, left, mid);
-        slowDec(array, (mid + 1), right);
-        if (array[mid].compareTo(array[right]) < 0) {
-            swap(array, mid, right);
-        }
-        slowDec(array, left, (right - 1));
     }
 
     /**
@@ -280,7 +292,7 @@ public class Slow
      *     custom comparison returns {@code true}, it means the element at mid should be placed after the element at
      *     {@code right} in the sorted order. Therefore, it swaps the elements at the {@code mid} and {@code right}
      *     indices.</li>
-     *     <li>Finally, it makes a recursive call to sort the right half again, excluding the last element
+     *     <li>Finally, instead of a recursive call, the loop sorts the range again, excluding the last element
      *     {@code (right - 1)}.
      *     This is done to ensure the rightmost element (the one previously at the {@code mid} index) is in its correct
      *     position.</li>
@@ -297,16 +309,15 @@ public class Slow
      * @see         SortSwap#swap(Comparable[], int, int)
      */
     protected void slow(Comparable[] array, int left, int right, SortFunctional<Comparable> functional) {
-        if (left >= right) {
-            return;
-        }
-        int mid = ((left + right) / 2);
-        slow(array, left, mid, functional);
-        slow(array, (mid + 1), right, functional);
-        if (functional.functionalCompareTo(array[mid], array[right])) {
-            swap(array, mid, right);
+        while (left < right) {
+            int mid = ((left + right) / 2);
+            slow(array, left, mid, functional);
+            slow(array, (mid + 1), right, functional);
+            if (functional.functionalCompareTo(array[mid], array[right])) {
+                swap(array, mid, right);
+            }
+            right--;
         }
-        slow(array, left, (right - 1), functional);
     }
 
     /**
@@ -404,7 +415,7 @@ public class Slow
      *     greater than the element at the {@code right} index. If so, it means the right half contains a smaller value
      *     than the left half's maximum value. In order to ensure the elements are in ascending order, it swaps the
      *     elements at the {@code mid} and {@code right} indices.</li>
-     *     <li>Finally, it makes a recursive call to sort the right half again, excluding the last element
+     *     <li>Finally, instead of a recursive call, the loop sorts the range again, excluding the last element
      *     {@code (right - 1)}.
      *     This is done to ensure the rightmost element (the one previously at the {@code mid} index) is in
      *     its correct position.</li>
@@ -421,16 +432,15 @@ public class Slow
      */
     @SuppressWarnings("unchecked")
     protected <L extends Comparable> void slowInc(List<L> list, int left, int right) {
-        if (left >= right) {
-            return;
-        }
-        int mid = ((left + right) / 2);
-        slowInc(list, left, mid);
-        slowInc(list, (mid + 1), right);
-        if (list.get(mid).compareTo(list.get(right)) > 0) {
-            swap(list, mid, right);
+        while (left < right) {
+            int mid = ((left + right) / 2);
+            slowInc(list, left, mid);
+            slowInc(list, (mid + 1), right);
+            if (list.get(mid).compareTo(list.get(right)) > 0) {
+                swap(list, mid, right);
+            }
+            right--;
         }
-        slowInc(list, left, (right - 1));
     }
 
     /**
@@ -459,7 +469,7 @@ public class Slow
      *     greater than the element at the {@code right} index. If so, it means the right half contains a smaller value
      *     than the left half's maximum value. In order to ensure the elements are in descending order, it swaps the
      *     elements at the {@code mid} and {@code right} indices.</li>
-     *     <li>Finally, it makes a recursive call to sort the right half again, excluding the last element
+     *     <li>Finally, instead of a recursive call, the loop sorts the range again, excluding the last element
      *     {@code (right - 1)}.
      *     This is done to ensure the rightmost element (the one previously at the {@code mid} index) is
      *     in its correct position.</li>
@@ -476,16 +486,15 @@ public class Slow
      */
     @SuppressWarnings("unchecked")
     protected <L extends Comparable> void slowDec(List<L> list, int left, int right) {
-        if (left >= right) {
-            return;
+        while (left < right) {
+            int mid = ((left + right) / 2);
+            slowDec(list, left, mid);
+            slowDec(list, (mid + 1), right);
+            if (list.get(mid).compareTo(list.get(right)) < 0) {
+                swap(list, mid, right);
+            }
+            right--;
         }
-        int mid = ((left + right) / 2);
-        slowDec(list, left, mid);
-        slowDec(list, (mid + 1), right);
-        if (list.get(mid).compareTo(list.get(right)) < 0) {
-            swap(list, mid, right);
-        }
-        slowDec(list, left, (right - 1));
     }
 
     /**
@@ -513,7 +522,7 @@ public class Slow
      *     comparison returns {@code true}, it means the element at {@code mid} should be placed after the element at
      *     {@code right} in the sorted order. Therefore, it swaps the elements at the {@code mid} and
      *     {@code right} indices.</li>
-     *     <li>Finally, it makes a recursive call to sort the right half again, excluding the last element
+     *     <li>Finally, instead of a recursive call, the loop sorts the range again, excluding the last element
      *     {@code (right - 1)}.
      *     This is done to ensure the rightmost element (the one previously at the {@code mid} index) is in
      *     its correct position.</li>
@@ -527,15 +536,14 @@ public class Slow
      */
     protected <L extends Comparable> void slow(
             List<L> list, int left, int right, SortFunctional<Comparable> functional) {
-        if (left >= right) {
-            return;
-        }
-        int mid = ((left + right) / 2);
-        slow(list, left, mid, functional);
-        slow(list, (mid + 1), right, functional);
-        if (functional.functionalCompareTo(list.get(mid), list.get(right))) {
-            swap(list, mid, right);
+        while (left < right) {
+            int mid = ((left + right) / 2);
+            slow(list, left, mid, functional);
+            slow(list, (mid + 1), right, functional);
+            if (functional.functionalCompareTo(list.get(mid), list.get(right))) {
+                swap(list, mid, right);
+            }
+            right--;
         }
-        slow(list, left, (right - 1), functional);
     }
 }
\ No newline at end of file
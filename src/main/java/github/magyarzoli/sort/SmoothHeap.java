@@ -2,10 +2,10 @@ package github.magyarzoli.sort;
 
 import github.magyarzoli.SortFunctional;
 import github.magyarzoli.SortList;
+import github.magyarzoli.SortScratch;
 import github.magyarzoli.SortSwap;
 import github.magyarzoli.sort.intro.IntroSmoothHeap;
 
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -20,20 +20,9 @@ public class SmoothHeap
         extends Heap {
 
     /**
-     * Which is an array of {@link java.lang.Comparable Comparable} objects with an initial size of 256,
+     * The arena of the auxiliary arrays given by the caller, {@code null} for the arena of the current thread.
      */
-    protected Comparable[] bufferArray = new Comparable[256];
-
-    /**
-     * Which is a list of {@link java.lang.Comparable Comparable} objects with an initial new {@link java.util.ArrayList
-     * ArrayList},
-     */
-    protected List<Comparable> bufferList = new ArrayList<>();
-
-    /**
-     * Which represents the number of elements currently stored in the buffer.
-     */
-    protected int size = 0;
+    protected final SortScratch scratch;
 
     /**
      * <b>Smooth Heap Sort:</b><br>
@@ -68,7 +57,29 @@ public class SmoothHeap
      * Stability:               <b>No</b>
      * @see         IntroSmoothHeap#IntroSmoothHeap() IntroSmoothHeap
      */
-    public SmoothHeap() {}
+    public SmoothHeap() {
+        this(null);
+    }
+
+    /**
+     * <b>Smooth Heap Sort:</b><br>
+     * Borrows the heap of the array sorts from the {@code scratch} arena of the caller.
+     * @param       scratch the arena of the auxiliary arrays, {@code null} for the arena of the current thread.
+     * @see         SmoothHeap#SmoothHeap() SmoothHeap
+     * @see         SortScratch#SortScratch() SortScratch
+     */
+    public SmoothHeap(SortScratch scratch) {
+        this.scratch = scratch;
+    }
+
+    /**
+     * {@inheritDoc}
+     * @return      the arena of the caller, or the arena of the current thread.
+     */
+    @Override
+    public SortScratch scratch() {
+        return ((scratch != null) ? scratch : SortScratch.local());
+    }
 
     /**
      * {@inheritDoc}
@@ -150,18 +161,21 @@ public class SmoothHeap
      * {@code smoothInc} method uses the {@code insertArrayInc} and {@code deleteArrayMinInc} methods to perform a
      * smooth sort on the given array,
      * resulting in the elements being sorted in increasing order.
+     * The heap {@code buffer} is borrowed from the arena of {@code scratch} for the sort, and released after it.
      * @param       array to be arranged.
-     * @see         SmoothHeap#insertArrayInc(Comparable)
-     * @see         SmoothHeap#deleteArrayMinInc()
+     * @see         SmoothHeap#insertArrayInc(Comparable[], int, Comparable)
+     * @see         SmoothHeap#deleteArrayMinInc(Comparable[], int)
      */
     protected void smoothInc(Comparable[] array) {
         int n = array.length;
+        Comparable[] buffer = borrowArray(n);
         for (int i = 0; i < n; i++) {
-            insertArrayInc(array[i]);
+            insertArrayInc(buffer, i, array[i]);
         }
         for (int i = 0; i < n; i++) {
-            array[i] = deleteArrayMinInc();
+            array[i] = deleteArrayMinInc(buffer, (n - i));
         }
+        releaseArray(buffer, n);
     }
 
     /**
@@ -188,18 +202,21 @@ public class SmoothHeap
      * {@code smoothDec} method uses the {@code insertArrayDec} and {@code deleteArrayMinDec} methods to perform a
      * smooth sort on the given array,
      * resulting in the elements being sorted in increasing order.
+     * The heap {@code buffer} is borrowed from the arena of {@code scratch} for the sort, and released after it.
      * @param       array to be arranged.
-     * @see         SmoothHeap#insertArrayDec(Comparable)
-     * @see         SmoothHeap#deleteArrayMinDec()
+     * @see         SmoothHeap#insertArrayDec(Comparable[], int, Comparable)
+     * @see         SmoothHeap#deleteArrayMinDec(Comparable[], int)
      */
     protected void smoothDec(Comparable[] array) {
         int n = array.length;
+        Comparable[] buffer = borrowArray(n);
         for (int i = 0; i < n; i++) {
-            insertArrayDec(array[i]);
+            insertArrayDec(buffer, i, array[i]);
         }
         for (int i = 0; i < n; i++) {
-            array[i] = deleteArrayMinDec();
+            array[i] = deleteArrayMinDec(buffer, (n - i));
         }
+        releaseArray(buffer, n);
     }
 
     /**
@@ -227,19 +244,22 @@ public class SmoothHeap
      * {@code smooth} method uses the {@code insertArray} and {@code deleteArrayMin} methods to perform a smooth
      * sort on the given array,
      * resulting in the elements being sorted.
+     * The heap {@code buffer} is borrowed from the arena of {@code scratch} for the sort, and released after it.
      * @param       array to be arranged.
      * @param       functional lambda expression for comparison.
-     * @see         SmoothHeap#insertArray(Comparable, SortFunctional)
-     * @see         SmoothHeap#deleteListMin(SortFunctional)
+     * @see         SmoothHeap#insertArray(Comparable[], int, Comparable, SortFunctional)
+     * @see         SmoothHeap#deleteArrayMin(Comparable[], int, SortFunctional)
      */
     protected void smooth(Comparable[] array, SortFunctional<Comparable> functional) {
         int n = array.length;
+        Comparable[] buffer = borrowArray(n);
         for (int i = 0; i < n; i++) {
-            insertArray(array[i], functional);
+            insertArray(buffer, i, array[i], functional);
         }
         for (int i = 0; i < n; i++) {
-            array[i] = deleteArrayMin(functional);
+            array[i] = deleteArrayMin(buffer, (n - i), functional);
         }
+        releaseArray(buffer, n);
     }
 
     /**
@@ -266,19 +286,22 @@ public class SmoothHeap
      * {@code smoothInc} method uses the {@code insertArrayInc} and {@code deleteArrayMinInc} methods to perform a
      * smooth sort on the given array,
      * resulting in the elements being sorted in increasing order.
+     * The heap {@code buffer} is borrowed from the arena of {@code scratch} for the sort, and released after it.
      * @param       array to be arranged.
      * @param       left the value in the array must be smaller than a {@code right} parameter.
      * @param       right the value in the array must be greater than a {@code left} parameter.
-     * @see         SmoothHeap#insertArrayInc(Comparable)
-     * @see         SmoothHeap#deleteArrayMinInc()
+     * @see         SmoothHeap#insertArrayInc(Comparable[], int, Comparable)
+     * @see         SmoothHeap#deleteArrayMinInc(Comparable[], int)
      */
     protected void smoothInc(Comparable[] array, int left, int right) {
+        Comparable[] buffer = borrowArray((right - left));
         for (int i = left; i < right; i++) {
-            insertArrayInc(array[i]);
+            insertArrayInc(buffer, (i - left), array[i]);
         }
         for (int i = left; i < right; i++) {
-            array[i] = deleteArrayMinInc();
+            array[i] = deleteArrayMinInc(buffer, (right - i));
         }
+        releaseArray(buffer, (right - left));
     }
 
     /**
@@ -305,19 +328,22 @@ public class SmoothHeap
      * {@code smoothDec} method uses the {@code insertArrayDec} and {@code deleteArrayMinDec} methods to perform a
      * smooth sort on the given array,
      * resulting in the elements being sorted in increasing order.
+     * The heap {@code buffer} is borrowed from the arena of {@code scratch} for the sort, and released after it.
      * @param       array to be arranged.
      * @param       left the value in the array must be smaller than a {@code right} parameter.
      * @param       right the value in the array must be greater than a {@code left} parameter.
-     * @see         SmoothHeap#insertArrayDec(Comparable)
-     * @see         SmoothHeap#deleteArrayMinDec()
+     * @see         SmoothHeap#insertArrayDec(Comparable[], int, Comparable)
+     * @see         SmoothHeap#deleteArrayMinDec(Comparable[], int)
      */
     protected void smoothDec(Comparable[] array, int left, int right) {
+        Comparable[] buffer = borrowArray((right - left));
         for (int i = left; i < right; i++) {
-            insertArrayDec(array[i]);
+            insertArrayDec(buffer, (i - left), array[i]);
         }
         for (int i = left; i < right; i++) {
-            array[i] = deleteArrayMinDec();
+            array[i] = deleteArrayMinDec(buffer, (right - i));
         }
+        releaseArray(buffer, (right - left));
     }
 
     /**
@@ -346,20 +372,23 @@ public class SmoothHeap
      * {@code smooth} method uses the {@code insertArray} and {@code deleteArrayMin} methods to perform a smooth
      * sort on the given array,
      * resulting in the elements being sorted.
+     * The heap {@code buffer} is borrowed from the arena of {@code scratch} for the sort, and released after it.
      * @param       array to be arranged.
      * @param       left the value in the array must be smaller than a {@code right} parameter.
      * @param       right the value in the array must be greater than a {@code left} parameter.
      * @param       functional lambda expression for comparison.
-     * @see         SmoothHeap#insertArray(Comparable, SortFunctional)
-     * @see         SmoothHeap#deleteListMin(SortFunctional)
+     * @see         SmoothHeap#insertArray(Comparable[], int, Comparable, SortFunctional)
+     * @see         SmoothHeap#deleteArrayMin(Comparable[], int, SortFunctional)
      */
     protected void smooth(Comparable[] array, int left, int right, SortFunctional<Comparable> functional) {
+        Comparable[] buffer = borrowArray((right - left));
         for (int i = left; i < right; i++) {
-            insertArray(array[i], functional);
+            insertArray(buffer, (i - left), array[i], functional);
         }
         for (int i = left; i < right; i++) {
-            array[i] = deleteArrayMin(functional);
+            array[i] = deleteArrayMin(buffer, (right - i), functional);
         }
+        releaseArray(buffer, (right - left));
     }
 
     /**
@@ -374,14 +403,10 @@ public class SmoothHeap
      *     This annotation is not directly related to the functionality of the method but rather a way to handle
      *     warnings.</li>
      *     <li>The method starts by inserting the {@code insert} element at index {@code size} in the {@code buffer}
-     *     array and then increments the {@code size} variable.
+     *     array.
      *     This step adds the new element to the end of the heap structure.</li>
-     *     <li>The {@code resize} method is called to check if the size of the buffer exceeds half of its capacity.
-     *     If it does, the buffer is resized by doubling its capacity using the expression
-     *     {@code (buffer.length * 2)}.</li>
-     *     <li>The {@code if (size > 1)} condition checks if there is more than one element in the buffer.
-     *     If so, the method enters a loop that continues as long as the current index {@code i} is not equal to 0
-     *     (the root of the heap).</li>
+     *     <li>The method enters a loop that continues as long as the current index {@code i}, starting at
+     *     {@code size}, is not equal to 0 (the root of the heap).</li>
      *     <li>Inside the loop, the variable {@code j} is assigned the index of the parent element of the
      *     current element
      *     at index {@code i}, calculated using the expression {@code ((i - 1) / 2)}.</li>
@@ -397,26 +422,25 @@ public class SmoothHeap
      * </ul>
      * {@code insertArrayInc} method adds a new element to a heap structure stored in
      * the {@code buffer} array and ensures that the heap property is maintained after the insertion.
-     * It achieves this by adding the element to the end of the heap, resizing the buffer if necessary,
+     * It achieves this by adding the element to the end of the heap,
      * and iteratively comparing and swapping elements with their parents to restore the heap property.
+     * The heap and its size are passed by the caller, so the sorts running on the same instance do not share them.
+     * @param       buffer the heap, longer than {@code size}.
+     * @param       size the number of elements in the heap before the insertion.
      * @param       insert starts by inserting the element.
-     * @see         SmoothHeap#resizeArray(int)
      * @see         SortSwap#swap(Comparable[], int, int)
      */
     @SuppressWarnings("unchecked")
-    protected void insertArrayInc(Comparable insert) {
-        bufferArray[size++] = insert;
-        resizeArray(bufferArray.length * 2);
-        if (size > 1) {
-            int i = (size - 1);
-            while (i != 0) {
-                int j = ((i - 1) / 2);
-                if (bufferArray[j].compareTo(bufferArray[i]) > 0) {
-                    swap(bufferArray, i, j);
-                    i = j;
-                } else {
-                    break;
-                }
+    protected void insertArrayInc(Comparable[] buffer, int size, Comparable insert) {
+        buffer[size] = insert;
+        int i = size;
+        while (i != 0) {
+            int j = ((i - 1) / 2);
+            if (buffer[j].compareTo(buffer[i]) > 0) {
+                swap(buffer, i, j);
+                i = j;
+            } else {
+                break;
             }
         }
     }
@@ -434,14 +458,10 @@ public class SmoothHeap
      *     This annotation is not directly related to the functionality of the method but rather a way to
      *     handle warnings.</li>
      *     <li>The method starts by inserting the {@code insert} element at index {@code size} in the {@code buffer}
-     *     array and then increments the {@code size} variable.
+     *     array.
      *     This step adds the new element to the end of the heap structure.</li>
-     *     <li>The {@code resize} method is called to check if the size of the buffer exceeds half of its capacity.
-     *     If it does, the buffer is resized by doubling its capacity using the expression
-     *     {@code (buffer.length * 2)}.</li>
-     *     <li>The {@code if (size > 1)} condition checks if there is more than one element in the buffer.
-     *     If so, the method enters a loop that continues as long as the current index {@code i} is not equal to 0
-     *     (the root of the heap).</li>
+     *     <li>The method enters a loop that continues as long as the current index {@code i}, starting at
+     *     {@code size}, is not equal to 0 (the root of the heap).</li>
      *     <li>Inside the loop, the variable {@code j} is assigned the index of the parent element of the curren
      *     element
      *     at index {@code i}, calculated using the expression {@code ((i - 1) / 2)}.</li>
@@ -457,26 +477,25 @@ public class SmoothHeap
      * </ul>
      * {@code insertArrayDec} method adds a new element to a heap structure stored in
      * the {@code buffer} array and ensures that the heap property is maintained after the insertion.
-     * It achieves this by adding the element to the end of the heap, resizing the buffer if necessary,
+     * It achieves this by adding the element to the end of the heap,
      * and iteratively comparing and swapping elements with their parents to restore the heap property.
+     * The heap and its size are passed by the caller, so the sorts running on the same instance do not share them.
+     * @param       buffer the heap, longer than {@code size}.
+     * @param       size the number of elements in the heap before the insertion.
      * @param       insert starts by inserting the element.
-     * @see         SmoothHeap#resizeArray(int)
      * @see         SortSwap#swap(Comparable[], int, int)
      */
     @SuppressWarnings("unchecked")
-    protected void insertArrayDec(Comparable insert) {
-        bufferArray[size++] = insert;
-        resizeArray(bufferArray.length * 2);
-        if (size > 1) {
-            int i = (size - 1);
-            while (i != 0) {
-                int j = ((i - 1) / 2);
-                if (bufferArray[j].compareTo(bufferArray[i]) < 0) {
-                    swap(bufferArray, i, j);
-                    i = j;
-                } else {
-                    break;
-                }
+    protected void insertArrayDec(Comparable[] buffer, int size, Comparable insert) {
+        buffer[size] = insert;
+        int i = size;
+        while (i != 0) {
+            int j = ((i - 1) / 2);
+            if (buffer[j].compareTo(buffer[i]) < 0) {
+                swap(buffer, i, j);
+                i = j;
+            } else {
+                break;
             }
         }
     }
@@ -488,11 +507,8 @@ public class SmoothHeap
      * the ordering of elements based on the {@code SortFunctional} object.
      * <ul>
      *     <li>It adds the {@code insert} element to the {@code buffer} array at
-     *     the current {@code size} index and increments the {@code size} variable.</li>
-     *     <li>It checks if the {@code size} is greater than <i>1</i>,
-     *     indicating that there are already elements in the buffer.</li>
-     *     <li>If there are elements in the buffer, it initializes the index {@code i} as the current
-     *     {@code (size - 1)},
+     *     the current {@code size} index.</li>
+     *     <li>It initializes the index {@code i} as the {@code size},
      *     representing the index of the newly inserted element.</li>
      *     <li>It enters a while loop that continues until {@code i} is not equal to <i>0</i>,
      *     indicating that the element has reached the root of the binary heap.</li>
@@ -514,28 +530,28 @@ public class SmoothHeap
      * </ul>
      * {@code insertArray} method adds a new element to a heap structure stored in
      * the {@code buffer} array and ensures that the heap property is maintained after the insertion.
-     * It achieves this by adding the element to the end of the heap, resizing the buffer if necessary,
+     * It achieves this by adding the element to the end of the heap,
      * and iteratively comparing and swapping elements with their parents to restore the heap property.
+     * The heap and its size are passed by the caller, so the sorts running on the same instance do not share them.
+     * @param       buffer the heap, longer than {@code size}.
+     * @param       size the number of elements in the heap before the insertion.
      * @param       insert starts by inserting the element.
      * @param       functional lambda expression for comparison.
-     * @see         SmoothHeap#resizeArray(int)
      * @see         SortFunctional#functionalCompareTo(Comparable, Comparable)
      * @see         SortSwap#swap(Comparable[], int, int)
      *
      */
-    protected void insertArray(Comparable insert, SortFunctional<Comparable> functional) {
-        bufferArray[size++] = insert;
-        resizeArray(bufferArray.length * 2);
-        if (size > 1) {
-            int i = (size - 1);
-            while (i != 0) {
-                int j = ((i - 1) / 2);
-                if (functional.functionalCompareTo(bufferArray[j], bufferArray[i])) {
-                    swap(bufferArray, i, j);
-                    i = j;
-                } else {
-                    break;
-                }
+    protected void insertArray(
+            Comparable[] buffer, int size, Comparable insert, SortFunctional<Comparable> functional) {
+        buffer[size] = insert;
+        int i = size;
+        while (i != 0) {
+            int j = ((i - 1) / 2);
+            if (functional.functionalCompareTo(buffer[j], buffer[i])) {
+                swap(buffer, i, j);
+                i = j;
+            } else {
+                break;
             }
         }
     }
@@ -583,21 +599,24 @@ public class SmoothHeap
      * the heap property is maintained after the deletion.
      * It achieves this by swapping the minimum element with the last element, adjusting the size of the heap,
      * and iteratively comparing and swapping elements to restore the heap property.
+     * The heap and its size are passed by the caller, so the sorts running on the same instance do not share them.
+     * @param       buffer the heap.
+     * @param       size the number of elements in the heap before the deletion.
      * @return      the deleted minimum element stored in the {@code result} variable
      * @see         SortSwap#swap(Comparable[], int, int)
      */
     @SuppressWarnings("unchecked")
-    protected Comparable deleteArrayMinInc() {
-        Comparable result = bufferArray[0];
-        swap(bufferArray, 0, --size);
+    protected Comparable deleteArrayMinInc(Comparable[] buffer, int size) {
+        Comparable result = buffer[0];
+        swap(buffer, 0, --size);
         int i = 0;
         while (((2 * i) + 1) < size) {
             int j = ((2 * i) + 1);
-            if (((j + 1) < size) && (bufferArray[j].compareTo(bufferArray[(j + 1)]) > 0)) {
+            if (((j + 1) < size) && (buffer[j].compareTo(buffer[(j + 1)]) > 0)) {
                 j++;
             }
-            if (bufferArray[i].compareTo(bufferArray[j]) > 0) {
-                swap(bufferArray, j, i);
+            if (buffer[i].compareTo(buffer[j]) > 0) {
+                swap(buffer, j, i);
                 i = j;
             } else {
                 break;
@@ -649,21 +668,24 @@ public class SmoothHeap
      * the heap property is maintained after the deletion.
      * It achieves this by swapping the minimum element with the last element, adjusting the size of the heap,
      * and iteratively comparing and swapping elements to restore the heap property.
+     * The heap and its size are passed by the caller, so the sorts running on the same instance do not share them.
+     * @param       buffer the heap.
+     * @param       size the number of elements in the heap before the deletion.
      * @return      the deleted minimum element stored in the {@code result} variable
      * @see         SortSwap#swap(Comparable[], int, int)
      */
     @SuppressWarnings("unchecked")
-    protected Comparable deleteArrayMinDec() {
-        Comparable result = bufferArray[0];
-        swap(bufferArray, 0, --size);
+    protected Comparable deleteArrayMinDec(Comparable[] buffer, int size) {
+        Comparable result = buffer[0];
+        swap(buffer, 0, --size);
         int i = 0;
         while (((2 * i) + 1) < size) {
             int j = ((2 * i) + 1);
-            if (((j + 1) < size) && (bufferArray[j].compareTo(bufferArray[(j + 1)]) < 0)) {
+            if (((j + 1) < size) && (buffer[j].compareTo(buffer[(j + 1)]) < 0)) {
                 j++;
             }
-            if (bufferArray[i].compareTo(bufferArray[j]) < 0) {
-                swap(bufferArray, j, i);
+            if (buffer[i].compareTo(buffer[j]) < 0) {
+                swap(buffer, j, i);
                 i = j;
             } else {
                 break;
@@ -713,22 +735,25 @@ public class SmoothHeap
      * the heap property is maintained after the deletion.
      * It achieves this by swapping the minimum element with the last element, adjusting the size of the heap,
      * and iteratively comparing and swapping elements to restore the heap property.
+     * The heap and its size are passed by the caller, so the sorts running on the same instance do not share them.
+     * @param       buffer the heap.
+     * @param       size the number of elements in the heap before the deletion.
      * @param       functional lambda expression for comparison.
      * @return      the deleted minimum element stored in the {@code result} variable
      * @see         SortSwap#swap(Comparable[], int, int)
      * @see         SortFunctional#functionalCompareTo(Comparable, Comparable)
      */
-    protected Comparable deleteArrayMin(SortFunctional<Comparable> functional) {
-        Comparable result = bufferArray[0];
-        swap(bufferArray, 0, --size);
+    protected Comparable deleteArrayMin(Comparable[] buffer, int size, SortFunctional<Comparable> functional) {
+        Comparable result = buffer[0];
+        swap(buffer, 0, --size);
         int i = 0;
         while (((2 * i) + 1) < size) {
             int j = ((2 * i) + 1);
-            if (((j + 1) < size) && (functional.functionalCompareTo(bufferArray[j], bufferArray[(j + 1)]))) {
+            if (((j + 1) < size) && (functional.functionalCompareTo(buffer[j], buffer[(j + 1)]))) {
                 j++;
             }
-            if (functional.functionalCompareTo(bufferArray[i], bufferArray[j])) {
-                swap(bufferArray, j, i);
+            if (functional.functionalCompareTo(buffer[i], buffer[j])) {
+                swap(buffer, j, i);
                 i = j;
             } else {
                 break;
@@ -738,232 +763,240 @@ public class SmoothHeap
     }
 
     /**
-     * {@code resizeArray} this method is used to resize the internal buffer of an object or
-     * class that contains an array of {@link java.lang.Comparable Comparable} objects.
-     * The method takes a capacity parameter to specify the new capacity of the buffer.
-     * <ul>
-     *     <li>The code snippet includes two private variables:
-     *     {@code buffer}, which is an array of {@code Comparable} objects with an initial size of 256,
-     *     and {@code size}, which represents the number of elements currently stored in the buffer.</li>
-     *     <li>The {@code resizeArray} method is used to adjust the capacity of the buffer based on the
-     *     provided {@code capacity} parameter.
-     *     It checks if the current {@code size} of the buffer is half of the desired {@code capacity}.</li>
-     *     <li>If the condition is met, indicating that the current buffer is utilizing half or more of its
-     *     capacity,
-     *     the method creates a new buffer with the specified {@code capacity} using the {@code Comparable}
-     *     array type.</li>
-     *     <li>The {@link java.lang.System#arraycopy(Object, int, Object, int, int) System.arraycopy} method
-     *     is then used to copy the existing elements from the current buffer {@code (buffer)}
-     *     to the newly created buffer {@code (newBuffer)}, up to the current {@code size}.</li>
-     *     <li>Finally, the reference to the new buffer is assigned to the {@code buffer} variable,
-     *     effectively resizing the buffer to the specified capacity.</li>
-     * </ul>
-     * {@code resizeArray} method ensures that the buffer is resized when the number of elements stored in it
-     * reaches half of its capacity.
-     * It creates a new buffer with the desired capacity and copies the existing elements from the old buffer
-     * to the new buffer.
-     * @param       capacity the new capacity of the buffer
+     * {@code borrowArray} borrows the heap of a sort from the arena of {@code scratch}.
+     * The heap is longer than the number of elements, so it never grows, and it is a local of the sort,
+     * not a field, so the sorts running on the same instance each have their own heap.
+     * @param       length the number of elements to be sorted.
+     * @return      the heap.
+     * @see         SortScratch#borrow(int)
      */
-    protected void resizeArray(int capacity) {
-        if (size == (capacity / 2)) {
-            Comparable[] newBuffer = new Comparable[capacity];
-            System.arraycopy(bufferArray, 0, newBuffer, 0, size);
-            bufferArray = newBuffer;
-        }
+    protected Comparable[] borrowArray(int length) {
+        return scratch().borrow((length + 1));
+    }
+
+    /**
+     * {@code releaseArray} releases the heap of a sort to the arena of {@code scratch}.
+     * The arena clears the references of the sorted elements.
+     * @param       buffer the heap.
+     * @param       length the number of elements sorted.
+     * @see         SortScratch#release(Comparable[], int)
+     */
+    protected void releaseArray(Comparable[] buffer, int length) {
+        scratch().release(buffer, length);
     }
 
     /**
      * {@code smoothInc}. This method performs a Smooth Heap Sort on a list of
      * {@link java.lang.Comparable Comparable} objects in increasing order.
-     * It utilizes the {@code insertListInc} and {@code deleteListMinInc} methods to build a heap from the list
+     * It utilizes the {@code insertArrayInc} and {@code deleteArrayMinInc} methods to build a heap from the list
      * elements and then extract
      * the elements from the heap in sorted order.
      * <ul>
      *     <li>The method takes an list of {@code Comparable} objects, denoted by {@code list}, as a parameter.</li>
      *     <li>The variable {@code n} is assigned the length of the {@code list}.</li>
      *     <li>The first {@code for} loop iterates over the elements of the {@code list}. For each element,
-     *     it calls the {@code insertListInc} method
+     *     it calls the {@code insertArrayInc} method
      *     to insert the element into the heap represented by the {@code buffer}.</li>
      *     <li>After the first loop completes, the {@code buffer} contains all the elements from the {@code list}
      *     in a heap structure.</li>
      *     <li>The second {@code for} loop iterates over the indices of the {@code list}. For each index
      *     {@code i}, it calls
-     *     the {@code deleteListMinInc} method to extract the minimum element from the heap and assigns it
+     *     the {@code deleteArrayMinInc} method to extract the minimum element from the heap and assigns it
      *     back to the {@code list[i]}.
      *     This effectively sorts the elements of the {@code list} in increasing order.</li>
      *     <li>At the end of the method, the {@code list} will contain the elements sorted in increasing order.</li>
      * </ul>
-     * {@code smoothInc} method uses the {@code insertListInc} and {@code deleteListMinInc} methods to perform
+     * {@code smoothInc} method uses the {@code insertArrayInc} and {@code deleteArrayMinInc} methods to perform
      * a smooth sort on the given list,
      * resulting in the elements being sorted in increasing order.
+     * The heap {@code buffer} is borrowed from the arena of {@code scratch} for the sort, and released after it.
      * @param       list to be arranged.
-     * @see         SmoothHeap#insertListInc(Comparable)
-     * @see         SmoothHeap#deleteListMinInc()
+     * @see         SmoothHeap#insertArrayInc(Comparable[], int, Comparable)
+     * @see         SmoothHeap#deleteArrayMinInc(Comparable[], int)
      */
+    @SuppressWarnings("unchecked")
     protected <L extends Comparable> void smoothInc(List<L> list) {
         int n = list.size();
+        Comparable[] buffer = borrowArray(n);
         for (int i = 0; i < n; i++) {
-            insertListInc(list.get(i));
+            insertArrayInc(buffer, i, list.get(i));
         }
         for (int i = 0; i < n; i++) {
-            list.set(i, deleteListMinInc());
+            list.set(i, (L) deleteArrayMinInc(buffer, (n - i)));
         }
+        releaseArray(buffer, n);
     }
 
     /**
      * {@code smoothDec}. This method performs a Smooth Heap Sort on a list of
      * {@link java.lang.Comparable Comparable} objects in increasing order.
-     * It utilizes the {@code insertListDec} and {@code deleteListMinDec} methods to build a heap from the
+     * It utilizes the {@code insertArrayDec} and {@code deleteArrayMinDec} methods to build a heap from the
      * list elements and then extract
      * the elements from the heap in sorted order.
      * <ul>
      *     <li>The method takes an list of {@code Comparable} objects, denoted by {@code list}, as a parameter.</li>
      *     <li>The variable {@code n} is assigned the length of the {@code list}.</li>
      *     <li>The first {@code for} loop iterates over the elements of the {@code list}. For each element, it
-     *     calls the {@code insertListDec} method
+     *     calls the {@code insertArrayDec} method
      *     to insert the element into the heap represented by the {@code buffer}.</li>
      *     <li>After the first loop completes, the {@code buffer} contains all the elements from the {@code list}
      *     in a heap structure.</li>
      *     <li>The second {@code for} loop iterates over the indices of the {@code list}. For each index
      *     {@code i}, it calls
-     *     the {@code deleteListMinDec} method to extract the minimum element from the heap and assigns it
+     *     the {@code deleteArrayMinDec} method to extract the minimum element from the heap and assigns it
      *     back to the {@code list.get(i)}.
      *     This effectively sorts the elements of the {@code list} in increasing order.</li>
      *     <li>At the end of the method, the {@code list} will contain the elements sorted in increasing order.</li>
      * </ul>
-     * {@code smoothDec} method uses the {@code insertListDec} and {@code deleteListMinDec} methods to perform
+     * {@code smoothDec} method uses the {@code insertArrayDec} and {@code deleteArrayMinDec} methods to perform
      * a smooth sort on the given list,
      * resulting in the elements being sorted in increasing order.
+     * The heap {@code buffer} is borrowed from the arena of {@code scratch} for the sort, and released after it.
      * @param       list to be arranged.
-     * @see         SmoothHeap#insertListDec(Comparable)
-     * @see         SmoothHeap#deleteListMinDec()
+     * @see         SmoothHeap#insertArrayDec(Comparable[], int, Comparable)
+     * @see         SmoothHeap#deleteArrayMinDec(Comparable[], int)
      */
+    @SuppressWarnings("unchecked")
     protected <L extends Comparable> void smoothDec(List<L> list) {
         int n = list.size();
+        Comparable[] buffer = borrowArray(n);
         for (int i = 0; i < n; i++) {
-            insertListDec(list.get(i));
+            insertArrayDec(buffer, i, list.get(i));
         }
         for (int i = 0; i < n; i++) {
-            list.set(i, deleteListMinDec());
+            list.set(i, (L) deleteArrayMinDec(buffer, (n - i)));
         }
+        releaseArray(buffer, n);
     }
 
     /**
      * {@code smooth} that takes a list of {@link java.lang.Comparable Comparable} objects {@code list},
      * and a {@code SortFunctional<Comparable>} object as parameters.
      * This method performs a smooth sort on the specified portion of the list using
-     * the {@code insertList} and {@code deleteListMin} methods while maintaining the ordering based on the
+     * the {@code insertArray} and {@code deleteArrayMin} methods while maintaining the ordering based on the
      * {@code SortFunctional} object.
      * <ul>
      *     <li>It iterates over the elements in the range from <i>0</i> to {@code list.size()} (exclusive) of the
      *     {@code list}.</li>
-     *     <li>Inside the loop, it calls the {@code insertList} method with the current element and the
+     *     <li>Inside the loop, it calls the {@code insertArray} method with the current element and the
      *     {@code functional} object as arguments.
      *     This inserts the element into a buffer (presumably a binary heap) while maintaining
      *     the ordering based on the {@code SortFunctional} object.</li>
      *     <li>After the first loop, all elements in the specified range have been inserted into the buffer.</li>
      *     <li>It iterates again over the same range of elements from <i>0</i> to {@code n}.</li>
-     *     <li>Inside this loop, it assigns the result of calling the {@code deleteListMin} method with
+     *     <li>Inside this loop, it assigns the result of calling the {@code deleteArrayMin} method with
      *     the {@code functional} object to the corresponding element in the {@code list}.
      *     This operation removes the minimum element from the buffer while maintaining the ordering based on
      *     the {@code SortFunctional} object and assigns it to the current index in the {@code list}.</li>
      *     <li>After the second loop, the elements in the specified range of the {@code list}
      *     have been sorted in non-decreasing order based on the {@code functional} object.</li>
      * </ul>
-     * {@code smooth} method uses the {@code insertList} and {@code deleteListMin} methods to perform a smooth
+     * {@code smooth} method uses the {@code insertArray} and {@code deleteArrayMin} methods to perform a smooth
      * sort on the given list,
      * resulting in the elements being sorted.
+     * The heap {@code buffer} is borrowed from the arena of {@code scratch} for the sort, and released after it.
      * @param       list to be arranged.
      * @param       functional lambda expression for comparison.
-     * @see         SmoothHeap#insertList(Comparable, SortFunctional)
-     * @see         SmoothHeap#deleteListMin(SortFunctional)
+     * @see         SmoothHeap#insertArray(Comparable[], int, Comparable, SortFunctional)
+     * @see         SmoothHeap#deleteArrayMin(Comparable[], int, SortFunctional)
      */
+    @SuppressWarnings("unchecked")
     protected <L extends Comparable> void smooth(List<L> list, SortFunctional<Comparable> functional) {
         int n = list.size();
+        Comparable[] buffer = borrowArray(n);
         for (int i = 0; i < n; i++) {
-            insertList(list.get(i), functional);
+            insertArray(buffer, i, list.get(i), functional);
         }
         for (int i = 0; i < n; i++) {
-            list.set(i, deleteListMin(functional));
+            list.set(i, (L) deleteArrayMin(buffer, (n - i), functional));
         }
+        releaseArray(buffer, n);
     }
 
     /**
      * {@code smoothInc}. This method performs a Smooth Heap Sort on a list of
      * {@link java.lang.Comparable Comparable} objects in increasing order.
-     * It utilizes the {@code insertListInc} and {@code deleteListMinInc} methods to build a heap from the list
+     * It utilizes the {@code insertArrayInc} and {@code deleteArrayMinInc} methods to build a heap from the list
      * elements and then extract
      * the elements from the heap in sorted order.
      * <ul>
      *     <li>The method takes an list of {@code Comparable} objects, denoted by {@code list}, as a parameter.</li>
      *     <li>The variable {@code right} is assigned the length of the {@code list}.</li>
      *     <li>The first {@code for} loop iterates over the elements of the {@code list}. For each element, it
-     *     calls the {@code insertListInc} method
+     *     calls the {@code insertArrayInc} method
      *     to insert the element into the heap represented by the {@code buffer}.</li>
      *     <li>After the first loop completes, the {@code buffer} contains all the elements from the {@code list}
      *     in a heap structure.</li>
      *     <li>The second {@code for} loop iterates over the indices of the {@code list}. For each index {@code i},
      *     it calls
-     *     the {@code deleteListMinInc} method to extract the minimum element from the heap and assigns it
+     *     the {@code deleteArrayMinInc} method to extract the minimum element from the heap and assigns it
      *     back to the {@code list.get(i)}.
      *     This effectively sorts the elements of the {@code list} in increasing order.</li>
      *     <li>At the end of the method, the {@code list} will contain the elements sorted in increasing order.</li>
      * </ul>
-     * {@code smoothInc} method uses the {@code insertListInc} and {@code deleteListMinInc} methods to perform
+     * {@code smoothInc} method uses the {@code insertArrayInc} and {@code deleteArrayMinInc} methods to perform
      * a smooth sort on the given list,
      * resulting in the elements being sorted in increasing order.
+     * The heap {@code buffer} is borrowed from the arena of {@code scratch} for the sort, and released after it.
      * @param       list to be arranged.
      * @param       left the value in the list must be smaller than a {@code right} parameter.
      * @param       right the value in the list must be greater than a {@code left} parameter.
-     * @see         SmoothHeap#insertListInc(Comparable)
-     * @see         SmoothHeap#deleteListMinInc()
+     * @see         SmoothHeap#insertArrayInc(Comparable[], int, Comparable)
+     * @see         SmoothHeap#deleteArrayMinInc(Comparable[], int)
      */
+    @SuppressWarnings("unchecked")
     protected <L extends Comparable> void smoothInc(List<L> list, int left, int right) {
+        Comparable[] buffer = borrowArray((right - left));
         for (int i = left; i < right; i++) {
-            insertListInc(list.get(i));
+            insertArrayInc(buffer, (i - left), list.get(i));
         }
         for (int i = left; i < right; i++) {
-            list.set(i, deleteListMinInc());
+            list.set(i, (L) deleteArrayMinInc(buffer, (right - i)));
         }
+        releaseArray(buffer, (right - left));
     }
 
     /**
      * {@code smoothDec}. This method performs a Smooth Heap Sort on a list of
      * {@link java.lang.Comparable Comparable} objects in increasing order.
-     * It utilizes the {@code insertListDec} and {@code deleteListMinDec} methods to build a heap from the list
+     * It utilizes the {@code insertArrayDec} and {@code deleteArrayMinDec} methods to build a heap from the list
      * elements and then extract
      * the elements from the heap in sorted order.
      * <ul>
      *     <li>The method takes an list of {@code Comparable} objects, denoted by {@code list}, as a parameter.</li>
      *     <li>The variable {@code n} is assigned the length of the {@code list}.</li>
      *     <li>The first {@code for} loop iterates over the elements of the {@code list}. For each element,
-     *     it calls the {@code insertListDec} method
+     *     it calls the {@code insertArrayDec} method
      *     to insert the element into the heap represented by the {@code buffer}.</li>
      *     <li>After the first loop completes, the {@code buffer} contains all the elements from the {@code list}
      *     in a heap structure.</li>
      *     <li>The second {@code for} loop iterates over the indices of the {@code list}. For each index {@code i},
      *     it calls
-     *     the {@code deleteListMinDec} method to extract the minimum element from the heap and assigns it
+     *     the {@code deleteArrayMinDec} method to extract the minimum element from the heap and assigns it
      *     back to the {@code list.get(i)}.
      *     This effectively sorts the elements of the {@code list} in increasing order.</li>
      *     <li>At the end of the method, the {@code list} will contain the elements sorted in increasing order.</li>
      * </ul>
-     * {@code smoothDec} method uses the {@code insertListDec} and {@code deleteListMinDec} methods to perform
+     * {@code smoothDec} method uses the {@code insertArrayDec} and {@code deleteArrayMinDec} methods to perform
      * a smooth sort on the given list,
      * resulting in the elements being sorted in increasing order.
+     * The heap {@code buffer} is borrowed from the arena of {@code scratch} for the sort, and released after it.
      * @param       list to be arranged.
      * @param       left the value in the list must be smaller than a {@code right} parameter.
      * @param       right the value in the list must be greater than a {@code left} parameter.
-     * @see         SmoothHeap#insertListDec(Comparable)
-     * @see         SmoothHeap#deleteListMinDec()
+     * @see         SmoothHeap#insertArrayDec(Comparable[], int, Comparable)
+     * @see         SmoothHeap#deleteArrayMinDec(Comparable[], int)
      */
+    @SuppressWarnings("unchecked")
     protected <L extends Comparable> void smoothDec(List<L> list, int left, int right) {
+        Comparable[] buffer = borrowArray((right - left));
         for (int i = left; i < right; i++) {
-            insertListDec(list.get(i));
+            insertArrayDec(buffer, (i - left), list.get(i));
         }
         for (int i = left; i < right; i++) {
-            list.set(i, deleteListMinDec());
+            list.set(i, (L) deleteArrayMinDec(buffer, (right - i)));
         }
+        releaseArray(buffer, (right - left));
     }
 
     /**
@@ -982,397 +1015,34 @@ public class SmoothHeap
      *     the ordering based on the {@code SortFunctional} object.</li>
      *     <li>After the first loop, all elements in the specified range have been inserted into the buffer.</li>
      *     <li>It iterates again over the same range of elements from {@code left} to {@code right}.</li>
-     *     <li>Inside this loop, it assigns the result of calling the {@code deleteListMin} method with
+     *     <li>Inside this loop, it assigns the result of calling the {@code deleteArrayMin} method with
      *     the {@code functional} object to the corresponding element in the {@code list}.
      *     This operation removes the minimum element from the buffer while maintaining the ordering based on
      *     the {@code SortFunctional} object and assigns it to the current index in the {@code list}.</li>
      *     <li>After the second loop, the elements in the specified range of the {@code list}
      *     have been sorted in non-decreasing order based on the {@code functional} object.</li>
      * </ul>
-     * {@code smooth} method uses the {@code insert} and {@code deleteListMin} methods to perform a smooth
+     * {@code smooth} method uses the {@code insert} and {@code deleteArrayMin} methods to perform a smooth
      * sort on the given list,
      * resulting in the elements being sorted.
+     * The heap {@code buffer} is borrowed from the arena of {@code scratch} for the sort, and released after it.
      * @param       list to be arranged.
      * @param       left the value in the list must be smaller than a {@code right} parameter.
      * @param       right the value in the list must be greater than a {@code left} parameter.
      * @param       functional lambda expression for comparison.
-     * @see         SmoothHeap#insertList(Comparable, SortFunctional)
-     * @see         SmoothHeap#deleteListMin(SortFunctional)
+     * @see         SmoothHeap#insertArray(Comparable[], int, Comparable, SortFunctional)
+     * @see         SmoothHeap#deleteArrayMin(Comparable[], int, SortFunctional)
      */
+    @SuppressWarnings("unchecked")
     protected <L extends Comparable> void smooth(
             List<L> list, int left, int right, SortFunctional<Comparable> functional) {
+        Comparable[] buffer = borrowArray((right - left));
         for (int i = left; i < right; i++) {
-            insertList(list.get(i), functional);
+            insertArray(buffer, (i - left), list.get(i), functional);
         }
         for (int i = left; i < right; i++) {
-            list.set(i, deleteListMin(functional));
-        }
-    }
-
-    /**
-     * {@code insertListInc} that takes a {@link java.lang.Comparable Comparable} object called {@code insert}.
-     * This method inserts the {@code insert} element into a buffer list named {@code bufferList} in an
-     * incremental manner,
-     * maintaining the heap property.
-     * <ul>
-     *     <li>The {@link java.lang.SuppressWarnings @SuppressWarnings}{@code ("unchecked")} annotation is
-     *     used to suppress compiler
-     *     warnings related to unchecked type casting when using the {@link java.lang.Comparable#compareTo(Object)
-     *     compareTo} method.
-     *     This annotation is not directly related to the functionality of the method but rather a way to
-     *     handle warnings.</li>
-     *     <li>It sets the {@code insert} element at index {@code size} in the {@code bufferList} and
-     *     increments {@code size} afterwards.
-     *     This effectively inserts the element at the end of the buffer list.</li>
-     *     <li>It calls a method named {resizeList} with an argument of {@code (bufferList.size() * 2)}.</li>
-     *     <li>It checks if the current size of the buffer list {@code size} is greater than <i>1</i>.
-     *     If {@code true}, it enters a while loop that continues as long as the index
-     *     {@code i} is not equal to <i>0</i>.</li>
-     *     <li>Inside the loop, it calculates the index of the parent of the current index
-     *     {@code (j = (i - 1) / 2)}.</li>
-     *     <li>It performs a comparison between the element at index {@code j} and the element at index
-     *     {@code i} in the buffer list.
-     *     If the element at index {@code j} is greater,
-     *     it swaps them and updates the value of {@code i} to {@code j}.</li>
-     *     <li>If the comparison indicates that the element at index {@code j} is not greater than the
-     *     element at index {@code i},
-     *     it breaks out of the loop.</li>
-     * </ul>
-     * {@code insertListInc} performs the incremental insertion of an element into a buffer list.
-     * It sets the element at the end of the buffer list, resizes the buffer list if necessary,
-     * and maintains the heap property by comparing and swapping elements in an upward direction.
-     * @param       insert starts by inserting the element.
-     * @see         SmoothHeap#resizeList(int)
-     * @see         SortSwap#swap(Comparable[], int, int)
-     */
-    @SuppressWarnings("unchecked")
-    protected <L extends Comparable> void insertListInc(L insert) {
-        bufferList.add(size++, insert);
-        resizeList(bufferList.size() * 2);
-        if (size > 1) {
-            int i = (size - 1);
-            while (i != 0) {
-                int j = ((i - 1) / 2);
-                if (bufferList.get(j).compareTo(bufferList.get(i)) > 0) {
-                    swap(bufferList, i, j);
-                    i = j;
-                } else {
-                    break;
-                }
-            }
-        }
-    }
-
-    /**
-     * {@code insertListDec} that takes a {@link java.lang.Comparable Comparable} object called {@code insert}.
-     * This method inserts the {@code insert} element into a buffer list named {@code bufferList} in a decremental
-     * manner,
-     * maintaining the heap property.
-     * <ul>
-     *     <li>The {@link java.lang.SuppressWarnings @SuppressWarnings}{@code ("unchecked")} annotation is
-     *     used to suppress compiler
-     *     warnings related to unchecked type casting when using the {@link java.lang.Comparable#compareTo(Object)
-     *     compareTo} method.
-     *     This annotation is not directly related to the functionality of the method but rather a way to
-     *     handle warnings.</li>
-     *     <li>It sets the {@code insert} element at index {@code size} in the {@code bufferList} and
-     *     decrements {@code size} afterwards.
-     *     This effectively inserts the element at the end of the buffer list.</li>
-     *     <li>It calls a method named {resizeList} with an argument of {@code (bufferList.size() * 2)}.</li>
-     *     <li>It checks if the current size of the buffer list {@code size} is greater than <i>1</i>.
-     *     If {@code true}, it enters a while loop that continues as long as the index
-     *     {@code i} is not equal to <i>0</i>.</li>
-     *     <li>Inside the loop, it calculates the index of the parent of the current index
-     *     {@code (j = (i - 1) / 2)}.</li>
-     *     <li>It performs a comparison between the element at index {@code j} and the element at index
-     *     {@code i} in the buffer list.
-     *     If the element at index {@code j} is smaller,
-     *     it swaps them and updates the value of {@code i} to {@code j}.</li>
-     *     <li>If the comparison indicates that the element at index {@code j} is not smaller than
-     *     the element at index {@code i},
-     *     it breaks out of the loop.</li>
-     * </ul>
-     * {@code insertListDec} performs the decremental insertion of an element into a buffer list.
-     * It sets the element at the end of the buffer list, resizes the buffer list if necessary,
-     * and maintains the heap property by comparing and swapping elements in an upward direction.
-     * @param       insert starts by inserting the element.
-     * @see         SmoothHeap#resizeList(int)
-     * @see         SortSwap#swap(List, int, int)
-     */
-    @SuppressWarnings("unchecked")
-    protected <L extends Comparable> void insertListDec(L insert) {
-        bufferList.add(size++, insert);
-        resizeList(bufferList.size() * 2);
-        if (size > 1) {
-            int i = (size - 1);
-            while (i != 0) {
-                int j = ((i - 1) / 2);
-                if (bufferList.get(j).compareTo(bufferList.get(i)) < 0) {
-                    swap(bufferList, i, j);
-                    i = j;
-                } else {
-                    break;
-                }
-            }
-        }
-    }
-
-    /**
-     * {@code insertList} method that includes a {@code SortFunctional} object called {@code functional}.
-     * This object is used for comparing elements in the buffer list during the insertion process.
-     * <ul>
-     *     <li>It starts similarly to the previous version by setting the
-     *     {@code insert} element at index {@code size} in the {@code bufferList} and incrementing {@code size}.</li>
-     *     <li>It calls a method named {@code resizeList} with an argument of {@code (bufferList.size() * 2)}.
-     *     This method is used to resize the buffer list based on the specified capacity.</li>
-     *     <li>It checks if the current size of the buffer list {@code size} is greater than <i>1</i>.
-     *     If {@code true}, it enters a {@code while} loop that continues as long as the index
-     *     {@code i} is not equal to <i>0</i>,
-     *     similar to the previous version.</li>
-     *     <li>Inside the loop, it calculates the index of the parent of the current index {@code (j = (i - 1) / 2)},
-     *     similar to the previous version.</li>
-     *     <li>It performs a comparison between the element at index {@code j} and
-     *     the element at index {@code i} in the buffer list using the {@code functional} object.
-     *     If the comparison indicates that the element at index {@code j} is greater,
-     *     it swaps them and updates the value of {@code i} to {@code j}.</li>
-     *     <li>If the comparison indicates that the element at index {@code j} is not greater than
-     *     the element at index {@code i},
-     *     it breaks out of the loop.</li>
-     * </ul>
-     * {@code insertList} performs the insertion of an element into a buffer list using a
-     * custom sorting implementation provided through the {@code SortFunctional} object.
-     * It sets the element at the end of the buffer list, resizes the buffer list if necessary,
-     * and maintains the heap property by comparing and swapping elements
-     * in an upward direction using the functional object for comparisons.
-     * @param       insert starts by inserting the element.
-     * @param       functional lambda expression for comparison.
-     * @see         SmoothHeap#resizeList(int)
-     * @see         SortFunctional#functionalCompareTo(Comparable, Comparable)
-     * @see         SortSwap#swap(List, int, int)
-     */
-    protected <L extends Comparable> void insertList(L insert, SortFunctional<Comparable> functional) {
-        bufferList.add(size++, insert);
-        resizeList(bufferList.size() * 2);
-        if (size > 1) {
-            int i = (size - 1);
-            while (i != 0) {
-                int j = ((i - 1) / 2);
-                if (functional.functionalCompareTo(bufferList.get(j), bufferList.get(i))) {
-                    swap(bufferList, i, j);
-                    i = j;
-                } else {
-                    break;
-                }
-            }
-        }
-    }
-
-    /**
-     * {@code deleteListMinInc} that performs an incremental deletion of the minimum element from a buffer
-     * list named {@code bufferList}.
-     * <ul>
-     *     <li>The {@link java.lang.SuppressWarnings @SuppressWarnings}{@code ("unchecked")} annotation is
-     *     used to suppress compiler
-     *     warnings related to unchecked type casting when using the {@link java.lang.Comparable#compareTo(Object)
-     *     compareTo} method.
-     *     This annotation is not directly related to the functionality of the method but rather a way to
-     *     handle warnings.</li>
-     *     <li>It retrieves the minimum element from the buffer list by accessing
-     *     the element at index <i>0</i> and assigns it to the {@code result} variable.</li>
-     *     <li>It swaps the minimum element with the element at the end of the buffer list.
-     *     This is done by calling a {@code swap} method and passing the {@code bufferList}, index <i>0</i>,
-     *     and the decremented {@code size} as arguments.
-     *     The {@code size} variable represents the number of elements in the buffer list before the deletion,
-     *     and decrementing it effectively removes the last element from consideration.</li>
-     *     <li>It initializes a variable {@code i} with a value of <i>0</i>,
-     *     which represents the current index of the element being compared and potentially swapped.</li>
-     *     <li>It enters a while loop that continues as long as the left child of the current index
-     *     {@code ((2 * i) + 1)}
-     *     is within the valid range {@code size}.</li>
-     *     <li>Inside the loop, it calculates the index of the left child {@code (j = (2 * i) + 1)}.
-     *     If the right child is also within the valid range {@code ((j + 1) < size)}
-     *     and the right child is smaller than the left child, it increments {@code j} to point to the right child.</li>
-     *     <li>It compares the element at index {@code i} with the element at index {@code j}.
-     *     If the element at {@code i} is greater than the element at {@code j},
-     *     it swaps them and updates the value of {@code i} to {@code j}.</li>
-     *     <li>If the element at {@code i} is not greater than the element at {@code j},
-     *     it breaks out of the loop.</li>
-     *     <li>After the loop completes, it returns the minimum element that was initially stored in the
-     *     {@code result} variable.</li>
-     * </ul>
-     * {@code deleteListMinInc} performs an incremental deletion of the minimum element from a buffer list.
-     * It swaps the minimum element with the last element, maintains
-     * the heap property by comparing and swapping elements in a downward direction, and returns the minimum element.
-     * @return      the deleted minimum element stored in the {@code result} variable
-     * @see         SortSwap#swap(List, int, int)
-     */
-    @SuppressWarnings("unchecked")
-    protected <L extends Comparable> L deleteListMinInc() {
-        L result = (L) bufferList.get(0);
-        swap(bufferList, 0, --size);
-        int i = 0;
-        while (((2 * i) + 1) < size) {
-            int j = ((2 * i) + 1);
-            if (((j + 1) < size) && (bufferList.get(j).compareTo(bufferList.get(j + 1)) > 0)) {
-                j++;
-            }
-            if (bufferList.get(i).compareTo(bufferList.get(j)) > 0) {
-                swap(bufferList, j, i);
-                i = j;
-            } else {
-                break;
-            }
-        }
-        return result;
-    }
-
-    /**
-     * {@code deleteListMinDec} that performs a decremental deletion of the minimum element from a buffer
-     * list named {@code bufferList}.
-     * <ul>
-     *     <li>The {@link java.lang.SuppressWarnings @SuppressWarnings}{@code ("unchecked")} annotation is
-     *     used to suppress compiler
-     *     warnings related to unchecked type casting when using the {@link java.lang.Comparable#compareTo(Object)
-     *     compareTo} method.
-     *     This annotation is not directly related to the functionality of the method but rather a way
-     *     to handle warnings.</li>
-     *     <li>It retrieves the minimum element from the buffer list by accessing
-     *     the element at index <i>0</i> and assigns it to the {@code result} variable.</li>
-     *     <li>It swaps the minimum element with the element at the end of the buffer list.
-     *     This is done by calling a {@code swap} method and passing the {@code bufferList}, index <i>0</i>,
-     *     and the decremented {@code size} as arguments.
-     *     The {@code size} variable represents the number of elements in the buffer list before the deletion,
-     *     and decrementing it effectively removes the last element from consideration.</li>
-     *     <li>It initializes a variable {@code i} with a value of <i>0</i>,
-     *     which represents the current index of the element being compared and potentially swapped.</li>
-     *     <li>It enters a while loop that continues as long as the left child of the current
-     *     index {@code ((2 * i) + 1)}
-     *     is within the valid range {@code size}.</li>
-     *     <li>Inside the loop, it calculates the index of the left child {@code (j = (2 * i) + 1)}.
-     *     If the right child is also within the valid range {@code ((j + 1) < size)}
-     *     and the right child is smaller than the left child, it increments {@code j} to point to the
-     *     right child.</li>
-     *     <li>It compares the element at index {@code i} with the element at index {@code j}.
-     *     If the element at {@code i} is smaller than the element at {@code j},
-     *     it swaps them and updates the value of {@code i} to {@code j}.</li>
-     *     <li>If the element at {@code i} is not smaller than the element at {@code j},
-     *     it breaks out of the loop.</li>
-     *     <li>After the loop completes, it returns the minimum element that was initially stored in the
-     *     {@code result} variable.</li>
-     * </ul>
-     * {@code deleteListMinDec} performs a decremental deletion of the minimum element from a buffer list.
-     * It swaps the minimum element with the last element, maintains
-     * the heap property by comparing and swapping elements in a downward direction, and returns the minimum element.
-     * @return      the deleted minimum element stored in the {@code result} variable
-     * @see         SortSwap#swap(List, int, int)
-     */
-    @SuppressWarnings("unchecked")
-    protected <L extends Comparable> L deleteListMinDec() {
-        L result = (L) bufferList.get(0);
-        swap(bufferList, 0, --size);
-        int i = 0;
-        while (((2 * i) + 1) < size) {
-            int j = ((2 * i) + 1);
-            if (((j + 1) < size) && (bufferList.get(j).compareTo(bufferList.get(j + 1)) < 0)) {
-                j++;
-            }
-            if (bufferList.get(i).compareTo(bufferList.get(j)) < 0) {
-                swap(bufferList, j, i);
-                i = j;
-            } else {
-                break;
-            }
-        }
-        return result;
-    }
-
-    /**
-     * {@code deleteListMin} method that includes a {@code SortFunctional} object called {@code functional}.
-     * This object is used for comparing elements in the buffer list during the deletion process.
-     * <ul>
-     *     <li>It starts similarly to the previous version by retrieving the minimum element from the buffer list
-     *     at index <i>0</i> and assigning it to the {@code result} variable.</li>
-     *     <li>It swaps the minimum element with the last element in the buffer list, similar to the
-     *     previous version.</li>
-     *     <li>It initializes the variable {@code i} to <i>0</i>, representing the current index of
-     *     the element being compared.</li>
-     *     <li>It enters a while loop that continues as long as the left child of
-     *     the current index {@code ((2 * i) + 1)} is within the valid range {@code  size},
-     *     similar to the previous version.</li>
-     *     <li>Inside the loop, it calculates the index of the left child {@code (j = (2 * i) + 1)}.
-     *     If the right child is also within the valid range {@code ((j + 1) < size)} and
-     *     the comparison using the {@code functional} object indicates that the right child is smaller,
-     *     it increments {@code j} to point to the right child.</li>
-     *     <li>It performs the comparison between the element at index {@code i} and the element at index
-     *     {@code j} using the {@code functional} object.
-     *     If the comparison indicates that the element at {@code i} is greater,
-     *     it swaps them and updates the value of {@code i} to {@code j}.</li>
-     *     <li>If the comparison indicates that the element at {@code i} is not greater than the element at
-     *     {@code j},
-     *     it breaks out of the loop.</li>
-     *     <li>After the loop completes, it returns the minimum element that was initially stored in the
-     *     {@code result} variable.</li>
-     * </ul>
-     * {@code deleteListMin} performs the deletion of the minimum element from a buffer list using a
-     * custom sorting implementation provided through the {@code SortFunctional} object.
-     * It swaps the minimum element with the last element, maintains the heap property by comparing
-     * and swapping elements in a downward direction using the functional object for comparisons,
-     * and returns the minimum element.
-     * @param       functional lambda expression for comparison.
-     * @return      the deleted minimum element stored in the {@code result} variable
-     * @see         SortSwap#swap(List, int, int)
-     * @see         SortFunctional#functionalCompareTo(Comparable, Comparable)
-     */
-    @SuppressWarnings("unchecked")
-    protected <L extends Comparable> L deleteListMin(SortFunctional<Comparable> functional) {
-        L result = (L) bufferList.get(0);
-        swap(bufferList, 0, --size);
-        int i = 0;
-        while (((2 * i) + 1) < size) {
-            int j = ((2 * i) + 1);
-            if (((j + 1) < size) && (functional.functionalCompareTo(bufferList.get(j), bufferList.get(j + 1)))) {
-                j++;
-            }
-            if (functional.functionalCompareTo(bufferList.get(i), bufferList.get(j))) {
-                swap(bufferList, j, i);
-                i = j;
-            } else {
-                break;
-            }
-        }
-        return result;
-    }
-
-    /**
-     * {@code resizeList} that takes an integer parameter called {@code capacity}.
-     * This method is used to resize a buffer list named {@code bufferList} based on a specified capacity.
-     * <ul>
-     *     <li>It checks if the current size of the buffer list {@code size} is equal to half of the
-     *     specified capacity {@code (capacity / 2)}.</li>
-     *     <li>If the condition is {@code true}, it means that the buffer list is half full.
-     *     In this case, it creates a new temporary buffer list named {@code newBuffer} and initializes
-     *     it by calling the
-     *     {@code addBetween} method with the {@code bufferList}, <i>0</i>, and {@code size} as arguments.
-     *     This creates a sublist containing the elements from index <i>0</i> to the current size of
-     *     the buffer list.</li>
-     *     <li>It clears the original {@code bufferList} using the {@link java.util.List#clear() clear()}
-     *     method to remove all elements.</li>
-     *     <li>Finally, it adds all the elements from the temporary buffer list {@code newBuffer} back to
-     *     the original {@code bufferList} using the {@link java.util.List#add(Object) addAll()} method.
-     *     This effectively resizes the buffer list to match the current size.</li>
-     * </ul>
-     * {@code resizeList} checks if the buffer list is half full {@code (size == capacity / 2)} and,
-     * if so, resizes the buffer list by creating a temporary buffer, clearing the original buffer,
-     * and adding the elements back from the temporary buffer.
-     * @param       capacity the new capacity of the buffer
-     * @see         SortList#addBetween(List, int, int)
-     */
-    @SuppressWarnings("unchecked")
-    protected <L extends Comparable> void resizeList(int capacity) {
-        if (size == (capacity / 2)) {
-            List<L> newBuffer = (List<L>) addBetween(bufferList, 0, size);
-            bufferList.clear();
-            bufferList.addAll(newBuffer);
+            list.set(i, (L) deleteArrayMin(buffer, (right - i), functional));
         }
+        releaseArray(buffer, (right - left));
     }
 }
\ No newline at end of file
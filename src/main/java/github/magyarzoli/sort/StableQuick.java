@@ -3,12 +3,15 @@ package github.magyarzoli.sort;
 import github.magyarzoli.Sort;
 import github.magyarzoli.SortFunctional;
 import github.magyarzoli.SortList;
+import github.magyarzoli.SortParallel;
+import github.magyarzoli.SortScratch;
 import github.magyarzoli.sort.intro.IntroStableQuick;
 
 import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.Collection;
 import java.util.List;
+import java.util.ListIterator;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
 
 /**
  * Stable QuickSort is an extension of the QuickSort algorithm that aims to preserve
@@ -22,6 +25,26 @@ import java.util.List;
 public class StableQuick
         extends Quick {
 
+    /**
+     * Ranges larger than this are partitioned by the worker threads, and their sides are sorted as separate tasks.
+     */
+    protected final int PARALLEL_THRESHOLD = (1 << 13);
+
+    /**
+     * The smallest block of a parallel partition, classified and scattered by a single task.
+     */
+    protected final int PARALLEL_BLOCK = (1 << 10);
+
+    /**
+     * The arena of the auxiliary arrays given by the caller, {@code null} for the arena of the current thread.
+     */
+    protected final SortScratch scratch;
+
+    /**
+     * The number of tasks of a parallel sort and the pool running them.
+     */
+    protected final SortParallel parallel;
+
     /**
      * <b>Stable Quick Sort:</b><br>
      * Is an extension of the QuickSort algorithm that aims to preserve
@@ -54,11 +77,81 @@ public class StableQuick
      * Worst Case Complexity:   <em>O(n^2)</em><br>
      * Best Case Complexity:    <em>O(n log(n))</em><br>
      * Average Case Complexity: <em>O(n log(n))</em><br>
-     * Auxiliary Space:         <em>O(log(n))</em><br>
+     * Auxiliary Space:         <em>O(n)</em><br>
      * Stability:               <b>Yes</b>
      * @see         IntroStableQuick#IntroStableQuick() IntroStableQuick
      */
-    public StableQuick() {}
+    public StableQuick() {
+        this(1, null);
+    }
+
+    /**
+     * <b>Stable Quick Sort:</b><br>
+     * Borrows the auxiliary arrays from the {@code scratch} arena of the caller.
+     * @param       scratch the arena of the auxiliary arrays, {@code null} for the arena of the current thread.
+     * @see         StableQuick#StableQuick() StableQuick
+     * @see         SortScratch#SortScratch() SortScratch
+     */
+    public StableQuick(SortScratch scratch) {
+        this(1, scratch);
+    }
+
+    /**
+     * <b>Stable Quick Sort:</b><br>
+     * Sorts the arrays larger than {@code PARALLEL_THRESHOLD} on {@code parallelism} worker threads.
+     * The ranges are partitioned in parallel blocks, and the two sides of every partition are sorted as
+     * separate fork/join tasks, the order of the equal elements is kept as on a single thread.
+     * @param       parallelism the number of worker threads, <i>1</i> sorts on the calling thread.
+     * @throws      IllegalArgumentException if the {@code parallelism} is not positive.
+     * @see         StableQuick#StableQuick() StableQuick
+     */
+    public StableQuick(int parallelism) {
+        this(parallelism, null);
+    }
+
+    /**
+     * <b>Stable Quick Sort:</b><br>
+     * Sorts on {@code parallelism} worker threads, and borrows the auxiliary arrays from the {@code scratch} arena
+     * of the caller.
+     * @param       parallelism the number of worker threads, <i>1</i> sorts on the calling thread.
+     * @param       scratch the arena of the auxiliary arrays, {@code null} for the arena of the current thread.
+     * @throws      IllegalArgumentException if the {@code parallelism} is not positive.
+     * @see         StableQuick#StableQuick(int) StableQuick
+     * @see         StableQuick#StableQuick(SortScratch) StableQuick
+     */
+    public StableQuick(int parallelism, SortScratch scratch) {
+        this(SortParallel.of(parallelism), scratch);
+    }
+
+    /**
+     * <b>Stable Quick Sort:</b><br>
+     * Sorts with the tasks of the {@code parallel} given, on its pool, a pool of the caller is never shut down.
+     * @param       parallel the number of worker threads of a parallel sort and the pool running its tasks.
+     * @param       scratch the arena of the auxiliary arrays, {@code null} for the arena of the current thread.
+     * @see         StableQuick#StableQuick(int, SortScratch) StableQuick
+     * @see         SortParallel#of(int, java.util.concurrent.ForkJoinPool)
+     */
+    public StableQuick(SortParallel parallel, SortScratch scratch) {
+        this.parallel = parallel;
+        this.scratch = scratch;
+    }
+
+    /**
+     * {@code parallelism} returns the number of worker threads of a parallel sort.
+     * @return      the number of worker threads, <i>1</i> if the sorts run on the calling thread.
+     */
+    public int parallelism() {
+        return parallel.parallelism();
+    }
+
+    /**
+     * {@inheritDoc}
+     * @return      the arena of the caller, or the arena of the current thread.
+     */
+    @Override
+    public SortScratch scratch() {
+        return ((scratch != null) ? scratch : SortScratch.local());
+    }
 
     /**
      * {@inheritDoc}
@@ -118,638 +211,428 @@ public class StableQuick
 
     /**
      * {@code stableQuickInc} that performs an in-place sorting of
-     * a {@link java.lang.Comparable Comparable} array using a stable version of the QuickSort algorithm.
+     * a {@link java.lang.Comparable Comparable} array in increasing order,
+     * using a stable version of the QuickSort algorithm.
      * <ul>
-     *     <li>The original array is converted into an {@code ArrayList} by creating a {@code new ArrayList}
-     *     and passing the array as an argument to the {@code ArrayList} constructor:
-     *     {@code new ArrayList<>}{@link java.util.Arrays#asList(Object[]) (Arrays.asList(array))}.</li>
-     *     <li>The {@code ArrayList} is then passed as an argument to the {@code stableRecursiveInc} method,
-     *     which performs a stable sorting of the {@code ArrayList} and returns a sorted {@code stableList}.</li>
-     *     <li>The sorted stableList obtained from {@code stableRecursiveInc} is converted back into an array using
-     *     the {@link java.util.List#toArray(Object[]) toArray()} method with an empty Comparable array as the argument:
-     *     {@code stableList.toArray(new Comparable[0])}.</li>
-     *     <li>The sorted elements are copied from the sorted stableList back into
-     *     the original array using {@link java.lang.System#arraycopy(Object, int, Object, int, int)
-     *     System.arraycopy()}.
-     *     The elements are copied starting from the beginning of the original array index <i>0</i>, and
-     *     the number of elements copied is equal to the length of the array: {@code array.length}.</li>
+     *     <li>The whole array, from index <i>0</i> to {@code array.length} (exclusive), is sorted by
+     *     {@code stableQuick} with a lambda expression comparing the elements in increasing order.</li>
+     *     <li>The partitions are done on the array itself, with a single scratch array borrowed from the arena of
+     *     {@code scratch}, no list is created.</li>
      * </ul>
-     * {@code stableQuickInc} method uses the {@code stableRecursiveInc} method to sort
-     * the original array in a stable manner by converting it into an {@code ArrayList}.
-     * After obtaining the sorted stableList, the sorted elements are copied back into the original array.
-     * This allows the QuickSort algorithm to maintain stability by using the {@code stableRecursiveInc}
-     * method instead of
-     * the standard partitioning logic in QuickSort.
      * @param       array The original array containing Comparable elements.
-     * @see         StableQuick#stableRecursiveInc(List)
+     * @see         StableQuick#stableQuick(Comparable[], int, int, SortFunctional)
      */
+    @SuppressWarnings("unchecked")
     protected void stableQuickInc(Comparable[] array) {
-        List<Comparable> stableList = stableRecursiveInc(new ArrayList<>(Arrays.asList(array)));
-        System.arraycopy(stableList.toArray(new Comparable[0]), 0, array, 0, array.length);
+        stableQuick(array, 0, array.length, (a, b) -> a.compareTo(b) > 0);
     }
 
     /**
      * {@code stableQuickDec} that performs an in-place sorting of
-     * a {@link java.lang.Comparable Comparable} array using a stable version of the QuickSort algorithm.
+     * a {@link java.lang.Comparable Comparable} array in decreasing order,
+     * using a stable version of the QuickSort algorithm.
      * <ul>
-     *     <li>The original array is converted into an {@code ArrayList} by creating a {@code new ArrayList}
-     *     and passing the array as an argument to the {@code ArrayList} constructor:
-     *     {@code new ArrayList<>}{@link java.util.Arrays#asList(Object[]) (Arrays.asList(array))}.</li>
-     *     <li>The {@code ArrayList} is then passed as an argument to the {@code stableRecursiveInc} method,
-     *     which performs a stable sorting of the {@code ArrayList} and returns a sorted {@code stableList}.</li>
-     *     <li>The sorted stableList obtained from {@code stableRecursiveDec} is converted back into an array using
-     *     the {@link java.util.List#toArray(Object[]) toArray()} method with an empty Comparable array as the argument:
-     *     {@code stableList.toArray(new Comparable[0])}.</li>
-     *     <li>The sorted elements are copied from the sorted stableList back into
-     *     the original array using {@link java.lang.System#arraycopy(Object, int, Object, int, int)
-     *     System.arraycopy()}.
-     *     The elements are copied starting from the beginning of the original array index <i>0</i>, and
-     *     the number of elements copied is equal to the length of the array: {@code array.length}.</li>
+     *     <li>The whole array, from index <i>0</i> to {@code array.length} (exclusive), is sorted by
+     *     {@code stableQuick} with a lambda expression comparing the elements in decreasing order.</li>
+     *     <li>The partitions are done on the array itself, with a single scratch array borrowed from the arena of
+     *     {@code scratch}, no list is created.</li>
      * </ul>
-     * {@code stableQuickDec} method uses the {@code stableRecursiveInc} method to sort
-     * the original array in a stable manner by converting it into an {@code ArrayList}.
-     * After obtaining the sorted stableList, the sorted elements are copied back into the original array.
-     * This allows the QuickSort algorithm to maintain stability by using the {@code stableRecursiveInc}
-     * method instead of
-     * the standard partitioning logic in QuickSort.
      * @param       array The original array containing Comparable elements.
-     * @see         StableQuick#stableRecursiveDec(List)
+     * @see         StableQuick#stableQuick(Comparable[], int, int, SortFunctional)
      */
+    @SuppressWarnings("unchecked")
     protected void stableQuickDec(Comparable[] array) {
-        List<Comparable> stableList = stableRecursiveDec(new ArrayList<>(Arrays.asList(array)));
-        System.arraycopy(stableList.toArray(new Comparable[0]), 0, array, 0, array.length);
+        stableQuick(array, 0, array.length, (a, b) -> a.compareTo(b) < 0);
     }
 
     /**
-     * {@code stableQuick} method, which performs a stable sorting of the entire {@code array} using
-     * a stable sorting algorithm.
+     * {@code stableQuick} method, which performs a stable sorting of the entire {@code array}
+     * in the order of the {@code functional}.
      * <ul>
-     *     <li>The method {@code stableQuick} takes two parameters:
-     *     {@code array} an array of {@link java.lang.Comparable Comparable} objects
-     *     and {@code functional} an instance of {@code mz.SortFunctional}
-     *     representing a functional interface for comparison operations.</li>
-     *     <li>The first line of code creates a new {@code ArrayList<Comparable>} called
-     *     {@code stableList} by converting
-     *     the {@code array} into a stableList using {@link java.util.Arrays#asList(Object[]) Arrays.asList(array)}.
-     *     This creates a dynamic stableList that can be resized.</li>
-     *     <li>The {@code stableRecursive} method is called, passing the {@code stableList} and
-     *     {@code functional} as parameters.
-     *     This method applies a stable sorting algorithm to the {@code stableList} using the
-     *     {@code functional} object.</li>
-     *     <li>The sorted {@code stableList} is then converted back to an array
-     *     using {@link java.util.List#toArray(Object[]) stableList.toArray}{@code (new Comparable[0])}.</li>
-     *     <li>Finally, the sorted elements from the {@code stableList} are copied back to the original {@code array}
-     *     using {@link java.lang.System#arraycopy(Object, int, Object, int, int) System.arraycopy()}.
-     *     The elements are copied starting from index <i>0</i> of the sorted array,
-     *     and the destination in the original {@code array} starts at index <i>0</i>.
-     *     The number of elements copied is equal to the length of the original {@code array}.</li>
+     *     <li>The whole array, from index <i>0</i> to {@code array.length} (exclusive), is sorted by
+     *     {@code stableQuick}.</li>
+     *     <li>The partitions are done on the array itself, with a single scratch array borrowed from the arena of
+     *     {@code scratch}, no list is created.</li>
      * </ul>
-     * {@code stableQuick} method performs a stable sorting of the entire {@code array} using
-     * a stable sorting algorithm based on the {@code functional} object.
-     * It converts the array to a dynamic stableList, applies stable sorting to the stableList,
-     * and then copies the sorted elements back to the original array.
-     * This method allows for stable sorting with the efficiency of the Quick Sort algorithm.
      * @param       array The original array containing Comparable elements.
      * @param       functional lambda expression for comparison.
-     * @see         StableQuick#stableRecursive(List, SortFunctional)
+     * @see         StableQuick#stableQuick(Comparable[], int, int, SortFunctional)
      */
     protected void stableQuick(Comparable[] array, SortFunctional<Comparable> functional) {
-        List<Comparable> stableList = stableRecursive(new ArrayList<>(Arrays.asList(array)), functional);
-        System.arraycopy(stableList.toArray(new Comparable[0]), 0, array, 0, array.length);
+        stableQuick(array, 0, array.length, functional);
     }
 
     /**
-     * {@code stableQuickInc} that performs an in-place sorting of a subarray within a
-     * {@link java.lang.Comparable Comparable} array using a stable version of the QuickSort algorithm.
+     * {@code stableQuickInc} that performs a stable sorting of a subarray of
+     * a {@link java.lang.Comparable Comparable} array in increasing order.
      * <ul>
-     *     <li>The method creates a new array called {@code newArray} with a size equal to the length of the
-     *     subarray to be sorted {@code (right - left)}.
-     *     This new array will be used to create a temporary {@code stableList} for sorting.</li>
-     *     <li>The elements from the original array that correspond to the subarray to be sorted are copied into
-     *     the {@code newArray} using the {@link java.lang.System#arraycopy(Object, int, Object, int, int)
-     *     System.arraycopy()} method.</li>
-     *     <li>The "newArray" is converted into an ArrayList using {@link java.util.Arrays#asList(Object[])
-     *     Arrays.asList()}
-     *     and then passed as an argument to the {@code stableRecursiveInc} method.
-     *     This method, as you previously provided, performs a stable sorting of the {@code ArrayList} and
-     *     returns a sorted {@code stableList}.</li>
-     *     <li>The sorted stableList obtained from "{@code stableRecursiveInc}" is converted back into
-     *     an array using
-     *     the {@link java.util.List#toArray(Object[]) toArray()} method with an empty Comparable array
-     *     as the argument.</li>
-     *     <li>The sorted elements are copied from the sorted {@code stableList} back into the original
-     *     array using {@code System.arraycopy()}.
-     *     The elements are copied starting from the left index of the original array,
-     *     and the number of elements copied is equal to the size of the sorted stableList.</li>
+     *     <li>The subarray from index {@code left} to {@code right} (exclusive) is sorted by {@code stableQuick}
+     *     with a lambda expression comparing the elements in increasing order.</li>
+     *     <li>The elements outside the subarray are not moved.</li>
      * </ul>
-     * {@code stableQuickInc} method uses the {@code stableRecursiveInc} method to sort a subarray of
-     * the original array in a stable manner
-     * by creating a temporary array and converting it into an ArrayList.
-     * After obtaining the sorted stableList, the sorted elements are copied back into the original array.
-     * This allows the QuickSort algorithm to maintain stability by using the {@code stableRecursiveInc}
-     * method instead of
-     * the standard partitioning logic in QuickSort.
      * @param       array The original array containing Comparable elements.
      * @param       left The index representing the left boundary of the subarray to be sorted.
-     * @param       right The index representing the right boundary of the subarray to be sorted.
-     * @see         StableQuick#stableRecursiveInc(List)
+     * @param       right The index representing the right boundary (exclusive) of the subarray to be sorted.
+     * @see         StableQuick#stableQuick(Comparable[], int, int, SortFunctional)
      */
+    @SuppressWarnings("unchecked")
     protected void stableQuickInc(Comparable[] array, int left, int right) {
-        Comparable[] newArray = new Comparable[(right - left)];
-        System.arraycopy(array, left, newArray, 0, newArray.length);
-        List<Comparable> stableList = stableRecursiveInc(new ArrayList<>(Arrays.asList(newArray)));
-        System.arraycopy(stableList.toArray(new Comparable[0]), 0, array, left, stableList.size());
+        stableQuick(array, left, right, (a, b) -> a.compareTo(b) > 0);
     }
 
     /**
-     * {@code stableQuickDec} that performs an in-place sorting of a subarray within a
-     * {@link java.lang.Comparable Comparable} array using a stable version of the QuickSort algorithm.
+     * {@code stableQuickDec} that performs a stable sorting of a subarray of
+     * a {@link java.lang.Comparable Comparable} array in decreasing order.
      * <ul>
-     *     <li>The method creates a new array called {@code newArray} with a size equal to the length of
-     *     the subarray to be sorted {@code (right - left)}.
-     *     This new array will be used to create a temporary {@code stableList} for sorting.</li>
-     *     <li>The elements from the original array that correspond to the subarray to be sorted are copied into
-     *     the {@code newArray} using the {@link java.lang.System#arraycopy(Object, int, Object, int, int)
-     *     System.arraycopy()} method.</li>
-     *     <li>The "newArray" is converted into an ArrayList using {@link java.util.Arrays#asList(Object[])
-     *     Arrays.asList()}
-     *     and then passed as an argument to the {@code stableRecursiveDec} method.
-     *     This method, as you previously provided, performs a stable sorting of the {@code ArrayList} and
-     *     returns a sorted {@code stableList}.</li>
-     *     <li>The sorted stableList obtained from "{@code stableRecursiveDec}" is converted back into
-     *     an array using
-     *     the {@link java.util.List#toArray(Object[]) toArray()} method with an empty Comparable array
-     *     as the argument.</li>
-     *     <li>The sorted elements are copied from the sorted {@code stableList} back into the original
-     *     array using {@code System.arraycopy()}.
-     *     The elements are copied starting from the left index of the original array,
-     *     and the number of elements copied is equal to the size of the sorted stableList.</li>
+     *     <li>The subarray from index {@code left} to {@code right} (exclusive) is sorted by {@code stableQuick}
+     *     with a lambda expression comparing the elements in decreasing order.</li>
+     *     <li>The elements outside the subarray are not moved.</li>
      * </ul>
-     * {@code stableQuickDec} method uses the {@code stableRecursiveDec} method to sort a subarray of
-     * the original array in a stable manner
-     * by creating a temporary array and converting it into an ArrayList.
-     * After obtaining the sorted stableList, the sorted elements are copied back into the original array.
-     * This allows the QuickSort algorithm to maintain stability by using the {@code stableRecursiveDec}
-     * method instead of
-     * the standard partitioning logic in QuickSort.
      * @param       array The original array containing Comparable elements.
      * @param       left The index representing the left boundary of the subarray to be sorted.
-     * @param       right The index representing the right boundary of the subarray to be sorted.
-     * @see         StableQuick#stableRecursiveDec(List)
+     * @param       right The index representing the right boundary (exclusive) of the subarray to be sorted.
+     * @see         StableQuick#stableQuick(Comparable[], int, int, SortFunctional)
      */
+    @SuppressWarnings("unchecked")
     protected void stableQuickDec(Comparable[] array, int left, int right) {
-        Comparable[] newArray = new Comparable[(right - left)];
-        System.arraycopy(array, left, newArray, 0, newArray.length);
-        List<Comparable> stableList = stableRecursiveDec(new ArrayList<>(Arrays.asList(newArray)));
-        System.arraycopy(stableList.toArray(new Comparable[0]), 0, array, left, stableList.size());
+        stableQuick(array, left, right, (a, b) -> a.compareTo(b) < 0);
     }
 
     /**
-     * The method {@code stableQuick} takes four parameters:
-     * {@code array} an array of {@link java.lang.Comparable Comparable} objects,
-     * {@code left} the starting index of the partition, {@code right} the ending index of the partition,
-     * and {@code functional} an instance of SortFunctional representing a functional interface for
-     * comparison operations.
+     * {@code stableQuick} that performs a stable sorting of a subarray of
+     * a {@link java.lang.Comparable Comparable} array in the order of the {@code functional}.
      * <ul>
-     *     <li>The first line of code creates a new {@code Comparable}
-     *     array called {@code newArray} with a length equal to {@code (right - left)}.</li>
-     *     <li>The {@link java.lang.System#arraycopy(Object, int, Object, int, int) System.arraycopy()}
-     *     method is used to copy elements from the original {@code array},
-     *     starting from index {@code left}, to the {@code newArray},
-     *     starting at index <i>0</i>, and copying {@code newArray.length} elements.
-     *     This effectively creates a new array containing the elements to be sorted.</li>
-     *     <li>The {@code newArray} is then converted
-     *     to a {@code List<Comparable>} using {@link java.util.Arrays#asList(Object[]) asList()}
-     *     and wrapped in a new {@code ArrayList<>} to allow dynamic resizing.</li>
-     *     <li>The {@code stableRecursive} method is called, passing the {@code stableList} and
-     *     {@code functional} as parameters.
-     *     This method applies a stable sorting algorithm to the {@code stableList} using the
-     *     {@code functional} object.</li>
-     *     <li>The sorted {@code stableList} is then converted back
-     *     to an array using {@link java.util.List#toArray(Object[]) stableList.toArray}
-     *     {@code (new Comparable[0])}.</li>
-     *     <li>Finally, the sorted elements from the {@code stableList} are copied back to the
-     *     original array using {@code System.arraycopy}.
-     *     The elements are copied starting from index <i>0</i> of the sorted {@code array},
-     *     and the destination in the original {@code array} starts at index {@code left}.
-     *     The number of elements copied is equal to {@code stableList.}{@link java.util.List#size() size()}.</li>
+     *     <li>A scratch array, at least {@code right} long, is borrowed from the arena of {@code scratch}.
+     *     It is the only auxiliary array of the sort, the partitions use it at the same indices as the array,
+     *     so at most {@code (right - left)} of its slots are written.</li>
+     *     <li>The subarray is sorted by {@code stableRecursive} on index ranges.</li>
+     *     <li>If there are worker threads and the subarray is larger than the {@code PARALLEL_THRESHOLD},
+     *     it is sorted by a {@code StableTask} on them instead, the classes of the elements are kept in
+     *     an {@code int} array also borrowed from the arena.</li>
+     *     <li>The scratch array is released to the arena, which clears its references.</li>
      * </ul>
-     * {@code stableQuick} method performs a stable sorting of a specific partition of
-     * the {@code array} using a stable sorting algorithm based on the {@code functional} object.
-     * It creates a temporary array, copies the elements from the original array to the temporary array,
-     * applies stable sorting to the temporary array, and then copies the sorted elements back to the original array.
-     * This method allows for stable sorting with the efficiency of the Quick Sort algorithm.
-     * @param       array The original array containing {@code Comparable} elements.
+     * @param       array The original array containing Comparable elements.
      * @param       left The index representing the left boundary of the subarray to be sorted.
-     * @param       right The index representing the right boundary of the subarray to be sorted.
+     * @param       right The index representing the right boundary (exclusive) of the subarray to be sorted.
      * @param       functional lambda expression for comparison.
-     * @see         StableQuick#stableRecursive(List, SortFunctional)
+     * @see         StableQuick#stableRecursive(Comparable[], int, int, Comparable[], int[], SortFunctional)
+     * @see         StableQuick#parallelPartition(Comparable[], int, int, Comparable[], int[], int[], SortFunctional)
+     * @see         SortScratch#borrow(int)
      */
     protected void stableQuick(Comparable[] array, int left, int right, SortFunctional<Comparable> functional) {
-        Comparable[] newArray = new Comparable[(right - left)];
-        System.arraycopy(array, left, newArray, 0, newArray.length);
-        List<Comparable> stableList = stableRecursive(new ArrayList<>(Arrays.asList(newArray)), functional);
-        System.arraycopy(stableList.toArray(new Comparable[0]), 0, array, left, stableList.size());
+        if ((right - left) < 2) {
+            return;
+        }
+        Comparable[] buffer = scratch().borrow(right);
+        if (parallel.parallel() && ((right - left) > PARALLEL_THRESHOLD)) {
+            int[] classes = scratch().borrowInts(right);
+            parallel.invoke(new StableTask(array, left, (right - 1), buffer, classes, functional));
+            scratch().releaseInts(classes);
+        } else {
+            int[] bounds = scratch().borrowInts(2);
+            stableRecursive(array, left, (right - 1), buffer, bounds, functional);
+            scratch().releaseInts(bounds);
+        }
+        scratch().release(buffer, right);
     }
 
     /**
-     * {@code tableQuickInc} that takes a {@code List<Comparable>} called {@code list}.
-     * This method appears to be an incremental version of the Quick Sort algorithm.
-     * <ul>
-     *     <li>It calls the {@code stableRecursiveInc} method, passing the {@code list} as an argument.
-     *     The {@code stableRecursiveInc} method performs an incremental Quick Sort operation on the {@code list}.</li>
-     * </ul>
-     * {@code tableQuickInc} simply acts as a wrapper for the {@code stableRecursiveInc} method,
-     * allowing you to call the incremental Quick Sort algorithm on the entire {@code list} by invoking
-     * {@code stableQuickInc(list)}.
-     * @param       list The original list containing Comparable elements.
-     * @see         StableQuick#stableRecursiveInc(List)
+     * {@code stableQuickInc} sorts the list in increasing order.
+     * The elements are copied to an array, sorted by the stable partitions of the array,
+     * and written back with a single pass of a {@code ListIterator}.
+     * @param       list to be arranged.
+     * @param       <L> the type of elements in the list.
+     * @see         StableQuick#stableQuick(List, int, int, SortFunctional)
      */
+    @SuppressWarnings("unchecked")
     protected <L extends Comparable> void stableQuickInc(List<L> list) {
-        stableRecursiveInc(list);
+        stableQuick(list, 0, list.size(), (a, b) -> a.compareTo(b) > 0);
     }
 
     /**
-     * {@code tableQuickDec} that takes a {@code List<Comparable>} called {@code list}.
-     * This method appears to be a decremental version of the Quick Sort algorithm.
-     * <ul>
-     *     <li>It calls the {@code stableRecursiveDec} method, passing the {@code list} as an argument.
-     *     The {@code stableRecursiveDec} method performs an decremental Quick Sort operation on the {@code list}.</li>
-     * </ul>
-     * {@code tableQuickDec} simply acts as a wrapper for the {@code stableRecursiveInc} method,
-     * allowing you to call the decremental Quick Sort algorithm on the entire {@code list} by invoking
-     * {@code stableQuickDec(list)}.
-     * @param       list The original list containing Comparable elements.
-     * @see         StableQuick#stableRecursiveDec(List)
+     * {@code stableQuickDec} sorts the list in decreasing order.
+     * The elements are copied to an array, sorted by the stable partitions of the array,
+     * and written back with a single pass of a {@code ListIterator}.
+     * @param       list to be arranged.
+     * @param       <L> the type of elements in the list.
+     * @see         StableQuick#stableQuick(List, int, int, SortFunctional)
      */
+    @SuppressWarnings("unchecked")
     protected <L extends Comparable> void stableQuickDec(List<L> list) {
-        stableRecursiveDec(list);
+        stableQuick(list, 0, list.size(), (a, b) -> a.compareTo(b) < 0);
     }
 
     /**
-     * {@code stableQuick} that takes a {@code List<Comparable>} called {@code list}
-     * and a {@code SortFunctional} object called {@code functional}.
-     * This method appears to be a version of the Quick Sort algorithm that allows you to provide a
-     * custom sorting implementation through the {@code SortFunctional} interface.
-     * <ul>
-     *     <li>It calls the {@code stableRecursive} method, passing the {@code list} and {@code functional}
-     *     as arguments.
-     *     The {@code stableRecursive} method performs a Quick Sort operation on the list using the
-     *     provided {@code functional} for sorting.</li>
-     * </ul>
-     * {@code stableQuick} acts as a wrapper for the {@code stableRecursive} method,
-     * allowing you to perform Quick Sort on the entire {@code list} using a custom sorting implementation
-     * provided through the {@code functional} parameter.
-     * @param       list The original list containing Comparable elements.
+     * {@code stableQuick} sorts the list in the order of the {@code functional}.
+     * The elements are copied to an array, sorted by the stable partitions of the array,
+     * and written back with a single pass of a {@code ListIterator}.
+     * @param       list to be arranged.
      * @param       functional lambda expression for comparison.
-     * @see         StableQuick#stableRecursive(List, SortFunctional)
+     * @param       <L> the type of elements in the list.
+     * @see         StableQuick#stableQuick(List, int, int, SortFunctional)
      */
     protected <L extends Comparable> void stableQuick(List<L> list, SortFunctional<Comparable> functional) {
-        stableRecursive(list, functional);
+        stableQuick(list, 0, list.size(), functional);
     }
 
     /**
-     * {@code stableQuickInc} that takes a {@code List<Comparable>} called {@code list},
-     * as well as two indices {@code left} and {@code right}.
-     * This method performs an incremental version of the Quick Sort algorithm
-     * on a sublist of the {@code list} between the indices {@code left} and {right}.
-     * <ul>
-     *     <li>It creates a new {@code List<Comparable>} called {@code newList} and initializes it by calling the
-     *     {@code addBetween} method with the {@code list}, {@code left}, and {@code right} as arguments.
-     *     The {@code addBetween} method returns a sublist of {@code list} containing the elements between
-     *     the {@code left} and {@code right} indices.</li>
-     *     <li>It updates the list variable by calling the {@code removeBetween} method with the {@code list},
-     *     {@code left}, and {@code right} as arguments.
-     *     The {@code removeBetween} method removes the elements between the {@code left} and {@code right}
-     *     indices from the original {@code list}.</li>
-     *     <li>It calls the {@code stableRecursiveInc} method with the {@code newList} as an argument.
-     *     The {@code stableRecursiveInc} method presumably performs some sort of recursive operation on
-     *     the {@code newList} and returns a modified version of it.</li>
-     * </ul>
-     * {@code stableQuickInc} performs an incremental QuickSort operation on the sublist of {@code list}
-     * between the indices {@code left} and {@code right}.
-     * It creates a new sublist called {@code newList} using the {@code addBetween} method,
-     * removes the elements of the sublist from the original {@code list} using
-     * the {@code removeBetween} method, and then adds the modified {@code newList} back to
-     * the original {@code list} using the {@link java.util.List#addAll(Collection) addAll} method.
-     * @param       list The original list containing Comparable elements.
+     * {@code stableQuickInc} sorts the sublist from index {@code left} to {@code right} (exclusive)
+     * in increasing order.
+     * @param       list to be arranged.
      * @param       left The index representing the left boundary of the sublist to be sorted.
-     * @param       right The index representing the right boundary of the sublist to be sorted.
-     * @see         SortList#addBetween(List, int, int)
-     * @see         SortList#removeBetween(List, int, int)
-     * @see         StableQuick#stableRecursiveInc(List)
+     * @param       right The index representing the right boundary (exclusive) of the sublist to be sorted.
+     * @param       <L> the type of elements in the list.
+     * @see         StableQuick#stableQuick(List, int, int, SortFunctional)
      */
+    @SuppressWarnings("unchecked")
     protected <L extends Comparable> void stableQuickInc(List<L> list, int left, int right) {
-        List<L> newList = addBetween(list, left, right);
-        list = removeBetween(list, left, right);
-        list.addAll(stableRecursiveInc(newList));
+        stableQuick(list, left, right, (a, b) -> a.compareTo(b) > 0);
     }
 
     /**
-     * {@code stableQuickDec} that takes a {@code List<Comparable>} called {@code list},
-     * as well as two indices {@code left} and {@code right}.
-     * This method performs a decremental version of the Quick Sort algorithm
-     * on a sublist of the {@code list} between the indices {@code left} and {right}.
-     * <ul>
-     *     <li>It creates a new {@code List<Comparable>} called {@code newList} and initializes it by calling the
-     *     {@code addBetween} method with the {@code list}, {@code left}, and {@code right} as arguments.
-     *     The {@code addBetween} method returns a sublist of {@code list} containing the elements between
-     *     the {@code left} and {@code right} indices.</li>
-     *     <li>It updates the list variable by calling the {@code removeBetween} method with the {@code list},
-     *     {@code left}, and {@code right} as arguments.
-     *     The {@code removeBetween} method removes the elements between the {@code left} and {@code right}
-     *     indices from the original {@code list}.</li>
-     *     <li>It calls the {@code stableRecursiveDec} method with the {@code newList} as an argument.
-     *     The {@code stableRecursiveDec} method presumably performs some sort of recursive operation on
-     *     the {@code newList} and returns a modified version of it.</li>
-     * </ul>
-     * {@code stableQuickDec} performs an decremental QuickSort operation on the sublist of {@code list} between
-     * the indices {@code left} and {@code right}.
-     * It creates a new sublist called {@code newList} using the {@code addBetween} method,
-     * removes the elements of the sublist from the original {@code list} using
-     * the {@code removeBetween} method, and then adds the modified {@code newList} back to
-     * the original {@code list} using the {@link java.util.List#addAll(Collection) addAll} method.
-     * @param       list The original list containing Comparable elements.
+     * {@code stableQuickDec} sorts the sublist from index {@code left} to {@code right} (exclusive)
+     * in decreasing order.
+     * @param       list to be arranged.
      * @param       left The index representing the left boundary of the sublist to be sorted.
-     * @param       right The index representing the right boundary of the sublist to be sorted.
-     * @see         SortList#addBetween(List, int, int)
-     * @see         SortList#removeBetween(List, int, int)
-     * @see         StableQuick#stableRecursiveDec(List)
+     * @param       right The index representing the right boundary (exclusive) of the sublist to be sorted.
+     * @param       <L> the type of elements in the list.
+     * @see         StableQuick#stableQuick(List, int, int, SortFunctional)
      */
+    @SuppressWarnings("unchecked")
     protected <L extends Comparable> void stableQuickDec(List<L> list, int left, int right) {
-        List<L> newList = addBetween(list, left, right);
-        list = removeBetween(list, left, right);
-        list.addAll(stableRecursiveDec(newList));
+        stableQuick(list, left, right, (a, b) -> a.compareTo(b) < 0);
     }
 
     /**
-     * {@code stableQuick} that takes a {@code List<Comparable>} called {@code list},
-     * as well as two indices {@code left} and {@code right},
-     * and a {@code SortFunctional} object called {@code functional}.
-     * This method performs a Quick Sort algorithm on a sublist of
-     * the {@code list} between the indices {@code left} and {@code right} using a provided
-     * {@code SortFunctional} implementation.
+     * {@code stableQuick} sorts the sublist from index {@code left} to {@code right} (exclusive)
+     * in the order of the {@code functional}.
      * <ul>
-     *     <li>It creates a new {@code List<Comparable>} called {@code newList} and initializes it by calling
-     *     the {@code addBetween} method with the {@code list}, {@code left}, and {@code right} as arguments.
-     *     The {@code addBetween} method returns a sublist of {@code list} containing
-     *     the elements between the {@code left} and {@code right} indices.</li>
-     *     <li>It updates the {@code list} variable by calling the {@code removeBetween} method with
-     *     the {@code list}, {@code left}, and {@code right} as arguments.
-     *     The {@code removeBetween} method removes the elements between
-     *     the {@code left} and {@code right} indices from the original {@code list}.</li>
-     *     <li>It calls the {@code stableRecursive} method with the {@code newList} and {@code functional} as arguments.
-     *     The {@code stableRecursive} method presumably performs some sort of recursive sorting operation on
-     *     the {@code newList} using the provided {@code SortFunctional} implementation and returns a
-     *     modified version of it.</li>
+     *     <li>The elements of the sublist are copied to an array.</li>
+     *     <li>The array is sorted by the stable partitions of {@code stableQuick}.</li>
+     *     <li>The sorted elements are written back with a single pass of a {@code ListIterator} over the sublist,
+     *     so a {@link java.util.LinkedList LinkedList} is not traversed once per element.</li>
      * </ul>
-     * {@code stableQuick} performs a Quick Sort operation on
-     * the sublist of {@code list} between the indices {@code left} and {@code right} using a provided
-     * {@code SortFunctional} implementation.
-     * It creates a new sublist called {@code newList} using the {@code addBetween} method,
-     * removes the elements of the sublist from the original list using the {@code removeBetween} method,
-     * and then adds the modified {@code newList} back to the original list using the
-     * {@link java.util.List#addAll(Collection) addAll} method.
-     * The actual sorting operation is performed by the {@code stableRecursive} method,
-     * which utilizes the provided {@code SortFunctional} implementation.
-     * @param       list The original list containing {@code Comparable} elements.
+     * @param       list to be arranged.
      * @param       left The index representing the left boundary of the sublist to be sorted.
-     * @param       right The index representing the right boundary of the sublist to be sorted.
+     * @param       right The index representing the right boundary (exclusive) of the sublist to be sorted.
      * @param       functional lambda expression for comparison.
-     * @see         SortList#addBetween(List, int, int)
-     * @see         SortList#removeBetween(List, int, int)
-     * @see         StableQuick#stableRecursive(List, SortFunctional)
+     * @param       <L> the type of elements in the list.
+     * @see         StableQuick#stableQuick(Comparable[], int, int, SortFunctional)
      */
+    @SuppressWarnings("unchecked")
     protected <L extends Comparable> void stableQuick(
             List<L> list, int left, int right, SortFunctional<Comparable> functional) {
-        List<L> newList = addBetween(list, left, right);
-        list = removeBetween(list, left, right);
-        list.addAll(stableRecursive(newList, functional));
+        List<L> range = list.subList(left, right);
+        Comparable[] array = range.toArray(new Comparable[0]);
+        stableQuick(array, 0, array.length, functional);
+        ListIterator<L> iterator = range.listIterator();
+        for (Comparable element : array) {
+            iterator.next();
+            iterator.set((L) element);
+        }
     }
 
     /**
-     * {@code stableRecursiveInc} implements a recursive sorting algorithm called {@code stableRecursiveInc}
-     * that sorts a list of {@link java.lang.Comparable Comparable} elements in ascending order.
-     * The algorithm uses the concept of a pivot element and divides the list into two parts:
-     * smaller elements and greater elements, relative to the pivot.
+     * {@code stableRecursive} sorts the elements from index {@code left} to {@code right} of the array,
+     * recursing on index ranges.
      * <ul>
-     *     <li>The {@link java.lang.SuppressWarnings @SuppressWarnings}{@code ("unchecked")} annotation is used
-     *     to suppress compiler warnings related to type
-     *     safety when using the {@link java.lang.Comparable#compareTo(Object) compareTo} method.</li>
-     *     <li>The method takes a {@code list} as input and checks if the size of the {@code list} is less than
-     *     or equal to <i>1</i>.
-     *     If so, it returns the {@code list} as it is already sorted (base case of the recursion).</li>
-     *     <li>If the {@code list} has more than one element, it proceeds to find the {@code pivot} element.
-     *     The {@code pivot} is the element at the middle index of the {@code list}.</li>
-     *     <li>The algorithm creates two empty lists, {@code smaller} and {@code greater},
-     *     to hold the elements smaller and greater than the {@code pivot}, respectively.</li>
-     *     <li>It iterates through the original {@code list} and compares each element to the {@code pivot}.</li>
-     *     <li>If the element is smaller than the {@code pivot}, it adds it to the {@code smaller} list.</li>
-     *     <li>If the element is greater than the {@code pivot}, it adds it to the {@code greater} list.</li>
-     *     <li>If the element is equal to the {@code pivot}, it determines its relative position to the pivot index
-     *     and adds it to either the {@code smaller} or {@code greater} list accordingly.</li>
-     *     <li>After the iteration, the algorithm recursively calls itself with the {@code smaller} list and
-     *     the {@code greater} list, separately.</li>
-     *     <li>The results of the recursive calls are stored in two lists, {@code sa1} and {@code sa2}.</li>
-     *     <li>The algorithm creates a new list, "{@code ans}", and populates it by adding all the elements
-     *     from {@code sa1},
-     *     followed by the {@code pivot} element, and finally, all the elements from {@code sa2}.</li>
+     *     <li>The range is split by {@code stablePartition} into the elements going before the pivot,
+     *     the elements equal to it, and the elements going after it.
+     *     The equal elements are in their final place, they are not sorted again.</li>
+     *     <li>The smaller of the two other sides is sorted by a recursive call, the larger one by the next
+     *     iteration of the loop, so the depth of the recursion is at most <em>log(n)</em>.</li>
+     *     <li>The loop ends when the remaining range holds fewer than two elements.</li>
      * </ul>
-     * {@code stableRecursiveInc} the algorithm uses the divide-and-conquer approach by recursively sorting
-     * smaller sublists and combining them to produce the final sorted list.
-     * The use of the pivot element helps in dividing the list into smaller parts, which allows the algorithm
-     * to achieve an efficient sorting result.
-     * @param       list sorts a list of Comparable elements in ascending order.
-     * @return      The sorted list, is returned.
+     * @param       array to be arranged.
+     * @param       left the first index of the range.
+     * @param       right the last index of the range.
+     * @param       buffer a scratch array at least {@code (right + 1)} long.
+     * @param       bounds a scratch array at least <i>2</i> long, receiving the bounds of the equal elements.
+     * @param       functional lambda expression for comparison.
+     * @see         StableQuick#stablePartition(Comparable[], int, int, Comparable[], int[], SortFunctional)
      */
-    @SuppressWarnings("unchecked")
-    protected <L extends Comparable> List<L> stableRecursiveInc(List<L> list) {
-        if (list.size() <= 1) {
-            return list;
-        }
-        int n = list.size(), mid = (n / 2);
-        L pivot = list.get(mid);
-        List<L> smaller = new ArrayList<>();
-        List<L> greater = new ArrayList<>();
-        for (int i = 0; i < n; i++) {
-            L value = list.get(i);
-            if (i != mid) {
-                if (pivot.compareTo(value) > 0) {
-                    smaller.add(value);
-                } else if (pivot.compareTo(value) < 0) {
-                    greater.add(value);
-                } else {
-                    if (i < mid) {
-                        smaller.add(value);
-                    } else {
-                        greater.add(value);
-                    }
-                }
+    protected void stableRecursive(Comparable[] array, int left, int right, Comparable[] buffer, int[] bounds,
+                                   SortFunctional<Comparable> functional) {
+        while (left < right) {
+            stablePartition(array, left, right, buffer, bounds, functional);
+            int low = bounds[0], high = bounds[1];
+            if ((low - left) < (right - high)) {
+                stableRecursive(array, left, (low - 1), buffer, bounds, functional);
+                left = (high + 1);
+            } else {
+                stableRecursive(array, (high + 1), right, buffer, bounds, functional);
+                right = (low - 1);
             }
         }
-        List<L> ans = new ArrayList<>();
-        List<L> sa1 = stableRecursiveInc(smaller);
-        List<L> sa2 = stableRecursiveInc(greater);
-        ans.addAll(sa1);
-        ans.add(pivot);
-        ans.addAll(sa2);
-        return ans;
     }
 
     /**
-     * {@code stableRecursiveDec} implements a recursive sorting algorithm called {@code stableRecursiveDec}
-     * that sorts a list of {@link java.lang.Comparable Comparable} elements in descending order.
-     * The algorithm uses the concept of a pivot element and divides the list into two parts:
-     * smaller elements and greater elements, relative to the pivot.
+     * {@code stablePartition} splits the elements from index {@code left} to {@code right} around the middle
+     * element, keeping the original order within each part.
      * <ul>
-     *     <li>The {@link java.lang.SuppressWarnings @SuppressWarnings}{@code ("unchecked")} annotation is
-     *     used to suppress compiler warnings related to type
-     *     safety when using the {@link java.lang.Comparable#compareTo(Object) compareTo} method.</li>
-     *     <li>The method takes a {@code list} as input and checks if the size of the {@code list} is less
-     *     than or equal to <i>1</i>.
-     *     If so, it returns the {@code list} as it is already sorted (base case of the recursion).</li>
-     *     <li>If the {@code list} has more than one element, it proceeds to find the {@code pivot} element.
-     *     The {@code pivot} is the element at the middle index of the {@code list}.</li>
-     *     <li>The algorithm creates two empty lists, {@code smaller} and {@code greater},
-     *     to hold the elements smaller and greater than the {@code pivot}, respectively.</li>
-     *     <li>It iterates through the original {@code list} and compares each element to the {@code pivot}.</li>
-     *     <li>If the element is greater than the {@code pivot}, it adds it to the {@code smaller} list.</li>
-     *     <li>If the element is smaller than the {@code pivot}, it adds it to the {@code greater} list.</li>
-     *     <li>If the element is equal to the {@code pivot}, it determines its relative position to the pivot index
-     *     and adds it to either the {@code smaller} or {@code greater} list accordingly.</li>
-     *     <li>After the iteration, the algorithm recursively calls itself with the {@code smaller} list and
-     *     the {@code greater} list, separately.</li>
-     *     <li>The results of the recursive calls are stored in two lists, {@code sa1} and {@code sa2}.</li>
-     *     <li>The algorithm creates a new list, "{@code ans}", and populates it by adding all the elements
-     *     from {@code sa1},
-     *     followed by the {@code pivot} element, and finally, all the elements from {@code sa2}.</li>
+     *     <li>The elements going before the pivot are written back to the array by the first cursor,
+     *     it never passes the read index, so no unread element is overwritten.</li>
+     *     <li>The elements going after the pivot are written to the {@code buffer} by the second cursor,
+     *     upwards from index {@code left}.</li>
+     *     <li>The elements equal to the pivot, the pivot included, are written to the {@code buffer}
+     *     downwards from index {@code right}, the two cursors of the {@code buffer} never meet.</li>
+     *     <li>The equal elements are copied back after the first part in reverse order of their writing,
+     *     which is their original order, then the elements going after the pivot are copied back.</li>
      * </ul>
-     * {@code stableRecursiveDec} the algorithm uses the divide-and-conquer approach by recursively sorting
-     * smaller sublists and combining them to produce the final sorted list.
-     * The use of the pivot element helps in dividing the list into smaller parts, which allows the algorithm
-     * to achieve an efficient sorting result.
-     * @param       list sorts a list of Comparable elements in descending order.
-     * @return      The sorted list, is returned.
+     * Grouping the equal elements keeps the splits balanced on few distinct values,
+     * only {@code (right - left + 1)} slots of the {@code buffer} are used.
+     * @param       array to be arranged.
+     * @param       left the first index of the range.
+     * @param       right the last index of the range.
+     * @param       buffer a scratch array at least {@code (right + 1)} long.
+     * @param       bounds receives the first and the last index of the elements equal to the pivot.
+     * @param       functional lambda expression for comparison.
      */
-    @SuppressWarnings("unchecked")
-    protected <L extends Comparable> List<L> stableRecursiveDec(List<L> list) {
-        if (list.size() <= 1) {
-            return list;
-        }
-        int n = list.size(), mid = (n / 2);
-        L pivot = list.get(mid);
-        List<L> smaller = new ArrayList<>();
-        List<L> greater = new ArrayList<>();
-        for (int i = 0; i < n; i++) {
-            L value = list.get(i);
-            if (i != mid) {
-                if (pivot.compareTo(value) < 0) {
-                    smaller.add(value);
-                } else if (pivot.compareTo(value) > 0) {
-                    greater.add(value);
-                } else {
-                    if (i < mid) {
-                        smaller.add(value);
-                    } else {
-                        greater.add(value);
-                    }
-                }
+    protected void stablePartition(Comparable[] array, int left, int right, Comparable[] buffer, int[] bounds,
+                                   SortFunctional<Comparable> functional) {
+        Comparable pivot = array[(left + ((right - left) / 2))];
+        int low = left, high = left, equal = right;
+        for (int i = left; i <= right; i++) {
+            Comparable value = array[i];
+            if (functional.functionalCompareTo(pivot, value)) {
+                array[low++] = value;
+            } else if (functional.functionalCompareTo(value, pivot)) {
+                buffer[high++] = value;
+            } else {
+                buffer[equal--] = value;
             }
         }
-        List<L> ans = new ArrayList<>();
-        List<L> sa1 = stableRecursiveDec(smaller);
-        List<L> sa2 = stableRecursiveDec(greater);
-        ans.addAll(sa1);
-        ans.add(pivot);
-        ans.addAll(sa2);
-        return ans;
+        bounds[0] = low;
+        for (int i = right; i > equal; i--) {
+            array[low++] = buffer[i];
+        }
+        bounds[1] = (low - 1);
+        System.arraycopy(buffer, left, array, low, (high - left));
     }
 
     /**
-     * The method {@code stableRecursive} takes two parameters:
-     * {@code list} (a list of {@link java.lang.Comparable Comparable} objects)
-     * and {@code functional} (an instance of SortFunctional representing a functional interface for
-     * comparison operations).
+     * {@code parallelPartition} splits the elements from index {@code left} to {@code right} around the middle
+     * element on the worker threads, with the same result as {@code stablePartition}.
      * <ul>
-     *     <li>The first line of code checks if the size of the {@code list} is less than or equal to <i>1</i>.
-     *     If this condition is true, it means there is nothing to sort,
-     *     so the method returns the original list.</li>
-     *     <li>The code then initializes variables:
-     *     {@code n} to the size of the {@code list} and mid to the index of
-     *     the middle element (rounded down if {@code n} is odd).</li>
-     *     <li>It retrieves the pivot element from the {@code list} using {@code list.get(mid)}.</li>
-     *     <li>Two empty lists are created: {@code smaller} to store elements smaller than
-     *     the pivot and {@code greater} to store elements greater than the pivot.</li>
-     *     <li>The method defines a new {@code SortFunctional<Comparable>} called {@code functionalReverse}
-     *     by passing {@code functional} to a method {@code functionalComparableToReverse}.
-     *     This method returns a {@code SortFunctional} object that performs the reverse of
-     *     the comparison operation defined in the original {@code functional} object.</li>
-     *     <li>A loop iterates over the elements of the {@code list}.
-     *     For each element at index {@code i}, it compares the element to the pivot using
-     *     the {@code functional.functionalCompareTo} method.</li>
-     *     <li>If the result of the comparison is true (i.e., the pivot is greater than the element),
-     *     the element is added to the {@code smaller} list using {@code smaller.add(value)}.</li>
-     *     <li>If the result of the reverse comparison is true (i.e., the pivot is less than the element),
-     *     the element is added to the {@code greater} list using {@code greater.add(value)}.</li>
-     *     <li>If neither of the previous conditions is true, it means the element is equal to the pivot.
-     *     In this case, it checks the index {@code i} against {@code mid} to determine whether the element
-     *     should be added
-     *     to the {@code smaller} or {@code greater} list.
-     *     Elements before the pivot index {@code (i < mid)} are added to the {@code smaller} list,
-     *     and elements after the pivot index {@code (i > mid)} are added to the {@code greater} list.</li>
-     *     <li>After the loop finishes, the method recursively calls itself twice to sort the {@code smaller}
-     *     and {@code greater} lists.
-     *     It passes each list to the {@code stableRecursive} method and stores the results in {@code sa1}
-     *     and {@code sa2} respectively.</li>
-     *     <li>A new empty list called {@code ans} is created.</li>
-     *     <li>The elements from {@code sa1} are added to {@code ans} using {@code ans.addAll(sa1)}.</li>
-     *     <li>The pivot element is added to {@code ans} using {@code ans.add(pivot)}.</li>
-     *     <li>The elements from {@code sa2} are added to {@code ans} using {@code ans.addAll(sa2)}.</li>
-     *     <li>Finally, the sorted list {@code ans} is returned.</li>
+     *     <li>The range is cut into blocks of at least {@code PARALLEL_BLOCK} elements, at most four per worker
+     *     thread.</li>
+     *     <li>Count: every block compares its elements to the pivot in parallel, keeps the class of each element,
+     *     going before, equal or going after, in {@code classes}, and counts the three classes.</li>
+     *     <li>Prefix sum: the exclusive prefix sums of the counts, taken class by class over the blocks,
+     *     are the first output index of every class of every block.</li>
+     *     <li>Scatter: every block writes its elements to the {@code buffer} from its own output indices in
+     *     parallel, in their original order, so the blocks never write the same slot.</li>
+     *     <li>The {@code buffer} is copied back to the array block by block in parallel.</li>
      * </ul>
-     * {@code stableRecursive} method recursively applies a stable sorting algorithm to sort a list of
-     * {@code Comparable} objects.
-     * It partitions the list based on a pivot element, recursively sorts the smaller and greater partitions,
-     * and combines the results to produce a final sorted list.
-     * The specific comparison operations used for sorting are defined by the {@code functional} object
-     * passed as a parameter.
-     * @param       list sorts a list of Comparable elements in descending order.
+     * Every element is compared at most twice, as by {@code stablePartition}, the element keeps its place among the
+     * elements of its class, so the partition is stable.
+     * @param       array to be arranged.
+     * @param       left the first index of the range.
+     * @param       right the last index of the range.
+     * @param       buffer a scratch array at least {@code (right + 1)} long.
+     * @param       classes a scratch array at least {@code (right + 1)} long, receiving the classes of the elements.
+     * @param       bounds receives the first and the last index of the elements equal to the pivot.
      * @param       functional lambda expression for comparison.
-     * @return      The sorted list, is returned.
-     * @see         Sort#functionalComparableToReverse(SortFunctional)
-     * @see         SortFunctional#functionalCompareTo(Comparable, Comparable)
+     * @see         StableQuick#stablePartition(Comparable[], int, int, Comparable[], int[], SortFunctional)
      */
-    protected <L extends Comparable> List<L> stableRecursive(List<L> list, SortFunctional<Comparable> functional) {
-        if (list.size() <= 1) {
-            return list;
+    protected void parallelPartition(Comparable[] array, int left, int right, Comparable[] buffer, int[] classes,
+                                     int[] bounds, SortFunctional<Comparable> functional) {
+        Comparable pivot = array[(left + ((right - left) / 2))];
+        int n = (right - left + 1), blocks = Math.max(1, Math.min((4 * parallel.parallelism()), (n / PARALLEL_BLOCK)));
+        int[] start = new int[(blocks + 1)], offsets = new int[(3 * blocks)];
+        for (int b = 0; b <= blocks; b++) {
+            start[b] = (left + (int) (((long) n * b) / blocks));
         }
-        int n = list.size(), mid = (n / 2);
-        L pivot = list.get(mid);
-        List<L> smaller = new ArrayList<>();
-        List<L> greater = new ArrayList<>();
-        SortFunctional<Comparable> functionalReverse = functionalComparableToReverse(functional);
-        for (int i = 0; i < n; i++) {
-            L value = list.get(i);
-            if (i != mid) {
-                if (functional.functionalCompareTo(pivot, value)) {
-                    smaller.add(value);
-                } else if (functionalReverse.functionalCompareTo(pivot, value)) {
-                    greater.add(value);
-                } else {
-                    if (i < mid) {
-                        smaller.add(value);
-                    } else {
-                        greater.add(value);
-                    }
+        List<ForkJoinTask<?>> tasks = new ArrayList<>(blocks);
+        for (int b = 0; b < blocks; b++) {
+            int from = start[b], to = start[(b + 1)], at = (3 * b);
+            tasks.add(ForkJoinTask.adapt(() -> {
+                for (int i = from; i < to; i++) {
+                    int type = (functional.functionalCompareTo(pivot, array[i])
+                            ? 0
+                            : (functional.functionalCompareTo(array[i], pivot) ? 2 : 1));
+                    classes[i] = type;
+                    offsets[(at + type)]++;
                 }
+            }));
+        }
+        ForkJoinTask.invokeAll(tasks);
+        int next = left;
+        for (int type = 0; type < 3; type++) {
+            if (type == 1) {
+                bounds[0] = next;
+            }
+            for (int b = 0; b < blocks; b++) {
+                int count = offsets[((3 * b) + type)];
+                offsets[((3 * b) + type)] = next;
+                next += count;
+            }
+            if (type == 1) {
+                bounds[1] = (next - 1);
+            }
+        }
+        tasks.clear();
+        for (int b = 0; b < blocks; b++) {
+            int from = start[b], to = start[(b + 1)], at = (3 * b);
+            tasks.add(ForkJoinTask.adapt(() -> {
+                for (int i = from; i < to; i++) {
+                    buffer[offsets[(at + classes[i])]++] = array[i];
+                }
+            }));
+        }
+        ForkJoinTask.invokeAll(tasks);
+        tasks.clear();
+        for (int b = 0; b < blocks; b++) {
+            int from = start[b], to = start[(b + 1)];
+            tasks.add(ForkJoinTask.adapt(() -> System.arraycopy(buffer, from, array, from, (to - from))));
+        }
+        ForkJoinTask.invokeAll(tasks);
+    }
+
+    /**
+     * {@code StableTask} sorts a range on the worker threads.
+     * Ranges larger than the {@code PARALLEL_THRESHOLD} are split by {@code parallelPartition} and their two sides
+     * are sorted as separate tasks, the smaller ones are sorted by {@code stableRecursive}.
+     * The tasks share the {@code buffer} and the {@code classes}, every task uses only the slots of its own range.
+     */
+    private final class StableTask
+            extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Comparable[] array;
+
+        private final int left;
+
+        private final int right;
+
+        private final Comparable[] buffer;
+
+        private final int[] classes;
+
+        private final SortFunctional<Comparable> functional;
+
+        private StableTask(
+                Comparable[] array, int left, int right, Comparable[] buffer, int[] classes,
+                SortFunctional<Comparable> functional) {
+            this.array = array;
+            this.left = left;
+            this.right = right;
+            this.buffer = buffer;
+            this.classes = classes;
+            this.functional = functional;
+        }
+
+        @Override
+        protected void compute() {
+            int[] bounds = new int[2];
+            if ((right - left) <= PARALLEL_THRESHOLD) {
+                stableRecursive(array, left, right, buffer, bounds, functional);
+                return;
             }
+            parallelPartition(array, left, right, buffer, classes, bounds, functional);
+            invokeAll(new StableTask(array, left, (bounds[0] - 1), buffer, classes, functional),
+                    new StableTask(array, (bounds[1] + 1), right, buffer, classes, functional));
         }
-        List<L> ans = new ArrayList<>();
-        List<L> sa1 = stableRecursive(smaller, functional);
-        List<L> sa2 = stableRecursive(greater, functional);
-        ans.addAll(sa1);
-        ans.add(pivot);
-        ans.addAll(sa2);
-        return ans;
     }
 }
\ No newline at end of file
@@ -130,10 +130,14 @@ public class Stooge
      *     sort algorithm recursively divides the array into three parts and sorts them.</li>
      * </ul>
      * {@code stoogeInc} on an array, you can use the stooge sort algorithm to sort the entire array in ascending order.
+     * An array of fewer than two elements is already sorted, and it is returned unchanged.
      * @param       array to be arranged.
      * @see         Stooge#stoogeInc(Comparable[], int, int)
      */
     protected void stoogeInc(Comparable[] array) {
+        if (array.length < 2) {
+            return;
+        }
         stoogeInc(array, 0, (array.length - 1));
     }
 
@@ -153,10 +157,14 @@ public class Stooge
      * </ul>
      * {@code stoogeDec} on an array, you can use the stooge sort algorithm to sort
      * the entire array in descending order.
+     * An array of fewer than two elements is already sorted, and it is returned unchanged.
      * @param       array to be arranged.
      * @see         Stooge#stoogeDec(Comparable[], int, int)
      */
     protected void stoogeDec(Comparable[] array) {
+        if (array.length < 2) {
+            return;
+        }
         stoogeDec(array, 0, (array.length - 1));
     }
 
@@ -183,11 +191,15 @@ public class Stooge
      *     logic during element comparisons.</li>
      * </ul>
      * {@code stooge} on an array, using the stooge sorting algorithm, you can sort the entire array as implemented.
+     * An array of fewer than two elements is already sorted, and it is returned unchanged.
      * @param       array to be arranged.
      * @param       functional lambda expression for comparison.
      * @see         Stooge#stooge(Comparable[], int, int, SortFunctional)
      */
     protected void stooge(Comparable[] array, SortFunctional<Comparable> functional) {
+        if (array.length < 2) {
+            return;
+        }
         stooge(array, 0, (array.length - 1), functional);
     }
 
@@ -218,8 +230,9 @@ public class Stooge
      *     {@code stoogeInc(array, left, (right - third))}.</li>
      *     <li>The second recursive call sorts the last two-thirds of the subarray:
      *     {@code stoogeInc(array, (left + third), right)}.</li>
-     *     <li>The third recursive call sorts again the first two-thirds of the subarray. The {@code left} index remains
-     *     the same, but the {@code right} index is adjusted to {@code (right - third)} again.</li>
+     *     <li>The loop sorts the first two-thirds again, instead of a third recursive call.
+     *     The {@code left} index remains the same, but the {@code right} index is adjusted to
+     *     {@code (right - third)} again.</li>
      * </ul>
      * {@code stoogeInc} the implementation divides the array into three parts, but the second and third recursive calls
      * are sorting the same part again (first two-thirds).
@@ -230,14 +243,17 @@ public class Stooge
      */
     @SuppressWarnings("unchecked")
     protected void stoogeInc(Comparable[] array, int left, int right) {
-        if (array[left].compareTo(array[right]) > 0) {
-            swap(array, left, right);
-        }
-        int third = ((right - left + 1) / 3);
-        if ((third * 3) >= 3) {
+        while (true) {
+            if (array[left].compareTo(array[right]) > 0) {
+                swap(array, left, right);
+            }
+            int third = ((right - left + 1) / 3);
+            if ((third * 3) < 3) {
+                return;
+            }
             stoogeInc(array, left, (right - third));
             stoogeInc(array, (left + third), right);
-            stoogeInc(array, left, (right- third));
+            right -= third;
         }
     }
 
@@ -268,8 +284,9 @@ public class Stooge
      *     {@code stoogeDec(array, left, (right - third))}.</li>
      *     <li>The second recursive call sorts the last two-thirds of the subarray:
      *     {@code stoogeDec(array, (left + third), right)}.</li>
-     *     <li>The third recursive call sorts again the first two-thirds of the subarray. The {@code left} index remains
-     *     the same, but the {@code right} index is adjusted to {@code (right - third)} again.</li>
+     *     <li>The loop sorts the first two-thirds again, instead of a third recursive call.
+     *     The {@code left} index remains the same, but the {@code right} index is adjusted to
+     *     {@code (right - third)} again.</li>
      * </ul>
      * {@code stoogeDec} the implementation divides the array into three parts, but the second and third recursive calls
      * are sorting the same part again (first two-thirds).
@@ -280,14 +297,17 @@ public class Stooge
      */
     @SuppressWarnings("unchecked")
     protected void stoogeDec(Comparable[] array, int left, int right) {
-        if (array[left].compareTo(array[right]) < 0) {
-            swap(array, left, right);
-        }
-        int third = ((right - left + 1) / 3);
-        if ((third * 3) >= 3) {
+        while (true) {
+            if (array[left].compareTo(array[right]) < 0) {
+                swap(array, left, right);
+            }
+            int third = ((right - left + 1) / 3);
+            if ((third * 3) < 3) {
+                return;
+            }
             stoogeDec(array, left, (right - third));
             stoogeDec(array, (left + third), right);
-            stoogeDec(array, left, (right- third));
+            right -= third;
         }
     }
 
@@ -317,8 +337,9 @@ public class Stooge
      *     {@code stooge(array, left, (right - third), functional)}.</li>
      *     <li>The second recursive call sorts the last two-thirds of the subarray:
      *     {@code stooge(array, (left + third), right, functional)}.</li>
-     *     <li>The third recursive call sorts again the first two-thirds of the subarray. The {@code left} index remains
-     *     the same, but the {@code right} index is adjusted to {@code (right - third)} again:
+     *     <li>The loop sorts the first two-thirds again, instead of a third recursive call.
+     *     The {@code left} index remains the same, but the {@code right} index is adjusted to
+     *     {@code (right - third)} again:
      *     {@code stooge(array, left, (right - third), functional)}.</li>
      * </ul>
      * {@code stooge} the implementation divides the array into three parts, but the second and third recursive calls
@@ -331,14 +352,17 @@ public class Stooge
      * @see         SortSwap#swap(Comparable[], int, int)
      */
     protected void stooge(Comparable[] array, int left, int right, SortFunctional<Comparable> functional) {
-        if (functional.functionalCompareTo(array[left], array[right])) {
-            swap(array, left, right);
-        }
-        int third = ((right - left + 1) / 3);
-        if ((third * 3) >= 3) {
+        while (true) {
+            if (functional.functionalCompareTo(array[left], array[right])) {
+                swap(array, left, right);
+            }
+            int third = ((right - left + 1) / 3);
+            if ((third * 3) < 3) {
+                return;
+            }
             stooge(array, left, (right - third), functional);
             stooge(array, (left + third), right, functional);
-            stooge(array, left, (right- third), functional);
+            right -= third;
         }
     }
 
@@ -369,6 +393,9 @@ public class Stooge
      * @see         Stooge#stoogeInc(List, int, int)
      */
     protected <L extends Comparable> void stoogeInc(List<L> list) {
+        if (list.size() < 2) {
+            return;
+        }
         stoogeInc(list, 0, (list.size() - 1));
     }
 
@@ -399,6 +426,9 @@ public class Stooge
      * @see         Stooge#stoogeDec(List, int, int)
      */
     protected <L extends Comparable> void stoogeDec(List<L> list) {
+        if (list.size() < 2) {
+            return;
+        }
         stoogeDec(list, 0, (list.size() - 1));
     }
 
@@ -427,6 +457,9 @@ public class Stooge
      * @see         Stooge#stoogeDec(List, int, int)
      */
     protected <L extends Comparable> void stooge(List<L> list, SortFunctional<Comparable> functional) {
+        if (list.size() < 2) {
+            return;
+        }
         stooge(list, 0, (list.size() - 1), functional);
     }
 
@@ -460,8 +493,8 @@ public class Stooge
      *     {@code stoogeInc(list, left, (right - third))}.</li>
      *     <li>The second recursive call sorts the last two-thirds of the sublist:
      *     {@code stoogeInc(list, (left + third), right)}.</li>
-     *     <li>The third recursive call sorts again the first two-thirds of the sublist. The {@code left} index remains
-     *     the same, but the right index is adjusted to {@code (right - third)} again:
+     *     <li>The loop sorts the first two-thirds again, instead of a third recursive call.
+     *     The {@code left} index remains the same, but the right index is adjusted to {@code (right - third)} again:
      *     {@code stoogeInc(list, left, (right - third))}.</li>
      * </ul>
      * {@code stoogeInc} the implementation divides the list into three parts, but the second and third recursive calls
@@ -474,14 +507,17 @@ public class Stooge
      */
     @SuppressWarnings("unchecked")
     protected <L extends Comparable> void stoogeInc(List<L> list, int left, int right) {
-        if (list.get(left).compareTo(list.get(right)) > 0) {
-            swap(list, left, right);
-        }
-        int third = ((right - left + 1) / 3);
-        if ((third * 3) >= 3) {
+        while (true) {
+            if (list.get(left).compareTo(list.get(right)) > 0) {
+                swap(list, left, right);
+            }
+            int third = ((right - left + 1) / 3);
+            if ((third * 3) < 3) {
+                return;
+            }
             stoogeInc(list, left, (right - third));
             stoogeInc(list, (left + third), right);
-            stoogeInc(list, left, (right- third));
+            right -= third;
         }
     }
 
@@ -515,8 +551,8 @@ public class Stooge
      *     {@code stoogeDec(list, left, (right - third))}.</li>
      *     <li>The second recursive call sorts the last two-thirds of the sublist:
      *     {@code stoogeDec(list, (left + third), right)}.</li>
-     *     <li>The third recursive call sorts again the first two-thirds of the sublist. The {@code left} index remains
-     *     the same, but the right index is adjusted to {@code (right - third)} again:
+     *     <li>The loop sorts the first two-thirds again, instead of a third recursive call.
+     *     The {@code left} index remains the same, but the right index is adjusted to {@code (right - third)} again:
      *     {@code stoogeDec(list, left, (right - third))}.</li>
      * </ul>
      * {@code stoogeDec} the implementation divides the list into three parts, but the second and third recursive calls
@@ -529,14 +565,17 @@ public class Stooge
      */
     @SuppressWarnings("unchecked")
     protected <L extends Comparable> void stoogeDec(List<L> list, int left, int right) {
-        if (list.get(left).compareTo(list.get(right)) < 0) {
-            swap(list, left, right);
-        }
-        int third = ((right - left + 1) / 3);
-        if ((third * 3) >= 3) {
+        while (true) {
+            if (list.get(left).compareTo(list.get(right)) < 0) {
+                swap(list, left, right);
+            }
+            int third = ((right - left + 1) / 3);
+            if ((third * 3) < 3) {
+                return;
+            }
             stoogeDec(list, left, (right - third));
             stoogeDec(list, (left + third), right);
-            stoogeDec(list, left, (right- third));
+            right -= third;
         }
     }
 
@@ -561,8 +600,9 @@ public class Stooge
      *     {@code stooge(list, left, (right - third), functional)}.</li>
      *     <li>he second recursive call sorts the last two-thirds of the sublist:
      *     {@code stooge(list, (left + third), right, functional)}.</li>
-     *     <li>The third recursive call sorts again the first two-thirds of the sublist. The {@code left} index remains
-     *     the same, but the {@code right} index is adjusted to {@code (right - third)}again:
+     *     <li>The loop sorts the first two-thirds again, instead of a third recursive call.
+     *     The {@code left} index remains the same, but the {@code right} index is adjusted to
+     *     {@code (right - third)} again:
      *     {@code stooge(list, left, (right - third), functional)}.</li>
      * </ul>
      * {@code stooge} the implementation divides the list into three parts, but the second and third recursive calls
@@ -577,14 +617,17 @@ public class Stooge
      */
     protected <L extends Comparable> void stooge(
             List<L> list, int left, int right, SortFunctional<Comparable> functional) {
-        if (functional.functionalCompareTo(list.get(left), list.get(right))) {
-            swap(list, left, right);
-        }
-        int third = ((right - left + 1) / 3);
-        if ((third * 3) >= 3) {
+        while (true) {
+            if (functional.functionalCompareTo(list.get(left), list.get(right))) {
+                swap(list, left, right);
+            }
+            int third = ((right - left + 1) / 3);
+            if ((third * 3) < 3) {
+                return;
+            }
             stooge(list, left, (right - third), functional);
             stooge(list, (left + third), right, functional);
-            stooge(list, left, (right- third), functional);
+            right -= third;
         }
     }
 }
\ No newline at end of file
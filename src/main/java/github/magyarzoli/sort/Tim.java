@@ -3,6 +3,7 @@ package github.magyarzoli.sort;
 import github.magyarzoli.InsertionInterface;
 import github.magyarzoli.MergeInterface;
 import github.magyarzoli.SortFunctional;
+import github.magyarzoli.SortScratch;
 import github.magyarzoli.sort.intro.IntroTim;
 
 import java.util.List;
@@ -24,6 +25,11 @@ public class Tim
      */
     protected final int MIN_MERGE = 32;
 
+    /**
+     * The insertions find the place of the elements by binary search.
+     */
+    protected final boolean binaryInsertion;
+
     /**
      * <b>Tim Sort:</b><br>
      * Is a hybrid sorting algorithm that combines the strengths of Merge Sort and Insertion Sort to achieve
@@ -70,7 +76,45 @@ public class Tim
      * Stability:               <b>Yes</b>
      * @see         IntroTim#IntroTim() IntroTim
      */
-    public Tim() {}
+    public Tim() {
+        this(false);
+    }
+
+    /**
+     * <b>Tim Sort:</b><br>
+     * With binary insertion of the short ranges, if {@code binaryInsertion} is {@code true}.
+     * The place of each element is found by <em>O(log(k))</em> comparisons, and the others are shifted in bulk,
+     * the better choice when the comparison is expensive.
+     * @param       binaryInsertion the insertions are binary.
+     * @see         Tim#Tim() Tim
+     * @see         InsertionInterface#binaryInsertion()
+     */
+    public Tim(boolean binaryInsertion) {
+        this(binaryInsertion, null);
+    }
+
+    /**
+     * <b>Tim Sort:</b><br>
+     * With binary insertion if {@code binaryInsertion} is {@code true},
+     * borrows the auxiliary arrays from the {@code scratch} arena of the caller.
+     * @param       binaryInsertion the insertions are binary.
+     * @param       scratch the arena of the auxiliary arrays, {@code null} for the arena of the current thread.
+     * @see         Tim#Tim(boolean) Tim
+     * @see         Merge#Merge(SortScratch) Merge
+     */
+    public Tim(boolean binaryInsertion, SortScratch scratch) {
+        super(scratch);
+        this.binaryInsertion = binaryInsertion;
+    }
+
+    /**
+     * {@inheritDoc}
+     * @return      {@code true} if the insertions are binary.
+     */
+    @Override
+    public boolean binaryInsertion() {
+        return binaryInsertion;
+    }
 
     /**
      * {@inheritDoc}
@@ -149,8 +193,9 @@ public class Tim
      *     It iterates over the range from <i>0</i> to {@code n} with a step size of {@code (2 * size)}.
      *     Within each iteration, it determines the mid index {@code mid} and the upper bound index
      *     {@code j} of the current subarray.
-     *     If {@code mid} is less than {@code j}, it calls the {@code mergeInc} method to merge the subarrays
-     *     from {@code i} to mid and from {@code (mid + 1)} to {@code j}.
+     *     If {@code mid} is less than {@code j}, it calls the {@code mergingInc} method to merge the subarrays
+     *     from {@code i} to mid and from {@code (mid + 1)} to {@code j},
+     *     with the {@code buffer} borrowed once per sort.
      *     This step merges adjacent sorted subarrays together until the entire range is sorted.</li>
      * </ul>
      * {@code timInc} method uses incremental insertion sort to sort small runs within
@@ -161,10 +206,11 @@ public class Tim
      * @see         Tim#MIN_MERGE
      * @see         Tim#minRunLength(int)
      * @see         InsertionInterface#insertionInc(Comparable[], int, int)
-     * @see         MergeInterface#mergeInc(Comparable[], int, int, int)
+     * @see         MergeInterface#mergingInc(Comparable[], int, int, int, Comparable[])
      */
     protected void timInc(Comparable[] array) {
         int n = array.length, minRun = minRunLength(MIN_MERGE);
+        Comparable[] buffer = scratch().borrow(n);
         for (int i = 0; i < n; i += minRun) {
             insertionInc(array, i, (Math.min((i + MIN_MERGE), n) - 1));
         }
@@ -172,10 +218,11 @@ public class Tim
             for (int i = 0; i < n; i += (2 * size)) {
                 int mid = (i + size - 1), j = (Math.min(i + (2 * size), n) - 1);
                 if (mid < j) {
-                    mergeInc(array, i, mid, j);
+                    mergingInc(array, i, mid, j, buffer);
                 }
             }
         }
+        scratch().release(buffer, n);
     }
 
     /**
@@ -199,8 +246,9 @@ public class Tim
      *     It iterates over the range from <i>0</i> to {@code n} with a step size of {@code (2 * size)}.
      *     Within each iteration, it determines the mid index {@code mid} and the upper bound index
      *     {@code j} of the current subarray.
-     *     If {@code mid} is less than {@code j}, it calls the {@code mergeDec} method to merge the subarrays
-     *     from {@code i} to mid and from {@code (mid + 1)} to {@code j}.
+     *     If {@code mid} is less than {@code j}, it calls the {@code mergingDec} method to merge the subarrays
+     *     from {@code i} to mid and from {@code (mid + 1)} to {@code j},
+     *     with the {@code buffer} borrowed once per sort.
      *     This step merges adjacent sorted subarrays together until the entire range is sorted.</li>
      * </ul>
      * {@code timDec} method uses decremental insertion sort to sort small runs within
@@ -210,22 +258,24 @@ public class Tim
      * @param       array to be arranged.
      * @see         Tim#MIN_MERGE
      * @see         Tim#minRunLength(int)
-     * @see         InsertionInterface#insertionInc(Comparable[], int, int)
-     * @see         MergeInterface#mergeInc(Comparable[], int, int, int)
+     * @see         InsertionInterface#insertionDec(Comparable[], int, int)
+     * @see         MergeInterface#mergingDec(Comparable[], int, int, int, Comparable[])
      */
     protected void timDec(Comparable[] array) {
         int n = array.length, minRun = minRunLength(MIN_MERGE);
+        Comparable[] buffer = scratch().borrow(n);
         for (int i = 0; i < n; i += minRun) {
-            insertionInc(array, i, (Math.min((i + MIN_MERGE), n) - 1));
+            insertionDec(array, i, (Math.min((i + MIN_MERGE), n) - 1));
         }
         for (int size = minRun; size < n; size *= 2) {
             for (int i = 0; i < n; i += (2 * size)) {
                 int mid = (i + size - 1), j = (Math.min(i + (2 * size), n) - 1);
                 if (mid < j) {
-                    mergeDec(array, i, mid, j);
+                    mergingDec(array, i, mid, j, buffer);
                 }
             }
         }
+        scratch().release(buffer, n);
     }
 
     /**
@@ -248,9 +298,9 @@ public class Tim
      *     <li>Within this loop, there is another {@code for} loop that iterates over the elements in the
      *     array with an interval of {@code (2 * size)}.
      *     This loop handles the merging step of the Tim sort algorithm.
-     *     It merges adjacent subarrays of size {@code size} by calling the {@code merge} method with the
+     *     It merges adjacent subarrays of size {@code size} by calling the {@code merging} method with the
      *     appropriate indices.
-     *     The {@code merge} method likely implements the merging logic of merge sort,
+     *     The {@code merging} method likely implements the merging logic of merge sort,
      *     combining two sorted subarrays into a larger sorted subarray, using the provided comparison logic.</li>
      * </ul>
      * {@code tim} method insertion sort to sort small runs within
@@ -262,10 +312,11 @@ public class Tim
      * @see         Tim#MIN_MERGE
      * @see         Tim#minRunLength(int)
      * @see         InsertionInterface#insertion(Comparable[], int, int, SortFunctional)
-     * @see         MergeInterface#merge(Comparable[], int, int, int, SortFunctional)
+     * @see         MergeInterface#merging(Comparable[], int, int, int, Comparable[], SortFunctional)
      */
     protected void tim(Comparable[] array, SortFunctional<Comparable> functional) {
         int n = array.length, minRun = minRunLength(MIN_MERGE);
+        Comparable[] buffer = scratch().borrow(n);
         for (int i = 0; i < n; i += minRun) {
             insertion(array, i, (Math.min((i + MIN_MERGE), n) - 1), functional);
         }
@@ -273,10 +324,11 @@ public class Tim
             for (int i = 0; i < n; i += (2 * size)) {
                 int mid = (i + size - 1), j = (Math.min(i + (2 * size), n) - 1);
                 if (mid < j) {
-                    merge(array, i, mid, j, functional);
+                    merging(array, i, mid, j, buffer, functional);
                 }
             }
         }
+        scratch().release(buffer, n);
     }
 
     /**
@@ -300,8 +352,9 @@ public class Tim
      *     It iterates over the range from {@code left} to {@code right} with a step size of {@code (2 * size)}.
      *     Within each iteration, it determines the mid index {@code mid} and the upper bound index
      *     {@code j} of the current subarray.
-     *     If {@code mid} is less than {@code j}, it calls the {@code mergeInc} method to merge the subarrays
-     *     from {@code i} to mid and from {@code (mid + 1)} to {@code j}.
+     *     If {@code mid} is less than {@code j}, it calls the {@code mergingInc} method to merge the subarrays
+     *     from {@code i} to mid and from {@code (mid + 1)} to {@code j},
+     *     with the {@code buffer} borrowed once per sort.
      *     This step merges adjacent sorted subarrays together until the entire range is sorted.</li>
      * </ul>
      * {@code timInc} method uses incremental insertion sort to sort small runs within
@@ -314,21 +367,23 @@ public class Tim
      * @see         Tim#MIN_MERGE
      * @see         Tim#minRunLength(int)
      * @see         InsertionInterface#insertionInc(Comparable[], int, int)
-     * @see         MergeInterface#mergeInc(Comparable[], int, int, int)
+     * @see         MergeInterface#mergingInc(Comparable[], int, int, int, Comparable[])
      */
     protected void timInc(Comparable[] array, int left, int right) {
         int minRun = minRunLength(MIN_MERGE);
-        for (int i = 0; i < right; i += minRun) {
+        Comparable[] buffer = scratch().borrow(right);
+        for (int i = left; i < right; i += minRun) {
             insertionInc(array, i, (Math.min((i + MIN_MERGE), right) - 1));
         }
         for (int size = minRun; size < right; size *= 2) {
             for (int i = left; i < right; i += (2 * size)) {
                 int mid = (i + size - 1), j = (Math.min(i + (2 * size), right) - 1);
                 if (mid < j) {
-                    mergeInc(array, i, mid, j);
+                    mergingInc(array, i, mid, j, buffer);
                 }
             }
         }
+        scratch().release(buffer, right);
     }
 
     /**
@@ -352,8 +407,9 @@ public class Tim
      *     It iterates over the range from {@code left} to {@code right} with a step size of {@code (2 * size)}.
      *     Within each iteration, it determines the mid index {@code mid} and the upper bound index
      *     {@code j} of the current subarray.
-     *     If {@code mid} is less than {@code j}, it calls the {@code mergeDec} method to merge the subarrays
-     *     from {@code i} to mid and from {@code (mid + 1)} to {@code j}.
+     *     If {@code mid} is less than {@code j}, it calls the {@code mergingDec} method to merge the subarrays
+     *     from {@code i} to mid and from {@code (mid + 1)} to {@code j},
+     *     with the {@code buffer} borrowed once per sort.
      *     This step merges adjacent sorted subarrays together until the entire range is sorted.</li>
      * </ul>
      * {@code timDec} method uses decremental insertion sort to sort small runs within
@@ -365,22 +421,24 @@ public class Tim
      * @param       right the value in the array must be greater than a {@code left} parameter.
      * @see         Tim#MIN_MERGE
      * @see         Tim#minRunLength(int)
-     * @see         InsertionInterface#insertionInc(Comparable[], int, int)
-     * @see         MergeInterface#mergeInc(Comparable[], int, int, int)
+     * @see         InsertionInterface#insertionDec(Comparable[], int, int)
+     * @see         MergeInterface#mergingDec(Comparable[], int, int, int, Comparable[])
      */
     protected void timDec(Comparable[] array, int left, int right) {
         int minRun = minRunLength(MIN_MERGE);
-        for (int i = 0; i < right; i += minRun) {
-            insertionInc(array, i, (Math.min((i + MIN_MERGE), right) - 1));
+        Comparable[] buffer = scratch().borrow(right);
+        for (int i = left; i < right; i += minRun) {
+            insertionDec(array, i, (Math.min((i + MIN_MERGE), right) - 1));
         }
         for (int size = minRun; size < right; size *= 2) {
             for (int i = left; i < right; i += (2 * size)) {
                 int mid = (i + size - 1), j = (Math.min(i + (2 * size), right) - 1);
                 if (mid < j) {
-                    mergeDec(array, i, mid, j);
+                    mergingDec(array, i, mid, j, buffer);
                 }
             }
         }
+        scratch().release(buffer, right);
     }
 
     /**
@@ -404,9 +462,9 @@ public class Tim
      *     <li>Within this loop, there is another {@code for} loop that iterates over the elements in
      *     the array with an interval of {@code (2 * size)}.
      *     This loop handles the merging step of the Tim sort algorithm.
-     *     It merges adjacent subarrays of size {@code size} by calling the {@code merge} method with
+     *     It merges adjacent subarrays of size {@code size} by calling the {@code merging} method with
      *     the appropriate indices.
-     *     The {@code merge} method likely implements the merging logic of merge sort,
+     *     The {@code merging} method likely implements the merging logic of merge sort,
      *     combining two sorted subarrays into a larger sorted subarray, using the provided comparison logic.</li>
      * </ul>
      * {@code tim} method insertion sort to sort small runs within
@@ -420,21 +478,23 @@ public class Tim
      * @see         Tim#MIN_MERGE
      * @see         Tim#minRunLength(int)
      * @see         InsertionInterface#insertion(Comparable[], int, int, SortFunctional)
-     * @see         MergeInterface#merge(Comparable[], int, int, int, SortFunctional)
+     * @see         MergeInterface#merging(Comparable[], int, int, int, Comparable[], SortFunctional)
      */
     protected void tim(Comparable[] array, int left, int right, SortFunctional<Comparable> functional) {
         int minRun = minRunLength(MIN_MERGE);
-        for (int i = 0; i < right; i += minRun) {
+        Comparable[] buffer = scratch().borrow(right);
+        for (int i = left; i < right; i += minRun) {
             insertion(array, i, (Math.min((i + MIN_MERGE), right) - 1), functional);
         }
         for (int size = minRun; size < right; size *= 2) {
             for (int i = left; i < right; i += (2 * size)) {
                 int mid = (i + size - 1), j = (Math.min(i + (2 * size), right) - 1);
                 if (mid < j) {
-                    merge(array, i, mid, j, functional);
+                    merging(array, i, mid, j, buffer, functional);
                 }
             }
         }
+        scratch().release(buffer, right);
     }
 
     /**
@@ -470,10 +530,11 @@ public class Tim
      * @see         Tim#MIN_MERGE
      * @see         Tim#minRunLength(int)
      * @see         InsertionInterface#insertionInc(List, int, int)
-     * @see         MergeInterface#mergeInc(List, int, int, int)
+     * @see         MergeInterface#mergeInc(List, int, int, int, Comparable[])
      */
     protected <L extends Comparable> void timInc(List<L> list) {
         int n = list.size(), minRun = minRunLength(MIN_MERGE);
+        Comparable[] buffer = scratch().borrow(n);
         for (int i = 0; i < n; i += minRun) {
             insertionInc(list, i, (Math.min((i + MIN_MERGE), n) - 1));
         }
@@ -481,10 +542,11 @@ public class Tim
             for (int i = 0; i < n; i += (2 * size)) {
                 int mid = (i + size - 1), j = (Math.min(i + (2 * size), n) - 1);
                 if (mid < j) {
-                    mergeInc(list, i, mid, j);
+                    mergeInc(list, i, mid, j, buffer);
                 }
             }
         }
+        scratch().release(buffer, n);
     }
 
     /**
@@ -520,10 +582,11 @@ public class Tim
      * @see         Tim#MIN_MERGE
      * @see         Tim#minRunLength(int)
      * @see         InsertionInterface#insertionInc(List, int, int)
-     * @see         MergeInterface#mergeInc(List, int, int, int)
+     * @see         MergeInterface#mergeDec(List, int, int, int, Comparable[])
      */
     protected <L extends Comparable> void timDec(List<L> list) {
         int n = list.size(), minRun = minRunLength(MIN_MERGE);
+        Comparable[] buffer = scratch().borrow(n);
         for (int i = 0; i < n; i += minRun) {
             insertionInc(list, i, (Math.min((i + MIN_MERGE), n) - 1));
         }
@@ -531,10 +594,11 @@ public class Tim
             for (int i = 0; i < n; i += (2 * size)) {
                 int mid = (i + size - 1), j = (Math.min(i + (2 * size), n) - 1);
                 if (mid < j) {
-                    mergeDec(list, i, mid, j);
+                    mergeDec(list, i, mid, j, buffer);
                 }
             }
         }
+        scratch().release(buffer, n);
     }
 
     /**
@@ -572,10 +636,11 @@ public class Tim
      * @see         Tim#MIN_MERGE
      * @see         Tim#minRunLength(int)
      * @see         InsertionInterface#insertion(List, int, int, SortFunctional)
-     * @see         MergeInterface#merge(List, int, int, int, SortFunctional)
+     * @see         MergeInterface#merge(List, int, int, int, Comparable[], SortFunctional)
      */
     protected <L extends Comparable> void tim(List<L> list, SortFunctional<Comparable> functional) {
         int n = list.size(), minRun = minRunLength(MIN_MERGE);
+        Comparable[] buffer = scratch().borrow(n);
         for (int i = 0; i < n; i += minRun) {
             insertion(list, i, (Math.min((i + MIN_MERGE), n) - 1), functional);
         }
@@ -583,10 +648,11 @@ public class Tim
             for (int i = 0; i < n; i += (2 * size)) {
                 int mid = (i + size - 1), j = (Math.min(i + (2 * size), n) - 1);
                 if (mid < j) {
-                    merge(list, i, mid, j, functional);
+                    merge(list, i, mid, j, buffer, functional);
                 }
             }
         }
+        scratch().release(buffer, n);
     }
 
     /**
@@ -624,10 +690,11 @@ public class Tim
      * @see         Tim#MIN_MERGE
      * @see         Tim#minRunLength(int)
      * @see         InsertionInterface#insertionInc(List, int, int)
-     * @see         MergeInterface#mergeInc(List, int, int, int)
+     * @see         MergeInterface#mergeInc(List, int, int, int, Comparable[])
      */
     protected <L extends Comparable> void timInc(List<L> list, int left, int right) {
         int minRun = minRunLength(MIN_MERGE);
+        Comparable[] buffer = scratch().borrow(right);
         for (int i = 0; i < right; i += minRun) {
             insertionInc(list, i, (Math.min((i + MIN_MERGE), right) - 1));
         }
@@ -635,10 +702,11 @@ public class Tim
             for (int i = left; i < right; i += (2 * size)) {
                 int mid = (i + size - 1), j = (Math.min(i + (2 * size), right) - 1);
                 if (mid < j) {
-                    mergeInc(list, i, mid, j);
+                    mergeInc(list, i, mid, j, buffer);
                 }
             }
         }
+        scratch().release(buffer, right);
     }
 
     /**
@@ -676,10 +744,11 @@ public class Tim
      * @see         Tim#MIN_MERGE
      * @see         Tim#minRunLength(int)
      * @see         InsertionInterface#insertionInc(List, int, int)
-     * @see         MergeInterface#mergeInc(List, int, int, int)
+     * @see         MergeInterface#mergeDec(List, int, int, int, Comparable[])
      */
     protected <L extends Comparable> void timDec(List<L> list, int left, int right) {
         int minRun = minRunLength(MIN_MERGE);
+        Comparable[] buffer = scratch().borrow(right);
         for (int i = 0; i < right; i += minRun) {
             insertionInc(list, i, (Math.min((i + MIN_MERGE), right) - 1));
         }
@@ -687,10 +756,11 @@ public class Tim
             for (int i = left; i < right; i += (2 * size)) {
                 int mid = (i + size - 1), j = (Math.min(i + (2 * size), right) - 1);
                 if (mid < j) {
-                    mergeDec(list, i, mid, j);
+                    mergeDec(list, i, mid, j, buffer);
                 }
             }
         }
+        scratch().release(buffer, right);
     }
 
     /**
@@ -730,11 +800,12 @@ public class Tim
      * @see         Tim#MIN_MERGE
      * @see         Tim#minRunLength(int)
      * @see         InsertionInterface#insertion(List, int, int, SortFunctional)
-     * @see         MergeInterface#merge(List, int, int, int, SortFunctional)
+     * @see         MergeInterface#merge(List, int, int, int, Comparable[], SortFunctional)
      */
     protected <L extends Comparable> void tim(
             List<L> list, int left, int right, SortFunctional<Comparable> functional) {
         int minRun = minRunLength(MIN_MERGE);
+        Comparable[] buffer = scratch().borrow(right);
         for (int i = 0; i < right; i += minRun) {
             insertion(list, i, (Math.min((i + MIN_MERGE), right) - 1), functional);
         }
@@ -742,10 +813,11 @@ public class Tim
             for (int i = left; i < right; i += (2 * size)) {
                 int mid = (i + size - 1), j = (Math.min(i + (2 * size), right) - 1);
                 if (mid < j) {
-                    merge(list, i, mid, j, functional);
+                    merge(list, i, mid, j, buffer, functional);
                 }
             }
         }
+        scratch().release(buffer, right);
     }
 
     /**
@@ -48,6 +48,116 @@ public class WeakHeap
      */
     public WeakHeap() {}
 
+    /**
+     * {@inheritDoc}
+     * The children of {@code i} are {@code 2i} and {@code (2i + 1)} in this heap, so {@code (n / 2)} is a parent
+     * as well, and the heap build starts there instead of {@code ((n / 2) - 1)}.
+     * @param       array to be arranged.
+     */
+    @Override
+    public void heapInc(Comparable[] array) {
+        int n = array.length;
+        for (int i = (n / 2); i >= 0; i--) {
+            heapifyInc(array, n, i);
+        }
+        for (int i = (n - 1); i > 0; i--) {
+            swap(array, 0, i);
+            heapifyInc(array, i, 0);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * The children of {@code i} are {@code 2i} and {@code (2i + 1)} in this heap, so {@code (n / 2)} is a parent
+     * as well, and the heap build starts there instead of {@code ((n / 2) - 1)}.
+     * @param       array to be arranged.
+     */
+    @Override
+    public void heapDec(Comparable[] array) {
+        int n = array.length;
+        for (int i = (n / 2); i >= 0; i--) {
+            heapifyDec(array, n, i);
+        }
+        for (int i = (n - 1); i > 0; i--) {
+            swap(array, 0, i);
+            heapifyDec(array, i, 0);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * The children of {@code i} are {@code 2i} and {@code (2i + 1)} in this heap, so {@code (n / 2)} is a parent
+     * as well, and the heap build starts there instead of {@code ((n / 2) - 1)}.
+     * @param       array to be arranged.
+     * @param       functional lambda expression for comparison.
+     */
+    @Override
+    public void heap(Comparable[] array, SortFunctional<Comparable> functional) {
+        int n = array.length;
+        for (int i = (n / 2); i >= 0; i--) {
+            heapify(array, n, i, functional);
+        }
+        for (int i = (n - 1); i > 0; i--) {
+            swap(array, 0, i);
+            heapify(array, i, 0, functional);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * The children of {@code i} are {@code 2i} and {@code (2i + 1)} in this heap, so {@code (n / 2)} is a parent
+     * as well, and the heap build starts there instead of {@code ((n / 2) - 1)}.
+     * @param       list to be arranged.
+     */
+    @Override
+    public <L extends Comparable> void heapInc(List<L> list) {
+        int n = list.size();
+        for (int i = (n / 2); i >= 0; i--) {
+            heapifyInc(list, n, i);
+        }
+        for (int i = (n - 1); i > 0; i--) {
+            swap(list, 0, i);
+            heapifyInc(list, i, 0);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * The children of {@code i} are {@code 2i} and {@code (2i + 1)} in this heap, so {@code (n / 2)} is a parent
+     * as well, and the heap build starts there instead of {@code ((n / 2) - 1)}.
+     * @param       list to be arranged.
+     */
+    @Override
+    public <L extends Comparable> void heapDec(List<L> list) {
+        int n = list.size();
+        for (int i = (n / 2); i >= 0; i--) {
+            heapifyDec(list, n, i);
+        }
+        for (int i = (n - 1); i > 0; i--) {
+            swap(list, 0, i);
+            heapifyDec(list, i, 0);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * The children of {@code i} are {@code 2i} and {@code (2i + 1)} in this heap, so {@code (n / 2)} is a parent
+     * as well, and the heap build starts there instead of {@code ((n / 2) - 1)}.
+     * @param       list to be arranged.
+     * @param       functional lambda expression for comparison.
+     */
+    @Override
+    public <L extends Comparable> void heap(List<L> list, SortFunctional<Comparable> functional) {
+        int n = list.size();
+        for (int i = (n / 2); i >= 0; i--) {
+            heapify(list, n, i, functional);
+        }
+        for (int i = (n - 1); i > 0; i--) {
+            swap(list, 0, i);
+            heapify(list, i, 0, functional);
+        }
+    }
+
     /**
      * {@code heapifyInc} method. This method is likely a part of a heap-related algorithm or data structure
      * implementation
@@ -3,10 +3,10 @@ package github.magyarzoli.sort;
 import github.magyarzoli.MergeInterface;
 import github.magyarzoli.SortFunctional;
 import github.magyarzoli.SortList;
+import github.magyarzoli.SortScratch;
 import github.magyarzoli.sort.Merge;
 import github.magyarzoli.sort.intro.IntroWeaveMerge;
 
-import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -38,18 +38,11 @@ public class WeaveMerge
      *     <li>If the size {@code n} is less than or equal to <i>1</i>, the range is already sorted, so the method
      *     returns.</li>
      *     <li>Otherwise, it calculates the middle index of the range and stores it in the variable mid.</li>
-     *     <li>Two new subarrays, left Array and right Array, are created using
-     *     {@link java.util.Arrays#copyOfRange(Object[], int, int) Arrays.copyOfRange}.
-     *     left Array contains the elements from the array parameter starting from the left index up to
-     *     (but not including) the middle index.
-     *     right Array contains the elements from the middle index up to (but not including) the right index.</li>
-     *     <li>The method then calls itself recursively twice. The first recursive call sorts the left subarray
-     *     by passing the range from the left index to the middle index.
-     *     The second recursive call sorts the right subarray by passing the range from the middle index
-     *     to the right index.</li>
-     *     <li>After the recursive calls, passing the original array, left Array, and right Array as parameters.
-     *     This helper method performs the merging step by comparing elements from left Array and right Array
-     *     and placing them in the correct order in the original array.</li>
+     *     <li>A single copy of the array is made before the recursion, into a buffer borrowed from the arena.</li>
+     *     <li>The method then calls itself recursively twice, sorting the two halves from the array into the copy,
+     *     with the roles of the two arrays swapped.</li>
+     *     <li>After the recursive calls, the sorted halves are merged from the copy back into the original array.
+     *     The two arrays are woven together this way on every level, no halves are copied.</li>
      *     <li>The recursion continues until the base case is reached, which occurs when the range to be
      *     sorted has a size of <i>1</i> or less.
      *     At this point, the recursive calls stop, and the sorting process is complete.</li>
@@ -71,6 +64,17 @@ public class WeaveMerge
      */
     public WeaveMerge() {}
 
+    /**
+     * <b>Weave Merge Sort:</b><br>
+     * Borrows the auxiliary arrays from the {@code scratch} arena of the caller.
+     * @param       scratch the arena of the auxiliary arrays, {@code null} for the arena of the current thread.
+     * @see         WeaveMerge#WeaveMerge() WeaveMerge
+     * @see         Merge#Merge(SortScratch) Merge
+     */
+    public WeaveMerge(SortScratch scratch) {
+        super(scratch);
+    }
+
     /**
      * {@inheritDoc}
      * @param       array to be arranged.
@@ -129,288 +133,167 @@ public class WeaveMerge
 
     /**
      * {@code weaveMergeInc} that performs a weave merge sort algorithm
-     * to sort a {@link java.lang.Comparable Comparable} array in ascending order.
+     * to sort a {@link java.lang.Comparable Comparable} array in ascending.
      * <ul>
-     *     <li>It first calculates the size of the range to be sorted by subtracting <i>0</i> from {@code array.length},
-     *     storing the result in the variable {@code n}.</li>
-     *     <li>If the size {@code n} is less than or equal to <i>1</i>,
-     *     it means the range has at most one element or is empty, so there's nothing to sort, and the
+     *     <li>If the size of the array is less than or equal to <i>1</i>, there's nothing to sort, and the
      *     method returns.</li>
-     *     <li>If the range has more than one element, the method proceeds to calculate the middle
-     *     index of the range to half of {@code n}.
-     *     The result is stored in the variable {@code mid}.</li>
-     *     <li>The method then creates two new arrays: {@code leftArray} and {@code rightArray}.
-     *     They are created using {@link java.util.Arrays#copyOfRange(Object[], int, int) Arrays.copyOfRange},
-     *     which creates a new array containing
-     *     the elements from the array parameter starting from
-     *     index <i>0</i> (inclusive) and ending at
-     *     index {@code mid} (exclusive) for {@code leftArray}, and starting from
-     *     index {@code mid} (inclusive) and ending at
-     *     index {@code n} (exclusive) for {@code rightArray}.</li>
-     *     <li>After creating the <i>0</i> and {@code n} subarrays, the method calls itself recursively twice:
-     *     once with the range from <i>0</i> to {@code mid}, and
-     *     once with the range from {@code mid} to {@code n}.
-     *     This recursive step is responsible for recursively dividing the array into smaller subarrays until
-     *     the base case {@code (n <= 1)} is reached.</li>
-     *     <li>Finally, the method calls another helper method {@code mergingInc} to merge the sorted
-     *     {@code leftArray} and {@code rightArray} back into the original array,
-     *     effectively sorting the entire range from <i>0</i> to {@code n} in ascending order.</li>
+     *     <li>A single copy of the array is made, into a buffer borrowed from the arena of {@code scratch}.</li>
+     *     <li>The copy and the array are woven together by {@code mergeInto}: the halves are sorted from the array
+     *     into the copy, and merged back into the array, with the roles swapped on every level of the recursion,
+     *     so no halves are copied and nothing is copied back.</li>
      * </ul>
      * {@code weaveMergeInc} method modifies the original array in place rather than returning a new sorted array.
      * @param       array to be sorted.
-     * @see         MergeInterface#mergingInc(Comparable[], Comparable[], Comparable[])
+     * @see         MergeInterface#mergeInto(Comparable[], Comparable[], int, int, SortFunctional)
      */
+    @SuppressWarnings("unchecked")
     protected void weaveMergeInc(Comparable[] array) {
-        int n = array.length;
-        if (n <= 1) {
+        if (array.length <= 1) {
             return;
         }
-        int mid = (n / 2);
-        Comparable[] leftArray = Arrays.copyOfRange(array, 0, mid);
-        Comparable[] rightArray = Arrays.copyOfRange(array, mid, n);
-        weaveMergeInc(leftArray);
-        weaveMergeInc(rightArray);
-        mergingInc(array, leftArray, rightArray);
+        Comparable[] buffer = scratch().borrow(array.length);
+        System.arraycopy(array, 0, buffer, 0, array.length);
+        mergeInto(buffer, array, 0, (array.length - 1), (a, b) -> a.compareTo(b) > 0);
+        scratch().release(buffer, array.length);
     }
 
     /**
      * {@code weaveMergeDec} that performs a weave merge sort algorithm
-     * to sort a {@link java.lang.Comparable Comparable} array in descending order.
+     * to sort a {@link java.lang.Comparable Comparable} array in descending.
      * <ul>
-     *     <li>It first calculates the size of the range to be sorted by subtracting <i>0</i> from {@code array.length},
-     *     storing the result in the variable {@code n}.</li>
-     *     <li>If the size {@code n} is less than or equal to <i>1</i>,
-     *     it means the range has at most one element or is empty, so there's nothing to sort,
-     *     and the method returns.</li>
-     *     <li>If the range has more than one element, the method proceeds to calculate the middle
-     *     index of the range to half of {@code n}.
-     *     The result is stored in the variable {@code mid}.</li>
-     *     <li>The method then creates two new arrays: {@code leftArray} and {@code rightArray}.
-     *     They are created using {@link java.util.Arrays#copyOfRange(Object[], int, int) Arrays.copyOfRange},
-     *     which creates a new array containing
-     *     the elements from the array parameter starting from
-     *     index <i>0</i> (inclusive) and ending at
-     *     index {@code mid} (exclusive) for {@code leftArray}, and starting from
-     *     index {@code mid} (inclusive) and ending at
-     *     index {@code n} (exclusive) for {@code rightArray}.</li>
-     *     <li>After creating the <i>0</i> and {@code n} subarrays, the method calls itself recursively twice:
-     *     once with the range from <i>0</i> to {@code mid}, and
-     *     once with the range from {@code mid} to {@code n}.
-     *     This recursive step is responsible for recursively dividing the array into smaller subarrays until
-     *     the base case {@code (n <= 1)} is reached.</li>
-     *     <li>Finally, the method calls another helper method {@code mergingDec} to merge the sorted
-     *     {@code leftArray} and {@code rightArray} back into the original array,
-     *     effectively sorting the entire range from <i>0</i> to {@code n} in descending order.</li>
+     *     <li>If the size of the array is less than or equal to <i>1</i>, there's nothing to sort, and the
+     *     method returns.</li>
+     *     <li>A single copy of the array is made, into a buffer borrowed from the arena of {@code scratch}.</li>
+     *     <li>The copy and the array are woven together by {@code mergeInto}: the halves are sorted from the array
+     *     into the copy, and merged back into the array, with the roles swapped on every level of the recursion,
+     *     so no halves are copied and nothing is copied back.</li>
      * </ul>
-     * {@code weaveMergeInc} method modifies the original array in place rather than returning a new sorted array.
+     * {@code weaveMergeDec} method modifies the original array in place rather than returning a new sorted array.
      * @param       array to be sorted.
-     * @see         MergeInterface#mergingInc(Comparable[], Comparable[], Comparable[])
+     * @see         MergeInterface#mergeInto(Comparable[], Comparable[], int, int, SortFunctional)
      */
+    @SuppressWarnings("unchecked")
     protected void weaveMergeDec(Comparable[] array) {
-        int n = array.length;
-        if (n <= 1) {
+        if (array.length <= 1) {
             return;
         }
-        int mid = (n / 2);
-        Comparable[] leftArray = Arrays.copyOfRange(array, 0, mid);
-        Comparable[] rightArray = Arrays.copyOfRange(array, mid, n);
-        weaveMergeDec(leftArray);
-        weaveMergeDec(rightArray);
-        mergingDec(array, leftArray, rightArray);
+        Comparable[] buffer = scratch().borrow(array.length);
+        System.arraycopy(array, 0, buffer, 0, array.length);
+        mergeInto(buffer, array, 0, (array.length - 1), (a, b) -> a.compareTo(b) < 0);
+        scratch().release(buffer, array.length);
     }
 
     /**
-     * {@code weaveMerge} method, which implements a merging algorithm to merge two sorted subarrays
-     * into a single sorted subarray.
-     * It uses a divide-and-conquer approach to recursively divide the array into smaller subarrays
-     * and then merges them back together.
+     * {@code weaveMerge} that performs a weave merge sort algorithm
+     * to sort a {@link java.lang.Comparable Comparable} array in the order of the {@code functional}.
      * <ul>
-     *     <li>It calculates the size of the subarray as {@code n} by subtracting
-     *     the left index from the right index {@code (n = array.length)}.</li>
-     *     <li>If the size of the subarray is <i>1</i> or less {@code (n <= 1)},
-     *     there is nothing to merge, so the method returns.</li>
-     *     <li>It calculates the midpoint of the subarray as {@code mid} by adding
-     *     the left index to half of the subarray size {@code (mid = (n / 2))}.</li>
-     *     <li>It creates two new arrays, {@code leftArray} and {@code rightArray},
-     *     using {@link java.util.Arrays#copyOfRange(Object[], int, int) Arrays.copyOfRange}
-     *     to copy the elements from the original array.
-     *     {@code leftArray} contains the elements from the <i>0</i> index up to,
-     *     but not including, the midpoint {@code mid},
-     *     and {@code rightArray} contains the elements from the midpoint {@code mid} up to
-     *     the right index {@code n}.</li>
-     *     <li>It recursively calls the {@code weaveMerge} method twice:
-     *     once to merge the left portion of the subarray (<i>0</i> to {@code mid}),
-     *     and another to merge the right portion of the subarray ({@code mid} to {@code n}).
-     *     This is done to recursively divide the subarrays into smaller subarrays and perform
-     *     the merging operation.</li>
-     *     <li>Finally, it calls the {@code merging} method to merge
-     *     the {@code leftArray} and {@code rightArray} back into the original {@code array},
-     *     resulting in a sorted subarray from <i>0</i> to {@code n}.</li>
+     *     <li>If the size of the array is less than or equal to <i>1</i>, there's nothing to sort, and the
+     *     method returns.</li>
+     *     <li>A single copy of the array is made, into a buffer borrowed from the arena of {@code scratch}.</li>
+     *     <li>The copy and the array are woven together by {@code mergeInto}: the halves are sorted from the array
+     *     into the copy, and merged back into the array, with the roles swapped on every level of the recursion,
+     *     so no halves are copied and nothing is copied back.</li>
      * </ul>
-     * {@code weaveMerge} method effectively divides the array into smaller subarrays,
-     * recursively merges the subarrays, and then merges the smaller merged subarrays back into the original array.
-     * This process continues until the entire array is sorted.
+     * {@code weaveMerge} method modifies the original array in place rather than returning a new sorted array.
      * @param       array to be sorted.
      * @param       functional lambda expression for comparison.
-     * @see         MergeInterface#merging(Comparable[], Comparable[], Comparable[], SortFunctional)
+     * @see         MergeInterface#mergeInto(Comparable[], Comparable[], int, int, SortFunctional)
      */
     protected void weaveMerge(Comparable[] array, SortFunctional<Comparable> functional) {
-        int n = array.length;
-        if (n <= 1) {
+        if (array.length <= 1) {
             return;
         }
-        int mid = (n / 2);
-        Comparable[] leftArray = Arrays.copyOfRange(array, 0, mid);
-        Comparable[] rightArray = Arrays.copyOfRange(array, mid, n);
-        weaveMerge(leftArray, functional);
-        weaveMerge(rightArray, functional);
-        merging(array, leftArray, rightArray, functional);
+        Comparable[] buffer = scratch().borrow(array.length);
+        System.arraycopy(array, 0, buffer, 0, array.length);
+        mergeInto(buffer, array, 0, (array.length - 1), functional);
+        scratch().release(buffer, array.length);
     }
 
     /**
      * {@code weaveMergeInc} that performs a weave merge sort algorithm
-     * to sort a {@link java.lang.Comparable Comparable} array in ascending order.
+     * to sort the range of a {@link java.lang.Comparable Comparable} array in ascending.
      * <ul>
-     *     <li>It first calculates the size of the range to be sorted by subtracting {@code left} from {@code right},
-     *     storing the result in the variable {@code n}.</li>
-     *     <li>If the size {@code n} is less than or equal to <i>1</i>,
-     *     it means the range has at most one element or is empty, so there's nothing to sort,
-     *     and the method returns.</li>
-     *     <li>If the range has more than one element, the method proceeds to calculate the middle
-     *     index of the range by adding {@code left} to half of {@code n}.
-     *     The result is stored in the variable {@code mid}.</li>
-     *     <li>The method then creates two new arrays: {@code leftArray} and {@code rightArray}.
-     *     They are created using {@link java.util.Arrays#copyOfRange(Object[], int, int) Arrays.copyOfRange},
-     *     which creates a new array containing
-     *     the elements from the array parameter starting from
-     *     index {@code left} (inclusive) and ending at
-     *     index {@code mid} (exclusive) for {@code leftArray}, and starting from
-     *     index {@code mid} (inclusive) and ending at
-     *     index {@code right} (exclusive) for {@code rightArray}.</li>
-     *     <li>After creating the {@code left} and {@code right} subarrays, the method calls itself recursively twice:
-     *     once with the range from {@code left} to {@code mid}, and
-     *     once with the range from {@code mid} to {@code right}.
-     *     This recursive step is responsible for recursively dividing the array into smaller subarrays
-     *     until the base case {@code (n <= 1)} is reached.</li>
-     *     <li>Finally, the method calls another helper method {@code mergingInc} to merge the sorted
-     *     {@code leftArray} and {@code rightArray} back into the original array,
-     *     effectively sorting the entire range from {@code left} to {@code right} in ascending order.</li>
+     *     <li>If the size of the range {@code n} is less than or equal to <i>1</i>, there's nothing to sort, and the
+     *     method returns.</li>
+     *     <li>A single copy of the range is made,
+     *     into a buffer borrowed from the arena of {@code scratch}.</li>
+     *     <li>The copy and the array are woven together by {@code mergeInto}: the halves are sorted from the array
+     *     into the copy, and merged back into the array, with the roles swapped on every level of the recursion,
+     *     so no halves are copied and nothing is copied back.</li>
      * </ul>
      * {@code weaveMergeInc} method modifies the original array in place rather than returning a new sorted array.
      * @param       array to be sorted.
      * @param       left index representing the start of the range to be sorted.
      * @param       right index representing the end of the range to be sorted.
-     * @see         MergeInterface#mergingInc(Comparable[], Comparable[], Comparable[])
+     * @see         MergeInterface#mergeInto(Comparable[], Comparable[], int, int, SortFunctional)
      */
+    @SuppressWarnings("unchecked")
     protected void weaveMergeInc(Comparable[] array, int left, int right) {
-        int n = (right - left);
-        if (n <= 1) {
+        if ((right - left) <= 1) {
             return;
         }
-        int mid = (left + (n / 2));
-        Comparable[] leftArray = Arrays.copyOfRange(array, left, mid);
-        Comparable[] rightArray = Arrays.copyOfRange(array, mid, right);
-        weaveMergeInc(array, left, mid);
-        weaveMergeInc(array, mid, right);
-        mergingInc(array, leftArray, rightArray);
+        Comparable[] buffer = scratch().borrow(right);
+        System.arraycopy(array, left, buffer, left, (right - left));
+        mergeInto(buffer, array, left, (right - 1), (a, b) -> a.compareTo(b) > 0);
+        scratch().release(buffer, right);
     }
 
     /**
      * {@code weaveMergeDec} that performs a weave merge sort algorithm
-     * to sort a {@link java.lang.Comparable Comparable} array in descending order.
+     * to sort the range of a {@link java.lang.Comparable Comparable} array in descending.
      * <ul>
-     *     <li>It first calculates the size of the range to be sorted by subtracting {@code left} from {@code right},
-     *     storing the result in the variable {@code n}.</li>
-     *     <li>If the size {@code n} is less than or equal to <i>1</i>,
-     *     it means the range has at most one element or is empty, so there's nothing to sort, and the
+     *     <li>If the size of the range {@code n} is less than or equal to <i>1</i>, there's nothing to sort, and the
      *     method returns.</li>
-     *     <li>If the range has more than one element, the method proceeds to calculate the middle
-     *     index of the range by adding {@code left} to half of {@code n}.
-     *     The result is stored in the variable {@code mid}.</li>
-     *     <li>The method then creates two new arrays: {@code leftArray} and {@code rightArray}.
-     *     They are created using {@link java.util.Arrays#copyOfRange(Object[], int, int) Arrays.copyOfRange},
-     *     which creates a new array containing
-     *     the elements from the array parameter starting from
-     *     index {@code left} (inclusive) and ending at
-     *     index {@code mid} (exclusive) for {@code leftArray}, and starting from
-     *     index {@code mid} (inclusive) and ending at
-     *     index {@code right} (exclusive) for {@code rightArray}.</li>
-     *     <li>After creating the {@code left} and {@code right} subarrays, the method calls itself recursively twice:
-     *     once with the range from {@code left} to {@code mid}, and
-     *     once with the range from {@code mid} to {@code right}.
-     *     This recursive step is responsible for recursively dividing the array into smaller subarrays
-     *     until the base case {@code (n <= 1)} is reached.</li>
-     *     <li>Finally, the method calls another helper method {@code mergingDec} to merge the sorted
-     *     {@code leftArray} and {@code rightArray} back into the original array,
-     *     effectively sorting the entire range from {@code left} to {@code right} in descending order.</li>
+     *     <li>A single copy of the range is made,
+     *     into a buffer borrowed from the arena of {@code scratch}.</li>
+     *     <li>The copy and the array are woven together by {@code mergeInto}: the halves are sorted from the array
+     *     into the copy, and merged back into the array, with the roles swapped on every level of the recursion,
+     *     so no halves are copied and nothing is copied back.</li>
      * </ul>
      * {@code weaveMergeDec} method modifies the original array in place rather than returning a new sorted array.
      * @param       array to be sorted.
      * @param       left index representing the start of the range to be sorted.
      * @param       right index representing the end of the range to be sorted.
-     * @see         MergeInterface#mergingDec(Comparable[], Comparable[], Comparable[])
+     * @see         MergeInterface#mergeInto(Comparable[], Comparable[], int, int, SortFunctional)
      */
+    @SuppressWarnings("unchecked")
     protected void weaveMergeDec(Comparable[] array, int left, int right) {
-        int n = (right - left);
-        if (n <= 1) {
+        if ((right - left) <= 1) {
             return;
         }
-        int mid = (left + (n / 2));
-        Comparable[] leftArray = Arrays.copyOfRange(array, left, mid);
-        Comparable[] rightArray = Arrays.copyOfRange(array, mid, right);
-        weaveMergeDec(array, left, mid);
-        weaveMergeDec(array, mid, right);
-        mergingDec(array, leftArray, rightArray);
+        Comparable[] buffer = scratch().borrow(right);
+        System.arraycopy(array, left, buffer, left, (right - left));
+        mergeInto(buffer, array, left, (right - 1), (a, b) -> a.compareTo(b) < 0);
+        scratch().release(buffer, right);
     }
 
     /**
-     * {@code weaveMerge} method, which implements a merging algorithm to merge two sorted subarrays
-     * into a single sorted subarray.
-     * It uses a divide-and-conquer approach to recursively divide the array into smaller subarrays
-     * and then merges them back together.
+     * {@code weaveMerge} that performs a weave merge sort algorithm
+     * to sort the range of a {@link java.lang.Comparable Comparable} array in the order of the {@code functional}.
      * <ul>
-     *     <li>It calculates the size of the subarray as {@code n} by subtracting
-     *     the left index from the right index {@code (n = right - left)}.</li>
-     *     <li>If the size of the subarray is <i>1</i> or less {@code (n <= 1)},
-     *     there is nothing to merge, so the method returns.</li>
-     *     <li>It calculates the midpoint of the subarray as {@code mid} by adding
-     *     the left index to half of the subarray size {@code (mid = left + (n / 2))}.</li>
-     *     <li>It creates two new arrays, {@code leftArray} and {@code rightArray},
-     *     using {@link java.util.Arrays#copyOfRange(Object[], int, int) Arrays.copyOfRange}
-     *     to copy the elements from the original array.
-     *     {@code leftArray} contains the elements from the {@code left} index up to,
-     *     but not including, the midpoint {@code mid},
-     *     and {@code rightArray} contains the elements from the midpoint {@code mid} up to the right index
-     *     {@code right}.</li>
-     *     <li>It recursively calls the {@code weaveMerge} method twice:
-     *     once to merge the left portion of the subarray ({@code left} to {@code mid}),
-     *     and another to merge the right portion of the subarray ({@code mid} to {@code right}).
-     *     This is done to recursively divide the subarrays into smaller subarrays and perform the merging
-     *     operation.</li>
-     *     <li>Finally, it calls the {@code merging} method to merge
-     *     the {@code leftArray} and {@code rightArray} back into the original {@code array},
-     *     resulting in a sorted subarray from {@code left} to {@code right}.</li>
+     *     <li>If the size of the range {@code n} is less than or equal to <i>1</i>, there's nothing to sort, and the
+     *     method returns.</li>
+     *     <li>A single copy of the range is made,
+     *     into a buffer borrowed from the arena of {@code scratch}.</li>
+     *     <li>The copy and the array are woven together by {@code mergeInto}: the halves are sorted from the array
+     *     into the copy, and merged back into the array, with the roles swapped on every level of the recursion,
+     *     so no halves are copied and nothing is copied back.</li>
      * </ul>
-     * {@code weaveMerge} method effectively divides the array into smaller subarrays,
-     * recursively merges the subarrays, and then merges the smaller merged subarrays back into the original array.
-     * This process continues until the entire array is sorted.
+     * {@code weaveMerge} method modifies the original array in place rather than returning a new sorted array.
      * @param       array to be sorted.
      * @param       left index representing the start of the range to be sorted.
      * @param       right index representing the end of the range to be sorted.
      * @param       functional lambda expression for comparison.
-     * @see         MergeInterface#merging(Comparable[], Comparable[], Comparable[], SortFunctional)
+     * @see         MergeInterface#mergeInto(Comparable[], Comparable[], int, int, SortFunctional)
      */
     protected void weaveMerge(Comparable[] array, int left, int right, SortFunctional<Comparable> functional) {
-        int n = (right - left);
-        if (n <= 1) {
+        if ((right - left) <= 1) {
             return;
         }
-        int mid = (left + (n / 2));
-        Comparable[] leftArray = Arrays.copyOfRange(array, left, mid);
-        Comparable[] rightArray = Arrays.copyOfRange(array, mid, right);
-        weaveMerge(array, left, mid, functional);
-        weaveMerge(array, mid, right, functional);
-        merging(array, leftArray, rightArray, functional);
+        Comparable[] buffer = scratch().borrow(right);
+        System.arraycopy(array, left, buffer, left, (right - left));
+        mergeInto(buffer, array, left, (right - 1), functional);
+        scratch().release(buffer, right);
     }
 
     /**
@@ -3,6 +3,7 @@ package github.magyarzoli.sort;
 import github.magyarzoli.InsertionInterface;
 import github.magyarzoli.MergeInterface;
 import github.magyarzoli.SortFunctional;
+import github.magyarzoli.SortScratch;
 import github.magyarzoli.sort.intro.IntroWiki;
 
 import java.util.ArrayList;
@@ -26,6 +27,11 @@ public class Wiki
      */
     protected final int WIKI_BLOCK = 32;
 
+    /**
+     * The insertions find the place of the elements by binary search.
+     */
+    protected final boolean binaryInsertion;
+
     /**
      * <b>Wiki Sort:</b><br>
      * Also known as Block Merge Sort, is an efficient comparison-based sorting algorithm designed to improve upon
@@ -66,7 +72,45 @@ public class Wiki
      * Stability:               <b>Yes</b>
      * @see         IntroWiki#IntroWiki() IntroWiki
      */
-    public Wiki() {}
+    public Wiki() {
+        this(false);
+    }
+
+    /**
+     * <b>Wiki Sort:</b><br>
+     * With binary insertion of the short ranges, if {@code binaryInsertion} is {@code true}.
+     * The place of each element is found by <em>O(log(k))</em> comparisons, and the others are shifted in bulk,
+     * the better choice when the comparison is expensive.
+     * @param       binaryInsertion the insertions are binary.
+     * @see         Wiki#Wiki() Wiki
+     * @see         InsertionInterface#binaryInsertion()
+     */
+    public Wiki(boolean binaryInsertion) {
+        this(binaryInsertion, null);
+    }
+
+    /**
+     * <b>Wiki Sort:</b><br>
+     * With binary insertion if {@code binaryInsertion} is {@code true},
+     * borrows the auxiliary arrays from the {@code scratch} arena of the caller.
+     * @param       binaryInsertion the insertions are binary.
+     * @param       scratch the arena of the auxiliary arrays, {@code null} for the arena of the current thread.
+     * @see         Wiki#Wiki(boolean) Wiki
+     * @see         Merge#Merge(SortScratch) Merge
+     */
+    public Wiki(boolean binaryInsertion, SortScratch scratch) {
+        super(scratch);
+        this.binaryInsertion = binaryInsertion;
+    }
+
+    /**
+     * {@inheritDoc}
+     * @return      {@code true} if the insertions are binary.
+     */
+    @Override
+    public boolean binaryInsertion() {
+        return binaryInsertion;
+    }
 
     /**
      * {@inheritDoc}
@@ -128,7 +172,7 @@ public class Wiki
      * {@code wikiInc}, is a helper function used in the Wiki Sort algorithm to sort a portion of the input array.
      * <ul>
      *     <li>It assigns the value of {@code array.length} to the variable {@code n}.</li>
-     *     <li>It creates a new temporary array called {@code buffer} of size {@code n} to store the merged blocks
+     *     <li>It borrows a temporary array called {@code buffer} from the arena to store the merged blocks
      *     during the merge operation.</li>
      *     <li>The subsequent for loop divides the portion of the array into blocks of size {@code WIKI_BLOCK}
      *     and performs an incremental insertion sort on each block using the {@code insertionInc} method.
@@ -148,18 +192,19 @@ public class Wiki
      */
     protected void wikiInc(Comparable[] array) {
         int n = array.length;
-        Comparable[] buffer = new Comparable[n];
+        Comparable[] buffer = scratch().borrow(n);
         for (int i = 0; i < n; i += WIKI_BLOCK) {
             insertionInc(array, i, (Math.min((i + WIKI_BLOCK), n) - 1));
         }
         mergeInc(array, WIKI_BLOCK, n, buffer);
+        scratch().release(buffer, n);
     }
 
     /**
      * {@code wikiDec}, is a helper function used in the Wiki Sort algorithm to sort a portion of the input array.
      * <ul>
      *     <li>It assigns the value of {@code array.length} to the variable {@code n}.</li>
-     *     <li>It creates a new temporary array called {@code buffer} of size {@code n} to store the merged blocks
+     *     <li>It borrows a temporary array called {@code buffer} from the arena to store the merged blocks
      *     during the merge operation.</li>
      *     <li>The subsequent for loop divides the portion of the array into blocks of size {@code WIKI_BLOCK}
      *     and performs an incremental insertion sort on each block using the {@code insertionDec} method.
@@ -179,11 +224,12 @@ public class Wiki
      */
     protected void wikiDec(Comparable[] array) {
         int n = array.length;
-        Comparable[] buffer = new Comparable[n];
+        Comparable[] buffer = scratch().borrow(n);
         for (int i = 0; i < n; i += WIKI_BLOCK) {
             insertionDec(array, i, (Math.min((i + WIKI_BLOCK), n) - 1));
         }
         mergeDec(array, WIKI_BLOCK, n, buffer);
+        scratch().release(buffer, n);
     }
 
     /**
@@ -218,11 +264,12 @@ public class Wiki
      */
     protected void wiki(Comparable[] array, SortFunctional<Comparable> functional) {
         int n = array.length;
-        Comparable[] buffer = new Comparable[n];
+        Comparable[] buffer = scratch().borrow(n);
         for (int i = 0; i < n; i += WIKI_BLOCK) {
             insertion(array, i, (Math.min((i + WIKI_BLOCK), n) - 1), functional);
         }
         merge(array, WIKI_BLOCK, n, buffer, functional);
+        scratch().release(buffer, n);
     }
 
     /**
@@ -230,7 +277,7 @@ public class Wiki
      * <ul>
      *     <li>It assigns the value of {@code right} (the index of the rightmost element in
      *     the current portion of the array being sorted) to the variable {@code right}.</li>
-     *     <li>It creates a new temporary array called {@code buffer} of size {@code n} to store the merged blocks
+     *     <li>It borrows a temporary array called {@code buffer} from the arena to store the merged blocks
      *     during the merge operation.</li>
      *     <li>The subsequent for loop divides the portion of the array into blocks of size {@code WIKI_BLOCK}
      *     and performs an incremental insertion sort on each block using the {@code insertionInc} method.
@@ -251,11 +298,12 @@ public class Wiki
      * @see         MergeInterface#mergeInc(Comparable[], int, int, int)
      */
     protected void wikiInc(Comparable[] array, int left, int right) {
-        Comparable[] buffer = new Comparable[right];
+        Comparable[] buffer = scratch().borrow(right);
         for (int i = left; i < right; i += WIKI_BLOCK) {
             insertionInc(array, i, (Math.min((i + WIKI_BLOCK), right) - 1));
         }
         mergeInc(array, WIKI_BLOCK, right, buffer);
+        scratch().release(buffer, right);
     }
 
     /**
@@ -263,7 +311,7 @@ public class Wiki
      * <ul>
      *     <li>It assigns the value of {@code right} (the index of the rightmost element in
      *     the current portion of the array being sorted) to the variable {@code right}.</li>
-     *     <li>It creates a new temporary array called {@code buffer} of size {@code n} to store the merged blocks
+     *     <li>It borrows a temporary array called {@code buffer} from the arena to store the merged blocks
      *     during the merge operation.</li>
      *     <li>The subsequent for loop divides the portion of the array into blocks of size {@code WIKI_BLOCK}
      *     and performs an incremental insertion sort on each block using the {@code insertionDec} method.
@@ -284,11 +332,12 @@ public class Wiki
      * @see         MergeInterface#mergeDec(Comparable[], int, int, int)
      */
     protected void wikiDec(Comparable[] array, int left, int right) {
-        Comparable[] buffer = new Comparable[right];
+        Comparable[] buffer = scratch().borrow(right);
         for (int i = left; i < right; i += WIKI_BLOCK) {
             insertionDec(array, i, (Math.min((i + WIKI_BLOCK), right) - 1));
         }
         mergeDec(array, WIKI_BLOCK, right, buffer);
+        scratch().release(buffer, right);
     }
 
     /**
@@ -325,11 +374,12 @@ public class Wiki
      * @see         MergeInterface#merge(Comparable[], int, int, Comparable[], SortFunctional)
      */
     protected void wiki(Comparable[] array, int left, int right, SortFunctional<Comparable> functional) {
-        Comparable[] buffer = new Comparable[right];
+        Comparable[] buffer = scratch().borrow(right);
         for (int i = left; i < right; i += WIKI_BLOCK) {
             insertion(array, i, (Math.min((i + WIKI_BLOCK), right) - 1), functional);
         }
         merge(array, WIKI_BLOCK, right, buffer, functional);
+        scratch().release(buffer, right);
     }
 
     /**
@@ -0,0 +1,609 @@
+package github.magyarzoli.sort.intro;
+
+import github.magyarzoli.InsertionInterface;
+import github.magyarzoli.PivotStrategy;
+import github.magyarzoli.QuickInterface;
+import github.magyarzoli.SortComparable;
+import github.magyarzoli.SortFunctional;
+import github.magyarzoli.SortParallel;
+import github.magyarzoli.Sorter;
+import github.magyarzoli.sort.BottomUpHeap;
+
+import java.util.List;
+import java.util.ListIterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import static java.lang.Math.floor;
+import static java.lang.Math.log;
+
+/**
+ * Hybrid Sorter is an Intro Sort composed at runtime instead of by inheritance.
+ * The partition scheme, the pivot selection, the algorithm taking over at the depth limit, the algorithm of the small
+ * ranges, the thresholds and the parallelism are chosen by the {@link HybridSorter.Builder Builder}.
+ * The sorter is final, every call goes to the same implementation, the configured algorithms are plain
+ * {@code Sorter} instances called through their range kernels, {@code sortRangeInc}, {@code sortRangeDec} and
+ * {@code sortRangeFun}.
+ * <ul>
+ *     <li>{@code HybridSorter.builder().build()} sorts like {@code IntroHeap}.</li>
+ *     <li>{@code HybridSorter.builder().partition(Partition.DUAL).fallback(new Tim()).build()} sorts like
+ *     {@code IntroDPQTim}.</li>
+ * </ul>
+ * @since       1.3
+ * @author      <a href=https://github.com/MagyarZoli>Magyar Zoltán</a>
+ * @see         Intro
+ * @see         HybridSorter.Builder
+ */
+@SuppressWarnings("rawtypes")
+public final class HybridSorter
+        extends SortComparable
+        implements InsertionInterface<Comparable>, QuickInterface<Comparable> {
+
+    /**
+     * The partition scheme of the Hybrid Sorter.
+     * <ul>
+     *     <li><i>SINGLE</i> - one pivot, two sub-ranges, as the {@code Intro} Sorts.</li>
+     *     <li><i>DUAL</i> - two pivots, three sub-ranges, as the {@code IntroDPQ} Sorts.</li>
+     *     <li><i>FAT</i> - the Bentley–McIlroy three-way partition, the keys equal to the pivot are collected in the
+     *     middle and not partitioned again, inputs of <em>k</em> distinct keys are arranged in
+     *     <em>O(n log(k))</em>.</li>
+     * </ul>
+     */
+    public enum Partition {
+        SINGLE, DUAL, FAT
+    }
+
+    /**
+     * The partition scheme.
+     */
+    private final Partition partition;
+
+    /**
+     * The pivot selection of the partitions.
+     */
+    private final PivotStrategy pivotStrategy;
+
+    /**
+     * The algorithm sorting the range when the depth limit is reached.
+     */
+    private final Sorter<Comparable> fallback;
+
+    /**
+     * The algorithm sorting the small ranges, {@code null} means Insertion Sort in place.
+     */
+    private final Sorter<Comparable> smallSorter;
+
+    /**
+     * The Insertion Sort of the small ranges finds the place of the elements by binary search.
+     */
+    private final boolean binaryInsertion;
+
+    /**
+     * Ranges of at most this many elements (minus one) are sorted by the small range algorithm.
+     */
+    private final int smallThreshold;
+
+    /**
+     * The depth limit is {@code depthFactor * floor(ln(n))}.
+     */
+    private final double depthFactor;
+
+    /**
+     * Ranges larger than this are split between the worker threads.
+     */
+    private final int parallelThreshold;
+
+    /**
+     * The number of worker threads and the pool running them.
+     */
+    private final SortParallel parallel;
+
+    /**
+     * <b>Hybrid Sorter:</b><br>
+     * Built from the settings of the {@code builder}.
+     * @param       builder the settings of the sorter.
+     * @see         HybridSorter#builder()
+     */
+    private HybridSorter(Builder builder) {
+        partition = builder.partition;
+        pivotStrategy = builder.pivotStrategy;
+        fallback = builder.fallback;
+        smallSorter = builder.smallSorter;
+        binaryInsertion = builder.binaryInsertion;
+        smallThreshold = builder.smallThreshold;
+        depthFactor = builder.depthFactor;
+        parallelThreshold = builder.parallelThreshold;
+        parallel = SortParallel.of(builder.parallelism, builder.pool);
+    }
+
+    /**
+     * {@code builder} starts a new configuration with the defaults of the {@code Intro} Sorts:
+     * single pivot partition, {@code ADAPTIVE} pivot selection, Bottom-Up Heap Sort at the depth limit,
+     * Insertion Sort up to {@code INTRO_SIZE}, depth limit {@code 2 * floor(ln(n))}, on the calling thread.
+     * @return      a new builder.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * {@code toBuilder} starts a new configuration from the settings of this sorter,
+     * so a variant can be made by changing only one of them.
+     * @return      a new builder with the settings of this sorter.
+     */
+    public Builder toBuilder() {
+        return new Builder()
+                .partition(partition)
+                .pivotStrategy(pivotStrategy)
+                .fallback(fallback)
+                .smallSorter(smallSorter)
+                .binaryInsertion(binaryInsertion)
+                .smallThreshold(smallThreshold)
+                .depthFactor(depthFactor)
+                .parallelism(parallel.parallelism())
+                .pool(parallel.pool())
+                .parallelThreshold(parallelThreshold);
+    }
+
+    /**
+     * {@inheritDoc}
+     * @return      the pivot selection given to the builder.
+     */
+    @Override
+    public PivotStrategy pivotStrategy() {
+        return pivotStrategy;
+    }
+
+    /**
+     * {@inheritDoc}
+     * @return      the insertion given to the builder.
+     */
+    @Override
+    public boolean binaryInsertion() {
+        return binaryInsertion;
+    }
+
+    /**
+     * {@inheritDoc}
+     * @param       array to be arranged.
+     */
+    @Override
+    public void sortArrayInc(Comparable[] array) {
+        hybrid(array, INC, null);
+    }
+
+    /**
+     * {@inheritDoc}
+     * @param       array to be arranged.
+     */
+    @Override
+    public void sortArrayDec(Comparable[] array) {
+        hybrid(array, DEC, null);
+    }
+
+    /**
+     * {@inheritDoc}
+     * @param       array to be arranged.
+     * @param       functional lambda expression for comparison.
+     */
+    @Override
+    public void sortArrayFun(Comparable[] array, SortFunctional<Comparable> functional) {
+        hybrid(array, 0, functional);
+    }
+
+    /**
+     * {@inheritDoc}
+     * @param       list to be arranged.
+     */
+    @Override
+    public void sortListInc(List<? extends Comparable> list) {
+        hybrid(list, INC, null);
+    }
+
+    /**
+     * {@inheritDoc}
+     * @param       list to be arranged.
+     */
+    @Override
+    public void sortListDec(List<? extends Comparable> list) {
+        hybrid(list, DEC, null);
+    }
+
+    /**
+     * {@inheritDoc}
+     * @param       list to be arranged.
+     * @param       functional lambda expression for comparison.
+     */
+    @Override
+    public void sortListFun(List<? extends Comparable> list, SortFunctional<Comparable> functional) {
+        hybrid(list, 0, functional);
+    }
+
+    /**
+     * {@code hybrid} is the entry point of the sorting of an array.
+     * <ul>
+     *     <li>The depth limit is calculated from the length of the array.</li>
+     *     <li>If there are worker threads and the array is larger than the {@code parallelThreshold},
+     *     the sorting is started as a {@code HybridTask} on them.</li>
+     *     <li>Otherwise the {@code hybridRecursive} sorts the array on the calling thread.</li>
+     * </ul>
+     * @param       array to be arranged.
+     * @param       type {@code INC}, {@code DEC}, or <i>0</i> for the {@code functional}.
+     * @param       functional lambda expression for comparison, used when the {@code type} is <i>0</i>.
+     */
+    private void hybrid(Comparable[] array, int type, SortFunctional<Comparable> functional) {
+        if (array.length < 2) {
+            return;
+        }
+        int maxDepth = (int) (depthFactor * floor(log(array.length)));
+        if (parallel.parallel() && (array.length > parallelThreshold)) {
+            parallel.invoke(new HybridTask(array, 0, (array.length - 1), maxDepth, type, functional));
+        } else {
+            hybridRecursive(array, 0, (array.length - 1), maxDepth, type, functional);
+        }
+    }
+
+    /**
+     * {@code hybrid} sorts a list through an array: the elements are copied to an array, sorted,
+     * then written back with a single pass of a {@code ListIterator}.
+     * @param       list to be arranged.
+     * @param       type {@code INC}, {@code DEC}, or <i>0</i> for the {@code functional}.
+     * @param       functional lambda expression for comparison, used when the {@code type} is <i>0</i>.
+     * @param       <L> the type of elements in the list.
+     */
+    @SuppressWarnings("unchecked")
+    private <L extends Comparable> void hybrid(List<L> list, int type, SortFunctional<Comparable> functional) {
+        Comparable[] array = list.toArray(new Comparable[0]);
+        hybrid(array, type, functional);
+        ListIterator<L> iterator = list.listIterator();
+        for (Comparable element : array) {
+            iterator.next();
+            iterator.set((L) element);
+        }
+    }
+
+    /**
+     * {@code hybridRecursive} sorts the range from {@code left} to {@code right} (inclusive) on the calling thread.
+     * <ul>
+     *     <li>A range of at most {@code smallThreshold} elements is sorted by the small range algorithm.</li>
+     *     <li>At the depth limit the range is sorted by the {@code fallback} and the method returns.</li>
+     *     <li>Otherwise the range is partitioned, and the sub-ranges outside the bounds are sorted recursively.
+     *     The sub-range between the bounds is sorted only for the dual pivot partition,
+     *     for the fat partition it holds the keys equal to the pivot.</li>
+     * </ul>
+     * @param       array to be arranged.
+     * @param       left the first index of the range.
+     * @param       right the last index of the range.
+     * @param       maxDepth the number of partitions allowed before the {@code fallback} takes over.
+     * @param       type {@code INC}, {@code DEC}, or <i>0</i> for the {@code functional}.
+     * @param       functional lambda expression for comparison, used when the {@code type} is <i>0</i>.
+     */
+    private void hybridRecursive(
+            Comparable[] array, int left, int right, int maxDepth, int type, SortFunctional<Comparable> functional) {
+        if ((right - left) <= smallThreshold) {
+            small(array, left, right, type, functional);
+            return;
+        }
+        if (maxDepth == 0) {
+            sortRange(fallback, array, left, right, type, functional);
+            return;
+        }
+        int[] bounds = split(array, left, right, type, functional);
+        hybridRecursive(array, left, (bounds[0] - 1), (maxDepth - 1), type, functional);
+        if (partition == Partition.DUAL) {
+            hybridRecursive(array, (bounds[0] + 1), (bounds[1] - 1), (maxDepth - 1), type, functional);
+        }
+        hybridRecursive(array, (bounds[1] + 1), right, (maxDepth - 1), type, functional);
+    }
+
+    /**
+     * {@code split} partitions the range with the configured {@code partition} scheme.
+     * @param       array to be arranged.
+     * @param       left the first index of the range.
+     * @param       right the last index of the range.
+     * @param       type {@code INC}, {@code DEC}, or <i>0</i> for the {@code functional}.
+     * @param       functional lambda expression for comparison, used when the {@code type} is <i>0</i>.
+     * @return      the final places of the pivots, the same index twice for the single pivot partition,
+     *              the first and the last index of the keys equal to the pivot for the fat partition.
+     */
+    private int[] split(Comparable[] array, int left, int right, int type, SortFunctional<Comparable> functional) {
+        if (partition == Partition.FAT) {
+            switch (type) {
+                case INC:
+                    return partitionFatInc(array, left, right);
+                case DEC:
+                    return partitionFatDec(array, left, right);
+                default:
+                    return partitionFat(array, left, right, functional);
+            }
+        }
+        if (partition == Partition.DUAL) {
+            switch (type) {
+                case INC:
+                    return partitionDualInc(array, left, right);
+                case DEC:
+                    return partitionDualDec(array, left, right);
+                default:
+                    return partitionDual(array, left, right, functional);
+            }
+        }
+        int pivot;
+        switch (type) {
+            case INC:
+                pivot = partitionInc(array, left, right);
+                break;
+            case DEC:
+                pivot = partitionDec(array, left, right);
+                break;
+            default:
+                pivot = partition(array, left, right, functional);
+        }
+        return new int[] {pivot, pivot};
+    }
+
+    /**
+     * {@code small} sorts a small range, in place by Insertion Sort, or by the range kernel of the {@code smallSorter}.
+     * @param       array to be arranged.
+     * @param       left the first index of the range.
+     * @param       right the last index of the range.
+     * @param       type {@code INC}, {@code DEC}, or <i>0</i> for the {@code functional}.
+     * @param       functional lambda expression for comparison, used when the {@code type} is <i>0</i>.
+     */
+    private void small(Comparable[] array, int left, int right, int type, SortFunctional<Comparable> functional) {
+        if (right <= left) {
+            return;
+        }
+        if (smallSorter != null) {
+            sortRange(smallSorter, array, left, right, type, functional);
+            return;
+        }
+        switch (type) {
+            case INC:
+                insertionInc(array, left, right);
+                break;
+            case DEC:
+                insertionDec(array, left, right);
+                break;
+            default:
+                insertion(array, left, right, functional);
+        }
+    }
+
+    /**
+     * {@code sortRange} hands the range to the range kernel of the {@code sorter}, {@code sortRangeInc},
+     * {@code sortRangeDec} or {@code sortRangeFun}.
+     * The kernels of Insertion, Shell, Three-Way Quick and Bottom-Up Heap Sort arrange the range in place,
+     * the other sorters on a copy of the range.
+     * @param       sorter the algorithm sorting the range.
+     * @param       array to be arranged.
+     * @param       left the first index of the range.
+     * @param       right the last index of the range.
+     * @param       type {@code INC}, {@code DEC}, or <i>0</i> for the {@code functional}.
+     * @param       functional lambda expression for comparison, used when the {@code type} is <i>0</i>.
+     * @see         Sorter#sortRangeInc(Comparable[], int, int)
+     */
+    private void sortRange(Sorter<Comparable> sorter, Comparable[] array, int left, int right, int type,
+                           SortFunctional<Comparable> functional) {
+        switch (type) {
+            case INC:
+                sorter.sortRangeInc(array, left, right);
+                break;
+            case DEC:
+                sorter.sortRangeDec(array, left, right);
+                break;
+            default:
+                sorter.sortRangeFun(array, left, right, functional);
+        }
+    }
+
+    /**
+     * {@code HybridTask} sorts a range on the worker threads.
+     * Ranges larger than the {@code parallelThreshold} are partitioned and their sub-ranges are sorted as separate
+     * tasks, the smaller ones and the ones at the depth limit are sorted by {@code hybridRecursive}.
+     */
+    private final class HybridTask
+            extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Comparable[] array;
+
+        private final int left;
+
+        private final int right;
+
+        private final int maxDepth;
+
+        private final int type;
+
+        private final SortFunctional<Comparable> functional;
+
+        private HybridTask(
+                Comparable[] array, int left, int right, int maxDepth, int type,
+                SortFunctional<Comparable> functional) {
+            this.array = array;
+            this.left = left;
+            this.right = right;
+            this.maxDepth = maxDepth;
+            this.type = type;
+            this.functional = functional;
+        }
+
+        @Override
+        protected void compute() {
+            if (((right - left) <= parallelThreshold) || (maxDepth == 0)) {
+                hybridRecursive(array, left, right, maxDepth, type, functional);
+                return;
+            }
+            int[] bounds = split(array, left, right, type, functional);
+            HybridTask lower = new HybridTask(array, left, (bounds[0] - 1), (maxDepth - 1), type, functional);
+            HybridTask upper = new HybridTask(array, (bounds[1] + 1), right, (maxDepth - 1), type, functional);
+            if (partition == Partition.DUAL) {
+                invokeAll(lower,
+                        new HybridTask(array, (bounds[0] + 1), (bounds[1] - 1), (maxDepth - 1), type, functional),
+                        upper);
+            } else {
+                invokeAll(lower, upper);
+            }
+        }
+    }
+
+    /**
+     * The settings of a {@link HybridSorter}.
+     * Every setter returns the builder itself, the {@code build} method checks the settings and creates the sorter.
+     * The builder can be used again, every {@code build} creates a new, independent sorter.
+     * @since       1.3
+     * @author      <a href=https://github.com/MagyarZoli>Magyar Zoltán</a>
+     */
+    public static final class Builder {
+
+        private Partition partition = Partition.SINGLE;
+
+        private PivotStrategy pivotStrategy = PivotStrategy.ADAPTIVE;
+
+        private Sorter<Comparable> fallback = new BottomUpHeap();
+
+        private Sorter<Comparable> smallSorter;
+
+        private boolean binaryInsertion;
+
+        private int smallThreshold = Intro.INTRO_SIZE;
+
+        private double depthFactor = 2;
+
+        private int parallelism = 1;
+
+        private int parallelThreshold = (1 << 13);
+
+        private ForkJoinPool pool;
+
+        private Builder() {}
+
+        /**
+         * {@code partition} sets the partition scheme.
+         * @param       partition {@code SINGLE}, {@code DUAL} or {@code FAT}.
+         * @return      this builder.
+         */
+        public Builder partition(Partition partition) {
+            this.partition = partition;
+            return this;
+        }
+
+        /**
+         * {@code pivotStrategy} sets the pivot selection of the partitions.
+         * @param       pivotStrategy the pivot selection.
+         * @return      this builder.
+         */
+        public Builder pivotStrategy(PivotStrategy pivotStrategy) {
+            this.pivotStrategy = pivotStrategy;
+            return this;
+        }
+
+        /**
+         * {@code fallback} sets the algorithm sorting the range when the depth limit is reached.
+         * To keep the <em>O(n log(n))</em> worst case it has to be an <em>O(n log(n))</em> algorithm itself.
+         * @param       fallback the algorithm taking over at the depth limit.
+         * @return      this builder.
+         */
+        public Builder fallback(Sorter<Comparable> fallback) {
+            this.fallback = fallback;
+            return this;
+        }
+
+        /**
+         * {@code smallSorter} sets the algorithm of the small ranges, {@code null} restores the Insertion Sort.
+         * @param       smallSorter the algorithm of the small ranges.
+         * @return      this builder.
+         */
+        public Builder smallSorter(Sorter<Comparable> smallSorter) {
+            this.smallSorter = smallSorter;
+            return this;
+        }
+
+        /**
+         * {@code binaryInsertion} sets the Insertion Sort of the small ranges to binary insertion,
+         * the better choice when the comparison is expensive.
+         * @param       binaryInsertion the insertions are binary.
+         * @return      this builder.
+         */
+        public Builder binaryInsertion(boolean binaryInsertion) {
+            this.binaryInsertion = binaryInsertion;
+            return this;
+        }
+
+        /**
+         * {@code smallThreshold} sets the size of the small ranges.
+         * @param       smallThreshold ranges of at most this many elements (minus one) are not partitioned.
+         * @return      this builder.
+         */
+        public Builder smallThreshold(int smallThreshold) {
+            this.smallThreshold = smallThreshold;
+            return this;
+        }
+
+        /**
+         * {@code depthFactor} sets the depth limit to {@code depthFactor * floor(ln(n))} partitions.
+         * @param       depthFactor the multiplier of the depth limit.
+         * @return      this builder.
+         */
+        public Builder depthFactor(double depthFactor) {
+            this.depthFactor = depthFactor;
+            return this;
+        }
+
+        /**
+         * {@code parallelism} sets the number of worker threads, <i>1</i> sorts on the calling thread.
+         * Above <i>1</i> the large ranges are sorted as fork/join tasks on the {@code pool},
+         * the shared pool of {@code parallelism} worker threads by default.
+         * @param       parallelism the number of worker threads.
+         * @return      this builder.
+         */
+        public Builder parallelism(int parallelism) {
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        /**
+         * {@code parallelThreshold} sets the size above which the ranges are split between the worker threads.
+         * @param       parallelThreshold the smallest range sorted by more than one thread.
+         * @return      this builder.
+         */
+        public Builder parallelThreshold(int parallelThreshold) {
+            this.parallelThreshold = parallelThreshold;
+            return this;
+        }
+
+        /**
+         * {@code pool} sets the pool running the worker tasks, {@code null} restores the shared pool.
+         * The sorter never shuts the pool down, its lifetime stays with the caller.
+         * @param       pool the pool of the worker tasks.
+         * @return      this builder.
+         * @see         SortParallel#of(int, ForkJoinPool)
+         */
+        public Builder pool(ForkJoinPool pool) {
+            this.pool = pool;
+            return this;
+        }
+
+        /**
+         * {@code build} checks the settings and creates the sorter.
+         * @return      a new sorter with the settings of the builder.
+         * @throws      IllegalArgumentException if a setting is missing or out of range.
+         */
+        public HybridSorter build() {
+            if ((partition == null) || (pivotStrategy == null) || (fallback == null)) {
+                throw new IllegalArgumentException("partition, pivotStrategy and fallback are required");
+            }
+            if (smallThreshold < 1) {
+                throw new IllegalArgumentException("smallThreshold must be positive: " + smallThreshold);
+            }
+            if (depthFactor <= 0) {
+                throw new IllegalArgumentException("depthFactor must be positive: " + depthFactor);
+            }
+            if (parallelThreshold <= smallThreshold) {
+                throw new IllegalArgumentException("parallelThreshold must be greater than smallThreshold");
+            }
+            return new HybridSorter(this);
+        }
+    }
+}
\ No newline at end of file
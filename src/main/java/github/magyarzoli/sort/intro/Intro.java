@@ -5,7 +5,10 @@ import github.magyarzoli.QuickInterface;
 import github.magyarzoli.SortFunctional;
 import github.magyarzoli.Sorter;
 
+import java.util.Arrays;
 import java.util.List;
+import java.util.ListIterator;
+import java.util.function.Consumer;
 
 import static java.lang.Math.floor;
 import static java.lang.Math.log;
@@ -34,6 +37,20 @@ public interface Intro<T extends Comparable>
      */
     int INTRO_SIZE = 16;
 
+    /**
+     * {@code binaryInsertion} tells whether the Insertion Sort of the ranges shorter than {@code INTRO_SIZE}
+     * finds the place of the elements by binary search, and shifts the others in bulk.
+     * Every Intro sorter takes it as a constructor flag, {@code false} by default, so the base case of any
+     * Intro Sort can choose the binary insertion when the comparison is expensive.
+     * The sorter taking over at the depth limit may use the same insertions, for example Insertion or Tim Sort.
+     * @return      {@code true} if the insertions of the small ranges are binary.
+     * @see         InsertionInterface#binaryInsertionInc(Comparable[], int, int)
+     */
+    @Override
+    default boolean binaryInsertion() {
+        return false;
+    }
+
     /**
      * The other sorting algorithm can be added in this method.
      * @param       array The array to be sorted.
@@ -90,6 +107,53 @@ public interface Intro<T extends Comparable>
      */
     <L extends T> void introSortClass(List<L> list, int left, int right, SortFunctional<T> functional);
 
+    /**
+     * {@code introSortRange} hands the range of the array to a sorting algorithm, that can only arrange a whole array.
+     * <ul>
+     *     <li>The elements from {@code left} to {@code right} (inclusive) are copied to a new array.</li>
+     *     <li>The {@code fallback} sorts the copy, it cannot touch the elements outside the range.</li>
+     *     <li>The arranged elements are copied back to their original place.</li>
+     * </ul>
+     * The {@code introSortClass} methods can use it when the other sorting algorithm has no correct range version.
+     * @param       array The array to be sorted.
+     * @param       left The starting index of the subarray to be sorted.
+     * @param       right The ending index (inclusive) of the subarray to be sorted.
+     * @param       fallback the sorting algorithm arranging the whole copy.
+     * @see         Intro#introSortClassInc(Comparable[], int, int)
+     */
+    default void introSortRange(T[] array, int left, int right, Consumer<T[]> fallback) {
+        T[] range = Arrays.copyOfRange(array, left, (right + 1));
+        fallback.accept(range);
+        System.arraycopy(range, 0, array, left, range.length);
+    }
+
+    /**
+     * {@code introSortRange} hands the range of the list to a sorting algorithm, that can only arrange a whole array.
+     * <ul>
+     *     <li>The elements from {@code left} to {@code right} (inclusive) are copied to a new array.</li>
+     *     <li>The {@code fallback} sorts the copy, it cannot touch the elements outside the range.</li>
+     *     <li>The arranged elements are written back with a single pass of a {@code ListIterator}.</li>
+     * </ul>
+     * The {@code introSortClass} methods can use it when the other sorting algorithm has no correct range version.
+     * @param       list The list to be sorted.
+     * @param       left The starting index of the sublist to be sorted.
+     * @param       right The ending index (inclusive) of the sublist to be sorted.
+     * @param       fallback the sorting algorithm arranging the whole copy.
+     * @param       <L> the type of elements in the list, which must extend the type {@code T}.
+     * @see         Intro#introSortClassInc(List, int, int)
+     */
+    @SuppressWarnings("unchecked")
+    default <L extends T> void introSortRange(List<L> list, int left, int right, Consumer<T[]> fallback) {
+        List<L> sublist = list.subList(left, (right + 1));
+        T[] range = (T[]) sublist.toArray(new Comparable[0]);
+        fallback.accept(range);
+        ListIterator<L> iterator = sublist.listIterator();
+        for (T element : range) {
+            iterator.next();
+            iterator.set((L) element);
+        }
+    }
+
     /**
      * {@code introInc} that serves as the entry point for performing an <b>Intro Sort</b> on the given array.<br>
      * <b>An Override call is required to use the Interface method.</b>
@@ -183,7 +247,8 @@ public interface Intro<T extends Comparable>
      *     and the sorting algorithm switches to another sorting method.</li>
      *     <li>{@code introSortClassInc(array, left, right)}:
      *     If the maximum depth has been reached, the {@code introSortClassInc}
-     *     method is called to sort the subarray using a different sorting algorithm.</li>
+     *     method is called to sort the subarray using a different sorting algorithm,
+     *     and the range is not partitioned any further.</li>
      *     <li>{@code partitionInc(array, left, right)}: If the maximum depth has not been reached,
      *     the {@code partitionInc} method is called to perform the partitioning step of QuickSort.
      *     It returns the index of the pivot element.</li>
@@ -216,6 +281,7 @@ public interface Intro<T extends Comparable>
         if ((right - left) > INTRO_SIZE) {
             if (maxDepth == 0) {
                 introSortClassInc(array, left, right);
+                return;
             }
             int pivot = partitionInc(array, left, right);
             introRecursiveInc(array, left, (pivot - 1), (maxDepth - 1));
@@ -235,7 +301,8 @@ public interface Intro<T extends Comparable>
      *     and the sorting algorithm switches to another sorting method.</li>
      *     <li>{@code introSortClassDec(array, left, right)}:
      *     If the maximum depth has been reached, the {@code introSortClassDec}
-     *     method is called to sort the subarray using a different sorting algorithm.</li>
+     *     method is called to sort the subarray using a different sorting algorithm,
+     *     and the range is not partitioned any further.</li>
      *     <li>{@code partitionDec(array, left, right)}: If the maximum depth has not been reached,
      *     the {@code partitionDec} method is called to perform the partitioning step of QuickSort.
      *     It returns the index of the pivot element.</li>
@@ -268,6 +335,7 @@ public interface Intro<T extends Comparable>
         if ((right - left) > INTRO_SIZE) {
             if (maxDepth == 0) {
                 introSortClassDec(array, left, right);
+                return;
             }
             int pivot = partitionDec(array, left, right);
             introRecursiveDec(array, left, (pivot - 1), (maxDepth - 1));
@@ -294,7 +362,7 @@ public interface Intro<T extends Comparable>
      *     smaller range using insertion sort.</li>
      *     <li>If the size of the range is larger than {@code INTRO_SIZE} and
      *     the {@code maxDepth} is <i>0</i> (indicating that the recursion depth has reached its maximum allowed value),
-     *     it calls the {@code introSortClass} method to perform a full quicksort on the range.</li>
+     *     it calls the {@code introSortClass} method to sort the range and returns without partitioning it.</li>
      *     <li>If the size of the range is larger than {@code INTRO_SIZE} and the {@code maxDepth} is not <i>0</i>,
      *     it proceeds with the quicksort algorithm.</li>
      *     <li>It calls the {@code partition} method
@@ -328,6 +396,7 @@ public interface Intro<T extends Comparable>
         if ((right - left) > INTRO_SIZE) {
             if (maxDepth == 0) {
                 introSortClass(array, left, right, functional);
+                return;
             }
             int pivot = partition(array, left, right, functional);
             introRecursive(array, left, (pivot - 1), (maxDepth - 1), functional);
@@ -462,6 +531,7 @@ public interface Intro<T extends Comparable>
         if ((right - left) > INTRO_SIZE) {
             if (maxDepth == 0) {
                 introSortClassInc(list, left, right);
+                return;
             }
             int pivot = partitionInc(list, left, right);
             introRecursiveInc(list, left, (pivot - 1), (maxDepth - 1));
@@ -514,6 +584,7 @@ public interface Intro<T extends Comparable>
         if ((right - left) > INTRO_SIZE) {
             if (maxDepth == 0) {
                 introSortClassDec(list, left, right);
+                return;
             }
             int pivot = partitionDec(list, left, right);
             introRecursiveDec(list, left, (pivot - 1), (maxDepth - 1));
@@ -540,7 +611,7 @@ public interface Intro<T extends Comparable>
      *     smaller range using insertion sort.</li>
      *     <li>If the size of the range is larger than {@code INTRO_SIZE} and
      *     the {@code maxDepth} is <i>0</i> (indicating that the recursion depth has reached its maximum allowed value),
-     *     it calls the {@code introSortClass} method to perform a full quicksort on the range.</li>
+     *     it calls the {@code introSortClass} method to sort the range and returns without partitioning it.</li>
      *     <li>If the size of the range is larger than {@code INTRO_SIZE} and the {@code maxDepth} is not <i>0</i>,
      *     it proceeds with the quicksort algorithm.</li>
      *     <li>It calls the {@code partition} method
@@ -575,6 +646,7 @@ public interface Intro<T extends Comparable>
         if ((right - left) > INTRO_SIZE) {
             if (maxDepth == 0) {
                 introSortClass(list, left, right, functional);
+                return;
             }
             int pivot = partition(list, left, right, functional);
             introRecursive(list, left, (pivot - 1), (maxDepth - 1), functional);
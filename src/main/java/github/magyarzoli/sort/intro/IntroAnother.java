@@ -25,6 +25,11 @@ public abstract class IntroAnother
 extends SortComparable
 implements Intro<Comparable> {
 
+    /**
+     * The Insertion Sort of the small ranges finds the place of the elements by binary search.
+     */
+    protected final boolean binaryInsertion;
+
     /**
      * <b>Intro Another Sort:</b><br>
      * Is a hybrid sorting algorithm that combines the strengths of Quick Sort and any Another Sort.
@@ -69,7 +74,29 @@ implements Intro<Comparable> {
      * Stability:               <b>No</b>
      * @see         IntroDPQAnother#IntroDPQAnother() IntroDPQAnother
      */
-    public IntroAnother() {}
+    public IntroAnother() {
+        this(false);
+    }
+
+    /**
+     * <b>Intro Another Sort:</b><br>
+     * With binary insertion in the small ranges, if {@code binaryInsertion} is {@code true}.
+     * @param       binaryInsertion the insertions of the small ranges are binary.
+     * @see         IntroAnother#IntroAnother() IntroAnother
+     * @see         Intro#binaryInsertion()
+     */
+    public IntroAnother(boolean binaryInsertion) {
+        this.binaryInsertion = binaryInsertion;
+    }
+
+    /**
+     * {@inheritDoc}
+     * @return      {@code true} if the insertions of the small ranges are binary.
+     */
+    @Override
+    public boolean binaryInsertion() {
+        return binaryInsertion;
+    }
 
     /**
      * The another sorting algorithm can be added in this method.
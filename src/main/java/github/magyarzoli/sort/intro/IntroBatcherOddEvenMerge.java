@@ -22,6 +22,11 @@ public class IntroBatcherOddEvenMerge
         extends BatcherOddEvenMerge
         implements Intro<Comparable> {
 
+    /**
+     * The Insertion Sort of the small ranges finds the place of the elements by binary search.
+     */
+    protected final boolean binaryInsertion;
+
     /**
      * <b>Intro Batcher's Odd-even Merge Sort:</b><br>
      * Is a hybrid sorting algorithm that combines the strengths of Quick Sort and Batcher's Odd-even Merge Sort.
@@ -64,7 +69,29 @@ public class IntroBatcherOddEvenMerge
      * Auxiliary Space:         <em>O(n)</em><br>
      * Stability:               <b>No</b>
      */
-    public IntroBatcherOddEvenMerge() {}
+    public IntroBatcherOddEvenMerge() {
+        this(false);
+    }
+
+    /**
+     * <b>Intro Batcher's Odd-even Merge Sort:</b><br>
+     * With binary insertion in the small ranges, if {@code binaryInsertion} is {@code true}.
+     * @param       binaryInsertion the insertions of the small ranges are binary.
+     * @see         IntroBatcherOddEvenMerge#IntroBatcherOddEvenMerge() IntroBatcherOddEvenMerge
+     * @see         Intro#binaryInsertion()
+     */
+    public IntroBatcherOddEvenMerge(boolean binaryInsertion) {
+        this.binaryInsertion = binaryInsertion;
+    }
+
+    /**
+     * {@inheritDoc}
+     * @return      {@code true} if the insertions of the small ranges are binary.
+     */
+    @Override
+    public boolean binaryInsertion() {
+        return binaryInsertion;
+    }
 
     /**
      * {@inheritDoc}
@@ -130,7 +157,7 @@ public class IntroBatcherOddEvenMerge
      */
     @Override
     public void introSortClassInc(Comparable[] array, int left, int right) {
-        batcherOddEvenMergeInc(array, left, right);
+        introSortRange(array, left, right, range -> batcherOddEvenMergeInc(range));
     }
 
     /**
@@ -141,7 +168,7 @@ public class IntroBatcherOddEvenMerge
      */
     @Override
     public void introSortClassDec(Comparable[] array, int left, int right) {
-        batcherOddEvenMergeDec(array, left, right);
+        introSortRange(array, left, right, range -> batcherOddEvenMergeDec(range));
     }
 
     /**
@@ -153,7 +180,7 @@ public class IntroBatcherOddEvenMerge
      */
     @Override
     public void introSortClass(Comparable[] array, int left, int right, SortFunctional<Comparable> functional) {
-        batcherOddEvenMerge(array, left, right, functional);
+        introSortRange(array, left, right, range -> batcherOddEvenMerge(range, functional));
     }
 
     /**
@@ -164,7 +191,7 @@ public class IntroBatcherOddEvenMerge
      */
     @Override
     public <L extends Comparable> void introSortClassInc(List<L> list, int left, int right) {
-        batcherOddEvenMergeInc(list, left, right);
+        introSortRange(list, left, right, range -> batcherOddEvenMergeInc(range));
     }
 
     /**
@@ -175,7 +202,7 @@ public class IntroBatcherOddEvenMerge
      */
     @Override
     public <L extends Comparable> void introSortClassDec(List<L> list, int left, int right) {
-        batcherOddEvenMergeDec(list, left, right);
+        introSortRange(list, left, right, range -> batcherOddEvenMergeDec(range));
     }
 
     /**
@@ -188,6 +215,6 @@ public class IntroBatcherOddEvenMerge
     @Override
     public <L extends Comparable> void introSortClass(
             List<L> list, int left, int right, SortFunctional<Comparable> functional) {
-        batcherOddEvenMerge(list, left, right, functional);
+        introSortRange(list, left, right, range -> batcherOddEvenMerge(range, functional));
     }
 }
\ No newline at end of file
@@ -22,6 +22,11 @@ public class IntroBogo
         extends Bogo
         implements Intro<Comparable> {
 
+    /**
+     * The Insertion Sort of the small ranges finds the place of the elements by binary search.
+     */
+    protected final boolean binaryInsertion;
+
     /**
      * <b>Intro Bogo Sort:</b><br>
      * Is a hybrid sorting algorithm that combines the strengths of Quick Sort and Bogo Sort.
@@ -64,7 +69,29 @@ public class IntroBogo
      * Auxiliary Space:         <em>O(n)</em><br>
      * Stability:               <b>No</b>
      */
-    public IntroBogo() {}
+    public IntroBogo() {
+        this(false);
+    }
+
+    /**
+     * <b>Intro Bogo Sort:</b><br>
+     * With binary insertion in the small ranges, if {@code binaryInsertion} is {@code true}.
+     * @param       binaryInsertion the insertions of the small ranges are binary.
+     * @see         IntroBogo#IntroBogo() IntroBogo
+     * @see         Intro#binaryInsertion()
+     */
+    public IntroBogo(boolean binaryInsertion) {
+        this.binaryInsertion = binaryInsertion;
+    }
+
+    /**
+     * {@inheritDoc}
+     * @return      {@code true} if the insertions of the small ranges are binary.
+     */
+    @Override
+    public boolean binaryInsertion() {
+        return binaryInsertion;
+    }
 
     /**
      * {@inheritDoc}
@@ -130,7 +157,7 @@ public class IntroBogo
      */
     @Override
     public void introSortClassInc(Comparable[] array, int left, int right) {
-        bogoInc(array, left, right);
+        introSortRange(array, left, right, range -> bogoInc(range));
     }
 
     /**
@@ -141,7 +168,7 @@ public class IntroBogo
      */
     @Override
     public void introSortClassDec(Comparable[] array, int left, int right) {
-        bogoDec(array, left, right);
+        introSortRange(array, left, right, range -> bogoDec(range));
     }
 
     /**
@@ -153,7 +180,7 @@ public class IntroBogo
      */
     @Override
     public void introSortClass(Comparable[] array, int left, int right, SortFunctional<Comparable> functional) {
-        bogo(array, left, right, functional);
+        introSortRange(array, left, right, range -> bogo(range, functional));
     }
 
     /**
@@ -164,7 +191,7 @@ public class IntroBogo
      */
     @Override
     public <L extends Comparable> void introSortClassInc(List<L> list, int left, int right) {
-        bogoInc(list, left, right);
+        introSortRange(list, left, right, range -> bogoInc(range));
     }
 
     /**
@@ -175,7 +202,7 @@ public class IntroBogo
      */
     @Override
     public <L extends Comparable> void introSortClassDec(List<L> list, int left, int right) {
-        bogoDec(list, left, right);
+        introSortRange(list, left, right, range -> bogoDec(range));
     }
 
     /**
@@ -188,6 +215,6 @@ public class IntroBogo
     @Override
     public <L extends Comparable> void introSortClass(
             List<L> list, int left, int right, SortFunctional<Comparable> functional) {
-        bogo(list, left, right, functional);
+        introSortRange(list, left, right, range -> bogo(range, functional));
     }
 }
\ No newline at end of file
@@ -0,0 +1,220 @@
+package github.magyarzoli.sort.intro;
+
+import java.util.List;
+
+import github.magyarzoli.SortFunctional;
+import github.magyarzoli.sort.BottomUpHeap;
+
+/**
+ * Intro Sort is a hybrid sorting algorithm that combines the strengths of Quick Sort and Insertion Sort.
+ * It aims to provide fast average-case performance while maintaining worst-case guarantees.
+ * The basic idea behind Intro Sort is to start with Quick Sort, which is known for its efficiency on average,
+ * but has a worst-case time complexity of <em>O(n^2)</em> in certain scenarios.
+ * To mitigate the risk of Quick Sort's worst-case behavior, Intro Sort monitors the recursion depth during the
+ * sorting process.
+ * If the depth exceeds a certain threshold, the algorithm switches to
+ * Another Sort is Bottom-Up Heap Sort.
+ * @since       1.3
+ * @author      <a href=https://github.com/MagyarZoli>Magyar Zoltán</a>
+ */
+@SuppressWarnings("rawtypes")
+public class IntroBottomUpHeap
+        extends BottomUpHeap
+        implements Intro<Comparable> {
+
+    /**
+     * The Insertion Sort of the small ranges finds the place of the elements by binary search.
+     */
+    protected final boolean binaryInsertion;
+
+    /**
+     * <b>Intro Bottom-Up Heap Sort:</b><br>
+     * Is a hybrid sorting algorithm that combines the strengths of Quick Sort and Insertion Sort.
+     * It aims to provide fast average-case performance while maintaining worst-case guarantees.
+     * The basic idea behind Intro Sort is to start with Quick Sort, which is known for its efficiency on average,
+     * but has a worst-case time complexity of <em>O(n^2)</em> in certain scenarios.<br><br>
+     * To mitigate the risk of Quick Sort's worst-case behavior, Intro Sort monitors the recursion depth during
+     * the sorting process.
+     * If the depth exceeds a certain threshold, the algorithm switches to
+     * Another Sort is Bottom-Up Heap Sort.
+     * Implements an adaptive sorting algorithm called Intro Sort Interface.<br><br>
+     * <b>Example:</b>
+     * <ol>
+     *     <li>This condition checks if the size of the subarray is greater than {@code INTRO_SIZE}.
+     *     If true, the array is large enough to be sorted using QuickSort.</li>
+     *     <li>This condition checks if the maximum depth has been reached.
+     *     If true, the maximum depth has been exceeded,
+     *     and the sorting algorithm switches to another sorting method is Bottom-Up Heap Sort</li>
+     *     <li>If the maximum depth has been reached, the sort the subarray using a different sorting algorithm.</li>
+     *     <li>If the maximum depth has not been reached,
+     *     the to perform the partitioning step of QuickSort.
+     *     It returns the index of the pivot element.</li>
+     *     <li>The recursively called on the left subarray (elements smaller than the pivot) to further sort it.</li>
+     *     <li>The recursively called on the right subarray (elements greater than the pivot) to further sort it.</li>
+     *     <li>Else the size of the subarray is not greater than {@code INTRO_SIZE}, the array is considered small,
+     *     and the perform insertion sort on the subarray.</li>
+     *     <li>This is a abstract method declaration.
+     *     It appears to be a separate sorting algorithm that is called when the maximum depth is reached.</li>
+     * </ol>
+     * <b>Note:</b><br>
+     * Implements an adaptive sorting algorithm called Intro Sort. It combines the Quick Sort
+     * algorithm with a switch to another sorting algorithm Bottom-Up Heap Sort when the recursion depth exceeds
+     * a specified threshold {@code maxDepth}.
+     * The purpose of this adaptive approach is to optimize performance by leveraging the strengths of different
+     * sorting algorithms depending on the input size.<br><br>
+     * <b>Property:</b><br>
+     * Worst Case Complexity:   <em>O(n^2)</em><br>
+     * Best Case Complexity:    <em>O(n log(n))</em><br>
+     * Average Case Complexity: <em>O(n log(n))</em><br>
+     * Auxiliary Space:         <em>O(n)</em><br>
+     * Stability:               <b>No</b>
+     */
+    public IntroBottomUpHeap() {
+        this(false);
+    }
+
+    /**
+     * <b>Intro Bottom-Up Heap Sort:</b><br>
+     * With binary insertion in the small ranges, if {@code binaryInsertion} is {@code true}.
+     * @param       binaryInsertion the insertions of the small ranges are binary.
+     * @see         IntroBottomUpHeap#IntroBottomUpHeap() IntroBottomUpHeap
+     * @see         Intro#binaryInsertion()
+     */
+    public IntroBottomUpHeap(boolean binaryInsertion) {
+        this.binaryInsertion = binaryInsertion;
+    }
+
+    /**
+     * {@inheritDoc}
+     * @return      {@code true} if the insertions of the small ranges are binary.
+     */
+    @Override
+    public boolean binaryInsertion() {
+        return binaryInsertion;
+    }
+
+    /**
+     * {@inheritDoc}
+     * @param       array to be arranged.
+     */
+    @Override
+    public void sortArrayInc(Comparable[] array){
+        introInc(array);
+    }
+
+    /**
+     * {@inheritDoc}
+     * @param       array to be arranged.
+     */
+    @Override
+    public void sortArrayDec(Comparable[] array){
+        introDec(array);
+    }
+
+    /**
+     * {@inheritDoc}
+     * @param       array to be arranged.
+     * @param       functional lambda expression for comparison.
+     */
+    @Override
+    public void sortArrayFun(Comparable[] array, SortFunctional<Comparable> functional) {
+        intro(array, functional);
+    }
+
+    /**
+     * {@inheritDoc}
+     * @param       list to be arranged.
+     */
+    @Override
+    public void sortListInc(List<? extends Comparable> list) {
+        introInc(list);
+    }
+
+    /**
+     * {@inheritDoc}
+     * @param       list to be arranged.
+     */
+    @Override
+    public void sortListDec(List<? extends Comparable> list) {
+        introDec(list);
+    }
+
+    /**
+     * {@inheritDoc}
+     * @param       list to be arranged.
+     * @param       functional lambda expression for comparison.
+     */
+    @Override
+    public void sortListFun(List<? extends Comparable> list, SortFunctional<Comparable> functional) {
+        intro(list, functional);
+    }
+
+    /**
+     * {@inheritDoc}
+     * @param       array The array to be sorted.
+     * @param       left The starting index of the subarray to be sorted.
+     * @param       right The ending index (inclusive) of the subarray to be sorted.
+     */
+    @Override
+    public void introSortClassInc(Comparable[] array, int left, int right) {
+        heapBottomUpInc(array, left, (right + 1));
+    }
+
+    /**
+     * {@inheritDoc}
+     * @param       array The array to be sorted.
+     * @param       left The starting index of the subarray to be sorted.
+     * @param       right The ending index (inclusive) of the subarray to be sorted.
+     */
+    @Override
+    public void introSortClassDec(Comparable[] array, int left, int right) {
+        heapBottomUpDec(array, left, (right + 1));
+    }
+
+    /**
+     * {@inheritDoc}
+     * @param       array The array to be sorted.
+     * @param       left The starting index of the subarray to be sorted.
+     * @param       right The ending index (inclusive) of the subarray to be sorted.
+     * @param       functional lambda expression for comparison.
+     */
+    @Override
+    public void introSortClass(Comparable[] array, int left, int right, SortFunctional<Comparable> functional) {
+        heapBottomUp(array, left, (right + 1), functional);
+    }
+
+    /**
+     * {@inheritDoc}
+     * @param       list The array to be sorted.
+     * @param       left The starting index of the sublist to be sorted.
+     * @param       right The ending index (inclusive) of the sublist to be sorted.
+     */
+    @Override
+    public <L extends Comparable> void introSortClassInc(List<L> list, int left, int right) {
+        heapBottomUpInc(list, left, (right + 1));
+    }
+
+    /**
+     * {@inheritDoc}
+     * @param       list The array to be sorted.
+     * @param       left The starting index of the sublist to be sorted.
+     * @param       right The ending index (inclusive) of the sublist to be sorted.
+     */
+    @Override
+    public <L extends Comparable> void introSortClassDec(List<L> list, int left, int right) {
+        heapBottomUpDec(list, left, (right + 1));
+    }
+
+    /**
+     * {@inheritDoc}
+     * @param       list The array to be sorted.
+     * @param       left The starting index of the sublist to be sorted.
+     * @param       right The ending index (inclusive) of the sublist to be sorted.
+     * @param       functional lambda expression for comparison.
+     */
+    @Override
+    public <L extends Comparable> void introSortClass(
+            List<L> list, int left, int right, SortFunctional<Comparable> functional) {
+        heapBottomUp(list, left, (right + 1), functional);
+    }
+}
\ No newline at end of file
@@ -23,6 +23,11 @@ public class IntroBozo
         extends Bozo
         implements Intro<Comparable> {
 
+    /**
+     * The Insertion Sort of the small ranges finds the place of the elements by binary search.
+     */
+    protected final boolean binaryInsertion;
+
     /**
      * <b>Intro Bozo Sort:</b><br>
      * Is a hybrid sorting algorithm that combines the strengths of Quick Sort and Bozo Sort.
@@ -66,7 +71,29 @@ public class IntroBozo
      * Stability:               <b>No</b>
      * @see         IntroDPQBozo#IntroDPQBozo() IntroDPQBozo
      */
-    public IntroBozo() {}
+    public IntroBozo() {
+        this(false);
+    }
+
+    /**
+     * <b>Intro Bozo Sort:</b><br>
+     * With binary insertion in the small ranges, if {@code binaryInsertion} is {@code true}.
+     * @param       binaryInsertion the insertions of the small ranges are binary.
+     * @see         IntroBozo#IntroBozo() IntroBozo
+     * @see         Intro#binaryInsertion()
+     */
+    public IntroBozo(boolean binaryInsertion) {
+        this.binaryInsertion = binaryInsertion;
+    }
+
+    /**
+     * {@inheritDoc}
+     * @return      {@code true} if the insertions of the small ranges are binary.
+     */
+    @Override
+    public boolean binaryInsertion() {
+        return binaryInsertion;
+    }
 
     /**
      * {@inheritDoc}
@@ -132,7 +159,7 @@ public class IntroBozo
      */
     @Override
     public void introSortClassInc(Comparable[] array, int left, int right) {
-        bogoInc(array, left, right);
+        introSortRange(array, left, right, range -> bogoInc(range));
     }
 
     /**
@@ -143,7 +170,7 @@ public class IntroBozo
      */
     @Override
     public void introSortClassDec(Comparable[] array, int left, int right) {
-        bogoDec(array, left, right);
+        introSortRange(array, left, right, range -> bogoDec(range));
     }
 
     /**
@@ -155,7 +182,7 @@ public class IntroBozo
      */
     @Override
     public void introSortClass(Comparable[] array, int left, int right, SortFunctional<Comparable> functional) {
-        bogo(array, left, right, functional);
+        introSortRange(array, left, right, range -> bogo(range, functional));
     }
 
     /**
@@ -166,7 +193,7 @@ public class IntroBozo
      */
     @Override
     public <L extends Comparable> void introSortClassInc(List<L> list, int left, int right) {
-        bogoInc(list, left, right);
+        introSortRange(list, left, right, range -> bogoInc(range));
     }
 
     /**
@@ -177,7 +204,7 @@ public class IntroBozo
      */
     @Override
     public <L extends Comparable> void introSortClassDec(List<L> list, int left, int right) {
-        bogoDec(list, left, right);
+        introSortRange(list, left, right, range -> bogoDec(range));
     }
 
     /**
@@ -190,6 +217,6 @@ public class IntroBozo
     @Override
     public <L extends Comparable> void introSortClass(
             List<L> list, int left, int right, SortFunctional<Comparable> functional) {
-        bogo(list, left, right, functional);
+        introSortRange(list, left, right, range -> bogo(range, functional));
     }
 }
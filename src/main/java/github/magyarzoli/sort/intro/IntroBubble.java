@@ -22,6 +22,11 @@ public class IntroBubble
         extends Bubble
         implements Intro<Comparable> {
 
+    /**
+     * The Insertion Sort of the small ranges finds the place of the elements by binary search.
+     */
+    protected final boolean binaryInsertion;
+
     /**
      * <b>Intro Bubble Sort:</b><br>
      * Is a hybrid sorting algorithm that combines the strengths of Quick Sort and Insertion Sort.
@@ -64,7 +69,29 @@ public class IntroBubble
      * Auxiliary Space:         <em>O(n)</em><br>
      * Stability:               <b>No</b>
      */
-    public IntroBubble() {}
+    public IntroBubble() {
+        this(false);
+    }
+
+    /**
+     * <b>Intro Bubble Sort:</b><br>
+     * With binary insertion in the small ranges, if {@code binaryInsertion} is {@code true}.
+     * @param       binaryInsertion the insertions of the small ranges are binary.
+     * @see         IntroBubble#IntroBubble() IntroBubble
+     * @see         Intro#binaryInsertion()
+     */
+    public IntroBubble(boolean binaryInsertion) {
+        this.binaryInsertion = binaryInsertion;
+    }
+
+    /**
+     * {@inheritDoc}
+     * @return      {@code true} if the insertions of the small ranges are binary.
+     */
+    @Override
+    public boolean binaryInsertion() {
+        return binaryInsertion;
+    }
 
     /**
      * {@inheritDoc}
@@ -130,7 +157,7 @@ public class IntroBubble
      */
     @Override
     public void introSortClassInc(Comparable[] array, int left, int right) {
-        bubbleInc(array, left, right);
+        introSortRange(array, left, right, range -> bubbleInc(range));
     }
 
     /**
@@ -141,7 +168,7 @@ public class IntroBubble
      */
     @Override
     public void introSortClassDec(Comparable[] array, int left, int right) {
-        bubbleDec(array, left, right);
+        introSortRange(array, left, right, range -> bubbleDec(range));
     }
 
     /**
@@ -153,7 +180,7 @@ public class IntroBubble
      */
     @Override
     public void introSortClass(Comparable[] array, int left, int right, SortFunctional<Comparable> functional) {
-        bubble(array, left, right, functional);
+        introSortRange(array, left, right, range -> bubble(range, functional));
     }
 
     /**
@@ -164,7 +191,7 @@ public class IntroBubble
      */
     @Override
     public <L extends Comparable> void introSortClassInc(List<L> list, int left, int right) {
-        bubbleInc(list, left, right);
+        introSortRange(list, left, right, range -> bubbleInc(range));
     }
 
     /**
@@ -175,7 +202,7 @@ public class IntroBubble
      */
     @Override
     public <L extends Comparable> void introSortClassDec(List<L> list, int left, int right) {
-        bubbleDec(list, left, right);
+        introSortRange(list, left, right, range -> bubbleDec(range));
     }
 
     /**
@@ -188,6 +215,6 @@ public class IntroBubble
     @Override
     public <L extends Comparable> void introSortClass(
             List<L> list, int left, int right, SortFunctional<Comparable> functional) {
-        bubble(list, left, right, functional);
+        introSortRange(list, left, right, range -> bubble(range, functional));
     }
 }
\ No newline at end of file
@@ -22,6 +22,11 @@ public class IntroComb
         extends Comb
         implements Intro<Comparable> {
 
+    /**
+     * The Insertion Sort of the small ranges finds the place of the elements by binary search.
+     */
+    protected final boolean binaryInsertion;
+
     /**
      * <b>Intro Comb Sort:</b><br>
      * Is a hybrid sorting algorithm that combines the strengths of Quick Sort and Insertion Sort.
@@ -64,7 +69,29 @@ public class IntroComb
      * Auxiliary Space:         <em>O(n)</em><br>
      * Stability:               <b>No</b>
      */
-    public IntroComb() {}
+    public IntroComb() {
+        this(false);
+    }
+
+    /**
+     * <b>Intro Comb Sort:</b><br>
+     * With binary insertion in the small ranges, if {@code binaryInsertion} is {@code true}.
+     * @param       binaryInsertion the insertions of the small ranges are binary.
+     * @see         IntroComb#IntroComb() IntroComb
+     * @see         Intro#binaryInsertion()
+     */
+    public IntroComb(boolean binaryInsertion) {
+        this.binaryInsertion = binaryInsertion;
+    }
+
+    /**
+     * {@inheritDoc}
+     * @return      {@code true} if the insertions of the small ranges are binary.
+     */
+    @Override
+    public boolean binaryInsertion() {
+        return binaryInsertion;
+    }
 
     /**
      * {@inheritDoc}
@@ -130,7 +157,7 @@ public class IntroComb
      */
     @Override
     public void introSortClassInc(Comparable[] array, int left, int right) {
-        combInc(array, left, right);
+        introSortRange(array, left, right, range -> combInc(range));
     }
 
     /**
@@ -141,7 +168,7 @@ public class IntroComb
      */
     @Override
     public void introSortClassDec(Comparable[] array, int left, int right) {
-        combDec(array, left, right);
+        introSortRange(array, left, right, range -> combDec(range));
     }
 
     /**
@@ -153,7 +180,7 @@ public class IntroComb
      */
     @Override
     public void introSortClass(Comparable[] array, int left, int right, SortFunctional<Comparable> functional) {
-        comb(array, left, right, functional);
+        introSortRange(array, left, right, range -> comb(range, functional));
     }
 
     /**
@@ -164,7 +191,7 @@ public class IntroComb
      */
     @Override
     public <L extends Comparable> void introSortClassInc(List<L> list, int left, int right) {
-        combInc(list, left, right);
+        introSortRange(list, left, right, range -> combInc(range));
     }
 
     /**
@@ -175,7 +202,7 @@ public class IntroComb
      */
     @Override
     public <L extends Comparable> void introSortClassDec(List<L> list, int left, int right) {
-        combDec(list, left, right);
+        introSortRange(list, left, right, range -> combDec(range));
     }
 
     /**
@@ -188,6 +215,6 @@ public class IntroComb
     @Override
     public <L extends Comparable> void introSortClass(
             List<L> list, int left, int right, SortFunctional<Comparable> functional) {
-        comb(list, left, right, functional);
+        introSortRange(list, left, right, range -> comb(range, functional));
     }
 }
\ No newline at end of file
@@ -2,6 +2,7 @@ package github.magyarzoli.sort.intro;
 
 import java.util.List;
 
+import github.magyarzoli.PivotStrategy;
 import github.magyarzoli.SortFunctional;
 import github.magyarzoli.sort.DualPivotQuick;
 
@@ -22,6 +23,11 @@ public class IntroDualPivotQuick
         extends DualPivotQuick
         implements Intro<Comparable> {
 
+    /**
+     * The Insertion Sort of the small ranges finds the place of the elements by binary search.
+     */
+    protected final boolean binaryInsertion;
+
     /**
      * <b>Intro Dual Pivot Quick Sort:</b><br>
      * Is a hybrid sorting algorithm that combines the strengths of Quick Sort and Insertion Sort.
@@ -64,7 +70,54 @@ public class IntroDualPivotQuick
      * Auxiliary Space:         <em>O(n)</em><br>
      * Stability:               <b>No</b>
      */
-    public IntroDualPivotQuick() {}
+    public IntroDualPivotQuick() {
+        this(false);
+    }
+
+    /**
+     * <b>Intro Dual Pivot Quick Sort:</b><br>
+     * With binary insertion in the small ranges, if {@code binaryInsertion} is {@code true}.
+     * @param       binaryInsertion the insertions of the small ranges are binary.
+     * @see         IntroDualPivotQuick#IntroDualPivotQuick() IntroDualPivotQuick
+     * @see         Intro#binaryInsertion()
+     */
+    public IntroDualPivotQuick(boolean binaryInsertion) {
+        this.binaryInsertion = binaryInsertion;
+    }
+
+    /**
+     * <b>Intro Dual Pivot Quick Sort:</b><br>
+     * With the pivot selection of the partitions given.
+     * @param       pivotStrategy the pivot selection of the partitions.
+     * @see         IntroDualPivotQuick#IntroDualPivotQuick() IntroDualPivotQuick
+     * @see         PivotStrategy
+     */
+    public IntroDualPivotQuick(PivotStrategy pivotStrategy) {
+        this(pivotStrategy, false);
+    }
+
+    /**
+     * <b>Intro Dual Pivot Quick Sort:</b><br>
+     * With the {@code pivotStrategy}, and binary insertion in the small ranges,
+     * if {@code binaryInsertion} is {@code true}.
+     * @param       pivotStrategy the pivot selection of the partitions.
+     * @param       binaryInsertion the insertions of the small ranges are binary.
+     * @see         IntroDualPivotQuick#IntroDualPivotQuick(PivotStrategy) IntroDualPivotQuick
+     * @see         Intro#binaryInsertion()
+     */
+    public IntroDualPivotQuick(PivotStrategy pivotStrategy, boolean binaryInsertion) {
+        super(pivotStrategy);
+        this.binaryInsertion = binaryInsertion;
+    }
+
+    /**
+     * {@inheritDoc}
+     * @return      {@code true} if the insertions of the small ranges are binary.
+     */
+    @Override
+    public boolean binaryInsertion() {
+        return binaryInsertion;
+    }
 
     /**
      * {@inheritDoc}
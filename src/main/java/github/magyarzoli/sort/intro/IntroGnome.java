@@ -22,6 +22,11 @@ public class IntroGnome
         extends Gnome
         implements Intro<Comparable> {
 
+    /**
+     * The Insertion Sort of the small ranges finds the place of the elements by binary search.
+     */
+    protected final boolean binaryInsertion;
+
     /**
      * <b>Intro Gnome Sort:</b><br>
      * Is a hybrid sorting algorithm that combines the strengths of Quick Sort and Insertion Sort.
@@ -64,7 +69,29 @@ public class IntroGnome
      * Auxiliary Space:         <em>O(n)</em><br>
      * Stability:               <b>No</b>
      */
-    public IntroGnome() {}
+    public IntroGnome() {
+        this(false);
+    }
+
+    /**
+     * <b>Intro Gnome Sort:</b><br>
+     * With binary insertion in the small ranges, if {@code binaryInsertion} is {@code true}.
+     * @param       binaryInsertion the insertions of the small ranges are binary.
+     * @see         IntroGnome#IntroGnome() IntroGnome
+     * @see         Intro#binaryInsertion()
+     */
+    public IntroGnome(boolean binaryInsertion) {
+        this.binaryInsertion = binaryInsertion;
+    }
+
+    /**
+     * {@inheritDoc}
+     * @return      {@code true} if the insertions of the small ranges are binary.
+     */
+    @Override
+    public boolean binaryInsertion() {
+        return binaryInsertion;
+    }
 
     /**
      * {@inheritDoc}
@@ -130,7 +157,7 @@ public class IntroGnome
      */
     @Override
     public void introSortClassInc(Comparable[] array, int left, int right) {
-        gnomeInc(array, left, right);
+        introSortRange(array, left, right, range -> gnomeInc(range));
     }
 
     /**
@@ -141,7 +168,7 @@ public class IntroGnome
      */
     @Override
     public void introSortClassDec(Comparable[] array, int left, int right) {
-        gnomeDec(array, left, right);
+        introSortRange(array, left, right, range -> gnomeDec(range));
     }
 
     /**
@@ -153,7 +180,7 @@ public class IntroGnome
      */
     @Override
     public void introSortClass(Comparable[] array, int left, int right, SortFunctional<Comparable> functional) {
-        gnome(array, left, right, functional);
+        introSortRange(array, left, right, range -> gnome(range, functional));
     }
 
     /**
@@ -164,7 +191,7 @@ public class IntroGnome
      */
     @Override
     public <L extends Comparable> void introSortClassInc(List<L> list, int left, int right) {
-        gnomeInc(list, left, right);
+        introSortRange(list, left, right, range -> gnomeInc(range));
     }
 
     /**
@@ -175,7 +202,7 @@ public class IntroGnome
      */
     @Override
     public <L extends Comparable> void introSortClassDec(List<L> list, int left, int right) {
-        gnomeDec(list, left, right);
+        introSortRange(list, left, right, range -> gnomeDec(range));
     }
 
     /**
@@ -188,6 +215,6 @@ public class IntroGnome
     @Override
     public <L extends Comparable> void introSortClass(
             List<L> list, int left, int right, SortFunctional<Comparable> functional) {
-        gnome(list, left, right, functional);
+        introSortRange(list, left, right, range -> gnome(range, functional));
     }
 }
\ No newline at end of file
@@ -22,6 +22,11 @@ public class IntroHeap
         extends Heap
         implements Intro<Comparable> {
 
+    /**
+     * The Insertion Sort of the small ranges finds the place of the elements by binary search.
+     */
+    protected final boolean binaryInsertion;
+
     /**
      * <b>Intro Heap Sort:</b><br>
      * Is a hybrid sorting algorithm that combines the strengths of Quick Sort and Insertion Sort.
@@ -64,7 +69,29 @@ public class IntroHeap
      * Auxiliary Space:         <em>O(n)</em><br>
      * Stability:               <b>No</b>
      */
-    public IntroHeap() {}
+    public IntroHeap() {
+        this(false);
+    }
+
+    /**
+     * <b>Intro Heap Sort:</b><br>
+     * With binary insertion in the small ranges, if {@code binaryInsertion} is {@code true}.
+     * @param       binaryInsertion the insertions of the small ranges are binary.
+     * @see         IntroHeap#IntroHeap() IntroHeap
+     * @see         Intro#binaryInsertion()
+     */
+    public IntroHeap(boolean binaryInsertion) {
+        this.binaryInsertion = binaryInsertion;
+    }
+
+    /**
+     * {@inheritDoc}
+     * @return      {@code true} if the insertions of the small ranges are binary.
+     */
+    @Override
+    public boolean binaryInsertion() {
+        return binaryInsertion;
+    }
 
     /**
      * {@inheritDoc}
@@ -130,7 +157,7 @@ public class IntroHeap
      */
     @Override
     public void introSortClassInc(Comparable[] array, int left, int right) {
-        heapInc(array, left, right);
+        heapBottomUpInc(array, left, (right + 1));
     }
 
     /**
@@ -141,7 +168,7 @@ public class IntroHeap
      */
     @Override
     public void introSortClassDec(Comparable[] array, int left, int right) {
-        heapDec(array, left, right);
+        heapBottomUpDec(array, left, (right + 1));
     }
 
     /**
@@ -153,7 +180,7 @@ public class IntroHeap
      */
     @Override
     public void introSortClass(Comparable[] array, int left, int right, SortFunctional<Comparable> functional) {
-        heap(array, left, right, functional);
+        heapBottomUp(array, left, (right + 1), functional);
     }
 
     /**
@@ -164,7 +191,7 @@ public class IntroHeap
      */
     @Override
     public <L extends Comparable> void introSortClassInc(List<L> list, int left, int right) {
-        heapInc(list, left, right);
+        heapBottomUpInc(list, left, (right + 1));
     }
 
     /**
@@ -175,7 +202,7 @@ public class IntroHeap
      */
     @Override
     public <L extends Comparable> void introSortClassDec(List<L> list, int left, int right) {
-        heapDec(list, left, right);
+        heapBottomUpDec(list, left, (right + 1));
     }
 
     /**
@@ -188,6 +215,6 @@ public class IntroHeap
     @Override
     public <L extends Comparable> void introSortClass(
             List<L> list, int left, int right, SortFunctional<Comparable> functional) {
-        heap(list, left, right, functional);
+        heapBottomUp(list, left, (right + 1), functional);
     }
 }
\ No newline at end of file
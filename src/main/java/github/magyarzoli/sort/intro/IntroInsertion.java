@@ -68,6 +68,18 @@ public class IntroInsertion
      */
     public IntroInsertion() {}
 
+    /**
+     * <b>Intro Insertion Sort:</b><br>
+     * With binary insertion in the small ranges and in the Insertion Sort taking over at the depth limit,
+     * if {@code binaryInsertion} is {@code true}.
+     * @param       binaryInsertion the insertions are binary.
+     * @see         IntroInsertion#IntroInsertion() IntroInsertion
+     * @see         Insertion#Insertion(boolean) Insertion
+     */
+    public IntroInsertion(boolean binaryInsertion) {
+        super(binaryInsertion);
+    }
+
     /**
      * {@inheritDoc}
      * @param       array to be arranged.
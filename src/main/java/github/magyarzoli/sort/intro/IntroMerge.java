@@ -22,6 +22,11 @@ public class IntroMerge
         extends Merge
         implements Intro<Comparable> {
 
+    /**
+     * The Insertion Sort of the small ranges finds the place of the elements by binary search.
+     */
+    protected final boolean binaryInsertion;
+
     /**
      * <b>Intro Merge Sort:</b><br>
      * Is a hybrid sorting algorithm that combines the strengths of Quick Sort and Insertion Sort.
@@ -65,7 +70,29 @@ public class IntroMerge
      * Auxiliary Space:         <em>O(n)</em><br>
      * Stability:               <b>No</b>
      */
-    public IntroMerge() {}
+    public IntroMerge() {
+        this(false);
+    }
+
+    /**
+     * <b>Intro Merge Sort:</b><br>
+     * With binary insertion in the small ranges, if {@code binaryInsertion} is {@code true}.
+     * @param       binaryInsertion the insertions of the small ranges are binary.
+     * @see         IntroMerge#IntroMerge() IntroMerge
+     * @see         Intro#binaryInsertion()
+     */
+    public IntroMerge(boolean binaryInsertion) {
+        this.binaryInsertion = binaryInsertion;
+    }
+
+    /**
+     * {@inheritDoc}
+     * @return      {@code true} if the insertions of the small ranges are binary.
+     */
+    @Override
+    public boolean binaryInsertion() {
+        return binaryInsertion;
+    }
 
     /**
      * {@inheritDoc}
@@ -131,7 +158,7 @@ public class IntroMerge
      */
     @Override
     public void introSortClassInc(Comparable[] array, int left, int right) {
-        mergeInc(array, left, (right / 2), (right - 1));
+        introSortRange(array, left, right, range -> mergeInc(range));
     }
 
     /**
@@ -142,7 +169,7 @@ public class IntroMerge
      */
     @Override
     public void introSortClassDec(Comparable[] array, int left, int right) {
-        mergeDec(array, left, (right / 2), (right - 1));
+        introSortRange(array, left, right, range -> mergeDec(range));
     }
 
     /**
@@ -154,7 +181,7 @@ public class IntroMerge
      */
     @Override
     public void introSortClass(Comparable[] array, int left, int right, SortFunctional<Comparable> functional) {
-        merge(array, left, (right / 2), (right - 1), functional);
+        introSortRange(array, left, right, range -> merge(range, functional));
     }
 
     /**
@@ -165,7 +192,7 @@ public class IntroMerge
      */
     @Override
     public <L extends Comparable> void introSortClassInc(List<L> list, int left, int right) {
-        mergeInc(list, left, (right / 2), (right - 1));
+        introSortRange(list, left, right, range -> mergeInc(range));
     }
 
     /**
@@ -176,7 +203,7 @@ public class IntroMerge
      */
     @Override
     public <L extends Comparable> void introSortClassDec(List<L> list, int left, int right) {
-        mergeDec(list, left, (right / 2), (right - 1));
+        introSortRange(list, left, right, range -> mergeDec(range));
     }
 
     /**
@@ -189,6 +216,6 @@ public class IntroMerge
     @Override
     public <L extends Comparable> void introSortClass(
             List<L> list, int left, int right, SortFunctional<Comparable> functional) {
-        merge(list, left, (right / 2), (right - 1), functional);
+        introSortRange(list, left, right, range -> merge(range, functional));
     }
 }
\ No newline at end of file
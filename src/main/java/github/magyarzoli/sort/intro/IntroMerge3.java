@@ -22,6 +22,11 @@ public class IntroMerge3
         extends Merge3
         implements Intro<Comparable> {
 
+    /**
+     * The Insertion Sort of the small ranges finds the place of the elements by binary search.
+     */
+    protected final boolean binaryInsertion;
+
     /**
      * <b>Intro Merge3 Sort:</b><br>
      * Is a hybrid sorting algorithm that combines the strengths of Quick Sort and Insertion Sort.
@@ -64,7 +69,29 @@ public class IntroMerge3
      * Auxiliary Space:         <em>O(n)</em><br>
      * Stability:               <b>No</b>
      */
-    public IntroMerge3() {}
+    public IntroMerge3() {
+        this(false);
+    }
+
+    /**
+     * <b>Intro Merge3 Sort:</b><br>
+     * With binary insertion in the small ranges, if {@code binaryInsertion} is {@code true}.
+     * @param       binaryInsertion the insertions of the small ranges are binary.
+     * @see         IntroMerge3#IntroMerge3() IntroMerge3
+     * @see         Intro#binaryInsertion()
+     */
+    public IntroMerge3(boolean binaryInsertion) {
+        this.binaryInsertion = binaryInsertion;
+    }
+
+    /**
+     * {@inheritDoc}
+     * @return      {@code true} if the insertions of the small ranges are binary.
+     */
+    @Override
+    public boolean binaryInsertion() {
+        return binaryInsertion;
+    }
 
     /**
      * {@inheritDoc}
@@ -130,7 +157,7 @@ public class IntroMerge3
      */
     @Override
     public void introSortClassInc(Comparable[] array, int left, int right) {
-        merge3Inc(array, left, right);
+        introSortRange(array, left, right, range -> merge3Inc(range));
     }
 
     /**
@@ -141,7 +168,7 @@ public class IntroMerge3
      */
     @Override
     public void introSortClassDec(Comparable[] array, int left, int right) {
-        merge3Dec(array, left, right);
+        introSortRange(array, left, right, range -> merge3Dec(range));
     }
 
     /**
@@ -153,7 +180,7 @@ public class IntroMerge3
      */
     @Override
     public void introSortClass(Comparable[] array, int left, int right, SortFunctional<Comparable> functional) {
-        merge3(array, left, right, functional);
+        introSortRange(array, left, right, range -> merge3(range, functional));
     }
 
     /**
@@ -164,7 +191,7 @@ public class IntroMerge3
      */
     @Override
     public <L extends Comparable> void introSortClassInc(List<L> list, int left, int right) {
-        merge3Inc(list, left, right);
+        introSortRange(list, left, right, range -> merge3Inc(range));
     }
 
     /**
@@ -175,7 +202,7 @@ public class IntroMerge3
      */
     @Override
     public <L extends Comparable> void introSortClassDec(List<L> list, int left, int right) {
-        merge3Dec(list, left, right);
+        introSortRange(list, left, right, range -> merge3Dec(range));
     }
 
     /**
@@ -188,6 +215,6 @@ public class IntroMerge3
     @Override
     public <L extends Comparable> void introSortClass(
             List<L> list, int left, int right, SortFunctional<Comparable> functional) {
-        merge3(list, left, right, functional);
+        introSortRange(list, left, right, range -> merge3(range, functional));
     }
 }
\ No newline at end of file
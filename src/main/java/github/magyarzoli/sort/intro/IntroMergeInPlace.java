@@ -22,6 +22,11 @@ public class IntroMergeInPlace
         extends MergeInPlace
         implements Intro<Comparable> {
 
+    /**
+     * The Insertion Sort of the small ranges finds the place of the elements by binary search.
+     */
+    protected final boolean binaryInsertion;
+
     /**
      * <b>Intro Merge In Place Sort:</b><br>
      * Is a hybrid sorting algorithm that combines the strengths of Quick Sort and Insertion Sort.
@@ -64,7 +69,29 @@ public class IntroMergeInPlace
      * Auxiliary Space:         <em>O(n)</em><br>
      * Stability:               <b>No</b>
      */
-    public IntroMergeInPlace() {}
+    public IntroMergeInPlace() {
+        this(false);
+    }
+
+    /**
+     * <b>Intro Merge In Place Sort:</b><br>
+     * With binary insertion in the small ranges, if {@code binaryInsertion} is {@code true}.
+     * @param       binaryInsertion the insertions of the small ranges are binary.
+     * @see         IntroMergeInPlace#IntroMergeInPlace() IntroMergeInPlace
+     * @see         Intro#binaryInsertion()
+     */
+    public IntroMergeInPlace(boolean binaryInsertion) {
+        this.binaryInsertion = binaryInsertion;
+    }
+
+    /**
+     * {@inheritDoc}
+     * @return      {@code true} if the insertions of the small ranges are binary.
+     */
+    @Override
+    public boolean binaryInsertion() {
+        return binaryInsertion;
+    }
 
     /**
      * {@inheritDoc}
@@ -130,7 +157,7 @@ public class IntroMergeInPlace
      */
     @Override
     public void introSortClassInc(Comparable[] array, int left, int right) {
-        mergeInc(array, left, (right / 2), (right - 1));
+        introSortRange(array, left, right, range -> mergeInc(range));
     }
 
     /**
@@ -141,7 +168,7 @@ public class IntroMergeInPlace
      */
     @Override
     public void introSortClassDec(Comparable[] array, int left, int right) {
-        mergeDec(array, left, (right / 2), (right - 1));
+        introSortRange(array, left, right, range -> mergeDec(range));
     }
 
     /**
@@ -153,7 +180,7 @@ public class IntroMergeInPlace
      */
     @Override
     public void introSortClass(Comparable[] array, int left, int right, SortFunctional<Comparable> functional) {
-        merge(array, left, (right / 2), (right - 1), functional);
+        introSortRange(array, left, right, range -> merge(range, functional));
     }
 
     /**
@@ -164,7 +191,7 @@ public class IntroMergeInPlace
      */
     @Override
     public <L extends Comparable> void introSortClassInc(List<L> list, int left, int right) {
-        mergeInc(list, left, (right / 2), (right - 1));
+        introSortRange(list, left, right, range -> mergeInc(range));
     }
 
     /**
@@ -175,7 +202,7 @@ public class IntroMergeInPlace
      */
     @Override
     public <L extends Comparable> void introSortClassDec(List<L> list, int left, int right) {
-        mergeDec(list, left, (right / 2), (right - 1));
+        introSortRange(list, left, right, range -> mergeDec(range));
     }
 
     /**
@@ -188,6 +215,6 @@ public class IntroMergeInPlace
     @Override
     public <L extends Comparable> void introSortClass(
             List<L> list, int left, int right, SortFunctional<Comparable> functional) {
-        merge(list, left, (right / 2), (right - 1), functional);
+        introSortRange(list, left, right, range -> merge(range, functional));
     }
 }
\ No newline at end of file
@@ -65,6 +65,18 @@ public class IntroMergeInsertion
      */
     public IntroMergeInsertion() {}
 
+    /**
+     * <b>Intro Merge Insertion Sort:</b><br>
+     * With binary insertion in the small ranges and in the Merge Insertion Sort taking over at the depth limit,
+     * if {@code binaryInsertion} is {@code true}.
+     * @param       binaryInsertion the insertions are binary.
+     * @see         IntroMergeInsertion#IntroMergeInsertion() IntroMergeInsertion
+     * @see         MergeInsertion#MergeInsertion(boolean) MergeInsertion
+     */
+    public IntroMergeInsertion(boolean binaryInsertion) {
+        super(binaryInsertion);
+    }
+
     /**
      * {@inheritDoc}
      * @param       array to be arranged.
@@ -129,7 +141,7 @@ public class IntroMergeInsertion
      */
     @Override
     public void introSortClassInc(Comparable[] array, int left, int right) {
-        mergeInsertionInc(array, left, right);
+        introSortRange(array, left, right, range -> mergeInsertionInc(range));
     }
 
     /**
@@ -140,7 +152,7 @@ public class IntroMergeInsertion
      */
     @Override
     public void introSortClassDec(Comparable[] array, int left, int right) {
-        mergeInsertionDec(array, left, right);
+        introSortRange(array, left, right, range -> mergeInsertionDec(range));
     }
 
     /**
@@ -152,7 +164,7 @@ public class IntroMergeInsertion
      */
     @Override
     public void introSortClass(Comparable[] array, int left, int right, SortFunctional<Comparable> functional) {
-        mergeInsertion(array, left, right, functional);
+        introSortRange(array, left, right, range -> mergeInsertion(range, functional));
     }
 
     /**
@@ -163,7 +175,7 @@ public class IntroMergeInsertion
      */
     @Override
     public <L extends Comparable> void introSortClassInc(List<L> list, int left, int right) {
-        mergeInsertionInc(list, left, right);
+        introSortRange(list, left, right, range -> mergeInsertionInc(range));
     }
 
     /**
@@ -174,7 +186,7 @@ public class IntroMergeInsertion
      */
     @Override
     public <L extends Comparable> void introSortClassDec(List<L> list, int left, int right) {
-        mergeInsertionDec(list, left, right);
+        introSortRange(list, left, right, range -> mergeInsertionDec(range));
     }
 
     /**
@@ -187,6 +199,6 @@ public class IntroMergeInsertion
     @Override
     public <L extends Comparable> void introSortClass(
             List<L> list, int left, int right, SortFunctional<Comparable> functional) {
-        mergeInsertion(list, left, right, functional);
+        introSortRange(list, left, right, range -> mergeInsertion(range, functional));
     }
 }
\ No newline at end of file
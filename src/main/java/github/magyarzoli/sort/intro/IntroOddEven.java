@@ -22,6 +22,11 @@ public class IntroOddEven
         extends OddEven
         implements Intro<Comparable> {
 
+    /**
+     * The Insertion Sort of the small ranges finds the place of the elements by binary search.
+     */
+    protected final boolean binaryInsertion;
+
     /**
      * <b>Intro Odd-even (Brick) Sort:</b><br>
      * Is a hybrid sorting algorithm that combines the strengths of Quick Sort and Odd-even Sort.
@@ -64,7 +69,29 @@ public class IntroOddEven
      * Auxiliary Space:         <em>O(n)</em><br>
      * Stability:               <b>No</b>
      */
-    public IntroOddEven() {}
+    public IntroOddEven() {
+        this(false);
+    }
+
+    /**
+     * <b>Intro Odd-even (Brick) Sort:</b><br>
+     * With binary insertion in the small ranges, if {@code binaryInsertion} is {@code true}.
+     * @param       binaryInsertion the insertions of the small ranges are binary.
+     * @see         IntroOddEven#IntroOddEven() IntroOddEven
+     * @see         Intro#binaryInsertion()
+     */
+    public IntroOddEven(boolean binaryInsertion) {
+        this.binaryInsertion = binaryInsertion;
+    }
+
+    /**
+     * {@inheritDoc}
+     * @return      {@code true} if the insertions of the small ranges are binary.
+     */
+    @Override
+    public boolean binaryInsertion() {
+        return binaryInsertion;
+    }
 
     /**
      * {@inheritDoc}
@@ -130,7 +157,7 @@ public class IntroOddEven
      */
     @Override
     public void introSortClassInc(Comparable[] array, int left, int right) {
-        oddEvenInc(array, left, right);
+        introSortRange(array, left, right, range -> oddEvenInc(range));
     }
 
     /**
@@ -141,7 +168,7 @@ public class IntroOddEven
      */
     @Override
     public void introSortClassDec(Comparable[] array, int left, int right) {
-        oddEvenDec(array, left, right);
+        introSortRange(array, left, right, range -> oddEvenDec(range));
     }
 
     /**
@@ -153,7 +180,7 @@ public class IntroOddEven
      */
     @Override
     public void introSortClass(Comparable[] array, int left, int right, SortFunctional<Comparable> functional) {
-        oddEven(array, left, right, functional);
+        introSortRange(array, left, right, range -> oddEven(range, functional));
     }
 
     /**
@@ -164,7 +191,7 @@ public class IntroOddEven
      */
     @Override
     public <L extends Comparable> void introSortClassInc(List<L> list, int left, int right) {
-        oddEvenInc(list, left, right);
+        introSortRange(list, left, right, range -> oddEvenInc(range));
     }
 
     /**
@@ -175,7 +202,7 @@ public class IntroOddEven
      */
     @Override
     public <L extends Comparable> void introSortClassDec(List<L> list, int left, int right) {
-        oddEvenDec(list, left, right);
+        introSortRange(list, left, right, range -> oddEvenDec(range));
     }
 
     /**
@@ -188,6 +215,6 @@ public class IntroOddEven
     @Override
     public <L extends Comparable> void introSortClass(
             List<L> list, int left, int right, SortFunctional<Comparable> functional) {
-        oddEven(list, left, right, functional);
+        introSortRange(list, left, right, range -> oddEven(range, functional));
     }
 }
\ No newline at end of file
@@ -22,6 +22,11 @@ public class IntroOddEvenMerge
         extends OddEvenMerge
         implements Intro<Comparable> {
 
+    /**
+     * The Insertion Sort of the small ranges finds the place of the elements by binary search.
+     */
+    protected final boolean binaryInsertion;
+
     /**
      * <b>Intro Odd-even Merge Sort:</b><br>
      * Is a hybrid sorting algorithm that combines the strengths of Quick Sort and Odd-even Merge Sort.
@@ -64,7 +69,29 @@ public class IntroOddEvenMerge
      * Auxiliary Space:         <em>O(n)</em><br>
      * Stability:               <b>No</b>
      */
-    public IntroOddEvenMerge() {}
+    public IntroOddEvenMerge() {
+        this(false);
+    }
+
+    /**
+     * <b>Intro Odd-even Merge Sort:</b><br>
+     * With binary insertion in the small ranges, if {@code binaryInsertion} is {@code true}.
+     * @param       binaryInsertion the insertions of the small ranges are binary.
+     * @see         IntroOddEvenMerge#IntroOddEvenMerge() IntroOddEvenMerge
+     * @see         Intro#binaryInsertion()
+     */
+    public IntroOddEvenMerge(boolean binaryInsertion) {
+        this.binaryInsertion = binaryInsertion;
+    }
+
+    /**
+     * {@inheritDoc}
+     * @return      {@code true} if the insertions of the small ranges are binary.
+     */
+    @Override
+    public boolean binaryInsertion() {
+        return binaryInsertion;
+    }
 
     /**
      * {@inheritDoc}
@@ -130,7 +157,7 @@ public class IntroOddEvenMerge
      */
     @Override
     public void introSortClassInc(Comparable[] array, int left, int right) {
-        oddEvenMergeInc(array, left, right);
+        introSortRange(array, left, right, range -> oddEvenMergeInc(range));
     }
 
     /**
@@ -141,7 +168,7 @@ public class IntroOddEvenMerge
      */
     @Override
     public void introSortClassDec(Comparable[] array, int left, int right) {
-        oddEvenMergeDec(array, left, right);
+        introSortRange(array, left, right, range -> oddEvenMergeDec(range));
     }
 
     /**
@@ -153,7 +180,7 @@ public class IntroOddEvenMerge
      */
     @Override
     public void introSortClass(Comparable[] array, int left, int right, SortFunctional<Comparable> functional) {
-        oddEvenMerge(array, left, right, functional);
+        introSortRange(array, left, right, range -> oddEvenMerge(range, functional));
     }
 
     /**
@@ -164,7 +191,7 @@ public class IntroOddEvenMerge
      */
     @Override
     public <L extends Comparable> void introSortClassInc(List<L> list, int left, int right) {
-        oddEvenMergeInc(list, left, right);
+        introSortRange(list, left, right, range -> oddEvenMergeInc(range));
     }
 
     /**
@@ -175,7 +202,7 @@ public class IntroOddEvenMerge
      */
     @Override
     public <L extends Comparable> void introSortClassDec(List<L> list, int left, int right) {
-        oddEvenMergeDec(list, left, right);
+        introSortRange(list, left, right, range -> oddEvenMergeDec(range));
     }
 
     /**
@@ -188,6 +215,6 @@ public class IntroOddEvenMerge
     @Override
     public <L extends Comparable> void introSortClass(
             List<L> list, int left, int right, SortFunctional<Comparable> functional) {
-        oddEvenMerge(list, left, right, functional);
+        introSortRange(list, left, right, range -> oddEvenMerge(range, functional));
     }
 }
\ No newline at end of file
@@ -22,6 +22,11 @@ public class IntroPancake
         extends Pancake
         implements Intro<Comparable> {
 
+    /**
+     * The Insertion Sort of the small ranges finds the place of the elements by binary search.
+     */
+    protected final boolean binaryInsertion;
+
     /**
      * <b>Intro Pancake Sort:</b><br>
      * Is a hybrid sorting algorithm that combines the strengths of Quick Sort and Pancake Sort.
@@ -65,7 +70,29 @@ public class IntroPancake
      * Stability:               <b>No</b>
      * @see         IntroDPQPancake#IntroDPQPancake() IntroDPQPancake
      */
-    public IntroPancake() {}
+    public IntroPancake() {
+        this(false);
+    }
+
+    /**
+     * <b>Intro Pancake Sort:</b><br>
+     * With binary insertion in the small ranges, if {@code binaryInsertion} is {@code true}.
+     * @param       binaryInsertion the insertions of the small ranges are binary.
+     * @see         IntroPancake#IntroPancake() IntroPancake
+     * @see         Intro#binaryInsertion()
+     */
+    public IntroPancake(boolean binaryInsertion) {
+        this.binaryInsertion = binaryInsertion;
+    }
+
+    /**
+     * {@inheritDoc}
+     * @return      {@code true} if the insertions of the small ranges are binary.
+     */
+    @Override
+    public boolean binaryInsertion() {
+        return binaryInsertion;
+    }
 
     /**
      * {@inheritDoc}
@@ -131,7 +158,7 @@ public class IntroPancake
      */
     @Override
     public void introSortClassInc(Comparable[] array, int left, int right) {
-        pancakeInc(array, left, right);
+        introSortRange(array, left, right, range -> pancakeInc(range));
     }
 
     /**
@@ -142,7 +169,7 @@ public class IntroPancake
      */
     @Override
     public void introSortClassDec(Comparable[] array, int left, int right) {
-        pancakeDec(array, left, right);
+        introSortRange(array, left, right, range -> pancakeDec(range));
     }
 
     /**
@@ -154,7 +181,7 @@ public class IntroPancake
      */
     @Override
     public void introSortClass(Comparable[] array, int left, int right, SortFunctional<Comparable> functional) {
-        pancake(array, left, right, functional);
+        introSortRange(array, left, right, range -> pancake(range, functional));
     }
 
     /**
@@ -165,7 +192,7 @@ public class IntroPancake
      */
     @Override
     public <L extends Comparable> void introSortClassInc(List<L> list, int left, int right) {
-        pancakeInc(list, left, right);
+        introSortRange(list, left, right, range -> pancakeInc(range));
     }
 
     /**
@@ -176,7 +203,7 @@ public class IntroPancake
      */
     @Override
     public <L extends Comparable> void introSortClassDec(List<L> list, int left, int right) {
-        pancakeDec(list, left, right);
+        introSortRange(list, left, right, range -> pancakeDec(range));
     }
 
     /**
@@ -189,6 +216,6 @@ public class IntroPancake
     @Override
     public <L extends Comparable> void introSortClass(
             List<L> list, int left, int right, SortFunctional<Comparable> functional) {
-        pancake(list, left, right, functional);
+        introSortRange(list, left, right, range -> pancake(range, functional));
     }
 }
\ No newline at end of file
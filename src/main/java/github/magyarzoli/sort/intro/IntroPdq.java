@@ -0,0 +1,200 @@
+package github.magyarzoli.sort.intro;
+
+import java.util.List;
+
+import github.magyarzoli.SortFunctional;
+import github.magyarzoli.sort.BottomUpHeap;
+
+/**
+ * Pattern-defeating Quick Sort is an Intro Sort, which replaces the Lomuto partition on the last element with a
+ * Hoare-style partition on a median-of-three (or ninther) pivot, and recognises the patterns of the input.
+ * Sorted, reverse sorted and few unique inputs are sorted in linear or near-linear time.
+ * After <i>log(n)</i> bad partitions the range is sorted by the other algorithm,
+ * Another Sort is Bottom-Up Heap Sort.
+ * @since       1.3
+ * @author      <a href=https://github.com/MagyarZoli>Magyar Zoltán</a>
+ * @see         Pdq
+ */
+@SuppressWarnings("rawtypes")
+public class IntroPdq
+        extends BottomUpHeap
+        implements Pdq<Comparable> {
+
+    /**
+     * The Insertion Sort of the small ranges finds the place of the elements by binary search.
+     */
+    protected final boolean binaryInsertion;
+
+    /**
+     * <b>Intro Pattern-defeating Quick Sort:</b><br>
+     * Is a hybrid sorting algorithm that combines the strengths of Quick Sort and Insertion Sort,
+     * and defeats the input patterns which make the classic Quick Sort slow.<br><br>
+     * <b>Example:</b>
+     * <ol>
+     *     <li>Subarrays of at most {@code INTRO_SIZE} elements are sorted by Insertion Sort.</li>
+     *     <li>The pivot is the median of the first, middle and last elements, on large subarrays the ninther.</li>
+     *     <li>If the pivot equals the element before the subarray, the elements equal to it are collected on the
+     *     left side and skipped.</li>
+     *     <li>Otherwise the subarray is partitioned from both ends around the pivot.</li>
+     *     <li>If one side got less than one eighth of the elements, the partition is bad,
+     *     a few elements of both sides are shuffled.
+     *     After <i>log(n)</i> bad partitions the subarray is sorted by Bottom-Up Heap Sort.</li>
+     *     <li>If the partition did not swap anything, a partial Insertion Sort tries to finish both sides.</li>
+     *     <li>The left side is sorted recursively, the right side by the same loop.</li>
+     * </ol>
+     * <b>Property:</b><br>
+     * Worst Case Complexity:   <em>O(n log(n))</em><br>
+     * Best Case Complexity:    <em>O(n)</em><br>
+     * Average Case Complexity: <em>O(n log(n))</em><br>
+     * Auxiliary Space:         <em>O(log(n))</em><br>
+     * Stability:               <b>No</b>
+     */
+    public IntroPdq() {
+        this(false);
+    }
+
+    /**
+     * <b>Intro Pattern-defeating Quick Sort:</b><br>
+     * With binary insertion in the small ranges, if {@code binaryInsertion} is {@code true}.
+     * @param       binaryInsertion the insertions of the small ranges are binary.
+     * @see         IntroPdq#IntroPdq() IntroPdq
+     * @see         Intro#binaryInsertion()
+     */
+    public IntroPdq(boolean binaryInsertion) {
+        this.binaryInsertion = binaryInsertion;
+    }
+
+    /**
+     * {@inheritDoc}
+     * @return      {@code true} if the insertions of the small ranges are binary.
+     */
+    @Override
+    public boolean binaryInsertion() {
+        return binaryInsertion;
+    }
+
+    /**
+     * {@inheritDoc}
+     * @param       array to be arranged.
+     */
+    @Override
+    public void sortArrayInc(Comparable[] array){
+        introInc(array);
+    }
+
+    /**
+     * {@inheritDoc}
+     * @param       array to be arranged.
+     */
+    @Override
+    public void sortArrayDec(Comparable[] array){
+        introDec(array);
+    }
+
+    /**
+     * {@inheritDoc}
+     * @param       array to be arranged.
+     * @param       functional lambda expression for comparison.
+     */
+    @Override
+    public void sortArrayFun(Comparable[] array, SortFunctional<Comparable> functional) {
+        intro(array, functional);
+    }
+
+    /**
+     * {@inheritDoc}
+     * @param       list to be arranged.
+     */
+    @Override
+    public void sortListInc(List<? extends Comparable> list) {
+        introInc(list);
+    }
+
+    /**
+     * {@inheritDoc}
+     * @param       list to be arranged.
+     */
+    @Override
+    public void sortListDec(List<? extends Comparable> list) {
+        introDec(list);
+    }
+
+    /**
+     * {@inheritDoc}
+     * @param       list to be arranged.
+     * @param       functional lambda expression for comparison.
+     */
+    @Override
+    public void sortListFun(List<? extends Comparable> list, SortFunctional<Comparable> functional) {
+        intro(list, functional);
+    }
+
+    /**
+     * {@inheritDoc}
+     * @param       array The array to be sorted.
+     * @param       left The starting index of the subarray to be sorted.
+     * @param       right The ending index (inclusive) of the subarray to be sorted.
+     */
+    @Override
+    public void introSortClassInc(Comparable[] array, int left, int right) {
+        heapBottomUpInc(array, left, (right + 1));
+    }
+
+    /**
+     * {@inheritDoc}
+     * @param       array The array to be sorted.
+     * @param       left The starting index of the subarray to be sorted.
+     * @param       right The ending index (inclusive) of the subarray to be sorted.
+     */
+    @Override
+    public void introSortClassDec(Comparable[] array, int left, int right) {
+        heapBottomUpDec(array, left, (right + 1));
+    }
+
+    /**
+     * {@inheritDoc}
+     * @param       array The array to be sorted.
+     * @param       left The starting index of the subarray to be sorted.
+     * @param       right The ending index (inclusive) of the subarray to be sorted.
+     * @param       functional lambda expression for comparison.
+     */
+    @Override
+    public void introSortClass(Comparable[] array, int left, int right, SortFunctional<Comparable> functional) {
+        heapBottomUp(array, left, (right + 1), functional);
+    }
+
+    /**
+     * {@inheritDoc}
+     * @param       list The array to be sorted.
+     * @param       left The starting index of the sublist to be sorted.
+     * @param       right The ending index (inclusive) of the sublist to be sorted.
+     */
+    @Override
+    public <L extends Comparable> void introSortClassInc(List<L> list, int left, int right) {
+        heapBottomUpInc(list, left, (right + 1));
+    }
+
+    /**
+     * {@inheritDoc}
+     * @param       list The array to be sorted.
+     * @param       left The starting index of the sublist to be sorted.
+     * @param       right The ending index (inclusive) of the sublist to be sorted.
+     */
+    @Override
+    public <L extends Comparable> void introSortClassDec(List<L> list, int left, int right) {
+        heapBottomUpDec(list, left, (right + 1));
+    }
+
+    /**
+     * {@inheritDoc}
+     * @param       list The array to be sorted.
+     * @param       left The starting index of the sublist to be sorted.
+     * @param       right The ending index (inclusive) of the sublist to be sorted.
+     * @param       functional lambda expression for comparison.
+     */
+    @Override
+    public <L extends Comparable> void introSortClass(
+            List<L> list, int left, int right, SortFunctional<Comparable> functional) {
+        heapBottomUp(list, left, (right + 1), functional);
+    }
+}
\ No newline at end of file
@@ -22,6 +22,11 @@ public class IntroPermutation
         extends Permutation
         implements Intro<Comparable> {
 
+    /**
+     * The Insertion Sort of the small ranges finds the place of the elements by binary search.
+     */
+    protected final boolean binaryInsertion;
+
     /**
      * <b>Intro Slow Sort:</b><br>
      * Is a hybrid sorting algorithm that combines the strengths of Quick Sort and Insertion Sort.
@@ -65,7 +70,29 @@ public class IntroPermutation
      * Stability:               <b>No</b>
      * @see         IntroDPQPermutation#IntroDPQPermutation() IntroDPQPermutation
      */
-    public IntroPermutation() {}
+    public IntroPermutation() {
+        this(false);
+    }
+
+    /**
+     * <b>Intro Slow Sort:</b><br>
+     * With binary insertion in the small ranges, if {@code binaryInsertion} is {@code true}.
+     * @param       binaryInsertion the insertions of the small ranges are binary.
+     * @see         IntroPermutation#IntroPermutation() IntroPermutation
+     * @see         Intro#binaryInsertion()
+     */
+    public IntroPermutation(boolean binaryInsertion) {
+        this.binaryInsertion = binaryInsertion;
+    }
+
+    /**
+     * {@inheritDoc}
+     * @return      {@code true} if the insertions of the small ranges are binary.
+     */
+    @Override
+    public boolean binaryInsertion() {
+        return binaryInsertion;
+    }
 
     /**
      * {@inheritDoc}
@@ -131,7 +158,7 @@ public class IntroPermutation
      */
     @Override
     public void introSortClassInc(Comparable[] array, int left, int right) {
-        permutationInc(array, left, right);
+        introSortRange(array, left, right, range -> permutationInc(range));
     }
 
     /**
@@ -142,7 +169,7 @@ public class IntroPermutation
      */
     @Override
     public void introSortClassDec(Comparable[] array, int left, int right) {
-        permutationDec(array, left, right);
+        introSortRange(array, left, right, range -> permutationDec(range));
     }
 
     /**
@@ -154,7 +181,7 @@ public class IntroPermutation
      */
     @Override
     public void introSortClass(Comparable[] array, int left, int right, SortFunctional<Comparable> functional) {
-        permutation(array, left, right, functional);
+        introSortRange(array, left, right, range -> permutation(range, functional));
     }
 
     /**
@@ -165,7 +192,7 @@ public class IntroPermutation
      */
     @Override
     public <L extends Comparable> void introSortClassInc(List<L> list, int left, int right) {
-        permutationInc(list, left, right);
+        introSortRange(list, left, right, range -> permutationInc(range));
     }
 
     /**
@@ -176,7 +203,7 @@ public class IntroPermutation
      */
     @Override
     public <L extends Comparable> void introSortClassDec(List<L> list, int left, int right) {
-        permutationDec(list, left, right);
+        introSortRange(list, left, right, range -> permutationDec(range));
     }
 
     /**
@@ -189,6 +216,6 @@ public class IntroPermutation
     @Override
     public <L extends Comparable> void introSortClass(
             List<L> list, int left, int right, SortFunctional<Comparable> functional) {
-        permutation(list, left, right, functional);
+        introSortRange(list, left, right, range -> permutation(range, functional));
     }
 }
\ No newline at end of file
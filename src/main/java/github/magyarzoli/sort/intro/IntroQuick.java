@@ -2,6 +2,7 @@ package github.magyarzoli.sort.intro;
 
 import java.util.List;
 
+import github.magyarzoli.PivotStrategy;
 import github.magyarzoli.SortFunctional;
 import github.magyarzoli.sort.Quick;
 
@@ -21,6 +22,11 @@ public class IntroQuick
         extends Quick
         implements Intro<Comparable> {
 
+    /**
+     * The Insertion Sort of the small ranges finds the place of the elements by binary search.
+     */
+    protected final boolean binaryInsertion;
+
     /**
      * <b>Intro Quick Sort:</b><br>
      * Is a hybrid sorting algorithm that combines the strengths of Quick Sort and Insertion Sort.
@@ -63,7 +69,54 @@ public class IntroQuick
      * Auxiliary Space:         <em>O(n)</em><br>
      * Stability:               <b>No</b>
      */
-    public IntroQuick() {}
+    public IntroQuick() {
+        this(false);
+    }
+
+    /**
+     * <b>Intro Quick Sort:</b><br>
+     * With binary insertion in the small ranges, if {@code binaryInsertion} is {@code true}.
+     * @param       binaryInsertion the insertions of the small ranges are binary.
+     * @see         IntroQuick#IntroQuick() IntroQuick
+     * @see         Intro#binaryInsertion()
+     */
+    public IntroQuick(boolean binaryInsertion) {
+        this.binaryInsertion = binaryInsertion;
+    }
+
+    /**
+     * <b>Intro Quick Sort:</b><br>
+     * With the pivot selection of the partitions given.
+     * @param       pivotStrategy the pivot selection of the partitions.
+     * @see         IntroQuick#IntroQuick() IntroQuick
+     * @see         PivotStrategy
+     */
+    public IntroQuick(PivotStrategy pivotStrategy) {
+        this(pivotStrategy, false);
+    }
+
+    /**
+     * <b>Intro Quick Sort:</b><br>
+     * With the {@code pivotStrategy}, and binary insertion in the small ranges,
+     * if {@code binaryInsertion} is {@code true}.
+     * @param       pivotStrategy the pivot selection of the partitions.
+     * @param       binaryInsertion the insertions of the small ranges are binary.
+     * @see         IntroQuick#IntroQuick(PivotStrategy) IntroQuick
+     * @see         Intro#binaryInsertion()
+     */
+    public IntroQuick(PivotStrategy pivotStrategy, boolean binaryInsertion) {
+        super(pivotStrategy);
+        this.binaryInsertion = binaryInsertion;
+    }
+
+    /**
+     * {@inheritDoc}
+     * @return      {@code true} if the insertions of the small ranges are binary.
+     */
+    @Override
+    public boolean binaryInsertion() {
+        return binaryInsertion;
+    }
 
     /**
      * {@inheritDoc}
@@ -129,7 +182,7 @@ public class IntroQuick
      */
     @Override
     public void introSortClassInc(Comparable[] array, int left, int right) {
-        quickInc(array, left, (right - 1));
+        quickInc(array, left, right);
     }
 
     /**
@@ -140,7 +193,7 @@ public class IntroQuick
      */
     @Override
     public void introSortClassDec(Comparable[] array, int left, int right) {
-        quickDec(array, left, (right - 1));
+        quickDec(array, left, right);
     }
 
     /**
@@ -152,7 +205,7 @@ public class IntroQuick
      */
     @Override
     public void introSortClass(Comparable[] array, int left, int right, SortFunctional<Comparable> functional) {
-        quick(array, left, (right - 1), functional);
+        quick(array, left, right, functional);
     }
 
     /**
@@ -2,6 +2,7 @@ package github.magyarzoli.sort.intro;
 
 import java.util.List;
 
+import github.magyarzoli.PivotStrategy;
 import github.magyarzoli.SortFunctional;
 import github.magyarzoli.sort.Quick3;
 
@@ -21,6 +22,11 @@ public class IntroQuick3
         extends Quick3
         implements Intro<Comparable> {
 
+    /**
+     * The Insertion Sort of the small ranges finds the place of the elements by binary search.
+     */
+    protected final boolean binaryInsertion;
+
     /**
      * <b>Intro Quick3 Sort:</b><br>
      * Is a hybrid sorting algorithm that combines the strengths of Quick Sort and Insertion Sort.
@@ -63,7 +69,72 @@ public class IntroQuick3
      * Auxiliary Space:         <em>O(n)</em><br>
      * Stability:               <b>No</b>
      */
-    public IntroQuick3() {}
+    public IntroQuick3() {
+        this(PivotStrategy.ADAPTIVE, false, false);
+    }
+
+    /**
+     * <b>Intro Quick3 Sort:</b><br>
+     * With the pivot selection of the partitions given.
+     * @param       pivotStrategy the pivot selection of the partitions.
+     * @see         IntroQuick3#IntroQuick3() IntroQuick3
+     * @see         PivotStrategy
+     */
+    public IntroQuick3(PivotStrategy pivotStrategy) {
+        this(pivotStrategy, false, false);
+    }
+
+    /**
+     * <b>Intro Quick3 Sort:</b><br>
+     * With the Bentley–McIlroy fat partition in the partitions of the Intro Sort and in the Quick3 Sort taking over
+     * at the depth limit, if {@code bentleyMcIlroy} is {@code true}.
+     * @param       bentleyMcIlroy the fat partition is used.
+     * @see         IntroQuick3#IntroQuick3() IntroQuick3
+     * @see         Quick3#Quick3(boolean) Quick3
+     */
+    public IntroQuick3(boolean bentleyMcIlroy) {
+        this(PivotStrategy.ADAPTIVE, bentleyMcIlroy, false);
+    }
+
+    /**
+     * <b>Intro Quick3 Sort:</b><br>
+     * With the pivot selection of the partitions given, and the Bentley–McIlroy fat partition in
+     * the partitions of the Intro Sort and in the Quick3 Sort taking over at the depth limit,
+     * if {@code bentleyMcIlroy} is {@code true}.
+     * @param       pivotStrategy the pivot selection of the partitions.
+     * @param       bentleyMcIlroy the fat partition is used.
+     * @see         IntroQuick3#IntroQuick3(boolean) IntroQuick3
+     * @see         PivotStrategy
+     */
+    public IntroQuick3(PivotStrategy pivotStrategy, boolean bentleyMcIlroy) {
+        this(pivotStrategy, bentleyMcIlroy, false);
+    }
+
+    /**
+     * <b>Intro Quick3 Sort:</b><br>
+     * With the pivot selection of the partitions given, the Bentley–McIlroy fat partition in
+     * the partitions of the Intro Sort and in the Quick3 Sort taking over at the depth limit,
+     * if {@code bentleyMcIlroy} is {@code true},
+     * and binary insertion in the small ranges, if {@code binaryInsertion} is {@code true}.
+     * @param       pivotStrategy the pivot selection of the partitions.
+     * @param       bentleyMcIlroy the fat partition is used.
+     * @param       binaryInsertion the insertions of the small ranges are binary.
+     * @see         IntroQuick3#IntroQuick3(PivotStrategy, boolean) IntroQuick3
+     * @see         Intro#binaryInsertion()
+     */
+    public IntroQuick3(PivotStrategy pivotStrategy, boolean bentleyMcIlroy, boolean binaryInsertion) {
+        super(pivotStrategy, bentleyMcIlroy);
+        this.binaryInsertion = binaryInsertion;
+    }
+
+    /**
+     * {@inheritDoc}
+     * @return      {@code true} if the insertions of the small ranges are binary.
+     */
+    @Override
+    public boolean binaryInsertion() {
+        return binaryInsertion;
+    }
 
     /**
      * {@inheritDoc}
@@ -129,7 +200,7 @@ public class IntroQuick3
      */
     @Override
     public void introSortClassInc(Comparable[] array, int left, int right) {
-        quick3Inc(array, left, (right - 1));
+        quick3Inc(array, left, right);
     }
 
     /**
@@ -140,7 +211,7 @@ public class IntroQuick3
      */
     @Override
     public void introSortClassDec(Comparable[] array, int left, int right) {
-        quick3Dec(array, left, (right - 1));
+        quick3Dec(array, left, right);
     }
 
     /**
@@ -152,7 +223,7 @@ public class IntroQuick3
      */
     @Override
     public void introSortClass(Comparable[] array, int left, int right, SortFunctional<Comparable> functional) {
-        quick3(array, left, (right - 1), functional);
+        quick3(array, left, right, functional);
     }
 
     /**
@@ -189,4 +260,306 @@ public class IntroQuick3
             List<L> list, int left, int right, SortFunctional<Comparable> functional) {
         quick3(list, left, right, functional);
     }
+
+    /**
+     * {@inheritDoc}
+     * If {@code bentleyMcIlroy} is {@code true}, the ranges are partitioned by the Bentley–McIlroy fat partition,
+     * see {@code introFatRecursiveInc}.
+     * @param       array The array to be sorted.
+     * @param       left The starting index of the subarray to be sorted.
+     * @param       right The ending index (inclusive) of the subarray to be sorted.
+     * @param       maxDepth the number of partitions left before the sort switches to the Quick3 Sort.
+     */
+    @Override
+    public void introRecursiveInc(Comparable[] array, int left, int right, int maxDepth) {
+        if (bentleyMcIlroy) {
+            introFatRecursiveInc(array, left, right, maxDepth);
+            return;
+        }
+        Intro.super.introRecursiveInc(array, left, right, maxDepth);
+    }
+
+    /**
+     * {@inheritDoc}
+     * If {@code bentleyMcIlroy} is {@code true}, the ranges are partitioned by the Bentley–McIlroy fat partition,
+     * see {@code introFatRecursiveDec}.
+     * @param       array The array to be sorted.
+     * @param       left The starting index of the subarray to be sorted.
+     * @param       right The ending index (inclusive) of the subarray to be sorted.
+     * @param       maxDepth the number of partitions left before the sort switches to the Quick3 Sort.
+     */
+    @Override
+    public void introRecursiveDec(Comparable[] array, int left, int right, int maxDepth) {
+        if (bentleyMcIlroy) {
+            introFatRecursiveDec(array, left, right, maxDepth);
+            return;
+        }
+        Intro.super.introRecursiveDec(array, left, right, maxDepth);
+    }
+
+    /**
+     * {@inheritDoc}
+     * If {@code bentleyMcIlroy} is {@code true}, the ranges are partitioned by the Bentley–McIlroy fat partition,
+     * see {@code introFatRecursive}.
+     * @param       array The array to be sorted.
+     * @param       left The starting index of the subarray to be sorted.
+     * @param       right The ending index (inclusive) of the subarray to be sorted.
+     * @param       maxDepth the number of partitions left before the sort switches to the Quick3 Sort.
+     * @param       functional lambda expression for comparison.
+     */
+    @Override
+    public void introRecursive(
+            Comparable[] array, int left, int right, int maxDepth, SortFunctional<Comparable> functional) {
+        if (bentleyMcIlroy) {
+            introFatRecursive(array, left, right, maxDepth, functional);
+            return;
+        }
+        Intro.super.introRecursive(array, left, right, maxDepth, functional);
+    }
+
+    /**
+     * {@inheritDoc}
+     * If {@code bentleyMcIlroy} is {@code true}, the ranges are partitioned by the Bentley–McIlroy fat partition,
+     * see {@code introFatRecursiveInc}.
+     * @param       list The list to be sorted.
+     * @param       left The starting index of the sublist to be sorted.
+     * @param       right The ending index (inclusive) of the sublist to be sorted.
+     * @param       maxDepth the number of partitions left before the sort switches to the Quick3 Sort.
+     */
+    @Override
+    public <L extends Comparable> void introRecursiveInc(List<L> list, int left, int right, int maxDepth) {
+        if (bentleyMcIlroy) {
+            introFatRecursiveInc(list, left, right, maxDepth);
+            return;
+        }
+        Intro.super.introRecursiveInc(list, left, right, maxDepth);
+    }
+
+    /**
+     * {@inheritDoc}
+     * If {@code bentleyMcIlroy} is {@code true}, the ranges are partitioned by the Bentley–McIlroy fat partition,
+     * see {@code introFatRecursiveDec}.
+     * @param       list The list to be sorted.
+     * @param       left The starting index of the sublist to be sorted.
+     * @param       right The ending index (inclusive) of the sublist to be sorted.
+     * @param       maxDepth the number of partitions left before the sort switches to the Quick3 Sort.
+     */
+    @Override
+    public <L extends Comparable> void introRecursiveDec(List<L> list, int left, int right, int maxDepth) {
+        if (bentleyMcIlroy) {
+            introFatRecursiveDec(list, left, right, maxDepth);
+            return;
+        }
+        Intro.super.introRecursiveDec(list, left, right, maxDepth);
+    }
+
+    /**
+     * {@inheritDoc}
+     * If {@code bentleyMcIlroy} is {@code true}, the ranges are partitioned by the Bentley–McIlroy fat partition,
+     * see {@code introFatRecursive}.
+     * @param       list The list to be sorted.
+     * @param       left The starting index of the sublist to be sorted.
+     * @param       right The ending index (inclusive) of the sublist to be sorted.
+     * @param       maxDepth the number of partitions left before the sort switches to the Quick3 Sort.
+     * @param       functional lambda expression for comparison.
+     */
+    @Override
+    public <L extends Comparable> void introRecursive(
+            List<L> list, int left, int right, int maxDepth, SortFunctional<Comparable> functional) {
+        if (bentleyMcIlroy) {
+            introFatRecursive(list, left, right, maxDepth, functional);
+            return;
+        }
+        Intro.super.introRecursive(list, left, right, maxDepth, functional);
+    }
+
+    /**
+     * {@code introFatRecursiveInc} is the Intro Sort of the array in ascending order,
+     * with the Bentley–McIlroy fat partition.
+     * <ul>
+     *     <li>A range longer than {@code INTRO_SIZE} is partitioned by {@code partitionFatInc},
+     *     the elements equal to the pivot are collected in the middle,
+     *     and only the smaller and the greater elements are sorted further.</li>
+     *     <li>At the depth limit the range is handed to {@code introSortClassInc}, the Quick3 Sort.</li>
+     *     <li>A short range is sorted by {@code insertionInc}.</li>
+     * </ul>
+     * An input of few distinct keys is arranged in <em>O(n log(k))</em>, the equal keys take part in one partition.
+     * @param       array The array to be sorted.
+     * @param       left The starting index of the subarray to be sorted.
+     * @param       right The ending index (inclusive) of the subarray to be sorted.
+     * @param       maxDepth the number of partitions left before the sort switches to the Quick3 Sort.
+     * @see         github.magyarzoli.QuickInterface#partitionFatInc(Comparable[], int, int)
+     */
+    protected void introFatRecursiveInc(Comparable[] array, int left, int right, int maxDepth) {
+        if ((right - left) > INTRO_SIZE) {
+            if (maxDepth == 0) {
+                introSortClassInc(array, left, right);
+                return;
+            }
+            int[] equals = partitionFatInc(array, left, right);
+            introRecursiveInc(array, left, (equals[0] - 1), (maxDepth - 1));
+            introRecursiveInc(array, (equals[1] + 1), right, (maxDepth - 1));
+        } else {
+            insertionInc(array, left, right);
+        }
+    }
+
+    /**
+     * {@code introFatRecursiveDec} is the Intro Sort of the array in descending order,
+     * with the Bentley–McIlroy fat partition.
+     * <ul>
+     *     <li>A range longer than {@code INTRO_SIZE} is partitioned by {@code partitionFatDec},
+     *     the elements equal to the pivot are collected in the middle,
+     *     and only the smaller and the greater elements are sorted further.</li>
+     *     <li>At the depth limit the range is handed to {@code introSortClassDec}, the Quick3 Sort.</li>
+     *     <li>A short range is sorted by {@code insertionDec}.</li>
+     * </ul>
+     * An input of few distinct keys is arranged in <em>O(n log(k))</em>, the equal keys take part in one partition.
+     * @param       array The array to be sorted.
+     * @param       left The starting index of the subarray to be sorted.
+     * @param       right The ending index (inclusive) of the subarray to be sorted.
+     * @param       maxDepth the number of partitions left before the sort switches to the Quick3 Sort.
+     * @see         github.magyarzoli.QuickInterface#partitionFatDec(Comparable[], int, int)
+     */
+    protected void introFatRecursiveDec(Comparable[] array, int left, int right, int maxDepth) {
+        if ((right - left) > INTRO_SIZE) {
+            if (maxDepth == 0) {
+                introSortClassDec(array, left, right);
+                return;
+            }
+            int[] equals = partitionFatDec(array, left, right);
+            introRecursiveDec(array, left, (equals[0] - 1), (maxDepth - 1));
+            introRecursiveDec(array, (equals[1] + 1), right, (maxDepth - 1));
+        } else {
+            insertionDec(array, left, right);
+        }
+    }
+
+    /**
+     * {@code introFatRecursive} is the Intro Sort of the array in the order of the {@code functional},
+     * with the Bentley–McIlroy fat partition.
+     * <ul>
+     *     <li>A range longer than {@code INTRO_SIZE} is partitioned by {@code partitionFat},
+     *     the elements equal to the pivot are collected in the middle,
+     *     and only the smaller and the greater elements are sorted further.</li>
+     *     <li>At the depth limit the range is handed to {@code introSortClass}, the Quick3 Sort.</li>
+     *     <li>A short range is sorted by {@code insertion}.</li>
+     * </ul>
+     * An input of few distinct keys is arranged in <em>O(n log(k))</em>, the equal keys take part in one partition.
+     * @param       array The array to be sorted.
+     * @param       left The starting index of the subarray to be sorted.
+     * @param       right The ending index (inclusive) of the subarray to be sorted.
+     * @param       maxDepth the number of partitions left before the sort switches to the Quick3 Sort.
+     * @param       functional lambda expression for comparison.
+     * @see         github.magyarzoli.QuickInterface#partitionFat(Comparable[], int, int, SortFunctional)
+     */
+    protected void introFatRecursive(
+            Comparable[] array, int left, int right, int maxDepth, SortFunctional<Comparable> functional) {
+        if ((right - left) > INTRO_SIZE) {
+            if (maxDepth == 0) {
+                introSortClass(array, left, right, functional);
+                return;
+            }
+            int[] equals = partitionFat(array, left, right, functional);
+            introRecursive(array, left, (equals[0] - 1), (maxDepth - 1), functional);
+            introRecursive(array, (equals[1] + 1), right, (maxDepth - 1), functional);
+        } else {
+            insertion(array, left, right, functional);
+        }
+    }
+
+    /**
+     * {@code introFatRecursiveInc} is the Intro Sort of the list in ascending order,
+     * with the Bentley–McIlroy fat partition.
+     * <ul>
+     *     <li>A range longer than {@code INTRO_SIZE} is partitioned by {@code partitionFatInc},
+     *     the elements equal to the pivot are collected in the middle,
+     *     and only the smaller and the greater elements are sorted further.</li>
+     *     <li>At the depth limit the range is handed to {@code introSortClassInc}, the Quick3 Sort.</li>
+     *     <li>A short range is sorted by {@code insertionInc}.</li>
+     * </ul>
+     * An input of few distinct keys is arranged in <em>O(n log(k))</em>, the equal keys take part in one partition.
+     * @param       list The list to be sorted.
+     * @param       left The starting index of the sublist to be sorted.
+     * @param       right The ending index (inclusive) of the sublist to be sorted.
+     * @param       maxDepth the number of partitions left before the sort switches to the Quick3 Sort.
+     * @see         github.magyarzoli.QuickInterface#partitionFatInc(List, int, int)
+     */
+    protected <L extends Comparable> void introFatRecursiveInc(List<L> list, int left, int right, int maxDepth) {
+        if ((right - left) > INTRO_SIZE) {
+            if (maxDepth == 0) {
+                introSortClassInc(list, left, right);
+                return;
+            }
+            int[] equals = partitionFatInc(list, left, right);
+            introRecursiveInc(list, left, (equals[0] - 1), (maxDepth - 1));
+            introRecursiveInc(list, (equals[1] + 1), right, (maxDepth - 1));
+        } else {
+            insertionInc(list, left, right);
+        }
+    }
+
+    /**
+     * {@code introFatRecursiveDec} is the Intro Sort of the list in descending order,
+     * with the Bentley–McIlroy fat partition.
+     * <ul>
+     *     <li>A range longer than {@code INTRO_SIZE} is partitioned by {@code partitionFatDec},
+     *     the elements equal to the pivot are collected in the middle,
+     *     and only the smaller and the greater elements are sorted further.</li>
+     *     <li>At the depth limit the range is handed to {@code introSortClassDec}, the Quick3 Sort.</li>
+     *     <li>A short range is sorted by {@code insertionDec}.</li>
+     * </ul>
+     * An input of few distinct keys is arranged in <em>O(n log(k))</em>, the equal keys take part in one partition.
+     * @param       list The list to be sorted.
+     * @param       left The starting index of the sublist to be sorted.
+     * @param       right The ending index (inclusive) of the sublist to be sorted.
+     * @param       maxDepth the number of partitions left before the sort switches to the Quick3 Sort.
+     * @see         github.magyarzoli.QuickInterface#partitionFatDec(List, int, int)
+     */
+    protected <L extends Comparable> void introFatRecursiveDec(List<L> list, int left, int right, int maxDepth) {
+        if ((right - left) > INTRO_SIZE) {
+            if (maxDepth == 0) {
+                introSortClassDec(list, left, right);
+                return;
+            }
+            int[] equals = partitionFatDec(list, left, right);
+            introRecursiveDec(list, left, (equals[0] - 1), (maxDepth - 1));
+            introRecursiveDec(list, (equals[1] + 1), right, (maxDepth - 1));
+        } else {
+            insertionDec(list, left, right);
+        }
+    }
+
+    /**
+     * {@code introFatRecursive} is the Intro Sort of the list in the order of the {@code functional},
+     * with the Bentley–McIlroy fat partition.
+     * <ul>
+     *     <li>A range longer than {@code INTRO_SIZE} is partitioned by {@code partitionFat},
+     *     the elements equal to the pivot are collected in the middle,
+     *     and only the smaller and the greater elements are sorted further.</li>
+     *     <li>At the depth limit the range is handed to {@code introSortClass}, the Quick3 Sort.</li>
+     *     <li>A short range is sorted by {@code insertion}.</li>
+     * </ul>
+     * An input of few distinct keys is arranged in <em>O(n log(k))</em>, the equal keys take part in one partition.
+     * @param       list The list to be sorted.
+     * @param       left The starting index of the sublist to be sorted.
+     * @param       right The ending index (inclusive) of the sublist to be sorted.
+     * @param       maxDepth the number of partitions left before the sort switches to the Quick3 Sort.
+     * @param       functional lambda expression for comparison.
+     * @see         github.magyarzoli.QuickInterface#partitionFat(List, int, int, SortFunctional)
+     */
+    protected <L extends Comparable> void introFatRecursive(
+            List<L> list, int left, int right, int maxDepth, SortFunctional<Comparable> functional) {
+        if ((right - left) > INTRO_SIZE) {
+            if (maxDepth == 0) {
+                introSortClass(list, left, right, functional);
+                return;
+            }
+            int[] equals = partitionFat(list, left, right, functional);
+            introRecursive(list, left, (equals[0] - 1), (maxDepth - 1), functional);
+            introRecursive(list, (equals[1] + 1), right, (maxDepth - 1), functional);
+        } else {
+            insertion(list, left, right, functional);
+        }
+    }
 }
\ No newline at end of file
@@ -22,6 +22,11 @@ public class IntroSelection
         extends Selection
         implements Intro<Comparable> {
 
+    /**
+     * The Insertion Sort of the small ranges finds the place of the elements by binary search.
+     */
+    protected final boolean binaryInsertion;
+
     /**
      * <b>Intro Selection Sort:</b><br>
      * Is a hybrid sorting algorithm that combines the strengths of Quick Sort and Insertion Sort.
@@ -64,7 +69,43 @@ public class IntroSelection
      * Auxiliary Space:         <em>O(n)</em><br>
      * Stability:               <b>No</b>
      */
-    public IntroSelection() {}
+    public IntroSelection() {
+        this(false, false);
+    }
+
+    /**
+     * <b>Intro Selection Sort:</b><br>
+     * With the Tournament Sort taking over at the depth limit, if {@code tournament} is {@code true}.
+     * @param       tournament the selections are played as a tournament.
+     * @see         IntroSelection#IntroSelection() IntroSelection
+     * @see         Selection#Selection(boolean) Selection
+     */
+    public IntroSelection(boolean tournament) {
+        this(tournament, false);
+    }
+
+    /**
+     * <b>Intro Selection Sort:</b><br>
+     * With the Tournament Sort taking over at the depth limit, if {@code tournament} is {@code true},
+     * and binary insertion in the small ranges, if {@code binaryInsertion} is {@code true}.
+     * @param       tournament the selections are played as a tournament.
+     * @param       binaryInsertion the insertions of the small ranges are binary.
+     * @see         IntroSelection#IntroSelection(boolean) IntroSelection
+     * @see         Intro#binaryInsertion()
+     */
+    public IntroSelection(boolean tournament, boolean binaryInsertion) {
+        super(tournament);
+        this.binaryInsertion = binaryInsertion;
+    }
+
+    /**
+     * {@inheritDoc}
+     * @return      {@code true} if the insertions of the small ranges are binary.
+     */
+    @Override
+    public boolean binaryInsertion() {
+        return binaryInsertion;
+    }
 
     /**
      * {@inheritDoc}
@@ -130,7 +171,7 @@ public class IntroSelection
      */
     @Override
     public void introSortClassInc(Comparable[] array, int left, int right) {
-        selectionInc(array, left, right);
+        introSortRange(array, left, right, range -> selectionInc(range));
     }
 
     /**
@@ -141,7 +182,7 @@ public class IntroSelection
      */
     @Override
     public void introSortClassDec(Comparable[] array, int left, int right) {
-        selectionDec(array, left, right);
+        introSortRange(array, left, right, range -> selectionDec(range));
     }
 
     /**
@@ -153,7 +194,7 @@ public class IntroSelection
      */
     @Override
     public void introSortClass(Comparable[] array, int left, int right, SortFunctional<Comparable> functional) {
-        selection(array, left, right, functional);
+        introSortRange(array, left, right, range -> selection(range, functional));
     }
 
     /**
@@ -164,7 +205,7 @@ public class IntroSelection
      */
     @Override
     public <L extends Comparable> void introSortClassInc(List<L> list, int left, int right) {
-        selectionInc(list, left, right);
+        introSortRange(list, left, right, range -> selectionInc(range));
     }
 
     /**
@@ -175,7 +216,7 @@ public class IntroSelection
      */
     @Override
     public <L extends Comparable> void introSortClassDec(List<L> list, int left, int right) {
-        selectionDec(list, left, right);
+        introSortRange(list, left, right, range -> selectionDec(range));
     }
 
     /**
@@ -188,6 +229,6 @@ public class IntroSelection
     @Override
     public <L extends Comparable> void introSortClass(
             List<L> list, int left, int right, SortFunctional<Comparable> functional) {
-        selection(list, left, right, functional);
+        introSortRange(list, left, right, range -> selection(range, functional));
     }
 }
\ No newline at end of file
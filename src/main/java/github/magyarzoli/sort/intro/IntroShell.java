@@ -1,5 +1,6 @@
 package github.magyarzoli.sort.intro;
 
+import github.magyarzoli.GapSequence;
 import github.magyarzoli.SortFunctional;
 import github.magyarzoli.sort.Shell;
 import github.magyarzoli.sort.intro.introDPQ.IntroDPQShell;
@@ -23,6 +24,11 @@ public class IntroShell
         extends Shell
         implements Intro<Comparable> {
 
+    /**
+     * The Insertion Sort of the small ranges finds the place of the elements by binary search.
+     */
+    protected final boolean binaryInsertion;
+
     /**
      * <b>Intro Insertion Sort:</b><br>
      * Is a hybrid sorting algorithm that combines the strengths of Quick Sort and Insertion Sort.
@@ -66,7 +72,53 @@ public class IntroShell
      * Stability:               <b>No</b>
      * @see         IntroDPQShell#IntroDPQShell() IntroDPQShell
      */
-    public IntroShell() {}
+    public IntroShell() {
+        this(false);
+    }
+
+    /**
+     * <b>Intro Insertion Sort:</b><br>
+     * With binary insertion in the small ranges, if {@code binaryInsertion} is {@code true}.
+     * @param       binaryInsertion the insertions of the small ranges are binary.
+     * @see         IntroShell#IntroShell() IntroShell
+     * @see         Intro#binaryInsertion()
+     */
+    public IntroShell(boolean binaryInsertion) {
+        this.binaryInsertion = binaryInsertion;
+    }
+
+    /**
+     * <b>Intro Shell Sort:</b><br>
+     * With the gap sequence of the Shell Sort fallback given.
+     * @param       gapSequence the gap sequence of the Shell Sort passes.
+     * @see         IntroShell#IntroShell() IntroShell
+     */
+    public IntroShell(GapSequence gapSequence) {
+        this(gapSequence, false);
+    }
+
+    /**
+     * <b>Intro Insertion Sort:</b><br>
+     * With the {@code gapSequence}, and binary insertion in the small ranges,
+     * if {@code binaryInsertion} is {@code true}.
+     * @param       gapSequence the gap sequence of the Shell Sort passes.
+     * @param       binaryInsertion the insertions of the small ranges are binary.
+     * @see         IntroShell#IntroShell(GapSequence) IntroShell
+     * @see         Intro#binaryInsertion()
+     */
+    public IntroShell(GapSequence gapSequence, boolean binaryInsertion) {
+        super(gapSequence);
+        this.binaryInsertion = binaryInsertion;
+    }
+
+    /**
+     * {@inheritDoc}
+     * @return      {@code true} if the insertions of the small ranges are binary.
+     */
+    @Override
+    public boolean binaryInsertion() {
+        return binaryInsertion;
+    }
 
     /**
      * {@inheritDoc}
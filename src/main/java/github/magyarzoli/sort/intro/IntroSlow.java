@@ -2,6 +2,7 @@ package github.magyarzoli.sort.intro;
 
 import java.util.List;
 
+import github.magyarzoli.PivotStrategy;
 import github.magyarzoli.SortFunctional;
 import github.magyarzoli.sort.intro.introDPQ.IntroDPQSlow;
 import github.magyarzoli.sort.Slow;
@@ -23,6 +24,11 @@ public class IntroSlow
         extends Slow
         implements Intro<Comparable> {
 
+    /**
+     * The Insertion Sort of the small ranges finds the place of the elements by binary search.
+     */
+    protected final boolean binaryInsertion;
+
     /**
      * <b>Intro Slow Sort:</b><br>
      * Is a hybrid sorting algorithm that combines the strengths of Quick Sort and Insertion Sort.
@@ -66,7 +72,54 @@ public class IntroSlow
      * Stability:               <b>No</b>
      * @see         IntroDPQSlow#IntroDPQSlow() IntroDPQSlow
      */
-    public IntroSlow() {}
+    public IntroSlow() {
+        this(false);
+    }
+
+    /**
+     * <b>Intro Slow Sort:</b><br>
+     * With binary insertion in the small ranges, if {@code binaryInsertion} is {@code true}.
+     * @param       binaryInsertion the insertions of the small ranges are binary.
+     * @see         IntroSlow#IntroSlow() IntroSlow
+     * @see         Intro#binaryInsertion()
+     */
+    public IntroSlow(boolean binaryInsertion) {
+        this.binaryInsertion = binaryInsertion;
+    }
+
+    /**
+     * <b>Intro Slow Sort:</b><br>
+     * With the pivot selection of the partitions given.
+     * @param       pivotStrategy the pivot selection of the partitions.
+     * @see         IntroSlow#IntroSlow() IntroSlow
+     * @see         PivotStrategy
+     */
+    public IntroSlow(PivotStrategy pivotStrategy) {
+        this(pivotStrategy, false);
+    }
+
+    /**
+     * <b>Intro Slow Sort:</b><br>
+     * With the {@code pivotStrategy}, and binary insertion in the small ranges,
+     * if {@code binaryInsertion} is {@code true}.
+     * @param       pivotStrategy the pivot selection of the partitions.
+     * @param       binaryInsertion the insertions of the small ranges are binary.
+     * @see         IntroSlow#IntroSlow(PivotStrategy) IntroSlow
+     * @see         Intro#binaryInsertion()
+     */
+    public IntroSlow(PivotStrategy pivotStrategy, boolean binaryInsertion) {
+        super(pivotStrategy);
+        this.binaryInsertion = binaryInsertion;
+    }
+
+    /**
+     * {@inheritDoc}
+     * @return      {@code true} if the insertions of the small ranges are binary.
+     */
+    @Override
+    public boolean binaryInsertion() {
+        return binaryInsertion;
+    }
 
     /**
      * {@inheritDoc}
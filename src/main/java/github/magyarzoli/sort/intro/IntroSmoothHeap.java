@@ -22,6 +22,11 @@ public class IntroSmoothHeap
         extends SmoothHeap
         implements Intro<Comparable> {
 
+    /**
+     * The Insertion Sort of the small ranges finds the place of the elements by binary search.
+     */
+    protected final boolean binaryInsertion;
+
     /**
      * <b>Intro Smooth Heap Sort:</b><br>
      * Is a hybrid sorting algorithm that combines the strengths of Quick Sort and Insertion Sort.
@@ -64,7 +69,29 @@ public class IntroSmoothHeap
      * Auxiliary Space:         <em>O(n)</em><br>
      * Stability:               <b>No</b>
      */
-    public IntroSmoothHeap() {}
+    public IntroSmoothHeap() {
+        this(false);
+    }
+
+    /**
+     * <b>Intro Smooth Heap Sort:</b><br>
+     * With binary insertion in the small ranges, if {@code binaryInsertion} is {@code true}.
+     * @param       binaryInsertion the insertions of the small ranges are binary.
+     * @see         IntroSmoothHeap#IntroSmoothHeap() IntroSmoothHeap
+     * @see         Intro#binaryInsertion()
+     */
+    public IntroSmoothHeap(boolean binaryInsertion) {
+        this.binaryInsertion = binaryInsertion;
+    }
+
+    /**
+     * {@inheritDoc}
+     * @return      {@code true} if the insertions of the small ranges are binary.
+     */
+    @Override
+    public boolean binaryInsertion() {
+        return binaryInsertion;
+    }
 
     /**
      * {@inheritDoc}
@@ -130,7 +157,7 @@ public class IntroSmoothHeap
      */
     @Override
     public void introSortClassInc(Comparable[] array, int left, int right) {
-        smoothInc(array, left, right);
+        smoothInc(array, left, (right + 1));
     }
 
     /**
@@ -141,7 +168,7 @@ public class IntroSmoothHeap
      */
     @Override
     public void introSortClassDec(Comparable[] array, int left, int right) {
-        smoothDec(array, left, right);
+        smoothDec(array, left, (right + 1));
     }
 
     /**
@@ -153,7 +180,7 @@ public class IntroSmoothHeap
      */
     @Override
     public void introSortClass(Comparable[] array, int left, int right, SortFunctional<Comparable> functional) {
-        smooth(array, left, right, functional);
+        smooth(array, left, (right + 1), functional);
     }
 
     /**
@@ -164,7 +191,7 @@ public class IntroSmoothHeap
      */
     @Override
     public <L extends Comparable> void introSortClassInc(List<L> list, int left, int right) {
-        smoothInc(list, left, right);
+        smoothInc(list, left, (right + 1));
     }
 
     /**
@@ -175,7 +202,7 @@ public class IntroSmoothHeap
      */
     @Override
     public <L extends Comparable> void introSortClassDec(List<L> list, int left, int right) {
-        smoothInc(list, left, right);
+        smoothDec(list, left, (right + 1));
     }
 
     /**
@@ -188,6 +215,6 @@ public class IntroSmoothHeap
     @Override
     public <L extends Comparable> void introSortClass(
             List<L> list, int left, int right, SortFunctional<Comparable> functional) {
-        smooth(list, left, right, functional);
+        smooth(list, left, (right + 1), functional);
     }
 }
\ No newline at end of file
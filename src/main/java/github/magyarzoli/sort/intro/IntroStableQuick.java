@@ -21,6 +21,11 @@ public class IntroStableQuick
         extends StableQuick
         implements Intro<Comparable> {
 
+    /**
+     * The Insertion Sort of the small ranges finds the place of the elements by binary search.
+     */
+    protected final boolean binaryInsertion;
+
     /**
      * <b>Intro Stable Quick Sort:</b><br>
      * Is a hybrid sorting algorithm that combines the strengths of Quick Sort and Insertion Sort.
@@ -63,7 +68,55 @@ public class IntroStableQuick
      * Auxiliary Space:         <em>O(n)</em><br>
      * Stability:               <b>No</b>
      */
-    public IntroStableQuick() {}
+    public IntroStableQuick() {
+        this(false);
+    }
+
+    /**
+     * <b>Intro Stable Quick Sort:</b><br>
+     * With binary insertion in the small ranges, if {@code binaryInsertion} is {@code true}.
+     * @param       binaryInsertion the insertions of the small ranges are binary.
+     * @see         IntroStableQuick#IntroStableQuick() IntroStableQuick
+     * @see         Intro#binaryInsertion()
+     */
+    public IntroStableQuick(boolean binaryInsertion) {
+        this.binaryInsertion = binaryInsertion;
+    }
+
+    /**
+     * <b>Intro Stable Quick Sort:</b><br>
+     * With the Stable Quick Sort on {@code parallelism} worker threads.
+     * @param       parallelism the number of worker threads, <i>1</i> sorts on the calling thread.
+     * @throws      IllegalArgumentException if the {@code parallelism} is not positive.
+     * @see         IntroStableQuick#IntroStableQuick() IntroStableQuick
+     * @see         StableQuick#StableQuick(int) StableQuick
+     */
+    public IntroStableQuick(int parallelism) {
+        this(parallelism, false);
+    }
+
+    /**
+     * <b>Intro Stable Quick Sort:</b><br>
+     * With the {@code parallelism}, and binary insertion in the small ranges,
+     * if {@code binaryInsertion} is {@code true}.
+     * @param       parallelism the number of worker threads, <i>1</i> sorts on the calling thread.
+     * @param       binaryInsertion the insertions of the small ranges are binary.
+     * @see         IntroStableQuick#IntroStableQuick(int) IntroStableQuick
+     * @see         Intro#binaryInsertion()
+     */
+    public IntroStableQuick(int parallelism, boolean binaryInsertion) {
+        super(parallelism);
+        this.binaryInsertion = binaryInsertion;
+    }
+
+    /**
+     * {@inheritDoc}
+     * @return      {@code true} if the insertions of the small ranges are binary.
+     */
+    @Override
+    public boolean binaryInsertion() {
+        return binaryInsertion;
+    }
 
     /**
      * {@inheritDoc}
@@ -129,7 +182,7 @@ public class IntroStableQuick
      */
     @Override
     public void introSortClassInc(Comparable[] array, int left, int right) {
-        stableQuickInc(array, left, right);
+        introSortRange(array, left, right, range -> stableQuickInc(range));
     }
 
     /**
@@ -140,7 +193,7 @@ public class IntroStableQuick
      */
     @Override
     public void introSortClassDec(Comparable[] array, int left, int right) {
-        stableQuickDec(array, left, right);
+        introSortRange(array, left, right, range -> stableQuickDec(range));
     }
 
     /**
@@ -152,7 +205,7 @@ public class IntroStableQuick
      */
     @Override
     public void introSortClass(Comparable[] array, int left, int right, SortFunctional<Comparable> functional) {
-        stableQuick(array, left, right, functional);
+        introSortRange(array, left, right, range -> stableQuick(range, functional));
     }
 
     /**
@@ -163,7 +216,7 @@ public class IntroStableQuick
      */
     @Override
     public <L extends Comparable> void introSortClassInc(List<L> list, int left, int right) {
-        stableQuickInc(list, left, right);
+        introSortRange(list, left, right, range -> stableQuickInc(range));
     }
 
     /**
@@ -174,7 +227,7 @@ public class IntroStableQuick
      */
     @Override
     public <L extends Comparable> void introSortClassDec(List<L> list, int left, int right) {
-        stableQuickDec(list, left, right);
+        introSortRange(list, left, right, range -> stableQuickDec(range));
     }
 
     /**
@@ -187,6 +240,6 @@ public class IntroStableQuick
     @Override
     public <L extends Comparable> void introSortClass(
             List<L> list, int left, int right, SortFunctional<Comparable> functional) {
-        stableQuick(list, left, right, functional);
+        introSortRange(list, left, right, range -> stableQuick(range, functional));
     }
 }
\ No newline at end of file
@@ -23,6 +23,11 @@ public class IntroStooge
         extends Stooge
         implements Intro<Comparable> {
 
+    /**
+     * The Insertion Sort of the small ranges finds the place of the elements by binary search.
+     */
+    protected final boolean binaryInsertion;
+
     /**
      * <b>Intro Slow Sort:</b><br>
      * Is a hybrid sorting algorithm that combines the strengths of Quick Sort and Insertion Sort.
@@ -66,7 +71,29 @@ public class IntroStooge
      * Stability:               <b>No</b>
      * @see         IntroDPQStooge#IntroDPQStooge() IntroDPQStooge
      */
-    public IntroStooge() {}
+    public IntroStooge() {
+        this(false);
+    }
+
+    /**
+     * <b>Intro Slow Sort:</b><br>
+     * With binary insertion in the small ranges, if {@code binaryInsertion} is {@code true}.
+     * @param       binaryInsertion the insertions of the small ranges are binary.
+     * @see         IntroStooge#IntroStooge() IntroStooge
+     * @see         Intro#binaryInsertion()
+     */
+    public IntroStooge(boolean binaryInsertion) {
+        this.binaryInsertion = binaryInsertion;
+    }
+
+    /**
+     * {@inheritDoc}
+     * @return      {@code true} if the insertions of the small ranges are binary.
+     */
+    @Override
+    public boolean binaryInsertion() {
+        return binaryInsertion;
+    }
 
     /**
      * {@inheritDoc}
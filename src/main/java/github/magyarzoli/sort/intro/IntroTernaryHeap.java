@@ -22,6 +22,11 @@ public class IntroTernaryHeap
         extends TernaryHeap
         implements Intro<Comparable> {
 
+    /**
+     * The Insertion Sort of the small ranges finds the place of the elements by binary search.
+     */
+    protected final boolean binaryInsertion;
+
     /**
      * <b>Intro Ternary Heap Sort:</b><br>
      * Is a hybrid sorting algorithm that combines the strengths of Quick Sort and Insertion Sort.
@@ -64,7 +69,29 @@ public class IntroTernaryHeap
      * Auxiliary Space:         <em>O(n)</em><br>
      * Stability:               <b>No</b>
      */
-    public IntroTernaryHeap() {}
+    public IntroTernaryHeap() {
+        this(false);
+    }
+
+    /**
+     * <b>Intro Ternary Heap Sort:</b><br>
+     * With binary insertion in the small ranges, if {@code binaryInsertion} is {@code true}.
+     * @param       binaryInsertion the insertions of the small ranges are binary.
+     * @see         IntroTernaryHeap#IntroTernaryHeap() IntroTernaryHeap
+     * @see         Intro#binaryInsertion()
+     */
+    public IntroTernaryHeap(boolean binaryInsertion) {
+        this.binaryInsertion = binaryInsertion;
+    }
+
+    /**
+     * {@inheritDoc}
+     * @return      {@code true} if the insertions of the small ranges are binary.
+     */
+    @Override
+    public boolean binaryInsertion() {
+        return binaryInsertion;
+    }
 
     /**
      * {@inheritDoc}
@@ -130,7 +157,7 @@ public class IntroTernaryHeap
      */
     @Override
     public void introSortClassInc(Comparable[] array, int left, int right) {
-        heapInc(array, left, right);
+        introSortRange(array, left, right, range -> heapInc(range));
     }
 
     /**
@@ -141,7 +168,7 @@ public class IntroTernaryHeap
      */
     @Override
     public void introSortClassDec(Comparable[] array, int left, int right) {
-        heapDec(array, left, right);
+        introSortRange(array, left, right, range -> heapDec(range));
     }
 
     /**
@@ -153,7 +180,7 @@ public class IntroTernaryHeap
      */
     @Override
     public void introSortClass(Comparable[] array, int left, int right, SortFunctional<Comparable> functional) {
-        heap(array, left, right, functional);
+        introSortRange(array, left, right, range -> heap(range, functional));
     }
 
     /**
@@ -164,7 +191,7 @@ public class IntroTernaryHeap
      */
     @Override
     public <L extends Comparable> void introSortClassInc(List<L> list, int left, int right) {
-        heapInc(list, left, right);
+        introSortRange(list, left, right, range -> heapInc(range));
     }
 
     /**
@@ -175,7 +202,7 @@ public class IntroTernaryHeap
      */
     @Override
     public <L extends Comparable> void introSortClassDec(List<L> list, int left, int right) {
-        heapDec(list, left, right);
+        introSortRange(list, left, right, range -> heapDec(range));
     }
 
     /**
@@ -188,6 +215,6 @@ public class IntroTernaryHeap
     @Override
     public <L extends Comparable> void introSortClass(
             List<L> list, int left, int right, SortFunctional<Comparable> functional) {
-        heap(list, left, right, functional);
+        introSortRange(list, left, right, range -> heap(range, functional));
     }
 }
\ No newline at end of file
@@ -66,6 +66,18 @@ public class IntroTim
      */
     public IntroTim() {}
 
+    /**
+     * <b>Intro Tim Sort:</b><br>
+     * With binary insertion in the small ranges and in the Tim Sort taking over at the depth limit,
+     * if {@code binaryInsertion} is {@code true}.
+     * @param       binaryInsertion the insertions are binary.
+     * @see         IntroTim#IntroTim() IntroTim
+     * @see         Tim#Tim(boolean) Tim
+     */
+    public IntroTim(boolean binaryInsertion) {
+        super(binaryInsertion);
+    }
+
     /**
      * {@inheritDoc}
      * @param       array to be arranged.
@@ -130,7 +142,7 @@ public class IntroTim
      */
     @Override
     public void introSortClassInc(Comparable[] array, int left, int right) {
-        timInc(array, left, right);
+        introSortRange(array, left, right, range -> timInc(range));
     }
 
     /**
@@ -141,7 +153,7 @@ public class IntroTim
      */
     @Override
     public void introSortClassDec(Comparable[] array, int left, int right) {
-        timDec(array, left, right);
+        introSortRange(array, left, right, range -> timDec(range));
     }
 
     /**
@@ -153,7 +165,7 @@ public class IntroTim
      */
     @Override
     public void introSortClass(Comparable[] array, int left, int right, SortFunctional<Comparable> functional) {
-        tim(array, left, right, functional);
+        introSortRange(array, left, right, range -> tim(range, functional));
     }
 
     /**
@@ -164,7 +176,7 @@ public class IntroTim
      */
     @Override
     public <L extends Comparable> void introSortClassInc(List<L> list, int left, int right) {
-        timInc(list, left, right);
+        introSortRange(list, left, right, range -> timInc(range));
     }
 
     /**
@@ -175,7 +187,7 @@ public class IntroTim
      */
     @Override
     public <L extends Comparable> void introSortClassDec(List<L> list, int left, int right) {
-        timDec(list, left, right);
+        introSortRange(list, left, right, range -> timDec(range));
     }
 
     /**
@@ -188,6 +200,6 @@ public class IntroTim
     @Override
     public <L extends Comparable> void introSortClass(
             List<L> list, int left, int right, SortFunctional<Comparable> functional) {
-        tim(list, left, right, functional);
+        introSortRange(list, left, right, range -> tim(range, functional));
     }
 }
\ No newline at end of file
@@ -22,6 +22,11 @@ public class IntroWeaveMerge
         extends WeaveMerge
         implements Intro<Comparable> {
 
+    /**
+     * The Insertion Sort of the small ranges finds the place of the elements by binary search.
+     */
+    protected final boolean binaryInsertion;
+
     /**
      * <b>Intro Weave Merge Sort:</b><br>
      * Is a hybrid sorting algorithm that combines the strengths of Quick Sort and Insertion Sort.
@@ -65,7 +70,29 @@ public class IntroWeaveMerge
      * Auxiliary Space:         <em>O(n)</em><br>
      * Stability:               <b>No</b>
      */
-    public IntroWeaveMerge() {}
+    public IntroWeaveMerge() {
+        this(false);
+    }
+
+    /**
+     * <b>Intro Weave Merge Sort:</b><br>
+     * With binary insertion in the small ranges, if {@code binaryInsertion} is {@code true}.
+     * @param       binaryInsertion the insertions of the small ranges are binary.
+     * @see         IntroWeaveMerge#IntroWeaveMerge() IntroWeaveMerge
+     * @see         Intro#binaryInsertion()
+     */
+    public IntroWeaveMerge(boolean binaryInsertion) {
+        this.binaryInsertion = binaryInsertion;
+    }
+
+    /**
+     * {@inheritDoc}
+     * @return      {@code true} if the insertions of the small ranges are binary.
+     */
+    @Override
+    public boolean binaryInsertion() {
+        return binaryInsertion;
+    }
 
     /**
      * {@inheritDoc}
@@ -131,7 +158,7 @@ public class IntroWeaveMerge
      */
     @Override
     public void introSortClassInc(Comparable[] array, int left, int right) {
-        weaveMergeInc(array, left, right);
+        introSortRange(array, left, right, range -> weaveMergeInc(range));
     }
 
     /**
@@ -142,7 +169,7 @@ public class IntroWeaveMerge
      */
     @Override
     public void introSortClassDec(Comparable[] array, int left, int right) {
-        weaveMergeDec(array, left, right);
+        introSortRange(array, left, right, range -> weaveMergeDec(range));
     }
 
     /**
@@ -154,7 +181,7 @@ public class IntroWeaveMerge
      */
     @Override
     public void introSortClass(Comparable[] array, int left, int right, SortFunctional<Comparable> functional) {
-        weaveMerge(array, left, right, functional);
+        introSortRange(array, left, right, range -> weaveMerge(range, functional));
     }
 
     /**
@@ -165,7 +192,7 @@ public class IntroWeaveMerge
      */
     @Override
     public <L extends Comparable> void introSortClassInc(List<L> list, int left, int right) {
-        weaveMergeInc(list, left, right);
+        introSortRange(list, left, right, range -> weaveMergeInc(range));
     }
 
     /**
@@ -176,7 +203,7 @@ public class IntroWeaveMerge
      */
     @Override
     public <L extends Comparable> void introSortClassDec(List<L> list, int left, int right) {
-        weaveMergeDec(list, left, right);
+        introSortRange(list, left, right, range -> weaveMergeDec(range));
     }
 
     /**
@@ -189,6 +216,6 @@ public class IntroWeaveMerge
     @Override
     public <L extends Comparable> void introSortClass(
             List<L> list, int left, int right, SortFunctional<Comparable> functional) {
-        weaveMerge(list, left, right, functional);
+        introSortRange(list, left, right, range -> weaveMerge(range, functional));
     }
 }
\ No newline at end of file
@@ -67,6 +67,18 @@ public class IntroWiki
      */
     public IntroWiki() {}
 
+    /**
+     * <b>Intro Wiki (Block Merge) Sort:</b><br>
+     * With binary insertion in the small ranges and in the Wiki Sort taking over at the depth limit,
+     * if {@code binaryInsertion} is {@code true}.
+     * @param       binaryInsertion the insertions are binary.
+     * @see         IntroWiki#IntroWiki() IntroWiki
+     * @see         Wiki#Wiki(boolean) Wiki
+     */
+    public IntroWiki(boolean binaryInsertion) {
+        super(binaryInsertion);
+    }
+
     /**
      * {@inheritDoc}
      * @param       array to be arranged.
@@ -131,7 +143,7 @@ public class IntroWiki
      */
     @Override
     public void introSortClassInc(Comparable[] array, int left, int right) {
-        wikiInc(array, left, right);
+        introSortRange(array, left, right, range -> wikiInc(range));
     }
 
     /**
@@ -142,7 +154,7 @@ public class IntroWiki
      */
     @Override
     public void introSortClassDec(Comparable[] array, int left, int right) {
-        wikiDec(array, left, right);
+        introSortRange(array, left, right, range -> wikiDec(range));
     }
 
     /**
@@ -154,7 +166,7 @@ public class IntroWiki
      */
     @Override
     public void introSortClass(Comparable[] array, int left, int right, SortFunctional<Comparable> functional) {
-        wiki(array, left, right, functional);
+        introSortRange(array, left, right, range -> wiki(range, functional));
     }
 
     /**
@@ -165,7 +177,7 @@ public class IntroWiki
      */
     @Override
     public <L extends Comparable> void introSortClassInc(List<L> list, int left, int right) {
-        wikiInc(list, left, right);
+        introSortRange(list, left, right, range -> wikiInc(range));
     }
 
     /**
@@ -176,7 +188,7 @@ public class IntroWiki
      */
     @Override
     public <L extends Comparable> void introSortClassDec(List<L> list, int left, int right) {
-        wikiDec(list, left, right);
+        introSortRange(list, left, right, range -> wikiDec(range));
     }
 
     /**
@@ -189,6 +201,6 @@ public class IntroWiki
     @Override
     public <L extends Comparable> void introSortClass(
             List<L> list, int left, int right, SortFunctional<Comparable> functional) {
-        wiki(list, left, right, functional);
+        introSortRange(list, left, right, range -> wiki(range, functional));
     }
 }
\ No newline at end of file
@@ -0,0 +1,701 @@
+package github.magyarzoli.sort.intro;
+
+import github.magyarzoli.SortFunctional;
+
+import java.util.List;
+
+/**
+ * Pattern-defeating Quick Sort is the Intro Sort of Orson Peters, which keeps the average speed of Quick Sort,
+ * but recognises the patterns that make the classic Lomuto partition slow.
+ * <ul>
+ *     <li>The pivot is the median of three elements, above {@code NINTHER_THRESHOLD} elements
+ *     the median of three medians (ninther).</li>
+ *     <li>The Hoare-style partition moves the pivot to the front and scans from both ends,
+ *     so only the misplaced elements are swapped.</li>
+ *     <li>If the pivot is equal to the element before the range, every element of the range is at least as large,
+ *     so the elements equal to the pivot are collected on the left and skipped in a single pass.
+ *     Inputs with few unique values are therefore sorted in linear time.</li>
+ *     <li>If the partition did not have to swap anything, the range is probably sorted, and a partial Insertion Sort
+ *     is tried on both sides, which gives up after {@code PARTIAL_INSERTION_LIMIT} moved elements.
+ *     Sorted and reverse sorted inputs are therefore sorted in linear time.</li>
+ *     <li>A partition is bad if one side got less than one eighth of the elements.
+ *     A bad partition shuffles a few elements of both sides to break the pattern that caused it.</li>
+ *     <li>After <i>log(n)</i> bad partitions the range is handed over to {@code introSortClass},
+ *     which keeps the worst case at <em>O(n log(n))</em>.</li>
+ * </ul>
+ * @param       <T> setting of a type based on which the elements can be sorted.
+ * @since       1.3
+ * @author      <a href=https://github.com/MagyarZoli>Magyar Zoltán</a>
+ */
+@SuppressWarnings("rawtypes")
+public interface Pdq<T extends Comparable>
+        extends Intro<T> {
+
+    /**
+     * Above this size the pivot is the ninther instead of the median of three.
+     */
+    int NINTHER_THRESHOLD = 128;
+
+    /**
+     * The number of elements the partial Insertion Sort may move before it gives up.
+     */
+    int PARTIAL_INSERTION_LIMIT = 8;
+
+    /**
+     * {@code badAllowed} is the number of bad partitions allowed before the fallback, <i>floor(log2(n))</i>.
+     * @param       length the number of elements to be arranged.
+     * @return      the number of bad partitions allowed.
+     */
+    static int badAllowed(int length) {
+        return (31 - Integer.numberOfLeadingZeros(Math.max(length, 1)));
+    }
+
+    /**
+     * {@code introInc} that serves as the entry point for performing a <b>Pattern-defeating Quick Sort</b> on the
+     * given array, allowing <i>log(n)</i> bad partitions.
+     * @param       array The array to be sorted.
+     * @see         Pdq#introRecursiveInc(Comparable[], int, int, int)
+     */
+    @Override
+    default void introInc(T[] array) {
+        introRecursiveInc(array, 0, (array.length - 1), badAllowed(array.length));
+    }
+
+    /**
+     * {@code introDec} that serves as the entry point for performing a <b>Pattern-defeating Quick Sort</b> on the
+     * given array, allowing <i>log(n)</i> bad partitions.
+     * @param       array The array to be sorted.
+     * @see         Pdq#introRecursiveDec(Comparable[], int, int, int)
+     */
+    @Override
+    default void introDec(T[] array) {
+        introRecursiveDec(array, 0, (array.length - 1), badAllowed(array.length));
+    }
+
+    /**
+     * {@code intro} that serves as the entry point for performing a <b>Pattern-defeating Quick Sort</b> on the
+     * given array, allowing <i>log(n)</i> bad partitions.
+     * @param       array The array to be sorted.
+     * @param       functional lambda expression for comparison.
+     * @see         Pdq#introRecursive(Comparable[], int, int, int, SortFunctional)
+     */
+    @Override
+    default void intro(T[] array, SortFunctional<T> functional) {
+        introRecursive(array, 0, (array.length - 1), badAllowed(array.length), functional);
+    }
+
+    /**
+     * {@code introRecursiveInc} sorts the range in ascending order with {@code pdq},
+     * {@code maxDepth} is the number of bad partitions allowed.
+     * @param       array The array to be sorted.
+     * @param       left The starting index of the subarray to be sorted.
+     * @param       right The ending index (inclusive) of the subarray to be sorted.
+     * @param       maxDepth The number of bad partitions allowed before the fallback.
+     * @see         Pdq#pdq(Comparable[], int, int, int, boolean, SortFunctional)
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    default void introRecursiveInc(T[] array, int left, int right, int maxDepth) {
+        pdq(array, left, right, maxDepth, true, (a, b) -> a.compareTo(b) > 0);
+    }
+
+    /**
+     * {@code introRecursiveDec} sorts the range in descending order with {@code pdq},
+     * {@code maxDepth} is the number of bad partitions allowed.
+     * @param       array The array to be sorted.
+     * @param       left The starting index of the subarray to be sorted.
+     * @param       right The ending index (inclusive) of the subarray to be sorted.
+     * @param       maxDepth The number of bad partitions allowed before the fallback.
+     * @see         Pdq#pdq(Comparable[], int, int, int, boolean, SortFunctional)
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    default void introRecursiveDec(T[] array, int left, int right, int maxDepth) {
+        pdq(array, left, right, maxDepth, true, (a, b) -> a.compareTo(b) < 0);
+    }
+
+    /**
+     * {@code introRecursive} sorts the range with {@code pdq}, {@code maxDepth} is the number of bad partitions
+     * allowed.
+     * @param       array The array to be sorted.
+     * @param       left The starting index of the subarray to be sorted.
+     * @param       right The ending index (inclusive) of the subarray to be sorted.
+     * @param       maxDepth The number of bad partitions allowed before the fallback.
+     * @param       functional lambda expression for comparison.
+     * @see         Pdq#pdq(Comparable[], int, int, int, boolean, SortFunctional)
+     */
+    @Override
+    default void introRecursive(T[] array, int left, int right, int maxDepth, SortFunctional<T> functional) {
+        pdq(array, left, right, maxDepth, true, functional);
+    }
+
+    /**
+     * {@code pdq} is the main loop of the Pattern-defeating Quick Sort.
+     * <ul>
+     *     <li>Ranges of at most {@code INTRO_SIZE} elements are sorted by Insertion Sort.</li>
+     *     <li>The pivot is selected by {@code pdqPivot} and moved to {@code left}.</li>
+     *     <li>If the range is not the leftmost one and the pivot is not greater than the element before the range,
+     *     {@code pdqPartitionLeft} collects the elements equal to the pivot, they are already in place.</li>
+     *     <li>Otherwise {@code pdqPartitionRight} splits the range. On a bad partition the allowance is reduced,
+     *     when it runs out {@code introSortClass} sorts the range and the method returns,
+     *     else {@code pdqBreakPatterns} shuffles both sides.</li>
+     *     <li>On a good partition without any swap {@code pdqPartialInsertion} may finish both sides.</li>
+     *     <li>The left side is sorted recursively, the loop continues with the right side.</li>
+     * </ul>
+     * @param       array to be arranged.
+     * @param       left The starting index of the subarray to be sorted.
+     * @param       right The ending index (inclusive) of the subarray to be sorted.
+     * @param       badAllowed The number of bad partitions allowed before the fallback.
+     * @param       leftmost {@code true} if there is no element before {@code left} which belongs to the sorting.
+     * @param       functional lambda expression for comparison.
+     */
+    default void pdq(
+            T[] array, int left, int right, int badAllowed, boolean leftmost, SortFunctional<T> functional) {
+        while (true) {
+            int size = ((right - left) + 1);
+            if (size <= INTRO_SIZE) {
+                insertion(array, left, right, functional);
+                return;
+            }
+            pdqPivot(array, left, right, functional);
+            if (!leftmost && !functional.functionalCompareTo(array[left], array[(left - 1)])) {
+                left = (pdqPartitionLeft(array, left, right, functional) + 1);
+                continue;
+            }
+            int[] partition = pdqPartitionRight(array, left, right, functional);
+            int pivot = partition[0];
+            int leftSize = (pivot - left);
+            int rightSize = (right - pivot);
+            if ((leftSize < (size / 8)) || (rightSize < (size / 8))) {
+                if (--badAllowed <= 0) {
+                    introSortClass(array, left, right, functional);
+                    return;
+                }
+                pdqBreakPatterns(array, left, pivot, right);
+            } else if ((partition[1] == 1)
+                    && pdqPartialInsertion(array, left, (pivot - 1), functional)
+                    && pdqPartialInsertion(array, (pivot + 1), right, functional)) {
+                return;
+            }
+            pdq(array, left, (pivot - 1), badAllowed, leftmost, functional);
+            left = (pivot + 1);
+            leftmost = false;
+        }
+    }
+
+    /**
+     * {@code pdqSort2} swaps the elements at {@code a} and {@code b} if they are out of order.
+     * @param       array to be arranged.
+     * @param       a index of the first element.
+     * @param       b index of the second element.
+     * @param       functional lambda expression for comparison.
+     */
+    default void pdqSort2(T[] array, int a, int b, SortFunctional<T> functional) {
+        if (functional.functionalCompareTo(array[a], array[b])) {
+            swap(array, a, b);
+        }
+    }
+
+    /**
+     * {@code pdqSort3} sorts the elements at {@code a}, {@code b} and {@code c} with three comparisons at most,
+     * the median ends up at {@code b}.
+     * @param       array to be arranged.
+     * @param       a index of the first element.
+     * @param       b index of the second element.
+     * @param       c index of the third element.
+     * @param       functional lambda expression for comparison.
+     */
+    default void pdqSort3(T[] array, int a, int b, int c, SortFunctional<T> functional) {
+        pdqSort2(array, a, b, functional);
+        pdqSort2(array, b, c, functional);
+        pdqSort2(array, a, b, functional);
+    }
+
+    /**
+     * {@code pdqPivot} moves the pivot to {@code left}.
+     * Below {@code NINTHER_THRESHOLD} elements it is the median of the first, middle and last elements,
+     * above it the median of the medians of three triplets around these positions (Tukey's ninther).
+     * The last element is never smaller than the pivot afterwards.
+     * @param       array to be arranged.
+     * @param       left The starting index of the subarray.
+     * @param       right The ending index (inclusive) of the subarray.
+     * @param       functional lambda expression for comparison.
+     */
+    default void pdqPivot(T[] array, int left, int right, SortFunctional<T> functional) {
+        int size = ((right - left) + 1);
+        int mid = (left + (size / 2));
+        if (size > NINTHER_THRESHOLD) {
+            pdqSort3(array, left, mid, right, functional);
+            pdqSort3(array, (left + 1), (mid - 1), (right - 1), functional);
+            pdqSort3(array, (left + 2), (mid + 1), (right - 2), functional);
+            pdqSort3(array, (mid - 1), mid, (mid + 1), functional);
+            swap(array, left, mid);
+        } else {
+            pdqSort3(array, mid, left, right, functional);
+        }
+    }
+
+    /**
+     * {@code pdqPartitionRight} partitions the range around the pivot at {@code left},
+     * elements smaller than the pivot go to the left side, elements not smaller to the right side.
+     * <ul>
+     *     <li>Both scans skip the elements which are already on their side.</li>
+     *     <li>If the scans met before the first swap, the range was already partitioned.</li>
+     *     <li>Each further step swaps one misplaced pair.</li>
+     *     <li>Finally the pivot is moved between the two sides.</li>
+     * </ul>
+     * @param       array to be arranged.
+     * @param       left The starting index of the subarray, the position of the pivot.
+     * @param       right The ending index (inclusive) of the subarray.
+     * @param       functional lambda expression for comparison.
+     * @return      the final index of the pivot, and <i>1</i> if no element had to be swapped, else <i>0</i>.
+     */
+    default int[] pdqPartitionRight(T[] array, int left, int right, SortFunctional<T> functional) {
+        T pivot = array[left];
+        int first = (left + 1);
+        int last = right;
+        while ((first <= right) && functional.functionalCompareTo(pivot, array[first])) {
+            first++;
+        }
+        while ((last >= first) && !functional.functionalCompareTo(pivot, array[last])) {
+            last--;
+        }
+        int alreadyPartitioned = ((first >= last) ? 1 : 0);
+        while (first < last) {
+            swap(array, first++, last--);
+            while ((first <= right) && functional.functionalCompareTo(pivot, array[first])) {
+                first++;
+            }
+            while ((last > left) && !functional.functionalCompareTo(pivot, array[last])) {
+                last--;
+            }
+        }
+        int position = (first - 1);
+        array[left] = array[position];
+        array[position] = pivot;
+        return new int[] {position, alreadyPartitioned};
+    }
+
+    /**
+     * {@code pdqPartitionLeft} partitions the range around the pivot at {@code left},
+     * elements not greater than the pivot go to the left side, greater elements to the right side.
+     * It is used when the pivot equals the element before the range, so the left side holds only
+     * elements equal to the pivot, which are in their final place.
+     * @param       array to be arranged.
+     * @param       left The starting index of the subarray, the position of the pivot.
+     * @param       right The ending index (inclusive) of the subarray.
+     * @param       functional lambda expression for comparison.
+     * @return      the final index of the pivot, the last element of the left side.
+     */
+    default int pdqPartitionLeft(T[] array, int left, int right, SortFunctional<T> functional) {
+        T pivot = array[left];
+        int first = (left + 1);
+        int last = right;
+        while ((last > left) && functional.functionalCompareTo(array[last], pivot)) {
+            last--;
+        }
+        while ((first <= last) && !functional.functionalCompareTo(array[first], pivot)) {
+            first++;
+        }
+        while (first < last) {
+            swap(array, first++, last--);
+            while ((last > left) && functional.functionalCompareTo(array[last], pivot)) {
+                last--;
+            }
+            while ((first <= right) && !functional.functionalCompareTo(array[first], pivot)) {
+                first++;
+            }
+        }
+        array[left] = array[last];
+        array[last] = pivot;
+        return last;
+    }
+
+    /**
+     * {@code pdqPartialInsertion} is an Insertion Sort, which gives up as soon as it moved more than
+     * {@code PARTIAL_INSERTION_LIMIT} elements.
+     * @param       array to be arranged.
+     * @param       from the element from which to start the analysis.
+     * @param       to the element to be analyzed (inclusive).
+     * @param       functional lambda expression for comparison.
+     * @return      {@code true} if the range is sorted.
+     */
+    default boolean pdqPartialInsertion(T[] array, int from, int to, SortFunctional<T> functional) {
+        int limit = 0;
+        for (int i = (from + 1); i <= to; i++) {
+            if (functional.functionalCompareTo(array[(i - 1)], array[i])) {
+                T select = array[i];
+                int j = i;
+                do {
+                    array[j] = array[(j - 1)];
+                    j--;
+                } while ((j > from) && functional.functionalCompareTo(array[(j - 1)], select));
+                array[j] = select;
+                limit += (i - j);
+                if (limit > PARTIAL_INSERTION_LIMIT) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * {@code pdqBreakPatterns} swaps a few elements of both sides of a bad partition with elements from a quarter of
+     * the way in, so the next pivots are taken from different positions.
+     * @param       array to be arranged.
+     * @param       left The starting index of the subarray.
+     * @param       pivot The index of the pivot.
+     * @param       right The ending index (inclusive) of the subarray.
+     * @see         SortSwap#swap(Comparable[], int, int)
+     */
+    default void pdqBreakPatterns(T[] array, int left, int pivot, int right) {
+        int leftSize = (pivot - left);
+        int rightSize = (right - pivot);
+        if (leftSize >= INTRO_SIZE) {
+            swap(array, left, (left + (leftSize / 4)));
+            swap(array, (pivot - 1), (pivot - (leftSize / 4)));
+            if (leftSize > NINTHER_THRESHOLD) {
+                swap(array, (left + 1), (left + (leftSize / 4) + 1));
+                swap(array, (left + 2), (left + (leftSize / 4) + 2));
+                swap(array, (pivot - 2), (pivot - (leftSize / 4) - 1));
+                swap(array, (pivot - 3), (pivot - (leftSize / 4) - 2));
+            }
+        }
+        if (rightSize >= INTRO_SIZE) {
+            swap(array, (pivot + 1), (pivot + 1 + (rightSize / 4)));
+            swap(array, right, (right - (rightSize / 4)));
+            if (rightSize > NINTHER_THRESHOLD) {
+                swap(array, (pivot + 2), (pivot + 2 + (rightSize / 4)));
+                swap(array, (pivot + 3), (pivot + 3 + (rightSize / 4)));
+                swap(array, (right - 1), (right - 1 - (rightSize / 4)));
+                swap(array, (right - 2), (right - 2 - (rightSize / 4)));
+            }
+        }
+    }
+
+    /**
+     * {@code introInc} that serves as the entry point for performing a <b>Pattern-defeating Quick Sort</b> on the
+     * given list, allowing <i>log(n)</i> bad partitions.
+     * @param       list The list to be sorted.
+     * @see         Pdq#introRecursiveInc(List, int, int, int)
+     */
+    @Override
+    default <L extends T> void introInc(List<L> list) {
+        introRecursiveInc(list, 0, (list.size() - 1), badAllowed(list.size()));
+    }
+
+    /**
+     * {@code introDec} that serves as the entry point for performing a <b>Pattern-defeating Quick Sort</b> on the
+     * given list, allowing <i>log(n)</i> bad partitions.
+     * @param       list The list to be sorted.
+     * @see         Pdq#introRecursiveDec(List, int, int, int)
+     */
+    @Override
+    default <L extends T> void introDec(List<L> list) {
+        introRecursiveDec(list, 0, (list.size() - 1), badAllowed(list.size()));
+    }
+
+    /**
+     * {@code intro} that serves as the entry point for performing a <b>Pattern-defeating Quick Sort</b> on the
+     * given list, allowing <i>log(n)</i> bad partitions.
+     * @param       list The list to be sorted.
+     * @param       functional lambda expression for comparison.
+     * @see         Pdq#introRecursive(List, int, int, int, SortFunctional)
+     */
+    @Override
+    default <L extends T> void intro(List<L> list, SortFunctional<T> functional) {
+        introRecursive(list, 0, (list.size() - 1), badAllowed(list.size()), functional);
+    }
+
+    /**
+     * {@code introRecursiveInc} sorts the range in ascending order with {@code pdq},
+     * {@code maxDepth} is the number of bad partitions allowed.
+     * @param       list The list to be sorted.
+     * @param       left The starting index of the sublist to be sorted.
+     * @param       right The ending index (inclusive) of the sublist to be sorted.
+     * @param       maxDepth The number of bad partitions allowed before the fallback.
+     * @see         Pdq#pdq(List, int, int, int, boolean, SortFunctional)
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    default <L extends T> void introRecursiveInc(List<L> list, int left, int right, int maxDepth) {
+        pdq(list, left, right, maxDepth, true, (a, b) -> a.compareTo(b) > 0);
+    }
+
+    /**
+     * {@code introRecursiveDec} sorts the range in descending order with {@code pdq},
+     * {@code maxDepth} is the number of bad partitions allowed.
+     * @param       list The list to be sorted.
+     * @param       left The starting index of the sublist to be sorted.
+     * @param       right The ending index (inclusive) of the sublist to be sorted.
+     * @param       maxDepth The number of bad partitions allowed before the fallback.
+     * @see         Pdq#pdq(List, int, int, int, boolean, SortFunctional)
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    default <L extends T> void introRecursiveDec(List<L> list, int left, int right, int maxDepth) {
+        pdq(list, left, right, maxDepth, true, (a, b) -> a.compareTo(b) < 0);
+    }
+
+    /**
+     * {@code introRecursive} sorts the range with {@code pdq}, {@code maxDepth} is the number of bad partitions
+     * allowed.
+     * @param       list The list to be sorted.
+     * @param       left The starting index of the sublist to be sorted.
+     * @param       right The ending index (inclusive) of the sublist to be sorted.
+     * @param       maxDepth The number of bad partitions allowed before the fallback.
+     * @param       functional lambda expression for comparison.
+     * @see         Pdq#pdq(List, int, int, int, boolean, SortFunctional)
+     */
+    @Override
+    default <L extends T> void introRecursive(
+            List<L> list, int left, int right, int maxDepth, SortFunctional<T> functional) {
+        pdq(list, left, right, maxDepth, true, functional);
+    }
+
+    /**
+     * {@code pdq} is the main loop of the Pattern-defeating Quick Sort.
+     * <ul>
+     *     <li>Ranges of at most {@code INTRO_SIZE} elements are sorted by Insertion Sort.</li>
+     *     <li>The pivot is selected by {@code pdqPivot} and moved to {@code left}.</li>
+     *     <li>If the range is not the leftmost one and the pivot is not greater than the element before the range,
+     *     {@code pdqPartitionLeft} collects the elements equal to the pivot, they are already in place.</li>
+     *     <li>Otherwise {@code pdqPartitionRight} splits the range. On a bad partition the allowance is reduced,
+     *     when it runs out {@code introSortClass} sorts the range and the method returns,
+     *     else {@code pdqBreakPatterns} shuffles both sides.</li>
+     *     <li>On a good partition without any swap {@code pdqPartialInsertion} may finish both sides.</li>
+     *     <li>The left side is sorted recursively, the loop continues with the right side.</li>
+     * </ul>
+     * @param       list to be arranged.
+     * @param       left The starting index of the sublist to be sorted.
+     * @param       right The ending index (inclusive) of the sublist to be sorted.
+     * @param       badAllowed The number of bad partitions allowed before the fallback.
+     * @param       leftmost {@code true} if there is no element before {@code left} which belongs to the sorting.
+     * @param       functional lambda expression for comparison.
+     */
+    default <L extends T> void pdq(
+            List<L> list, int left, int right, int badAllowed, boolean leftmost, SortFunctional<T> functional) {
+        while (true) {
+            int size = ((right - left) + 1);
+            if (size <= INTRO_SIZE) {
+                insertion(list, left, right, functional);
+                return;
+            }
+            pdqPivot(list, left, right, functional);
+            if (!leftmost && !functional.functionalCompareTo(list.get(left), list.get((left - 1)))) {
+                left = (pdqPartitionLeft(list, left, right, functional) + 1);
+                continue;
+            }
+            int[] partition = pdqPartitionRight(list, left, right, functional);
+            int pivot = partition[0];
+            int leftSize = (pivot - left);
+            int rightSize = (right - pivot);
+            if ((leftSize < (size / 8)) || (rightSize < (size / 8))) {
+                if (--badAllowed <= 0) {
+                    introSortClass(list, left, right, functional);
+                    return;
+                }
+                pdqBreakPatterns(list, left, pivot, right);
+            } else if ((partition[1] == 1)
+                    && pdqPartialInsertion(list, left, (pivot - 1), functional)
+                    && pdqPartialInsertion(list, (pivot + 1), right, functional)) {
+                return;
+            }
+            pdq(list, left, (pivot - 1), badAllowed, leftmost, functional);
+            left = (pivot + 1);
+            leftmost = false;
+        }
+    }
+
+    /**
+     * {@code pdqSort2} swaps the elements at {@code a} and {@code b} if they are out of order.
+     * @param       list to be arranged.
+     * @param       a index of the first element.
+     * @param       b index of the second element.
+     * @param       functional lambda expression for comparison.
+     */
+    default <L extends T> void pdqSort2(List<L> list, int a, int b, SortFunctional<T> functional) {
+        if (functional.functionalCompareTo(list.get(a), list.get(b))) {
+            swap(list, a, b);
+        }
+    }
+
+    /**
+     * {@code pdqSort3} sorts the elements at {@code a}, {@code b} and {@code c} with three comparisons at most,
+     * the median ends up at {@code b}.
+     * @param       list to be arranged.
+     * @param       a index of the first element.
+     * @param       b index of the second element.
+     * @param       c index of the third element.
+     * @param       functional lambda expression for comparison.
+     */
+    default <L extends T> void pdqSort3(List<L> list, int a, int b, int c, SortFunctional<T> functional) {
+        pdqSort2(list, a, b, functional);
+        pdqSort2(list, b, c, functional);
+        pdqSort2(list, a, b, functional);
+    }
+
+    /**
+     * {@code pdqPivot} moves the pivot to {@code left}.
+     * Below {@code NINTHER_THRESHOLD} elements it is the median of the first, middle and last elements,
+     * above it the median of the medians of three triplets around these positions (Tukey's ninther).
+     * The last element is never smaller than the pivot afterwards.
+     * @param       list to be arranged.
+     * @param       left The starting index of the sublist.
+     * @param       right The ending index (inclusive) of the sublist.
+     * @param       functional lambda expression for comparison.
+     */
+    default <L extends T> void pdqPivot(List<L> list, int left, int right, SortFunctional<T> functional) {
+        int size = ((right - left) + 1);
+        int mid = (left + (size / 2));
+        if (size > NINTHER_THRESHOLD) {
+            pdqSort3(list, left, mid, right, functional);
+            pdqSort3(list, (left + 1), (mid - 1), (right - 1), functional);
+            pdqSort3(list, (left + 2), (mid + 1), (right - 2), functional);
+            pdqSort3(list, (mid - 1), mid, (mid + 1), functional);
+            swap(list, left, mid);
+        } else {
+            pdqSort3(list, mid, left, right, functional);
+        }
+    }
+
+    /**
+     * {@code pdqPartitionRight} partitions the range around the pivot at {@code left},
+     * elements smaller than the pivot go to the left side, elements not smaller to the right side.
+     * <ul>
+     *     <li>Both scans skip the elements which are already on their side.</li>
+     *     <li>If the scans met before the first swap, the range was already partitioned.</li>
+     *     <li>Each further step swaps one misplaced pair.</li>
+     *     <li>Finally the pivot is moved between the two sides.</li>
+     * </ul>
+     * @param       list to be arranged.
+     * @param       left The starting index of the sublist, the position of the pivot.
+     * @param       right The ending index (inclusive) of the sublist.
+     * @param       functional lambda expression for comparison.
+     * @return      the final index of the pivot, and <i>1</i> if no element had to be swapped, else <i>0</i>.
+     */
+    default <L extends T> int[] pdqPartitionRight(List<L> list, int left, int right, SortFunctional<T> functional) {
+        L pivot = list.get(left);
+        int first = (left + 1);
+        int last = right;
+        while ((first <= right) && functional.functionalCompareTo(pivot, list.get(first))) {
+            first++;
+        }
+        while ((last >= first) && !functional.functionalCompareTo(pivot, list.get(last))) {
+            last--;
+        }
+        int alreadyPartitioned = ((first >= last) ? 1 : 0);
+        while (first < last) {
+            swap(list, first++, last--);
+            while ((first <= right) && functional.functionalCompareTo(pivot, list.get(first))) {
+                first++;
+            }
+            while ((last > left) && !functional.functionalCompareTo(pivot, list.get(last))) {
+                last--;
+            }
+        }
+        int position = (first - 1);
+        list.set(left, list.get(position));
+        list.set(position, pivot);
+        return new int[] {position, alreadyPartitioned};
+    }
+
+    /**
+     * {@code pdqPartitionLeft} partitions the range around the pivot at {@code left},
+     * elements not greater than the pivot go to the left side, greater elements to the right side.
+     * It is used when the pivot equals the element before the range, so the left side holds only
+     * elements equal to the pivot, which are in their final place.
+     * @param       list to be arranged.
+     * @param       left The starting index of the sublist, the position of the pivot.
+     * @param       right The ending index (inclusive) of the sublist.
+     * @param       functional lambda expression for comparison.
+     * @return      the final index of the pivot, the last element of the left side.
+     */
+    default <L extends T> int pdqPartitionLeft(List<L> list, int left, int right, SortFunctional<T> functional) {
+        L pivot = list.get(left);
+        int first = (left + 1);
+        int last = right;
+        while ((last > left) && functional.functionalCompareTo(list.get(last), pivot)) {
+            last--;
+        }
+        while ((first <= last) && !functional.functionalCompareTo(list.get(first), pivot)) {
+            first++;
+        }
+        while (first < last) {
+            swap(list, first++, last--);
+            while ((last > left) && functional.functionalCompareTo(list.get(last), pivot)) {
+                last--;
+            }
+            while ((first <= right) && !functional.functionalCompareTo(list.get(first), pivot)) {
+                first++;
+            }
+        }
+        list.set(left, list.get(last));
+        list.set(last, pivot);
+        return last;
+    }
+
+    /**
+     * {@code pdqPartialInsertion} is an Insertion Sort, which gives up as soon as it moved more than
+     * {@code PARTIAL_INSERTION_LIMIT} elements.
+     * @param       list to be arranged.
+     * @param       from the element from which to start the analysis.
+     * @param       to the element to be analyzed (inclusive).
+     * @param       functional lambda expression for comparison.
+     * @return      {@code true} if the range is sorted.
+     */
+    default <L extends T> boolean pdqPartialInsertion(List<L> list, int from, int to, SortFunctional<T> functional) {
+        int limit = 0;
+        for (int i = (from + 1); i <= to; i++) {
+            if (functional.functionalCompareTo(list.get((i - 1)), list.get(i))) {
+                L select = list.get(i);
+                int j = i;
+                do {
+                    list.set(j, list.get((j - 1)));
+                    j--;
+                } while ((j > from) && functional.functionalCompareTo(list.get((j - 1)), select));
+                list.set(j, select);
+                limit += (i - j);
+                if (limit > PARTIAL_INSERTION_LIMIT) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * {@code pdqBreakPatterns} swaps a few elements of both sides of a bad partition with elements from a quarter of
+     * the way in, so the next pivots are taken from different positions.
+     * @param       list to be arranged.
+     * @param       left The starting index of the sublist.
+     * @param       pivot The index of the pivot.
+     * @param       right The ending index (inclusive) of the sublist.
+     * @see         SortSwap#swap(List, int, int)
+     */
+    default <L extends T> void pdqBreakPatterns(List<L> list, int left, int pivot, int right) {
+        int leftSize = (pivot - left);
+        int rightSize = (right - pivot);
+        if (leftSize >= INTRO_SIZE) {
+            swap(list, left, (left + (leftSize / 4)));
+            swap(list, (pivot - 1), (pivot - (leftSize / 4)));
+            if (leftSize > NINTHER_THRESHOLD) {
+                swap(list, (left + 1), (left + (leftSize / 4) + 1));
+                swap(list, (left + 2), (left + (leftSize / 4) + 2));
+                swap(list, (pivot - 2), (pivot - (leftSize / 4) - 1));
+                swap(list, (pivot - 3), (pivot - (leftSize / 4) - 2));
+            }
+        }
+        if (rightSize >= INTRO_SIZE) {
+            swap(list, (pivot + 1), (pivot + 1 + (rightSize / 4)));
+            swap(list, right, (right - (rightSize / 4)));
+            if (rightSize > NINTHER_THRESHOLD) {
+                swap(list, (pivot + 2), (pivot + 2 + (rightSize / 4)));
+                swap(list, (pivot + 3), (pivot + 3 + (rightSize / 4)));
+                swap(list, (right - 1), (right - 1 - (rightSize / 4)));
+                swap(list, (right - 2), (right - 2 - (rightSize / 4)));
+            }
+        }
+    }
+}
\ No newline at end of file
@@ -37,7 +37,7 @@ public interface IntroDPQ<T extends Comparable>
      *     <li>If the maximum recursion depth {@code maxDepth} is <i>0</i>,
      *     it directly uses the {@code introSortClassInc} method to sort the sub-array using
      *     a different sorting algorithm.
-     *     This is a base case to prevent excessive recursion.</li>
+     *     This is a base case to prevent excessive recursion, the sub-array is not partitioned any further.</li>
      *     <li>If the sub-array size is larger than {@code INTRO_SIZE} and the maximum recursion depth is not <i>0</i>,
      *     it performs the following steps:</li>
      *     <li>Calls the {@code partitionDualInc} method to partition the sub-array and obtain the pivot indices.</li>
@@ -67,6 +67,7 @@ public interface IntroDPQ<T extends Comparable>
         if ((right - left) > INTRO_SIZE) {
             if (maxDepth == 0) {
                 introSortClassInc(array, left, right);
+                return;
             }
             int[] pivots = partitionDualInc(array, left, right);
             introRecursiveInc(array, left, (pivots[0] - 1), (maxDepth - 1));
@@ -86,7 +87,7 @@ public interface IntroDPQ<T extends Comparable>
      *     <li>If the maximum recursion depth {@code maxDepth} is <i>0</i>,
      *     it directly uses the {@code introSortClassDec} method to sort the sub-array using a
      *     different sorting algorithm.
-     *     This is a base case to prevent excessive recursion.</li>
+     *     This is a base case to prevent excessive recursion, the sub-array is not partitioned any further.</li>
      *     <li>If the sub-array size is larger than {@code INTRO_SIZE} and the maximum recursion depth is not <i>0</i>,
      *     it performs the following steps:</li>
      *     <li>Calls the {@code partitionDualDec} method to partition the sub-array and obtain the pivot indices.</li>
@@ -116,6 +117,7 @@ public interface IntroDPQ<T extends Comparable>
         if ((right - left) > INTRO_SIZE) {
             if (maxDepth == 0) {
                 introSortClassDec(array, left, right);
+                return;
             }
             int[] pivots = partitionDualDec(array, left, right);
             introRecursiveDec(array, left, (pivots[0] - 1), (maxDepth - 1));
@@ -175,6 +177,7 @@ public interface IntroDPQ<T extends Comparable>
         if ((right - left) > INTRO_SIZE) {
             if (maxDepth == 0) {
                 introSortClass(array, left, right, functional);
+                return;
             }
             int[] pivots = partitionDual(array, left, right, functional);
             introRecursive(array, left, (pivots[0] - 1), (maxDepth - 1), functional);
@@ -194,7 +197,7 @@ public interface IntroDPQ<T extends Comparable>
      *     <li>If the maximum recursion depth {@code maxDepth} is <i>0</i>,
      *     it directly uses the {@code introSortClassInc} method to sort the sub-list using a
      *     different sorting algorithm.
-     *     This is a base case to prevent excessive recursion.</li>
+     *     This is a base case to prevent excessive recursion, the sub-array is not partitioned any further.</li>
      *     <li>If the sub-list size is larger than {@code INTRO_SIZE} and the maximum recursion depth is not <i>0</i>,
      *     it performs the following steps:</li>
      *     <li>Calls the {@code partitionDualInc} method to partition the sub-list and obtain the pivot indices.</li>
@@ -224,6 +227,7 @@ public interface IntroDPQ<T extends Comparable>
         if ((right - left) > INTRO_SIZE) {
             if (maxDepth == 0) {
                 introSortClassInc(list, left, right);
+                return;
             }
             int[] pivots = partitionDualInc(list, left, right);
             introRecursiveInc(list, left, (pivots[0] - 1), (maxDepth - 1));
@@ -243,7 +247,7 @@ public interface IntroDPQ<T extends Comparable>
      *     <li>If the maximum recursion depth {@code maxDepth} is <i>0</i>,
      *     it directly uses the {@code introSortClassDec} method to sort the sub-list using a
      *     different sorting algorithm.
-     *     This is a base case to prevent excessive recursion.</li>
+     *     This is a base case to prevent excessive recursion, the sub-array is not partitioned any further.</li>
      *     <li>If the sub-list size is larger than {@code INTRO_SIZE} and the maximum recursion depth is not <i>0</i>,
      *     it performs the following steps:</li>
      *     <li>Calls the {@code partitionDualDec} method to partition the sub-list and obtain the pivot indices.</li>
@@ -273,6 +277,7 @@ public interface IntroDPQ<T extends Comparable>
         if ((right - left) > INTRO_SIZE) {
             if (maxDepth == 0) {
                 introSortClassDec(list, left, right);
+                return;
             }
             int[] pivots = partitionDualDec(list, left, right);
             introRecursiveDec(list, left, (pivots[0] - 1), (maxDepth - 1));
@@ -333,6 +338,7 @@ public interface IntroDPQ<T extends Comparable>
         if ((right - left) > INTRO_SIZE) {
             if (maxDepth == 0) {
                 introSortClass(list, left, right, functional);
+                return;
             }
             int[] pivots = partitionDual(list, left, right, functional);
             introRecursive(list, left, (pivots[0] - 1), (maxDepth - 1), functional);
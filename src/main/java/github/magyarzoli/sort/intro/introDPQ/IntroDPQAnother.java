@@ -74,6 +74,17 @@ public abstract class IntroDPQAnother
      */
     public IntroDPQAnother() {}
 
+    /**
+     * <b>IntroDPQ (Dual Pivot Quick) Another Sort:</b><br>
+     * With binary insertion in the small ranges, if {@code binaryInsertion} is {@code true}.
+     * @param       binaryInsertion the insertions of the small ranges are binary.
+     * @see         IntroDPQAnother#IntroDPQAnother() IntroDPQAnother
+     * @see         IntroAnother#IntroAnother(boolean) IntroAnother
+     */
+    public IntroDPQAnother(boolean binaryInsertion) {
+        super(binaryInsertion);
+    }
+
     /**
      * {@code introRecursiveInc} method implements an adaptive sorting algorithm called Intro Sort.
      * <ul>
@@ -68,4 +68,15 @@ public class IntroDPQBatcherOddEvenMerge
      * Stability:               <b>No</b>
      */
     public IntroDPQBatcherOddEvenMerge() {}
+
+    /**
+     * <b>IntroDPQ (Dual Pivot Quick) Batcher's Odd-even Merge Sort:</b><br>
+     * With binary insertion in the small ranges, if {@code binaryInsertion} is {@code true}.
+     * @param       binaryInsertion the insertions of the small ranges are binary.
+     * @see         IntroDPQBatcherOddEvenMerge#IntroDPQBatcherOddEvenMerge() IntroDPQBatcherOddEvenMerge
+     * @see         IntroBatcherOddEvenMerge#IntroBatcherOddEvenMerge(boolean) IntroBatcherOddEvenMerge
+     */
+    public IntroDPQBatcherOddEvenMerge(boolean binaryInsertion) {
+        super(binaryInsertion);
+    }
 }
\ No newline at end of file
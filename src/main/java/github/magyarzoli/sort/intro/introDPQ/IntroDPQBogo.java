@@ -67,4 +67,15 @@ public class IntroDPQBogo
      * Stability:               <b>No</b>
      */
     public IntroDPQBogo() {}
+
+    /**
+     * <b>IntroDPQ (Dual Pivot Quick) Bogo Sort:</b><br>
+     * With binary insertion in the small ranges, if {@code binaryInsertion} is {@code true}.
+     * @param       binaryInsertion the insertions of the small ranges are binary.
+     * @see         IntroDPQBogo#IntroDPQBogo() IntroDPQBogo
+     * @see         IntroBogo#IntroBogo(boolean) IntroBogo
+     */
+    public IntroDPQBogo(boolean binaryInsertion) {
+        super(binaryInsertion);
+    }
 }
\ No newline at end of file
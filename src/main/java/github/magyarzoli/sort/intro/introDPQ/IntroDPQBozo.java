@@ -66,4 +66,15 @@ public class IntroDPQBozo
      * Stability:               <b>No</b>
      */
     public IntroDPQBozo() {}
+
+    /**
+     * <b>IntroDPQ (Dual Pivot Quick) Bozo Sort:</b><br>
+     * With binary insertion in the small ranges, if {@code binaryInsertion} is {@code true}.
+     * @param       binaryInsertion the insertions of the small ranges are binary.
+     * @see         IntroDPQBozo#IntroDPQBozo() IntroDPQBozo
+     * @see         IntroBozo#IntroBozo(boolean) IntroBozo
+     */
+    public IntroDPQBozo(boolean binaryInsertion) {
+        super(binaryInsertion);
+    }
 }
\ No newline at end of file
@@ -66,4 +66,15 @@ public class IntroDPQBubble
      * Stability:               <b>No</b>
      */
     public IntroDPQBubble() {}
+
+    /**
+     * <b>IntroDPQ (Dual Pivot Quick) Bubble Sort:</b><br>
+     * With binary insertion in the small ranges, if {@code binaryInsertion} is {@code true}.
+     * @param       binaryInsertion the insertions of the small ranges are binary.
+     * @see         IntroDPQBubble#IntroDPQBubble() IntroDPQBubble
+     * @see         IntroBubble#IntroBubble(boolean) IntroBubble
+     */
+    public IntroDPQBubble(boolean binaryInsertion) {
+        super(binaryInsertion);
+    }
 }
\ No newline at end of file
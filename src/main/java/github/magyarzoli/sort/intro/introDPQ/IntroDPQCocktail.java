@@ -67,4 +67,15 @@ public class IntroDPQCocktail
      * Stability:               <b>No</b>
      */
     public IntroDPQCocktail() {}
+
+    /**
+     * <b>IntroDPQ (Dual Pivot Quick) Cocktail Sort:</b><br>
+     * With binary insertion in the small ranges, if {@code binaryInsertion} is {@code true}.
+     * @param       binaryInsertion the insertions of the small ranges are binary.
+     * @see         IntroDPQCocktail#IntroDPQCocktail() IntroDPQCocktail
+     * @see         IntroCocktail#IntroCocktail(boolean) IntroCocktail
+     */
+    public IntroDPQCocktail(boolean binaryInsertion) {
+        super(binaryInsertion);
+    }
 }
\ No newline at end of file
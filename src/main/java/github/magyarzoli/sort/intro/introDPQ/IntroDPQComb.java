@@ -66,4 +66,15 @@ public class IntroDPQComb
      * Stability:               <b>No</b>
      */
     public IntroDPQComb() {}
+
+    /**
+     * <b>IntroDPQ (Dual Pivot Quick) Comb Sort:</b><br>
+     * With binary insertion in the small ranges, if {@code binaryInsertion} is {@code true}.
+     * @param       binaryInsertion the insertions of the small ranges are binary.
+     * @see         IntroDPQComb#IntroDPQComb() IntroDPQComb
+     * @see         IntroComb#IntroComb(boolean) IntroComb
+     */
+    public IntroDPQComb(boolean binaryInsertion) {
+        super(binaryInsertion);
+    }
 }
\ No newline at end of file
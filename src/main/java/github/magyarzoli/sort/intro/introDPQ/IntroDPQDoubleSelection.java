@@ -67,4 +67,17 @@ public class IntroDPQDoubleSelection
      * Stability:               <b>No</b>
      */
     public IntroDPQDoubleSelection() {}
+
+    /**
+     * <b>IntroDPQ (Dual Pivot Quick) Double Selection Sort:</b><br>
+     * With the Tournament Sort taking over at the depth limit, if {@code tournament} is {@code true},
+     * and binary insertion in the small ranges, if {@code binaryInsertion} is {@code true}.
+     * @param       tournament the selections are played as a tournament.
+     * @param       binaryInsertion the insertions of the small ranges are binary.
+     * @see         IntroDPQDoubleSelection#IntroDPQDoubleSelection() IntroDPQDoubleSelection
+     * @see         IntroDoubleSelection#IntroDoubleSelection(boolean, boolean) IntroDoubleSelection
+     */
+    public IntroDPQDoubleSelection(boolean tournament, boolean binaryInsertion) {
+        super(tournament, binaryInsertion);
+    }
 }
\ No newline at end of file
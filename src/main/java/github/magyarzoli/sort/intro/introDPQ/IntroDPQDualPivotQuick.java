@@ -1,5 +1,6 @@
 package github.magyarzoli.sort.intro.introDPQ;
 
+import github.magyarzoli.PivotStrategy;
 import github.magyarzoli.sort.intro.IntroDualPivotQuick;
 
 /**
@@ -68,4 +69,39 @@ public class IntroDPQDualPivotQuick
      * Stability:               <b>No</b>
      */
     public IntroDPQDualPivotQuick() {}
+
+    /**
+     * <b>IntroDPQ (Dual Pivot Quick) Quick3 Sort:</b><br>
+     * With binary insertion in the small ranges, if {@code binaryInsertion} is {@code true}.
+     * @param       binaryInsertion the insertions of the small ranges are binary.
+     * @see         IntroDPQDualPivotQuick#IntroDPQDualPivotQuick() IntroDPQDualPivotQuick
+     * @see         IntroDualPivotQuick#IntroDualPivotQuick(boolean) IntroDualPivotQuick
+     */
+    public IntroDPQDualPivotQuick(boolean binaryInsertion) {
+        super(binaryInsertion);
+    }
+
+    /**
+     * <b>IntroDPQ (Dual Pivot Quick) Dual Pivot Quick Sort:</b><br>
+     * With the pivot selection of the partitions given.
+     * @param       pivotStrategy the pivot selection of the partitions.
+     * @see         IntroDPQDualPivotQuick#IntroDPQDualPivotQuick() IntroDPQDualPivotQuick
+     * @see         PivotStrategy
+     */
+    public IntroDPQDualPivotQuick(PivotStrategy pivotStrategy) {
+        super(pivotStrategy);
+    }
+
+    /**
+     * <b>IntroDPQ (Dual Pivot Quick) Quick3 Sort:</b><br>
+     * With the pivot selection of the partitions given,
+     * and binary insertion in the small ranges, if {@code binaryInsertion} is {@code true}.
+     * @param       pivotStrategy the pivot selection of the partitions.
+     * @param       binaryInsertion the insertions of the small ranges are binary.
+     * @see         IntroDPQDualPivotQuick#IntroDPQDualPivotQuick(PivotStrategy) IntroDPQDualPivotQuick
+     * @see         IntroDualPivotQuick#IntroDualPivotQuick(PivotStrategy, boolean) IntroDualPivotQuick
+     */
+    public IntroDPQDualPivotQuick(PivotStrategy pivotStrategy, boolean binaryInsertion) {
+        super(pivotStrategy, binaryInsertion);
+    }
 }
\ No newline at end of file
@@ -66,4 +66,15 @@ public class IntroDPQGnome
      * Stability:               <b>No</b>
      */
     public IntroDPQGnome() {}
+
+    /**
+     * <b>IntroDPQ (Dual Pivot Quick) Gnome Sort:</b><br>
+     * With binary insertion in the small ranges, if {@code binaryInsertion} is {@code true}.
+     * @param       binaryInsertion the insertions of the small ranges are binary.
+     * @see         IntroDPQGnome#IntroDPQGnome() IntroDPQGnome
+     * @see         IntroGnome#IntroGnome(boolean) IntroGnome
+     */
+    public IntroDPQGnome(boolean binaryInsertion) {
+        super(binaryInsertion);
+    }
 }
\ No newline at end of file
@@ -66,4 +66,15 @@ public class IntroDPQHeap
      * Stability:               <b>No</b>
      */
     public IntroDPQHeap() {}
+
+    /**
+     * <b>IntroDPQ (Dual Pivot Quick) Heap Sort:</b><br>
+     * With binary insertion in the small ranges, if {@code binaryInsertion} is {@code true}.
+     * @param       binaryInsertion the insertions of the small ranges are binary.
+     * @see         IntroDPQHeap#IntroDPQHeap() IntroDPQHeap
+     * @see         IntroHeap#IntroHeap(boolean) IntroHeap
+     */
+    public IntroDPQHeap(boolean binaryInsertion) {
+        super(binaryInsertion);
+    }
 }
\ No newline at end of file
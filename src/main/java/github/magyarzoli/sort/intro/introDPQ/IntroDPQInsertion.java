@@ -67,4 +67,15 @@ public class IntroDPQInsertion
      * Stability:               <b>No</b>
      */
     public IntroDPQInsertion() {}
+
+    /**
+     * <b>IntroDPQ (Dual Pivot Quick) Insertion Sort:</b><br>
+     * With binary insertion in the small ranges, if {@code binaryInsertion} is {@code true}.
+     * @param       binaryInsertion the insertions of the small ranges are binary.
+     * @see         IntroDPQInsertion#IntroDPQInsertion() IntroDPQInsertion
+     * @see         IntroInsertion#IntroInsertion(boolean) IntroInsertion
+     */
+    public IntroDPQInsertion(boolean binaryInsertion) {
+        super(binaryInsertion);
+    }
 }
\ No newline at end of file
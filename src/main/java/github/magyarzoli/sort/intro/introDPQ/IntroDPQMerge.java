@@ -67,4 +67,15 @@ public class IntroDPQMerge
      * Stability:               <b>No</b>
      */
     public IntroDPQMerge() {}
+
+    /**
+     * <b>IntroDPQ (Dual Pivot Quick) Merge Sort:</b><br>
+     * With binary insertion in the small ranges, if {@code binaryInsertion} is {@code true}.
+     * @param       binaryInsertion the insertions of the small ranges are binary.
+     * @see         IntroDPQMerge#IntroDPQMerge() IntroDPQMerge
+     * @see         IntroMerge#IntroMerge(boolean) IntroMerge
+     */
+    public IntroDPQMerge(boolean binaryInsertion) {
+        super(binaryInsertion);
+    }
 }
\ No newline at end of file
@@ -67,4 +67,15 @@ public class IntroDPQMerge3
      * Stability:               <b>No</b>
      */
     public IntroDPQMerge3() {}
+
+    /**
+     * <b>IntroDPQ (Dual Pivot Quick) Merge3 Sort:</b><br>
+     * With binary insertion in the small ranges, if {@code binaryInsertion} is {@code true}.
+     * @param       binaryInsertion the insertions of the small ranges are binary.
+     * @see         IntroDPQMerge3#IntroDPQMerge3() IntroDPQMerge3
+     * @see         IntroMerge3#IntroMerge3(boolean) IntroMerge3
+     */
+    public IntroDPQMerge3(boolean binaryInsertion) {
+        super(binaryInsertion);
+    }
 }
\ No newline at end of file
@@ -67,4 +67,15 @@ public class IntroDPQMergeInPlace
      * Stability:               <b>No</b>
      */
     public IntroDPQMergeInPlace() {}
+
+    /**
+     * <b>IntroDPQ (Dual Pivot Quick) Merge In Place Sort:</b><br>
+     * With binary insertion in the small ranges, if {@code binaryInsertion} is {@code true}.
+     * @param       binaryInsertion the insertions of the small ranges are binary.
+     * @see         IntroDPQMergeInPlace#IntroDPQMergeInPlace() IntroDPQMergeInPlace
+     * @see         IntroMergeInPlace#IntroMergeInPlace(boolean) IntroMergeInPlace
+     */
+    public IntroDPQMergeInPlace(boolean binaryInsertion) {
+        super(binaryInsertion);
+    }
 }
\ No newline at end of file
@@ -67,4 +67,15 @@ public class IntroDPQMergeInsertion
      * Stability:               <b>No</b>
      */
     public IntroDPQMergeInsertion() {}
+
+    /**
+     * <b>IntroDPQ (Dual Pivot Quick) Merge Insertion Sort:</b><br>
+     * With binary insertion in the small ranges, if {@code binaryInsertion} is {@code true}.
+     * @param       binaryInsertion the insertions of the small ranges are binary.
+     * @see         IntroDPQMergeInsertion#IntroDPQMergeInsertion() IntroDPQMergeInsertion
+     * @see         IntroMergeInsertion#IntroMergeInsertion(boolean) IntroMergeInsertion
+     */
+    public IntroDPQMergeInsertion(boolean binaryInsertion) {
+        super(binaryInsertion);
+    }
 }
\ No newline at end of file
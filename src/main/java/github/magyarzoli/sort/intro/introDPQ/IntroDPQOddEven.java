@@ -66,4 +66,15 @@ public class IntroDPQOddEven
      * Stability:               <b>No</b>
      */
     public IntroDPQOddEven() {}
+
+    /**
+     * <b>IntroDPQ (Dual Pivot Quick) Odd-even (Brick) Sort:</b><br>
+     * With binary insertion in the small ranges, if {@code binaryInsertion} is {@code true}.
+     * @param       binaryInsertion the insertions of the small ranges are binary.
+     * @see         IntroDPQOddEven#IntroDPQOddEven() IntroDPQOddEven
+     * @see         IntroOddEven#IntroOddEven(boolean) IntroOddEven
+     */
+    public IntroDPQOddEven(boolean binaryInsertion) {
+        super(binaryInsertion);
+    }
 }
\ No newline at end of file
@@ -67,4 +67,15 @@ public class IntroDPQOddEvenMerge
      * Stability:               <b>No</b>
      */
     public IntroDPQOddEvenMerge() {}
+
+    /**
+     * <b>IntroDPQ (Dual Pivot Quick) Odd-even Merge Sort:</b><br>
+     * With binary insertion in the small ranges, if {@code binaryInsertion} is {@code true}.
+     * @param       binaryInsertion the insertions of the small ranges are binary.
+     * @see         IntroDPQOddEvenMerge#IntroDPQOddEvenMerge() IntroDPQOddEvenMerge
+     * @see         IntroOddEvenMerge#IntroOddEvenMerge(boolean) IntroOddEvenMerge
+     */
+    public IntroDPQOddEvenMerge(boolean binaryInsertion) {
+        super(binaryInsertion);
+    }
 }
\ No newline at end of file
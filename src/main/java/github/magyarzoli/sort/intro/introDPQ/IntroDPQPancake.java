@@ -66,4 +66,15 @@ public class IntroDPQPancake
      * Stability:               <b>No</b>
      */
     public IntroDPQPancake() {}
+
+    /**
+     * <b>IntroDPQ (Dual Pivot Quick) Pancake Sort:</b><br>
+     * With binary insertion in the small ranges, if {@code binaryInsertion} is {@code true}.
+     * @param       binaryInsertion the insertions of the small ranges are binary.
+     * @see         IntroDPQPancake#IntroDPQPancake() IntroDPQPancake
+     * @see         IntroPancake#IntroPancake(boolean) IntroPancake
+     */
+    public IntroDPQPancake(boolean binaryInsertion) {
+        super(binaryInsertion);
+    }
 }
\ No newline at end of file
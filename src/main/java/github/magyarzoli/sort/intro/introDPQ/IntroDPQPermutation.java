@@ -67,4 +67,15 @@ public class IntroDPQPermutation
      * Stability:               <b>No</b>
      */
     public IntroDPQPermutation() {}
+
+    /**
+     * <b>IntroDPQ (Dual Pivot Quick) Permutation Sort:</b><br>
+     * With binary insertion in the small ranges, if {@code binaryInsertion} is {@code true}.
+     * @param       binaryInsertion the insertions of the small ranges are binary.
+     * @see         IntroDPQPermutation#IntroDPQPermutation() IntroDPQPermutation
+     * @see         IntroPermutation#IntroPermutation(boolean) IntroPermutation
+     */
+    public IntroDPQPermutation(boolean binaryInsertion) {
+        super(binaryInsertion);
+    }
 }
\ No newline at end of file
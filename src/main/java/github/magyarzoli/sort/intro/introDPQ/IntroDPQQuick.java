@@ -1,5 +1,6 @@
 package github.magyarzoli.sort.intro.introDPQ;
 
+import github.magyarzoli.PivotStrategy;
 import github.magyarzoli.sort.intro.IntroQuick;
 
 /**
@@ -66,4 +67,39 @@ public class IntroDPQQuick
      * Stability:               <b>No</b>
      */
     public IntroDPQQuick() {}
+
+    /**
+     * <b>IntroDPQ (Dual Pivot Quick) Quick Sort:</b><br>
+     * With binary insertion in the small ranges, if {@code binaryInsertion} is {@code true}.
+     * @param       binaryInsertion the insertions of the small ranges are binary.
+     * @see         IntroDPQQuick#IntroDPQQuick() IntroDPQQuick
+     * @see         IntroQuick#IntroQuick(boolean) IntroQuick
+     */
+    public IntroDPQQuick(boolean binaryInsertion) {
+        super(binaryInsertion);
+    }
+
+    /**
+     * <b>IntroDPQ (Dual Pivot Quick) Quick Sort:</b><br>
+     * With the pivot selection of the partitions given.
+     * @param       pivotStrategy the pivot selection of the partitions.
+     * @see         IntroDPQQuick#IntroDPQQuick() IntroDPQQuick
+     * @see         PivotStrategy
+     */
+    public IntroDPQQuick(PivotStrategy pivotStrategy) {
+        super(pivotStrategy);
+    }
+
+    /**
+     * <b>IntroDPQ (Dual Pivot Quick) Quick Sort:</b><br>
+     * With the pivot selection of the partitions given,
+     * and binary insertion in the small ranges, if {@code binaryInsertion} is {@code true}.
+     * @param       pivotStrategy the pivot selection of the partitions.
+     * @param       binaryInsertion the insertions of the small ranges are binary.
+     * @see         IntroDPQQuick#IntroDPQQuick(PivotStrategy) IntroDPQQuick
+     * @see         IntroQuick#IntroQuick(PivotStrategy, boolean) IntroQuick
+     */
+    public IntroDPQQuick(PivotStrategy pivotStrategy, boolean binaryInsertion) {
+        super(pivotStrategy, binaryInsertion);
+    }
 }
\ No newline at end of file
@@ -1,7 +1,11 @@
 package github.magyarzoli.sort.intro.introDPQ;
 
+import github.magyarzoli.PivotStrategy;
+import github.magyarzoli.SortFunctional;
 import github.magyarzoli.sort.intro.IntroQuick3;
 
+import java.util.List;
+
 /**
  * IntroDPQ (Dual Pivot Quick) Quick3 Sort is a hybrid sorting algorithm that combines the strengths of
  * Dual Pivot Quick Sort and Quick3 Sort.
@@ -66,4 +70,171 @@ public class IntroDPQQuick3
      * Stability:               <b>No</b>
      */
     public IntroDPQQuick3() {}
+
+    /**
+     * <b>IntroDPQ (Dual Pivot Quick) Quick3 Sort:</b><br>
+     * With the pivot selection of the partitions given.
+     * @param       pivotStrategy the pivot selection of the partitions.
+     * @see         IntroDPQQuick3#IntroDPQQuick3() IntroDPQQuick3
+     * @see         PivotStrategy
+     */
+    public IntroDPQQuick3(PivotStrategy pivotStrategy) {
+        super(pivotStrategy);
+    }
+
+    /**
+     * <b>IntroDPQ (Dual Pivot Quick) Quick3 Sort:</b><br>
+     * With the Bentley–McIlroy fat partition in the partitions of the Intro Sort, instead of the dual pivot
+     * partition, and in the Quick3 Sort taking over at the depth limit, if {@code bentleyMcIlroy} is {@code true}.
+     * @param       bentleyMcIlroy the fat partition is used.
+     * @see         IntroDPQQuick3#IntroDPQQuick3() IntroDPQQuick3
+     * @see         IntroQuick3#IntroQuick3(boolean) IntroQuick3
+     */
+    public IntroDPQQuick3(boolean bentleyMcIlroy) {
+        super(bentleyMcIlroy);
+    }
+
+    /**
+     * <b>IntroDPQ (Dual Pivot Quick) Quick3 Sort:</b><br>
+     * With the pivot selection of the partitions given, and the Bentley–McIlroy fat partition in
+     * the partitions of the Intro Sort, instead of the dual pivot partition,
+     * and in the Quick3 Sort taking over at the depth limit,
+     * if {@code bentleyMcIlroy} is {@code true}.
+     * @param       pivotStrategy the pivot selection of the partitions.
+     * @param       bentleyMcIlroy the fat partition is used.
+     * @see         IntroDPQQuick3#IntroDPQQuick3(boolean) IntroDPQQuick3
+     * @see         PivotStrategy
+     */
+    public IntroDPQQuick3(PivotStrategy pivotStrategy, boolean bentleyMcIlroy) {
+        super(pivotStrategy, bentleyMcIlroy);
+    }
+
+    /**
+     * <b>IntroDPQ (Dual Pivot Quick) Quick3 Sort:</b><br>
+     * With the pivot selection of the partitions given, the Bentley–McIlroy fat partition in
+     * the partitions of the Intro Sort, instead of the dual pivot partition,
+     * and in the Quick3 Sort taking over at the depth limit,
+     * if {@code bentleyMcIlroy} is {@code true},
+     * and binary insertion in the small ranges, if {@code binaryInsertion} is {@code true}.
+     * @param       pivotStrategy the pivot selection of the partitions.
+     * @param       bentleyMcIlroy the fat partition is used.
+     * @param       binaryInsertion the insertions of the small ranges are binary.
+     * @see         IntroDPQQuick3#IntroDPQQuick3(PivotStrategy, boolean) IntroDPQQuick3
+     * @see         IntroQuick3#IntroQuick3(PivotStrategy, boolean, boolean) IntroQuick3
+     */
+    public IntroDPQQuick3(PivotStrategy pivotStrategy, boolean bentleyMcIlroy, boolean binaryInsertion) {
+        super(pivotStrategy, bentleyMcIlroy, binaryInsertion);
+    }
+
+    /**
+     * {@inheritDoc}
+     * If {@code bentleyMcIlroy} is {@code true}, the ranges are partitioned by the Bentley–McIlroy fat partition
+     * instead of the dual pivot partition, see {@code introFatRecursiveInc}.
+     * @param       array The array to be sorted.
+     * @param       left The starting index of the subarray to be sorted.
+     * @param       right The ending index (inclusive) of the subarray to be sorted.
+     * @param       maxDepth the number of partitions left before the sort switches to the Quick3 Sort.
+     */
+    @Override
+    public void introRecursiveInc(Comparable[] array, int left, int right, int maxDepth) {
+        if (bentleyMcIlroy) {
+            introFatRecursiveInc(array, left, right, maxDepth);
+            return;
+        }
+        IntroDPQ.super.introRecursiveInc(array, left, right, maxDepth);
+    }
+
+    /**
+     * {@inheritDoc}
+     * If {@code bentleyMcIlroy} is {@code true}, the ranges are partitioned by the Bentley–McIlroy fat partition
+     * instead of the dual pivot partition, see {@code introFatRecursiveDec}.
+     * @param       array The array to be sorted.
+     * @param       left The starting index of the subarray to be sorted.
+     * @param       right The ending index (inclusive) of the subarray to be sorted.
+     * @param       maxDepth the number of partitions left before the sort switches to the Quick3 Sort.
+     */
+    @Override
+    public void introRecursiveDec(Comparable[] array, int left, int right, int maxDepth) {
+        if (bentleyMcIlroy) {
+            introFatRecursiveDec(array, left, right, maxDepth);
+            return;
+        }
+        IntroDPQ.super.introRecursiveDec(array, left, right, maxDepth);
+    }
+
+    /**
+     * {@inheritDoc}
+     * If {@code bentleyMcIlroy} is {@code true}, the ranges are partitioned by the Bentley–McIlroy fat partition
+     * instead of the dual pivot partition, see {@code introFatRecursive}.
+     * @param       array The array to be sorted.
+     * @param       left The starting index of the subarray to be sorted.
+     * @param       right The ending index (inclusive) of the subarray to be sorted.
+     * @param       maxDepth the number of partitions left before the sort switches to the Quick3 Sort.
+     * @param       functional lambda expression for comparison.
+     */
+    @Override
+    public void introRecursive(
+            Comparable[] array, int left, int right, int maxDepth, SortFunctional<Comparable> functional) {
+        if (bentleyMcIlroy) {
+            introFatRecursive(array, left, right, maxDepth, functional);
+            return;
+        }
+        IntroDPQ.super.introRecursive(array, left, right, maxDepth, functional);
+    }
+
+    /**
+     * {@inheritDoc}
+     * If {@code bentleyMcIlroy} is {@code true}, the ranges are partitioned by the Bentley–McIlroy fat partition
+     * instead of the dual pivot partition, see {@code introFatRecursiveInc}.
+     * @param       list The list to be sorted.
+     * @param       left The starting index of the sublist to be sorted.
+     * @param       right The ending index (inclusive) of the sublist to be sorted.
+     * @param       maxDepth the number of partitions left before the sort switches to the Quick3 Sort.
+     */
+    @Override
+    public <L extends Comparable> void introRecursiveInc(List<L> list, int left, int right, int maxDepth) {
+        if (bentleyMcIlroy) {
+            introFatRecursiveInc(list, left, right, maxDepth);
+            return;
+        }
+        IntroDPQ.super.introRecursiveInc(list, left, right, maxDepth);
+    }
+
+    /**
+     * {@inheritDoc}
+     * If {@code bentleyMcIlroy} is {@code true}, the ranges are partitioned by the Bentley–McIlroy fat partition
+     * instead of the dual pivot partition, see {@code introFatRecursiveDec}.
+     * @param       list The list to be sorted.
+     * @param       left The starting index of the sublist to be sorted.
+     * @param       right The ending index (inclusive) of the sublist to be sorted.
+     * @param       maxDepth the number of partitions left before the sort switches to the Quick3 Sort.
+     */
+    @Override
+    public <L extends Comparable> void introRecursiveDec(List<L> list, int left, int right, int maxDepth) {
+        if (bentleyMcIlroy) {
+            introFatRecursiveDec(list, left, right, maxDepth);
+            return;
+        }
+        IntroDPQ.super.introRecursiveDec(list, left, right, maxDepth);
+    }
+
+    /**
+     * {@inheritDoc}
+     * If {@code bentleyMcIlroy} is {@code true}, the ranges are partitioned by the Bentley–McIlroy fat partition
+     * instead of the dual pivot partition, see {@code introFatRecursive}.
+     * @param       list The list to be sorted.
+     * @param       left The starting index of the sublist to be sorted.
+     * @param       right The ending index (inclusive) of the sublist to be sorted.
+     * @param       maxDepth the number of partitions left before the sort switches to the Quick3 Sort.
+     * @param       functional lambda expression for comparison.
+     */
+    @Override
+    public <L extends Comparable> void introRecursive(
+            List<L> list, int left, int right, int maxDepth, SortFunctional<Comparable> functional) {
+        if (bentleyMcIlroy) {
+            introFatRecursive(list, left, right, maxDepth, functional);
+            return;
+        }
+        IntroDPQ.super.introRecursive(list, left, right, maxDepth, functional);
+    }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package github.magyarzoli.sort.intro.introDPQ;
 
+import github.magyarzoli.GapSequence;
 import github.magyarzoli.sort.intro.IntroShell;
 
 /**
@@ -66,4 +67,38 @@ public class IntroDPQShell
      * Stability:               <b>No</b>
      */
     public IntroDPQShell() {}
+
+    /**
+     * <b>IntroDPQ (Dual Pivot Quick) Shell Sort:</b><br>
+     * With binary insertion in the small ranges, if {@code binaryInsertion} is {@code true}.
+     * @param       binaryInsertion the insertions of the small ranges are binary.
+     * @see         IntroDPQShell#IntroDPQShell() IntroDPQShell
+     * @see         IntroShell#IntroShell(boolean) IntroShell
+     */
+    public IntroDPQShell(boolean binaryInsertion) {
+        super(binaryInsertion);
+    }
+
+    /**
+     * <b>IntroDPQ (Dual Pivot Quick) Shell Sort:</b><br>
+     * With the gap sequence of the Shell Sort fallback given.
+     * @param       gapSequence the gap sequence of the Shell Sort passes.
+     * @see         IntroDPQShell#IntroDPQShell() IntroDPQShell
+     */
+    public IntroDPQShell(GapSequence gapSequence) {
+        super(gapSequence);
+    }
+
+    /**
+     * <b>IntroDPQ (Dual Pivot Quick) Shell Sort:</b><br>
+     * With the gap sequence of the Shell Sort fallback given,
+     * and binary insertion in the small ranges, if {@code binaryInsertion} is {@code true}.
+     * @param       gapSequence the gap sequence of the Shell Sort passes.
+     * @param       binaryInsertion the insertions of the small ranges are binary.
+     * @see         IntroDPQShell#IntroDPQShell(GapSequence) IntroDPQShell
+     * @see         IntroShell#IntroShell(GapSequence, boolean) IntroShell
+     */
+    public IntroDPQShell(GapSequence gapSequence, boolean binaryInsertion) {
+        super(gapSequence, binaryInsertion);
+    }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package github.magyarzoli.sort.intro.introDPQ;
 
+import github.magyarzoli.PivotStrategy;
 import github.magyarzoli.sort.intro.IntroSlow;
 
 /**
@@ -66,4 +67,39 @@ public class IntroDPQSlow
      * Stability:               <b>No</b>
      */
     public IntroDPQSlow() {}
+
+    /**
+     * <b>IntroDPQ (Dual Pivot Quick) Slow Sort:</b><br>
+     * With binary insertion in the small ranges, if {@code binaryInsertion} is {@code true}.
+     * @param       binaryInsertion the insertions of the small ranges are binary.
+     * @see         IntroDPQSlow#IntroDPQSlow() IntroDPQSlow
+     * @see         IntroSlow#IntroSlow(boolean) IntroSlow
+     */
+    public IntroDPQSlow(boolean binaryInsertion) {
+        super(binaryInsertion);
+    }
+
+    /**
+     * <b>IntroDPQ (Dual Pivot Quick) Slow Sort:</b><br>
+     * With the pivot selection of the partitions given.
+     * @param       pivotStrategy the pivot selection of the partitions.
+     * @see         IntroDPQSlow#IntroDPQSlow() IntroDPQSlow
+     * @see         PivotStrategy
+     */
+    public IntroDPQSlow(PivotStrategy pivotStrategy) {
+        super(pivotStrategy);
+    }
+
+    /**
+     * <b>IntroDPQ (Dual Pivot Quick) Slow Sort:</b><br>
+     * With the pivot selection of the partitions given,
+     * and binary insertion in the small ranges, if {@code binaryInsertion} is {@code true}.
+     * @param       pivotStrategy the pivot selection of the partitions.
+     * @param       binaryInsertion the insertions of the small ranges are binary.
+     * @see         IntroDPQSlow#IntroDPQSlow(PivotStrategy) IntroDPQSlow
+     * @see         IntroSlow#IntroSlow(PivotStrategy, boolean) IntroSlow
+     */
+    public IntroDPQSlow(PivotStrategy pivotStrategy, boolean binaryInsertion) {
+        super(pivotStrategy, binaryInsertion);
+    }
 }
\ No newline at end of file
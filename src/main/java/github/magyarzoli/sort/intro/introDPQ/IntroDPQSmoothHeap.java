@@ -67,4 +67,15 @@ public class IntroDPQSmoothHeap
      * Stability:               <b>No</b>
      */
     public IntroDPQSmoothHeap() {}
+
+    /**
+     * <b>IntroDPQ (Dual Pivot Quick) Smooth Heap Sort:</b><br>
+     * With binary insertion in the small ranges, if {@code binaryInsertion} is {@code true}.
+     * @param       binaryInsertion the insertions of the small ranges are binary.
+     * @see         IntroDPQSmoothHeap#IntroDPQSmoothHeap() IntroDPQSmoothHeap
+     * @see         IntroSmoothHeap#IntroSmoothHeap(boolean) IntroSmoothHeap
+     */
+    public IntroDPQSmoothHeap(boolean binaryInsertion) {
+        super(binaryInsertion);
+    }
 }
\ No newline at end of file
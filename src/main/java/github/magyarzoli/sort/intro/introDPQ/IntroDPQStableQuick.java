@@ -67,4 +67,15 @@ public class IntroDPQStableQuick
      * Stability:               <b>No</b>
      */
     public IntroDPQStableQuick() {}
+
+    /**
+     * <b>IntroDPQ (Dual Pivot Quick) Stable Quick Sort:</b><br>
+     * With binary insertion in the small ranges, if {@code binaryInsertion} is {@code true}.
+     * @param       binaryInsertion the insertions of the small ranges are binary.
+     * @see         IntroDPQStableQuick#IntroDPQStableQuick() IntroDPQStableQuick
+     * @see         IntroStableQuick#IntroStableQuick(boolean) IntroStableQuick
+     */
+    public IntroDPQStableQuick(boolean binaryInsertion) {
+        super(binaryInsertion);
+    }
 }
\ No newline at end of file
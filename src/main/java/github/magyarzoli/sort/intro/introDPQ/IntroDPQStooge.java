@@ -66,4 +66,15 @@ implements IntroDPQ<Comparable> {
      * Stability:               <b>No</b>
      */
     public IntroDPQStooge() {}
+
+    /**
+     * <b>IntroDPQ (Dual Pivot Quick) Stooge Sort:</b><br>
+     * With binary insertion in the small ranges, if {@code binaryInsertion} is {@code true}.
+     * @param       binaryInsertion the insertions of the small ranges are binary.
+     * @see         IntroDPQStooge#IntroDPQStooge() IntroDPQStooge
+     * @see         IntroStooge#IntroStooge(boolean) IntroStooge
+     */
+    public IntroDPQStooge(boolean binaryInsertion) {
+        super(binaryInsertion);
+    }
 }
\ No newline at end of file
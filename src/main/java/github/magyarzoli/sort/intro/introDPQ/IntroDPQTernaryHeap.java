@@ -67,4 +67,15 @@ public class IntroDPQTernaryHeap
      * Stability:               <b>No</b>
      */
     public IntroDPQTernaryHeap() {}
+
+    /**
+     * <b>IntroDPQ (Dual Pivot Quick) Weak Heap Sort:</b><br>
+     * With binary insertion in the small ranges, if {@code binaryInsertion} is {@code true}.
+     * @param       binaryInsertion the insertions of the small ranges are binary.
+     * @see         IntroDPQTernaryHeap#IntroDPQTernaryHeap() IntroDPQTernaryHeap
+     * @see         IntroTernaryHeap#IntroTernaryHeap(boolean) IntroTernaryHeap
+     */
+    public IntroDPQTernaryHeap(boolean binaryInsertion) {
+        super(binaryInsertion);
+    }
 }
\ No newline at end of file
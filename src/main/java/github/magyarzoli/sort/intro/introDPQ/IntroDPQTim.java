@@ -66,4 +66,15 @@ public class IntroDPQTim
      * Stability:               <b>No</b>
      */
     public IntroDPQTim() {}
+
+    /**
+     * <b>IntroDPQ (Dual Pivot Quick) Tim Sort:</b><br>
+     * With binary insertion in the small ranges, if {@code binaryInsertion} is {@code true}.
+     * @param       binaryInsertion the insertions of the small ranges are binary.
+     * @see         IntroDPQTim#IntroDPQTim() IntroDPQTim
+     * @see         IntroTim#IntroTim(boolean) IntroTim
+     */
+    public IntroDPQTim(boolean binaryInsertion) {
+        super(binaryInsertion);
+    }
 }
\ No newline at end of file
@@ -67,4 +67,15 @@ public class IntroDPQWeakHeap
      * Stability:               <b>No</b>
      */
     public IntroDPQWeakHeap() {}
+
+    /**
+     * <b>IntroDPQ (Dual Pivot Quick) Weak Heap Sort:</b><br>
+     * With binary insertion in the small ranges, if {@code binaryInsertion} is {@code true}.
+     * @param       binaryInsertion the insertions of the small ranges are binary.
+     * @see         IntroDPQWeakHeap#IntroDPQWeakHeap() IntroDPQWeakHeap
+     * @see         IntroWeakHeap#IntroWeakHeap(boolean) IntroWeakHeap
+     */
+    public IntroDPQWeakHeap(boolean binaryInsertion) {
+        super(binaryInsertion);
+    }
 }
\ No newline at end of file
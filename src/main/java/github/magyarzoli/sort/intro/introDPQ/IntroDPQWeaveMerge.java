@@ -67,4 +67,15 @@ public class IntroDPQWeaveMerge
      * Stability:               <b>No</b>
      */
     public IntroDPQWeaveMerge() {}
+
+    /**
+     * <b>IntroDPQ (Dual Pivot Quick) Weave Merge Sort:</b><br>
+     * With binary insertion in the small ranges, if {@code binaryInsertion} is {@code true}.
+     * @param       binaryInsertion the insertions of the small ranges are binary.
+     * @see         IntroDPQWeaveMerge#IntroDPQWeaveMerge() IntroDPQWeaveMerge
+     * @see         IntroWeaveMerge#IntroWeaveMerge(boolean) IntroWeaveMerge
+     */
+    public IntroDPQWeaveMerge(boolean binaryInsertion) {
+        super(binaryInsertion);
+    }
 }
\ No newline at end of file
@@ -66,4 +66,15 @@ public class IntroDPQWiki
      * Stability:               <b>No</b>
      */
     public IntroDPQWiki() {}
+
+    /**
+     * <b>IntroDPQ (Dual Pivot Quick) Wiki Sort:</b><br>
+     * With binary insertion in the small ranges, if {@code binaryInsertion} is {@code true}.
+     * @param       binaryInsertion the insertions of the small ranges are binary.
+     * @see         IntroDPQWiki#IntroDPQWiki() IntroDPQWiki
+     * @see         IntroWiki#IntroWiki(boolean) IntroWiki
+     */
+    public IntroDPQWiki(boolean binaryInsertion) {
+        super(binaryInsertion);
+    }
 }
\ No newline at end of file
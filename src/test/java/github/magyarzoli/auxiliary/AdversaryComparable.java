@@ -0,0 +1,75 @@
+package github.magyarzoli.auxiliary;
+
+import java.util.Arrays;
+
+/**
+ * McIlroy's adversary: the values are decided lazily while the sorter compares the elements.
+ * Every element starts as "gas" (greater than anything decided), when two gas elements are compared one of them is
+ * frozen, preferring the element that was compared most recently (the likely pivot). The answers stay consistent with
+ * the values frozen at the end, so the result can be checked against them.
+ */
+public class AdversaryComparable
+        implements Comparable<AdversaryComparable> {
+
+    private static int[] values = new int[0];
+
+    private static int gas;
+
+    private static int solid;
+
+    private static int candidate;
+
+    private static long count;
+
+    private final int index;
+
+    private AdversaryComparable(int index) {
+        this.index = index;
+    }
+
+    public static synchronized AdversaryComparable[] adversaryArray(int length) {
+        values = new int[length];
+        gas = length;
+        Arrays.fill(values, gas);
+        solid = 0;
+        candidate = 0;
+        count = 0;
+        AdversaryComparable[] array = new AdversaryComparable[length];
+        for (int i = 0; i < length; i++) {
+            array[i] = new AdversaryComparable(i);
+        }
+        return array;
+    }
+
+    public static synchronized long count() {
+        return count;
+    }
+
+    public int getValue() {
+        synchronized (AdversaryComparable.class) {
+            return values[index];
+        }
+    }
+
+    @Override
+    public int compareTo(AdversaryComparable o) {
+        synchronized (AdversaryComparable.class) {
+            count++;
+            int x = index, y = o.index;
+            if ((values[x] == gas) && (values[y] == gas)) {
+                values[(x == candidate) ? x : y] = solid++;
+            }
+            if (values[x] == gas) {
+                candidate = x;
+            } else if (values[y] == gas) {
+                candidate = y;
+            }
+            return Integer.compare(values[x], values[y]);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return Integer.toString(getValue());
+    }
+}
\ No newline at end of file
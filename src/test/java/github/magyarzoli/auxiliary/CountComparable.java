@@ -0,0 +1,58 @@
+package github.magyarzoli.auxiliary;
+
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class CountComparable
+        implements Comparable<CountComparable> {
+
+    private static final AtomicLong COUNT = new AtomicLong();
+
+    private final int value;
+
+    public CountComparable(int value) {
+        this.value = value;
+    }
+
+    public static CountComparable[] randomArray(int length, int bound, long seed) {
+        Random random = new Random(seed);
+        CountComparable[] array = new CountComparable[length];
+        for (int i = 0; i < length; i++) {
+            array[i] = new CountComparable(random.nextInt(bound));
+        }
+        return array;
+    }
+
+    public static void reset() {
+        COUNT.set(0);
+    }
+
+    public static long count() {
+        return COUNT.get();
+    }
+
+    public int getValue() {
+        return value;
+    }
+
+    @Override
+    public int compareTo(CountComparable o) {
+        COUNT.incrementAndGet();
+        return Integer.compare(value, o.value);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return (o instanceof CountComparable) && (((CountComparable) o).value == value);
+    }
+
+    @Override
+    public int hashCode() {
+        return Integer.hashCode(value);
+    }
+
+    @Override
+    public String toString() {
+        return Integer.toString(value);
+    }
+}
\ No newline at end of file
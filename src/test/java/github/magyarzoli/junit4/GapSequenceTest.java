@@ -0,0 +1,90 @@
+package github.magyarzoli.junit4;
+
+import github.magyarzoli.GapSequence;
+import github.magyarzoli.sort.Shell;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
+import static github.magyarzoli.Sort.DEC;
+import static github.magyarzoli.Sort.INC;
+import static github.magyarzoli.auxiliary.TestAuxiliary.classTypeArray;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+@SuppressWarnings({"rawtypes", "unchecked"})
+public class GapSequenceTest {
+
+    private final GapSequence[] sequences = {
+            GapSequence.SHELL, GapSequence.KNUTH, GapSequence.SEDGEWICK,
+            GapSequence.TOKUDA, GapSequence.PRATT, GapSequence.CIURA
+    };
+
+    @Test
+    public void ciuraTest() {
+        assertThat(GapSequence.CIURA.gaps(5000), is(new int[] {3937, 1750, 701, 301, 132, 57, 23, 10, 4, 1}));
+    }
+
+    @Test
+    public void tokudaTest() {
+        assertThat(GapSequence.TOKUDA.gaps(250), is(new int[] {233, 103, 46, 20, 9, 4, 1}));
+    }
+
+    @Test
+    public void sedgewickTest() {
+        assertThat(GapSequence.SEDGEWICK.gaps(300), is(new int[] {281, 77, 23, 8, 1}));
+    }
+
+    @Test
+    public void prattTest() {
+        assertThat(GapSequence.PRATT.gaps(10), is(new int[] {9, 8, 6, 4, 3, 2, 1}));
+    }
+
+    @Test
+    public void smallLengthTest() {
+        for (GapSequence sequence : sequences) {
+            assertThat(sequence.gaps(0), is(new int[] {1}));
+            assertThat(sequence.gaps(1), is(new int[] {1}));
+        }
+    }
+
+    @Test
+    public void shellSequenceTest() {
+        for (GapSequence sequence : sequences) {
+            Integer[] actualArray = classTypeArray(Integer.class, 1000);
+            Integer[] expectedArray = Arrays.copyOf(actualArray, actualArray.length);
+            Arrays.sort(expectedArray);
+            new Shell(sequence).sortArray(actualArray, INC);
+            assertThat(actualArray, is(expectedArray));
+            Arrays.sort(expectedArray, Comparator.reverseOrder());
+            new Shell(sequence).sortArray(actualArray, DEC);
+            assertThat(actualArray, is(expectedArray));
+        }
+    }
+
+    @Test
+    public void shellPrimitiveTest() {
+        Random random = new Random(27L);
+        int[] actualInt = random.ints(1000).toArray();
+        long[] actualLong = random.longs(1000).toArray();
+        double[] actualDouble = random.doubles(1000).toArray();
+        int[] expectedInt = Arrays.copyOf(actualInt, actualInt.length);
+        long[] expectedLong = Arrays.copyOf(actualLong, actualLong.length);
+        double[] expectedDouble = Arrays.copyOf(actualDouble, actualDouble.length);
+        Arrays.sort(expectedInt);
+        Arrays.sort(expectedLong);
+        Arrays.sort(expectedDouble);
+        Shell shell = new Shell();
+        shell.sortArrayInc(actualInt);
+        shell.sortArrayInc(actualLong);
+        shell.sortArrayInc(actualDouble);
+        assertThat(actualInt, is(expectedInt));
+        assertThat(actualLong, is(expectedLong));
+        assertThat(actualDouble, is(expectedDouble));
+        shell.sortArrayDec(actualInt);
+        assertThat(actualInt[0], is(expectedInt[(expectedInt.length - 1)]));
+        assertThat(actualInt[(actualInt.length - 1)], is(expectedInt[0]));
+    }
+}
\ No newline at end of file
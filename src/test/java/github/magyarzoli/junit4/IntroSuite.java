@@ -6,8 +6,11 @@ import org.junit.runners.Suite;
 
 @RunWith(Suite.class)
 @Suite.SuiteClasses({
+        HybridSorterTest.class,
         IntroBatcherOddEvenMergeTest.class,
+        IntroBlockQuickTest.class,
         IntroBogoTest.class,
+        IntroBottomUpHeapTest.class,
         IntroBozoTest.class,
         IntroBubbleTest.class,
         IntroCocktailTest.class,
@@ -24,6 +27,7 @@ import org.junit.runners.Suite;
         IntroOddEvenMergeTest.class,
         IntroOddEvenTest.class,
         IntroPancakeTest.class,
+        IntroPdqTest.class,
         IntroPermutationTest.class,
         IntroQuick3Test.class,
         IntroQuickTest.class,
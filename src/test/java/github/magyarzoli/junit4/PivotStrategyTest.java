@@ -0,0 +1,151 @@
+package github.magyarzoli.junit4;
+
+import github.magyarzoli.PivotStrategy;
+import github.magyarzoli.SortFunctional;
+import github.magyarzoli.Sorter;
+import github.magyarzoli.sort.DualPivotQuick;
+import github.magyarzoli.sort.Quick;
+import github.magyarzoli.sort.Quick3;
+import github.magyarzoli.sort.intro.IntroQuick;
+import github.magyarzoli.sort.intro.introDPQ.IntroDPQQuick;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static github.magyarzoli.Sort.DEC;
+import static github.magyarzoli.Sort.INC;
+import static github.magyarzoli.auxiliary.TestAuxiliary.classTypeArray;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+@SuppressWarnings({"rawtypes", "unchecked"})
+public class PivotStrategyTest {
+
+    private final SortFunctional<Integer> functional = (a, b) -> a.compareTo(b) > 0;
+
+    private final PivotStrategy[] strategies = {
+            PivotStrategy.LAST, PivotStrategy.MEDIAN_OF_3, PivotStrategy.NINTHER,
+            PivotStrategy.TERTILES, PivotStrategy.ADAPTIVE, PivotStrategy.random(30L)
+    };
+
+    @Test
+    public void medianTest() {
+        Integer[] array = {3, 1, 2};
+        assertThat(PivotStrategy.median(array, 0, 1, 2, functional), is(2));
+        array = new Integer[] {1, 3, 2};
+        assertThat(PivotStrategy.median(array, 0, 1, 2, functional), is(2));
+        array = new Integer[] {2, 3, 1};
+        assertThat(PivotStrategy.median(array, 0, 1, 2, functional), is(0));
+        array = new Integer[] {1, 2, 3};
+        assertThat(PivotStrategy.median(array, 0, 1, 2, functional), is(1));
+    }
+
+    @Test
+    public void nintherTest() {
+        Integer[] array = new Integer[1000];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = i;
+        }
+        int ninther = PivotStrategy.ninther(array, 0, 999, functional);
+        assertTrue(String.valueOf(ninther), (ninther > 400) && (ninther < 600));
+        List<Integer> list = new ArrayList<>(Arrays.asList(array));
+        assertThat(PivotStrategy.ninther(list, 0, 999, functional), is(ninther));
+    }
+
+    @Test
+    public void selectDualTest() {
+        Integer[] array = new Integer[700];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = (array.length - i);
+        }
+        PivotStrategy.TERTILES.selectDual(array, 0, 699, functional);
+        assertTrue(array[0] + " < " + array[699], array[0] < array[699]);
+        assertTrue(String.valueOf(array[0]), (array[0] > 150) && (array[0] < 300));
+        assertTrue(String.valueOf(array[699]), (array[699] > 400) && (array[699] < 550));
+    }
+
+    @Test
+    public void randomSeedTest() {
+        PivotStrategy first = PivotStrategy.random(42L);
+        PivotStrategy second = PivotStrategy.random(42L);
+        Integer[] array = classTypeArray(Integer.class, 100);
+        for (int i = 0; i < 10; i++) {
+            assertThat(first.pivot(array, 0, 99, functional), is(second.pivot(array, 0, 99, functional)));
+        }
+    }
+
+    @Test
+    public void randomThreadTest() throws InterruptedException {
+        PivotStrategy strategy = PivotStrategy.random(42L);
+        SplittableRandom root = new SplittableRandom(42L);
+        SplittableRandom first = root.split(), second = root.split();
+        Integer[] array = classTypeArray(Integer.class, 100);
+        for (int i = 0; i < 10; i++) {
+            assertThat(strategy.pivot(array, 0, 99, functional), is(first.nextInt(100)));
+        }
+        List<Integer> pivots = new ArrayList<>();
+        Thread worker = new Thread(() -> {
+            for (int i = 0; i < 10; i++) {
+                pivots.add(strategy.pivot(array, 0, 99, functional));
+            }
+        });
+        worker.start();
+        worker.join();
+        for (int pivot : pivots) {
+            assertThat(pivot, is(second.nextInt(100)));
+        }
+        assertThat(pivots.size(), is(10));
+    }
+
+    @Test
+    public void bySizeTest() {
+        assertThat(PivotStrategy.bySize(5), is(PivotStrategy.LAST));
+        assertThat(PivotStrategy.bySize(100), is(PivotStrategy.MEDIAN_OF_3));
+        assertThat(PivotStrategy.bySize(100_000), is(PivotStrategy.NINTHER));
+    }
+
+    @Test
+    public void strategySortTest() {
+        for (PivotStrategy strategy : strategies) {
+            Sorter[] sorters = {
+                    new Quick(strategy), new Quick3(strategy), new DualPivotQuick(strategy),
+                    new IntroQuick(strategy), new IntroDPQQuick(strategy)
+            };
+            for (Sorter sorter : sorters) {
+                Integer[] actualArray = classTypeArray(Integer.class, 1000);
+                Integer[] expectedArray = Arrays.copyOf(actualArray, actualArray.length);
+                List<Integer> actualList = new ArrayList<>(Arrays.asList(actualArray));
+                Arrays.sort(expectedArray);
+                sorter.sortArray(actualArray, INC);
+                assertThat(actualArray, is(expectedArray));
+                sorter.sortList(actualList, INC);
+                assertThat(actualList.toArray(), is((Object[]) expectedArray));
+                Arrays.sort(expectedArray, Comparator.reverseOrder());
+                sorter.sortArray(actualArray, DEC);
+                assertThat(actualArray, is(expectedArray));
+            }
+        }
+    }
+
+    @Test
+    public void strategySortFunTest() {
+        for (PivotStrategy strategy : strategies) {
+            Sorter[] sorters = {
+                    new Quick(strategy), new DualPivotQuick(strategy),
+                    new IntroQuick(strategy), new IntroDPQQuick(strategy)
+            };
+            for (Sorter sorter : sorters) {
+                Integer[] actualArray = classTypeArray(Integer.class, 1000);
+                Integer[] expectedArray = Arrays.copyOf(actualArray, actualArray.length);
+                Arrays.sort(expectedArray);
+                sorter.sortArray(actualArray, (a, b) -> a.compareTo(b) > 0);
+                assertThat(actualArray, is(expectedArray));
+            }
+        }
+    }
+}
\ No newline at end of file
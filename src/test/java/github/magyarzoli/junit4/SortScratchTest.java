@@ -0,0 +1,159 @@
+package github.magyarzoli.junit4;
+
+import github.magyarzoli.SortScratch;
+import github.magyarzoli.Sorter;
+import github.magyarzoli.auxiliary.CountComparable;
+import github.magyarzoli.sort.KWayMerge;
+import github.magyarzoli.sort.Merge;
+import github.magyarzoli.sort.Merge3;
+import github.magyarzoli.sort.MergeInsertion;
+import github.magyarzoli.sort.SmoothHeap;
+import github.magyarzoli.sort.Tim;
+import github.magyarzoli.sort.WeaveMerge;
+import github.magyarzoli.sort.Wiki;
+import org.junit.Assume;
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.Comparator;
+
+import static github.magyarzoli.Sort.DEC;
+import static github.magyarzoli.Sort.INC;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+@SuppressWarnings({"rawtypes", "unchecked"})
+public class SortScratchTest {
+
+    private Sorter[] sorters(SortScratch scratch) {
+        return new Sorter[] {
+                new Merge(scratch), new Merge3(scratch), new MergeInsertion(false, scratch), new Tim(false, scratch),
+                new WeaveMerge(scratch), new Wiki(false, scratch), new KWayMerge(16, scratch),
+                new SmoothHeap(scratch)
+        };
+    }
+
+    @Test
+    public void sizeClassTest() {
+        SortScratch scratch = new SortScratch();
+        assertThat(scratch.borrow(0).length, is(1));
+        assertThat(scratch.borrow(1).length, is(1));
+        assertThat(scratch.borrow(17).length, is(32));
+        assertThat(scratch.borrow(32).length, is(32));
+        assertThat(scratch.borrowInts(1_000).length, is(1_024));
+    }
+
+    @Test
+    public void reuseTest() {
+        SortScratch scratch = new SortScratch();
+        Comparable[] buffer = scratch.borrow(100);
+        scratch.release(buffer, 100);
+        assertThat(scratch.borrow(65), sameInstance(buffer));
+        assertThat(scratch.borrow(65), not(sameInstance(buffer)));
+        int[] ints = scratch.borrowInts(10);
+        scratch.releaseInts(ints);
+        assertThat(scratch.borrowInts(9), sameInstance(ints));
+    }
+
+    @Test
+    public void clearReferencesTest() {
+        SortScratch scratch = new SortScratch();
+        Comparable[] buffer = scratch.borrow(8);
+        Arrays.fill(buffer, 0, 5, 42);
+        scratch.release(buffer, 5);
+        for (Comparable element : scratch.borrow(8)) {
+            assertThat(element, nullValue());
+        }
+    }
+
+    @Test
+    public void limitTest() {
+        SortScratch scratch = new SortScratch(64);
+        Comparable[] buffer = scratch.borrow(100);
+        assertThat(buffer.length, is(100));
+        scratch.release(buffer);
+        scratch.release(new Comparable[48]);
+        assertThat(scratch.retained(), is(0L));
+        scratch.release(scratch.borrow(64));
+        scratch.releaseInts(scratch.borrowInts(3));
+        assertThat(scratch.retained(), is(68L));
+        scratch.clear();
+        assertThat(scratch.retained(), is(0L));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void negativeLimitTest() {
+        new SortScratch(-1);
+    }
+
+    @Test
+    public void localTest() throws InterruptedException {
+        SortScratch[] other = new SortScratch[1];
+        Thread thread = new Thread(() -> other[0] = SortScratch.local());
+        thread.start();
+        thread.join();
+        assertThat(SortScratch.local(), sameInstance(SortScratch.local()));
+        assertThat(other[0], not(sameInstance(SortScratch.local())));
+    }
+
+    @Test
+    public void scratchSortTest() {
+        SortScratch scratch = new SortScratch();
+        for (Sorter sorter : sorters(scratch)) {
+            assertThat(sorter.scratch(), sameInstance(scratch));
+            for (int size : new int[] {0, 1, 33, 1_000}) {
+                CountComparable[] array = CountComparable.randomArray(size, 100, 65L);
+                CountComparable[] expectedArray = Arrays.copyOf(array, size);
+                Arrays.sort(expectedArray);
+                CountComparable[] reverseArray = Arrays.copyOf(expectedArray, size);
+                Arrays.sort(reverseArray, Comparator.reverseOrder());
+                sorter.sortArray(array, INC);
+                assertThat(array, is(expectedArray));
+                sorter.sortArray(array, DEC);
+                assertThat(array, is(reverseArray));
+                sorter.sortArray(array, (a, b) -> a.compareTo(b) > 0);
+                assertThat(array, is(expectedArray));
+            }
+        }
+        assertTrue(scratch.retained() > 0);
+        assertThat(new Merge().scratch(), sameInstance(SortScratch.local()));
+    }
+
+    @Test
+    public void allocationFreeTest() {
+        if (!(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean)) {
+            Assume.assumeTrue(false);
+        }
+        com.sun.management.ThreadMXBean bean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        Assume.assumeTrue(bean.isThreadAllocatedMemorySupported() && bean.isThreadAllocatedMemoryEnabled());
+        int size = 100_000;
+        Integer[] source = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            source[i] = ((i * 7_919) % size);
+        }
+        SortScratch scratch = new SortScratch();
+        for (Sorter sorter : sorters(scratch)) {
+            Integer[] array = source.clone();
+            sorter.sortArray(array, INC);
+            long limit = 16_384, allocated = Long.MAX_VALUE;
+            for (int repeat = 0; (repeat < 5) && (allocated > limit); repeat++) {
+                System.arraycopy(source, 0, array, 0, size);
+                long before = bean.getThreadAllocatedBytes(Thread.currentThread().getId());
+                sorter.sortArray(array, INC);
+                allocated = (bean.getThreadAllocatedBytes(Thread.currentThread().getId()) - before);
+            }
+            for (int i = 0; i < size; i++) {
+                if (array[i] != i) {
+                    fail(sorter.getClass().getSimpleName() + " is not sorted at " + i);
+                }
+            }
+            assertTrue(sorter.getClass().getSimpleName() + ": " + allocated + " > " + limit, allocated <= limit);
+        }
+    }
+}
\ No newline at end of file
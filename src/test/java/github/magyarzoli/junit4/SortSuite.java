@@ -7,16 +7,20 @@ import org.junit.runners.Suite;
 @RunWith(Suite.class)
 @Suite.SuiteClasses({
         BatcherOddEvenMergeTest.class,
+        BlockQuickTest.class,
         BogoTest.class,
+        BottomUpHeapTest.class,
         BozoTest.class,
         BubbleTest.class,
         CocktailTest.class,
         CombTest.class,
         DoubleSelectionTest.class,
         DualPivotQuickTest.class,
+        FordJohnsonTest.class,
         GnomeTest.class,
         HeapTest.class,
         InsertionTest.class,
+        KWayMergeTest.class,
         Merge3Test.class,
         MergeInPlaceTest.class,
         MergeInsertionTest.class,
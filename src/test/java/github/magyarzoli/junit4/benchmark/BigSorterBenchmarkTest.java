@@ -0,0 +1,135 @@
+package github.magyarzoli.junit4.benchmark;
+
+import github.magyarzoli.BigArray;
+import github.magyarzoli.BigLongArray;
+import github.magyarzoli.SortFunctional;
+import github.magyarzoli.auxiliary.CountComparable;
+import github.magyarzoli.sort.BigSorter;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static github.magyarzoli.Sort.DEC;
+import static github.magyarzoli.Sort.INC;
+import static github.magyarzoli.Sort.REV;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+@SuppressWarnings({"rawtypes", "unchecked"})
+public class BigSorterBenchmarkTest {
+
+    private final int length = 50_000;
+
+    private final SortFunctional<CountComparable> inc = (a, b) -> a.compareTo(b) > 0;
+
+    @Test
+    public void segmentTest() {
+        BigArray<CountComparable> array = new BigArray<>(100, 4);
+        assertThat(array.length(), is(100L));
+        CountComparable[] source = CountComparable.randomArray(100, 1_000, 81L);
+        for (int i = 0; i < 100; i++) {
+            array.set(i, source[i]);
+        }
+        assertThat(array.toArray(new CountComparable[0]), is(source));
+        BigArray<CountComparable> target = new BigArray<>(100, 5);
+        array.copy(3, target, 40, 50);
+        for (int i = 0; i < 50; i++) {
+            assertThat(target.get((40 + i)), is(source[(3 + i)]));
+        }
+    }
+
+    @Test(expected = ArrayIndexOutOfBoundsException.class)
+    public void indexTest() {
+        new BigArray<>(100, 4).get(100);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void lengthTest() {
+        new BigArray<>(-1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shiftTest() {
+        new BigLongArray(10, 31);
+    }
+
+    @Test
+    public void mergeSortTest() {
+        for (BigSorter sorter : new BigSorter[] {new BigSorter(), new BigSorter(4)}) {
+            for (int bound : new int[] {2, 100, Integer.MAX_VALUE}) {
+                CountComparable[] source = CountComparable.randomArray(length, bound, 82L);
+                Map<CountComparable, Integer> places = new IdentityHashMap<>();
+                for (int i = 0; i < length; i++) {
+                    places.put(source[i], i);
+                }
+                CountComparable[] expectedArray = Arrays.copyOf(source, length);
+                Arrays.sort(expectedArray);
+                CountComparable[] reverseArray = Arrays.copyOf(expectedArray, length);
+                Arrays.sort(reverseArray, Comparator.reverseOrder());
+                BigArray<CountComparable> array = BigArray.of(source, 10);
+                sorter.sort(array, INC);
+                CountComparable[] actualArray = array.toArray(new CountComparable[0]);
+                assertThat(actualArray, is(expectedArray));
+                for (int i = 1; i < length; i++) {
+                    if (actualArray[(i - 1)].getValue() == actualArray[i].getValue()) {
+                        assertTrue(places.get(actualArray[(i - 1)]) < places.get(actualArray[i]));
+                    }
+                }
+                sorter.sort(array, DEC);
+                assertThat(array.toArray(new CountComparable[0]), is(reverseArray));
+                sorter.sort(array, REV);
+                assertThat(array.toArray(new CountComparable[0]), is(expectedArray));
+            }
+        }
+    }
+
+    @Test
+    public void introSortTest() {
+        CountComparable[] sorted = CountComparable.randomArray(length, Integer.MAX_VALUE, 83L);
+        Arrays.sort(sorted);
+        CountComparable[][] arrays = {
+                CountComparable.randomArray(length, 2, 84L),
+                CountComparable.randomArray(length, Integer.MAX_VALUE, 85L),
+                sorted,
+                CountComparable.randomArray(17, 10, 86L),
+                new CountComparable[0]
+        };
+        for (CountComparable[] source : arrays) {
+            CountComparable[] expectedArray = Arrays.copyOf(source, source.length);
+            Arrays.sort(expectedArray);
+            BigArray<CountComparable> array = BigArray.of(source, 7);
+            new BigSorter().introSort(array, inc);
+            assertThat(array.toArray(new CountComparable[0]), is(expectedArray));
+        }
+    }
+
+    @Test
+    public void radixSortTest() {
+        SplittableRandom random = new SplittableRandom(87L);
+        long[][] arrays = {
+                random.longs(length).toArray(),
+                random.longs(length, -1_000, 1_000).toArray(),
+                random.longs(length, 0, 256).toArray(),
+                {Long.MIN_VALUE, Long.MAX_VALUE, -1, 0, 1, Long.MIN_VALUE}
+        };
+        for (BigSorter sorter : new BigSorter[] {new BigSorter(), new BigSorter(3)}) {
+            for (long[] source : arrays) {
+                long[] expectedArray = source.clone();
+                Arrays.sort(expectedArray);
+                BigLongArray array = BigLongArray.of(source, 9);
+                sorter.radixSort(array);
+                assertThat(array.toArray(), is(expectedArray));
+            }
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void parallelismTest() {
+        new BigSorter(0);
+    }
+}
\ No newline at end of file
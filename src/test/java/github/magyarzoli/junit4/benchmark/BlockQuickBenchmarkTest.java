@@ -0,0 +1,110 @@
+package github.magyarzoli.junit4.benchmark;
+
+import github.magyarzoli.BlockQuickInterface;
+import github.magyarzoli.Sorter;
+import github.magyarzoli.auxiliary.CountComparable;
+import github.magyarzoli.sort.BlockQuick;
+import github.magyarzoli.sort.Quick;
+import github.magyarzoli.sort.intro.IntroBlockQuick;
+import github.magyarzoli.sort.intro.IntroHeap;
+import github.magyarzoli.sort.intro.IntroQuick;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
+import static github.magyarzoli.Sort.DEC;
+import static github.magyarzoli.Sort.INC;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+@SuppressWarnings({"rawtypes", "unchecked"})
+public class BlockQuickBenchmarkTest {
+
+    private final int length = 100_000;
+
+    private static class IntroBlockHeap
+            extends IntroHeap
+            implements BlockQuickInterface<Comparable> {}
+
+    private long compares(Sorter sorter, CountComparable[] array, int type) {
+        CountComparable[] expectedArray = Arrays.copyOf(array, array.length);
+        if (type == INC) {
+            Arrays.sort(expectedArray);
+        } else {
+            Arrays.sort(expectedArray, Comparator.reverseOrder());
+        }
+        CountComparable.reset();
+        sorter.sortArray(array, type);
+        long count = CountComparable.count();
+        assertThat(array, is(expectedArray));
+        return count;
+    }
+
+    @Test
+    public void partitionBlockTest() {
+        CountComparable[] array = CountComparable.randomArray(1000, 50, 29L);
+        BlockQuick blockQuick = new BlockQuick();
+        int pivot = blockQuick.partitionBlockInc(array, 100, 899);
+        for (int i = 100; i < pivot; i++) {
+            assertTrue(array[i].compareTo(array[pivot]) < 0);
+        }
+        for (int i = (pivot + 1); i <= 899; i++) {
+            assertTrue(array[i].compareTo(array[pivot]) >= 0);
+        }
+    }
+
+    @Test
+    public void blockComparesTest() {
+        CountComparable[] array = CountComparable.randomArray(length, Integer.MAX_VALUE, 30L);
+        long quick = compares(new Quick(), Arrays.copyOf(array, length), INC);
+        long block = compares(new BlockQuick(), Arrays.copyOf(array, length), INC);
+        long introQuick = compares(new IntroQuick(), Arrays.copyOf(array, length), DEC);
+        long introBlock = compares(new IntroBlockQuick(), Arrays.copyOf(array, length), DEC);
+        compares(new IntroBlockHeap(), Arrays.copyOf(array, length), INC);
+        assertTrue(quick + " > " + block, block < (quick * 11 / 10));
+        assertTrue(introQuick + " > " + introBlock, introBlock < (introQuick * 11 / 10));
+    }
+
+    @Test
+    public void blockPrimitiveTest() {
+        Random random = new Random(31L);
+        int[] actualInt = random.ints(length).toArray();
+        long[] actualLong = random.longs(length).toArray();
+        double[] actualDouble = random.doubles(length).toArray();
+        actualDouble[0] = Double.NaN;
+        actualDouble[1] = -0.0;
+        actualDouble[2] = 0.0;
+        int[] expectedInt = Arrays.copyOf(actualInt, length);
+        long[] expectedLong = Arrays.copyOf(actualLong, length);
+        double[] expectedDouble = Arrays.copyOf(actualDouble, length);
+        Arrays.sort(expectedInt);
+        Arrays.sort(expectedLong);
+        Arrays.sort(expectedDouble);
+        BlockQuick blockQuick = new BlockQuick();
+        blockQuick.sortArrayInc(actualInt);
+        blockQuick.sortArrayInc(actualLong);
+        blockQuick.sortArrayInc(actualDouble);
+        assertThat(actualInt, is(expectedInt));
+        assertThat(actualLong, is(expectedLong));
+        assertThat(actualDouble, is(expectedDouble));
+        blockQuick.sortArrayDec(actualInt);
+        for (int i = 0; i < length; i++) {
+            assertThat(actualInt[i], is(expectedInt[(length - 1 - i)]));
+        }
+    }
+
+    @Test
+    public void blockPrimitiveSortedTest() {
+        int[] actualInt = new int[length];
+        for (int i = 0; i < length; i++) {
+            actualInt[i] = (i % 1000);
+        }
+        int[] expectedInt = Arrays.copyOf(actualInt, length);
+        Arrays.sort(expectedInt);
+        new BlockQuick().sortArrayInc(actualInt);
+        assertThat(actualInt, is(expectedInt));
+    }
+}
\ No newline at end of file
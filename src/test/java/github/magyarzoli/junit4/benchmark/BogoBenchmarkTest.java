@@ -0,0 +1,113 @@
+package github.magyarzoli.junit4.benchmark;
+
+import github.magyarzoli.SortFunctional;
+import github.magyarzoli.Sorter;
+import github.magyarzoli.auxiliary.CountComparable;
+import github.magyarzoli.sort.Bogo;
+import github.magyarzoli.sort.Bozo;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import static github.magyarzoli.Sort.DEC;
+import static github.magyarzoli.Sort.INC;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+@SuppressWarnings({"rawtypes", "unchecked"})
+public class BogoBenchmarkTest {
+
+    private final int length = 6;
+
+    private final SortFunctional<Comparable> inc = (a, b) -> a.compareTo(b) > 0;
+
+    private Integer[] reversed(int size) {
+        Integer[] array = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            array[i] = (size - 1 - i);
+        }
+        return array;
+    }
+
+    @Test
+    public void randomSortTest() {
+        Sorter[] sorters = {
+                new Bogo(), new Bogo(4), new Bozo(), new Bozo(new SplittableRandom(75L), 4)
+        };
+        CountComparable[] array = CountComparable.randomArray(length, 100, 76L);
+        CountComparable[] expectedArray = Arrays.copyOf(array, length);
+        Arrays.sort(expectedArray);
+        CountComparable[] reverseArray = Arrays.copyOf(expectedArray, length);
+        Arrays.sort(reverseArray, Comparator.reverseOrder());
+        for (Sorter sorter : sorters) {
+            CountComparable[] actualArray = Arrays.copyOf(array, length);
+            sorter.sortArray(actualArray, INC);
+            assertThat(actualArray, is(expectedArray));
+            sorter.sortArray(actualArray, DEC);
+            assertThat(actualArray, is(reverseArray));
+            sorter.sortArray(actualArray, (a, b) -> a.compareTo(b) > 0);
+            assertThat(actualArray, is(expectedArray));
+            List<CountComparable> actualList = new LinkedList<>(Arrays.asList(array));
+            sorter.sortList(actualList, DEC);
+            assertThat(actualList.toArray(), is((Object[]) reverseArray));
+        }
+    }
+
+    @Test
+    public void seededTest() {
+        for (Bogo sorter : new Bogo[] {new Bogo(new SplittableRandom(77L)), new Bozo(new SplittableRandom(77L))}) {
+            Bogo other = ((sorter instanceof Bozo)
+                    ? new Bozo(new SplittableRandom(77L))
+                    : new Bogo(new SplittableRandom(77L)));
+            Integer[] array = reversed(length), otherArray = reversed(length);
+            Bogo.Result result = sorter.sortArrayBudget(array, inc, Long.MAX_VALUE, Long.MAX_VALUE, TimeUnit.SECONDS);
+            Bogo.Result otherResult = other.sortArrayBudget(
+                    otherArray, inc, Long.MAX_VALUE, Long.MAX_VALUE, TimeUnit.SECONDS);
+            assertTrue(result.sorted());
+            assertThat(otherResult.attempts(), is(result.attempts()));
+            assertThat(otherArray, is(array));
+        }
+    }
+
+    @Test
+    public void attemptBudgetTest() {
+        for (Bogo sorter : new Bogo[] {new Bogo(), new Bogo(4), new Bozo(4)}) {
+            Integer[] array = reversed(16);
+            Bogo.Result result = sorter.sortArrayBudget(array, inc, 1_001, Long.MAX_VALUE, TimeUnit.SECONDS);
+            assertFalse(result.sorted());
+            assertThat(result.attempts(), is(1_001L));
+            Integer[] sorted = reversed(16);
+            Arrays.sort(sorted);
+            result = sorter.sortArrayBudget(sorted, inc, 0, 0, TimeUnit.SECONDS);
+            assertTrue(result.sorted());
+            assertThat(result.attempts(), is(0L));
+        }
+    }
+
+    @Test
+    public void timeBudgetTest() {
+        for (Bogo sorter : new Bogo[] {new Bogo(), new Bozo(4)}) {
+            Bogo.Result result = sorter.sortArrayBudget(reversed(16), inc, Long.MAX_VALUE, 50, TimeUnit.MILLISECONDS);
+            assertFalse(result.sorted());
+            assertTrue(result.attempts() > 0);
+            assertTrue(result.toString(), result.nanos() >= TimeUnit.MILLISECONDS.toNanos(50));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void negativeBudgetTest() {
+        new Bogo().sortArrayBudget(reversed(length), inc, -1, 0, TimeUnit.SECONDS);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void parallelismTest() {
+        new Bozo(0);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,110 @@
+package github.magyarzoli.junit4.benchmark;
+
+import github.magyarzoli.SortComparator;
+import github.magyarzoli.SortFunctional;
+import github.magyarzoli.Sorter;
+import github.magyarzoli.auxiliary.CountComparable;
+import github.magyarzoli.sort.BatcherOddEvenMerge;
+import github.magyarzoli.sort.DoubleSelection;
+import github.magyarzoli.sort.Gnome;
+import github.magyarzoli.sort.Merge;
+import github.magyarzoli.sort.MergeInPlace;
+import github.magyarzoli.sort.Pancake;
+import github.magyarzoli.sort.Quick;
+import github.magyarzoli.sort.Quick3;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+@SuppressWarnings({"rawtypes", "unchecked"})
+public class ComparatorBenchmarkTest {
+
+    private final int length = 2_000;
+
+    private final Comparator<CountComparable> key = Comparator.comparingInt(c -> (c.getValue() % 10));
+
+    private final SortFunctional<CountComparable> keyFunctional = (a, b) -> ((a.getValue() % 10) > (b.getValue() % 10));
+
+    private final Sorter[] sorters = {
+            new Gnome(), new Pancake(), new Quick3(), new DoubleSelection(), new MergeInPlace(),
+            new BatcherOddEvenMerge(), new Merge(), new Quick()
+    };
+
+    private void assertKeyOrder(Object[] actualArray) {
+        for (int i = 1; i < actualArray.length; i++) {
+            assertTrue(key.compare((CountComparable) actualArray[(i - 1)], (CountComparable) actualArray[i]) <= 0);
+        }
+    }
+
+    @Test
+    public void comparatorTest() {
+        CountComparable[] array = CountComparable.randomArray(length, 1_000, 88L);
+        for (Sorter sorter : sorters) {
+            CountComparable[] actualArray = Arrays.copyOf(array, length);
+            sorter.sortArrayComparator(actualArray, key);
+            assertKeyOrder(actualArray);
+            actualArray = Arrays.copyOf(array, length);
+            sorter.sortArray(actualArray, keyFunctional);
+            assertKeyOrder(actualArray);
+            List<CountComparable> actualList = new ArrayList<>(Arrays.asList(array));
+            sorter.sortListComparator(actualList, key);
+            assertKeyOrder(actualList.toArray());
+            actualList = new LinkedList<>(Arrays.asList(array));
+            sorter.sortList(actualList, keyFunctional);
+            assertKeyOrder(actualList.toArray());
+        }
+    }
+
+    @Test
+    public void naturalTest() {
+        CountComparable[] array = CountComparable.randomArray(length, 100, 89L);
+        CountComparable[] expectedArray = Arrays.copyOf(array, length);
+        Arrays.sort(expectedArray);
+        CountComparable[] reverseArray = Arrays.copyOf(expectedArray, length);
+        Arrays.sort(reverseArray, Comparator.reverseOrder());
+        for (Sorter sorter : sorters) {
+            CountComparable[] actualArray = Arrays.copyOf(array, length);
+            sorter.sortArray(actualArray, SortComparator.natural());
+            assertThat(actualArray, is(expectedArray));
+            sorter.sortArray(actualArray, SortComparator.reverse());
+            assertThat(actualArray, is(reverseArray));
+            sorter.sortArrayComparator(actualArray, Comparator.naturalOrder(), 3);
+            assertThat(actualArray, is(expectedArray));
+        }
+    }
+
+    @Test
+    public void oneCallTest() {
+        AtomicInteger calls = new AtomicInteger();
+        SortComparator<CountComparable> comparator = SortComparator.comparing((a, b) -> {
+            calls.incrementAndGet();
+            return a.compareTo(b);
+        });
+        Sorter sorter = new Quick3();
+        SortFunctional[] functionals = {
+                comparator,
+                sorter.functionalComparableToAddEquals(comparator),
+                sorter.functionalComparableToRemoveEquals(comparator),
+                sorter.functionalComparableToReverse(comparator)
+        };
+        CountComparable one = new CountComparable(1), two = new CountComparable(2);
+        for (SortFunctional functional : functionals) {
+            calls.set(0);
+            functional.functionalCompareTo(one, two);
+            functional.functionalCompareTo(one, one);
+            assertThat(calls.get(), is(2));
+        }
+        assertTrue(sorter.functionalComparableToAddEquals(keyFunctional).functionalCompareTo(one, one));
+        assertTrue(!sorter.functionalComparableToRemoveEquals(keyFunctional).functionalCompareTo(one, one));
+        assertTrue(sorter.functionalComparableToReverse(keyFunctional).functionalCompareTo(one, two));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,125 @@
+package github.magyarzoli.junit4.benchmark;
+
+import github.magyarzoli.PivotStrategy;
+import github.magyarzoli.Sorter;
+import github.magyarzoli.auxiliary.CountComparable;
+import github.magyarzoli.sort.Quick3;
+import github.magyarzoli.sort.intro.HybridSorter;
+import github.magyarzoli.sort.intro.HybridSorter.Partition;
+import github.magyarzoli.sort.intro.IntroQuick3;
+import github.magyarzoli.sort.intro.introDPQ.IntroDPQQuick3;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import static github.magyarzoli.Sort.DEC;
+import static github.magyarzoli.Sort.INC;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+@SuppressWarnings({"rawtypes", "unchecked"})
+public class DuplicatesBenchmarkTest {
+
+    private final int length = 100_000;
+
+    private long compares(Sorter sorter, CountComparable[] array) {
+        CountComparable[] expectedArray = Arrays.copyOf(array, array.length);
+        Arrays.sort(expectedArray);
+        CountComparable.reset();
+        sorter.sortArray(array, INC);
+        long count = CountComparable.count();
+        assertThat(array, is(expectedArray));
+        return count;
+    }
+
+    private double log2(int value) {
+        return (Math.log(value) / Math.log(2));
+    }
+
+    private Sorter[] fatSorters() {
+        return new Sorter[] {
+                new Quick3(true),
+                new Quick3(PivotStrategy.LAST, true),
+                new Quick3(PivotStrategy.random(35L), true),
+                new IntroQuick3(true),
+                new IntroDPQQuick3(true),
+                HybridSorter.builder().partition(Partition.FAT).build(),
+                HybridSorter.builder().partition(Partition.FAT).parallelism(4).parallelThreshold(256).build()
+        };
+    }
+
+    @Test
+    public void fatSortTest() {
+        for (int bound : new int[] {1, 2, 7, 100, Integer.MAX_VALUE}) {
+            CountComparable[] array = CountComparable.randomArray(5_000, bound, 36L);
+            CountComparable[] expectedArray = Arrays.copyOf(array, array.length);
+            Arrays.sort(expectedArray);
+            CountComparable[] reverseArray = Arrays.copyOf(expectedArray, array.length);
+            Arrays.sort(reverseArray, Comparator.reverseOrder());
+            for (Sorter sorter : fatSorters()) {
+                CountComparable[] actualArray = Arrays.copyOf(array, array.length);
+                sorter.sortArray(actualArray, INC);
+                assertThat(actualArray, is(expectedArray));
+                sorter.sortArray(actualArray, DEC);
+                assertThat(actualArray, is(reverseArray));
+                sorter.sortArray(actualArray, (a, b) -> a.compareTo(b) > 0);
+                assertThat(actualArray, is(expectedArray));
+                sorter.sortArray(actualArray, (a, b) -> a.compareTo(b) < 0);
+                assertThat(actualArray, is(reverseArray));
+                List<CountComparable> actualList = new ArrayList<>(Arrays.asList(array));
+                sorter.sortList(actualList, INC);
+                assertThat(actualList.toArray(), is((Object[]) expectedArray));
+                sorter.sortList(actualList, DEC);
+                assertThat(actualList.toArray(), is((Object[]) reverseArray));
+                sorter.sortList(actualList, (a, b) -> a.compareTo(b) > 0);
+                assertThat(actualList.toArray(), is((Object[]) expectedArray));
+            }
+        }
+    }
+
+    @Test
+    public void distinctKeysComparesTest() {
+        for (int keys : new int[] {2, 4, 16, 256}) {
+            CountComparable[] array = CountComparable.randomArray(length, keys, 37L);
+            long bound = (long) (2 * length * (log2(keys) + 1));
+            long fat = compares(new Quick3(true), Arrays.copyOf(array, length));
+            long hybrid = compares(HybridSorter.builder().partition(Partition.FAT).build(),
+                    Arrays.copyOf(array, length));
+            long dutchFlag = compares(new Quick3(), Arrays.copyOf(array, length));
+            assertTrue(fat + " > " + bound, fat < bound);
+            assertTrue(hybrid + " > " + bound, hybrid < bound);
+            assertTrue(dutchFlag + " > " + bound, dutchFlag < bound);
+            assertTrue(fat + " > " + dutchFlag, (fat * 4) < (dutchFlag * 3));
+        }
+    }
+
+    @Test
+    public void equalKeysComparesTest() {
+        CountComparable[] array = CountComparable.randomArray(length, 1, 38L);
+        long fat = compares(new Quick3(true), Arrays.copyOf(array, length));
+        assertTrue(String.valueOf(fat), fat < (length + 16));
+    }
+
+    @Test
+    public void introFatComparesTest() {
+        Sorter[][] pairs = {
+                {new IntroQuick3(), new IntroQuick3(true)},
+                {new IntroDPQQuick3(), new IntroDPQQuick3(true)}
+        };
+        for (int keys : new int[] {1, 2, 4, 16, 256}) {
+            CountComparable[] array = CountComparable.randomArray(length, keys, 39L);
+            long bound = (long) (2 * length * (log2(keys) + 1));
+            for (Sorter[] pair : pairs) {
+                String name = pair[1].getClass().getSimpleName() + " " + keys;
+                long plain = compares(pair[0], Arrays.copyOf(array, length));
+                long fat = compares(pair[1], Arrays.copyOf(array, length));
+                assertTrue(name + ": " + fat + " > " + bound, fat < bound);
+                assertTrue(name + ": " + fat + " > " + plain, fat < plain);
+            }
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,123 @@
+package github.magyarzoli.junit4.benchmark;
+
+import github.magyarzoli.Sorter;
+import github.magyarzoli.auxiliary.CountComparable;
+import github.magyarzoli.sort.BottomUpHeap;
+import github.magyarzoli.sort.FordJohnson;
+import github.magyarzoli.sort.Insertion;
+import github.magyarzoli.sort.Merge;
+import github.magyarzoli.sort.MergeInsertion;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static github.magyarzoli.Sort.INC;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+@SuppressWarnings({"rawtypes", "unchecked"})
+public class FordJohnsonBenchmarkTest {
+
+    private final long[] worstCase = {0, 0, 1, 3, 5, 7, 10, 13, 16, 19, 22, 26, 30, 34, 38, 42, 46, 50, 54, 58, 62, 66};
+
+    private long compares(Sorter sorter, CountComparable[] array) {
+        CountComparable[] expectedArray = Arrays.copyOf(array, array.length);
+        Arrays.sort(expectedArray);
+        CountComparable.reset();
+        sorter.sortArray(array, INC);
+        long count = CountComparable.count();
+        assertThat(array, is(expectedArray));
+        return count;
+    }
+
+    private CountComparable[] permutation(int length, Random random) {
+        List<CountComparable> list = new ArrayList<>();
+        for (int i = 0; i < length; i++) {
+            list.add(new CountComparable(i));
+        }
+        Collections.shuffle(list, random);
+        return list.toArray(new CountComparable[0]);
+    }
+
+    @Test
+    public void worstCaseComparisonsTest() {
+        for (int n = 0; n < worstCase.length; n++) {
+            assertThat(FordJohnson.worstCaseComparisons(n), is(worstCase[n]));
+        }
+    }
+
+    @Test
+    public void boundComparesTest() {
+        Random random = new Random(39L);
+        FordJohnson sorter = new FordJohnson();
+        for (int n = 0; n <= 200; n++) {
+            long bound = FordJohnson.worstCaseComparisons(n);
+            for (int attempt = 0; attempt < 20; attempt++) {
+                long count = compares(sorter, permutation(n, random));
+                assertTrue(n + ": " + count + " > " + bound, count <= bound);
+            }
+        }
+    }
+
+    @Test
+    public void exhaustiveComparesTest() {
+        for (int n = 1; n <= 8; n++) {
+            CountComparable[] array = permutation(n, new Random(40L));
+            Arrays.sort(array);
+            long max = 0;
+            do {
+                max = Math.max(max, compares(new FordJohnson(), Arrays.copyOf(array, n)));
+            } while (nextPermutation(array));
+            assertThat(max, is(FordJohnson.worstCaseComparisons(n)));
+        }
+    }
+
+    @Test
+    public void comparisonsTest() {
+        FordJohnson sorter = new FordJohnson();
+        CountComparable[] array = CountComparable.randomArray(1000, Integer.MAX_VALUE, 41L);
+        long count = compares(sorter, Arrays.copyOf(array, array.length));
+        assertThat(sorter.comparisons(), is(count));
+        CountComparable.reset();
+        sorter.sortList(new ArrayList<>(Arrays.asList(array)), (a, b) -> a.compareTo(b) < 0);
+        assertThat(sorter.comparisons(), is(count + CountComparable.count()));
+        sorter.resetComparisons();
+        assertThat(sorter.comparisons(), is(0L));
+    }
+
+    @Test
+    public void savingComparesTest() {
+        for (int length : new int[] {64, 1000}) {
+            CountComparable[] array = CountComparable.randomArray(length, Integer.MAX_VALUE, 42L);
+            long fordJohnson = compares(new FordJohnson(), Arrays.copyOf(array, length));
+            for (Sorter sorter : new Sorter[] {new Merge(), new MergeInsertion(), new BottomUpHeap(), new Insertion()}) {
+                long count = compares(sorter, Arrays.copyOf(array, length));
+                assertTrue(fordJohnson + " > " + count, fordJohnson < count);
+            }
+        }
+    }
+
+    private boolean nextPermutation(CountComparable[] array) {
+        int i = (array.length - 2);
+        while ((i >= 0) && (array[i].getValue() > array[(i + 1)].getValue())) {
+            i--;
+        }
+        if (i < 0) {
+            return false;
+        }
+        int j = (array.length - 1);
+        while (array[j].getValue() < array[i].getValue()) {
+            j--;
+        }
+        CountComparable swap = array[i];
+        array[i] = array[j];
+        array[j] = swap;
+        Collections.reverse(Arrays.asList(array).subList((i + 1), array.length));
+        return true;
+    }
+}
\ No newline at end of file
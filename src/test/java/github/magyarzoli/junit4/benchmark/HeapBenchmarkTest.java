@@ -0,0 +1,98 @@
+package github.magyarzoli.junit4.benchmark;
+
+import github.magyarzoli.Sorter;
+import github.magyarzoli.auxiliary.CountComparable;
+import github.magyarzoli.sort.BottomUpHeap;
+import github.magyarzoli.sort.Heap;
+import github.magyarzoli.sort.SmoothHeap;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedList;
+import java.util.List;
+
+import static github.magyarzoli.Sort.DEC;
+import static github.magyarzoli.Sort.INC;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+@SuppressWarnings({"rawtypes", "unchecked"})
+public class HeapBenchmarkTest {
+
+    private final int length = 100_000;
+
+    private long compares(Sorter sorter, CountComparable[] array, int type) {
+        CountComparable.reset();
+        sorter.sortArray(array, type);
+        return CountComparable.count();
+    }
+
+    @Test
+    public void bottomUpIncComparesTest() {
+        CountComparable[] heapArray = CountComparable.randomArray(length, Integer.MAX_VALUE, 26L);
+        CountComparable[] bottomUpArray = Arrays.copyOf(heapArray, length);
+        CountComparable[] expectedArray = Arrays.copyOf(heapArray, length);
+        Arrays.sort(expectedArray);
+        long heap = compares(new Heap(), heapArray, INC);
+        long bottomUp = compares(new BottomUpHeap(), bottomUpArray, INC);
+        assertThat(bottomUpArray, is(expectedArray));
+        assertThat(heapArray, is(expectedArray));
+        assertTrue(heap + " > " + bottomUp, bottomUp < (heap * 3 / 5));
+    }
+
+    @Test
+    public void bottomUpDecComparesTest() {
+        CountComparable[] heapArray = CountComparable.randomArray(length, Integer.MAX_VALUE, 27L);
+        CountComparable[] bottomUpArray = Arrays.copyOf(heapArray, length);
+        CountComparable[] expectedArray = Arrays.copyOf(heapArray, length);
+        Arrays.sort(expectedArray, Comparator.reverseOrder());
+        long heap = compares(new Heap(), heapArray, DEC);
+        long bottomUp = compares(new BottomUpHeap(), bottomUpArray, DEC);
+        assertThat(bottomUpArray, is(expectedArray));
+        assertTrue(heap + " > " + bottomUp, bottomUp < (heap * 3 / 5));
+    }
+
+    @Test
+    public void bottomUpRangeTest() {
+        CountComparable[] actualArray = CountComparable.randomArray(1000, 100, 28L);
+        CountComparable[] expectedArray = Arrays.copyOf(actualArray, actualArray.length);
+        Arrays.sort(expectedArray, 100, 900);
+        new BottomUpHeap().heapBottomUpInc(actualArray, 100, 900);
+        assertThat(actualArray, is(expectedArray));
+    }
+
+    @Test
+    public void buildHeapComparesTest() {
+        CountComparable[] array = CountComparable.randomArray(length, Integer.MAX_VALUE, 29L);
+        CountComparable.reset();
+        new BottomUpHeap().heapBuildInc(array, 0, length);
+        assertTrue(CountComparable.count() < (2L * length));
+        for (int i = 1; i < length; i++) {
+            assertTrue(array[(i - 1) / 2].compareTo(array[i]) >= 0);
+        }
+    }
+
+    @Test
+    public void smoothSharedTest() {
+        Sorter sorter = new SmoothHeap();
+        CountComparable[] array = CountComparable.randomArray(20_000, 1_000, 90L);
+        CountComparable[] expectedArray = Arrays.copyOf(array, array.length);
+        Arrays.sort(expectedArray);
+        CountComparable[] reverseArray = Arrays.copyOf(expectedArray, array.length);
+        Arrays.sort(reverseArray, Comparator.reverseOrder());
+        for (int i = 0; i < 5; i++) {
+            CountComparable[] actualArray = Arrays.copyOf(array, array.length);
+            sorter.sortArray(actualArray, DEC, 3);
+            assertThat(actualArray, is(reverseArray));
+            List<CountComparable> actualList = new ArrayList<>(Arrays.asList(array));
+            sorter.sortList(actualList, INC, 4);
+            assertThat(actualList.toArray(), is((Object[]) expectedArray));
+            actualList = new LinkedList<>(Arrays.asList(array));
+            sorter.sortList(actualList, (a, b) -> a.compareTo(b) > 0, 4);
+            assertThat(actualList.toArray(), is((Object[]) expectedArray));
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,172 @@
+package github.magyarzoli.junit4.benchmark;
+
+import github.magyarzoli.PivotStrategy;
+import github.magyarzoli.Sorter;
+import github.magyarzoli.auxiliary.AdversaryComparable;
+import github.magyarzoli.auxiliary.CountComparable;
+import github.magyarzoli.sort.BottomUpHeap;
+import github.magyarzoli.sort.Heap;
+import github.magyarzoli.sort.Insertion;
+import github.magyarzoli.sort.Merge;
+import github.magyarzoli.sort.Quick3;
+import github.magyarzoli.sort.Shell;
+import github.magyarzoli.sort.Tim;
+import github.magyarzoli.sort.intro.HybridSorter;
+import github.magyarzoli.sort.intro.HybridSorter.Partition;
+import github.magyarzoli.sort.intro.IntroHeap;
+import github.magyarzoli.sort.intro.introDPQ.IntroDPQTim;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import static github.magyarzoli.Sort.DEC;
+import static github.magyarzoli.Sort.INC;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+@SuppressWarnings({"rawtypes", "unchecked"})
+public class HybridBenchmarkTest {
+
+    private final int length = 20_000;
+
+    private long compares(Sorter sorter, CountComparable[] array) {
+        CountComparable.reset();
+        sorter.sortArray(array, INC);
+        return CountComparable.count();
+    }
+
+    private long adversary(Sorter sorter, int length) {
+        AdversaryComparable[] array = AdversaryComparable.adversaryArray(length);
+        sorter.sortArray(array, INC);
+        for (int i = 1; i < length; i++) {
+            if (array[(i - 1)].getValue() > array[i].getValue()) {
+                fail(Arrays.toString(array));
+            }
+        }
+        return AdversaryComparable.count();
+    }
+
+    private List<HybridSorter> combinations() {
+        List<HybridSorter> sorters = new ArrayList<>();
+        for (Partition partition : Partition.values()) {
+            for (Sorter fallback : new Sorter[] {new Heap(), new Merge(), new Tim()}) {
+                for (Sorter smallSorter : new Sorter[] {null, new Shell()}) {
+                    for (int parallelism : new int[] {1, 4}) {
+                        sorters.add(HybridSorter.builder()
+                                .partition(partition)
+                                .fallback(fallback)
+                                .smallSorter(smallSorter)
+                                .parallelism(parallelism)
+                                .parallelThreshold(256)
+                                .build());
+                    }
+                }
+            }
+        }
+        return sorters;
+    }
+
+    @Test
+    public void presetTest() {
+        CountComparable[] array = CountComparable.randomArray(length, Integer.MAX_VALUE, 32L);
+        assertThat(compares(HybridSorter.builder().build(), Arrays.copyOf(array, length)),
+                is(compares(new IntroHeap(), Arrays.copyOf(array, length))));
+        assertThat(compares(HybridSorter.builder().partition(Partition.DUAL).fallback(new Tim()).build(),
+                        Arrays.copyOf(array, length)),
+                is(compares(new IntroDPQTim(), Arrays.copyOf(array, length))));
+        assertThat(adversary(HybridSorter.builder().build(), length),
+                is(adversary(new IntroHeap(), length)));
+    }
+
+    @Test
+    public void combinationsTest() {
+        CountComparable[] array = CountComparable.randomArray(length, 1000, 33L);
+        CountComparable[] expectedArray = Arrays.copyOf(array, length);
+        Arrays.sort(expectedArray);
+        CountComparable[] reverseArray = Arrays.copyOf(expectedArray, length);
+        Arrays.sort(reverseArray, Comparator.reverseOrder());
+        for (HybridSorter sorter : combinations()) {
+            CountComparable[] actualArray = Arrays.copyOf(array, length);
+            sorter.sortArray(actualArray, INC);
+            assertThat(actualArray, is(expectedArray));
+            sorter.sortArray(actualArray, DEC);
+            assertThat(actualArray, is(reverseArray));
+            sorter.sortArray(actualArray, (a, b) -> a.compareTo(b) > 0);
+            assertThat(actualArray, is(expectedArray));
+            List<CountComparable> actualList = new ArrayList<>(Arrays.asList(array));
+            sorter.sortList(actualList, DEC);
+            assertThat(actualList.toArray(), is((Object[]) reverseArray));
+            adversary(sorter, 2000);
+        }
+    }
+
+    @Test
+    public void adversaryComparesTest() {
+        long bound = (long) (6 * length * (Math.log(length) / Math.log(2)));
+        for (HybridSorter sorter : combinations()) {
+            long count = adversary(sorter, length);
+            assertTrue(count + " > " + bound, count < bound);
+        }
+    }
+
+    @Test
+    public void rangeTest() {
+        CountComparable[] array = CountComparable.randomArray(2_000, 500, 35L);
+        int left = 300, right = 1_499;
+        CountComparable[] expectedArray = Arrays.copyOf(array, array.length);
+        Arrays.sort(expectedArray, left, (right + 1));
+        CountComparable[] reverseArray = Arrays.copyOf(array, array.length);
+        Arrays.sort(reverseArray, left, (right + 1), Comparator.reverseOrder());
+        Sorter[] sorters = {new Insertion(), new Shell(), new Quick3(), new BottomUpHeap(), new Heap(), new Tim()};
+        for (Sorter sorter : sorters) {
+            CountComparable[] actualArray = Arrays.copyOf(array, array.length);
+            sorter.sortRangeInc(actualArray, left, right);
+            assertThat(actualArray, is(expectedArray));
+            actualArray = Arrays.copyOf(array, array.length);
+            sorter.sortRangeDec(actualArray, left, right);
+            assertThat(actualArray, is(reverseArray));
+            actualArray = Arrays.copyOf(array, array.length);
+            sorter.sortRangeFun(actualArray, left, right, (a, b) -> a.compareTo(b) > 0);
+            assertThat(actualArray, is(expectedArray));
+        }
+    }
+
+    @Test
+    public void toBuilderTest() {
+        HybridSorter sorter = HybridSorter.builder()
+                .partition(Partition.DUAL)
+                .pivotStrategy(PivotStrategy.TERTILES)
+                .fallback(new Merge())
+                .smallThreshold(24)
+                .depthFactor(1.5)
+                .build();
+        CountComparable[] array = CountComparable.randomArray(length, Integer.MAX_VALUE, 34L);
+        assertThat(compares(sorter.toBuilder().build(), Arrays.copyOf(array, length)),
+                is(compares(sorter, Arrays.copyOf(array, length))));
+        assertThat(sorter.toBuilder().build().pivotStrategy(), is(PivotStrategy.TERTILES));
+    }
+
+    @Test
+    public void buildTest() {
+        HybridSorter.Builder[] builders = {
+                HybridSorter.builder().fallback(null),
+                HybridSorter.builder().smallThreshold(0),
+                HybridSorter.builder().depthFactor(0),
+                HybridSorter.builder().parallelism(0),
+                HybridSorter.builder().smallThreshold(64).parallelThreshold(64)
+        };
+        for (HybridSorter.Builder builder : builders) {
+            try {
+                builder.build();
+                fail();
+            } catch (IllegalArgumentException e) {
+                assertTrue(e.getMessage().length() > 0);
+            }
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,178 @@
+package github.magyarzoli.junit4.benchmark;
+
+import github.magyarzoli.Sorter;
+import github.magyarzoli.auxiliary.CountComparable;
+import github.magyarzoli.sort.Insertion;
+import github.magyarzoli.sort.MergeInsertion;
+import github.magyarzoli.sort.Tim;
+import github.magyarzoli.sort.Wiki;
+import github.magyarzoli.PivotStrategy;
+import github.magyarzoli.sort.intro.HybridSorter;
+import github.magyarzoli.sort.intro.Intro;
+import github.magyarzoli.sort.intro.IntroBubble;
+import github.magyarzoli.sort.intro.IntroHeap;
+import github.magyarzoli.sort.intro.IntroInsertion;
+import github.magyarzoli.sort.intro.IntroMerge;
+import github.magyarzoli.sort.intro.IntroMergeInsertion;
+import github.magyarzoli.sort.intro.IntroPdq;
+import github.magyarzoli.sort.intro.IntroQuick;
+import github.magyarzoli.sort.intro.IntroQuick3;
+import github.magyarzoli.sort.intro.IntroSelection;
+import github.magyarzoli.sort.intro.IntroTim;
+import github.magyarzoli.sort.intro.IntroWiki;
+import github.magyarzoli.sort.intro.introDPQ.IntroDPQHeap;
+import github.magyarzoli.sort.intro.introDPQ.IntroDPQQuick;
+import github.magyarzoli.sort.intro.introDPQ.IntroDPQQuick3;
+import github.magyarzoli.sort.intro.introDPQ.IntroDPQSelection;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static github.magyarzoli.Sort.DEC;
+import static github.magyarzoli.Sort.INC;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+@SuppressWarnings({"rawtypes", "unchecked"})
+public class InsertionBenchmarkTest {
+
+    private final int length = 2_000;
+
+    private long compares(Sorter sorter, CountComparable[] array) {
+        CountComparable[] expectedArray = Arrays.copyOf(array, array.length);
+        Arrays.sort(expectedArray);
+        CountComparable.reset();
+        sorter.sortArray(array, INC);
+        long count = CountComparable.count();
+        assertThat(array, is(expectedArray));
+        return count;
+    }
+
+    private Sorter[] binarySorters() {
+        return new Sorter[] {
+                new Insertion(true),
+                new Tim(true),
+                new Wiki(true),
+                new MergeInsertion(true),
+                new IntroInsertion(true),
+                new IntroTim(true),
+                new IntroWiki(true),
+                new IntroMergeInsertion(true),
+                HybridSorter.builder().binaryInsertion(true).build()
+        };
+    }
+
+    @Test
+    public void binarySortTest() {
+        CountComparable[] array = CountComparable.randomArray(length, 100, 43L);
+        CountComparable[] expectedArray = Arrays.copyOf(array, length);
+        Arrays.sort(expectedArray);
+        CountComparable[] reverseArray = Arrays.copyOf(expectedArray, length);
+        Arrays.sort(reverseArray, Comparator.reverseOrder());
+        for (Sorter sorter : binarySorters()) {
+            CountComparable[] actualArray = Arrays.copyOf(array, length);
+            sorter.sortArray(actualArray, INC);
+            assertThat(actualArray, is(expectedArray));
+            sorter.sortArray(actualArray, DEC);
+            assertThat(actualArray, is(reverseArray));
+            sorter.sortArray(actualArray, (a, b) -> a.compareTo(b) > 0);
+            assertThat(actualArray, is(expectedArray));
+        }
+    }
+
+    @Test
+    public void binarySortListTest() {
+        CountComparable[] array = CountComparable.randomArray(length, 100, 46L);
+        CountComparable[] expectedArray = Arrays.copyOf(array, length);
+        Arrays.sort(expectedArray);
+        CountComparable[] reverseArray = Arrays.copyOf(expectedArray, length);
+        Arrays.sort(reverseArray, Comparator.reverseOrder());
+        Sorter[] sorters = {
+                new Insertion(true),
+                new Wiki(true),
+                new IntroInsertion(true),
+                new IntroTim(true),
+                HybridSorter.builder().binaryInsertion(true).build()
+        };
+        for (Sorter sorter : sorters) {
+            List<CountComparable> actualList = new ArrayList<>(Arrays.asList(array));
+            sorter.sortList(actualList, INC);
+            assertThat(actualList.toArray(), is((Object[]) expectedArray));
+            sorter.sortList(actualList, DEC);
+            assertThat(actualList.toArray(), is((Object[]) reverseArray));
+            sorter.sortList(actualList, (a, b) -> a.compareTo(b) > 0);
+            assertThat(actualList.toArray(), is((Object[]) expectedArray));
+        }
+        List<CountComparable> fixedList = Arrays.asList(Arrays.copyOf(array, length));
+        new Insertion(true).sortList(fixedList, DEC);
+        assertThat(fixedList.toArray(), is((Object[]) reverseArray));
+    }
+
+    @Test
+    public void binaryStableTest() {
+        CountComparable[] array = CountComparable.randomArray(length, 10, 44L);
+        Map<CountComparable, Integer> places = new IdentityHashMap<>();
+        for (int i = 0; i < length; i++) {
+            places.put(array[i], i);
+        }
+        new Insertion(true).sortArray(array, INC);
+        for (int i = 1; i < length; i++) {
+            if (array[(i - 1)].getValue() == array[i].getValue()) {
+                assertTrue(places.get(array[(i - 1)]) < places.get(array[i]));
+            }
+        }
+    }
+
+    @Test
+    public void binaryComparesTest() {
+        CountComparable[] array = CountComparable.randomArray(length, Integer.MAX_VALUE, 45L);
+        long linear = compares(new Insertion(), Arrays.copyOf(array, length));
+        long binary = compares(new Insertion(true), Arrays.copyOf(array, length));
+        long bound = (long) (length * (Math.log(length) / Math.log(2)));
+        assertTrue(binary + " > " + bound, binary < bound);
+        assertTrue(binary + " > " + linear, (binary * 20) < linear);
+        Sorter[][] pairs = {
+                {new Tim(), new Tim(true)},
+                {new Wiki(), new Wiki(true)},
+                {new MergeInsertion(), new MergeInsertion(true)},
+                {new IntroTim(), new IntroTim(true)},
+                {HybridSorter.builder().build(), HybridSorter.builder().binaryInsertion(true).build()}
+        };
+        for (Sorter[] pair : pairs) {
+            linear = compares(pair[0], Arrays.copyOf(array, length));
+            binary = compares(pair[1], Arrays.copyOf(array, length));
+            assertTrue(pair[0].getClass().getSimpleName() + ": " + binary + " > " + linear, binary < linear);
+        }
+    }
+
+    @Test
+    public void introBinaryInsertionTest() {
+        CountComparable[] array = CountComparable.randomArray(length, Integer.MAX_VALUE, 47L);
+        Intro[][] pairs = {
+                {new IntroBubble(), new IntroBubble(true)},
+                {new IntroHeap(), new IntroHeap(true)},
+                {new IntroMerge(), new IntroMerge(true)},
+                {new IntroPdq(), new IntroPdq(true)},
+                {new IntroQuick(), new IntroQuick(PivotStrategy.ADAPTIVE, true)},
+                {new IntroQuick3(), new IntroQuick3(PivotStrategy.ADAPTIVE, false, true)},
+                {new IntroSelection(), new IntroSelection(false, true)},
+                {new IntroDPQHeap(), new IntroDPQHeap(true)},
+                {new IntroDPQQuick(), new IntroDPQQuick(true)},
+                {new IntroDPQQuick3(), new IntroDPQQuick3(PivotStrategy.ADAPTIVE, false, true)},
+                {new IntroDPQSelection(), new IntroDPQSelection(false, true)}
+        };
+        for (Intro[] pair : pairs) {
+            String name = pair[1].getClass().getSimpleName();
+            assertTrue(name, !pair[0].binaryInsertion() && pair[1].binaryInsertion());
+            long linear = compares(pair[0], Arrays.copyOf(array, length));
+            long binary = compares(pair[1], Arrays.copyOf(array, length));
+            assertTrue(name + ": " + binary + " > " + linear, binary < linear);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,145 @@
+package github.magyarzoli.junit4.benchmark;
+
+import github.magyarzoli.Sorter;
+import github.magyarzoli.auxiliary.AdversaryComparable;
+import github.magyarzoli.sort.intro.*;
+import github.magyarzoli.sort.intro.introDPQ.*;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static github.magyarzoli.Sort.DEC;
+import static github.magyarzoli.Sort.INC;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+@SuppressWarnings({"rawtypes", "unchecked"})
+public class IntroWorstCaseBenchmarkTest {
+
+    private final int length = 128;
+
+    private final int largeLength = 1 << 13;
+
+    // Bogo, Bozo and Permutation are left out, their fallback has no bounded running time at all.
+    private Sorter[] sorters() {
+        return new Sorter[] {
+                new IntroBatcherOddEvenMerge(), new IntroBlockQuick(), new IntroBottomUpHeap(), new IntroBubble(),
+                new IntroCocktail(), new IntroComb(), new IntroDoubleSelection(), new IntroDualPivotQuick(),
+                new IntroGnome(), new IntroHeap(), new IntroInsertion(), new IntroMerge(), new IntroMerge3(),
+                new IntroMergeInPlace(), new IntroMergeInsertion(), new IntroOddEven(), new IntroOddEvenMerge(),
+                new IntroPancake(), new IntroPdq(), new IntroQuick(), new IntroQuick3(), new IntroSelection(),
+                new IntroShell(), new IntroSlow(), new IntroSmoothHeap(), new IntroStableQuick(), new IntroStooge(),
+                new IntroTernaryHeap(), new IntroTim(), new IntroWeakHeap(), new IntroWeaveMerge(), new IntroWiki(),
+                new IntroDPQBatcherOddEvenMerge(), new IntroDPQBottomUpHeap(), new IntroDPQBubble(),
+                new IntroDPQCocktail(), new IntroDPQComb(), new IntroDPQDoubleSelection(),
+                new IntroDPQDualPivotQuick(), new IntroDPQGnome(), new IntroDPQHeap(), new IntroDPQInsertion(),
+                new IntroDPQMerge(), new IntroDPQMerge3(), new IntroDPQMergeInPlace(), new IntroDPQMergeInsertion(),
+                new IntroDPQOddEven(), new IntroDPQOddEvenMerge(), new IntroDPQPancake(), new IntroDPQQuick(),
+                new IntroDPQQuick3(), new IntroDPQSelection(), new IntroDPQShell(), new IntroDPQSlow(),
+                new IntroDPQSmoothHeap(), new IntroDPQStableQuick(), new IntroDPQStooge(), new IntroDPQTernaryHeap(),
+                new IntroDPQTim(), new IntroDPQWeakHeap(), new IntroDPQWeaveMerge(), new IntroDPQWiki()
+        };
+    }
+
+    // The fallbacks with an O(n log(n)) worst case.
+    private Sorter[] boundedSorters() {
+        return new Sorter[] {
+                new IntroBottomUpHeap(), new IntroHeap(), new IntroMerge(), new IntroPdq(), new IntroSmoothHeap(),
+                new IntroTernaryHeap(), new IntroTim(), new IntroWeakHeap(),
+                new IntroDPQBottomUpHeap(), new IntroDPQHeap(), new IntroDPQMerge(), new IntroDPQSmoothHeap(),
+                new IntroDPQTernaryHeap(), new IntroDPQTim(), new IntroDPQWeakHeap()
+        };
+    }
+
+    private long adversary(Sorter sorter, int length, int type, boolean list) {
+        AdversaryComparable[] array = AdversaryComparable.adversaryArray(length);
+        if (list) {
+            List<AdversaryComparable> actualList = new ArrayList<>(Arrays.asList(array));
+            sorter.sortList(actualList, type);
+            array = actualList.toArray(new AdversaryComparable[0]);
+        } else {
+            sorter.sortArray(array, type);
+        }
+        long count = AdversaryComparable.count();
+        for (int i = 1; i < length; i++) {
+            int compare = Integer.compare(array[(i - 1)].getValue(), array[i].getValue());
+            if ((type == INC) ? (compare > 0) : (compare < 0)) {
+                fail(sorter.getClass().getSimpleName() + ((type == INC) ? " INC " : " DEC ")
+                        + (list ? "list " : "array ") + Arrays.toString(array));
+            }
+        }
+        return count;
+    }
+
+    @Test
+    public void adversaryTest() {
+        for (Sorter sorter : sorters()) {
+            adversary(sorter, length, INC, false);
+            adversary(sorter, length, DEC, false);
+            adversary(sorter, length, INC, true);
+            adversary(sorter, length, DEC, true);
+        }
+    }
+
+    @Test
+    public void adversaryComparesTest() {
+        long bound = (long) (6 * largeLength * (Math.log(largeLength) / Math.log(2)));
+        for (Sorter sorter : boundedSorters()) {
+            long array = adversary(sorter, largeLength, INC, false);
+            assertTrue(sorter.getClass().getSimpleName() + " " + array + " > " + bound, array < bound);
+            long list = adversary(sorter, largeLength, INC, true);
+            assertTrue(sorter.getClass().getSimpleName() + " " + list + " > " + bound, list < bound);
+        }
+    }
+
+    @Test
+    public void fallbackReturnsTest() {
+        List<int[]> ranges = new ArrayList<>();
+        boolean[] partitioned = {false};
+        IntroHeap sorter = new IntroHeap() {
+            @Override
+            public void introSortClassInc(Comparable[] array, int left, int right) {
+                ranges.add(new int[] {left, right});
+                super.introSortClassInc(array, left, right);
+            }
+
+            @Override
+            public int partitionInc(Comparable[] array, int left, int right) {
+                for (int[] range : ranges) {
+                    partitioned[0] |= ((left >= range[0]) && (right <= range[1]));
+                }
+                return super.partitionInc(array, left, right);
+            }
+        };
+        sorter.sortArray(AdversaryComparable.adversaryArray(largeLength), INC);
+        assertFalse(ranges.isEmpty());
+        assertFalse(partitioned[0]);
+    }
+
+    @Test
+    public void fallbackReturnsDualTest() {
+        List<int[]> ranges = new ArrayList<>();
+        boolean[] partitioned = {false};
+        IntroDPQHeap sorter = new IntroDPQHeap() {
+            @Override
+            public void introSortClassInc(Comparable[] array, int left, int right) {
+                ranges.add(new int[] {left, right});
+                super.introSortClassInc(array, left, right);
+            }
+
+            @Override
+            public int[] partitionDualInc(Comparable[] array, int left, int right) {
+                for (int[] range : ranges) {
+                    partitioned[0] |= ((left >= range[0]) && (right <= range[1]));
+                }
+                return super.partitionDualInc(array, left, right);
+            }
+        };
+        sorter.sortArray(AdversaryComparable.adversaryArray(largeLength), INC);
+        assertFalse(ranges.isEmpty());
+        assertFalse(partitioned[0]);
+    }
+}
\ No newline at end of file
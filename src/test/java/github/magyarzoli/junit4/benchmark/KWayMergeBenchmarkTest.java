@@ -0,0 +1,184 @@
+package github.magyarzoli.junit4.benchmark;
+
+import github.magyarzoli.LoserTree;
+import github.magyarzoli.Sorter;
+import github.magyarzoli.auxiliary.CountComparable;
+import github.magyarzoli.sort.KWayMerge;
+import github.magyarzoli.sort.Merge;
+import github.magyarzoli.sort.Merge3;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+import static github.magyarzoli.Sort.DEC;
+import static github.magyarzoli.Sort.INC;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+@SuppressWarnings({"rawtypes", "unchecked"})
+public class KWayMergeBenchmarkTest {
+
+    private final int length = 20_000;
+
+    private long compares(Sorter sorter, CountComparable[] array) {
+        CountComparable[] expectedArray = Arrays.copyOf(array, array.length);
+        Arrays.sort(expectedArray);
+        CountComparable.reset();
+        sorter.sortArray(array, INC);
+        long count = CountComparable.count();
+        assertThat(array, is(expectedArray));
+        return count;
+    }
+
+    private double log2(int value) {
+        return (Math.log(value) / Math.log(2));
+    }
+
+    @Test
+    public void kWaySortTest() {
+        for (int ways : new int[] {2, 3, 4, 7, 16, 64}) {
+            Sorter sorter = new KWayMerge(ways);
+            for (int size : new int[] {0, 1, 31, 32, 33, 1_000, length}) {
+                CountComparable[] array = CountComparable.randomArray(size, 100, 51L);
+                CountComparable[] expectedArray = Arrays.copyOf(array, size);
+                Arrays.sort(expectedArray);
+                CountComparable[] reverseArray = Arrays.copyOf(expectedArray, size);
+                Arrays.sort(reverseArray, Comparator.reverseOrder());
+                CountComparable[] actualArray = Arrays.copyOf(array, size);
+                sorter.sortArray(actualArray, INC);
+                assertThat(actualArray, is(expectedArray));
+                sorter.sortArray(actualArray, DEC);
+                assertThat(actualArray, is(reverseArray));
+                sorter.sortArray(actualArray, (a, b) -> a.compareTo(b) > 0);
+                assertThat(actualArray, is(expectedArray));
+                List<CountComparable> actualList = new ArrayList<>(Arrays.asList(array));
+                sorter.sortList(actualList, INC);
+                assertThat(actualList.toArray(), is((Object[]) expectedArray));
+                List<CountComparable> linkedList = new LinkedList<>(Arrays.asList(array));
+                sorter.sortList(linkedList, DEC);
+                assertThat(linkedList.toArray(), is((Object[]) reverseArray));
+            }
+        }
+    }
+
+    @Test
+    public void kWayStableTest() {
+        for (int ways : new int[] {2, 5, 16}) {
+            CountComparable[] array = CountComparable.randomArray(length, 10, 52L);
+            Map<CountComparable, Integer> places = new IdentityHashMap<>();
+            for (int i = 0; i < length; i++) {
+                places.put(array[i], i);
+            }
+            new KWayMerge(ways).sortArray(array, INC);
+            for (int i = 1; i < length; i++) {
+                if (array[(i - 1)].getValue() == array[i].getValue()) {
+                    assertTrue(places.get(array[(i - 1)]) < places.get(array[i]));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void kWayComparesTest() {
+        CountComparable[] array = CountComparable.randomArray(length, Integer.MAX_VALUE, 53L);
+        long merge = compares(new Merge(), Arrays.copyOf(array, length));
+        long bound = (long) (length * Math.ceil(log2(length)));
+        for (int ways : new int[] {2, 4, 16, 64}) {
+            long kWay = compares(new KWayMerge(ways), Arrays.copyOf(array, length));
+            assertTrue(ways + ": " + kWay + " > " + bound, kWay <= bound);
+            assertTrue(ways + ": " + kWay + " > " + merge, kWay < (merge + (merge / 10)));
+        }
+    }
+
+    @Test
+    public void loserTreeComparesTest() {
+        for (int ways : new int[] {1, 2, 5, 8, 13}) {
+            LoserTree<CountComparable> tree = new LoserTree<>(ways);
+            CountComparable[] source = CountComparable.randomArray(length, 1_000, 54L);
+            int[] bounds = new int[(ways + 1)];
+            for (int r = 0; r <= ways; r++) {
+                bounds[r] = (int) (((long) length * r) / ways);
+            }
+            for (int r = 0; r < ways; r++) {
+                Arrays.sort(source, bounds[r], bounds[(r + 1)]);
+            }
+            CountComparable[] expectedArray = Arrays.copyOf(source, length);
+            Arrays.sort(expectedArray);
+            for (int repeat = 0; repeat < 2; repeat++) {
+                CountComparable[] target = new CountComparable[length];
+                CountComparable.reset();
+                tree.merge(source, bounds, ways, target, 0, (a, b) -> a.compareTo(b) > 0);
+                long bound = ((ways - 1) + (length * (long) Math.ceil(log2(ways))));
+                assertTrue(ways + ": " + CountComparable.count() + " > " + bound, CountComparable.count() <= bound);
+                assertThat(target, is(expectedArray));
+            }
+        }
+    }
+
+    @Test
+    public void cacheBudgetWaysTest() {
+        KWayMerge sorter = KWayMerge.ofCacheBudget(32 * 1024);
+        assertThat(sorter.ways(), is(0));
+        assertThat(sorter.ways(0), is(2));
+        assertThat(sorter.ways(1_000), is(32));
+        assertThat(sorter.ways(length), is(25));
+        assertThat(KWayMerge.ofCacheBudget(1).ways(length), is(2));
+        assertThat(KWayMerge.ofCacheBudget(1_400).ways(length), is(9));
+        assertThat(new KWayMerge(7).ways(length), is(7));
+        for (int budget : new int[] {1, 1_400, 32 * 1024, 1024 * 1024}) {
+            int limit = Math.max(2, (budget / 140));
+            for (int size : new int[] {0, 33, 1_000, length, 1_000_000}) {
+                int ways = KWayMerge.ofCacheBudget(budget).ways(size);
+                assertTrue(budget + ", " + size + ": " + ways, (ways >= 2) && (ways <= limit));
+            }
+        }
+        CountComparable[] array = CountComparable.randomArray(length, 100, 55L);
+        CountComparable[] expectedArray = Arrays.copyOf(array, length);
+        Arrays.sort(expectedArray);
+        for (int budget : new int[] {1, 1_400, 32 * 1024}) {
+            CountComparable[] actualArray = Arrays.copyOf(array, length);
+            KWayMerge.ofCacheBudget(budget).sortArray(actualArray, INC);
+            assertThat(actualArray, is(expectedArray));
+        }
+    }
+
+    @Test
+    public void merge3ComparesTest() {
+        CountComparable[] array = CountComparable.randomArray(length, Integer.MAX_VALUE, 56L);
+        long bound = (long) (length * 2 * Math.ceil(Math.log(length) / Math.log(3)));
+        long merge3 = compares(new Merge3(), Arrays.copyOf(array, length));
+        assertTrue(merge3 + " > " + bound, merge3 <= bound);
+        CountComparable[] stableArray = CountComparable.randomArray(length, 10, 57L);
+        Map<CountComparable, Integer> places = new IdentityHashMap<>();
+        for (int i = 0; i < length; i++) {
+            places.put(stableArray[i], i);
+        }
+        List<CountComparable> linkedList = new LinkedList<>(Arrays.asList(stableArray));
+        new Merge3().sortList(linkedList, INC);
+        CountComparable[] sortedArray = linkedList.toArray(new CountComparable[0]);
+        for (int i = 1; i < length; i++) {
+            CountComparable previous = sortedArray[(i - 1)], current = sortedArray[i];
+            assertTrue(previous.getValue() <= current.getValue());
+            if (previous.getValue() == current.getValue()) {
+                assertTrue(places.get(previous) < places.get(current));
+            }
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void waysTest() {
+        new KWayMerge(1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void cacheBudgetTest() {
+        KWayMerge.ofCacheBudget(0);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,190 @@
+package github.magyarzoli.junit4.benchmark;
+
+import github.magyarzoli.Sorter;
+import github.magyarzoli.auxiliary.CountComparable;
+import github.magyarzoli.sort.BottomUpHeap;
+import github.magyarzoli.sort.Insertion;
+import github.magyarzoli.sort.Merge;
+import github.magyarzoli.sort.Quick;
+import github.magyarzoli.sort.Quick3;
+import github.magyarzoli.sort.Shell;
+import github.magyarzoli.sort.SmoothHeap;
+import github.magyarzoli.sort.intro.IntroMerge;
+import org.junit.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+import static github.magyarzoli.Sort.DEC;
+import static github.magyarzoli.Sort.INC;
+import static github.magyarzoli.Sort.REV;
+import static github.magyarzoli.SortType.DECREASING;
+import static github.magyarzoli.SortType.INCREASING;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+@SuppressWarnings({"rawtypes", "unchecked"})
+public class ListBenchmarkTest {
+
+    private final int length = 20_000;
+
+    private <E> List<E> linkedList(List<E> elements) {
+        return new LinkedList<E>(elements) {
+            @Override
+            public E get(int index) {
+                fail("get(" + index + ")");
+                return null;
+            }
+
+            @Override
+            public E set(int index, E element) {
+                fail("set(" + index + ")");
+                return null;
+            }
+        };
+    }
+
+    @Test
+    public void linkedListTest() {
+        Sorter[] sorters = {new Quick(), new Merge(), new Shell(), new IntroMerge()};
+        CountComparable[] array = CountComparable.randomArray(length, 1_000, 75L);
+        CountComparable[] expectedArray = Arrays.copyOf(array, length);
+        Arrays.sort(expectedArray);
+        CountComparable[] reverseArray = Arrays.copyOf(expectedArray, length);
+        Arrays.sort(reverseArray, Comparator.reverseOrder());
+        for (Sorter sorter : sorters) {
+            List<CountComparable> actualList = linkedList(Arrays.asList(array));
+            sorter.sortList(actualList, INC);
+            assertThat(actualList.toArray(), is((Object[]) expectedArray));
+            sorter.sortList(actualList, DEC);
+            assertThat(actualList.toArray(), is((Object[]) reverseArray));
+            sorter.sortList(actualList, INCREASING);
+            assertThat(actualList.toArray(), is((Object[]) expectedArray));
+            sorter.sortList(actualList, DECREASING);
+            assertThat(actualList.toArray(), is((Object[]) reverseArray));
+            sorter.sortList(actualList, (a, b) -> a.compareTo(b) > 0);
+            assertThat(actualList.toArray(), is((Object[]) expectedArray));
+        }
+    }
+
+    @Test
+    public void threadListTest() {
+        Sorter[] sorters = {new Quick(), new Quick3(), new Merge(), new Insertion(), new SmoothHeap(), new Shell(),
+                new BottomUpHeap()};
+        CountComparable[] array = CountComparable.randomArray(2_000, 100, 78L);
+        CountComparable[] expectedArray = Arrays.copyOf(array, array.length);
+        Arrays.sort(expectedArray);
+        CountComparable[] reverseArray = Arrays.copyOf(expectedArray, array.length);
+        Arrays.sort(reverseArray, Comparator.reverseOrder());
+        for (Sorter sorter : sorters) {
+            for (int thread : new int[] {1, 3, 4, 5_000}) {
+                List<CountComparable> actualList = linkedList(Arrays.asList(array));
+                sorter.sortList(actualList, INC, thread);
+                assertThat(actualList.toArray(), is((Object[]) expectedArray));
+                sorter.sortList(actualList, DECREASING, thread);
+                assertThat(actualList.toArray(), is((Object[]) reverseArray));
+                sorter.sortList(actualList, (a, b) -> a.compareTo(b) > 0, thread);
+                assertThat(actualList.toArray(), is((Object[]) expectedArray));
+                sorter.sortList(actualList, REV, thread);
+                assertThat(actualList.toArray(), is((Object[]) reverseArray));
+                List<CountComparable> synchronizedList = Collections.synchronizedList(
+                        new ArrayList<>(Arrays.asList(array)));
+                sorter.sortList(synchronizedList, DEC, thread);
+                assertThat(synchronizedList.toArray(), is((Object[]) reverseArray));
+            }
+        }
+    }
+
+    @Test
+    public void threadListStableTest() {
+        CountComparable[] array = CountComparable.randomArray(length, 10, 79L);
+        Map<CountComparable, Integer> places = new IdentityHashMap<>();
+        for (int i = 0; i < length; i++) {
+            places.put(array[i], i);
+        }
+        List<CountComparable> actualList = new ArrayList<>(Arrays.asList(array));
+        new Merge().sortList(actualList, INC, 4);
+        for (int i = 1; i < length; i++) {
+            if (actualList.get((i - 1)).getValue() == actualList.get(i).getValue()) {
+                assertTrue(places.get(actualList.get((i - 1))) < places.get(actualList.get(i)));
+            }
+        }
+    }
+
+    @Test
+    public void leanTest() {
+        Sorter sorter = new Quick();
+        for (int size : new int[] {0, 1, 2, 3, 1_000, length}) {
+            CountComparable[] array = CountComparable.randomArray(size, 10, 80L);
+            Map<CountComparable, Integer> places = new IdentityHashMap<>();
+            for (int i = 0; i < size; i++) {
+                places.put(array[i], i);
+            }
+            CountComparable[] expectedArray = Arrays.copyOf(array, size);
+            Arrays.sort(expectedArray);
+            CountComparable[] reverseArray = Arrays.copyOf(expectedArray, size);
+            Arrays.sort(reverseArray, Comparator.reverseOrder());
+            List<CountComparable> actualList = linkedList(Arrays.asList(array));
+            sorter.sortListLean(actualList, INC);
+            assertThat(actualList.toArray(), is((Object[]) expectedArray));
+            CountComparable[] actualArray = actualList.toArray(new CountComparable[0]);
+            for (int i = 1; i < size; i++) {
+                if (actualArray[(i - 1)].getValue() == actualArray[i].getValue()) {
+                    assertTrue(places.get(actualArray[(i - 1)]) < places.get(actualArray[i]));
+                }
+            }
+            sorter.sortListLean(actualList, DECREASING);
+            assertThat(actualList.toArray(), is((Object[]) reverseArray));
+            sorter.sortListLean(actualList, (a, b) -> a.compareTo(b) > 0);
+            assertThat(actualList.toArray(), is((Object[]) expectedArray));
+            Deque<CountComparable> deque = new ArrayDeque<>(Arrays.asList(array));
+            sorter.linkedMerge(deque, (a, b) -> a.compareTo(b) < 0);
+            assertThat(deque.toArray(), is((Object[]) reverseArray));
+            List<CountComparable> arrayList = new ArrayList<>(Arrays.asList(array));
+            sorter.sortListLean(arrayList, INC);
+            assertThat(arrayList.toArray(), is((Object[]) expectedArray));
+        }
+    }
+
+    @Test
+    public void subListTest() {
+        CountComparable[] array = CountComparable.randomArray(1_000, 100, 76L);
+        List<CountComparable> actualList = new LinkedList<>(Arrays.asList(array));
+        new Insertion().sortList(actualList.subList(100, 900), INC);
+        CountComparable[] expectedArray = Arrays.copyOf(array, array.length);
+        Arrays.sort(expectedArray, 100, 900);
+        assertThat(actualList.toArray(), is((Object[]) expectedArray));
+    }
+
+    @Test
+    public void arrayListOptionTest() {
+        Sorter sorter = new Quick() {
+            @Override
+            public boolean sortsListAsArray(List<?> list) {
+                return true;
+            }
+        };
+        CountComparable[] array = CountComparable.randomArray(length, 1_000, 77L);
+        CountComparable[] expectedArray = Arrays.copyOf(array, length);
+        Arrays.sort(expectedArray);
+        List<CountComparable> actualList = new ArrayList<CountComparable>(Arrays.asList(array)) {
+            @Override
+            public CountComparable get(int index) {
+                fail("get(" + index + ")");
+                return null;
+            }
+        };
+        sorter.sortList(actualList, INC);
+        assertThat(actualList.toArray(), is((Object[]) expectedArray));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,206 @@
+package github.magyarzoli.junit4.benchmark;
+
+import github.magyarzoli.Sorter;
+import github.magyarzoli.auxiliary.CountComparable;
+import github.magyarzoli.sort.KWayMerge;
+import github.magyarzoli.sort.Merge;
+import github.magyarzoli.sort.Merge3;
+import github.magyarzoli.sort.MergeInsertion;
+import github.magyarzoli.sort.OddEvenMerge;
+import github.magyarzoli.sort.Tim;
+import github.magyarzoli.sort.WeaveMerge;
+import github.magyarzoli.sort.intro.IntroMerge;
+import org.junit.Assume;
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static github.magyarzoli.Sort.DEC;
+import static github.magyarzoli.Sort.INC;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+@SuppressWarnings({"rawtypes", "unchecked"})
+public class MergeBenchmarkTest {
+
+    private final int length = 20_000;
+
+    private long compares(Sorter sorter, CountComparable[] array) {
+        CountComparable[] expectedArray = Arrays.copyOf(array, array.length);
+        Arrays.sort(expectedArray);
+        CountComparable.reset();
+        sorter.sortArray(array, INC);
+        long count = CountComparable.count();
+        assertThat(array, is(expectedArray));
+        return count;
+    }
+
+    private CountComparable[] sortedArray(long seed) {
+        CountComparable[] array = CountComparable.randomArray(length, Integer.MAX_VALUE, seed);
+        Arrays.sort(array);
+        return array;
+    }
+
+    private CountComparable[] blockArray(int block, long seed) {
+        CountComparable[] sorted = sortedArray(seed), array = new CountComparable[length];
+        int k = 0;
+        for (int parity = 0; parity < 2; parity++) {
+            for (int i = 0; i < length; i++) {
+                if (((i / block) % 2) == parity) {
+                    array[k++] = sorted[i];
+                }
+            }
+        }
+        return array;
+    }
+
+    @Test
+    public void gallopSortTest() {
+        Sorter[] sorters = {new Merge(), new MergeInsertion(), new Tim(), new IntroMerge(), new OddEvenMerge()};
+        CountComparable[][] arrays = {
+                CountComparable.randomArray(length, 100, 55L),
+                sortedArray(56L),
+                blockArray(1_000, 57L),
+                blockArray(1, 58L)
+        };
+        for (CountComparable[] array : arrays) {
+            CountComparable[] expectedArray = Arrays.copyOf(array, length);
+            Arrays.sort(expectedArray);
+            CountComparable[] reverseArray = Arrays.copyOf(expectedArray, length);
+            Arrays.sort(reverseArray, Comparator.reverseOrder());
+            for (Sorter sorter : sorters) {
+                CountComparable[] actualArray = Arrays.copyOf(array, length);
+                sorter.sortArray(actualArray, INC);
+                assertThat(actualArray, is(expectedArray));
+                sorter.sortArray(actualArray, DEC);
+                assertThat(actualArray, is(reverseArray));
+                sorter.sortArray(actualArray, (a, b) -> a.compareTo(b) > 0);
+                assertThat(actualArray, is(expectedArray));
+                List<CountComparable> actualList = new ArrayList<>(Arrays.asList(array));
+                sorter.sortList(actualList, INC);
+                assertThat(actualList.toArray(), is((Object[]) expectedArray));
+                sorter.sortList(actualList, DEC);
+                assertThat(actualList.toArray(), is((Object[]) reverseArray));
+            }
+        }
+    }
+
+    @Test
+    public void gallopStableTest() {
+        CountComparable[] array = CountComparable.randomArray(length, 10, 59L);
+        Map<CountComparable, Integer> places = new IdentityHashMap<>();
+        for (int i = 0; i < length; i++) {
+            places.put(array[i], i);
+        }
+        new Merge().sortArray(array, INC);
+        for (int i = 1; i < length; i++) {
+            if (array[(i - 1)].getValue() == array[i].getValue()) {
+                assertTrue(places.get(array[(i - 1)]) < places.get(array[i]));
+            }
+        }
+    }
+
+    @Test
+    public void orderedComparesTest() {
+        for (Sorter sorter : new Sorter[] {new Merge(), new OddEvenMerge()}) {
+            long sorted = compares(sorter, sortedArray(60L));
+            assertTrue(sorted + " > " + length, sorted < length);
+            CountComparable[] reversed = sortedArray(61L);
+            Arrays.sort(reversed, Comparator.reverseOrder());
+            long rotated = compares(sorter, reversed);
+            assertTrue(rotated + " > " + (2 * length), rotated < (2 * length));
+        }
+    }
+
+    @Test
+    public void blockComparesTest() {
+        long blocks = compares(new Merge(), blockArray(1_000, 62L));
+        long interleaved = compares(new Merge(), blockArray(1, 63L));
+        assertTrue(blocks + " > " + (length + (length / 20)), blocks < (length + (length / 20)));
+        assertTrue(blocks + " > " + interleaved, ((blocks - length) * 20) < (interleaved - length));
+        long random = compares(new Merge(), CountComparable.randomArray(length, Integer.MAX_VALUE, 64L));
+        long bound = (long) (length * Math.ceil(Math.log(length) / Math.log(2)));
+        assertTrue(random + " > " + bound, random <= bound);
+    }
+
+    @Test
+    public void allocationTest() {
+        if (!(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean)) {
+            Assume.assumeTrue(false);
+        }
+        com.sun.management.ThreadMXBean bean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        Assume.assumeTrue(bean.isThreadAllocatedMemorySupported() && bean.isThreadAllocatedMemoryEnabled());
+        int size = 100_000;
+        Integer[] source = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            source[i] = ((i * 7_919) % size);
+        }
+        Sorter[] sorters = {
+                new Merge(), new Merge3(), new MergeInsertion(), new Tim(), new WeaveMerge(), new KWayMerge(),
+                new OddEvenMerge()
+        };
+        for (Sorter sorter : sorters) {
+            Integer[] array = source.clone();
+            sorter.sortArray(array, INC);
+            long limit = ((8L * size) + 65_536), allocated = Long.MAX_VALUE;
+            for (int repeat = 0; (repeat < 5) && (allocated > limit); repeat++) {
+                array = source.clone();
+                long before = bean.getThreadAllocatedBytes(Thread.currentThread().getId());
+                sorter.sortArray(array, INC);
+                allocated = (bean.getThreadAllocatedBytes(Thread.currentThread().getId()) - before);
+            }
+            for (int i = 0; i < size; i++) {
+                if (array[i] != i) {
+                    fail(sorter.getClass().getSimpleName() + " is not sorted at " + i);
+                }
+            }
+            assertTrue(sorter.getClass().getSimpleName() + ": " + allocated + " > " + limit, allocated <= limit);
+        }
+    }
+
+    @Test
+    public void kernelAllocationTest() {
+        if (!(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean)) {
+            Assume.assumeTrue(false);
+        }
+        com.sun.management.ThreadMXBean bean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        Assume.assumeTrue(bean.isThreadAllocatedMemorySupported() && bean.isThreadAllocatedMemoryEnabled());
+        int size = 100_000;
+        Integer[] source = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            source[i] = ((i * 7_919) % size);
+        }
+        Merge merge = new Merge();
+        List<Consumer<Integer[]>> sorts = Arrays.asList(
+                array -> merge.mergeInc(array, 0, ((size - 1) / 2), (size - 1)),
+                array -> merge.mergeInc(array, 1, size),
+                array -> merge.merge(array, 0, ((size - 1) / 2), (size - 1), (a, b) -> a.compareTo(b) > 0),
+                array -> merge.merge(array, 1, size, (a, b) -> a.compareTo(b) > 0));
+        for (int k = 0; k < sorts.size(); k++) {
+            Integer[] array = source.clone();
+            sorts.get(k).accept(array);
+            long limit = ((8L * size) + 65_536), allocated = Long.MAX_VALUE;
+            for (int repeat = 0; (repeat < 5) && (allocated > limit); repeat++) {
+                array = source.clone();
+                long before = bean.getThreadAllocatedBytes(Thread.currentThread().getId());
+                sorts.get(k).accept(array);
+                allocated = (bean.getThreadAllocatedBytes(Thread.currentThread().getId()) - before);
+            }
+            for (int i = 0; i < size; i++) {
+                if (array[i] != i) {
+                    fail("sort " + k + " is not sorted at " + i);
+                }
+            }
+            assertTrue("sort " + k + ": " + allocated + " > " + limit, allocated <= limit);
+        }
+    }
+}
\ No newline at end of file
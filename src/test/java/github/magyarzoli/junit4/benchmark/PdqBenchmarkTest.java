@@ -0,0 +1,82 @@
+package github.magyarzoli.junit4.benchmark;
+
+import github.magyarzoli.PivotStrategy;
+import github.magyarzoli.Sorter;
+import github.magyarzoli.auxiliary.CountComparable;
+import github.magyarzoli.sort.intro.IntroPdq;
+import github.magyarzoli.sort.intro.IntroQuick;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+import static github.magyarzoli.Sort.DEC;
+import static github.magyarzoli.Sort.INC;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+@SuppressWarnings({"rawtypes", "unchecked"})
+public class PdqBenchmarkTest {
+
+    private final int length = 100_000;
+
+    private long compares(Sorter sorter, CountComparable[] array, int type) {
+        CountComparable[] expectedArray = Arrays.copyOf(array, array.length);
+        if (type == INC) {
+            Arrays.sort(expectedArray);
+        } else {
+            Arrays.sort(expectedArray, Comparator.reverseOrder());
+        }
+        CountComparable.reset();
+        sorter.sortArray(array, type);
+        long count = CountComparable.count();
+        assertThat(array, is(expectedArray));
+        return count;
+    }
+
+    private CountComparable[] sortedArray(int length) {
+        CountComparable[] array = new CountComparable[length];
+        for (int i = 0; i < length; i++) {
+            array[i] = new CountComparable(i);
+        }
+        return array;
+    }
+
+    @Test
+    public void sortedComparesTest() {
+        long pdq = compares(new IntroPdq(), sortedArray(length), INC);
+        assertTrue(String.valueOf(pdq), pdq < (length * 3L));
+    }
+
+    @Test
+    public void reverseComparesTest() {
+        long pdq = compares(new IntroPdq(), sortedArray(length), DEC);
+        assertTrue(String.valueOf(pdq), pdq < (length * 4L));
+    }
+
+    @Test
+    public void fewUniqueComparesTest() {
+        CountComparable[] array = CountComparable.randomArray(length, 4, 29L);
+        long pdq = compares(new IntroPdq(), Arrays.copyOf(array, length), INC);
+        assertTrue(String.valueOf(pdq), pdq < (length * 8L));
+    }
+
+    @Test
+    public void randomComparesTest() {
+        CountComparable[] array = CountComparable.randomArray(length, Integer.MAX_VALUE, 30L);
+        long quick = compares(new IntroQuick(PivotStrategy.LAST), Arrays.copyOf(array, length), INC);
+        long pdq = compares(new IntroPdq(), Arrays.copyOf(array, length), INC);
+        assertTrue(quick + " > " + pdq, pdq < quick);
+    }
+
+    @Test
+    public void organPipeTest() {
+        CountComparable[] array = new CountComparable[length];
+        for (int i = 0; i < length; i++) {
+            array[i] = new CountComparable(Math.min(i, (length - i)));
+        }
+        long pdq = compares(new IntroPdq(), array, INC);
+        assertTrue(String.valueOf(pdq), pdq < (length * 40L));
+    }
+}
\ No newline at end of file
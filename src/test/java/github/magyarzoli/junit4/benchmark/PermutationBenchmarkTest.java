@@ -0,0 +1,146 @@
+package github.magyarzoli.junit4.benchmark;
+
+import github.magyarzoli.SortFunctional;
+import github.magyarzoli.Sorter;
+import github.magyarzoli.auxiliary.CountComparable;
+import github.magyarzoli.sort.Bogo;
+import github.magyarzoli.sort.Permutation;
+import github.magyarzoli.sort.intro.IntroPermutation;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import static github.magyarzoli.Sort.DEC;
+import static github.magyarzoli.Sort.INC;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+@SuppressWarnings({"rawtypes", "unchecked"})
+public class PermutationBenchmarkTest {
+
+    private final int length = 10;
+
+    private Integer[] reversed(int size) {
+        Integer[] array = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            array[i] = (size - 1 - i);
+        }
+        return array;
+    }
+
+    @Test
+    public void permutationSortTest() {
+        Sorter[] sorters = {new Permutation(), new Permutation(4), new IntroPermutation()};
+        for (long seed = 71L; seed < 74L; seed++) {
+            CountComparable[] array = CountComparable.randomArray(length, 100, seed);
+            CountComparable[] expectedArray = Arrays.copyOf(array, length);
+            Arrays.sort(expectedArray);
+            CountComparable[] reverseArray = Arrays.copyOf(expectedArray, length);
+            Arrays.sort(reverseArray, Comparator.reverseOrder());
+            for (Sorter sorter : sorters) {
+                CountComparable[] actualArray = Arrays.copyOf(array, length);
+                sorter.sortArray(actualArray, INC);
+                assertThat(actualArray, is(expectedArray));
+                sorter.sortArray(actualArray, DEC);
+                assertThat(actualArray, is(reverseArray));
+                sorter.sortArray(actualArray, (a, b) -> a.compareTo(b) > 0);
+                assertThat(actualArray, is(expectedArray));
+            }
+            List<CountComparable> actualList = new LinkedList<>(Arrays.asList(array));
+            new IntroPermutation().sortList(actualList, INC);
+            assertThat(actualList.toArray(), is((Object[]) expectedArray));
+        }
+    }
+
+    @Test
+    public void earlyExitTest() {
+        CountComparable[] array = CountComparable.randomArray(13, Integer.MAX_VALUE, 74L);
+        Arrays.sort(array);
+        CountComparable.reset();
+        new Permutation().sortArray(array, INC);
+        assertThat(CountComparable.count(), is(12L));
+        List<CountComparable> list = new ArrayList<>(Arrays.asList(array));
+        list.add(0, list.remove(1));
+        new IntroPermutation().sortList(list, INC);
+        assertThat(list.toArray(), is((Object[]) array));
+    }
+
+    @Test
+    public void listTest() {
+        Sorter sorter = new Permutation() {
+            @Override
+            protected void randomize(Comparable[] array, int left, int right, SplittableRandom random) {
+                fail("randomize");
+            }
+        };
+        CountComparable[] array = CountComparable.randomArray(length, 100, 75L);
+        CountComparable[] expectedArray = Arrays.copyOf(array, length);
+        Arrays.sort(expectedArray);
+        CountComparable[] reverseArray = Arrays.copyOf(expectedArray, length);
+        Arrays.sort(reverseArray, Comparator.reverseOrder());
+        List[] lists = {new ArrayList<>(Arrays.asList(array)), new LinkedList<>(Arrays.asList(array))};
+        for (List<CountComparable> actualList : lists) {
+            sorter.sortList(actualList, INC);
+            assertThat(actualList.toArray(), is((Object[]) expectedArray));
+            sorter.sortList(actualList, DEC);
+            assertThat(actualList.toArray(), is((Object[]) reverseArray));
+            sorter.sortList(actualList, (a, b) -> a.compareTo(b) > 0);
+            assertThat(actualList.toArray(), is((Object[]) expectedArray));
+        }
+    }
+
+    @Test
+    public void budgetTest() {
+        SortFunctional<Comparable> inc = (a, b) -> a.compareTo(b) > 0;
+        for (int parallelism : new int[] {1, 4}) {
+            Permutation sorter = new Permutation(parallelism) {
+                @Override
+                protected void randomize(Comparable[] array, int left, int right, SplittableRandom random) {
+                    fail("randomize");
+                }
+            };
+            Bogo.Result result = sorter.sortArrayBudget(reversed(12), inc, 1_001, Long.MAX_VALUE, TimeUnit.SECONDS);
+            assertFalse(result.sorted());
+            assertThat(result.attempts(), is(1_001L));
+            result = sorter.sortArrayBudget(reversed(13), inc, Long.MAX_VALUE, 50, TimeUnit.MILLISECONDS);
+            assertFalse(result.sorted());
+            assertTrue(result.toString(), result.nanos() >= TimeUnit.MILLISECONDS.toNanos(50));
+            Integer[] array = reversed(length);
+            result = sorter.sortArrayBudget(array, inc, Long.MAX_VALUE, Long.MAX_VALUE, TimeUnit.SECONDS);
+            assertTrue(result.sorted());
+            assertTrue(result.attempts() > 0);
+            for (int i = 0; i < length; i++) {
+                assertThat(array[i], is(i));
+            }
+        }
+    }
+
+    @Test
+    public void streamingTest() {
+        Sorter[] sorters = {new Permutation(), new Permutation(4)};
+        for (Sorter sorter : sorters) {
+            Integer[] array = new Integer[11];
+            for (int i = 0; i < array.length; i++) {
+                array[i] = (array.length - 1 - i);
+            }
+            sorter.sortArray(array, INC);
+            for (int i = 0; i < array.length; i++) {
+                assertThat(array[i], is(i));
+            }
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void parallelismTest() {
+        new Permutation(0);
+    }
+}
\ No newline at end of file
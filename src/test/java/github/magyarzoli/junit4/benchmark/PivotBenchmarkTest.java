@@ -0,0 +1,63 @@
+package github.magyarzoli.junit4.benchmark;
+
+import github.magyarzoli.PivotStrategy;
+import github.magyarzoli.Sorter;
+import github.magyarzoli.auxiliary.CountComparable;
+import github.magyarzoli.sort.DualPivotQuick;
+import github.magyarzoli.sort.Quick;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static github.magyarzoli.Sort.INC;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+@SuppressWarnings({"rawtypes", "unchecked"})
+public class PivotBenchmarkTest {
+
+    private final int length = 2_000;
+
+    private long compares(Sorter sorter, CountComparable[] array) {
+        CountComparable[] expectedArray = Arrays.copyOf(array, array.length);
+        Arrays.sort(expectedArray);
+        CountComparable.reset();
+        sorter.sortArray(array, INC);
+        long count = CountComparable.count();
+        assertThat(array, is(expectedArray));
+        return count;
+    }
+
+    private CountComparable[] sortedArray(int length) {
+        CountComparable[] array = new CountComparable[length];
+        for (int i = 0; i < length; i++) {
+            array[i] = new CountComparable(i);
+        }
+        return array;
+    }
+
+    @Test
+    public void sortedQuickTest() {
+        long last = compares(new Quick(PivotStrategy.LAST), sortedArray(length));
+        long median = compares(new Quick(PivotStrategy.MEDIAN_OF_3), sortedArray(length));
+        long adaptive = compares(new Quick(), sortedArray(length));
+        long random = compares(new Quick(PivotStrategy.random(30L)), sortedArray(length));
+        assertTrue(last + " > " + median, (median * 20) < last);
+        assertTrue(last + " > " + adaptive, (adaptive * 20) < last);
+        assertTrue(last + " > " + random, (random * 20) < last);
+    }
+
+    @Test
+    public void sortedDualPivotQuickTest() {
+        long last = compares(new DualPivotQuick(PivotStrategy.LAST), sortedArray(length));
+        long tertiles = compares(new DualPivotQuick(PivotStrategy.TERTILES), sortedArray(length));
+        assertTrue(last + " > " + tertiles, (tertiles * 20) < last);
+    }
+
+    @Test
+    public void sortedLargeTest() {
+        long adaptive = compares(new Quick(), sortedArray(100_000));
+        assertTrue(String.valueOf(adaptive), adaptive < (100_000L * 20));
+    }
+}
\ No newline at end of file
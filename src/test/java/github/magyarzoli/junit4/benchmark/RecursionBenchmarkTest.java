@@ -0,0 +1,93 @@
+package github.magyarzoli.junit4.benchmark;
+
+import github.magyarzoli.PivotStrategy;
+import github.magyarzoli.Sorter;
+import github.magyarzoli.auxiliary.CountComparable;
+import github.magyarzoli.sort.BatcherOddEvenMerge;
+import github.magyarzoli.sort.Quick;
+import github.magyarzoli.sort.Slow;
+import github.magyarzoli.sort.Stooge;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import static github.magyarzoli.Sort.DEC;
+import static github.magyarzoli.Sort.INC;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+@SuppressWarnings({"rawtypes", "unchecked"})
+public class RecursionBenchmarkTest {
+
+    private void assertSorts(Sorter sorter, CountComparable[] array) {
+        int length = array.length;
+        CountComparable[] expectedArray = Arrays.copyOf(array, length);
+        Arrays.sort(expectedArray);
+        CountComparable[] reverseArray = Arrays.copyOf(expectedArray, length);
+        Arrays.sort(reverseArray, Comparator.reverseOrder());
+        CountComparable[] actualArray = Arrays.copyOf(array, length);
+        sorter.sortArray(actualArray, INC);
+        assertThat(actualArray, is(expectedArray));
+        sorter.sortArray(actualArray, DEC);
+        assertThat(actualArray, is(reverseArray));
+        sorter.sortArray(actualArray, (a, b) -> a.compareTo(b) > 0);
+        assertThat(actualArray, is(expectedArray));
+        List<CountComparable> actualList = new ArrayList<>(Arrays.asList(array));
+        sorter.sortList(actualList, INC);
+        assertThat(actualList.toArray(), is((Object[]) expectedArray));
+        sorter.sortList(actualList, DEC);
+        assertThat(actualList.toArray(), is((Object[]) reverseArray));
+    }
+
+    @Test
+    public void sortTest() {
+        Sorter[] sorters = {new Quick(), new BatcherOddEvenMerge()};
+        for (Sorter sorter : sorters) {
+            for (int size : new int[] {1, 2, 17, 1_000, 20_000}) {
+                assertSorts(sorter, CountComparable.randomArray(size, 100, 71L));
+            }
+        }
+        Sorter[] slowSorters = {new Slow(), new Stooge()};
+        for (Sorter sorter : slowSorters) {
+            for (int size : new int[] {0, 1, 2, 3, 17, 60}) {
+                assertSorts(sorter, CountComparable.randomArray(size, 10, 72L));
+            }
+        }
+    }
+
+    @Test
+    public void sortedQuickTest() {
+        CountComparable[] array = CountComparable.randomArray(10_000, Integer.MAX_VALUE, 73L);
+        Arrays.sort(array);
+        Sorter sorter = new Quick(PivotStrategy.LAST);
+        assertSorts(sorter, array);
+    }
+
+    @Test
+    public void smallStackTest() throws InterruptedException {
+        int size = 10_000;
+        Throwable[] thrown = new Throwable[1];
+        Thread thread = new Thread(null, () -> {
+            try {
+                Integer[] array = new Integer[size];
+                for (int i = 0; i < size; i++) {
+                    array[i] = i;
+                }
+                new Quick(PivotStrategy.LAST).sortArray(array, INC);
+                new BatcherOddEvenMerge().sortArray(array, DEC);
+                for (int i = 0; i < size; i++) {
+                    assertThat(array[i], is(size - 1 - i));
+                }
+            } catch (Throwable throwable) {
+                thrown[0] = throwable;
+            }
+        }, "small", (64 * 1024));
+        thread.start();
+        thread.join();
+        assertThat(thrown[0], nullValue());
+    }
+}
\ No newline at end of file
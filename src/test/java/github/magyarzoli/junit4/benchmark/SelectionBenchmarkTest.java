@@ -0,0 +1,139 @@
+package github.magyarzoli.junit4.benchmark;
+
+import github.magyarzoli.Sorter;
+import github.magyarzoli.auxiliary.CountComparable;
+import github.magyarzoli.sort.DoubleSelection;
+import github.magyarzoli.sort.Selection;
+import github.magyarzoli.sort.intro.IntroDoubleSelection;
+import github.magyarzoli.sort.intro.IntroSelection;
+import org.junit.Test;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static github.magyarzoli.Sort.DEC;
+import static github.magyarzoli.Sort.INC;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+@SuppressWarnings({"rawtypes", "unchecked"})
+public class SelectionBenchmarkTest {
+
+    private final int length = 2_000;
+
+    private long compares(Sorter sorter, CountComparable[] array) {
+        CountComparable[] expectedArray = Arrays.copyOf(array, array.length);
+        Arrays.sort(expectedArray);
+        CountComparable.reset();
+        sorter.sortArray(array, INC);
+        long count = CountComparable.count();
+        assertThat(array, is(expectedArray));
+        return count;
+    }
+
+    private static class WriteCountList
+            extends AbstractList<CountComparable> {
+
+        private final List<CountComparable> list;
+
+        private int writes;
+
+        private WriteCountList(CountComparable[] array) {
+            list = new ArrayList<>(Arrays.asList(array));
+        }
+
+        @Override
+        public CountComparable get(int index) {
+            return list.get(index);
+        }
+
+        @Override
+        public CountComparable set(int index, CountComparable element) {
+            writes++;
+            return list.set(index, element);
+        }
+
+        @Override
+        public int size() {
+            return list.size();
+        }
+    }
+
+    @Test
+    public void tournamentSortTest() {
+        Sorter[] sorters = {
+                new Selection(true),
+                new DoubleSelection(true),
+                new IntroSelection(true),
+                new IntroDoubleSelection(true)
+        };
+        for (int size : new int[] {0, 1, 2, 3, 17, length}) {
+            CountComparable[] array = CountComparable.randomArray(size, 100, 47L);
+            CountComparable[] expectedArray = Arrays.copyOf(array, size);
+            Arrays.sort(expectedArray);
+            CountComparable[] reverseArray = Arrays.copyOf(expectedArray, size);
+            Arrays.sort(reverseArray, Comparator.reverseOrder());
+            for (Sorter sorter : sorters) {
+                CountComparable[] actualArray = Arrays.copyOf(array, size);
+                sorter.sortArray(actualArray, INC);
+                assertThat(actualArray, is(expectedArray));
+                sorter.sortArray(actualArray, DEC);
+                assertThat(actualArray, is(reverseArray));
+                sorter.sortArray(actualArray, (a, b) -> a.compareTo(b) > 0);
+                assertThat(actualArray, is(expectedArray));
+                List<CountComparable> actualList = new ArrayList<>(Arrays.asList(array));
+                sorter.sortList(actualList, INC);
+                assertThat(actualList.toArray(), is((Object[]) expectedArray));
+                sorter.sortList(actualList, DEC);
+                assertThat(actualList.toArray(), is((Object[]) reverseArray));
+                sorter.sortList(actualList, (a, b) -> a.compareTo(b) > 0);
+                assertThat(actualList.toArray(), is((Object[]) expectedArray));
+            }
+        }
+    }
+
+    @Test
+    public void tournamentStableTest() {
+        CountComparable[] array = CountComparable.randomArray(length, 10, 48L);
+        Map<CountComparable, Integer> places = new IdentityHashMap<>();
+        for (int i = 0; i < length; i++) {
+            places.put(array[i], i);
+        }
+        new Selection(true).sortArray(array, INC);
+        for (int i = 1; i < length; i++) {
+            if (array[(i - 1)].getValue() == array[i].getValue()) {
+                assertTrue(places.get(array[(i - 1)]) < places.get(array[i]));
+            }
+        }
+    }
+
+    @Test
+    public void tournamentComparesTest() {
+        CountComparable[] array = CountComparable.randomArray(length, Integer.MAX_VALUE, 49L);
+        long selection = compares(new Selection(), Arrays.copyOf(array, length));
+        long doubleSelection = compares(new DoubleSelection(), Arrays.copyOf(array, length));
+        long tournament = compares(new Selection(true), Arrays.copyOf(array, length));
+        long bound = (long) (length * Math.ceil(Math.log(length) / Math.log(2)));
+        assertTrue(tournament + " > " + bound, tournament <= bound);
+        assertTrue(tournament + " > " + selection, (tournament * 20) < selection);
+        assertTrue(tournament + " > " + doubleSelection, (tournament * 20) < doubleSelection);
+    }
+
+    @Test
+    public void tournamentWritesTest() {
+        for (Sorter sorter : new Sorter[] {new Selection(true), new DoubleSelection(true)}) {
+            WriteCountList list = new WriteCountList(CountComparable.randomArray(length, Integer.MAX_VALUE, 50L));
+            sorter.sortList(list, INC);
+            assertThat(list.writes, is(length));
+            for (int i = 1; i < length; i++) {
+                assertTrue(list.get((i - 1)).compareTo(list.get(i)) <= 0);
+            }
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,51 @@
+package github.magyarzoli.junit4.benchmark;
+
+import github.magyarzoli.GapSequence;
+import github.magyarzoli.Sorter;
+import github.magyarzoli.auxiliary.CountComparable;
+import github.magyarzoli.sort.Insertion;
+import github.magyarzoli.sort.Shell;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static github.magyarzoli.Sort.INC;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+@SuppressWarnings({"rawtypes", "unchecked"})
+public class ShellBenchmarkTest {
+
+    private final int length = 10_000;
+
+    private long compares(Sorter sorter, CountComparable[] array) {
+        CountComparable[] expectedArray = Arrays.copyOf(array, array.length);
+        Arrays.sort(expectedArray);
+        CountComparable.reset();
+        sorter.sortArray(array, INC);
+        long count = CountComparable.count();
+        assertThat(array, is(expectedArray));
+        return count;
+    }
+
+    @Test
+    public void shellInsertionComparesTest() {
+        CountComparable[] array = CountComparable.randomArray(length, Integer.MAX_VALUE, 27L);
+        long insertion = compares(new Insertion(), Arrays.copyOf(array, length));
+        long ciura = compares(new Shell(GapSequence.CIURA), Arrays.copyOf(array, length));
+        long tokuda = compares(new Shell(GapSequence.TOKUDA), Arrays.copyOf(array, length));
+        long sedgewick = compares(new Shell(GapSequence.SEDGEWICK), Arrays.copyOf(array, length));
+        assertTrue(insertion + " > " + ciura, (ciura * 50) < insertion);
+        assertTrue(insertion + " > " + tokuda, (tokuda * 50) < insertion);
+        assertTrue(insertion + " > " + sedgewick, (sedgewick * 50) < insertion);
+    }
+
+    @Test
+    public void shellSequenceComparesTest() {
+        CountComparable[] array = CountComparable.randomArray(length, Integer.MAX_VALUE, 28L);
+        long shell = compares(new Shell(GapSequence.SHELL), Arrays.copyOf(array, length));
+        long ciura = compares(new Shell(GapSequence.CIURA), Arrays.copyOf(array, length));
+        assertTrue(shell + " > " + ciura, ciura < shell);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,186 @@
+package github.magyarzoli.junit4.benchmark;
+
+import github.magyarzoli.SortParallel;
+import github.magyarzoli.SortScratch;
+import github.magyarzoli.Sorter;
+import github.magyarzoli.auxiliary.CountComparable;
+import github.magyarzoli.sort.StableQuick;
+import github.magyarzoli.sort.intro.IntroStableQuick;
+import org.junit.Assume;
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static github.magyarzoli.Sort.DEC;
+import static github.magyarzoli.Sort.INC;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+@SuppressWarnings({"rawtypes", "unchecked"})
+public class StableQuickBenchmarkTest {
+
+    private final int length = 20_000;
+
+    private void assertStable(CountComparable[] array, Map<CountComparable, Integer> places) {
+        for (int i = 1; i < array.length; i++) {
+            if (array[(i - 1)].getValue() == array[i].getValue()) {
+                assertTrue(places.get(array[(i - 1)]) < places.get(array[i]));
+            }
+        }
+    }
+
+    @Test
+    public void stableSortTest() {
+        Sorter[] sorters = {new StableQuick(), new IntroStableQuick()};
+        CountComparable[] sorted = CountComparable.randomArray(length, Integer.MAX_VALUE, 66L);
+        Arrays.sort(sorted);
+        CountComparable[][] arrays = {
+                CountComparable.randomArray(length, 100, 67L),
+                CountComparable.randomArray(length, 2, 68L),
+                sorted
+        };
+        for (CountComparable[] array : arrays) {
+            CountComparable[] expectedArray = Arrays.copyOf(array, length);
+            Arrays.sort(expectedArray);
+            CountComparable[] reverseArray = Arrays.copyOf(expectedArray, length);
+            Arrays.sort(reverseArray, Comparator.reverseOrder());
+            for (Sorter sorter : sorters) {
+                CountComparable[] actualArray = Arrays.copyOf(array, length);
+                sorter.sortArray(actualArray, INC);
+                assertThat(actualArray, is(expectedArray));
+                sorter.sortArray(actualArray, DEC);
+                assertThat(actualArray, is(reverseArray));
+                sorter.sortArray(actualArray, (a, b) -> a.compareTo(b) > 0);
+                assertThat(actualArray, is(expectedArray));
+                List<CountComparable> actualList = new ArrayList<>(Arrays.asList(array));
+                sorter.sortList(actualList, INC);
+                assertThat(actualList.toArray(), is((Object[]) expectedArray));
+                sorter.sortList(actualList, DEC);
+                assertThat(actualList.toArray(), is((Object[]) reverseArray));
+            }
+            List<CountComparable> linkedList = new LinkedList<>(Arrays.asList(array));
+            new StableQuick().sortList(linkedList, DEC);
+            assertThat(linkedList.toArray(), is((Object[]) reverseArray));
+        }
+    }
+
+    @Test
+    public void stablePartitionTest() {
+        for (int bound : new int[] {2, 10, 1_000}) {
+            CountComparable[] array = CountComparable.randomArray(length, bound, 69L);
+            Map<CountComparable, Integer> places = new IdentityHashMap<>();
+            for (int i = 0; i < length; i++) {
+                places.put(array[i], i);
+            }
+            CountComparable[] actualArray = Arrays.copyOf(array, length);
+            new StableQuick().sortArray(actualArray, INC);
+            assertStable(actualArray, places);
+            List<CountComparable> actualList = new ArrayList<>(Arrays.asList(array));
+            new StableQuick().sortList(actualList, INC);
+            assertStable(actualList.toArray(new CountComparable[0]), places);
+        }
+    }
+
+    @Test
+    public void parallelSortTest() {
+        int size = 100_000;
+        Sorter[] sorters = {new StableQuick(4), new IntroStableQuick(4)};
+        for (int bound : new int[] {2, 1_000, Integer.MAX_VALUE}) {
+            CountComparable[] array = CountComparable.randomArray(size, bound, 70L);
+            Map<CountComparable, Integer> places = new IdentityHashMap<>();
+            for (int i = 0; i < size; i++) {
+                places.put(array[i], i);
+            }
+            CountComparable[] expectedArray = Arrays.copyOf(array, size);
+            Arrays.sort(expectedArray);
+            CountComparable[] reverseArray = Arrays.copyOf(expectedArray, size);
+            Arrays.sort(reverseArray, Comparator.reverseOrder());
+            for (Sorter sorter : sorters) {
+                CountComparable[] actualArray = Arrays.copyOf(array, size);
+                sorter.sortArray(actualArray, INC);
+                assertThat(actualArray, is(expectedArray));
+                if (sorter.getClass() == StableQuick.class) {
+                    assertStable(actualArray, places);
+                }
+                sorter.sortArray(actualArray, DEC);
+                assertThat(actualArray, is(reverseArray));
+                sorter.sortArray(actualArray, (a, b) -> a.compareTo(b) > 0);
+                assertThat(actualArray, is(expectedArray));
+                List<CountComparable> actualList = new ArrayList<>(Arrays.asList(array));
+                sorter.sortList(actualList, INC);
+                assertThat(actualList.toArray(), is((Object[]) expectedArray));
+                if (sorter.getClass() == StableQuick.class) {
+                    assertStable(actualList.toArray(new CountComparable[0]), places);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void poolTest() {
+        AtomicInteger threads = new AtomicInteger();
+        ForkJoinPool pool = new ForkJoinPool(2, p -> {
+            threads.incrementAndGet();
+            return ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(p);
+        }, null, false);
+        try {
+            CountComparable[] array = CountComparable.randomArray(length, 1_000, 36L);
+            CountComparable[] expectedArray = Arrays.copyOf(array, length);
+            Arrays.sort(expectedArray);
+            new StableQuick(SortParallel.of(4, pool), null).sortArray(array, INC);
+            assertThat(array, is(expectedArray));
+            assertTrue(threads.get() > 0);
+        } finally {
+            pool.shutdown();
+        }
+        assertThat(new StableQuick(4).parallelism(), is(4));
+        assertThat(SortParallel.of(2).pool().getParallelism(), is(2));
+        assertTrue(SortParallel.of(2).pool() == SortParallel.of(2).pool());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void parallelismTest() {
+        new StableQuick(0);
+    }
+
+    @Test
+    public void allocationTest() {
+        if (!(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean)) {
+            Assume.assumeTrue(false);
+        }
+        com.sun.management.ThreadMXBean bean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        Assume.assumeTrue(bean.isThreadAllocatedMemorySupported() && bean.isThreadAllocatedMemoryEnabled());
+        int size = 100_000;
+        Integer[] source = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            source[i] = ((i * 7_919) % size);
+        }
+        Sorter sorter = new StableQuick(new SortScratch());
+        Integer[] array = source.clone();
+        sorter.sortArray(array, INC);
+        long limit = 16_384, allocated = Long.MAX_VALUE;
+        for (int repeat = 0; (repeat < 5) && (allocated > limit); repeat++) {
+            System.arraycopy(source, 0, array, 0, size);
+            long before = bean.getThreadAllocatedBytes(Thread.currentThread().getId());
+            sorter.sortArray(array, INC);
+            allocated = (bean.getThreadAllocatedBytes(Thread.currentThread().getId()) - before);
+        }
+        for (int i = 0; i < size; i++) {
+            if (array[i] != i) {
+                fail("StableQuick is not sorted at " + i);
+            }
+        }
+        assertTrue(allocated + " > " + limit, allocated <= limit);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,15 @@
+package github.magyarzoli.junit4.sort;
+
+import github.magyarzoli.Sorter;
+import github.magyarzoli.junit4.SorterTest;
+import github.magyarzoli.sort.BlockQuick;
+
+@SuppressWarnings("rawtypes")
+public class BlockQuickTest
+        extends SorterTest {
+
+    @Override
+    public Sorter selectSorter() {
+        return new BlockQuick();
+    }
+}
\ No newline at end of file
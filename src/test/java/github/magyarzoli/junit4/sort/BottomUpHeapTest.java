@@ -0,0 +1,15 @@
+package github.magyarzoli.junit4.sort;
+
+import github.magyarzoli.Sorter;
+import github.magyarzoli.junit4.SorterTest;
+import github.magyarzoli.sort.BottomUpHeap;
+
+@SuppressWarnings("rawtypes")
+public class BottomUpHeapTest
+        extends SorterTest {
+
+    @Override
+    public Sorter selectSorter() {
+        return new BottomUpHeap();
+    }
+}
\ No newline at end of file
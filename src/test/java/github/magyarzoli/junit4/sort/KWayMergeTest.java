@@ -0,0 +1,15 @@
+package github.magyarzoli.junit4.sort;
+
+import github.magyarzoli.Sorter;
+import github.magyarzoli.junit4.SorterTest;
+import github.magyarzoli.sort.KWayMerge;
+
+@SuppressWarnings("rawtypes")
+public class KWayMergeTest
+        extends SorterTest {
+
+    @Override
+    public Sorter selectSorter() {
+        return new KWayMerge();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,15 @@
+package github.magyarzoli.junit4.sort.intro;
+
+import github.magyarzoli.Sorter;
+import github.magyarzoli.junit4.SorterTest;
+import github.magyarzoli.sort.intro.HybridSorter;
+
+@SuppressWarnings("rawtypes")
+public class HybridSorterTest
+        extends SorterTest {
+
+    @Override
+    public Sorter selectSorter() {
+        return HybridSorter.builder().build();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,15 @@
+package github.magyarzoli.junit4.sort.intro;
+
+import github.magyarzoli.Sorter;
+import github.magyarzoli.junit4.SorterTest;
+import github.magyarzoli.sort.intro.IntroBlockQuick;
+
+@SuppressWarnings("rawtypes")
+public class IntroBlockQuickTest
+        extends SorterTest {
+
+    @Override
+    public Sorter selectSorter() {
+        return new IntroBlockQuick();
+    }
+}
\ No newline at end of file
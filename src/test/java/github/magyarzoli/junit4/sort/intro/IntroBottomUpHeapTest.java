@@ -0,0 +1,15 @@
+package github.magyarzoli.junit4.sort.intro;
+
+import github.magyarzoli.Sorter;
+import github.magyarzoli.junit4.SorterTest;
+import github.magyarzoli.sort.intro.IntroBottomUpHeap;
+
+@SuppressWarnings("rawtypes")
+public class IntroBottomUpHeapTest
+        extends SorterTest {
+
+    @Override
+    public Sorter selectSorter() {
+        return new IntroBottomUpHeap();
+    }
+}
\ No newline at end of file
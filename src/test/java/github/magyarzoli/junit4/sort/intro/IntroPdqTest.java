@@ -0,0 +1,15 @@
+package github.magyarzoli.junit4.sort.intro;
+
+import github.magyarzoli.Sorter;
+import github.magyarzoli.junit4.SorterTest;
+import github.magyarzoli.sort.intro.IntroPdq;
+
+@SuppressWarnings("rawtypes")
+public class IntroPdqTest
+        extends SorterTest {
+
+    @Override
+    public Sorter selectSorter() {
+        return new IntroPdq();
+    }
+}
\ No newline at end of file